@@ -21,14 +21,11 @@
 
 package org.jvoicexml.callmanager.mmi.http;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHost;
@@ -43,6 +40,7 @@ import org.jvoicexml.callmanager.mmi.ETLProtocolAdapter;
 import org.jvoicexml.callmanager.mmi.MMIEventListener;
 import org.jvoicexml.mmi.events.LifeCycleEvent;
 import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.MmiCodec;
 
 /**
  * A protocol adapter using the HTTP protocol.
@@ -145,10 +143,7 @@ public class HttpETLProtocolAdapter implements ETLProtocolAdapter {
                         + "'. No target.");
                 return;
             }
-            final JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
-            final Marshaller marshaller = ctx.createMarshaller();
-            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-            marshaller.marshal(mmi, out);
+            final String xml = MmiCodec.toXml(mmi);
             final URI uri = new URI(target);
             final HttpClientBuilder builder = HttpClientBuilder.create();
             if (PROXY_HOST != null) {
@@ -157,7 +152,7 @@ public class HttpETLProtocolAdapter implements ETLProtocolAdapter {
             }
             final CloseableHttpClient client = builder.build(); 
             final HttpPost post = new HttpPost(uri);
-            final HttpEntity entity = new StringEntity(out.toString(), ContentType.APPLICATION_XML);
+            final HttpEntity entity = new StringEntity(xml, ContentType.APPLICATION_XML);
             post.setEntity(entity);
             client.execute(post);
             LOGGER.info("sending " + mmi + " to '" + uri + "'");
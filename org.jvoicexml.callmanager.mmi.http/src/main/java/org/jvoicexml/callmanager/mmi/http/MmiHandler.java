@@ -7,9 +7,7 @@ import java.util.Collection;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.log4j.Logger;
 import org.eclipse.jetty.server.Request;
@@ -18,6 +16,7 @@ import org.jvoicexml.callmanager.mmi.CallMetadata;
 import org.jvoicexml.callmanager.mmi.DecoratedMMIEvent;
 import org.jvoicexml.callmanager.mmi.MMIEventListener;
 import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.MmiCodec;
 
 public class MmiHandler extends AbstractHandler {
     /** Registered listeners for MMI events. */
@@ -70,9 +69,7 @@ public class MmiHandler extends AbstractHandler {
         response.setContentType("text/html;charset=utf-8");
         final Reader reader = request.getReader();
         try {
-            JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
-            final Unmarshaller unmarshaller = ctx.createUnmarshaller();
-            final Object o = unmarshaller.unmarshal(reader);
+            final Object o = MmiCodec.unmarshal(reader);
             if (o instanceof Mmi) {
                 final Mmi mmi = (Mmi) o;
                 LOGGER.info("received MMI event: " + mmi);
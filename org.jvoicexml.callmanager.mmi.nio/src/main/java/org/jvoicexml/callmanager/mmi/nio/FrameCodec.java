@@ -0,0 +1,140 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi.nio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import javax.xml.bind.JAXBException;
+
+import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.MmiCodec;
+
+/**
+ * Length framing of MMI events on a persistent connection.
+ * <p>
+ * Each frame consists of a four byte length in network byte order followed
+ * by the XML encoded {@link Mmi} event. Unlike the plain socket ETL, this
+ * allows for multiple events to be sent over the same connection.
+ * </p>
+ * <p>
+ * An instance of this class is the stateful decoder for a single connection
+ * and must not be shared among connections.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class FrameCodec {
+    /** Number of bytes of the length header. */
+    public static final int HEADER_LENGTH = 4;
+
+    /** Default maximal length of a frame. */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 1024 * 1024;
+
+    /** Maximal accepted length of a frame. */
+    private final int maxFrameLength;
+
+    /** The frame that is currently being read. */
+    private byte[] frame;
+
+    /** Number of bytes of {@link #frame} that have been read. */
+    private int position;
+
+    /**
+     * Constructs a new object with the default maximal frame length.
+     */
+    public FrameCodec() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * Constructs a new object.
+     * @param maxLength maximal accepted length of a frame
+     */
+    public FrameCodec(final int maxLength) {
+        maxFrameLength = maxLength;
+    }
+
+    /**
+     * Encodes the given MMI event into a frame.
+     * @param mmi the event to encode
+     * @return buffer containing the frame, ready to be written
+     * @exception JAXBException
+     *          error encoding the event
+     */
+    public static ByteBuffer encode(final Mmi mmi) throws JAXBException {
+        final byte[] payload = MmiCodec.toBytes(mmi);
+        final ByteBuffer buffer =
+                ByteBuffer.allocate(HEADER_LENGTH + payload.length);
+        buffer.putInt(payload.length);
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes the payload of a frame into an MMI event.
+     * @param payload the payload of a frame
+     * @return decoded event
+     * @exception JAXBException
+     *          error decoding the event
+     */
+    public static Object decode(final byte[] payload) throws JAXBException {
+        return MmiCodec.unmarshal(new ByteArrayInputStream(payload));
+    }
+
+    /**
+     * Reads all complete frames that are available in the given buffer.
+     * Incomplete frames are kept until the remaining bytes arrive with the
+     * next call.
+     * @param buffer the buffer to read from, ready for reading
+     * @param frames container for the payloads of all complete frames
+     * @exception IOException
+     *          if the announced frame length is invalid
+     */
+    public void decode(final ByteBuffer buffer, final List<byte[]> frames)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (frame == null) {
+                if (buffer.remaining() < HEADER_LENGTH) {
+                    return;
+                }
+                final int length = buffer.getInt();
+                if (length < 0 || length > maxFrameLength) {
+                    throw new IOException("invalid frame length " + length
+                            + " (maximum is " + maxFrameLength + ")");
+                }
+                frame = new byte[length];
+                position = 0;
+            }
+            final int count =
+                    Math.min(frame.length - position, buffer.remaining());
+            buffer.get(frame, position, count);
+            position += count;
+            if (position == frame.length) {
+                frames.add(frame);
+                frame = null;
+            }
+        }
+    }
+}
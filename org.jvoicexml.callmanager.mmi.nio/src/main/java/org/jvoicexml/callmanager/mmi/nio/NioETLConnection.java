@@ -0,0 +1,462 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi.nio;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.callmanager.mmi.CallMetadata;
+import org.jvoicexml.client.TcpUriFactory;
+
+/**
+ * A persistent connection to an MMI peer.
+ * <p>
+ * Reading and writing is done exclusively by the selector thread of the
+ * {@link NioETLSelectorLoop}. Other threads only enqueue frames via
+ * {@link #send(ByteBuffer)}. Queued frames are written with a single
+ * gathering write as soon as the channel is writable.
+ * </p>
+ * <p>
+ * Received frames are handed over to the worker threads. If too many of
+ * them are waiting to be handled, reading from this connection is
+ * suspended until the workers have caught up. This pushes back on this
+ * peer only, while all other connections are still served. If the limit
+ * of pending events of all connections has been reached, the
+ * {@link NioETLSelectorLoop} pauses reading from all connections. Frames
+ * that have already been read are held back until reading is resumed.
+ * </p>
+ * <p>
+ * Instances of this class serve as the channel of the received
+ * {@link org.jvoicexml.callmanager.mmi.DecoratedMMIEvent}s so that
+ * responses are sent back over the same connection.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class NioETLConnection {
+    /** Logger instance. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(NioETLConnection.class);
+
+    /** Size of the read buffer. */
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /** Maximal number of frames to write with a single gathering write. */
+    private static final int MAX_GATHERED_FRAMES = 64;
+
+    /** The protocol adapter. */
+    private final NioETLProtocolAdapter adapter;
+
+    /** The selector loop serving this connection. */
+    private final NioETLSelectorLoop loop;
+
+    /** The underlying channel. */
+    private final SocketChannel channel;
+
+    /** Decoder for received frames. */
+    private final FrameCodec decoder;
+
+    /** Buffer for received bytes. */
+    private final ByteBuffer readBuffer;
+
+    /** Received frames that are held back while reading is paused. */
+    private final Deque<byte[]> received;
+
+    /** Frames that are waiting to be written. */
+    private final Queue<ByteBuffer> pending;
+
+    /** The URI of the remote peer. */
+    private final URI remoteUri;
+
+    /** Set if enabling writes has been requested from the selector loop. */
+    private final AtomicBoolean writeRequested;
+
+    /** Task to enable writes in the selector thread. */
+    private final Runnable enableWriteTask;
+
+    /** Maximal number of received events that may wait to be handled. */
+    private final int maxPendingEvents;
+
+    /** Number of received events that have not been handled yet. */
+    private final AtomicInteger pendingEvents;
+
+    /** Set if resuming reads has been requested from the selector loop. */
+    private final AtomicBoolean resumeRequested;
+
+    /** Task to resume reads in the selector thread. */
+    private final Runnable resumeReadTask;
+
+    /** <code>true</code> if reading has been suspended. */
+    private volatile boolean readSuspended;
+
+    /** The selection key after registration. */
+    private SelectionKey key;
+
+    /** <code>true</code> if the connection has been closed. */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new object.
+     * @param protocolAdapter the protocol adapter
+     * @param selectorLoop the selector loop serving this connection
+     * @param socketChannel the connected channel
+     * @param maxFrameLength maximal accepted length of a received frame
+     * @param maxPending maximal number of received events that may wait to
+     *          be handled before reading is suspended
+     * @exception IOException
+     *          error configuring the channel
+     */
+    NioETLConnection(final NioETLProtocolAdapter protocolAdapter,
+            final NioETLSelectorLoop selectorLoop,
+            final SocketChannel socketChannel, final int maxFrameLength,
+            final int maxPending) throws IOException {
+        adapter = protocolAdapter;
+        loop = selectorLoop;
+        channel = socketChannel;
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        decoder = new FrameCodec(maxFrameLength);
+        readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        received = new java.util.ArrayDeque<byte[]>();
+        pending = new ConcurrentLinkedQueue<ByteBuffer>();
+        writeRequested = new AtomicBoolean();
+        enableWriteTask = new Runnable() {
+            @Override
+            public void run() {
+                writeRequested.set(false);
+                enableWrite();
+            }
+        };
+        maxPendingEvents = maxPending;
+        pendingEvents = new AtomicInteger();
+        resumeRequested = new AtomicBoolean();
+        resumeReadTask = new Runnable() {
+            @Override
+            public void run() {
+                resumeRequested.set(false);
+                resumeRead();
+            }
+        };
+        final InetSocketAddress address =
+                (InetSocketAddress) channel.getRemoteAddress();
+        URI uri;
+        try {
+            uri = TcpUriFactory.createUri(address);
+        } catch (URISyntaxException e) {
+            uri = null;
+        }
+        remoteUri = uri;
+    }
+
+    /**
+     * Retrieves the URI of the remote peer.
+     * @return URI of the remote peer, maybe <code>null</code>
+     */
+    public URI getRemoteUri() {
+        return remoteUri;
+    }
+
+    /**
+     * Checks if this connection is still open.
+     * @return <code>true</code> if the connection is open
+     */
+    public boolean isOpen() {
+        return !closed && channel.isOpen();
+    }
+
+    /**
+     * Registers this connection with the given selector. This method must
+     * be called from the selector thread.
+     * @param selector the selector
+     * @exception ClosedChannelException
+     *          if the channel has been closed
+     */
+    void register(final Selector selector) throws ClosedChannelException {
+        int ops = 0;
+        if (!loop.isReadPaused()) {
+            ops |= SelectionKey.OP_READ;
+        }
+        if (!pending.isEmpty()) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        key = channel.register(selector, ops, this);
+    }
+
+    /**
+     * Enqueues the given frame to be written to the peer. This method may be
+     * called from any thread.
+     * @param frame the frame to send
+     * @exception IOException
+     *          if the connection has already been closed
+     */
+    void send(final ByteBuffer frame) throws IOException {
+        if (!isOpen()) {
+            throw new IOException("connection to '" + remoteUri
+                    + "' is closed");
+        }
+        pending.add(frame);
+        // Wake up the selector only once for a burst of frames
+        if (writeRequested.compareAndSet(false, true)) {
+            loop.execute(enableWriteTask);
+        }
+    }
+
+    /**
+     * Adds the interest in write operations. Called from the selector
+     * thread.
+     */
+    private void enableWrite() {
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Reads all available data from the channel and dispatches the complete
+     * frames. Called from the selector thread.
+     */
+    void read() {
+        dispatchReceived();
+        if (!received.isEmpty()) {
+            return;
+        }
+        try {
+            final int num = channel.read(readBuffer);
+            if (num < 0) {
+                LOGGER.info("connection closed by '" + remoteUri + "'");
+                close();
+                return;
+            }
+            readBuffer.flip();
+            final List<byte[]> frames = new java.util.ArrayList<byte[]>();
+            decoder.decode(readBuffer, frames);
+            readBuffer.compact();
+            received.addAll(frames);
+            dispatchReceived();
+            if (pendingEvents.get() >= maxPendingEvents) {
+                suspendRead();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("error reading from '" + remoteUri + "': "
+                    + e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Hands the received frames over to the workers as long as the selector
+     * loop accepts more events. Called from the selector thread.
+     */
+    private void dispatchReceived() {
+        while (!received.isEmpty() && loop.acquireEvent()) {
+            pendingEvents.incrementAndGet();
+            adapter.dispatch(this, received.poll());
+        }
+    }
+
+    /**
+     * Stops reading from the channel until enough of the received events
+     * have been handled. Called from the selector thread.
+     */
+    private void suspendRead() {
+        if (readSuspended || !key.isValid()) {
+            return;
+        }
+        readSuspended = true;
+        updateReadInterest();
+        LOGGER.debug("suspended reading from '{}' with {} pending events",
+                remoteUri, pendingEvents.get());
+        // Events may have been handled before reading was suspended.
+        resumeRead();
+    }
+
+    /**
+     * Resumes reading from the channel if enough of the received events
+     * have been handled. Frames that have been held back are handed over to
+     * the workers first. Called from the selector thread.
+     */
+    void resumeRead() {
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        if (readSuspended) {
+            if (pendingEvents.get() > maxPendingEvents / 2) {
+                return;
+            }
+            readSuspended = false;
+            LOGGER.debug("resumed reading from '{}'", remoteUri);
+        }
+        dispatchReceived();
+        updateReadInterest();
+    }
+
+    /**
+     * Adds or removes the interest in read operations depending on whether
+     * reading is suspended for this connection or paused for all
+     * connections. Called from the selector thread.
+     */
+    void updateReadInterest() {
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        if (readSuspended || loop.isReadPaused()) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        } else {
+            key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * Notification that a received event has been handled or dropped. This
+     * method may be called from any thread.
+     */
+    void eventHandled() {
+        loop.releaseEvent();
+        final int pending = pendingEvents.decrementAndGet();
+        if (readSuspended && pending <= maxPendingEvents / 2
+                && resumeRequested.compareAndSet(false, true)) {
+            loop.execute(resumeReadTask);
+        }
+    }
+
+    /**
+     * Retrieves the number of received events that have not been handled
+     * yet.
+     * @return number of pending events
+     */
+    int getPendingEvents() {
+        return pendingEvents.get();
+    }
+
+    /**
+     * Writes as many pending frames as possible. Called from the selector
+     * thread.
+     */
+    void write() {
+        try {
+            while (!pending.isEmpty()) {
+                final ByteBuffer[] buffers = gatherPending();
+                channel.write(buffers);
+                int written = 0;
+                for (ByteBuffer buffer : buffers) {
+                    if (buffer.hasRemaining()) {
+                        break;
+                    }
+                    written++;
+                }
+                for (int i = 0; i < written; i++) {
+                    pending.poll();
+                }
+                if (written < buffers.length) {
+                    // Socket buffer is full. Wait until writable again.
+                    return;
+                }
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            // Frames may have been added after the last check.
+            if (!pending.isEmpty()) {
+                enableWrite();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("error writing to '" + remoteUri + "': "
+                    + e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Collects the next pending frames for a gathering write.
+     * @return pending frames in the order they were enqueued
+     */
+    private ByteBuffer[] gatherPending() {
+        final List<ByteBuffer> buffers = new java.util.ArrayList<ByteBuffer>();
+        final Iterator<ByteBuffer> iterator = pending.iterator();
+        while (iterator.hasNext() && buffers.size() < MAX_GATHERED_FRAMES) {
+            buffers.add(iterator.next());
+        }
+        return buffers.toArray(new ByteBuffer[buffers.size()]);
+    }
+
+    /**
+     * Retrieves the call meta data of this connection.
+     * @return call meta data
+     */
+    CallMetadata getCallMetadata() {
+        final CallMetadata data = new CallMetadata();
+        data.setProtocolName("TCP");
+        final InetSocketAddress address =
+                (InetSocketAddress) channel.socket().getRemoteSocketAddress();
+        if (address != null && address.getAddress() instanceof Inet6Address) {
+            data.setProtocolVersion("IPv6");
+        } else {
+            data.setProtocolVersion("IPv4");
+        }
+        return data;
+    }
+
+    /**
+     * Closes this connection. Pending frames are discarded.
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.clear();
+        received.clear();
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn("error closing connection to '" + remoteUri + "': "
+                    + e.getMessage());
+        }
+        adapter.connectionClosed(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return NioETLConnection.class.getSimpleName() + "[" + remoteUri + "]";
+    }
+}
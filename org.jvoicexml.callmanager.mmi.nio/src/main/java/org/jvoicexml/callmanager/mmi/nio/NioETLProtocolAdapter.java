@@ -0,0 +1,566 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi.nio;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.xml.bind.JAXBException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.callmanager.mmi.CallMetadata;
+import org.jvoicexml.callmanager.mmi.DecoratedMMIEvent;
+import org.jvoicexml.callmanager.mmi.ETLProtocolAdapter;
+import org.jvoicexml.callmanager.mmi.MMIEventListener;
+import org.jvoicexml.client.TcpUriFactory;
+import org.jvoicexml.mmi.events.LifeCycleEvent;
+import org.jvoicexml.mmi.events.LifeCycleRequest;
+import org.jvoicexml.mmi.events.LifeCycleResponse;
+import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.StatusRequest;
+import org.jvoicexml.mmi.events.StatusResponse;
+
+/**
+ * A protocol adapter using non-blocking sockets with persistent connections.
+ * <p>
+ * In contrast to the
+ * {@code org.jvoicexml.callmanager.mmi.socket.SocketETLProtocolAdapter}
+ * a connection is not closed after a single event. Instead, MMI events are
+ * sent as length prefixed frames (see {@link FrameCodec}) in both
+ * directions over the same connection. All connections are served by a
+ * single selector thread. Received frames are handed over to a pool of
+ * worker threads, which decode them and notify the listeners. Events of the
+ * same MMI context are always handled by the same worker and thus in the
+ * order they were received. A connection stops reading if too many of its
+ * events are waiting to be handled.
+ * </p>
+ * <p>
+ * Responses are sent back over the connection the request was received on.
+ * If that connection is no longer available, a persistent outgoing
+ * connection to the target is established and reused for subsequent events
+ * to the same target.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class NioETLProtocolAdapter implements ETLProtocolAdapter {
+    /** Logger instance. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(NioETLProtocolAdapter.class);
+
+    /** Default number of worker threads. */
+    private static final int DEFAULT_WORKER_THREADS = 8;
+
+    /** Default maximal number of pending events per connection. */
+    private static final int DEFAULT_MAX_PENDING_EVENTS = 1024;
+
+    /** Default maximal number of pending events of all connections. */
+    private static final int DEFAULT_MAX_QUEUED_EVENTS = 8192;
+
+    /** Timeout in msec to establish outgoing connections. */
+    private static final int CONNECT_TIMEOUT = 5000;
+
+    /** Registered listeners for MMI events. */
+    private final Collection<MMIEventListener> listeners;
+
+    /** Outgoing connections by their target address. */
+    private final ConcurrentMap<String, Future<NioETLConnection>> outgoing;
+
+    /** The port number to listen on. */
+    private int port;
+
+    /** Number of worker threads. */
+    private int workerThreads;
+
+    /** Maximal number of pending events per connection. */
+    private int maxPendingEvents;
+
+    /** Maximal number of pending events of all connections. */
+    private int maxQueuedEvents;
+
+    /** Maximal accepted length of a received frame. */
+    private int maxFrameLength;
+
+    /** The selector loop. */
+    private NioETLSelectorLoop loop;
+
+    /** The worker threads. */
+    private NioETLWorkerPool workers;
+
+    /** The URI of the server. */
+    private URI uri;
+
+    /**
+     * Constructs a new object.
+     */
+    public NioETLProtocolAdapter() {
+        listeners = new CopyOnWriteArrayList<MMIEventListener>();
+        outgoing =
+                new ConcurrentHashMap<String, Future<NioETLConnection>>();
+        workerThreads = DEFAULT_WORKER_THREADS;
+        maxPendingEvents = DEFAULT_MAX_PENDING_EVENTS;
+        maxQueuedEvents = DEFAULT_MAX_QUEUED_EVENTS;
+        maxFrameLength = FrameCodec.DEFAULT_MAX_FRAME_LENGTH;
+    }
+
+    /**
+     * Sets the port number to listen on.
+     *
+     * @param portNumber
+     *            the port number
+     */
+    public void setPort(final int portNumber) {
+        port = portNumber;
+    }
+
+    /**
+     * Sets the number of worker threads that handle received events.
+     *
+     * @param threads
+     *            number of worker threads
+     */
+    public void setWorkerThreads(final int threads) {
+        workerThreads = threads;
+    }
+
+    /**
+     * Sets the maximal number of received events of a connection that may
+     * wait to be handled before reading from that connection is suspended.
+     * Reading is resumed once half of them have been handled.
+     *
+     * @param events
+     *            maximal number of pending events per connection
+     */
+    public void setMaxPendingEvents(final int events) {
+        maxPendingEvents = events;
+    }
+
+    /**
+     * Sets the maximal number of received events of all connections that
+     * may wait to be handled before reading from all connections is paused.
+     * Reading is resumed once half of them have been handled.
+     *
+     * @param events
+     *            maximal number of pending events of all connections
+     */
+    public void setMaxQueuedEvents(final int events) {
+        maxQueuedEvents = events;
+    }
+
+    /**
+     * Sets the maximal accepted length of a received frame.
+     *
+     * @param length
+     *            maximal frame length in bytes
+     */
+    public void setMaxFrameLength(final int length) {
+        maxFrameLength = length;
+    }
+
+    /**
+     * Retrieves the URI of the server.
+     *
+     * @return URI of the server, <code>null</code> if not started
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() throws IOException {
+        final InetAddress localHost = InetAddress.getLocalHost();
+        final ServerSocketChannel server = ServerSocketChannel.open();
+        server.socket().setReuseAddress(true);
+        server.socket().bind(new InetSocketAddress(localHost, port));
+        try {
+            uri = TcpUriFactory.createUri(
+                    (InetSocketAddress) server.socket()
+                    .getLocalSocketAddress());
+        } catch (URISyntaxException e) {
+            server.close();
+            throw new IOException(e.getMessage(), e);
+        }
+        workers = new NioETLWorkerPool(workerThreads, maxQueuedEvents);
+        loop = new NioETLSelectorLoop(this, server, maxFrameLength,
+                maxPendingEvents, maxQueuedEvents);
+        loop.start();
+        LOGGER.info("listening on '" + uri + "' for MMI events");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStarted() {
+        return loop != null && loop.isAlive();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addMMIEventListener(final MMIEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeMMIEventListener(final MMIEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendMMIEvent(final Object channel, final Mmi mmi)
+            throws IOException {
+        final LifeCycleEvent event = mmi.getLifeCycleEvent();
+        if (uri != null) {
+            event.setSource(uri.toString());
+        }
+        NioETLConnection connection = null;
+        if (channel instanceof NioETLConnection) {
+            connection = (NioETLConnection) channel;
+        }
+        if (connection == null || !connection.isOpen()) {
+            final String target = event.getTarget();
+            if (target == null) {
+                LOGGER.error("unable to send MMI event '" + mmi
+                        + "'. No target.");
+                return;
+            }
+            try {
+                connection = getOutgoingConnection(new URI(target));
+            } catch (URISyntaxException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        final ByteBuffer frame;
+        try {
+            frame = FrameCodec.encode(mmi);
+        } catch (JAXBException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("sending " + mmi + " to '"
+                    + connection.getRemoteUri() + "'");
+        }
+        connection.send(frame);
+    }
+
+    /**
+     * Retrieves a persistent outgoing connection to the given target. Only
+     * one connection is established per target. Threads that need a
+     * connection to the same target wait for it, while connections to other
+     * targets are established concurrently.
+     *
+     * @param target
+     *            the target
+     * @return connection to the target
+     * @throws IOException
+     *             error connecting to the target
+     */
+    private NioETLConnection getOutgoingConnection(final URI target)
+            throws IOException {
+        final String host = target.getHost();
+        final int targetPort = target.getPort();
+        final String key = host + ":" + targetPort;
+        while (true) {
+            Future<NioETLConnection> future = outgoing.get(key);
+            if (future == null) {
+                final FutureTask<NioETLConnection> task =
+                        new FutureTask<NioETLConnection>(
+                                new Callable<NioETLConnection>() {
+                            @Override
+                            public NioETLConnection call() throws IOException {
+                                return connect(target);
+                            }
+                        });
+                future = outgoing.putIfAbsent(key, task);
+                if (future == null) {
+                    future = task;
+                    task.run();
+                }
+            }
+            final NioETLConnection connection;
+            try {
+                connection = future.get();
+            } catch (ExecutionException e) {
+                outgoing.remove(key, future);
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(
+                        "interrupted while connecting to '" + target + "'");
+            }
+            if (connection.isOpen()) {
+                return connection;
+            }
+            outgoing.remove(key, future);
+        }
+    }
+
+    /**
+     * Establishes a new connection to the given target.
+     *
+     * @param target
+     *            the target
+     * @return connection to the target
+     * @throws IOException
+     *             error connecting to the target
+     */
+    private NioETLConnection connect(final URI target) throws IOException {
+        final SocketChannel channel = SocketChannel.open();
+        final NioETLConnection connection;
+        try {
+            channel.socket().connect(
+                    new InetSocketAddress(target.getHost(), target.getPort()),
+                    CONNECT_TIMEOUT);
+            connection = loop.addConnection(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        LOGGER.info("connected to '" + target + "'");
+        return connection;
+    }
+
+    /**
+     * Hands the given received frame over to the worker that is responsible
+     * for the connection. The frame is decoded there, so that the selector
+     * thread is not busy with parsing XML. Called from the selector thread.
+     *
+     * @param connection
+     *            the connection that received the frame
+     * @param frame
+     *            the payload of the received frame
+     */
+    void dispatch(final NioETLConnection connection, final byte[] frame) {
+        final NioETLWorkerPool pool = workers;
+        try {
+            pool.execute(connection, new Runnable() {
+                @Override
+                public void run() {
+                    decode(pool, connection, frame);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("dropped frame from '{}': {}",
+                    connection.getRemoteUri(), e.getMessage());
+            connection.eventHandled();
+        }
+    }
+
+    /**
+     * Decodes the given received frame and hands it over to the worker that
+     * is responsible for the MMI context of the event. Frames of the same
+     * connection are decoded in the order they were received.
+     *
+     * @param pool
+     *            the worker threads
+     * @param connection
+     *            the connection that received the frame
+     * @param frame
+     *            the payload of the received frame
+     */
+    private void decode(final NioETLWorkerPool pool,
+            final NioETLConnection connection, final byte[] frame) {
+        final Object o;
+        try {
+            o = FrameCodec.decode(frame);
+        } catch (JAXBException e) {
+            LOGGER.warn("unable to decode MMI event from '"
+                    + connection.getRemoteUri() + "'", e);
+            connection.eventHandled();
+            return;
+        }
+        if (!(o instanceof Mmi)) {
+            LOGGER.warn("received unknown MMI object: " + o);
+            connection.eventHandled();
+            return;
+        }
+        final Mmi mmi = (Mmi) o;
+        final String context = getContextId(mmi.getLifeCycleEvent());
+        final DecoratedMMIEvent event = new DecoratedMMIEvent(connection, mmi);
+        final CallMetadata data = connection.getCallMetadata();
+        try {
+            pool.execute(context, new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        notifyMMIEvent(event, data);
+                    } finally {
+                        connection.eventHandled();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("dropped {}: {}", mmi, e.getMessage());
+            connection.eventHandled();
+        }
+    }
+
+    /**
+     * Retrieves the context id of the given event.
+     *
+     * @param event
+     *            the event
+     * @return the context id, maybe <code>null</code>
+     */
+    private static String getContextId(final LifeCycleEvent event) {
+        if (event instanceof LifeCycleRequest) {
+            return ((LifeCycleRequest) event).getContext();
+        } else if (event instanceof LifeCycleResponse) {
+            return ((LifeCycleResponse) event).getContext();
+        } else if (event instanceof StatusRequest) {
+            return ((StatusRequest) event).getContext();
+        } else if (event instanceof StatusResponse) {
+            return ((StatusResponse) event).getContext();
+        }
+        return null;
+    }
+
+    /**
+     * Notifies all registered listeners about a received MMI Event.
+     *
+     * @param event
+     *            the event to notify
+     * @param data
+     *            call meta data
+     */
+    void notifyMMIEvent(final DecoratedMMIEvent event,
+            final CallMetadata data) {
+        for (MMIEventListener listener : listeners) {
+            try {
+                listener.receivedEvent(event, data);
+            } catch (RuntimeException e) {
+                LOGGER.error("error notifying MMI event listener", e);
+            }
+        }
+    }
+
+    /**
+     * Notification that the given connection has been closed.
+     *
+     * @param connection
+     *            the closed connection
+     */
+    void connectionClosed(final NioETLConnection connection) {
+        for (Map.Entry<String, Future<NioETLConnection>> entry
+                : outgoing.entrySet()) {
+            final Future<NioETLConnection> future = entry.getValue();
+            if (future.isDone() && getConnection(future) == connection) {
+                outgoing.remove(entry.getKey(), future);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the connection of the given completed connection attempt.
+     *
+     * @param future
+     *            the completed connection attempt
+     * @return the connection, <code>null</code> if the attempt failed
+     */
+    private static NioETLConnection getConnection(
+            final Future<NioETLConnection> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the number of received events that are waiting to be
+     * handled.
+     *
+     * @return number of queued events
+     */
+    public int getQueuedEvents() {
+        if (workers == null) {
+            return 0;
+        }
+        return workers.getQueuedEvents();
+    }
+
+    /**
+     * Retrieves the number of received events of all connections that have
+     * not been handled yet, including those that are currently handled.
+     *
+     * @return number of pending events
+     */
+    int getPendingEvents() {
+        final NioETLSelectorLoop selectorLoop = loop;
+        if (selectorLoop == null) {
+            return 0;
+        }
+        return selectorLoop.getPendingEvents();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        if (loop != null) {
+            loop.stopLoop();
+            loop = null;
+        }
+        if (workers != null) {
+            workers.shutdown();
+            workers = null;
+        }
+        outgoing.clear();
+        uri = null;
+    }
+}
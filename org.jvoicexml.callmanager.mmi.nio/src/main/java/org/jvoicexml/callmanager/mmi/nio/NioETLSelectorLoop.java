@@ -0,0 +1,374 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi.nio;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The event loop of the {@link NioETLProtocolAdapter}. A single thread
+ * accepts new connections and performs all reads and writes of all
+ * connections. Other threads hand over work via {@link #execute(Runnable)}.
+ * <p>
+ * The number of received events of all connections that wait to be handled
+ * is limited. Once the limit is reached, reading from all connections is
+ * paused until half of these events have been handled.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class NioETLSelectorLoop extends Thread {
+    /** Logger instance. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(NioETLSelectorLoop.class);
+
+    /** The protocol adapter. */
+    private final NioETLProtocolAdapter adapter;
+
+    /** The selector. */
+    private final Selector selector;
+
+    /** The server channel accepting new connections. */
+    private final ServerSocketChannel server;
+
+    /** Tasks to be executed in the selector thread. */
+    private final Queue<Runnable> tasks;
+
+    /** Maximal accepted length of a received frame. */
+    private final int maxFrameLength;
+
+    /** Maximal number of pending events per connection. */
+    private final int maxPendingEvents;
+
+    /** Maximal number of pending events of all connections. */
+    private final int maxQueuedEvents;
+
+    /** Number of received events of all connections not handled yet. */
+    private final AtomicInteger queuedEvents;
+
+    /** <code>true</code> if reading from all connections is paused. */
+    private volatile boolean readPaused;
+
+    /** Set if resuming reads has been requested from this loop. */
+    private final AtomicBoolean resumeRequested;
+
+    /** Task to resume reads in the selector thread. */
+    private final Runnable resumeReadTask;
+
+    /** <code>true</code> if the loop should stop. */
+    private volatile boolean stopRequest;
+
+    /**
+     * Constructs a new object.
+     * @param protocolAdapter the protocol adapter
+     * @param serverChannel the bound server channel
+     * @param maxLength maximal accepted length of a received frame
+     * @param maxPending maximal number of received events per connection
+     *          that may wait to be handled
+     * @param maxQueued maximal number of received events of all
+     *          connections that may wait to be handled
+     * @exception IOException
+     *          error opening the selector
+     */
+    NioETLSelectorLoop(final NioETLProtocolAdapter protocolAdapter,
+            final ServerSocketChannel serverChannel, final int maxLength,
+            final int maxPending, final int maxQueued) throws IOException {
+        super("NioETLSelectorLoop");
+        adapter = protocolAdapter;
+        server = serverChannel;
+        maxFrameLength = maxLength;
+        maxPendingEvents = maxPending;
+        maxQueuedEvents = maxQueued;
+        queuedEvents = new AtomicInteger();
+        resumeRequested = new AtomicBoolean();
+        resumeReadTask = new Runnable() {
+            @Override
+            public void run() {
+                resumeRequested.set(false);
+                resumeRead();
+            }
+        };
+        selector = Selector.open();
+        tasks = new ConcurrentLinkedQueue<Runnable>();
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        setDaemon(true);
+    }
+
+    /**
+     * Executes the given task in the selector thread.
+     * @param task the task to execute
+     */
+    void execute(final Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Reserves a slot for a received event that is handed over to the
+     * workers. If all slots are taken, reading from all connections is
+     * paused. Called from the selector thread.
+     * @return <code>true</code> if the event may be handed over to the
+     *          workers
+     */
+    boolean acquireEvent() {
+        if (readPaused) {
+            return false;
+        }
+        if (queuedEvents.get() >= maxQueuedEvents) {
+            pauseRead();
+            return false;
+        }
+        queuedEvents.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Releases the slot of a received event that has been handled or
+     * dropped. This method may be called from any thread.
+     */
+    void releaseEvent() {
+        final int queued = queuedEvents.decrementAndGet();
+        if (readPaused && queued <= maxQueuedEvents / 2
+                && resumeRequested.compareAndSet(false, true)) {
+            execute(resumeReadTask);
+        }
+    }
+
+    /**
+     * Checks if reading from all connections is paused.
+     * @return <code>true</code> if reading is paused
+     */
+    boolean isReadPaused() {
+        return readPaused;
+    }
+
+    /**
+     * Retrieves the number of received events of all connections that have
+     * not been handled yet.
+     * @return number of pending events
+     */
+    int getPendingEvents() {
+        return queuedEvents.get();
+    }
+
+    /**
+     * Pauses reading from all connections. Called from the selector thread.
+     */
+    private void pauseRead() {
+        if (readPaused) {
+            return;
+        }
+        readPaused = true;
+        for (SelectionKey key : selector.keys()) {
+            final Object attachment = key.attachment();
+            if (attachment instanceof NioETLConnection) {
+                final NioETLConnection connection =
+                        (NioETLConnection) attachment;
+                connection.updateReadInterest();
+            }
+        }
+        LOGGER.debug("paused reading with {} pending events",
+                queuedEvents.get());
+        // Events may have been handled before reading was paused.
+        resumeRead();
+    }
+
+    /**
+     * Resumes reading from all connections if enough of the received events
+     * have been handled. Called from the selector thread.
+     */
+    private void resumeRead() {
+        if (!readPaused || queuedEvents.get() > maxQueuedEvents / 2) {
+            return;
+        }
+        readPaused = false;
+        LOGGER.debug("resumed reading");
+        for (SelectionKey key : selector.keys()) {
+            final Object attachment = key.attachment();
+            if (attachment instanceof NioETLConnection) {
+                final NioETLConnection connection =
+                        (NioETLConnection) attachment;
+                connection.resumeRead();
+            }
+        }
+    }
+
+    /**
+     * Creates a connection for the given channel and registers it with this
+     * loop.
+     * @param channel the connected channel
+     * @return created connection
+     * @exception IOException
+     *          error configuring the channel
+     */
+    NioETLConnection addConnection(final SocketChannel channel)
+            throws IOException {
+        final NioETLConnection connection =
+                new NioETLConnection(adapter, this, channel, maxFrameLength,
+                        maxPendingEvents);
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    connection.register(selector);
+                } catch (ClosedChannelException e) {
+                    connection.close();
+                }
+            }
+        });
+        return connection;
+    }
+
+    /**
+     * Stops this loop and closes all connections. Waits until the server
+     * channel has been closed.
+     */
+    void stopLoop() {
+        stopRequest = true;
+        selector.wakeup();
+        if (Thread.currentThread() == this) {
+            return;
+        }
+        try {
+            join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        try {
+            while (!stopRequest) {
+                selector.select();
+                runTasks();
+                final Iterator<SelectionKey> iterator =
+                        selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    final SelectionKey key = iterator.next();
+                    iterator.remove();
+                    try {
+                        handle(key);
+                    } catch (CancelledKeyException e) {
+                        LOGGER.debug("key cancelled: " + key.attachment());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            closeAll();
+        }
+    }
+
+    /**
+     * Executes all pending tasks.
+     */
+    private void runTasks() {
+        Runnable task = tasks.poll();
+        while (task != null) {
+            task.run();
+            task = tasks.poll();
+        }
+    }
+
+    /**
+     * Handles the given selected key.
+     * @param key the selected key
+     * @exception IOException
+     *          error accepting a new connection
+     */
+    private void handle(final SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        final NioETLConnection connection =
+                (NioETLConnection) key.attachment();
+        if (key.isReadable()) {
+            connection.read();
+        }
+        if (key.isValid() && key.isWritable()) {
+            connection.write();
+        }
+    }
+
+    /**
+     * Accepts all pending connections.
+     * @exception IOException
+     *          error accepting a connection
+     */
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        while (channel != null) {
+            final NioETLConnection connection =
+                    new NioETLConnection(adapter, this, channel,
+                            maxFrameLength, maxPendingEvents);
+            connection.register(selector);
+            LOGGER.info("connection from " + connection.getRemoteUri());
+            channel = server.accept();
+        }
+    }
+
+    /**
+     * Closes all connections, the server channel and the selector.
+     */
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            final Object attachment = key.attachment();
+            if (attachment instanceof NioETLConnection) {
+                final NioETLConnection connection =
+                        (NioETLConnection) attachment;
+                connection.close();
+            }
+        }
+        try {
+            server.close();
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi.nio;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fixed pool of worker threads that decode and handle received MMI events.
+ * <p>
+ * Tasks are assigned to a worker by a key, e.g. the connection or the MMI
+ * context, so that all tasks with the same key are executed in the order
+ * they were submitted. Submitting never blocks. The queue of each worker
+ * is bounded by the maximal number of pending events of all connections.
+ * The {@link NioETLSelectorLoop} pauses reading before this limit is
+ * exceeded and a received event is queued by at most one task at a time,
+ * so that tasks are only rejected after the pool has been shut down.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class NioETLWorkerPool {
+    /** The single threaded executors. */
+    private final ThreadPoolExecutor[] workers;
+
+    /**
+     * Constructs a new object.
+     * @param threads number of worker threads
+     * @param capacity maximal number of queued tasks per worker
+     */
+    NioETLWorkerPool(final int threads, final int capacity) {
+        workers = new ThreadPoolExecutor[threads];
+        for (int i = 0; i < threads; i++) {
+            final String name = "NioETLWorker-" + i;
+            final ThreadFactory factory = new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread thread = new Thread(runnable, name);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            };
+            workers[i] = new ThreadPoolExecutor(1, 1, 0L,
+                    TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<Runnable>(capacity), factory);
+        }
+    }
+
+    /**
+     * Executes the given task in the worker that is responsible for the
+     * given key.
+     * @param key the key, e.g. the MMI context id, maybe <code>null</code>
+     * @param task the task to execute
+     * @exception RejectedExecutionException
+     *          if the pool has been shut down or the queue of the worker
+     *          is full
+     */
+    void execute(final Object key, final Runnable task) {
+        final int index;
+        if (key == null) {
+            index = 0;
+        } else {
+            index = (key.hashCode() & Integer.MAX_VALUE) % workers.length;
+        }
+        workers[index].execute(task);
+    }
+
+    /**
+     * Retrieves the number of events that are waiting to be handled.
+     * @return number of queued events
+     */
+    int getQueuedEvents() {
+        int queued = 0;
+        for (ThreadPoolExecutor worker : workers) {
+            queued += worker.getQueue().size();
+        }
+        return queued;
+    }
+
+    /**
+     * Stops all workers. Queued events are discarded.
+     */
+    void shutdown() {
+        for (ThreadPoolExecutor worker : workers) {
+            worker.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * A non-blocking socket based implementation of the event and transport
+ * layer with persistent connections and length framed messages.
+ */
+package org.jvoicexml.callmanager.mmi.nio;
@@ -0,0 +1,114 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.StartRequest;
+
+/**
+ * Test cases for {@link FrameCodec}.
+ * 
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestFrameCodec {
+    /**
+     * Creates a framed start request.
+     * @param context the context id
+     * @return the frame
+     * @throws Exception
+     *          error encoding
+     */
+    private ByteBuffer createFrame(final String context) throws Exception {
+        final Mmi mmi = new Mmi();
+        final StartRequest request = new StartRequest();
+        request.setContext(context);
+        request.setRequestId("4242");
+        mmi.setStartRequest(request);
+        return FrameCodec.encode(mmi);
+    }
+
+    /**
+     * Test method for {@link FrameCodec#decode(ByteBuffer, List)} with
+     * multiple frames in a single buffer.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testDecodeMultipleFrames() throws Exception {
+        final ByteBuffer first = createFrame("context1");
+        final ByteBuffer second = createFrame("context2");
+        final ByteBuffer buffer = ByteBuffer.allocate(
+                first.remaining() + second.remaining());
+        buffer.put(first);
+        buffer.put(second);
+        buffer.flip();
+        final FrameCodec codec = new FrameCodec();
+        final List<byte[]> frames = new java.util.ArrayList<byte[]>();
+        codec.decode(buffer, frames);
+        Assert.assertEquals(2, frames.size());
+        final Mmi mmi = (Mmi) FrameCodec.decode(frames.get(1));
+        Assert.assertEquals("context2", mmi.getStartRequest().getContext());
+    }
+
+    /**
+     * Test method for {@link FrameCodec#decode(ByteBuffer, List)} with a
+     * frame that arrives byte by byte.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testDecodeFragmented() throws Exception {
+        final ByteBuffer frame = createFrame("context1");
+        final FrameCodec codec = new FrameCodec();
+        final List<byte[]> frames = new java.util.ArrayList<byte[]>();
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        while (frame.hasRemaining()) {
+            buffer.put(frame.get());
+            buffer.flip();
+            codec.decode(buffer, frames);
+            buffer.compact();
+        }
+        Assert.assertEquals(1, frames.size());
+        final Mmi mmi = (Mmi) FrameCodec.decode(frames.get(0));
+        Assert.assertEquals("context1", mmi.getStartRequest().getContext());
+    }
+
+    /**
+     * Test method for {@link FrameCodec#decode(ByteBuffer, List)} with a
+     * frame exceeding the maximal length.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(expected = IOException.class)
+    public void testDecodeTooLong() throws Exception {
+        final ByteBuffer frame = createFrame("context1");
+        final FrameCodec codec = new FrameCodec(10);
+        final List<byte[]> frames = new java.util.ArrayList<byte[]>();
+        codec.decode(frame, frames);
+    }
+}
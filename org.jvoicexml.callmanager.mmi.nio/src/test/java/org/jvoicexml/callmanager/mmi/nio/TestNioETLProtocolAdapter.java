@@ -0,0 +1,300 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi.nio;
+
+import java.io.DataInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvoicexml.callmanager.mmi.CallMetadata;
+import org.jvoicexml.callmanager.mmi.DecoratedMMIEvent;
+import org.jvoicexml.callmanager.mmi.MMIEventListener;
+import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.StartRequest;
+import org.jvoicexml.mmi.events.StartResponse;
+import org.jvoicexml.mmi.events.StatusType;
+
+/**
+ * Test cases for {@link NioETLProtocolAdapter}.
+ * 
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestNioETLProtocolAdapter implements MMIEventListener {
+    /** Port number to use. */
+    private static final int PORT = 4343;
+
+    /** The adapter to test. */
+    private NioETLProtocolAdapter adapter;
+
+    /** Received events. */
+    private BlockingQueue<DecoratedMMIEvent> events;
+
+    /** Latch to block the handling of received events, if set. */
+    private volatile CountDownLatch blocker;
+
+    /**
+     * Set up the test environment.
+     * @throws Exception
+     *          set up failed
+     */
+    @Before
+    public void setUp() throws Exception {
+        events = new LinkedBlockingQueue<DecoratedMMIEvent>();
+        adapter = new NioETLProtocolAdapter();
+        adapter.setPort(PORT);
+        adapter.setWorkerThreads(2);
+        adapter.addMMIEventListener(this);
+        adapter.start();
+    }
+
+    /**
+     * Tear down the test environment.
+     */
+    @After
+    public void tearDown() {
+        if (blocker != null) {
+            blocker.countDown();
+        }
+        adapter.stop();
+    }
+
+    /**
+     * Creates a framed start request.
+     * @param context the context id
+     * @param requestId the request id
+     * @return the frame
+     * @throws Exception
+     *          error encoding
+     */
+    private byte[] createStartRequest(final String context,
+            final String requestId) throws Exception {
+        final Mmi mmi = new Mmi();
+        final StartRequest request = new StartRequest();
+        request.setContext(context);
+        request.setRequestId(requestId);
+        mmi.setStartRequest(request);
+        final ByteBuffer frame = FrameCodec.encode(mmi);
+        final byte[] bytes = new byte[frame.remaining()];
+        frame.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads the next frame from the given stream.
+     * @param in the stream to read from
+     * @return decoded MMI event
+     * @throws Exception
+     *          error reading
+     */
+    private Mmi readFrame(final InputStream in) throws Exception {
+        final DataInputStream data = new DataInputStream(in);
+        final int length = data.readInt();
+        final byte[] payload = new byte[length];
+        data.readFully(payload);
+        return (Mmi) FrameCodec.decode(payload);
+    }
+
+    /**
+     * Test method for receiving multiple events and sending responses over
+     * a single persistent connection.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testPersistentConnection() throws Exception {
+        Assert.assertTrue(adapter.isStarted());
+        final InetAddress address = InetAddress.getLocalHost();
+        final Socket client = new Socket(address, PORT);
+        final OutputStream out = client.getOutputStream();
+        out.write(createStartRequest("context1", "1"));
+        out.write(createStartRequest("context2", "2"));
+        out.flush();
+        final List<String> contexts = new java.util.ArrayList<String>();
+        for (int i = 0; i < 2; i++) {
+            final DecoratedMMIEvent event = events.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(event);
+            final StartRequest request =
+                    (StartRequest) event.getLifeCycleEvent();
+            contexts.add(request.getContext());
+            final Mmi mmi = new Mmi();
+            final StartResponse response = new StartResponse();
+            response.setContext(request.getContext());
+            response.setRequestId(request.getRequestId());
+            response.setStatus(StatusType.SUCCESS);
+            mmi.setStartResponse(response);
+            adapter.sendMMIEvent(event.getChannel(), mmi);
+        }
+        Assert.assertTrue(contexts.contains("context1"));
+        Assert.assertTrue(contexts.contains("context2"));
+        final InputStream in = client.getInputStream();
+        for (int i = 0; i < 2; i++) {
+            final Mmi mmi = readFrame(in);
+            final StartResponse response = mmi.getStartResponse();
+            Assert.assertNotNull(response);
+            Assert.assertEquals(StatusType.SUCCESS, response.getStatus());
+            Assert.assertEquals(adapter.getUri().toString(),
+                    response.getSource());
+        }
+        client.close();
+    }
+
+    /**
+     * Test method for the ordering of events of the same context.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testOrderingPerContext() throws Exception {
+        final InetAddress address = InetAddress.getLocalHost();
+        final Socket client = new Socket(address, PORT);
+        final OutputStream out = client.getOutputStream();
+        final int count = 50;
+        for (int i = 0; i < count; i++) {
+            out.write(createStartRequest("context", Integer.toString(i)));
+        }
+        out.flush();
+        for (int i = 0; i < count; i++) {
+            final DecoratedMMIEvent event = events.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(event);
+            final StartRequest request =
+                    (StartRequest) event.getLifeCycleEvent();
+            Assert.assertEquals(Integer.toString(i), request.getRequestId());
+        }
+        client.close();
+    }
+
+    /**
+     * Test method for suspending and resuming reads of a connection with
+     * too many pending events.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testPendingEvents() throws Exception {
+        adapter.stop();
+        adapter = new NioETLProtocolAdapter();
+        adapter.setPort(PORT);
+        adapter.setWorkerThreads(2);
+        adapter.setMaxPendingEvents(2);
+        adapter.addMMIEventListener(this);
+        adapter.start();
+        final InetAddress address = InetAddress.getLocalHost();
+        final Socket client = new Socket(address, PORT);
+        final OutputStream out = client.getOutputStream();
+        final int count = 200;
+        for (int i = 0; i < count; i++) {
+            out.write(createStartRequest("context", Integer.toString(i)));
+        }
+        out.flush();
+        for (int i = 0; i < count; i++) {
+            final DecoratedMMIEvent event = events.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(event);
+            final StartRequest request =
+                    (StartRequest) event.getLifeCycleEvent();
+            Assert.assertEquals(Integer.toString(i), request.getRequestId());
+        }
+        client.close();
+    }
+
+    /**
+     * Test method for pausing and resuming reads of all connections if the
+     * workers are filled up to their limit.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testQueuedEvents() throws Exception {
+        adapter.stop();
+        adapter = new NioETLProtocolAdapter();
+        adapter.setPort(PORT);
+        adapter.setWorkerThreads(2);
+        adapter.setMaxQueuedEvents(4);
+        adapter.addMMIEventListener(this);
+        adapter.start();
+        blocker = new CountDownLatch(1);
+        final InetAddress address = InetAddress.getLocalHost();
+        final int connections = 3;
+        final int count = 50;
+        final List<Socket> clients = new java.util.ArrayList<Socket>();
+        for (int i = 0; i < connections; i++) {
+            final Socket client = new Socket(address, PORT);
+            final OutputStream out = client.getOutputStream();
+            for (int j = 0; j < count; j++) {
+                out.write(createStartRequest("context" + i,
+                        Integer.toString(j)));
+            }
+            out.flush();
+            clients.add(client);
+        }
+        while (adapter.getPendingEvents() < 4) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        Assert.assertEquals(4, adapter.getPendingEvents());
+        Assert.assertTrue(events.isEmpty());
+        blocker.countDown();
+        final int[] next = new int[connections];
+        for (int i = 0; i < connections * count; i++) {
+            final DecoratedMMIEvent event = events.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(event);
+            final StartRequest request =
+                    (StartRequest) event.getLifeCycleEvent();
+            final int context = Integer.parseInt(
+                    request.getContext().substring("context".length()));
+            Assert.assertEquals(Integer.toString(next[context]),
+                    request.getRequestId());
+            next[context]++;
+        }
+        for (Socket client : clients) {
+            client.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void receivedEvent(final DecoratedMMIEvent evt,
+            final CallMetadata data) {
+        final CountDownLatch latch = blocker;
+        if (latch != null) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+        events.add(evt);
+    }
+}
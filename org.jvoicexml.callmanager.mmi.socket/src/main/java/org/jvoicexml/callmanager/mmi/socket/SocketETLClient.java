@@ -35,15 +35,14 @@ import java.net.Socket;
 import java.net.URI;
 import java.net.URISyntaxException;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 import org.apache.log4j.Logger;
 import org.jvoicexml.callmanager.mmi.CallMetadata;
 import org.jvoicexml.callmanager.mmi.DecoratedMMIEvent;
 import org.jvoicexml.client.TcpUriFactory;
 import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.MmiCodec;
 
 /**
  * A connected ETL socket. Since the {@link javax.xml.bind.Unmarshaller}
@@ -79,8 +78,6 @@ final class SocketETLClient extends Thread {
     @Override
     public void run() {
         try {
-            final JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
-            final Unmarshaller unmarshaller = ctx.createUnmarshaller();
             final InputStream in = socket.getInputStream();
             if (LOGGER.isDebugEnabled()) {
                 final InetSocketAddress address =
@@ -88,7 +85,7 @@ final class SocketETLClient extends Thread {
                 final URI uri = TcpUriFactory.createUri(address);
                 LOGGER.debug("expecting MMI events from '" + uri + "'");
             }
-            final Object o = unmarshaller.unmarshal(in);
+            final Object o = MmiCodec.unmarshal(in);
             if (o instanceof Mmi) {
                 final Mmi mmi = (Mmi) o;
                 LOGGER.info("received MMI event: " + mmi);
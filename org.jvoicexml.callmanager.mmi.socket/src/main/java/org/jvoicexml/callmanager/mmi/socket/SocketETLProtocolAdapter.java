@@ -33,9 +33,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 
 import org.apache.log4j.Logger;
 import org.jvoicexml.callmanager.mmi.CallMetadata;
@@ -45,6 +43,7 @@ import org.jvoicexml.callmanager.mmi.MMIEventListener;
 import org.jvoicexml.client.TcpUriFactory;
 import org.jvoicexml.mmi.events.LifeCycleEvent;
 import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.MmiCodec;
 
 /**
  * A protocol adapter using plain sockets.
@@ -153,10 +152,8 @@ public final class SocketETLProtocolAdapter implements ETLProtocolAdapter {
             LOGGER.info("sending " + mmi + " to '" + uri + "'");
 
             // Send the message
-            final JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
-            final Marshaller marshaller = ctx.createMarshaller();
             final OutputStream out = client.getOutputStream();
-            marshaller.marshal(event, out);
+            MmiCodec.marshal(event, out);
         } catch (JAXBException e) {
             throw new IOException(e.getMessage(), e);
         } catch (URISyntaxException e) {
@@ -0,0 +1,418 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.jvoicexml.mmi.events.StatusResponse;
+import org.jvoicexml.mmi.events.StatusResponseType;
+
+/**
+ * Sends status update messages for all contexts of a
+ * {@link VoiceModalityComponent}.
+ * <p>
+ * The response to a status request is sent immediately in the calling
+ * thread. Periodic updates are timed by a single scheduler thread that hands
+ * the batches over to a bounded pool of sender threads. Thus, a channel that
+ * blocks while sending does not delay the updates of other channels. There
+ * is at most one batch per channel in progress. If a channel is still busy
+ * with its previous batch or the pool is exhausted, the channel skips this
+ * interval.
+ * </p>
+ * <p>
+ * Automatic status updates are grouped by the channel they were requested
+ * on. All updates of a channel are sent in one batch per interval, so that
+ * the underlying {@link ETLProtocolAdapter} is able to coalesce them into
+ * fewer writes. Repeated requests for the same context and target on the
+ * same channel are merged into a single update.
+ * </p>
+ * <p>
+ * The W3C spec does not mention how to stop automated status updates, so
+ * this implementation simply keeps sending status messages until sending
+ * fails.
+ * </p>
+ * <p>
+ * All bookkeeping is done in the scheduler thread and needs no further
+ * synchronization.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class StatusUpdateScheduler {
+    /** Logger instance. */
+    private static final Logger LOGGER = Logger
+            .getLogger(StatusUpdateScheduler.class);
+
+    /** Number of msecs to wait between two status update messages. */
+    static final long STATUS_UPDATE_INTERVAL = 60 * 1000;
+
+    /** Maximal number of threads sending periodic status updates. */
+    static final int SENDER_THREADS = 4;
+
+    /** Maximal number of batches waiting for a sender thread. */
+    static final int MAX_PENDING_BATCHES = 256;
+
+    /** Key for updates that were requested without a channel. */
+    private static final Object NO_CHANNEL = new Object();
+
+    /** The voice modality component. */
+    private final VoiceModalityComponent mc;
+
+    /** Number of msecs to wait between two status update messages. */
+    private final long interval;
+
+    /** The executor timing all periodic status updates. */
+    private final ScheduledExecutorService executor;
+
+    /** The executor sending periodic status updates. */
+    private final ThreadPoolExecutor senders;
+
+    /** Automatic status updates by their channel. */
+    private final Map<Object, ChannelUpdates> channels;
+
+    /**
+     * Constructs a new object with the default update interval.
+     * @param vmc the voice modality component
+     */
+    StatusUpdateScheduler(final VoiceModalityComponent vmc) {
+        this(vmc, STATUS_UPDATE_INTERVAL);
+    }
+
+    /**
+     * Constructs a new object.
+     * @param vmc the voice modality component
+     * @param msec number of msecs to wait between two status update messages
+     */
+    StatusUpdateScheduler(final VoiceModalityComponent vmc, final long msec) {
+        mc = vmc;
+        interval = msec;
+        channels = new java.util.HashMap<Object, ChannelUpdates>();
+        executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "StatusUpdateScheduler");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        senders = new ThreadPoolExecutor(SENDER_THREADS, SENDER_THREADS,
+                2 * interval, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(MAX_PENDING_BATCHES),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "StatusUpdateSender");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        senders.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sends a status response for the given request and schedules periodic
+     * updates if requested.
+     * @param channel the channel
+     * @param target the target where to send messages
+     * @param context the context id, maybe <code>null</code>
+     * @param requestId the request id of the message that caused the
+     *          status update
+     * @param automatic <code>true</code> if periodic sending of updates is
+     *          requested
+     */
+    void schedule(final Object channel, final String target,
+            final URI context, final String requestId,
+            final boolean automatic) {
+        if (executor.isShutdown()) {
+            LOGGER.warn("status updates already stopped. Ignoring request '"
+                    + requestId + "'");
+            return;
+        }
+        final StatusUpdate update = new StatusUpdate(target, context,
+                requestId, automatic);
+        if (!send(channel, update) || !automatic) {
+            return;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    register(channel, update);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("status updates already stopped. Ignoring request '"
+                    + requestId + "'");
+        }
+    }
+
+    /**
+     * Adds the given update to the periodic updates of its channel. Called
+     * from the scheduler thread.
+     * @param channel the channel
+     * @param update the update to add
+     */
+    private void register(final Object channel, final StatusUpdate update) {
+        final Object key;
+        if (channel == null) {
+            key = NO_CHANNEL;
+        } else {
+            key = channel;
+        }
+        ChannelUpdates updates = channels.get(key);
+        if (updates == null) {
+            updates = new ChannelUpdates(key, channel);
+            channels.put(key, updates);
+            updates.future = executor.scheduleWithFixedDelay(updates,
+                    interval, interval, TimeUnit.MILLISECONDS);
+        }
+        updates.updates.put(update.getKey(), update);
+    }
+
+    /**
+     * Sends a status response for the given update.
+     * @param channel the channel to use
+     * @param update the update
+     * @return <code>true</code> if the response was sent
+     */
+    private boolean send(final Object channel, final StatusUpdate update) {
+        final StatusResponse response = new StatusResponse();
+        response.setTarget(update.target);
+        response.setAutomaticUpdate(update.automatic);
+        response.setRequestId(update.requestId);
+        if (update.context == null) {
+            if (mc.isAcceptingLifecycleEvents()) {
+                response.setStatus(StatusResponseType.ALIVE);
+            } else {
+                response.setStatus(StatusResponseType.DEAD);
+            }
+        } else {
+            response.setContext(update.context.toString());
+            final MMIContext context = mc.getContext(update.context);
+            if (context == null) {
+                response.setStatus(StatusResponseType.DEAD);
+            } else {
+                response.setStatus(StatusResponseType.ALIVE);
+            }
+        }
+        try {
+            mc.sendLifeCycleEvent(channel, response);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the number of channels with automatic status updates.
+     * @return number of channels
+     * @exception InterruptedException
+     *          interrupted while waiting for the scheduler thread
+     * @exception ExecutionException
+     *          error retrieving the number of channels
+     */
+    int getScheduledChannels()
+            throws InterruptedException, ExecutionException {
+        return executor.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return channels.size();
+            }
+        }).get();
+    }
+
+    /**
+     * Stops sending status updates.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * A requested status update.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class StatusUpdate {
+        /** The target where to send status update messages. */
+        private final String target;
+
+        /** A given context id. */
+        private final URI context;
+
+        /** The request id that was provided in the status request. */
+        private final String requestId;
+
+        /** <code>true</code> if periodic sending of updates is requested. */
+        private final boolean automatic;
+
+        /**
+         * Constructs a new object.
+         * @param trgt the target where to send messages
+         * @param ctx the context id, maybe <code>null</code>
+         * @param reqId the request id
+         * @param auto <code>true</code> if periodic sending of updates is
+         *          requested
+         */
+        StatusUpdate(final String trgt, final URI ctx, final String reqId,
+                final boolean auto) {
+            target = trgt;
+            context = ctx;
+            requestId = reqId;
+            automatic = auto;
+        }
+
+        /**
+         * Retrieves a key to identify duplicate updates on a channel.
+         * @return key of this update
+         */
+        String getKey() {
+            return context + " " + target;
+        }
+    }
+
+    /**
+     * All automatic status updates of a single channel.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private final class ChannelUpdates implements Runnable {
+        /** The key of this channel in the map of channels. */
+        private final Object key;
+
+        /** The channel to use to send messages. */
+        private final Object channel;
+
+        /** Updates of this channel, merged by context and target. */
+        private final Map<String, StatusUpdate> updates;
+
+        /** The periodic task of this channel. */
+        private ScheduledFuture<?> future;
+
+        /** <code>true</code> while a batch is in progress in a sender. */
+        private boolean sending;
+
+        /**
+         * Constructs a new object.
+         * @param channelKey the key of the channel
+         * @param ch the channel
+         */
+        ChannelUpdates(final Object channelKey, final Object ch) {
+            key = channelKey;
+            channel = ch;
+            updates = new java.util.LinkedHashMap<String, StatusUpdate>();
+        }
+
+        /**
+         * Hands all updates of this channel as one batch over to the
+         * senders. Called from the scheduler thread.
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            if (sending) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("channel " + channel + " still busy."
+                            + " skipping status updates");
+                }
+                return;
+            }
+            final Collection<StatusUpdate> batch =
+                    new java.util.ArrayList<StatusUpdate>(updates.values());
+            sending = true;
+            try {
+                senders.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        sendBatch(batch);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                sending = false;
+                LOGGER.warn("too many pending status updates. skipping"
+                        + " status updates for channel " + channel);
+            }
+        }
+
+        /**
+         * Sends the given updates and reports failed updates back to the
+         * scheduler thread. Called from a sender thread.
+         * @param batch the updates to send
+         */
+        private void sendBatch(final Collection<StatusUpdate> batch) {
+            final Collection<StatusUpdate> failed =
+                    new java.util.ArrayList<StatusUpdate>();
+            for (StatusUpdate update : batch) {
+                if (!send(channel, update)) {
+                    failed.add(update);
+                }
+            }
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        batchSent(failed);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("status updates stopped while sending");
+            }
+        }
+
+        /**
+         * Removes the updates that failed to be sent. Called from the
+         * scheduler thread.
+         * @param failed updates that could not be sent
+         */
+        private void batchSent(final Collection<StatusUpdate> failed) {
+            sending = false;
+            for (StatusUpdate update : failed) {
+                updates.remove(update.getKey(), update);
+            }
+            if (updates.isEmpty()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("no more status updates for channel "
+                            + channel);
+                }
+                channels.remove(key);
+                future.cancel(false);
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import java.net.URLEncoder;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Logger;
 import org.jvoicexml.RecognitionResult;
@@ -99,6 +100,9 @@ public final class VoiceModalityComponent
     /** Active contexts. */
     private final Map<String, MMIContext> contexts;
 
+    /** Scheduler for status update messages. */
+    private final StatusUpdateScheduler statusUpdates;
+
     /** The basic URI of the MMI servlet. */
     private final String servletBaseUri;
 
@@ -128,7 +132,8 @@ public final class VoiceModalityComponent
         servletBaseUri = baseUri;
         converter = conv;
         extractor = ext;
-        contexts = new java.util.HashMap<String, MMIContext>();
+        contexts = new ConcurrentHashMap<String, MMIContext>();
+        statusUpdates = new StatusUpdateScheduler(this);
     }
 
     /**
@@ -240,9 +245,10 @@ public final class VoiceModalityComponent
      * @since 0.7.7
      */
     private MMIContext getContext(final String contextId) {
-        synchronized (contexts) {
-            return contexts.get(contextId);
+        if (contextId == null) {
+            return null;
         }
+        return contexts.get(contextId);
     }
 
     /**
@@ -279,6 +285,9 @@ public final class VoiceModalityComponent
         if (requestId == null || requestId.isEmpty()) {
             throw new MMIMessageException("No request id given");
         }
+        if (contextId == null) {
+            throw new MMIMessageException("No context id given");
+        }
         MMIContext context = getContext(contextId);
         if (context == null) {
             if (!create) {
@@ -290,8 +299,9 @@ public final class VoiceModalityComponent
             } catch (URISyntaxException e) {
                 throw new MMIMessageException(e.getMessage(), e);
             }
-            synchronized (contexts) {
-                contexts.put(contextId, context);
+            final MMIContext other = contexts.putIfAbsent(contextId, context);
+            if (other != null) {
+                context = other;
             }
         }
         return context;
@@ -702,10 +712,11 @@ public final class VoiceModalityComponent
      *            the context to remove
      */
     private void removeContext(final String contextId) {
-        synchronized (contexts) {
-            contexts.remove(contextId);
-            LOGGER.info("cleared context '" + contextId + "'");
+        if (contextId == null) {
+            return;
         }
+        contexts.remove(contextId);
+        LOGGER.info("cleared context '" + contextId + "'");
     }
 
     /**
@@ -878,9 +889,8 @@ public final class VoiceModalityComponent
             }
         }
         final String target = request.getSource();
-        final StatusUpdateThread thread = new StatusUpdateThread(this, channel,
-                target, context, requestId, automaticUpdate);
-        thread.start();
+        statusUpdates.schedule(channel, target, context, requestId,
+                automaticUpdate);
     }
 
     /**
@@ -970,6 +980,7 @@ public final class VoiceModalityComponent
      * Stops accepting MMI lifecycle events.
      */
     public void stopAcceptingLifecycleEvents() {
+        statusUpdates.shutdown();
         adapter.stop();
         LOGGER.info("stopped ETL protocol adapter " + adapter.getClass() + "'");
     }
@@ -991,16 +1002,12 @@ public final class VoiceModalityComponent
      */
     private MMIContext findContext(final Session session) {
         final SessionIdentifier sessionId = session.getSessionId();
-        synchronized (contexts) {
-            for (String contextId : contexts.keySet()) {
-                final MMIContext context = contexts.get(contextId);
-                final Session other = context.getSession();
-                if (other != null) {
-                    final SessionIdentifier otherSessionId =
-                            other.getSessionId();
-                    if (otherSessionId.equals(sessionId)) {
-                        return context;
-                    }
+        for (MMIContext context : contexts.values()) {
+            final Session other = context.getSession();
+            if (other != null) {
+                final SessionIdentifier otherSessionId = other.getSessionId();
+                if (otherSessionId.equals(sessionId)) {
+                    return context;
                 }
             }
         }
@@ -26,15 +26,14 @@
 
 package org.jvoicexml.callmanager.mmi.xml;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 
 import org.jvoicexml.RecognitionResult;
 import org.jvoicexml.callmanager.mmi.ConversionException;
 import org.jvoicexml.callmanager.mmi.ExtensionNotificationDataExtractor;
 import org.jvoicexml.mmi.events.ExtensionNotification;
 import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.MmiCodec;
 
 /**
  * Extracts XML formatted data from received {@link ExtensionNotification}s.
@@ -53,12 +52,9 @@ public class XmlExtensionNotificationDataExtractor
     @Override
     public RecognitionResult getRecognitionResult(final Mmi mmi,
             final ExtensionNotification ext) throws ConversionException {
-        JAXBContext context;
         try {
-            context = JAXBContext.newInstance(Mmi.class);
-            Marshaller marshaller = context.createMarshaller();
             final EmmaSemanticInterpretationExtractor extractor = new EmmaSemanticInterpretationExtractor();
-            marshaller.marshal(mmi, extractor);
+            MmiCodec.marshal(mmi, extractor);
             return extractor.getRecognitonResult();
         } catch (JAXBException e) {
             throw new ConversionException(e.getMessage(), e);
@@ -0,0 +1,230 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.jvoicexml.callmanager.mmi;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.StatusResponse;
+import org.jvoicexml.mmi.events.StatusResponseType;
+
+/**
+ * Test cases for {@link StatusUpdateScheduler}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestStatusUpdateScheduler implements ETLProtocolAdapter {
+    /** Update interval to use in msec. */
+    private static final long INTERVAL = 100;
+
+    /** Channel that fails to send. */
+    private static final Object BROKEN = "broken";
+
+    /** Channel that blocks while sending periodic updates. */
+    private static final Object SLOW = "slow";
+
+    /** The voice modality component. */
+    private VoiceModalityComponent mc;
+
+    /** Latch to block sending on the slow channel, if set. */
+    private volatile CountDownLatch slowLatch;
+
+    /** The scheduler to test. */
+    private StatusUpdateScheduler scheduler;
+
+    /** Sent status responses. */
+    private BlockingQueue<StatusResponse> sent;
+
+    /**
+     * Set up the test environment.
+     * @throws Exception
+     *          set up failed
+     */
+    @Before
+    public void setUp() throws Exception {
+        sent = new LinkedBlockingQueue<StatusResponse>();
+        mc = new VoiceModalityComponent(null, null, null, null);
+        mc.startAcceptingLifecyleEvents(this);
+        scheduler = new StatusUpdateScheduler(mc, INTERVAL);
+    }
+
+    /**
+     * Tear down the test environment.
+     */
+    @After
+    public void tearDown() {
+        if (slowLatch != null) {
+            slowLatch.countDown();
+        }
+        scheduler.shutdown();
+        mc.stopAcceptingLifecycleEvents();
+    }
+
+    /**
+     * Retrieves the next sent status response.
+     * @return next status response
+     * @throws InterruptedException
+     *          interrupted while waiting
+     */
+    private StatusResponse next() throws InterruptedException {
+        final StatusResponse response = sent.poll(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(response);
+        return response;
+    }
+
+    /**
+     * Test method for a single status update.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testScheduleOnce() throws Exception {
+        scheduler.schedule("channel", "target", null, "4242", false);
+        final StatusResponse response = next();
+        Assert.assertEquals("4242", response.getRequestId());
+        Assert.assertEquals(StatusResponseType.ALIVE, response.getStatus());
+        Assert.assertFalse(response.isAutomaticUpdate());
+        Assert.assertEquals(0, scheduler.getScheduledChannels());
+    }
+
+    /**
+     * Test method for automatic updates of multiple contexts on a single
+     * channel.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testScheduleAutomatic() throws Exception {
+        final URI context1 = new URI("http://context1");
+        final URI context2 = new URI("http://context2");
+        scheduler.schedule("channel", "target", context1, "1", true);
+        scheduler.schedule("channel", "target", context1, "2", true);
+        scheduler.schedule("channel", "target", context2, "3", true);
+        for (int i = 0; i < 3; i++) {
+            final StatusResponse response = next();
+            Assert.assertTrue(response.isAutomaticUpdate());
+            Assert.assertEquals(StatusResponseType.DEAD,
+                    response.getStatus());
+        }
+        Assert.assertEquals(1, scheduler.getScheduledChannels());
+        // Repeated requests for the same context are merged
+        Assert.assertEquals("2", next().getRequestId());
+        Assert.assertEquals("3", next().getRequestId());
+        Assert.assertEquals("2", next().getRequestId());
+        Assert.assertEquals("3", next().getRequestId());
+    }
+
+    /**
+     * Test method for automatic updates on a channel that fails.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testScheduleFailure() throws Exception {
+        scheduler.schedule(BROKEN, "target", null, "4242", true);
+        Thread.sleep(INTERVAL * 3);
+        Assert.assertTrue(sent.isEmpty());
+        Assert.assertEquals(0, scheduler.getScheduledChannels());
+    }
+
+    /**
+     * Test method for automatic updates while another channel blocks.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testScheduleSlowChannel() throws Exception {
+        scheduler.schedule(SLOW, "target", null, "1", true);
+        scheduler.schedule("channel", "target", null, "2", true);
+        Assert.assertEquals("1", next().getRequestId());
+        Assert.assertEquals("2", next().getRequestId());
+        slowLatch = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("2", next().getRequestId());
+        }
+        Assert.assertEquals(2, scheduler.getScheduledChannels());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() throws IOException {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStarted() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addMMIEventListener(final MMIEventListener listener) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeMMIEventListener(final MMIEventListener listener) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sendMMIEvent(final Object channel, final Mmi mmi)
+            throws IOException {
+        if (channel == BROKEN) {
+            throw new IOException("broken channel");
+        }
+        final CountDownLatch latch = slowLatch;
+        if (channel == SLOW && latch != null) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        sent.add((StatusResponse) mmi.getLifeCycleEvent());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+    }
+}
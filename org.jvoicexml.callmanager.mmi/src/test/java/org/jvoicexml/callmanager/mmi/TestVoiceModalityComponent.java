@@ -29,6 +29,7 @@ import java.io.File;
 import java.net.URL;
 import java.util.Locale;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.jvoicexml.JVoiceXmlCore;
@@ -82,6 +83,7 @@ public final class TestVoiceModalityComponent {
     /**
      * Tear down the test environment.
      */
+    @After
     public void tearDown() {
         cm.stop();
     }
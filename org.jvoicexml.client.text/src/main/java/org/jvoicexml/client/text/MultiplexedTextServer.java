@@ -0,0 +1,508 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.client.text;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.ConnectionInformation;
+import org.jvoicexml.client.TcpUriFactory;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage.TextMessageType;
+import org.jvoicexml.xml.ssml.SsmlDocument;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Server to stream text from and to the JVoiceXML interpreter for many
+ * sessions over a single connection.
+ *
+ * <p>
+ * In contrast to the {@link TextServer}, which serves exactly one session
+ * with a blocking connection of its own, this server hands out a
+ * {@link ConnectionInformation} per session via
+ * {@link #createConnectionInformation(TextListener)}. JVoiceXML opens a
+ * single connection to this server and multiplexes the messages of all
+ * sessions over it using the session identifier of the
+ * {@link TextMessage}.
+ * </p>
+ *
+ * <p>
+ * Messages are not acknowledged one by one. All messages of a session that
+ * arrived with a single read are acknowledged with a single cumulative
+ * acknowledgement. All acknowledgements are written together with a single
+ * write.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class MultiplexedTextServer extends Thread
+        implements TextMessageHandler {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(MultiplexedTextServer.class);
+
+    /** The port number to use. */
+    private final int port;
+
+    /** Name of this host, maybe null to indicate the localhost. */
+    private final String host;
+
+    /** Known sessions by their identifier. */
+    private final Map<String, TextSession> sessions;
+
+    /** Accepted connections. */
+    private final Collection<TextMessageConnection> connections;
+
+    /** Lock access to wait until the server started. */
+    private final Object startedLock;
+
+    /** Server socket. */
+    private ServerSocketChannel server;
+
+    /** URI representation of the server's address. */
+    private URI callingId;
+
+    /** <code>true</code> if the server has been started. */
+    private boolean started;
+
+    /** <code>true</code> if the server is shutting down. */
+    private volatile boolean stopping;
+
+    /**
+     * Constructs a new object.
+     *
+     * @param hostname
+     *            the hostname to use, usually this is the localhost
+     * @param serverPort
+     *            port number to use
+     */
+    public MultiplexedTextServer(final String hostname,
+            final int serverPort) {
+        port = serverPort;
+        host = hostname;
+        setDaemon(true);
+        setName("JVoiceXML multiplexed text server");
+        sessions = new ConcurrentHashMap<String, TextSession>();
+        connections = new CopyOnWriteArrayList<TextMessageConnection>();
+        startedLock = new Object();
+    }
+
+    /**
+     * Constructs a new object.
+     *
+     * @param serverPort
+     *            port number to use.
+     */
+    public MultiplexedTextServer(final int serverPort) {
+        this(null, serverPort);
+    }
+
+    /**
+     * Creates a new session and a connection information container that
+     * can be used when making a call for this session.
+     *
+     * @param listener
+     *            listener for the output of this session
+     * @return connection information
+     * @throws UnknownHostException
+     *             IP address could not be determined.
+     */
+    public ConnectionInformation createConnectionInformation(
+            final TextListener listener) throws UnknownHostException {
+        final String sessionId = UUID.randomUUID().toString();
+        final TextSession session = new TextSession(sessionId, listener);
+        sessions.put(sessionId, session);
+        final TextConnectionInformation info =
+                new TextConnectionInformation(port, sessionId);
+        info.setCallingDevice(callingId);
+        return info;
+    }
+
+    /**
+     * Retrieves the number of sessions that have not been terminated.
+     *
+     * @return number of active sessions
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Send the given input as a recognition result to JVoiceXml.
+     *
+     * @param sessionId
+     *            identifier of the session
+     * @param input
+     *            the input to send.
+     * @throws IOException
+     *             Error sending the input.
+     */
+    public void sendInput(final String sessionId, final String input)
+            throws IOException {
+        final TextSession session = getSession(sessionId);
+        session.send(TextMessageType.USER, input);
+    }
+
+    /**
+     * Terminates the given session.
+     *
+     * @param sessionId
+     *            identifier of the session
+     * @throws IOException
+     *             Error sending the request.
+     */
+    public void hangup(final String sessionId) throws IOException {
+        final TextSession session = getSession(sessionId);
+        session.send(TextMessageType.BYE, null);
+    }
+
+    /**
+     * Retrieves the session with the given id.
+     *
+     * @param sessionId
+     *            identifier of the session
+     * @return the session
+     * @throws IOException
+     *             if there is no such session
+     */
+    private TextSession getSession(final String sessionId)
+            throws IOException {
+        final TextSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new IOException("unknown session '" + sessionId + "'");
+        }
+        return session;
+    }
+
+    /**
+     * Retrieve the address to use.
+     *
+     * @return the address to use
+     * @throws UnknownHostException
+     *             error determining the address to use
+     */
+    private InetAddress getAddress() throws UnknownHostException {
+        if (host == null) {
+            return InetAddress.getLocalHost();
+        } else {
+            return InetAddress.getByName(host);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        try {
+            server = ServerSocketChannel.open();
+            server.socket().setReuseAddress(true);
+            final InetSocketAddress socketAddress = new InetSocketAddress(
+                    getAddress(), port);
+            callingId = TcpUriFactory.createUri(socketAddress);
+            server.socket().bind(socketAddress);
+        } catch (IOException | URISyntaxException e) {
+            LOGGER.error("error starting the multiplexed text server", e);
+            return;
+        }
+        LOGGER.info("multiplexed text server started at port '" + port
+                + "'");
+        synchronized (startedLock) {
+            started = true;
+            startedLock.notifyAll();
+        }
+        try {
+            while (!stopping) {
+                final SocketChannel channel = server.accept();
+                final TextMessageConnection connection =
+                        new TextMessageConnection(channel, this);
+                connections.add(connection);
+                connection.start();
+                LOGGER.info("connected to " + connection.getRemoteAddress());
+            }
+        } catch (IOException e) {
+            if (!stopping) {
+                LOGGER.warn("error accepting connections", e);
+            }
+        } finally {
+            stopServer();
+        }
+    }
+
+    /**
+     * Checks if the server has been started.
+     *
+     * @return <code>true</code> if the server has been started
+     */
+    public boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Waits until the server thread has been started and is able to accept
+     * incoming connections.
+     *
+     * @throws InterruptedException
+     *             Error waiting
+     */
+    public void waitStarted() throws InterruptedException {
+        synchronized (startedLock) {
+            while (!started) {
+                startedLock.wait();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void messagesReceived(final TextMessageConnection connection,
+            final List<TextMessage> messages) {
+        // Keep only the last message per session to acknowledge
+        final Map<TextSession, TextMessage> acknowledge =
+                new java.util.LinkedHashMap<TextSession, TextMessage>();
+        for (TextMessage message : messages) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("read " + message);
+            }
+            if (!message.hasSessionId()) {
+                LOGGER.warn("ignoring message without session id: "
+                        + message);
+                continue;
+            }
+            final String sessionId = message.getSessionId();
+            final TextSession session = sessions.get(sessionId);
+            if (session == null) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("ignoring message for unknown session '"
+                            + sessionId + "'");
+                }
+                continue;
+            }
+            if (session.received(connection, message)) {
+                acknowledge.put(session, message);
+            }
+        }
+        for (Map.Entry<TextSession, TextMessage> entry
+                : acknowledge.entrySet()) {
+            final TextSession session = entry.getKey();
+            final TextMessage message = entry.getValue();
+            session.acknowledge(message.getSequenceNumber());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void connectionClosed(final TextMessageConnection connection) {
+        connections.remove(connection);
+        for (TextSession session : sessions.values()) {
+            if (session.connection == connection) {
+                session.disconnected(null);
+            }
+        }
+    }
+
+    /**
+     * Stops this server and closes all connections.
+     */
+    public void stopServer() {
+        stopping = true;
+        if (server != null) {
+            try {
+                server.close();
+            } catch (IOException e) {
+                LOGGER.warn("error closing the server", e);
+            }
+        }
+        for (TextMessageConnection connection : connections) {
+            connection.close();
+        }
+        started = false;
+        LOGGER.info("multiplexed text server stopped");
+    }
+
+    /**
+     * A session on a multiplexed connection.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private final class TextSession {
+        /** The session identifier. */
+        private final String id;
+
+        /** Listener for the output of this session. */
+        private final TextListener listener;
+
+        /** The connection that serves this session. */
+        private volatile TextMessageConnection connection;
+
+        /** The last used sequence number. */
+        private int lastSequenceNumber;
+
+        /** <code>true</code> if we sent a BYE. */
+        private boolean sentBye;
+
+        /**
+         * Constructs a new object.
+         * @param sessionId the session identifier
+         * @param textListener listener for the output of this session
+         */
+        TextSession(final String sessionId,
+                final TextListener textListener) {
+            id = sessionId;
+            listener = textListener;
+        }
+
+        /**
+         * Handles a received message.
+         * @param conn the connection that received the message
+         * @param message the received message
+         * @return <code>true</code> if the message must be acknowledged
+         */
+        boolean received(final TextMessageConnection conn,
+                final TextMessage message) {
+            if (connection == null) {
+                connection = conn;
+                listener.connected(conn.getRemoteAddress());
+            }
+            final TextMessageEvent event =
+                    new TextMessageEvent(MultiplexedTextServer.this, message);
+            final TextMessageType type = message.getType();
+            if (type == TextMessageType.SSML) {
+                try {
+                    final StringReader reader =
+                            new StringReader(message.getData());
+                    final InputSource source = new InputSource(reader);
+                    final SsmlDocument document = new SsmlDocument(source);
+                    listener.outputSsml(event, document);
+                } catch (ParserConfigurationException | SAXException
+                        | IOException e) {
+                    LOGGER.error("error parsing SSML", e);
+                }
+            } else if (type == TextMessageType.EXPECTING_INPUT) {
+                listener.expectingInput(event);
+            } else if (type == TextMessageType.INPUT_CLOSED) {
+                listener.inputClosed(event);
+            } else if (type == TextMessageType.BYE) {
+                disconnected(event);
+            } else if (type == TextMessageType.ACK) {
+                if (sentBye) {
+                    disconnected(event);
+                }
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Sends a cumulative acknowledgement.
+         * @param sequenceNumber the highest received sequence number
+         */
+        void acknowledge(final int sequenceNumber) {
+            final TextMessage ack = TextMessage.newBuilder()
+                    .setType(TextMessageType.ACK)
+                    .setSequenceNumber(sequenceNumber)
+                    .setSessionId(id).build();
+            try {
+                connection.send(ack);
+            } catch (IOException e) {
+                LOGGER.warn("unable to acknowledge " + sequenceNumber
+                        + " of session '" + id + "'", e);
+            }
+        }
+
+        /**
+         * Sends a message of the given type.
+         * @param type the message type
+         * @param data the data to send, maybe <code>null</code>
+         * @throws IOException
+         *          error sending the message
+         */
+        synchronized void send(final TextMessageType type, final String data)
+                throws IOException {
+            if (connection == null) {
+                throw new IOException("session '" + id
+                        + "' is not connected");
+            }
+            if (sentBye) {
+                return;
+            }
+            final TextMessage.Builder builder = TextMessage.newBuilder()
+                    .setType(type).setSequenceNumber(lastSequenceNumber++)
+                    .setSessionId(id);
+            if (data != null) {
+                builder.setData(data);
+            }
+            final TextMessage message = builder.build();
+            connection.send(message);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("sent " + message);
+            }
+            if (type == TextMessageType.BYE) {
+                sentBye = true;
+            }
+        }
+
+        /**
+         * Notifies the listener that this session has ended.
+         * @param event the event, <code>null</code> if the connection was
+         *          lost
+         */
+        void disconnected(final TextMessageEvent event) {
+            if (sessions.remove(id) == null) {
+                return;
+            }
+            if (event == null) {
+                final TextMessage bye = TextMessage.newBuilder()
+                        .setType(TextMessageType.BYE).setSequenceNumber(0)
+                        .setSessionId(id).build();
+                listener.disconnected(
+                        new TextMessageEvent(MultiplexedTextServer.this, bye));
+            } else {
+                listener.disconnected(event);
+            }
+        }
+    }
+}
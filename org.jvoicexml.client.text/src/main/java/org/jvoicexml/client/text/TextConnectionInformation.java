@@ -54,6 +54,12 @@ public final class TextConnectionInformation
     /** The client's port number. */
     private final int port;
 
+    /**
+     * Identifier of the session on a multiplexed connection,
+     * <code>null</code> if the session uses a connection of its own.
+     */
+    private final String sessionId;
+
     /**
      * Constructs a new object.
      * @param clientPort the port number to use for the output.
@@ -61,9 +67,25 @@ public final class TextConnectionInformation
      *         Error determining the local IP address.
      */
     TextConnectionInformation(final int clientPort)
+        throws UnknownHostException {
+        this(clientPort, null);
+    }
+
+    /**
+     * Constructs a new object for a session on a multiplexed connection.
+     * @param clientPort the port number to use for the output.
+     * @param session identifier of the session on the multiplexed
+     *          connection, <code>null</code> if the session uses a
+     *          connection of its own
+     * @throws UnknownHostException
+     *         Error determining the local IP address.
+     * @since 0.7.9
+     */
+    TextConnectionInformation(final int clientPort, final String session)
         throws UnknownHostException {
         super(RESOURCE_IDENTIFIER, RESOURCE_IDENTIFIER, RESOURCE_IDENTIFIER);
         port = clientPort;
+        sessionId = session;
         // TODO Fixed to localhost for now.
         address = InetAddress.getLocalHost();
     }
@@ -84,6 +106,26 @@ public final class TextConnectionInformation
         return port;
     }
 
+    /**
+     * Retrieves the identifier of the session on a multiplexed connection.
+     * @return session identifier, <code>null</code> if the session uses a
+     *          connection of its own
+     * @since 0.7.9
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Checks if the session shares a multiplexed connection with other
+     * sessions.
+     * @return <code>true</code> if the connection is multiplexed
+     * @since 0.7.9
+     */
+    public boolean isMultiplexed() {
+        return sessionId != null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -93,5 +135,9 @@ public final class TextConnectionInformation
         str.append(address);
         str.append(',');
         str.append(port);
+        if (sessionId != null) {
+            str.append(',');
+            str.append(sessionId);
+        }
     }
 }
@@ -0,0 +1,394 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.client.text;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage;
+
+import com.google.protobuf.CodedInputStream;
+
+/**
+ * A non-blocking connection that exchanges length delimited
+ * {@link TextMessage}s.
+ * <p>
+ * A single I/O thread performs all reads and writes. Messages that are
+ * passed to {@link #send(TextMessage)} are queued and all messages that
+ * were queued until the I/O thread gets to write them are written with a
+ * single write. Received messages are handed over to the
+ * {@link TextMessageHandler} in batches of all messages that arrived with a
+ * single read.
+ * </p>
+ * <p>
+ * The wire format is the same as the one of the blocking connections used
+ * by the {@link TextServer}, i.e. each message is preceded by its length as
+ * a varint.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TextMessageConnection {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(TextMessageConnection.class);
+
+    /** Initial size of the read buffer. */
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    /** Maximal accepted length of a single message. */
+    private static final int MAX_MESSAGE_LENGTH = 4 * 1024 * 1024;
+
+    /** Maximal number of bytes in a varint encoded 32 bit integer. */
+    private static final int MAX_VARINT_LENGTH = 5;
+
+    /** The underlying channel. */
+    private final SocketChannel channel;
+
+    /** The handler for received messages. */
+    private final TextMessageHandler handler;
+
+    /** The selector of the I/O thread. */
+    private final Selector selector;
+
+    /** Messages that are waiting to be written. */
+    private final Queue<TextMessage> queue;
+
+    /** Set if the I/O thread has been asked to write queued messages. */
+    private final AtomicBoolean writeRequested;
+
+    /** The address of the remote peer. */
+    private final InetSocketAddress remote;
+
+    /** The I/O thread. */
+    private final Thread thread;
+
+    /** Buffer for received bytes. */
+    private ByteBuffer readBuffer;
+
+    /** Encoded messages that could not be written completely, yet. */
+    private ByteBuffer writeBuffer;
+
+    /** The selection key of the channel. */
+    private SelectionKey key;
+
+    /** <code>true</code> if the connection has been closed. */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new object. The connection starts reading after
+     * {@link #start()} is called.
+     * @param socketChannel the connected channel
+     * @param messageHandler handler for received messages
+     * @throws IOException
+     *          error configuring the channel
+     */
+    public TextMessageConnection(final SocketChannel socketChannel,
+            final TextMessageHandler messageHandler) throws IOException {
+        channel = socketChannel;
+        handler = messageHandler;
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        remote = (InetSocketAddress) channel.getRemoteAddress();
+        selector = Selector.open();
+        queue = new ConcurrentLinkedQueue<TextMessage>();
+        writeRequested = new AtomicBoolean();
+        readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                loop();
+            }
+        }, "TextMessageConnection " + remote);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Opens a connection to the given address.
+     * @param address the address to connect to
+     * @param timeout maximal number of milliseconds to wait for the connect
+     * @param messageHandler handler for received messages
+     * @return started connection
+     * @throws IOException
+     *          error connecting
+     */
+    public static TextMessageConnection connect(
+            final InetSocketAddress address, final int timeout,
+            final TextMessageHandler messageHandler) throws IOException {
+        final SocketChannel socketChannel = SocketChannel.open();
+        try {
+            socketChannel.socket().connect(address, timeout);
+            final TextMessageConnection connection =
+                    new TextMessageConnection(socketChannel, messageHandler);
+            connection.start();
+            return connection;
+        } catch (IOException e) {
+            socketChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the I/O thread.
+     * @throws IOException
+     *          error registering the channel
+     */
+    public void start() throws IOException {
+        key = channel.register(selector, SelectionKey.OP_READ);
+        thread.start();
+    }
+
+    /**
+     * Retrieves the address of the remote peer.
+     * @return address of the remote peer
+     */
+    public InetSocketAddress getRemoteAddress() {
+        return remote;
+    }
+
+    /**
+     * Checks if this connection is open.
+     * @return <code>true</code> if the connection is open
+     */
+    public boolean isOpen() {
+        return !closed && channel.isOpen();
+    }
+
+    /**
+     * Queues the given message to be sent. This method may be called from
+     * any thread.
+     * @param message the message to send
+     * @throws IOException
+     *          if the connection is closed
+     */
+    public void send(final TextMessage message) throws IOException {
+        if (!isOpen()) {
+            throw new IOException("connection to " + remote + " is closed");
+        }
+        queue.add(message);
+        if (Thread.currentThread() == thread) {
+            // Written after the current handler returns
+            return;
+        }
+        if (writeRequested.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * The I/O loop.
+     */
+    private void loop() {
+        try {
+            while (!closed) {
+                selector.select();
+                if (!key.isValid()) {
+                    break;
+                }
+                final boolean selected = selector.selectedKeys().remove(key);
+                if (selected && key.isReadable()) {
+                    read();
+                }
+                writeRequested.set(false);
+                write();
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                LOGGER.warn("error on connection to " + remote + ": "
+                        + e.getMessage());
+            }
+        } finally {
+            close();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                LOGGER.warn("error closing selector", e);
+            }
+        }
+    }
+
+    /**
+     * Reads all available messages and passes them to the handler.
+     * @throws IOException
+     *          error reading
+     */
+    private void read() throws IOException {
+        final int num = channel.read(readBuffer);
+        if (num < 0) {
+            throw new IOException("connection closed by peer");
+        }
+        readBuffer.flip();
+        final List<TextMessage> messages =
+                new java.util.ArrayList<TextMessage>();
+        decode(readBuffer, messages);
+        readBuffer.compact();
+        if (messages.isEmpty()) {
+            return;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("read " + messages.size() + " message(s) from "
+                    + remote);
+        }
+        handler.messagesReceived(this, messages);
+    }
+
+    /**
+     * Decodes all complete messages in the given buffer. The position of the
+     * buffer is moved to the start of the first incomplete message. If the
+     * buffer is too small to hold the next message, a larger buffer is
+     * allocated.
+     * @param buffer the buffer to decode, ready to be read
+     * @param messages decoded messages
+     * @throws IOException
+     *          malformed data
+     */
+    private void decode(final ByteBuffer buffer,
+            final List<TextMessage> messages) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int start = buffer.position();
+            int length = 0;
+            int shift = 0;
+            int pos = start;
+            boolean complete = false;
+            while (pos < buffer.limit() && !complete) {
+                final byte b = buffer.get(pos++);
+                length |= (b & 0x7F) << shift;
+                complete = (b & 0x80) == 0;
+                shift += 7;
+                if (!complete && pos - start >= MAX_VARINT_LENGTH) {
+                    throw new IOException("malformed message length");
+                }
+            }
+            if (!complete) {
+                return;
+            }
+            if (length < 0 || length > MAX_MESSAGE_LENGTH) {
+                throw new IOException("invalid message length " + length);
+            }
+            if (buffer.limit() - pos < length) {
+                ensureCapacity(pos - start + length);
+                return;
+            }
+            final CodedInputStream input = CodedInputStream.newInstance(
+                    buffer.array(), buffer.arrayOffset() + pos, length);
+            messages.add(TextMessage.parseFrom(input));
+            buffer.position(pos + length);
+        }
+    }
+
+    /**
+     * Makes sure that the read buffer is able to hold the given number of
+     * bytes.
+     * @param size number of bytes
+     */
+    private void ensureCapacity(final int size) {
+        if (readBuffer.capacity() >= size) {
+            return;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        // The read buffer is in read mode when this is called
+        buffer.put(readBuffer);
+        buffer.flip();
+        readBuffer = buffer;
+    }
+
+    /**
+     * Writes all queued messages with a single write.
+     * @throws IOException
+     *          error writing
+     */
+    private void write() throws IOException {
+        if (writeBuffer == null || !writeBuffer.hasRemaining()) {
+            writeBuffer = encodeQueued();
+            if (writeBuffer == null) {
+                return;
+            }
+        }
+        channel.write(writeBuffer);
+        if (writeBuffer.hasRemaining()) {
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        } else {
+            writeBuffer = null;
+            key.interestOps(SelectionKey.OP_READ);
+            if (!queue.isEmpty()) {
+                selector.wakeup();
+            }
+        }
+    }
+
+    /**
+     * Encodes all queued messages.
+     * @return encoded messages, <code>null</code> if there are no queued
+     *          messages
+     * @throws IOException
+     *          error encoding
+     */
+    private ByteBuffer encodeQueued() throws IOException {
+        TextMessage message = queue.poll();
+        if (message == null) {
+            return null;
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int count = 0;
+        while (message != null) {
+            message.writeDelimitedTo(out);
+            ++count;
+            message = queue.poll();
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("writing " + count + " message(s) to " + remote);
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    /**
+     * Closes this connection. Queued messages are discarded.
+     */
+    public void close() {
+        synchronized (queue) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        queue.clear();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warn("error closing connection to " + remote, e);
+        }
+        selector.wakeup();
+        handler.connectionClosed(this);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.client.text;
+
+import java.util.List;
+
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage;
+
+/**
+ * Handler for messages received via a {@link TextMessageConnection}.
+ * <p>
+ * All methods are called from the I/O thread of the connection and should
+ * return quickly. Messages that are sent while handling received messages
+ * are written together with a single write once the handler returns.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface TextMessageHandler {
+    /**
+     * Notification that messages have been received.
+     * @param connection the connection that received the messages
+     * @param messages all messages received with a single read in the order
+     *          of their arrival
+     */
+    void messagesReceived(final TextMessageConnection connection,
+            final List<TextMessage> messages);
+
+    /**
+     * Notification that the connection has been closed.
+     * @param connection the closed connection
+     */
+    void connectionClosed(final TextMessageConnection connection);
+}
@@ -44,6 +44,14 @@
  * server.sendInput("this is my input");
  * </code>
  * </p>
+ * <p>
+ * Clients that run many sessions at once, e.g. chat deployments or load
+ * tests, may use the
+ * {@link org.jvoicexml.client.text.MultiplexedTextServer} instead. It
+ * creates a {@link org.jvoicexml.ConnectionInformation} per session and
+ * JVoiceXML multiplexes all sessions over a single non-blocking
+ * connection.
+ * </p>
  * @since 0.6
  */
 
@@ -0,0 +1,152 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.client.text;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage.TextMessageType;
+
+/**
+ * Test cases for {@link TextMessageConnection}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestTextMessageConnection implements TextMessageHandler {
+    /** Port number to use. */
+    private static final int PORT = 4246;
+
+    /** The server socket. */
+    private ServerSocketChannel server;
+
+    /** The sending side. */
+    private TextMessageConnection sender;
+
+    /** The receiving side. */
+    private TextMessageConnection receiver;
+
+    /** Received messages. */
+    private BlockingQueue<TextMessage> received;
+
+    /**
+     * Set up the test environment.
+     * @throws Exception
+     *          set up failed
+     */
+    @Before
+    public void setUp() throws Exception {
+        received = new LinkedBlockingQueue<TextMessage>();
+        final InetSocketAddress address =
+                new InetSocketAddress(InetAddress.getLocalHost(), PORT);
+        server = ServerSocketChannel.open();
+        server.socket().setReuseAddress(true);
+        server.socket().bind(address);
+        sender = TextMessageConnection.connect(address, 1000, this);
+        final SocketChannel channel = server.accept();
+        receiver = new TextMessageConnection(channel, this);
+        receiver.start();
+    }
+
+    /**
+     * Tear down the test environment.
+     * @throws Exception
+     *          tear down failed
+     */
+    @After
+    public void tearDown() throws Exception {
+        sender.close();
+        receiver.close();
+        server.close();
+    }
+
+    /**
+     * Test method for {@link TextMessageConnection#send(TextMessage)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testSend() throws Exception {
+        final int count = 500;
+        for (int i = 0; i < count; i++) {
+            final TextMessage message = TextMessage.newBuilder()
+                    .setType(TextMessageType.SSML).setSequenceNumber(i)
+                    .setData("message " + i).setSessionId("session")
+                    .build();
+            sender.send(message);
+        }
+        for (int i = 0; i < count; i++) {
+            final TextMessage message = received.poll(5, TimeUnit.SECONDS);
+            Assert.assertNotNull(message);
+            Assert.assertEquals(i, message.getSequenceNumber());
+            Assert.assertEquals("session", message.getSessionId());
+        }
+    }
+
+    /**
+     * Test method for {@link TextMessageConnection#send(TextMessage)} with
+     * a message that is larger than the read buffer.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testSendLarge() throws Exception {
+        final StringBuilder str = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            str.append("large ");
+        }
+        final TextMessage message = TextMessage.newBuilder()
+                .setType(TextMessageType.SSML).setSequenceNumber(1)
+                .setData(str.toString()).build();
+        sender.send(message);
+        final TextMessage other = received.poll(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(other);
+        Assert.assertEquals(message.getData(), other.getData());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void messagesReceived(final TextMessageConnection connection,
+            final List<TextMessage> messages) {
+        received.addAll(messages);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void connectionClosed(final TextMessageConnection connection) {
+    }
+}
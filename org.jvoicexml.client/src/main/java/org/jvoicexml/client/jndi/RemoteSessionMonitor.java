@@ -0,0 +1,99 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.client.jndi;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+
+/**
+ * Remote access to the status of all sessions that are created via JNDI.
+ *
+ * <p>
+ * In contrast to the {@link RemoteSession}, that requires a remote call for
+ * each query of a single session, clients register a
+ * {@link RemoteSessionStatusListener} once and receive all status changes.
+ * Commands and queries are accepted for many sessions at once.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface RemoteSessionMonitor extends Remote {
+    /**
+     * Adds the given listener to receive status changes of all sessions.
+     * 
+     * @param listener
+     *            the listener to add
+     * @exception RemoteException
+     *                Error in remote method call.
+     */
+    void addSessionStatusListener(RemoteSessionStatusListener listener)
+            throws RemoteException;
+
+    /**
+     * Removes the given listener.
+     * 
+     * @param listener
+     *            the listener to remove
+     * @exception RemoteException
+     *                Error in remote method call.
+     */
+    void removeSessionStatusListener(RemoteSessionStatusListener listener)
+            throws RemoteException;
+
+    /**
+     * Checks if the given listener is registered. Listeners that cannot be
+     * reached or do not keep up with the status changes are removed by the
+     * monitor and have to register again.
+     * 
+     * @param listener
+     *            the listener to check
+     * @return <code>true</code> if the listener receives status changes
+     * @exception RemoteException
+     *                Error in remote method call.
+     */
+    boolean isSessionStatusListener(RemoteSessionStatusListener listener)
+            throws RemoteException;
+
+    /**
+     * Retrieves the current status of the given sessions. Sessions that are
+     * not known are reported as ended.
+     * 
+     * @param sessionIds
+     *            ids of the sessions
+     * @return status of the sessions in the same order
+     * @exception RemoteException
+     *                Error in remote method call.
+     */
+    SessionStatus[] getStatus(String[] sessionIds) throws RemoteException;
+
+    /**
+     * Closes the given sessions.
+     * 
+     * @param sessionIds
+     *            ids of the sessions
+     * @exception RemoteException
+     *                Error in remote method call.
+     */
+    void hangup(String[] sessionIds) throws RemoteException;
+}
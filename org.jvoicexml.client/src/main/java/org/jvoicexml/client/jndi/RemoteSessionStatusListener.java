@@ -0,0 +1,51 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.client.jndi;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+
+/**
+ * Callback of a client to receive status changes of the sessions of a
+ * remote JVoiceXML.
+ *
+ * <p>
+ * Status changes are delivered in the order they happened. All changes that
+ * happened since the last delivery are delivered in a single remote call.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ * @see RemoteSessionMonitor
+ */
+public interface RemoteSessionStatusListener extends Remote {
+    /**
+     * Notification about status changes of sessions.
+     * 
+     * @param status
+     *            the changed status in the order of their change
+     * @exception RemoteException
+     *                Error in remote method call.
+     */
+    void statusChanged(SessionStatus[] status) throws RemoteException;
+}
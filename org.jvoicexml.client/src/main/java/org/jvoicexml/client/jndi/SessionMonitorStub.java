@@ -0,0 +1,466 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.client.jndi;
+
+import java.rmi.NoSuchObjectException;
+import java.rmi.RemoteException;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+
+import org.jvoicexml.Session;
+import org.jvoicexml.SessionIdentifier;
+import org.jvoicexml.SessionListener;
+
+/**
+ * Client side access to the {@link RemoteSessionMonitor} of a remote
+ * JVoiceXML.
+ *
+ * <p>
+ * Once connected, this stub receives all status changes of the remote
+ * sessions over a single exported callback. Status queries of a
+ * {@link SessionStub} that uses this monitor are answered locally, so
+ * that clients need not poll the remote sessions.
+ * </p>
+ *
+ * <p>
+ * The remote monitor drops listeners that cannot be reached. Hence, the
+ * cached status is only trusted if the registration has been confirmed
+ * within the heartbeat interval, either by a received status change or by
+ * asking the remote monitor. If the registration got lost, this stub
+ * registers again and refreshes the status of all sessions that have not
+ * ended.
+ * </p>
+ *
+ * <p>
+ * This class is thread safe. Status changes are delivered by RMI threads.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ * @see SessionStub#setSessionMonitor(SessionMonitorStub)
+ */
+public final class SessionMonitorStub implements RemoteSessionStatusListener {
+    /** Maximal number of cached session status. */
+    private static final int MAX_STATUS = 8192;
+
+    /** Default number of msecs until the registration is checked again. */
+    private static final long DEFAULT_HEARTBEAT_INTERVAL = 1000;
+
+    /** The JNDI context. */
+    private final Context context;
+
+    /** The remote monitor, <code>null</code> if not connected. */
+    private RemoteSessionMonitor monitor;
+
+    /** Last known status by session id in access order. */
+    private final Map<String, SessionStatus> status;
+
+    /** Sessions with registered listeners by their id. */
+    private final Map<String, Session> sessions;
+
+    /** Registered listeners by session id. */
+    private final Map<String, Collection<SessionListener>> listeners;
+
+    /** Lock to check the registration at the remote monitor. */
+    private final Object heartbeatLock;
+
+    /** Number of msecs until the registration is checked again. */
+    private long heartbeatInterval;
+
+    /** Time of the last confirmed registration in nano seconds. */
+    private volatile long confirmed;
+
+    /** <code>true</code> if the remote monitor could not be reached. */
+    private volatile boolean lost;
+
+    /**
+     * Constructs a new object.
+     * @param ctx the JNDI context to use
+     */
+    public SessionMonitorStub(final Context ctx) {
+        context = ctx;
+        status = new java.util.LinkedHashMap<String, SessionStatus>(
+                16, 0.75f, true) {
+            /** The serial version UID. */
+            private static final long serialVersionUID =
+                    -2462413990426911546L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, SessionStatus> eldest) {
+                return size() > MAX_STATUS;
+            }
+        };
+        sessions = new java.util.concurrent.ConcurrentHashMap<String,
+                Session>();
+        listeners = new java.util.concurrent.ConcurrentHashMap<String,
+                Collection<SessionListener>>();
+        heartbeatLock = new Object();
+        heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+    }
+
+    /**
+     * Sets the interval to check the registration at the remote monitor.
+     * @param msec number of msecs
+     */
+    public void setHeartbeatInterval(final long msec) {
+        synchronized (heartbeatLock) {
+            heartbeatInterval = msec;
+        }
+    }
+
+    /**
+     * Looks up the remote monitor and registers for status changes.
+     * Calling this method on a connected monitor has no effect.
+     * @exception RemoteException
+     *          error registering at the remote monitor
+     * @exception NamingException
+     *          error looking up the remote monitor
+     */
+    public synchronized void connect()
+            throws RemoteException, NamingException {
+        if (monitor != null) {
+            return;
+        }
+        final Object remote =
+                context.lookup(RemoteSessionMonitor.class.getSimpleName());
+        final RemoteSessionMonitor remoteMonitor =
+                (RemoteSessionMonitor) remote;
+        UnicastRemoteObject.exportObject(this, 0);
+        try {
+            remoteMonitor.addSessionStatusListener(this);
+        } catch (RemoteException e) {
+            UnicastRemoteObject.unexportObject(this, true);
+            throw e;
+        }
+        monitor = remoteMonitor;
+        lost = false;
+        confirmed = System.nanoTime();
+    }
+
+    /**
+     * Unregisters from the remote monitor. Threads that wait for the end of
+     * a session are released.
+     */
+    public void close() {
+        final RemoteSessionMonitor remoteMonitor;
+        synchronized (this) {
+            remoteMonitor = monitor;
+            monitor = null;
+        }
+        if (remoteMonitor == null) {
+            return;
+        }
+        try {
+            remoteMonitor.removeSessionStatusListener(this);
+        } catch (RemoteException e) {
+            e.printStackTrace();
+        } finally {
+            try {
+                UnicastRemoteObject.unexportObject(this, true);
+            } catch (NoSuchObjectException e) {
+                e.printStackTrace();
+            }
+            synchronized (status) {
+                status.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Checks if this monitor is connected. A monitor is no longer
+     * considered connected if the last check of the registration at the
+     * remote monitor failed.
+     * @return <code>true</code> if this monitor is connected
+     */
+    public synchronized boolean isConnected() {
+        return monitor != null && !lost;
+    }
+
+    /**
+     * Checks the registration at the remote monitor, if it has not been
+     * confirmed within the heartbeat interval. A lost registration is
+     * renewed and the status of all sessions that have not ended is
+     * refreshed, since status changes may have been missed.
+     * @exception RemoteException
+     *          error calling the remote monitor
+     */
+    private void checkRegistration() throws RemoteException {
+        synchronized (heartbeatLock) {
+            final long elapsed = System.nanoTime() - confirmed;
+            if (elapsed < TimeUnit.MILLISECONDS.toNanos(heartbeatInterval)) {
+                return;
+            }
+            final RemoteSessionMonitor remoteMonitor = getMonitor();
+            try {
+                if (!remoteMonitor.isSessionStatusListener(this)) {
+                    remoteMonitor.addSessionStatusListener(this);
+                    refresh(remoteMonitor);
+                }
+            } catch (RemoteException e) {
+                lost = true;
+                throw e;
+            }
+            lost = false;
+            confirmed = System.nanoTime();
+        }
+    }
+
+    /**
+     * Queries the status of all known sessions that have not ended.
+     * @param remoteMonitor the remote monitor
+     * @exception RemoteException
+     *          error querying the remote monitor
+     */
+    private void refresh(final RemoteSessionMonitor remoteMonitor)
+            throws RemoteException {
+        final Collection<String> running = new java.util.ArrayList<String>();
+        synchronized (status) {
+            for (SessionStatus current : status.values()) {
+                if (!current.hasEnded()) {
+                    running.add(current.getSessionId());
+                }
+            }
+        }
+        if (running.isEmpty()) {
+            return;
+        }
+        final String[] ids = running.toArray(new String[running.size()]);
+        statusChanged(remoteMonitor.getStatus(ids));
+    }
+
+    /**
+     * Retrieves the remote monitor.
+     * @return the remote monitor
+     * @exception RemoteException
+     *          if this monitor is not connected
+     */
+    private synchronized RemoteSessionMonitor getMonitor()
+            throws RemoteException {
+        if (monitor == null) {
+            throw new RemoteException("session monitor is not connected");
+        }
+        return monitor;
+    }
+
+    /**
+     * Retrieves the status of the given session. The remote monitor is only
+     * queried if no status change of this session has been received so far
+     * or if the registration has to be checked.
+     * @param id id of the session
+     * @return status of the session
+     * @exception RemoteException
+     *          error querying the remote monitor
+     */
+    public SessionStatus getStatus(final SessionIdentifier id)
+            throws RemoteException {
+        final String sessionId = id.getId();
+        checkRegistration();
+        synchronized (status) {
+            final SessionStatus current = status.get(sessionId);
+            if (current != null) {
+                return current;
+            }
+        }
+        final String[] ids = new String[] {sessionId};
+        final SessionStatus[] remote = getMonitor().getStatus(ids);
+        return update(remote[0]);
+    }
+
+    /**
+     * Retrieves the current status of the given sessions with a single
+     * remote call.
+     * @param ids ids of the sessions
+     * @return status of the sessions in the same order
+     * @exception RemoteException
+     *          error querying the remote monitor
+     */
+    public List<SessionStatus> getStatus(
+            final Collection<SessionIdentifier> ids) throws RemoteException {
+        final String[] sessionIds = toArray(ids);
+        final SessionStatus[] remote = getMonitor().getStatus(sessionIds);
+        final List<SessionStatus> result =
+                new java.util.ArrayList<SessionStatus>(remote.length);
+        for (SessionStatus current : remote) {
+            result.add(update(current));
+        }
+        return result;
+    }
+
+    /**
+     * Closes the given sessions with a single remote call.
+     * @param ids ids of the sessions
+     * @exception RemoteException
+     *          error calling the remote monitor
+     */
+    public void hangup(final Collection<SessionIdentifier> ids)
+            throws RemoteException {
+        final String[] sessionIds = toArray(ids);
+        getMonitor().hangup(sessionIds);
+    }
+
+    /**
+     * Delays until the given session ends. The registration at the remote
+     * monitor is checked in the heartbeat interval while waiting.
+     * @param id id of the session
+     * @return final status of the session
+     * @exception RemoteException
+     *          error querying the remote monitor or the monitor has been
+     *          closed
+     * @exception InterruptedException
+     *          interrupted while waiting
+     */
+    public SessionStatus waitSessionEnd(final SessionIdentifier id)
+            throws RemoteException, InterruptedException {
+        final String sessionId = id.getId();
+        while (true) {
+            getMonitor();
+            checkRegistration();
+            final long interval;
+            synchronized (heartbeatLock) {
+                interval = heartbeatInterval;
+            }
+            synchronized (status) {
+                final SessionStatus current = status.get(sessionId);
+                if (current != null) {
+                    if (current.hasEnded()) {
+                        return current;
+                    }
+                    status.wait(Math.max(1, interval));
+                    continue;
+                }
+            }
+            getStatus(id);
+        }
+    }
+
+    /**
+     * Adds a listener for the given session.
+     * @param session the session
+     * @param listener the listener to add
+     */
+    public void addSessionListener(final Session session,
+            final SessionListener listener) {
+        final String sessionId = session.getSessionId().getId();
+        sessions.putIfAbsent(sessionId, session);
+        Collection<SessionListener> current = listeners.get(sessionId);
+        if (current == null) {
+            final Collection<SessionListener> created =
+                    new java.util.concurrent.CopyOnWriteArrayList<
+                        SessionListener>();
+            current = listeners.putIfAbsent(sessionId, created);
+            if (current == null) {
+                current = created;
+            }
+        }
+        current.add(listener);
+    }
+
+    /**
+     * Removes a listener for the given session.
+     * @param session the session
+     * @param listener the listener to remove
+     */
+    public void removeSessionListener(final Session session,
+            final SessionListener listener) {
+        final String sessionId = session.getSessionId().getId();
+        final Collection<SessionListener> current = listeners.get(sessionId);
+        if (current != null) {
+            current.remove(listener);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void statusChanged(final SessionStatus[] changes) {
+        confirmed = System.nanoTime();
+        for (SessionStatus change : changes) {
+            if (update(change) != change) {
+                continue;
+            }
+            final String sessionId = change.getSessionId();
+            final Session session;
+            final Collection<SessionListener> current;
+            if (change.hasEnded()) {
+                session = sessions.remove(sessionId);
+                current = listeners.remove(sessionId);
+            } else {
+                session = sessions.get(sessionId);
+                current = listeners.get(sessionId);
+            }
+            if (current == null
+                    || change.getState() == SessionStatus.State.CREATED) {
+                continue;
+            }
+            for (SessionListener listener : current) {
+                if (change.hasEnded()) {
+                    listener.sessionEnded(session);
+                } else {
+                    listener.sessionStarted(session);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the given status unless a later status of the same session is
+     * already known. A session never returns to an earlier state.
+     * @param change the new status
+     * @return the now known status of the session
+     */
+    private SessionStatus update(final SessionStatus change) {
+        final String sessionId = change.getSessionId();
+        synchronized (status) {
+            final SessionStatus current = status.get(sessionId);
+            if (current != null && current.getState().ordinal()
+                    >= change.getState().ordinal()) {
+                return current;
+            }
+            status.put(sessionId, change);
+            status.notifyAll();
+            return change;
+        }
+    }
+
+    /**
+     * Converts the given session identifiers into their ids.
+     * @param ids the session identifiers
+     * @return the ids
+     */
+    private static String[] toArray(final Collection<SessionIdentifier> ids) {
+        final String[] sessionIds = new String[ids.size()];
+        int i = 0;
+        for (SessionIdentifier id : ids) {
+            sessionIds[i++] = id.getId();
+        }
+        return sessionIds;
+    }
+}
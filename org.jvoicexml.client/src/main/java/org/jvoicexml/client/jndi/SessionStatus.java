@@ -0,0 +1,124 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.client.jndi;
+
+import java.io.Serializable;
+
+import org.jvoicexml.event.ErrorEvent;
+
+/**
+ * Status of a session that is hosted by a remote JVoiceXML. Status
+ * changes are pushed to a {@link RemoteSessionStatusListener} and may be
+ * queried for many sessions at once via the {@link RemoteSessionMonitor}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class SessionStatus implements Serializable {
+    /** The serial version UID. */
+    private static final long serialVersionUID = -5817760145260377373L;
+
+    /** States of a session. */
+    public enum State {
+        /** The session has been created but the call has not started. */
+        CREATED,
+        /** The application is being processed. */
+        RUNNING,
+        /** The session has ended. */
+        ENDED
+    }
+
+    /** The id of the session. */
+    private final String sessionId;
+
+    /** The state of the session. */
+    private final State state;
+
+    /** An error that happened during call processing. */
+    private final ErrorEvent lastError;
+
+    /**
+     * Constructs a new object.
+     * @param id the id of the session
+     * @param sessionState the state of the session
+     * @param error an error that happened during call processing, maybe
+     *          <code>null</code>
+     */
+    public SessionStatus(final String id, final State sessionState,
+            final ErrorEvent error) {
+        sessionId = id;
+        state = sessionState;
+        lastError = error;
+    }
+
+    /**
+     * Retrieves the id of the session.
+     * @return the id of the session
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Retrieves the state of the session.
+     * @return the state of the session
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Checks if the session has ended.
+     * @return <code>true</code> if the session has ended
+     */
+    public boolean hasEnded() {
+        return state == State.ENDED;
+    }
+
+    /**
+     * Retrieves an error, if any, that happened during call processing.
+     * @return the error, <code>null</code> if there was no error
+     */
+    public ErrorEvent getLastError() {
+        return lastError;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder str = new StringBuilder();
+        str.append(getClass().getSimpleName());
+        str.append('[');
+        str.append(sessionId);
+        str.append(',');
+        str.append(state);
+        if (lastError != null) {
+            str.append(',');
+            str.append(lastError.getEventType());
+        }
+        str.append(']');
+        return str.toString();
+    }
+}
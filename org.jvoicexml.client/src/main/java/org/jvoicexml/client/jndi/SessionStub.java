@@ -53,6 +53,8 @@ public final class SessionStub
     private static final long serialVersionUID = -3205385620722771514L;
     /** The session ID. */
     private SessionIdentifier sessionIdentifier;
+    /** The monitor to answer status queries, maybe <code>null</code>. */
+    private transient SessionMonitorStub monitor;
 
     /**
      * Constructs a new object.
@@ -77,6 +79,17 @@ public final class SessionStub
         sessionIdentifier = id;
     }
 
+    /**
+     * Sets the monitor to answer status queries of this session and to
+     * notify session listeners. Without a monitor, each query is a
+     * separate remote call to this session.
+     * @param sessionMonitor the connected monitor
+     * @since 0.7.9
+     */
+    public void setSessionMonitor(final SessionMonitorStub sessionMonitor) {
+        monitor = sessionMonitor;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -182,6 +195,21 @@ public final class SessionStub
     @Override
     public void waitSessionEnd()
             throws ErrorEvent {
+        if (monitor != null) {
+            try {
+                monitor.waitSessionEnd(sessionIdentifier);
+            } catch (RemoteException e) {
+                final ErrorEvent event = getErrorEvent(e);
+                if (event == null) {
+                    e.printStackTrace();
+                } else {
+                    throw event;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
         try {
             final RemoteSession session = getSkeleton(sessionIdentifier.getId());
             session.waitSessionEnd();
@@ -202,6 +230,14 @@ public final class SessionStub
      */
     @Override
     public boolean hasEnded() {
+        if (monitor != null) {
+            try {
+                return monitor.getStatus(sessionIdentifier).hasEnded();
+            } catch (RemoteException e) {
+                e.printStackTrace();
+                return true;
+            }
+        }
         try {
             final RemoteSession session = getSkeleton(sessionIdentifier.getId());
             return session.hasEnded();
@@ -226,6 +262,14 @@ public final class SessionStub
      */
     @Override
     public ErrorEvent getLastError() {
+        if (monitor != null) {
+            try {
+                return monitor.getStatus(sessionIdentifier).getLastError();
+            } catch (RemoteException e) {
+                e.printStackTrace();
+                return null;
+            }
+        }
         try {
             final RemoteSession session = getSkeleton(sessionIdentifier.getId());
             return session.getLastError();
@@ -240,7 +284,11 @@ public final class SessionStub
      */
     @Override
     public void addSessionListener(final SessionListener listener) {
-        throw new UnsupportedOperationException("Not implemented!");
+        if (monitor == null) {
+            throw new UnsupportedOperationException(
+                    "Not implemented without a session monitor!");
+        }
+        monitor.addSessionListener(this, listener);
     }
 
     /**
@@ -248,6 +296,10 @@ public final class SessionStub
      */
     @Override
     public void removeSessionListener(final SessionListener listener) {
-        throw new UnsupportedOperationException("Not implemented!");
+        if (monitor == null) {
+            throw new UnsupportedOperationException(
+                    "Not implemented without a session monitor!");
+        }
+        monitor.removeSessionListener(this, listener);
     }
 }
@@ -0,0 +1,274 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.client.jndi;
+
+import java.rmi.RemoteException;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.naming.Context;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvoicexml.SessionIdentifier;
+import org.jvoicexml.SessionListener;
+import org.jvoicexml.UuidSessionIdentifier;
+import org.jvoicexml.event.ErrorEvent;
+import org.jvoicexml.event.error.BadFetchError;
+import org.mockito.Mockito;
+
+/**
+ * Test cases for {@link SessionMonitorStub}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class SessionMonitorStubTest {
+    /** The remote monitor. */
+    private RemoteSessionMonitor remote;
+
+    /** The test object. */
+    private SessionMonitorStub monitor;
+
+    /**
+     * Set up the test environment.
+     * @throws Exception
+     *         set up failed
+     */
+    @Before
+    public void setUp() throws Exception {
+        remote = Mockito.mock(RemoteSessionMonitor.class);
+        final Context context = Mockito.mock(Context.class);
+        Mockito.when(context.lookup(
+                RemoteSessionMonitor.class.getSimpleName()))
+                .thenReturn(remote);
+        monitor = new SessionMonitorStub(context);
+        monitor.connect();
+    }
+
+    /**
+     * Tear down the test environment.
+     */
+    @After
+    public void tearDown() {
+        monitor.close();
+    }
+
+    /**
+     * Creates a status.
+     * @param id the session
+     * @param state the state
+     * @param error the error
+     * @return created status
+     */
+    private static SessionStatus status(final SessionIdentifier id,
+            final SessionStatus.State state, final ErrorEvent error) {
+        return new SessionStatus(id.getId(), state, error);
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#connect()}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testConnect() throws Exception {
+        Assert.assertTrue(monitor.isConnected());
+        Mockito.verify(remote).addSessionStatusListener(monitor);
+        monitor.close();
+        Assert.assertFalse(monitor.isConnected());
+        Mockito.verify(remote).removeSessionStatusListener(monitor);
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#getStatus(SessionIdentifier)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testGetStatus() throws Exception {
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        Mockito.when(remote.getStatus(new String[] {id.getId()}))
+            .thenReturn(new SessionStatus[] {
+                    status(id, SessionStatus.State.RUNNING, null)});
+        Assert.assertFalse(monitor.getStatus(id).hasEnded());
+        Assert.assertFalse(monitor.getStatus(id).hasEnded());
+        Mockito.verify(remote, Mockito.times(1)).getStatus(
+                Mockito.any(String[].class));
+
+        final ErrorEvent error = new BadFetchError("test");
+        monitor.statusChanged(new SessionStatus[] {
+                status(id, SessionStatus.State.ENDED, error)});
+        final SessionStatus status = monitor.getStatus(id);
+        Assert.assertTrue(status.hasEnded());
+        Assert.assertEquals(error, status.getLastError());
+        Mockito.verify(remote, Mockito.times(1)).getStatus(
+                Mockito.any(String[].class));
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#getStatus(java.util.Collection)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testGetStatusBatched() throws Exception {
+        final SessionIdentifier id1 = new UuidSessionIdentifier();
+        final SessionIdentifier id2 = new UuidSessionIdentifier();
+        monitor.statusChanged(new SessionStatus[] {
+                status(id1, SessionStatus.State.ENDED, null)});
+        Mockito.when(remote.getStatus(
+                new String[] {id1.getId(), id2.getId()}))
+            .thenReturn(new SessionStatus[] {
+                    status(id1, SessionStatus.State.RUNNING, null),
+                    status(id2, SessionStatus.State.CREATED, null)});
+        final List<SessionStatus> status =
+                monitor.getStatus(Arrays.asList(id1, id2));
+        Assert.assertEquals(SessionStatus.State.ENDED,
+                status.get(0).getState());
+        Assert.assertEquals(SessionStatus.State.CREATED,
+                status.get(1).getState());
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#waitSessionEnd(SessionIdentifier)}.
+     * @throws Exception test failed
+     */
+    @Test(timeout = 5000)
+    public void testWaitSessionEnd() throws Exception {
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        monitor.statusChanged(new SessionStatus[] {
+                status(id, SessionStatus.State.RUNNING, null)});
+        final Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                monitor.statusChanged(new SessionStatus[] {
+                        status(id, SessionStatus.State.ENDED, null)});
+            }
+        };
+        thread.start();
+        final SessionStatus status = monitor.waitSessionEnd(id);
+        Assert.assertTrue(status.hasEnded());
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#getStatus(SessionIdentifier)}
+     * after the remote monitor dropped the registration.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testGetStatusReregister() throws Exception {
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        monitor.statusChanged(new SessionStatus[] {
+                status(id, SessionStatus.State.RUNNING, null)});
+        Mockito.when(remote.getStatus(new String[] {id.getId()}))
+            .thenReturn(new SessionStatus[] {
+                    status(id, SessionStatus.State.ENDED, null)});
+        Mockito.when(remote.isSessionStatusListener(monitor))
+            .thenReturn(false);
+        monitor.setHeartbeatInterval(0);
+        Assert.assertTrue(monitor.getStatus(id).hasEnded());
+        Mockito.verify(remote, Mockito.times(2))
+            .addSessionStatusListener(monitor);
+        Assert.assertTrue(monitor.isConnected());
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#waitSessionEnd(SessionIdentifier)}
+     * if the end of the session is not pushed.
+     * @throws Exception test failed
+     */
+    @Test(timeout = 5000)
+    public void testWaitSessionEndReregister() throws Exception {
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        monitor.statusChanged(new SessionStatus[] {
+                status(id, SessionStatus.State.RUNNING, null)});
+        Mockito.when(remote.getStatus(new String[] {id.getId()}))
+            .thenReturn(new SessionStatus[] {
+                    status(id, SessionStatus.State.ENDED, null)});
+        Mockito.when(remote.isSessionStatusListener(monitor))
+            .thenReturn(false);
+        monitor.setHeartbeatInterval(100);
+        final SessionStatus status = monitor.waitSessionEnd(id);
+        Assert.assertTrue(status.hasEnded());
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#isConnected()} if the remote
+     * monitor cannot be reached.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testConnectionLost() throws Exception {
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        monitor.statusChanged(new SessionStatus[] {
+                status(id, SessionStatus.State.RUNNING, null)});
+        Mockito.when(remote.isSessionStatusListener(monitor))
+            .thenThrow(new RemoteException("test"));
+        monitor.setHeartbeatInterval(0);
+        try {
+            monitor.getStatus(id);
+            Assert.fail("expected a RemoteException");
+        } catch (RemoteException e) {
+            Assert.assertFalse(monitor.isConnected());
+        }
+    }
+
+    /**
+     * Test method for {@link SessionStub#addSessionListener(SessionListener)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testSessionListener() throws Exception {
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        final SessionStub session = new SessionStub(id);
+        session.setSessionMonitor(monitor);
+        final SessionListener listener = Mockito.mock(SessionListener.class);
+        session.addSessionListener(listener);
+        monitor.statusChanged(new SessionStatus[] {
+                status(id, SessionStatus.State.CREATED, null),
+                status(id, SessionStatus.State.RUNNING, null),
+                status(id, SessionStatus.State.ENDED, null),
+                status(id, SessionStatus.State.ENDED, null)});
+        Mockito.verify(listener, Mockito.times(1)).sessionStarted(session);
+        Mockito.verify(listener, Mockito.times(1)).sessionEnded(session);
+        Assert.assertTrue(session.hasEnded());
+        Assert.assertNull(session.getLastError());
+    }
+
+    /**
+     * Test method for {@link SessionMonitorStub#hangup(java.util.Collection)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testHangup() throws Exception {
+        final SessionIdentifier id1 = new UuidSessionIdentifier();
+        final SessionIdentifier id2 = new UuidSessionIdentifier();
+        monitor.hangup(Arrays.asList(id1, id2));
+        Mockito.verify(remote).hangup(
+                new String[] {id1.getId(), id2.getId()});
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.config;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description of a bean in a precompiled configuration.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class BeanDescription implements Serializable {
+    /** The serial version UID. */
+    private static final long serialVersionUID = -2816439117950232873L;
+
+    /** The id of the bean, maybe <code>null</code>. */
+    private final String id;
+
+    /** Name of the class of the bean. */
+    private final String className;
+
+    /** The constructor arguments. */
+    private final List<ValueDescription> constructorArguments;
+
+    /** The properties by their name in document order. */
+    private final Map<String, ValueDescription> properties;
+
+    /**
+     * Constructs a new object.
+     * @param beanId the id of the bean, maybe <code>null</code>
+     * @param name name of the class of the bean
+     */
+    BeanDescription(final String beanId, final String name) {
+        id = beanId;
+        className = name;
+        constructorArguments = new java.util.ArrayList<ValueDescription>();
+        properties = new java.util.LinkedHashMap<String, ValueDescription>();
+    }
+
+    /**
+     * Retrieves the id of the bean.
+     * @return the id, maybe <code>null</code>
+     */
+    String getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the name of the class of the bean.
+     * @return name of the class
+     */
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * Adds a constructor argument.
+     * @param value the argument
+     */
+    void addConstructorArgument(final ValueDescription value) {
+        constructorArguments.add(value);
+    }
+
+    /**
+     * Retrieves the constructor arguments.
+     * @return the constructor arguments
+     */
+    List<ValueDescription> getConstructorArguments() {
+        return constructorArguments;
+    }
+
+    /**
+     * Adds a property.
+     * @param name name of the property
+     * @param value value of the property
+     */
+    void addProperty(final String name, final ValueDescription value) {
+        properties.put(name, value);
+    }
+
+    /**
+     * Retrieves the properties.
+     * @return the properties by their name
+     */
+    Map<String, ValueDescription> getProperties() {
+        return properties;
+    }
+}
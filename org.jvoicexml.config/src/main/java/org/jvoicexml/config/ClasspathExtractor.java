@@ -23,7 +23,6 @@ package org.jvoicexml.config;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.util.Collection;
@@ -63,6 +62,27 @@ final class ClasspathExtractor implements ContentHandler {
         return entries.toArray(urls);
     }
 
+    /**
+     * Converts the given class path entry of a configuration file into a
+     * URL.
+     * @param entry the class path entry
+     * @return URL of the entry, <code>null</code> if it does not exist
+     * @throws IOException
+     *         if the entry cannot be resolved
+     * @since 0.7.9
+     */
+    static URL toClasspathEntry(final String entry) throws IOException {
+        final File file = new File(entry);
+        final File canonical = file.getCanonicalFile();
+        final URI fileUri = canonical.toURI();
+        final URL url = fileUri.toURL();
+        if (file.exists()) {
+            return url;
+        }
+        LOGGER.warn("'" + url + "' does not exist");
+        return null;
+    }
+
     /**
      * Retrieves the loader repository.
      * @return name of the loader repository, maybe <code>null</code>
@@ -103,17 +123,10 @@ final class ClasspathExtractor implements ContentHandler {
         if (localName.equals("classpath")) {
             final String entry = str.toString().trim();
             try {
-                final File file = new File(entry);
-                final File canonical = file.getCanonicalFile();
-                final URI fileUri = canonical.toURI();
-                final URL url = fileUri.toURL();
-                if (file.exists()) {
+                final URL url = toClasspathEntry(entry);
+                if (url != null) {
                     entries.add(url);
-                } else {
-                    LOGGER.warn("'" + url + "' does not exist");
                 }
-            } catch (MalformedURLException e) {
-                throw new SAXException(e.getMessage(), e);
             } catch (IOException e) {
                 throw new SAXException(e.getMessage(), e);
             }
@@ -0,0 +1,283 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.config;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Persistent cache of compiled configuration files.
+ * <p>
+ * Descriptions are stored by the canonical path of the configuration file
+ * and are only reused if the digest of the current contents matches. The
+ * cache listens to the {@link ConfigurationRepository} to drop
+ * descriptions of updated or removed files.
+ * </p>
+ * <p>
+ * Only the classes of the descriptions and types of the packages
+ * <code>java.lang</code> and <code>java.util</code> are accepted when
+ * loading the cache file.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class ConfigurationCache implements ConfigurationFileChangedListener {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(ConfigurationCache.class);
+
+    /** Classes of the descriptions that may be read from the cache file. */
+    private static final Collection<String> ALLOWED_CLASSES;
+
+    /** Packages whose classes may be read from the cache file. */
+    private static final Collection<String> ALLOWED_PACKAGES;
+
+    static {
+        ALLOWED_CLASSES = new java.util.HashSet<String>();
+        ALLOWED_CLASSES.add(ConfigurationDescription.class.getName());
+        ALLOWED_CLASSES.add(BeanDescription.class.getName());
+        ALLOWED_CLASSES.add(ValueDescription.class.getName());
+        ALLOWED_CLASSES.add(ValueDescription.Kind.class.getName());
+        ALLOWED_PACKAGES = new java.util.HashSet<String>();
+        ALLOWED_PACKAGES.add("java.lang");
+        ALLOWED_PACKAGES.add("java.util");
+    }
+
+    /** The file to persist the cache. */
+    private final File cacheFile;
+
+    /** Compiled descriptions by the canonical path of the files. */
+    private final Map<String, ConfigurationDescription> descriptions;
+
+    /** The compiler for new or updated files. */
+    private final ConfigurationCompiler compiler;
+
+    /** <code>true</code> if the cache has been modified since loading. */
+    private boolean modified;
+
+    /**
+     * Constructs a new object and loads the persisted descriptions.
+     * @param file the file to persist the cache
+     */
+    ConfigurationCache(final File file) {
+        cacheFile = file;
+        descriptions =
+                new java.util.HashMap<String, ConfigurationDescription>();
+        compiler = new ConfigurationCompiler();
+        if (cacheFile.exists()) {
+            load();
+        }
+    }
+
+    /**
+     * Loads the persisted descriptions. A corrupt or outdated cache file is
+     * ignored.
+     */
+    @SuppressWarnings("unchecked")
+    private void load() {
+        try (InputStream in = new FileInputStream(cacheFile);
+                ObjectInputStream objects = new CacheInputStream(in)) {
+            final Map<String, ConfigurationDescription> cached =
+                    (Map<String, ConfigurationDescription>)
+                        objects.readObject();
+            descriptions.putAll(cached);
+            LOGGER.info("loaded " + descriptions.size()
+                    + " precompiled configuration(s) from '" + cacheFile
+                    + "'");
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOGGER.warn("ignoring configuration cache '" + cacheFile + "': "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Persists the descriptions if they have been modified.
+     */
+    synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        final File parent = cacheFile.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOGGER.warn("unable to create '" + parent + "'");
+            return;
+        }
+        try (OutputStream out = new FileOutputStream(cacheFile);
+                ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(
+                    new java.util.HashMap<String, ConfigurationDescription>(
+                            descriptions));
+            modified = false;
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("saved " + descriptions.size()
+                        + " precompiled configuration(s) to '" + cacheFile
+                        + "'");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("unable to save configuration cache '" + cacheFile
+                    + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the description of the given configuration file. The file
+     * is compiled if there is no description for the given contents.
+     * @param file the configuration file
+     * @param content the current contents of the file
+     * @return the description
+     * @throws IOException
+     *         if the file cannot be compiled
+     */
+    synchronized ConfigurationDescription getDescription(final File file,
+            final byte[] content) throws IOException {
+        final String key = file.getCanonicalPath();
+        final String digest = ConfigurationCompiler.digest(content);
+        final ConfigurationDescription cached = descriptions.get(key);
+        if (cached != null && cached.getDigest().equals(digest)) {
+            return cached;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("compiling configuration '" + key + "'");
+        }
+        final ConfigurationDescription description = compiler.compile(content);
+        descriptions.put(key, description);
+        modified = true;
+        return description;
+    }
+
+    /**
+     * Marks the description of the given file as not loadable without
+     * spring, e.g. if the beans cannot be created via reflection.
+     * <p>
+     * The mark is not persisted, so that the precompiled beans are tried
+     * again after a restart.
+     * </p>
+     * @param description the description
+     */
+    synchronized void setUnsupported(
+            final ConfigurationDescription description) {
+        description.setFailed();
+    }
+
+    /**
+     * Removes the description of the given file.
+     * @param file the configuration file
+     */
+    private synchronized void invalidate(final File file) {
+        try {
+            if (descriptions.remove(file.getCanonicalPath()) != null) {
+                modified = true;
+            }
+        } catch (IOException e) {
+            LOGGER.warn(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fileAdded(final File file) {
+        // New files are compiled when they are loaded for the first time
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fileUpdated(final File file) {
+        invalidate(file);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fileRemoved(final File file) {
+        invalidate(file);
+    }
+
+    /**
+     * Object input stream that only resolves the classes that may be
+     * contained in a cache file.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class CacheInputStream extends ObjectInputStream {
+        /**
+         * Constructs a new object.
+         * @param in the stream to read from
+         * @throws IOException
+         *         error reading the stream header
+         */
+        CacheInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc)
+            throws IOException, ClassNotFoundException {
+            final String name = desc.getName();
+            final int index = name.lastIndexOf('.');
+            final String pkg;
+            if (index < 0) {
+                pkg = "";
+            } else {
+                pkg = name.substring(0, index);
+            }
+            if (!ALLOWED_CLASSES.contains(name)
+                    && !ALLOWED_PACKAGES.contains(pkg)) {
+                throw new InvalidClassException(name,
+                        "not allowed in a configuration cache");
+            }
+            return super.resolveClass(desc);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces)
+            throws IOException, ClassNotFoundException {
+            throw new InvalidClassException("proxy classes are not allowed"
+                    + " in a configuration cache");
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.ConfigurationException;
+import org.jvoicexml.xml.IgnoringEntityResolver;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Compiles a configuration file into a {@link ConfigurationDescription}.
+ * <p>
+ * Only the subset of the spring beans schema that is used by the JVoiceXML
+ * configuration files is supported: singleton beans with properties and
+ * constructor arguments whose values are texts, inner beans, references,
+ * lists, sets, maps and <code>null</code>. Files with other constructs are
+ * compiled into a description that is marked as not precompiled.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class ConfigurationCompiler {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(ConfigurationCompiler.class);
+
+    /** Namespace of the spring beans. */
+    private static final String BEANS_NAMESPACE =
+            "http://www.springframework.org/schema/beans";
+
+    /** Supported attributes of a bean besides the scope. */
+    private static final Collection<String> SUPPORTED_BEAN_ATTRIBUTES;
+
+    static {
+        SUPPORTED_BEAN_ATTRIBUTES = new java.util.ArrayList<String>();
+        SUPPORTED_BEAN_ATTRIBUTES.add("id");
+        SUPPORTED_BEAN_ATTRIBUTES.add("class");
+        SUPPORTED_BEAN_ATTRIBUTES.add("lazy-init");
+    }
+
+    /** The document builder factory. */
+    private final DocumentBuilderFactory factory;
+
+    /**
+     * Constructs a new object.
+     */
+    ConfigurationCompiler() {
+        factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setValidating(false);
+    }
+
+    /**
+     * Calculates the digest of the given contents of a configuration file.
+     * @param content contents of the configuration file
+     * @return the digest as a hex string
+     * @throws IOException
+     *         if there is no digest algorithm
+     */
+    static String digest(final byte[] content) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        final byte[] bytes = digest.digest(content);
+        final StringBuilder str = new StringBuilder();
+        for (byte b : bytes) {
+            str.append(String.format("%02x", b));
+        }
+        return str.toString();
+    }
+
+    /**
+     * Compiles the given contents of a configuration file.
+     * @param content contents of the configuration file
+     * @return the description of the configuration file
+     * @throws IOException
+     *         if the file is no valid XML document
+     */
+    ConfigurationDescription compile(final byte[] content)
+            throws IOException {
+        final Document document;
+        try {
+            final DocumentBuilder builder = factory.newDocumentBuilder();
+            builder.setEntityResolver(new IgnoringEntityResolver());
+            final InputStream in = new ByteArrayInputStream(content);
+            document = builder.parse(in);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        final Element root = document.getDocumentElement();
+        final ConfigurationDescription description =
+                new ConfigurationDescription(digest(content),
+                        getLocalName(root));
+        final NodeList children = root.getChildNodes();
+        try {
+            for (int i = 0; i < children.getLength(); i++) {
+                final Node node = children.item(i);
+                if (!(node instanceof Element)) {
+                    continue;
+                }
+                final Element element = (Element) node;
+                final String name = getLocalName(element);
+                if (isBeansElement(element)) {
+                    if (name.equals("bean")) {
+                        final BeanDescription bean = compileBean(element);
+                        description.addBean(bean);
+                    } else if (!name.equals("description")) {
+                        throw new ConfigurationException(
+                                "unsupported element '" + name + "'");
+                    }
+                } else if (name.equals("repository")) {
+                    description.setRepository(element.getTextContent());
+                } else if (name.equals("classpath")) {
+                    final String entry = element.getTextContent().trim();
+                    description.addClasspathEntry(entry);
+                }
+            }
+        } catch (ConfigurationException e) {
+            LOGGER.info("configuration cannot be precompiled: "
+                    + e.getMessage());
+            description.setUnsupported();
+        }
+        return description;
+    }
+
+    /**
+     * Retrieves the local name of the given element.
+     * @param element the element
+     * @return local name of the element
+     */
+    private static String getLocalName(final Element element) {
+        final String name = element.getLocalName();
+        if (name == null) {
+            return element.getTagName();
+        }
+        return name;
+    }
+
+    /**
+     * Checks if the given element belongs to the spring beans namespace.
+     * @param element the element to check
+     * @return <code>true</code> if the element is a spring element
+     */
+    private static boolean isBeansElement(final Element element) {
+        return BEANS_NAMESPACE.equals(element.getNamespaceURI());
+    }
+
+    /**
+     * Retrieves the child elements of the given element. Description
+     * elements are skipped.
+     * @param element the parent element
+     * @return child elements
+     * @throws ConfigurationException
+     *         if there is an element that does not belong to the spring
+     *         beans namespace
+     */
+    private static List<Element> getChildElements(final Element element)
+            throws ConfigurationException {
+        final List<Element> elements = new java.util.ArrayList<Element>();
+        final NodeList children = element.getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            final Node node = children.item(i);
+            if (node instanceof Element) {
+                final Element child = (Element) node;
+                if (!isBeansElement(child)) {
+                    throw new ConfigurationException("unsupported element '"
+                            + child.getTagName() + "'");
+                }
+                if (!getLocalName(child).equals("description")) {
+                    elements.add(child);
+                }
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Retrieves the value of the given attribute.
+     * @param element the element
+     * @param name name of the attribute
+     * @return value of the attribute, <code>null</code> if the attribute is
+     *          not present
+     */
+    private static String getAttribute(final Element element,
+            final String name) {
+        final Attr attribute = element.getAttributeNode(name);
+        if (attribute == null) {
+            return null;
+        }
+        return attribute.getValue();
+    }
+
+    /**
+     * Compiles the given bean element.
+     * @param element the bean element
+     * @return description of the bean
+     * @throws ConfigurationException
+     *         if the bean uses unsupported constructs
+     */
+    private BeanDescription compileBean(final Element element)
+            throws ConfigurationException {
+        final NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            final Attr attribute = (Attr) attributes.item(i);
+            final String name = attribute.getName();
+            if (name.equals("scope")) {
+                if (!attribute.getValue().equals("singleton")) {
+                    throw new ConfigurationException("unsupported scope '"
+                            + attribute.getValue() + "'");
+                }
+            } else if (!SUPPORTED_BEAN_ATTRIBUTES.contains(name)
+                    && !name.startsWith("xmlns")) {
+                throw new ConfigurationException(
+                        "unsupported bean attribute '" + name + "'");
+            }
+        }
+        final String className = getAttribute(element, "class");
+        if (className == null) {
+            throw new ConfigurationException("bean without a class");
+        }
+        final BeanDescription bean =
+                new BeanDescription(getAttribute(element, "id"), className);
+        for (Element child : getChildElements(element)) {
+            final String name = getLocalName(child);
+            if (name.equals("property")) {
+                final String property = getAttribute(child, "name");
+                final ValueDescription value = compileValueHolder(child,
+                        null);
+                bean.addProperty(property, value);
+            } else if (name.equals("constructor-arg")) {
+                if (child.hasAttribute("index")
+                        || child.hasAttribute("name")) {
+                    throw new ConfigurationException(
+                            "unsupported constructor argument");
+                }
+                final String type = getAttribute(child, "type");
+                final ValueDescription value = compileValueHolder(child,
+                        type);
+                bean.addConstructorArgument(value);
+            } else {
+                throw new ConfigurationException("unsupported element '"
+                        + name + "'");
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Compiles the value of a property, a constructor argument or a map
+     * entry that is either given by a <code>value</code> or
+     * <code>ref</code> attribute or by a single child element.
+     * @param element the element
+     * @param type name of the type of a text value, maybe <code>null</code>
+     * @return description of the value
+     * @throws ConfigurationException
+     *         if the value uses unsupported constructs
+     */
+    private ValueDescription compileValueHolder(final Element element,
+            final String type) throws ConfigurationException {
+        final List<Element> children = getChildElements(element);
+        final String value = getAttribute(element, "value");
+        final String ref = getAttribute(element, "ref");
+        if (value != null && ref == null && children.isEmpty()) {
+            return ValueDescription.text(value, type);
+        } else if (ref != null && value == null && children.isEmpty()) {
+            return ValueDescription.ref(ref);
+        } else if (value == null && ref == null && children.size() == 1) {
+            final Element child = children.get(0);
+            if (type != null && getLocalName(child).equals("value")
+                    && !child.hasAttribute("type")) {
+                return ValueDescription.text(child.getTextContent(), type);
+            }
+            return compileValue(child);
+        }
+        throw new ConfigurationException("no unique value in '"
+                + element.getTagName() + "'");
+    }
+
+    /**
+     * Compiles the given value element.
+     * @param element the value element
+     * @return description of the value
+     * @throws ConfigurationException
+     *         if the value uses unsupported constructs
+     */
+    private ValueDescription compileValue(final Element element)
+            throws ConfigurationException {
+        final String name = getLocalName(element);
+        if (name.equals("value")) {
+            return ValueDescription.text(element.getTextContent(),
+                    getAttribute(element, "type"));
+        } else if (name.equals("bean")) {
+            return ValueDescription.bean(compileBean(element));
+        } else if (name.equals("ref")) {
+            final String bean = getAttribute(element, "bean");
+            if (bean == null) {
+                throw new ConfigurationException("unsupported reference");
+            }
+            return ValueDescription.ref(bean);
+        } else if (name.equals("null")) {
+            return ValueDescription.nullValue();
+        } else if (name.equals("list") || name.equals("set")) {
+            final List<ValueDescription> elements =
+                    new java.util.ArrayList<ValueDescription>();
+            for (Element child : getChildElements(element)) {
+                elements.add(compileValue(child));
+            }
+            return ValueDescription.collection(name.equals("set"), elements,
+                    getAttribute(element, "value-type"));
+        } else if (name.equals("map")) {
+            if (element.hasAttribute("key-type")) {
+                throw new ConfigurationException("unsupported key type");
+            }
+            final Map<String, ValueDescription> entries =
+                    new java.util.LinkedHashMap<String, ValueDescription>();
+            for (Element child : getChildElements(element)) {
+                if (!getLocalName(child).equals("entry")) {
+                    throw new ConfigurationException("unsupported element '"
+                            + child.getTagName() + "'");
+                }
+                final String key = getAttribute(child, "key");
+                if (key == null) {
+                    throw new ConfigurationException("unsupported map key");
+                }
+                final String ref = getAttribute(child, "value-ref");
+                final ValueDescription value;
+                if (ref == null) {
+                    value = compileValueHolder(child, null);
+                } else {
+                    value = ValueDescription.ref(ref);
+                }
+                entries.put(key, value);
+            }
+            return ValueDescription.map(entries,
+                    getAttribute(element, "value-type"));
+        }
+        throw new ConfigurationException("unsupported element '"
+                + element.getTagName() + "'");
+    }
+}
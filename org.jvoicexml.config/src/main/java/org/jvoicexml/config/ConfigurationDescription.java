@@ -0,0 +1,172 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.config;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resolved contents of a configuration file that can be instantiated by a
+ * {@link PrecompiledBeanFactory} without parsing the XML file again.
+ * <p>
+ * If the configuration file uses constructs that are not supported by the
+ * {@link PrecompiledBeanFactory}, the description is marked as not
+ * precompiled. It still contains the name of the root element, so that
+ * the file can be assigned to a configuration base, but the beans have to
+ * be loaded via spring.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class ConfigurationDescription implements Serializable {
+    /** The serial version UID. */
+    private static final long serialVersionUID = 6542107361128740935L;
+
+    /** Digest of the contents of the configuration file. */
+    private final String digest;
+
+    /** Local name of the root element. */
+    private final String root;
+
+    /** Name of the loader repository, maybe <code>null</code>. */
+    private String repository;
+
+    /** Class path entries as they appear in the configuration file. */
+    private final List<String> classpath;
+
+    /** The top level beans in document order. */
+    private final List<BeanDescription> beans;
+
+    /** <code>true</code> if the beans can be loaded without spring. */
+    private boolean precompiled;
+
+    /**
+     * <code>true</code> if loading the precompiled beans failed at runtime.
+     * Not persisted to retry after a restart.
+     */
+    private transient boolean failed;
+
+    /**
+     * Constructs a new object.
+     * @param contentDigest digest of the contents of the configuration file
+     * @param rootElement local name of the root element
+     */
+    ConfigurationDescription(final String contentDigest,
+            final String rootElement) {
+        digest = contentDigest;
+        root = rootElement;
+        classpath = new java.util.ArrayList<String>();
+        beans = new java.util.ArrayList<BeanDescription>();
+        precompiled = true;
+    }
+
+    /**
+     * Retrieves the digest of the contents of the configuration file.
+     * @return the digest
+     */
+    String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Retrieves the local name of the root element.
+     * @return name of the root element
+     */
+    String getRoot() {
+        return root;
+    }
+
+    /**
+     * Sets the name of the loader repository.
+     * @param name name of the loader repository
+     */
+    void setRepository(final String name) {
+        repository = name;
+    }
+
+    /**
+     * Retrieves the name of the loader repository.
+     * @return name of the loader repository, maybe <code>null</code>
+     */
+    String getRepository() {
+        return repository;
+    }
+
+    /**
+     * Adds a class path entry.
+     * @param entry the class path entry
+     */
+    void addClasspathEntry(final String entry) {
+        classpath.add(entry);
+    }
+
+    /**
+     * Retrieves the class path entries.
+     * @return the class path entries
+     */
+    Collection<String> getClasspathEntries() {
+        return classpath;
+    }
+
+    /**
+     * Adds a top level bean.
+     * @param bean the bean
+     */
+    void addBean(final BeanDescription bean) {
+        beans.add(bean);
+    }
+
+    /**
+     * Retrieves the top level beans.
+     * @return the beans in document order
+     */
+    List<BeanDescription> getBeans() {
+        return beans;
+    }
+
+    /**
+     * Marks this description as not loadable without spring.
+     */
+    void setUnsupported() {
+        precompiled = false;
+        beans.clear();
+    }
+
+    /**
+     * Marks this description as failed to load without spring, e.g. if the
+     * beans cannot be created via reflection.
+     */
+    void setFailed() {
+        failed = true;
+    }
+
+    /**
+     * Checks if the beans can be loaded without spring.
+     * @return <code>true</code> if the beans can be loaded without spring
+     */
+    boolean isPrecompiled() {
+        return precompiled && !failed;
+    }
+}
@@ -68,6 +68,9 @@ final class ConfigurationRepository
     /** Known configuration files. */
     private final Map<File, byte[]> configurationFiles;
 
+    /** Listeners to changes after the initial scan. */
+    private final Collection<ConfigurationFileChangedListener> listeners;
+
     /**
      * Constructs a new object.
      * @param config the configuration folder
@@ -77,6 +80,8 @@ final class ConfigurationRepository
     ConfigurationRepository(final File config) throws IOException {
         configFolder = config;
         configurationFiles = new java.util.HashMap<File, byte[]>();
+        listeners = new java.util.concurrent.CopyOnWriteArrayList<
+                ConfigurationFileChangedListener>();
         final ConfigurationFolderMonitor monitor =
                 new ConfigurationFolderMonitor(config);
         monitor.addListener(this);
@@ -88,6 +93,17 @@ final class ConfigurationRepository
         }
     }
 
+    /**
+     * Adds a listener that is notified after this repository has been
+     * updated. The listener is not notified about the files of the initial
+     * scan.
+     * @param listener the listener to add
+     * @since 0.7.9
+     */
+    void addListener(final ConfigurationFileChangedListener listener) {
+        listeners.add(listener);
+    }
+
     /**
      * Retrieves the contents of the given configuration file.
      * @param file the file
@@ -104,7 +120,7 @@ final class ConfigurationRepository
      * @throws IOException
      *         error listing the configuration files
      */
-    private Collection<File> getConfigFiles() throws IOException {
+    Collection<File> getConfigFiles() throws IOException {
         final Collection<File> files = new java.util.ArrayList<File>();
         for (File file : configurationFiles.keySet()) {
             final String name = file.getName();
@@ -237,6 +253,9 @@ final class ConfigurationRepository
         } catch (IOException e) {
             LOGGER.warn(e.getMessage(), e);
         }
+        for (ConfigurationFileChangedListener listener : listeners) {
+            listener.fileAdded(file);
+        }
     }
 
     /**
@@ -251,6 +270,9 @@ final class ConfigurationRepository
         } catch (IOException e) {
             LOGGER.warn(e.getMessage(), e);
         }
+        for (ConfigurationFileChangedListener listener : listeners) {
+            listener.fileUpdated(file);
+        }
     }
 
     /**
@@ -267,6 +289,9 @@ final class ConfigurationRepository
         } catch (IOException e) {
             LOGGER.warn(e.getMessage(), e);
         }
+        for (ConfigurationFileChangedListener listener : listeners) {
+            listener.fileRemoved(file);
+        }
     }
 
 }
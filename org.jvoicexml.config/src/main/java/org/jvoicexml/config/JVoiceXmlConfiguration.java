@@ -29,6 +29,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.Collection;
 import java.util.Map;
 
@@ -100,6 +101,17 @@ import org.xml.sax.helpers.XMLFilterImpl;
  * the system property <code>jvoicexml.config</code>.
  * </p>
  *
+ * <p>
+ * If the system property <code>jvoicexml.config.precompiled</code> is set
+ * to <code>true</code>, configuration files are compiled once into a cache
+ * of resolved bean descriptions that is persisted in the file given by the
+ * system property <code>jvoicexml.config.cache</code>, defaulting to
+ * <code>work/configuration.cache</code>. Beans are then created via
+ * reflection without parsing the files or creating spring bean factories.
+ * The cached descriptions are invalidated if a file changes. Files that use
+ * spring features beyond plain singleton beans are still loaded via spring.
+ * </p>
+ *
  * @author Arindam Das
  * @author Dirk Schnelle-Walka
  */
@@ -123,6 +135,24 @@ public final class JVoiceXmlConfiguration implements Configuration {
     /** The cached SAX Parser Factory. */
     private SAXParserFactory parserFactory;
 
+    /** The main configuration file. */
+    private File mainConfiguration;
+
+    /**
+     * Cache of precompiled configuration files, <code>null</code> if all
+     * configurations are loaded via spring.
+     */
+    private ConfigurationCache cache;
+
+    /** <code>true</code> if the main configuration is loaded via spring. */
+    private boolean springContext;
+
+    /** Description of the precompiled main configuration. */
+    private ConfigurationDescription mainDescription;
+
+    /** The factory for the precompiled main configuration. */
+    private PrecompiledBeanFactory mainFactory;
+
     /**
      * Constructs a new object.
      */
@@ -133,19 +163,43 @@ public final class JVoiceXmlConfiguration implements Configuration {
         loaderRepositories =
             new java.util.HashMap<String, JVoiceXmlClassLoader>();
         final File resource = new File(configFolder, "jvoicexml.xml");
-        final File canonicalFile;
         try {
-            canonicalFile = resource.getCanonicalFile();
+            mainConfiguration = resource.getCanonicalFile();
             LOGGER.info("loading configurations from '"
                     + configFolder.getCanonicalPath() + "'");
         } catch (IOException e) {
             configurationRepository = null;
+            springContext = true;
+            LOGGER.error(e.getMessage(), e);
+            return;
+        }
+        if (Boolean.getBoolean("jvoicexml.config.precompiled")) {
+            final String cacheFile = System.getProperty(
+                    "jvoicexml.config.cache", "work/configuration.cache");
+            cache = new ConfigurationCache(new File(cacheFile));
+        } else {
+            createContext();
+        }
+        try {
+            configurationRepository = new ConfigurationRepository(configFolder);
+        } catch (IOException e) {
             LOGGER.error(e.getMessage(), e);
             return;
         }
-        if (resource.exists()) {
+        if (cache != null) {
+            configurationRepository.addListener(cache);
+        }
+    }
+
+    /**
+     * Creates the spring context for the main configuration file.
+     * @since 0.7.9
+     */
+    private void createContext() {
+        springContext = true;
+        if (mainConfiguration.exists()) {
             try {
-                final URI uri = canonicalFile.toURI();
+                final URI uri = mainConfiguration.toURI();
                 final String uriPath = uri.toString();
                 context = new FileSystemXmlApplicationContext(uriPath);
             } catch (BeansException e) {
@@ -153,15 +207,37 @@ public final class JVoiceXmlConfiguration implements Configuration {
                 context = null;
             }
         } else {
-            LOGGER.error("main configruation file '" + resource 
+            LOGGER.error("main configruation file '" + mainConfiguration
                     + "' does not seam to exist. Cannot create xontext.");
         }
+    }
+
+    /**
+     * Retrieves the factory for the precompiled main configuration.
+     * @return the factory, <code>null</code> if the main configuration
+     *         cannot be precompiled
+     * @since 0.7.9
+     */
+    private PrecompiledBeanFactory getMainFactory() {
+        if (mainFactory != null) {
+            return mainFactory;
+        }
         try {
-            configurationRepository = new ConfigurationRepository(configFolder);
+            final byte[] content =
+                    Files.readAllBytes(mainConfiguration.toPath());
+            mainDescription = cache.getDescription(mainConfiguration, content);
+            cache.save();
         } catch (IOException e) {
-            LOGGER.error(e.getMessage(), e);
-            return;
+            LOGGER.warn("unable to precompile main configuration '"
+                    + mainConfiguration + "': " + e.getMessage());
+            return null;
+        }
+        if (!mainDescription.isPrecompiled()) {
+            return null;
         }
+        final ClassLoader loader = getParentClassLoader();
+        mainFactory = new PrecompiledBeanFactory(mainDescription, loader);
+        return mainFactory;
     }
 
     /**
@@ -317,7 +393,46 @@ public final class JVoiceXmlConfiguration implements Configuration {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("looking for configurations '" + root + "'");
         }
-        return configurationRepository.getConfigurationFiles(root);
+        if (cache == null) {
+            return configurationRepository.getConfigurationFiles(root);
+        }
+        final Collection<File> files = new java.util.ArrayList<File>();
+        for (File file : configurationRepository.getConfigFiles()) {
+            final ConfigurationDescription description = getDescription(file);
+            if (description != null && root.equals(description.getRoot())) {
+                files.add(file);
+            }
+        }
+        cache.save();
+        return files;
+    }
+
+    /**
+     * Retrieves the precompiled description of the given configuration
+     * file.
+     * @param file the configuration file
+     * @return the description, <code>null</code> if the file cannot be
+     *         parsed
+     * @throws IOException
+     *         if the file name cannot be resolved
+     * @since 0.7.9
+     */
+    private ConfigurationDescription getDescription(final File file)
+            throws IOException {
+        final byte[] content =
+                configurationRepository.getConfigurationFile(file);
+        if (content == null) {
+            return null;
+        }
+        try {
+            return cache.getDescription(file, content);
+        } catch (IOException e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("error inspecting configuration file '"
+                        + file.getCanonicalPath() + "'", e);
+            }
+            return null;
+        }
     }
 
     /**
@@ -372,54 +487,146 @@ public final class JVoiceXmlConfiguration implements Configuration {
             try {
                 LOGGER.info("loading configuration '" + file.getCanonicalPath()
                         + "'...");
-                final Resource resource = getResource(file);
-                if (resource == null) {
-                    continue;
-                }
-                final DefaultListableBeanFactory factory =
-                        new DefaultListableBeanFactory();
-                final XmlBeanDefinitionReader reader =
-                        new XmlBeanDefinitionReader(factory);
-                reader.loadBeanDefinitions(resource);
-                final ClasspathExtractor extractor =
-                    getClassPathExtractor(file);
-                if (extractor == null) {
-                    continue;
-                }
-                final String repository = extractor.getLoaderRepostory();
-                final JVoiceXmlClassLoader loader = getClassLoader(repository);
-                final URL[] urls = extractor.getClasspathEntries();
-                loader.addURLs(urls);
-                if (LOGGER.isDebugEnabled()) {
-                    for (URL url : urls) {
-                        LOGGER.debug("using classpath entry '" + url + "'");
-                    }
-                }
-                factory.setBeanClassLoader(loader);
-                final String[] names =
-                        factory.getBeanNamesForType(baseClass);
-                if (names.length == 0) {
-                    LOGGER.info("no loadable objects of type '" + baseClass 
-                            + "' in file '"
-                            + file.getCanonicalPath() + "'");
-                } else {
-                    for (String name : names) {
-                        LOGGER.info("loading '" + name + "'");
-                        final Object o =
-                                factory.getBean(name, baseClass);
-                        final T bean = baseClass.cast(o);
-                        beans.add(bean);
-                        if (bean instanceof ExtendedConfiguration) {
-                            final ExtendedConfiguration config =
-                                (ExtendedConfiguration) bean;
-                            config.setConfigurationFile(file);
+                if (cache != null) {
+                    final ConfigurationDescription description =
+                            getDescription(file);
+                    if (description != null && description.isPrecompiled()) {
+                        try {
+                            beans.addAll(loadPrecompiledObjects(baseClass,
+                                    file, description));
+                            continue;
+                        } catch (ConfigurationException e) {
+                            LOGGER.warn("unable to load precompiled '"
+                                    + file.getCanonicalPath()
+                                    + "', using spring: " + e.getMessage());
+                            cache.setUnsupported(description);
                         }
                     }
                 }
+                beans.addAll(loadSpringObjects(baseClass, file));
             } catch (IOException | BeansException e) {
                 throw new ConfigurationException(e.getMessage(), e);
             }
         }
+        if (cache != null) {
+            cache.save();
+        }
+        return beans;
+    }
+
+    /**
+     * Loads all objects of the given type from the given file via spring.
+     * @param <T> type of the objects to load
+     * @param baseClass base class of the return type
+     * @param file the configuration file
+     * @return loaded objects
+     * @throws IOException
+     *         error reading the configuration file
+     * @throws BeansException
+     *         error creating the objects
+     * @since 0.7.9
+     */
+    private <T extends Object> Collection<T> loadSpringObjects(
+            final Class<T> baseClass, final File file)
+                    throws IOException, BeansException {
+        final Collection<T> beans = new java.util.ArrayList<T>();
+        final Resource resource = getResource(file);
+        if (resource == null) {
+            return beans;
+        }
+        final DefaultListableBeanFactory factory =
+                new DefaultListableBeanFactory();
+        final XmlBeanDefinitionReader reader =
+                new XmlBeanDefinitionReader(factory);
+        reader.loadBeanDefinitions(resource);
+        final ClasspathExtractor extractor =
+            getClassPathExtractor(file);
+        if (extractor == null) {
+            return beans;
+        }
+        final String repository = extractor.getLoaderRepostory();
+        final JVoiceXmlClassLoader loader = getClassLoader(repository);
+        final URL[] urls = extractor.getClasspathEntries();
+        loader.addURLs(urls);
+        if (LOGGER.isDebugEnabled()) {
+            for (URL url : urls) {
+                LOGGER.debug("using classpath entry '" + url + "'");
+            }
+        }
+        factory.setBeanClassLoader(loader);
+        final String[] names =
+                factory.getBeanNamesForType(baseClass);
+        if (names.length == 0) {
+            LOGGER.info("no loadable objects of type '" + baseClass
+                    + "' in file '"
+                    + file.getCanonicalPath() + "'");
+        } else {
+            for (String name : names) {
+                LOGGER.info("loading '" + name + "'");
+                final Object o =
+                        factory.getBean(name, baseClass);
+                final T bean = baseClass.cast(o);
+                beans.add(bean);
+                if (bean instanceof ExtendedConfiguration) {
+                    final ExtendedConfiguration config =
+                        (ExtendedConfiguration) bean;
+                    config.setConfigurationFile(file);
+                }
+            }
+        }
+        return beans;
+    }
+
+    /**
+     * Loads all objects of the given type from the given precompiled file.
+     * @param <T> type of the objects to load
+     * @param baseClass base class of the return type
+     * @param file the configuration file
+     * @param description the precompiled description of the file
+     * @return loaded objects
+     * @throws IOException
+     *         error resolving the class path
+     * @throws ConfigurationException
+     *         error creating the objects
+     * @since 0.7.9
+     */
+    private <T extends Object> Collection<T> loadPrecompiledObjects(
+            final Class<T> baseClass, final File file,
+            final ConfigurationDescription description)
+                    throws IOException, ConfigurationException {
+        final Collection<T> beans = new java.util.ArrayList<T>();
+        final String repository = description.getRepository();
+        final JVoiceXmlClassLoader loader = getClassLoader(repository);
+        final Collection<URL> urls = new java.util.ArrayList<URL>();
+        for (String entry : description.getClasspathEntries()) {
+            final URL url = ClasspathExtractor.toClasspathEntry(entry);
+            if (url != null) {
+                urls.add(url);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("using classpath entry '" + url + "'");
+                }
+            }
+        }
+        loader.addURLs(urls.toArray(new URL[urls.size()]));
+        final PrecompiledBeanFactory factory =
+                new PrecompiledBeanFactory(description, loader);
+        final String[] names = factory.getBeanNamesForType(baseClass);
+        if (names.length == 0) {
+            LOGGER.info("no loadable objects of type '" + baseClass
+                    + "' in file '" + file.getCanonicalPath() + "'");
+        }
+        for (String name : names) {
+            LOGGER.info("loading precompiled '" + name + "'");
+            final T bean = factory.getBean(name, baseClass);
+            beans.add(bean);
+        }
+        for (T bean : beans) {
+            if (bean instanceof ExtendedConfiguration) {
+                final ExtendedConfiguration config =
+                    (ExtendedConfiguration) bean;
+                config.setConfigurationFile(file);
+            }
+        }
         return beans;
     }
 
@@ -430,6 +637,31 @@ public final class JVoiceXmlConfiguration implements Configuration {
     public synchronized <T extends Object> T loadObject(
             final Class<T> baseClass, final String key)
         throws ConfigurationException {
+        if (!springContext) {
+            final PrecompiledBeanFactory factory = getMainFactory();
+            if (factory != null) {
+                if (!factory.containsBean(key)) {
+                    LOGGER.warn("unable to load object: key '" + key
+                            + "' not found");
+                    return null;
+                }
+                try {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("loading precompiled bean with id '"
+                                + key + "'");
+                    }
+                    return factory.getBean(key, baseClass);
+                } catch (ConfigurationException e) {
+                    LOGGER.warn("unable to load precompiled main "
+                            + "configuration, using spring: "
+                            + e.getMessage());
+                    cache.setUnsupported(mainDescription);
+                    cache.save();
+                    mainFactory = null;
+                }
+            }
+            createContext();
+        }
         if (context == null) {
             LOGGER.warn("configuration error. unable to load object: key '"
                     + key + "' from a null configuration");
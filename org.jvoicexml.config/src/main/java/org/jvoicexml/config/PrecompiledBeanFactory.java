@@ -0,0 +1,645 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.config;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.ConfigurationException;
+
+/**
+ * A minimal bean factory that instantiates the beans of a
+ * {@link ConfigurationDescription} via reflection.
+ * <p>
+ * All beans are singletons. Top level beans without an id are named like
+ * spring does, i.e. by their class name followed by <code>#</code> and a
+ * counter. Text values are converted into strings, primitives and their
+ * wrappers, enums, files, URIs, URLs, locales, charsets and classes. If a
+ * bean cannot be created, a {@link ConfigurationException} is thrown so
+ * that the caller may fall back to spring.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class PrecompiledBeanFactory {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(PrecompiledBeanFactory.class);
+
+    /** Wrapper types of the primitive types. */
+    private static final Map<Class<?>, Class<?>> WRAPPERS;
+
+    static {
+        WRAPPERS = new java.util.HashMap<Class<?>, Class<?>>();
+        WRAPPERS.put(Boolean.TYPE, Boolean.class);
+        WRAPPERS.put(Byte.TYPE, Byte.class);
+        WRAPPERS.put(Character.TYPE, Character.class);
+        WRAPPERS.put(Short.TYPE, Short.class);
+        WRAPPERS.put(Integer.TYPE, Integer.class);
+        WRAPPERS.put(Long.TYPE, Long.class);
+        WRAPPERS.put(Float.TYPE, Float.class);
+        WRAPPERS.put(Double.TYPE, Double.class);
+    }
+
+    /** The class loader to load the beans. */
+    private final ClassLoader loader;
+
+    /** The top level beans by their names in document order. */
+    private final Map<String, BeanDescription> beans;
+
+    /** Already created singletons by their names. */
+    private final Map<String, Object> singletons;
+
+    /**
+     * Constructs a new object.
+     * @param description the description of the configuration file
+     * @param classLoader the class loader to load the beans
+     */
+    PrecompiledBeanFactory(final ConfigurationDescription description,
+            final ClassLoader classLoader) {
+        loader = classLoader;
+        beans = new java.util.LinkedHashMap<String, BeanDescription>();
+        singletons = new java.util.HashMap<String, Object>();
+        final Map<String, Integer> counters =
+                new java.util.HashMap<String, Integer>();
+        for (BeanDescription bean : description.getBeans()) {
+            String name = bean.getId();
+            if (name == null) {
+                final String className = bean.getClassName();
+                Integer counter = counters.get(className);
+                if (counter == null) {
+                    counter = 0;
+                }
+                name = className + "#" + counter;
+                counters.put(className, counter + 1);
+            }
+            beans.put(name, bean);
+        }
+    }
+
+    /**
+     * Checks if there is a top level bean with the given name.
+     * @param name name of the bean
+     * @return <code>true</code> if there is such a bean
+     */
+    boolean containsBean(final String name) {
+        return beans.containsKey(name);
+    }
+
+    /**
+     * Retrieves the names of all top level beans that are instances of the
+     * given type.
+     * @param type the type
+     * @return names of the matching beans in document order
+     * @throws ConfigurationException
+     *         if the class of a bean cannot be loaded
+     */
+    String[] getBeanNamesForType(final Class<?> type)
+            throws ConfigurationException {
+        final Collection<String> names = new java.util.ArrayList<String>();
+        for (Map.Entry<String, BeanDescription> entry : beans.entrySet()) {
+            final BeanDescription bean = entry.getValue();
+            final Class<?> beanClass = loadClass(bean.getClassName());
+            if (type.isAssignableFrom(beanClass)) {
+                names.add(entry.getKey());
+            }
+        }
+        final String[] array = new String[names.size()];
+        return names.toArray(array);
+    }
+
+    /**
+     * Retrieves the top level bean with the given name.
+     * @param <T> type of the bean
+     * @param name name of the bean
+     * @param type type of the bean
+     * @return the bean
+     * @throws ConfigurationException
+     *         if the bean cannot be created
+     */
+    <T extends Object> T getBean(final String name, final Class<T> type)
+            throws ConfigurationException {
+        final Object bean = getBean(name);
+        if (!type.isInstance(bean)) {
+            throw new ConfigurationException("bean '" + name
+                    + "' is no instance of '" + type + "'");
+        }
+        return type.cast(bean);
+    }
+
+    /**
+     * Retrieves the top level bean with the given name.
+     * @param name name of the bean
+     * @return the bean
+     * @throws ConfigurationException
+     *         if the bean cannot be created
+     */
+    private Object getBean(final String name) throws ConfigurationException {
+        if (singletons.containsKey(name)) {
+            return singletons.get(name);
+        }
+        final BeanDescription description = beans.get(name);
+        if (description == null) {
+            throw new ConfigurationException("no bean named '" + name + "'");
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("creating bean '" + name + "'");
+        }
+        final Object bean = createBean(description);
+        singletons.put(name, bean);
+        return bean;
+    }
+
+    /**
+     * Loads the class with the given name. Like spring, nested classes may
+     * also be given in their source code notation, e.g.
+     * <code>javax.sound.sampled.AudioFormat.Encoding</code>.
+     * @param name name of the class
+     * @return loaded class
+     * @throws ConfigurationException
+     *         if the class cannot be loaded
+     */
+    private Class<?> loadClass(final String name)
+            throws ConfigurationException {
+        try {
+            return Class.forName(name, false, loader);
+        } catch (ClassNotFoundException e) {
+            final int pos = name.lastIndexOf('.');
+            if (pos > 0) {
+                final String nestedName = name.substring(0, pos) + "$"
+                        + name.substring(pos + 1);
+                try {
+                    return Class.forName(nestedName, false, loader);
+                } catch (ClassNotFoundException | LinkageError ignore) {
+                    // report the original error
+                }
+            }
+            throw new ConfigurationException("unable to load class '"
+                    + name + "'", e);
+        } catch (LinkageError e) {
+            throw new ConfigurationException("unable to load class '"
+                    + name + "'", e);
+        }
+    }
+
+    /**
+     * Creates the bean with the given description.
+     * @param description the description
+     * @return the created bean
+     * @throws ConfigurationException
+     *         if the bean cannot be created
+     */
+    private Object createBean(final BeanDescription description)
+            throws ConfigurationException {
+        final Class<?> beanClass = loadClass(description.getClassName());
+        final Object bean = instantiate(beanClass,
+                description.getConstructorArguments());
+        for (Map.Entry<String, ValueDescription> entry
+                : description.getProperties().entrySet()) {
+            setProperty(bean, entry.getKey(), entry.getValue());
+        }
+        return bean;
+    }
+
+    /**
+     * Creates a new instance of the given class with a unique matching
+     * public constructor.
+     * @param beanClass the class
+     * @param arguments the constructor arguments
+     * @return the created instance
+     * @throws ConfigurationException
+     *         if there is no unique matching constructor or the instance
+     *         cannot be created
+     */
+    private Object instantiate(final Class<?> beanClass,
+            final List<ValueDescription> arguments)
+                    throws ConfigurationException {
+        Constructor<?> match = null;
+        Object[] values = null;
+        for (Constructor<?> constructor : beanClass.getConstructors()) {
+            final Class<?>[] types = constructor.getParameterTypes();
+            if (types.length != arguments.size()) {
+                continue;
+            }
+            final Type[] genericTypes = constructor.getGenericParameterTypes();
+            final Object[] converted = new Object[types.length];
+            boolean matches = true;
+            for (int i = 0; i < types.length && matches; i++) {
+                final ValueDescription argument = arguments.get(i);
+                if (!isTypeMatch(argument, types[i])) {
+                    matches = false;
+                    continue;
+                }
+                try {
+                    converted[i] = convert(argument, types[i],
+                            genericTypes[i]);
+                } catch (ConfigurationException e) {
+                    matches = false;
+                }
+            }
+            if (matches) {
+                if (match != null) {
+                    throw new ConfigurationException(
+                            "ambiguous constructors for '" + beanClass + "'");
+                }
+                match = constructor;
+                values = converted;
+            }
+        }
+        if (match == null) {
+            throw new ConfigurationException("no matching constructor for '"
+                    + beanClass + "'");
+        }
+        try {
+            return match.newInstance(values);
+        } catch (InstantiationException | IllegalAccessException
+                | InvocationTargetException e) {
+            throw new ConfigurationException("unable to create '"
+                    + beanClass + "'", e);
+        }
+    }
+
+    /**
+     * Checks if the given constructor argument with an explicit type matches
+     * the given parameter type.
+     * @param argument the constructor argument
+     * @param type the parameter type
+     * @return <code>true</code> if the argument has no explicit type or the
+     *          types match
+     */
+    private static boolean isTypeMatch(final ValueDescription argument,
+            final Class<?> type) {
+        if (argument.getKind() != ValueDescription.Kind.TEXT
+                || argument.getType() == null) {
+            return true;
+        }
+        final String name = argument.getType();
+        return name.equals(type.getName()) || name.equals(type.getSimpleName());
+    }
+
+    /**
+     * Sets the given property of the bean.
+     * @param bean the bean
+     * @param name name of the property
+     * @param value value of the property
+     * @throws ConfigurationException
+     *         if the property cannot be set
+     */
+    private void setProperty(final Object bean, final String name,
+            final ValueDescription value) throws ConfigurationException {
+        final Class<?> beanClass = bean.getClass();
+        final Collection<Method> setters = getSetters(beanClass, name);
+        if (setters.isEmpty()) {
+            throw new ConfigurationException("no property '" + name
+                    + "' in '" + beanClass + "'");
+        }
+        ConfigurationException error = null;
+        for (Method setter : setters) {
+            final Object converted;
+            try {
+                converted = convert(value, setter.getParameterTypes()[0],
+                        setter.getGenericParameterTypes()[0]);
+            } catch (ConfigurationException e) {
+                error = e;
+                continue;
+            }
+            try {
+                setter.invoke(bean, converted);
+                return;
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ConfigurationException("unable to set property '"
+                        + name + "' of '" + beanClass + "'", e);
+            }
+        }
+        throw error;
+    }
+
+    /**
+     * Retrieves the setters of the given property. The setter of the
+     * JavaBeans property comes first.
+     * @param beanClass the class of the bean
+     * @param name name of the property
+     * @return found setters
+     * @throws ConfigurationException
+     *         if the class cannot be inspected
+     */
+    private static Collection<Method> getSetters(final Class<?> beanClass,
+            final String name) throws ConfigurationException {
+        final Collection<Method> setters =
+                new java.util.LinkedHashSet<Method>();
+        try {
+            for (PropertyDescriptor descriptor : Introspector
+                    .getBeanInfo(beanClass).getPropertyDescriptors()) {
+                if (descriptor.getName().equals(name)
+                        && descriptor.getWriteMethod() != null) {
+                    setters.add(descriptor.getWriteMethod());
+                }
+            }
+        } catch (IntrospectionException e) {
+            throw new ConfigurationException(e.getMessage(), e);
+        }
+        final String setterName = "set"
+                + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (Method method : beanClass.getMethods()) {
+            if (method.getName().equals(setterName)
+                    && method.getParameterTypes().length == 1
+                    && !Modifier.isStatic(method.getModifiers())) {
+                setters.add(method);
+            }
+        }
+        return setters;
+    }
+
+    /**
+     * Converts the given value into the given type.
+     * @param value the value
+     * @param type the target type
+     * @param genericType the generic target type
+     * @return converted value
+     * @throws ConfigurationException
+     *         if the value cannot be converted
+     */
+    private Object convert(final ValueDescription value, final Class<?> type,
+            final Type genericType) throws ConfigurationException {
+        final Object converted;
+        switch (value.getKind()) {
+        case TEXT:
+            Class<?> textType = type;
+            if (value.getType() != null && !type.isPrimitive()) {
+                final Class<?> explicitType = loadClass(value.getType());
+                if (type.isAssignableFrom(explicitType)) {
+                    textType = explicitType;
+                }
+            }
+            converted = convertText(value.getText(), textType);
+            break;
+        case BEAN:
+            converted = createBean(value.getBean());
+            break;
+        case REF:
+            converted = getBean(value.getText());
+            break;
+        case LIST:
+        case SET:
+            converted = convertCollection(value, type, genericType);
+            break;
+        case MAP:
+            converted = convertMap(value, type, genericType);
+            break;
+        default:
+            if (type.isPrimitive()) {
+                throw new ConfigurationException("null for primitive '"
+                        + type + "'");
+            }
+            return null;
+        }
+        final Class<?> boxedType = box(type);
+        if (!boxedType.isInstance(converted)) {
+            throw new ConfigurationException("'" + converted
+                    + "' is no instance of '" + type + "'");
+        }
+        return converted;
+    }
+
+    /**
+     * Retrieves the wrapper type of a primitive type.
+     * @param type the type
+     * @return the wrapper type or the type itself if it is not primitive
+     */
+    private static Class<?> box(final Class<?> type) {
+        final Class<?> wrapper = WRAPPERS.get(type);
+        if (wrapper == null) {
+            return type;
+        }
+        return wrapper;
+    }
+
+    /**
+     * Retrieves the type argument with the given index of a generic type.
+     * @param genericType the generic type
+     * @param index index of the type argument
+     * @return the type argument, <code>Object</code> if it is unknown
+     */
+    private static Class<?> getTypeArgument(final Type genericType,
+            final int index) {
+        if (genericType instanceof ParameterizedType) {
+            final Type[] arguments =
+                    ((ParameterizedType) genericType).getActualTypeArguments();
+            if (index < arguments.length) {
+                final Type argument = arguments[index];
+                if (argument instanceof Class) {
+                    return (Class<?>) argument;
+                } else if (argument instanceof ParameterizedType) {
+                    return (Class<?>)
+                            ((ParameterizedType) argument).getRawType();
+                }
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Retrieves the type of the elements of a collection or the values of a
+     * map.
+     * @param value the collection or the map
+     * @param genericElementType the element type of the target type
+     * @return the element type
+     * @throws ConfigurationException
+     *         if the explicit element type cannot be loaded
+     */
+    private Class<?> getElementType(final ValueDescription value,
+            final Class<?> genericElementType) throws ConfigurationException {
+        if (value.getType() == null) {
+            return genericElementType;
+        }
+        return loadClass(value.getType());
+    }
+
+    /**
+     * Converts a list or a set.
+     * @param value the list or set
+     * @param type the target type
+     * @param genericType the generic target type
+     * @return converted collection
+     * @throws ConfigurationException
+     *         if the value cannot be converted
+     */
+    private Object convertCollection(final ValueDescription value,
+            final Class<?> type, final Type genericType)
+                    throws ConfigurationException {
+        final Class<?> elementType;
+        if (type.isArray()) {
+            elementType = getElementType(value, type.getComponentType());
+        } else {
+            elementType = getElementType(value,
+                    getTypeArgument(genericType, 0));
+        }
+        final Collection<Object> elements;
+        if (value.getKind() == ValueDescription.Kind.SET) {
+            elements = new java.util.LinkedHashSet<Object>();
+        } else {
+            elements = new java.util.ArrayList<Object>();
+        }
+        for (ValueDescription element : value.getElements()) {
+            elements.add(convert(element, elementType, elementType));
+        }
+        if (type.isArray()) {
+            final Object array = Array.newInstance(type.getComponentType(),
+                    elements.size());
+            int i = 0;
+            for (Object element : elements) {
+                Array.set(array, i, element);
+                ++i;
+            }
+            return array;
+        }
+        return elements;
+    }
+
+    /**
+     * Converts a map.
+     * @param value the map
+     * @param type the target type
+     * @param genericType the generic target type
+     * @return converted map
+     * @throws ConfigurationException
+     *         if the value cannot be converted
+     */
+    private Object convertMap(final ValueDescription value,
+            final Class<?> type, final Type genericType)
+                    throws ConfigurationException {
+        final Class<?> keyType = getTypeArgument(genericType, 0);
+        final Class<?> valueType = getElementType(value,
+                getTypeArgument(genericType, 1));
+        final Map<Object, Object> map =
+                new java.util.LinkedHashMap<Object, Object>();
+        for (Map.Entry<String, ValueDescription> entry
+                : value.getEntries().entrySet()) {
+            final Object key = convertText(entry.getKey(), keyType);
+            map.put(key, convert(entry.getValue(), valueType, valueType));
+        }
+        return map;
+    }
+
+    /**
+     * Converts the given text into the given type.
+     * @param text the text
+     * @param type the target type
+     * @return converted value
+     * @throws ConfigurationException
+     *         if the text cannot be converted
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object convertText(final String text, final Class<?> type)
+            throws ConfigurationException {
+        final Class<?> target = box(type);
+        try {
+            if (target == String.class || target == Object.class) {
+                return text;
+            } else if (target == Boolean.class) {
+                final String trimmed = text.trim();
+                if (trimmed.equalsIgnoreCase("true")) {
+                    return Boolean.TRUE;
+                } else if (trimmed.equalsIgnoreCase("false")) {
+                    return Boolean.FALSE;
+                }
+            } else if (target == Integer.class) {
+                return Integer.decode(text.trim());
+            } else if (target == Long.class) {
+                return Long.decode(text.trim());
+            } else if (target == Short.class) {
+                return Short.decode(text.trim());
+            } else if (target == Byte.class) {
+                return Byte.decode(text.trim());
+            } else if (target == Float.class) {
+                return Float.valueOf(text.trim());
+            } else if (target == Double.class) {
+                return Double.valueOf(text.trim());
+            } else if (target == Character.class) {
+                if (text.length() == 1) {
+                    return text.charAt(0);
+                }
+            } else if (target.isEnum()) {
+                return Enum.valueOf((Class<Enum>) target, text.trim());
+            } else if (target == File.class) {
+                return new File(text.trim());
+            } else if (target == URI.class) {
+                return new URI(text.trim());
+            } else if (target == URL.class) {
+                return new URL(text.trim());
+            } else if (target == Locale.class) {
+                return toLocale(text.trim());
+            } else if (target == Charset.class) {
+                return Charset.forName(text.trim());
+            } else if (target == Class.class) {
+                return loadClass(text.trim());
+            }
+        } catch (IllegalArgumentException | URISyntaxException
+                | MalformedURLException e) {
+            throw new ConfigurationException("unable to convert '" + text
+                    + "' into '" + type + "'", e);
+        }
+        throw new ConfigurationException("unable to convert '" + text
+                + "' into '" + type + "'");
+    }
+
+    /**
+     * Converts the given text into a locale, e.g. <code>en_US</code> or
+     * <code>en-US</code>.
+     * @param text the text
+     * @return the locale
+     */
+    private static Locale toLocale(final String text) {
+        final String[] parts = text.split("[_-]", 3);
+        if (parts.length == 1) {
+            return new Locale(parts[0]);
+        } else if (parts.length == 2) {
+            return new Locale(parts[0], parts[1]);
+        }
+        return new Locale(parts[0], parts[1], parts[2]);
+    }
+}
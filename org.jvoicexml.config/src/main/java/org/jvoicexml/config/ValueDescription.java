@@ -0,0 +1,213 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.config;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description of a value in a precompiled configuration, i.e. the value of
+ * a property, a constructor argument, an element of a collection or the
+ * value of a map entry.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class ValueDescription implements Serializable {
+    /** The serial version UID. */
+    private static final long serialVersionUID = 3104958274061936257L;
+
+    /** Kinds of values. */
+    enum Kind {
+        /** A text that is converted into the target type. */
+        TEXT,
+        /** An inner bean. */
+        BEAN,
+        /** A reference to a bean with an id. */
+        REF,
+        /** A list. */
+        LIST,
+        /** A set. */
+        SET,
+        /** A map with text keys. */
+        MAP,
+        /** The <code>null</code> value. */
+        NULL
+    }
+
+    /** The kind of this value. */
+    private final Kind kind;
+
+    /** The text or the id of the referenced bean. */
+    private final String text;
+
+    /** The inner bean. */
+    private final BeanDescription bean;
+
+    /** The elements of a collection. */
+    private final List<ValueDescription> elements;
+
+    /** The entries of a map. */
+    private final Map<String, ValueDescription> entries;
+
+    /** Name of the type of the value or of the elements of a collection. */
+    private final String type;
+
+    /**
+     * Constructs a new object.
+     * @param valueKind the kind of this value
+     * @param valueText the text or the id of the referenced bean
+     * @param innerBean the inner bean
+     * @param collectionElements the elements of a collection
+     * @param mapEntries the entries of a map
+     * @param valueType name of the type of the value or of the elements of a
+     *          collection, maybe <code>null</code>
+     */
+    private ValueDescription(final Kind valueKind, final String valueText,
+            final BeanDescription innerBean,
+            final List<ValueDescription> collectionElements,
+            final Map<String, ValueDescription> mapEntries,
+            final String valueType) {
+        kind = valueKind;
+        text = valueText;
+        bean = innerBean;
+        elements = collectionElements;
+        entries = mapEntries;
+        type = valueType;
+    }
+
+    /**
+     * Creates a text value.
+     * @param text the text
+     * @param type name of the type of the value, maybe <code>null</code>
+     * @return created value
+     */
+    static ValueDescription text(final String text, final String type) {
+        return new ValueDescription(Kind.TEXT, text, null, null, null, type);
+    }
+
+    /**
+     * Creates an inner bean value.
+     * @param bean the bean
+     * @return created value
+     */
+    static ValueDescription bean(final BeanDescription bean) {
+        return new ValueDescription(Kind.BEAN, null, bean, null, null, null);
+    }
+
+    /**
+     * Creates a reference to a bean.
+     * @param id the id of the referenced bean
+     * @return created value
+     */
+    static ValueDescription ref(final String id) {
+        return new ValueDescription(Kind.REF, id, null, null, null, null);
+    }
+
+    /**
+     * Creates a list or a set.
+     * @param set <code>true</code> if a set should be created
+     * @param elements the elements
+     * @param type name of the type of the elements, maybe <code>null</code>
+     * @return created value
+     */
+    static ValueDescription collection(final boolean set,
+            final List<ValueDescription> elements, final String type) {
+        final Kind kind;
+        if (set) {
+            kind = Kind.SET;
+        } else {
+            kind = Kind.LIST;
+        }
+        return new ValueDescription(kind, null, null, elements, null, type);
+    }
+
+    /**
+     * Creates a map.
+     * @param entries the entries
+     * @param type name of the type of the values, maybe <code>null</code>
+     * @return created value
+     */
+    static ValueDescription map(final Map<String, ValueDescription> entries,
+            final String type) {
+        return new ValueDescription(Kind.MAP, null, null, null, entries, type);
+    }
+
+    /**
+     * Creates the <code>null</code> value.
+     * @return created value
+     */
+    static ValueDescription nullValue() {
+        return new ValueDescription(Kind.NULL, null, null, null, null, null);
+    }
+
+    /**
+     * Retrieves the kind of this value.
+     * @return the kind
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Retrieves the text or the id of the referenced bean.
+     * @return the text
+     */
+    String getText() {
+        return text;
+    }
+
+    /**
+     * Retrieves the inner bean.
+     * @return the bean
+     */
+    BeanDescription getBean() {
+        return bean;
+    }
+
+    /**
+     * Retrieves the elements of a collection.
+     * @return the elements
+     */
+    List<ValueDescription> getElements() {
+        return elements;
+    }
+
+    /**
+     * Retrieves the entries of a map.
+     * @return the entries
+     */
+    Map<String, ValueDescription> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Retrieves the name of the type of the value or of the elements of a
+     * collection.
+     * @return name of the type, maybe <code>null</code>
+     */
+    String getType() {
+        return type;
+    }
+}
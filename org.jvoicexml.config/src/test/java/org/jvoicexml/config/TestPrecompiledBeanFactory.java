@@ -0,0 +1,380 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import javax.sound.sampled.AudioFormat;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link PrecompiledBeanFactory}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestPrecompiledBeanFactory {
+    /** Start of the test configurations. */
+    private static final String HEADER =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<implementation xmlns:beans="
+            + "\"http://www.springframework.org/schema/beans\">"
+            + "<repository>test</repository>"
+            + "<classpath>lib/test.jar</classpath>";
+
+    /** End of the test configurations. */
+    private static final String FOOTER = "</implementation>";
+
+    /** Temporary folder for the cache files. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * A serializable class that must not be read from a cache file.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    public static final class Foreign implements Serializable {
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** <code>true</code> if an instance has been deserialized. */
+        private static boolean deserialized;
+
+        /**
+         * Reads this object and notes that it has been deserialized.
+         * @param in the stream to read from
+         * @throws IOException
+         *         error reading
+         * @throws ClassNotFoundException
+         *         class not found
+         */
+        private void readObject(final ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            deserialized = true;
+        }
+    }
+
+    /**
+     * A simple bean for the tests.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    public static final class Bean {
+        /** A number. */
+        private int number;
+
+        /** A name. */
+        private String name;
+
+        /** Nested beans. */
+        private List<Bean> children;
+
+        /** Numbers by their name. */
+        private Map<String, Long> numbers;
+
+        /** An audio format. */
+        private AudioFormat format;
+
+        /**
+         * Sets the number.
+         * @param value the number
+         */
+        public void setNumber(final int value) {
+            number = value;
+        }
+
+        /**
+         * Retrieves the number.
+         * @return the number
+         */
+        public int getNumber() {
+            return number;
+        }
+
+        /**
+         * Sets the name.
+         * @param value the name
+         */
+        public void setName(final String value) {
+            name = value;
+        }
+
+        /**
+         * Retrieves the name.
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Sets the nested beans.
+         * @param beans the nested beans
+         */
+        public void setChildren(final List<Bean> beans) {
+            children = beans;
+        }
+
+        /**
+         * Retrieves the nested beans.
+         * @return the nested beans
+         */
+        public List<Bean> getChildren() {
+            return children;
+        }
+
+        /**
+         * Sets the numbers.
+         * @param map numbers by their name
+         */
+        public void setNumbers(final Map<String, Long> map) {
+            numbers = map;
+        }
+
+        /**
+         * Retrieves the numbers.
+         * @return numbers by their name
+         */
+        public Map<String, Long> getNumbers() {
+            return numbers;
+        }
+
+        /**
+         * Sets the audio format.
+         * @param audioFormat the audio format
+         */
+        public void setFormat(final AudioFormat audioFormat) {
+            format = audioFormat;
+        }
+
+        /**
+         * Retrieves the audio format.
+         * @return the audio format
+         */
+        public AudioFormat getFormat() {
+            return format;
+        }
+    }
+
+    /**
+     * Compiles the given beans.
+     * @param beans the beans
+     * @return description of the configuration
+     * @throws Exception
+     *         test failed
+     */
+    private ConfigurationDescription compile(final String beans)
+            throws Exception {
+        final String xml = HEADER + beans + FOOTER;
+        final ConfigurationCompiler compiler = new ConfigurationCompiler();
+        return compiler.compile(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test method for {@link PrecompiledBeanFactory#getBean(String, Class)}.
+     * @exception Exception
+     *            test failed
+     */
+    @Test
+    public void testGetBean() throws Exception {
+        final String bean = Bean.class.getName();
+        final ConfigurationDescription description = compile(
+                "<beans:bean id=\"parent\" class=\"" + bean + "\">"
+                + "<beans:property name=\"number\" value=\"42\"/>"
+                + "<beans:property name=\"children\"><beans:list>"
+                + "<beans:bean class=\"" + bean + "\">"
+                + "<beans:property name=\"name\" value=\"child\"/>"
+                + "</beans:bean>"
+                + "<beans:ref bean=\"other\"/>"
+                + "</beans:list></beans:property>"
+                + "<beans:property name=\"numbers\"><beans:map>"
+                + "<beans:entry key=\"one\" value=\"1\"/>"
+                + "<beans:entry key=\"two\"><beans:value>2</beans:value>"
+                + "</beans:entry>"
+                + "</beans:map></beans:property>"
+                + "<beans:property name=\"format\">"
+                + "<beans:bean class=\"javax.sound.sampled.AudioFormat\">"
+                + "<beans:constructor-arg value=\"8000.0\"/>"
+                + "<beans:constructor-arg value=\"16\"/>"
+                + "<beans:constructor-arg value=\"1\"/>"
+                + "<beans:constructor-arg value=\"true\"/>"
+                + "<beans:constructor-arg value=\"false\"/>"
+                + "</beans:bean></beans:property>"
+                + "</beans:bean>"
+                + "<beans:bean id=\"other\" class=\"" + bean + "\"/>");
+        Assert.assertTrue(description.isPrecompiled());
+        Assert.assertEquals("implementation", description.getRoot());
+        Assert.assertEquals("test", description.getRepository());
+        Assert.assertTrue(description.getClasspathEntries().contains(
+                "lib/test.jar"));
+        final PrecompiledBeanFactory factory = new PrecompiledBeanFactory(
+                description, getClass().getClassLoader());
+        final Bean parent = factory.getBean("parent", Bean.class);
+        Assert.assertEquals(42, parent.getNumber());
+        Assert.assertEquals(2, parent.getChildren().size());
+        Assert.assertEquals("child", parent.getChildren().get(0).getName());
+        Assert.assertSame(factory.getBean("other", Bean.class),
+                parent.getChildren().get(1));
+        Assert.assertEquals(Long.valueOf(1), parent.getNumbers().get("one"));
+        Assert.assertEquals(Long.valueOf(2), parent.getNumbers().get("two"));
+        final AudioFormat format = parent.getFormat();
+        Assert.assertEquals(8000.0f, format.getSampleRate(), 0.1f);
+        Assert.assertEquals(16, format.getSampleSizeInBits());
+        Assert.assertFalse(format.isBigEndian());
+        Assert.assertSame(parent, factory.getBean("parent", Bean.class));
+    }
+
+    /**
+     * Test method for
+     * {@link PrecompiledBeanFactory#getBeanNamesForType(Class)}.
+     * @exception Exception
+     *            test failed
+     */
+    @Test
+    public void testGetBeanNamesForType() throws Exception {
+        final String bean = Bean.class.getName();
+        final ConfigurationDescription description = compile(
+                "<beans:bean class=\"" + bean + "\"/>"
+                + "<beans:bean class=\"java.lang.StringBuilder\"/>"
+                + "<beans:bean class=\"" + bean + "\"/>");
+        final PrecompiledBeanFactory factory = new PrecompiledBeanFactory(
+                description, getClass().getClassLoader());
+        final String[] names = factory.getBeanNamesForType(Bean.class);
+        Assert.assertArrayEquals(new String[] {bean + "#0", bean + "#1"},
+                names);
+    }
+
+    /**
+     * Test method for {@link ConfigurationCompiler#compile(byte[])} with
+     * features that require spring.
+     * @exception Exception
+     *            test failed
+     */
+    @Test
+    public void testCompileUnsupported() throws Exception {
+        final ConfigurationDescription description = compile(
+                "<beans:bean class=\"" + Bean.class.getName()
+                + "\" init-method=\"init\"/>");
+        Assert.assertFalse(description.isPrecompiled());
+        Assert.assertEquals("implementation", description.getRoot());
+        Assert.assertTrue(description.getBeans().isEmpty());
+    }
+
+    /**
+     * Test method for
+     * {@link ConfigurationCache#getDescription(File, byte[])}.
+     * @exception Exception
+     *            test failed
+     */
+    @Test
+    public void testCache() throws Exception {
+        final File cacheFile = new File(folder.getRoot(), "config.cache");
+        final File file = new File(folder.getRoot(), "test.xml");
+        final byte[] content = (HEADER + FOOTER).getBytes(
+                StandardCharsets.UTF_8);
+        final ConfigurationCache cache = new ConfigurationCache(cacheFile);
+        final ConfigurationDescription description =
+                cache.getDescription(file, content);
+        Assert.assertSame(description, cache.getDescription(file, content));
+        cache.save();
+        Assert.assertTrue(cacheFile.exists());
+
+        final ConfigurationCache reloaded = new ConfigurationCache(cacheFile);
+        final ConfigurationDescription cached =
+                reloaded.getDescription(file, content);
+        Assert.assertEquals(description.getDigest(), cached.getDigest());
+        Assert.assertSame(cached, reloaded.getDescription(file, content));
+        reloaded.fileUpdated(file);
+        Assert.assertNotSame(cached, reloaded.getDescription(file, content));
+        final byte[] changed = (HEADER + "<!-- changed -->" + FOOTER)
+                .getBytes(StandardCharsets.UTF_8);
+        Assert.assertNotEquals(cached.getDigest(),
+                reloaded.getDescription(file, changed).getDigest());
+    }
+
+    /**
+     * Test method for {@link ConfigurationCache} with a cache file that
+     * contains foreign classes.
+     * @exception Exception
+     *            test failed
+     */
+    @Test
+    public void testCacheForeignClass() throws Exception {
+        final File cacheFile = new File(folder.getRoot(), "config.cache");
+        final File file = new File(folder.getRoot(), "test.xml");
+        final Map<String, Object> foreign =
+                new java.util.HashMap<String, Object>();
+        foreign.put(file.getCanonicalPath(), new Foreign());
+        try (OutputStream out = new FileOutputStream(cacheFile);
+                ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(foreign);
+        }
+        final ConfigurationCache cache = new ConfigurationCache(cacheFile);
+        Assert.assertFalse(Foreign.deserialized);
+        final byte[] content = (HEADER + FOOTER).getBytes(
+                StandardCharsets.UTF_8);
+        final ConfigurationDescription description =
+                cache.getDescription(file, content);
+        Assert.assertTrue(description.isPrecompiled());
+    }
+
+    /**
+     * Test method for
+     * {@link ConfigurationCache#setUnsupported(ConfigurationDescription)}.
+     * @exception Exception
+     *            test failed
+     */
+    @Test
+    public void testCacheUnsupported() throws Exception {
+        final File cacheFile = new File(folder.getRoot(), "config.cache");
+        final File file = new File(folder.getRoot(), "test.xml");
+        final byte[] content = (HEADER + FOOTER).getBytes(
+                StandardCharsets.UTF_8);
+        final ConfigurationCache cache = new ConfigurationCache(cacheFile);
+        final ConfigurationDescription description =
+                cache.getDescription(file, content);
+        cache.setUnsupported(description);
+        Assert.assertFalse(description.isPrecompiled());
+        Assert.assertFalse(cache.getDescription(file, content)
+                .isPrecompiled());
+        cache.save();
+
+        final ConfigurationCache reloaded = new ConfigurationCache(cacheFile);
+        Assert.assertTrue(reloaded.getDescription(file, content)
+                .isPrecompiled());
+    }
+}
@@ -62,6 +62,26 @@ import org.jvoicexml.xml.vxml.Menu;
  * @since 0.7.4
  */
 public final class EmbeddedTextConfiguration implements Configuration {
+    /** Number of instances of the text platform. */
+    private final int instances;
+
+    /**
+     * Constructs a new object with a single instance of the text platform.
+     */
+    public EmbeddedTextConfiguration() {
+        this(1);
+    }
+
+    /**
+     * Constructs a new object.
+     * @param platforms number of instances of the text platform, i.e. the
+     *          number of concurrent sessions
+     * @since 0.7.9
+     */
+    public EmbeddedTextConfiguration(final int platforms) {
+        instances = platforms;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -79,7 +99,7 @@ public final class EmbeddedTextConfiguration implements Configuration {
             }
         } else if (baseClass == PlatformFactory.class) {
             final TextPlatformFactory factory = new TextPlatformFactory();
-            factory.setInstances(1);
+            factory.setInstances(instances);
             final List<GrammarParser<?>> grammarParsers
                 = new java.util.ArrayList<GrammarParser<?>>();
             final GrammarParser<?> parser = new SrgsSisrXmlGrammarParser();
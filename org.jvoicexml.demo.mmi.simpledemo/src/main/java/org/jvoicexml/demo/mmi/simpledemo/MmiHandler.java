@@ -9,9 +9,7 @@ import java.util.List;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -25,6 +23,7 @@ import org.jvoicexml.mmi.events.DoneNotification;
 import org.jvoicexml.mmi.events.ExtensionNotification;
 import org.jvoicexml.mmi.events.LifeCycleEvent;
 import org.jvoicexml.mmi.events.Mmi;
+import org.jvoicexml.mmi.events.MmiCodec;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -62,9 +61,7 @@ public class MmiHandler extends AbstractHandler {
         response.setContentType("text/html;charset=utf-8");
         final Reader reader = request.getReader();
         try {
-            JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
-            final Unmarshaller unmarshaller = ctx.createUnmarshaller();
-            final Object o = unmarshaller.unmarshal(reader);
+            final Object o = MmiCodec.unmarshal(reader);
             if (o instanceof Mmi) {
                 LOGGER.info("received MMI event: " + o);
                 final Runnable runnable = new Runnable() {
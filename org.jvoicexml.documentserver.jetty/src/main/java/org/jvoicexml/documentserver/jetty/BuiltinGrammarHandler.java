@@ -25,7 +25,6 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
-import java.util.Map;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -35,8 +34,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.jvoicexml.documentserver.schemestrategy.builtin.BuiltinGrammarRepository;
 import org.jvoicexml.documentserver.schemestrategy.builtin.GrammarCreator;
 import org.jvoicexml.event.error.BadFetchError;
+import org.jvoicexml.event.error.UnsupportedBuiltinError;
 
 /**
  * A handler for builtin grammars.
@@ -52,8 +53,8 @@ public class BuiltinGrammarHandler extends AbstractHandler {
     /** The context path of this handler. */
     public static String CONTEXT_PATH = "/builtin";
 
-    /** Known grammar creators. */
-    private final Map<String, GrammarCreator> creators;
+    /** The repository of the builtin grammars. */
+    private BuiltinGrammarRepository repository;
 
     /**
      * Adds the specified grammar creators to the list of known grammar
@@ -63,9 +64,7 @@ public class BuiltinGrammarHandler extends AbstractHandler {
      *            the creators to add
      */
     public void setGrammarCreators(final Collection<GrammarCreator> col) {
-        for (GrammarCreator creator : col) {
-            addGrammarCreator(creator);
-        }
+        repository.setGrammarCreators(col);
     }
 
     /**
@@ -75,17 +74,37 @@ public class BuiltinGrammarHandler extends AbstractHandler {
      *            the creator to add
      */
     public void addGrammarCreator(final GrammarCreator creator) {
-        final String type = creator.getTypeName();
-        creators.put(type, creator);
-        LOGGER.info("added builtin grammar creator '" + creator.getClass()
-                + "' for type '" + type + "'");
+        repository.addGrammarCreator(creator);
+    }
+
+    /**
+     * Sets the repository of the builtin grammars, e.g. to share it with
+     * other components.
+     * 
+     * @param grammarRepository
+     *            the repository
+     * @since 0.7.9
+     */
+    public void setRepository(
+            final BuiltinGrammarRepository grammarRepository) {
+        repository = grammarRepository;
+    }
+
+    /**
+     * Retrieves the repository of the builtin grammars.
+     * 
+     * @return the repository
+     * @since 0.7.9
+     */
+    public BuiltinGrammarRepository getRepository() {
+        return repository;
     }
 
     /**
      * Constructs a new object.
      */
     public BuiltinGrammarHandler() {
-        creators = new java.util.HashMap<String, GrammarCreator>();
+        repository = new BuiltinGrammarRepository();
     }
 
     /**
@@ -99,20 +118,16 @@ public class BuiltinGrammarHandler extends AbstractHandler {
                 + " to builtin grammar handler");
         final String requestUri = request.getRequestURI();
         final String builtintUri = requestUri.substring(CONTEXT_PATH.length() + 1);
-        final String type = extractBuiltinType(builtintUri);
-        final GrammarCreator creator = creators.get(type);
-        if (creator == null) {
-            LOGGER.warn("builtin type '" + type + "' is not supported!");
-            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            return;
-        }
         try {
             final URI uri = new URI("builtin:" + builtintUri);
-            final byte[] bytes = creator.createGrammar(uri);
+            final byte[] bytes = repository.getGrammar(uri);
             final OutputStream out = response.getOutputStream();
             out.write(bytes);
             baseRequest.setHandled(true);
             response.setStatus(HttpServletResponse.SC_OK);
+        } catch (UnsupportedBuiltinError e) {
+            LOGGER.warn(e.getMessage());
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
         } catch (URISyntaxException | BadFetchError e) {
             LOGGER.warn("invalid uri '" + builtintUri + "'");
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
@@ -120,21 +135,4 @@ public class BuiltinGrammarHandler extends AbstractHandler {
         
     }
 
-    /**
-     * Extracts the builtin type from the URI.
-     * 
-     * @param uri
-     *            the given URI.
-     * @return extracted builtin type
-     */
-    private String extractBuiltinType(final String requestUri) {
-        final String[] path = requestUri.split("/");
-        String type = path[1];
-        final int pos = type.indexOf('?');
-        if (pos >= 0) {
-            type = type.substring(0, pos);
-        }
-        return type.toLowerCase();
-    }
-
 }
@@ -24,6 +24,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,6 +38,12 @@ import org.jvoicexml.documentserver.schemestrategy.builtin.GrammarCreator;
  * A storage for documents for ASR and TTS that are generated while executing a
  * session. The main task of this component is to manage a set of URIs
  * associated with these documents.
+ * <p>
+ * Documents are addressed by the digest of their content. Sessions that add
+ * documents with the same content share a single entry that is released
+ * once all of these sessions have been cleared. This class is thread safe.
+ * Lookups from the Jetty worker threads do not block.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @since 0.7.7
@@ -46,11 +53,11 @@ public class DocumentStorage implements ContextHandlerProvider {
     private static final Logger LOGGER = LogManager
             .getLogger(DocumentStorage.class);
 
-    /** Generated documents per session. */
-    private final Map<SessionIdentifier, Collection<GrammarDocument>> sessionDocuments;
+    /** Digests of the generated documents per session. */
+    private final Map<SessionIdentifier, Set<String>> sessionDocuments;
 
-    /** Stored documents. */
-    private final Map<URI, GrammarDocument> documents;
+    /** Stored documents by their digest. */
+    private final Map<String, StoredGrammarDocument> documents;
 
     /** Handler for internale gramamrs. */
     private final Handler internalGrammarHandler;
@@ -65,9 +72,10 @@ public class DocumentStorage implements ContextHandlerProvider {
      * Creates a new object.
      */
     public DocumentStorage() {
-        sessionDocuments = 
-                new java.util.HashMap<SessionIdentifier, Collection<GrammarDocument>>();
-        documents = new java.util.HashMap<URI, GrammarDocument>();
+        sessionDocuments = new java.util.concurrent.ConcurrentHashMap<
+                SessionIdentifier, Set<String>>();
+        documents = new java.util.concurrent.ConcurrentHashMap<String,
+                StoredGrammarDocument>();
         internalGrammarHandler = new InternalGrammarDocumentHandler(this);
         builtinGrammarHandler = new BuiltinGrammarHandler();
     }
@@ -84,6 +92,17 @@ public class DocumentStorage implements ContextHandlerProvider {
         builtinGrammarHandler.setGrammarCreators(col);
     }
 
+    /**
+     * Creates the given builtin grammars up front.
+     * 
+     * @param uris
+     *            URIs of the builtin grammars
+     * @since 0.7.9
+     */
+    public void setPreloadedGrammars(final Collection<String> uris) {
+        builtinGrammarHandler.getRepository().setPreloadedGrammars(uris);
+    }
+
 
     /**
      * Resolves the given URI of a builtin grammar to an URI that can be handled
@@ -107,7 +126,8 @@ public class DocumentStorage implements ContextHandlerProvider {
 
     /**
      * Adds the given grammar document to the documents store and retrieves the
-     * URI to access it from external.
+     * URI to access it from external. Documents with the same content share
+     * the same URI.
      * 
      * @param sessionId
      *            the id of the initiating session
@@ -119,18 +139,23 @@ public class DocumentStorage implements ContextHandlerProvider {
      */
     public URI addGrammarDocument(final SessionIdentifier sessionId,
             final GrammarDocument document) throws URISyntaxException {
-        Collection<GrammarDocument> currentDocuments = 
-                getCurrentSessionDocuments(sessionId);
-        currentDocuments.add(document);
-        final String id = sessionId.getId();
-        final URI localUri = new URI(
-                InternalGrammarDocumentHandler.CONTEXT_PATH + "/" + id
-                        + "/" + document.hashCode());
-        documents.put(localUri, document);
+        final String digest = StoredGrammarDocument.digest(document);
         final URI uri = new URI(baseUri
                 + InternalGrammarDocumentHandler.CONTEXT_PATH.substring(1)
-                + "/" + id + "/" + document.hashCode());
+                + "/" + digest);
         document.setURI(uri);
+        final Set<String> currentDocuments =
+                getCurrentSessionDocuments(sessionId);
+        synchronized (documents) {
+            if (currentDocuments.add(digest)) {
+                StoredGrammarDocument stored = documents.get(digest);
+                if (stored == null) {
+                    stored = new StoredGrammarDocument(document, digest);
+                    documents.put(digest, stored);
+                }
+                stored.addReference();
+            }
+        }
         LOGGER.info("added grammar document at '" + uri + "'");
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("added document " + document);
@@ -139,26 +164,30 @@ public class DocumentStorage implements ContextHandlerProvider {
     }
 
     /**
-     * Retrieves the documents for the given session. If no documents exist so
-     * far a new document storage for the session is created.
+     * Retrieves the digests of the documents for the given session. If no
+     * documents exist so far a new document storage for the session is
+     * created.
      * 
      * @param sessionId
      *            the identifier for the session
-     * @return documents for the session
+     * @return digests of the documents for the session
      * @since 0.7.8
      */
-    private Collection<GrammarDocument> getCurrentSessionDocuments(
+    private Set<String> getCurrentSessionDocuments(
             final SessionIdentifier sessionId) {
-        Collection<GrammarDocument> currentDocuments = sessionDocuments
-                .get(sessionId);
+        final Set<String> currentDocuments = sessionDocuments.get(sessionId);
         if (currentDocuments != null) {
             return currentDocuments;
         }
-        currentDocuments = new java.util.ArrayList<GrammarDocument>();
-        sessionDocuments.put(sessionId, currentDocuments);
+        final Set<String> created = new java.util.HashSet<String>();
+        final Set<String> previous =
+                sessionDocuments.putIfAbsent(sessionId, created);
+        if (previous != null) {
+            return previous;
+        }
         LOGGER.info("initialized document storage for session '" 
                 + sessionId.getId() + "'");
-        return currentDocuments;
+        return created;
     }
 
     /**
@@ -171,33 +200,57 @@ public class DocumentStorage implements ContextHandlerProvider {
      * @throws URISyntaxException if the URI does not feature a valid path
      */
     public GrammarDocument getDocument(final URI uri) throws URISyntaxException {
+        final StoredGrammarDocument stored = getStoredDocument(uri);
+        if (stored == null) {
+            return null;
+        }
+        return stored.getDocument();
+    }
+
+    /**
+     * Retrieves the stored document with the given URI.
+     * 
+     * @param uri
+     *            URI of the document to retrieve
+     * @return the stored document, {@code null} if there is no such document
+     * @since 0.7.9
+     */
+    StoredGrammarDocument getStoredDocument(final URI uri) {
         final String path = uri.getPath();
-        final URI pathUri = new URI(path);
-        return documents.get(pathUri);
+        final String prefix = InternalGrammarDocumentHandler.CONTEXT_PATH
+                + "/";
+        if (path == null || !path.startsWith(prefix)) {
+            return null;
+        }
+        final String digest = path.substring(prefix.length());
+        return documents.get(digest);
     }
 
     /**
-     * Clears all documents associated with the given session.
+     * Clears all documents associated with the given session. Documents that
+     * are still referenced by other sessions are kept.
      * 
      * @param sessionId
      *            the id of the session
      * @throws URISyntaxException if the URI does not feature a valid path
      */
     public void clear(final SessionIdentifier sessionId) throws URISyntaxException {
-        final Collection<GrammarDocument> currentDocuments = sessionDocuments
-                .get(sessionId);
+        final Set<String> currentDocuments =
+                sessionDocuments.remove(sessionId);
         if (currentDocuments == null) {
             LOGGER.warn("session '" + sessionId.getId() 
                 + "' unknown. cannot clear");
             return;
         }
-        for (GrammarDocument document : currentDocuments) {
-            final URI uri = document.getURI();
-            final String path = uri.getPath();
-            final URI pathUri = new URI(path);
-            documents.remove(pathUri);
+        synchronized (documents) {
+            for (String digest : currentDocuments) {
+                final StoredGrammarDocument stored = documents.get(digest);
+                if (stored != null && stored.removeReference()) {
+                    documents.remove(digest);
+                }
+            }
+            currentDocuments.clear();
         }
-        sessionDocuments.remove(sessionId);
         LOGGER.info("cleared document storage for session '" + sessionId.getId()
             + "'");
     }
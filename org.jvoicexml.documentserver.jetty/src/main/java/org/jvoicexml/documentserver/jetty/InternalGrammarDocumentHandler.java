@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -31,6 +32,8 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.HttpOutput;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.jvoicexml.GrammarDocument;
@@ -38,6 +41,10 @@ import org.jvoicexml.xml.srgs.GrammarType;
 
 /**
  * Jetty handler to server generated documents from the {@link DocumentStorage}.
+ * <p>
+ * Responses carry the digest of the document as a strong entity tag so that
+ * clients may revalidate their cached copies by <code>If-None-Match</code>.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @since 0.7.7
@@ -75,26 +82,43 @@ class InternalGrammarDocumentHandler extends AbstractHandler  {
         final String requestUri = request.getRequestURI();
         try {
             final URI uri = new URI(requestUri);
-            final GrammarDocument document = storage.getDocument(uri);
-            if (document == null) {
+            final StoredGrammarDocument stored = storage.getStoredDocument(uri);
+            if (stored == null) {
                 LOGGER.warn("no document with URI '" + uri + "'");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
                 return;
             }
+            final ByteBuffer content = stored.getContent();
+            if (content == null) {
+                LOGGER.warn("no document found at '" + uri + "'");
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            final String etag = stored.getEntityTag();
+            response.setHeader(HttpHeader.ETAG.asString(), etag);
+            baseRequest.setHandled(true);
+            final String match = request.getHeader(
+                    HttpHeader.IF_NONE_MATCH.asString());
+            if (matches(match, etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            final GrammarDocument document = stored.getDocument();
             final GrammarType type = document.getMediaType();
             final String contentType = getContentType(type);
             if (contentType != null) {
                 response.setContentType(contentType);
             }
-            final byte[] buffer = document.getBuffer();
-            if (buffer == null) {
-                LOGGER.warn("no document found at '" + uri + "'");
-                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            }
-            final OutputStream out = response.getOutputStream();
-            out.write(buffer);
-            baseRequest.setHandled(true);
             response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentLength(content.remaining());
+            final OutputStream out = response.getOutputStream();
+            if (out instanceof HttpOutput) {
+                ((HttpOutput) out).write(content);
+            } else {
+                final byte[] buffer = new byte[content.remaining()];
+                content.get(buffer);
+                out.write(buffer);
+            }
         } catch (URISyntaxException e) {
             LOGGER.warn("unabale to create request uri '" + requestUri + "'",
                     e);
@@ -102,6 +126,31 @@ class InternalGrammarDocumentHandler extends AbstractHandler  {
         }
     }
     
+    /**
+     * Checks if the value of an <code>If-None-Match</code> header matches
+     * the given entity tag.
+     * @param header value of the header, maybe <code>null</code>
+     * @param etag the entity tag
+     * @return <code>true</code> if the header matches
+     * @since 0.7.9
+     */
+    static boolean matches(final String header, final String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String tag : header.split(",")) {
+            String trimmed = tag.trim();
+            // weak comparison
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Determines the content type for the given grammar type.
      * @param type the current grammar type
@@ -0,0 +1,120 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver.jetty;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.server.handler.ContextHandler;
+import org.jvoicexml.metrics.Metrics;
+import org.jvoicexml.metrics.MetricsRegistry;
+
+/**
+ * Provides the current values of all metrics in the Prometheus text
+ * exposition format at {@value #CONTEXT_PATH}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ * @see Metrics
+ */
+public final class MetricsHandler extends AbstractHandler
+        implements ContextHandlerProvider {
+    /** The context path of this handler. */
+    public static final String CONTEXT_PATH = "/metrics";
+
+    /** The content type of the text exposition format. */
+    private static final String CONTENT_TYPE =
+            "text/plain; version=0.0.4; charset=utf-8";
+
+    /** The registry to export. */
+    private final MetricsRegistry registry;
+
+    /**
+     * Constructs a new object that exports the metrics of the interpreter.
+     */
+    public MetricsHandler() {
+        this(Metrics.getRegistry());
+    }
+
+    /**
+     * Constructs a new object.
+     * @param metricsRegistry the registry to export
+     */
+    public MetricsHandler(final MetricsRegistry metricsRegistry) {
+        registry = metricsRegistry;
+    }
+
+    /**
+     * Enables or disables recording of metrics.
+     * @param on <code>true</code> to record metrics
+     * @see Metrics#setEnabled(boolean)
+     */
+    public void setEnabled(final boolean on) {
+        Metrics.setEnabled(on);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handle(final String target, final Request baseRequest,
+            final HttpServletRequest request,
+            final HttpServletResponse response)
+            throws IOException, ServletException {
+        final byte[] bytes =
+                registry.toText().getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+        baseRequest.setHandled(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<ContextHandler> getContextHandlers() {
+        final Collection<ContextHandler> handlers =
+                new java.util.ArrayList<ContextHandler>();
+        final ContextHandler context = new ContextHandler(CONTEXT_PATH);
+        context.setHandler(this);
+        handlers.add(context);
+        return handlers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setServerUri(final URI uri) {
+    }
+}
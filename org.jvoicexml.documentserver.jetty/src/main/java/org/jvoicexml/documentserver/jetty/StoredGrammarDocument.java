@@ -0,0 +1,163 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver.jetty;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.jvoicexml.GrammarDocument;
+import org.jvoicexml.xml.srgs.GrammarType;
+
+/**
+ * A grammar document in the {@link DocumentStorage} that is shared by all
+ * sessions that added a document with the same content.
+ * <p>
+ * The content is addressed by the SHA-256 digest of the media type and the
+ * buffer of the document. The digest also serves as the strong entity tag
+ * of the document.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class StoredGrammarDocument {
+    /** Hexadecimal digits. */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** The first added document with this content. */
+    private final GrammarDocument document;
+
+    /** The content of the document. */
+    private final ByteBuffer content;
+
+    /** The digest of the content. */
+    private final String digest;
+
+    /** Number of sessions that reference this document. */
+    private int references;
+
+    /**
+     * Constructs a new object without any references.
+     * @param grammarDocument the document
+     * @param contentDigest the digest of the content as obtained by
+     *          {@link #digest(GrammarDocument)}
+     */
+    StoredGrammarDocument(final GrammarDocument grammarDocument,
+            final String contentDigest) {
+        document = grammarDocument;
+        final byte[] buffer = document.getBuffer();
+        if (buffer == null) {
+            content = null;
+        } else {
+            content = ByteBuffer.wrap(buffer).asReadOnlyBuffer();
+        }
+        digest = contentDigest;
+    }
+
+    /**
+     * Calculates the digest of the content of the given document.
+     * @param document the document
+     * @return digest as a hexadecimal string
+     */
+    static String digest(final GrammarDocument document) {
+        final MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform must support SHA-256
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        final GrammarType type = document.getMediaType();
+        if (type != null) {
+            sha.update(type.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        sha.update((byte) 0);
+        final byte[] buffer = document.getBuffer();
+        if (buffer != null) {
+            sha.update(buffer);
+        }
+        final byte[] bytes = sha.digest();
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Retrieves the document.
+     * @return the document
+     */
+    GrammarDocument getDocument() {
+        return document;
+    }
+
+    /**
+     * Retrieves the content of the document.
+     * @return a new read-only view of the content, <code>null</code> if the
+     *          document has no content
+     */
+    ByteBuffer getContent() {
+        if (content == null) {
+            return null;
+        }
+        return content.duplicate();
+    }
+
+    /**
+     * Retrieves the digest of the content.
+     * @return digest as a hexadecimal string
+     */
+    String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Retrieves the strong entity tag of this document.
+     * @return the entity tag including the quotes
+     */
+    String getEntityTag() {
+        return "\"" + digest + "\"";
+    }
+
+    /**
+     * Adds a reference from a session. Calls must be synchronized by the
+     * caller.
+     */
+    void addReference() {
+        ++references;
+    }
+
+    /**
+     * Removes a reference from a session. Calls must be synchronized by the
+     * caller.
+     * @return <code>true</code> if there are no more references
+     */
+    boolean removeReference() {
+        --references;
+        return references <= 0;
+    }
+}
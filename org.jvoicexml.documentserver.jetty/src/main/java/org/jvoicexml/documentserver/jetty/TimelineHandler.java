@@ -0,0 +1,140 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver.jetty;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.server.handler.ContextHandler;
+import org.jvoicexml.metrics.Timeline;
+import org.jvoicexml.metrics.Timelines;
+
+/**
+ * Provides the timelines of running and recently finished sessions.
+ *
+ * <p>
+ * {@value #CONTEXT_PATH} lists the ids of all sessions with a timeline,
+ * one per line. {@value #CONTEXT_PATH}<code>/&lt;session id&gt;</code>
+ * returns the timeline of that session in the Chrome trace event format
+ * that can be loaded into <code>chrome://tracing</code> or Perfetto.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ * @see Timelines
+ */
+public final class TimelineHandler extends AbstractHandler
+        implements ContextHandlerProvider {
+    /** The context path of this handler. */
+    public static final String CONTEXT_PATH = "/timelines";
+
+    /**
+     * Enables or disables recording of timelines.
+     * @param on <code>true</code> to record timelines
+     * @see Timelines#setEnabled(boolean)
+     */
+    public void setEnabled(final boolean on) {
+        Timelines.setEnabled(on);
+    }
+
+    /**
+     * Sets the latency budget to write the timelines of slow sessions.
+     * @param msec the budget in msec
+     * @see Timelines#setBudget(long)
+     */
+    public void setBudget(final long msec) {
+        Timelines.setBudget(msec);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handle(final String target, final Request baseRequest,
+            final HttpServletRequest request,
+            final HttpServletResponse response)
+            throws IOException, ServletException {
+        String id = target;
+        while (id.startsWith("/")) {
+            id = id.substring(1);
+        }
+        if (id.isEmpty()) {
+            final StringBuilder str = new StringBuilder();
+            for (String sessionId : Timelines.getSessionIds()) {
+                str.append(sessionId);
+                str.append('\n');
+            }
+            final byte[] bytes =
+                    str.toString().getBytes(StandardCharsets.UTF_8);
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType("text/plain; charset=utf-8");
+            response.setContentLength(bytes.length);
+            response.getOutputStream().write(bytes);
+            baseRequest.setHandled(true);
+            return;
+        }
+        final Timeline timeline = Timelines.getTimeline(id);
+        if (timeline == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            baseRequest.setHandled(true);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/json; charset=utf-8");
+        final Writer out = new OutputStreamWriter(response.getOutputStream(),
+                StandardCharsets.UTF_8);
+        timeline.writeTrace(out);
+        out.flush();
+        baseRequest.setHandled(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<ContextHandler> getContextHandlers() {
+        final Collection<ContextHandler> handlers =
+                new java.util.ArrayList<ContextHandler>();
+        final ContextHandler context = new ContextHandler(CONTEXT_PATH);
+        context.setHandler(this);
+        handlers.add(context);
+        return handlers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setServerUri(final URI uri) {
+    }
+}
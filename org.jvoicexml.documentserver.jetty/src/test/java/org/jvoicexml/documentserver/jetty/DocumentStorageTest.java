@@ -160,4 +160,60 @@ public class DocumentStorageTest {
         Assert.assertEquals(document, storage.getDocument(uri));
     }
 
+    /**
+     * Test method for
+     * {@link DocumentStorage#addGrammarDocument(SessionIdentifier, GrammarDocument)}
+     * with the same content in different sessions.
+     * 
+     * @throws Exception
+     *             test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testAddGrammarDocumentShared() throws Exception {
+        final SrgsXmlDocument srgsdocument = new SrgsXmlDocument();
+        final Grammar grammar = srgsdocument.getGrammar();
+        final GrammarDocument document1 = new InternalGrammarDocument(grammar);
+        final GrammarDocument document2 = new InternalGrammarDocument(grammar);
+        final SessionIdentifier id1 = new SessionIdentifier() {
+            @Override
+            public String getId() {
+                return "12345";
+            }
+        };
+        final SessionIdentifier id2 = new SessionIdentifier() {
+            @Override
+            public String getId() {
+                return "54321";
+            }
+        };
+        final URI uri1 = storage.addGrammarDocument(id1, document1);
+        storage.addGrammarDocument(id1, document1);
+        final URI uri2 = storage.addGrammarDocument(id2, document2);
+        Assert.assertEquals(uri1, uri2);
+        Assert.assertSame(document1, storage.getDocument(uri1));
+        storage.clear(id1);
+        Assert.assertSame(document1, storage.getDocument(uri2));
+        storage.clear(id2);
+        Assert.assertNull("document not cleared", storage.getDocument(uri1));
+    }
+
+    /**
+     * Test method for
+     * {@link InternalGrammarDocumentHandler#matches(String, String)}.
+     * 
+     * @since 0.7.9
+     */
+    @Test
+    public void testMatches() {
+        final String etag = "\"abc\"";
+        Assert.assertFalse(InternalGrammarDocumentHandler.matches(null, etag));
+        Assert.assertTrue(InternalGrammarDocumentHandler.matches(etag, etag));
+        Assert.assertTrue(InternalGrammarDocumentHandler.matches(
+                "\"xyz\", W/\"abc\"", etag));
+        Assert.assertTrue(InternalGrammarDocumentHandler.matches("*", etag));
+        Assert.assertFalse(InternalGrammarDocumentHandler.matches(
+                "\"xyz\"", etag));
+    }
+
 }
@@ -32,6 +32,7 @@ import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.jvoicexml.SessionIdentifier;
 import org.jvoicexml.documentserver.SchemeStrategy;
+import org.jvoicexml.documentserver.ValidatingSchemeStrategy;
 import org.jvoicexml.event.error.BadFetchError;
 import org.jvoicexml.interpreter.datamodel.KeyValuePair;
 import org.jvoicexml.xml.vxml.RequestMethod;
@@ -39,12 +40,13 @@ import org.jvoicexml.xml.vxml.RequestMethod;
 /**
  * {@link SchemeStrategy} to read VoiceXML document from the file system. The
  * files are retrieved by their {@link URI} which has to be
- * <em>hierarchical</em>.
+ * <em>hierarchical</em>. Files are validated by their size and the time of
+ * their last modification.
  *
  * @author Dirk Schnelle-Walka
  * @since 0.3
  */
-public final class FileSchemeStrategy implements SchemeStrategy {
+public final class FileSchemeStrategy implements ValidatingSchemeStrategy {
     /** Logger for this class. */
     private static final Logger LOGGER = LogManager
             .getLogger(FileSchemeStrategy.class);
@@ -74,19 +76,46 @@ public final class FileSchemeStrategy implements SchemeStrategy {
             final URI uri, final RequestMethod method, final long timeout,
             final Collection<KeyValuePair> parameters) throws BadFetchError {
 
+        final File file = getFile(uri);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("reading '" + file + "'...");
+        }
+        try {
+            return new FileInputStream(file);
+        } catch (java.io.FileNotFoundException e) {
+            throw new BadFetchError(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getValidator(final SessionIdentifier sessionId,
+            final URI uri, final long timeout) throws BadFetchError {
+        final File file = getFile(uri);
+        if (!file.isFile()) {
+            throw new BadFetchError("'" + file + "' does not exist");
+        }
+        return file.length() + "-" + file.lastModified();
+    }
+
+    /**
+     * Retrieves the file for the given URI.
+     * @param uri the URI of the file
+     * @return the file
+     * @exception BadFetchError
+     *                the URI does not denote a file
+     * @since 0.7.9
+     */
+    private File getFile(final URI uri) throws BadFetchError {
         try {
             // Remove the fragment.
             // A file based URI may only have a scheme and a path.
             final String scheme = uri.getScheme();
             final String path = uri.getPath();
             final URI fragmentLessUri = new URI(scheme, null, path, null);
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("reading '" + fragmentLessUri + "'...");
-            }
-            final File file = new File(fragmentLessUri);
-            return new FileInputStream(file);
-        } catch (java.io.FileNotFoundException e) {
-            throw new BadFetchError(e.getMessage(), e);
+            return new File(fragmentLessUri);
         } catch (java.lang.IllegalArgumentException e) {
             throw new BadFetchError(e.getMessage(), e);
         } catch (URISyntaxException e) {
@@ -0,0 +1,72 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver.schemestrategy.http;
+
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream of the body of an HTTP response. The response and the client are
+ * closed when this stream is closed.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class HttpResponseInputStream extends FilterInputStream {
+    /** The response. */
+    private final Closeable response;
+
+    /** The client that received the response. */
+    private final Closeable client;
+
+    /**
+     * Constructs a new object.
+     * @param body the body of the response
+     * @param httpResponse the response
+     * @param httpClient the client that received the response
+     */
+    HttpResponseInputStream(final InputStream body,
+            final Closeable httpResponse, final Closeable httpClient) {
+        super(body);
+        response = httpResponse;
+        client = httpClient;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            try {
+                response.close();
+            } finally {
+                client.close();
+            }
+        }
+    }
+}
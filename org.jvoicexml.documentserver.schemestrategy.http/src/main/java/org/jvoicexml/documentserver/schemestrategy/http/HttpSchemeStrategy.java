@@ -29,13 +29,16 @@ import java.net.URISyntaxException;
 import java.util.Collection;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.ParseException;
 import org.apache.http.StatusLine;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.utils.URIBuilder;
@@ -46,8 +49,8 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jvoicexml.SessionIdentifier;
-import org.jvoicexml.documentserver.ReadBuffer;
 import org.jvoicexml.documentserver.SchemeStrategy;
+import org.jvoicexml.documentserver.ValidatingSchemeStrategy;
 import org.jvoicexml.documentserver.schemestrategy.SessionIdentifierFactory;
 import org.jvoicexml.documentserver.schemestrategy.SessionStorage;
 import org.jvoicexml.event.error.BadFetchError;
@@ -64,9 +67,14 @@ import org.jvoicexml.xml.vxml.RequestMethod;
  * <code>http.proxyPort</code>.
  * </p>
  *
+ * <p>
+ * Resources are validated by their entity tag or, if the server does not
+ * send one, by the time of their last modification.
+ * </p>
+ *
  * @author Dirk Schnelle-Walka
  */
-public final class HttpSchemeStrategy implements SchemeStrategy {
+public final class HttpSchemeStrategy implements ValidatingSchemeStrategy {
     /** Logger for this class. */
     private static final Logger LOGGER = LogManager
             .getLogger(HttpSchemeStrategy.class);
@@ -140,8 +148,9 @@ public final class HttpSchemeStrategy implements SchemeStrategy {
         final HttpClientBuilder builder = SESSION_STORAGE
                 .getSessionIdentifier(sessionId);
         final RequestConfig config = setTimeout(timeout);
-        try (CloseableHttpClient client = builder
-                .setDefaultRequestConfig(config).build()) {
+        final CloseableHttpClient client = builder
+                .setDefaultRequestConfig(config).build();
+        try {
             final String fragmentLessUriString = StringUtils.substringBeforeLast(uri.toString(), "#");
             final URI fragmentLessUri = new URI(fragmentLessUriString);
             final URI requestUri = addParameters(parameters, fragmentLessUri);
@@ -155,26 +164,81 @@ public final class HttpSchemeStrategy implements SchemeStrategy {
                 request = new HttpPost(requestUri);
             }
             attachFiles(request, parameters);
-            final HttpResponse response = client.execute(request);
+            final CloseableHttpResponse response = client.execute(request);
             final StatusLine statusLine = response.getStatusLine();
             final int status = statusLine.getStatusCode();
             if (status != HttpStatus.SC_OK) {
                 final String reasonPhrase = statusLine.getReasonPhrase();
                 LOGGER.error("error accessing '" + uri + "': " + reasonPhrase
                         + " (HTTP error code " + status + ")");
+                response.close();
+                client.close();
                 return null;
             }
+            // Stream the body as it arrives. The connection is released when
+            // the caller closes the stream.
             final HttpEntity entity = response.getEntity();
             final InputStream input = entity.getContent();
-            final ReadBuffer buffer = new ReadBuffer();
-            buffer.read(input);
-            return buffer.getInputStream();
+            return new HttpResponseInputStream(input, response, client);
         } catch (IOException | URISyntaxException | ParseException
                 | SemanticError e) {
+            closeQuietly(client);
             throw new BadFetchError(e.getMessage(), e);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getValidator(final SessionIdentifier sessionId,
+            final URI uri, final long timeout) throws BadFetchError {
+        final HttpClientBuilder builder = SESSION_STORAGE
+                .getSessionIdentifier(sessionId);
+        final RequestConfig config = setTimeout(timeout);
+        try (CloseableHttpClient client = builder
+                .setDefaultRequestConfig(config).build()) {
+            final String fragmentLessUriString = StringUtils
+                    .substringBeforeLast(uri.toString(), "#");
+            final HttpHead request = new HttpHead(fragmentLessUriString);
+            try (CloseableHttpResponse response = client.execute(request)) {
+                final StatusLine statusLine = response.getStatusLine();
+                final int status = statusLine.getStatusCode();
+                if (status != HttpStatus.SC_OK) {
+                    throw new BadFetchError("error accessing '" + uri
+                            + "': " + statusLine.getReasonPhrase()
+                            + " (HTTP error code " + status + ")");
+                }
+                Header header = response.getFirstHeader(HttpHeaders.ETAG);
+                if (header == null) {
+                    header = response.getFirstHeader(
+                            HttpHeaders.LAST_MODIFIED);
+                }
+                if (header == null) {
+                    return null;
+                }
+                return header.getValue();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new BadFetchError(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Closes the given client after an error.
+     * 
+     * @param client
+     *            the client to close
+     * @since 0.7.9
+     */
+    private void closeQuietly(final CloseableHttpClient client) {
+        try {
+            client.close();
+        } catch (IOException e) {
+            LOGGER.warn("error closing the HTTP client: " + e.getMessage());
+        }
+    }
+
     /**
      * Sets the timeout for the current connection.
      * 
@@ -32,9 +32,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.UUID;
 
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicStatusLine;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,6 +53,7 @@ import org.jvoicexml.xml.vxml.RequestMethod;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 
 /**
@@ -187,6 +195,32 @@ public final class TestHttpSchemeStrategy {
         assertEquals(BASE_URL, httpRequestString);
     }
 
+    /**
+     * Test method for
+     * {@link HttpSchemeStrategy#getValidator(SessionIdentifier, URI, long)}.
+     * @throws Exception test failed
+     * @throws BadFetchError test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testGetValidator() throws Exception, BadFetchError {
+        final CloseableHttpResponse response =
+                Mockito.mock(CloseableHttpResponse.class);
+        when(response.getStatusLine()).thenReturn(
+                new BasicStatusLine(HttpVersion.HTTP_1_1, HttpStatus.SC_OK,
+                        "OK"));
+        when(response.getFirstHeader(HttpHeaders.ETAG)).thenReturn(
+                new BasicHeader(HttpHeaders.ETAG, "\"42\""));
+        when(httpClient.execute(any())).thenReturn(response);
+        final URI uri = new URI(BASE_URL + "/hello.wav#fragment");
+        assertEquals("\"42\"",
+                strategy.getValidator(SESSION_ID, uri, TIMEOUT));
+        verify(httpClient).execute(httpRequestCaptor.capture());
+        final HttpUriRequest request = httpRequestCaptor.getValue();
+        assertEquals(HttpHead.METHOD_NAME, request.getMethod());
+        assertEquals(BASE_URL + "/hello.wav", request.getURI().toString());
+    }
+
     private String captureHttpRequestString() throws IOException {
         verify(httpClient).execute(httpRequestCaptor.capture());
         HttpUriRequest httpRequest = httpRequestCaptor.getValue();
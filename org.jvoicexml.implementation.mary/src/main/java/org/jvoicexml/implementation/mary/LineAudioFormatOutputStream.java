@@ -24,10 +24,13 @@
 
 package org.jvoicexml.implementation.mary;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.DataLine;
 import javax.sound.sampled.LineUnavailableException;
@@ -35,11 +38,24 @@ import javax.sound.sampled.SourceDataLine;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jvoicexml.AudioClip;
+import org.jvoicexml.documentserver.AudioClipStore;
+import org.jvoicexml.implementation.synthesis.SynthesizedAudio;
 
 import marytts.client.AudioFormatOutputStream;
 
 /**
  * Outputstream that retreives the audio format to use from mary.
+ * <p>
+ * The written audio can be recorded to add it to a
+ * {@link org.jvoicexml.implementation.synthesis.SynthesizedAudioCache}.
+ * Audio from the cache is played with {@link #play(SynthesizedAudio)}.
+ * </p>
+ * <p>
+ * Sentences of a prompt that are synthesized one after the other are played
+ * with {@link #play(SentenceAudio)}. The line is kept open as long as the
+ * format does not change.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @since 0.7.7
@@ -49,9 +65,24 @@ public final class LineAudioFormatOutputStream extends AudioFormatOutputStream {
     private static final Logger LOGGER = LogManager
             .getLogger(LineAudioFormatOutputStream.class);
 
+    /** Size of the chunks when playing a clip. */
+    private static final int CLIP_CHUNK_SIZE = 4096;
+
     /** The source data line to use for audio output. */
     private SourceDataLine line;
 
+    /** The stream that writes to the line. */
+    private LineOutputStream lineStream;
+
+    /** The format of the line. */
+    private AudioFormat lineFormat;
+
+    /** Copy of the written audio, <code>null</code> if not recorded. */
+    private ByteArrayOutputStream recording;
+
+    /** <code>true</code> if the output has been canceled. */
+    private volatile boolean canceled;
+
     /**
      * Constructs a new object.
      */
@@ -68,6 +99,35 @@ public final class LineAudioFormatOutputStream extends AudioFormatOutputStream {
      */
     @Override
     public void setFormat(final AudioFormat format) throws IOException {
+        openLine(format);
+        if (recording == null) {
+            setOutputStream(lineStream);
+        } else {
+            setOutputStream(new RecordingOutputStream(lineStream, recording));
+        }
+
+        super.setFormat(format);
+    }
+
+    /**
+     * Opens and starts a line with the given format. An open line is reused
+     * if it has the same format.
+     * 
+     * @param format
+     *            the format to use.
+     * @throws IOException
+     *             error opening the line
+     */
+    private void openLine(final AudioFormat format) throws IOException {
+        if (line != null) {
+            if (lineFormat.matches(format)) {
+                if (!line.isRunning()) {
+                    line.start();
+                }
+                return;
+            }
+            lineStream.close();
+        }
         LOGGER.info("using audio format: " + format);
         final DataLine.Info info = new DataLine.Info(SourceDataLine.class,
                 format);
@@ -87,19 +147,157 @@ public final class LineAudioFormatOutputStream extends AudioFormatOutputStream {
             throw new IOException(e.getMessage(), e);
         }
 
-        // Set the output stream
-        final OutputStream out = new LineOutputStream(line);
-        setOutputStream(out);
+        lineStream = new LineOutputStream(line);
+        lineFormat = format;
+    }
+
+    /**
+     * Starts recording all audio that is written to this stream. This must
+     * be called before the format is set.
+     * @since 0.7.9
+     */
+    public void record() {
+        recording = new ByteArrayOutputStream();
+    }
+
+    /**
+     * Retrieves the recorded audio.
+     * @return recorded audio, <code>null</code> if nothing was recorded or
+     *          the output has been canceled
+     * @since 0.7.9
+     */
+    public byte[] getRecording() {
+        if (recording == null || lineFormat == null || canceled) {
+            return null;
+        }
+        return recording.toByteArray();
+    }
+
+    /**
+     * Retrieves the format of the line.
+     * @return format of the line, <code>null</code> if the format has not
+     *          been set
+     * @since 0.7.9
+     */
+    public AudioFormat getLineFormat() {
+        return lineFormat;
+    }
 
-        super.setFormat(format);
+    /**
+     * Plays the given audio that has been synthesized before.
+     * @param audio the audio to play
+     * @throws IOException
+     *          error opening or writing to the line
+     * @since 0.7.9
+     */
+    public void play(final SynthesizedAudio audio) throws IOException {
+        if (canceled) {
+            return;
+        }
+        setFormat(audio.getFormat());
+        play(audio.getBuffer());
+    }
+
+    /**
+     * Plays the audio of the given sentence while it is synthesized.
+     * Playback starts with the first chunk and ends when all of the audio
+     * has been played or the output has been canceled.
+     * @param sentence the sentence to play
+     * @throws IOException
+     *          error opening or writing to the line or synthesizing the
+     *          sentence
+     * @throws InterruptedException
+     *          interrupted while waiting for the next chunk
+     * @since 0.7.9
+     */
+    void play(final SentenceAudio sentence)
+            throws IOException, InterruptedException {
+        byte[] chunk = sentence.nextChunk();
+        if (chunk == null || canceled) {
+            return;
+        }
+        openLine(sentence.getAudioFormat());
+        while (chunk != null && !canceled) {
+            lineStream.write(chunk);
+            chunk = sentence.nextChunk();
+        }
+    }
+
+    /**
+     * Plays the given clip from its shared buffer.
+     * @param clip the clip to play
+     * @throws IOException
+     *          error opening or writing to the line
+     * @since 0.7.9
+     */
+    public void play(final AudioClip clip) throws IOException {
+        if (canceled) {
+            return;
+        }
+        openLine(clip.getFormat());
+        play(clip.getBuffer());
+    }
+
+    /**
+     * Writes the given audio to the line in chunks until all of the audio
+     * has been played or the output has been canceled.
+     * @param buffer the audio to play
+     * @throws IOException
+     *          error writing to the line
+     */
+    private void play(final ByteBuffer buffer) throws IOException {
+        final byte[] chunk = new byte[CLIP_CHUNK_SIZE];
+        while (buffer.hasRemaining() && !canceled) {
+            final int len = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, len);
+            lineStream.write(chunk, 0, len);
+        }
+    }
+
+    /**
+     * Plays the given audio while it is read. Audio that is not PCM is
+     * decoded on the fly.
+     * @param audio the audio to play, the stream is closed
+     * @throws IOException
+     *          error reading the audio or opening or writing to the line
+     * @since 0.7.9
+     */
+    public void play(final AudioInputStream audio) throws IOException {
+        if (canceled) {
+            audio.close();
+            return;
+        }
+        final AudioInputStream pcm = AudioClipStore.toPcm(audio);
+        try {
+            openLine(pcm.getFormat());
+            final byte[] chunk = new byte[CLIP_CHUNK_SIZE];
+            int num = pcm.read(chunk);
+            while (num >= 0 && !canceled) {
+                lineStream.write(chunk, 0, num);
+                num = pcm.read(chunk);
+            }
+        } finally {
+            pcm.close();
+        }
+    }
+
+    /**
+     * Checks if the output has been canceled.
+     * @return <code>true</code> if the output has been canceled
+     * @since 0.7.9
+     */
+    public boolean isCanceled() {
+        return canceled;
     }
 
     /**
      * Stops the current output.
      */
     public void cancel() {
+        canceled = true;
         if (line != null) {
             line.stop();
+            line.flush();
         }
     }
 
@@ -117,4 +315,56 @@ public final class LineAudioFormatOutputStream extends AudioFormatOutputStream {
         }
         super.close();
     }
+
+    /**
+     * An output stream that keeps a copy of all written data.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class RecordingOutputStream extends OutputStream {
+        /** The stream to write to. */
+        private final OutputStream out;
+
+        /** The copy of the written data. */
+        private final ByteArrayOutputStream copy;
+
+        /**
+         * Constructs a new object.
+         * @param stream the stream to write to
+         * @param recording the copy of the written data
+         */
+        RecordingOutputStream(final OutputStream stream,
+                final ByteArrayOutputStream recording) {
+            out = stream;
+            copy = recording;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(new byte[] {(byte) b}, 0, 1);
+            copy.write(b);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(final byte[] b, final int off, final int len)
+                throws IOException {
+            out.write(b, off, len);
+            copy.write(b, off, len);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
 }
@@ -40,6 +40,7 @@ import org.jvoicexml.event.plain.implementation.QueueEmptyEvent;
 import org.jvoicexml.event.plain.implementation.SynthesizedOutputEvent;
 import org.jvoicexml.implementation.SynthesizedOutput;
 import org.jvoicexml.implementation.SynthesizedOutputListener;
+import org.jvoicexml.implementation.synthesis.SynthesizedAudioCache;
 import org.jvoicexml.xml.vxml.BargeInType;
 
 import marytts.client.MaryClient;
@@ -96,6 +97,12 @@ public final class MarySynthesizedOutput
      */
     private final Map<String, String> maryRequestParameters;
 
+    /** Cache of synthesized prompts, <code>null</code> if not cached. */
+    private SynthesizedAudioCache cache;
+
+    /** <code>true</code> if sentences are synthesized while others play. */
+    private boolean pipelined;
+
     /**
      * Constructs a new MarySynthesizedOutput object.
      */
@@ -122,6 +129,7 @@ public final class MarySynthesizedOutput
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("queued speakable: " + speakable);
         }
+        synthesisQueue.setDocumentServer(server, sessionId);
         synthesisQueue.queueSpeakables(speakable);
         speakableQueueEmpty = false;
     }
@@ -225,6 +233,8 @@ public final class MarySynthesizedOutput
         synthesisQueue.addListener(this);
         synthesisQueue.setProcessor(processor);
         synthesisQueue.setRequestParameters(maryRequestParameters);
+        synthesisQueue.setCache(cache);
+        synthesisQueue.setPipelined(pipelined);
         synthesisQueue.start();
     }
 
@@ -428,6 +438,30 @@ public final class MarySynthesizedOutput
 
     }
 
+    /**
+     * Sets the cache of synthesized prompts.
+     * 
+     * @param audioCache
+     *            the cache, <code>null</code> to synthesize all prompts
+     * @since 0.7.9
+     */
+    public void setCache(final SynthesizedAudioCache audioCache) {
+        cache = audioCache;
+    }
+
+    /**
+     * Enables or disables the pipelined mode. In pipelined mode, prompts are
+     * split into sentences and the next sentence is synthesized while the
+     * current sentence is played.
+     * 
+     * @param value
+     *            <code>true</code> to enable the pipelined mode
+     * @since 0.7.9
+     */
+    public void setPipelined(final boolean value) {
+        pipelined = value;
+    }
+
     /**
      * Sets the language.
      * 
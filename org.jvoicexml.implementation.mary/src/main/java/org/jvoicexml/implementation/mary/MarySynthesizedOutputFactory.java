@@ -24,13 +24,25 @@
 
 package org.jvoicexml.implementation.mary;
 
+import java.io.File;
+
 import org.jvoicexml.event.error.NoresourceError;
 import org.jvoicexml.implementation.ResourceFactory;
 import org.jvoicexml.implementation.SynthesizedOutput;
+import org.jvoicexml.implementation.synthesis.SynthesizedAudioCache;
 
 /**
  * implementation of a. {@link org.jvoicexml.implementation.ResourceFactory} for
  * the {@link SynthesizedOutput} based on MaryTTS
+ * <p>
+ * If a cache size is set, all created outputs share a
+ * {@link SynthesizedAudioCache} and play prompts that have been synthesized
+ * before from that cache.
+ * </p>
+ * <p>
+ * In pipelined mode, the created outputs start playing a prompt after its
+ * first sentence has been synthesized.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @author Giannis Assiouras
@@ -50,6 +62,21 @@ public class MarySynthesizedOutputFactory
     /** Name of the voice to use. */
     private String voiceName;
 
+    /** Maximal size of the memory tier of the cache in bytes. */
+    private long cacheSize;
+
+    /** Directory of the disk tier of the cache. */
+    private String cacheDirectory;
+
+    /** Maximal size of the disk tier of the cache in bytes. */
+    private long cacheDiskSize;
+
+    /** The shared cache of synthesized prompts. */
+    private SynthesizedAudioCache cache;
+
+    /** <code>true</code> if the created outputs work pipelined. */
+    private boolean pipelined;
+
     /**
      * {@inheritDoc}
      */
@@ -59,9 +86,41 @@ public class MarySynthesizedOutputFactory
         output.setType(type);
         output.setAudioType(audioType);
         output.setVoiceName(voiceName);
+        output.setCache(getCache());
+        output.setPipelined(pipelined);
         return output;
     }
 
+    /**
+     * Retrieves the cache that is shared by all created outputs. The cache
+     * is created with the first output.
+     * 
+     * @return the cache, <code>null</code> if prompts are not cached
+     * @since 0.7.9
+     */
+    private synchronized SynthesizedAudioCache getCache() {
+        if (cache == null && (cacheSize > 0 || cacheDirectory != null)) {
+            File directory = null;
+            if (cacheDirectory != null) {
+                directory = new File(cacheDirectory);
+            }
+            cache = new SynthesizedAudioCache(cacheSize, directory,
+                    cacheDiskSize);
+        }
+        return cache;
+    }
+
+    /**
+     * Retrieves the cache that is shared by all created outputs, e.g. to
+     * monitor its hit ratio.
+     * 
+     * @return the cache, <code>null</code> if prompts are not cached
+     * @since 0.7.9
+     */
+    public final synchronized SynthesizedAudioCache getSynthesizedAudioCache() {
+        return cache;
+    }
+
     @Override
     public final Class<SynthesizedOutput> getResourceType() {
         return SynthesizedOutput.class;
@@ -119,4 +178,53 @@ public class MarySynthesizedOutputFactory
     public final void setVoiceName(final String name) {
         voiceName = name;
     }
+
+    /**
+     * Sets the maximal size of the memory tier of the cache of synthesized
+     * prompts. A size of <code>0</code> disables the memory tier.
+     * 
+     * @param bytes
+     *            size in bytes
+     * @since 0.7.9
+     */
+    public final void setCacheSize(final long bytes) {
+        cacheSize = bytes;
+    }
+
+    /**
+     * Sets the directory of the disk tier of the cache of synthesized
+     * prompts. The disk tier is only used if its size is set via
+     * {@link #setCacheDiskSize(long)}.
+     * 
+     * @param directory
+     *            name of the directory
+     * @since 0.7.9
+     */
+    public final void setCacheDirectory(final String directory) {
+        cacheDirectory = directory;
+    }
+
+    /**
+     * Sets the maximal size of the disk tier of the cache of synthesized
+     * prompts.
+     * 
+     * @param bytes
+     *            size in bytes
+     * @since 0.7.9
+     */
+    public final void setCacheDiskSize(final long bytes) {
+        cacheDiskSize = bytes;
+    }
+
+    /**
+     * Enables or disables the pipelined mode of the created outputs.
+     * 
+     * @param value
+     *            <code>true</code> to synthesize the next sentence of a
+     *            prompt while the current sentence is played
+     * @since 0.7.9
+     */
+    public final void setPipelined(final boolean value) {
+        pipelined = value;
+    }
 }
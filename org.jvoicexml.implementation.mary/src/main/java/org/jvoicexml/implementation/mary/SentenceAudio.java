@@ -0,0 +1,223 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.mary;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.sound.sampled.AudioFormat;
+
+import org.jvoicexml.implementation.synthesis.SynthesizedAudio;
+
+import marytts.client.AudioFormatOutputStream;
+
+/**
+ * Audio of a single sentence that is handed over from the thread that
+ * synthesizes it to the thread that plays it.
+ * <p>
+ * Mary writes the audio to this stream while it is synthesized. Each write
+ * is queued as a chunk, so playback can start with the first chunk while the
+ * rest of the sentence is still being synthesized. Once the output has been
+ * canceled, further writes fail to abort the synthesis.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class SentenceAudio extends AudioFormatOutputStream {
+    /** Marker for the end of the audio. */
+    private static final byte[] END = new byte[0];
+
+    /** The SSML of the sentence. */
+    private final String ssml;
+
+    /** Chunks of audio that have not been played yet. */
+    private final BlockingQueue<byte[]> chunks;
+
+    /** Copy of the written audio, <code>null</code> if not recorded. */
+    private final ByteArrayOutputStream recording;
+
+    /** The format of the audio. */
+    private volatile AudioFormat format;
+
+    /** Error synthesizing the audio. */
+    private volatile IOException error;
+
+    /** <code>true</code> if the output has been canceled. */
+    private volatile boolean canceled;
+
+    /**
+     * Constructs a new object.
+     * @param text the SSML of the sentence
+     * @param record <code>true</code> if a copy of the audio should be kept
+     */
+    SentenceAudio(final String text, final boolean record) {
+        ssml = text;
+        chunks = new LinkedBlockingQueue<byte[]>();
+        if (record) {
+            recording = new ByteArrayOutputStream();
+        } else {
+            recording = null;
+        }
+    }
+
+    /**
+     * Creates the audio of a sentence that has been synthesized before.
+     * @param text the SSML of the sentence
+     * @param audio the synthesized audio
+     * @return completed audio of the sentence
+     * @throws IOException
+     *          error copying the audio
+     */
+    static SentenceAudio fromCache(final String text,
+            final SynthesizedAudio audio) throws IOException {
+        final SentenceAudio sentence = new SentenceAudio(text, false);
+        sentence.setFormat(audio.getFormat());
+        audio.writeTo(sentence);
+        sentence.finish();
+        return sentence;
+    }
+
+    /**
+     * Retrieves the SSML of the sentence.
+     * @return SSML of the sentence
+     */
+    String getSsml() {
+        return ssml;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFormat(final AudioFormat audioFormat) throws IOException {
+        format = audioFormat;
+        super.setFormat(audioFormat);
+    }
+
+    /**
+     * Retrieves the format of the audio. The format is known once the first
+     * chunk is available.
+     * @return format of the audio, <code>null</code> if not known
+     */
+    AudioFormat getAudioFormat() {
+        return format;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final byte[] b, final int off, final int len)
+            throws IOException {
+        if (canceled) {
+            throw new IOException("output canceled");
+        }
+        if (len == 0) {
+            return;
+        }
+        final byte[] chunk = new byte[len];
+        System.arraycopy(b, off, chunk, 0, len);
+        chunks.add(chunk);
+        if (recording != null) {
+            recording.write(chunk, 0, len);
+        }
+    }
+
+    /**
+     * Marks the end of the audio after the synthesis completed.
+     */
+    void finish() {
+        chunks.add(END);
+    }
+
+    /**
+     * Marks the end of the audio after the synthesis failed.
+     * @param e the cause
+     */
+    void fail(final IOException e) {
+        error = e;
+        chunks.add(END);
+    }
+
+    /**
+     * Cancels the output. Chunks that have not been played are discarded and
+     * a running synthesis is aborted with its next write.
+     */
+    void cancel() {
+        canceled = true;
+        chunks.clear();
+        chunks.add(END);
+    }
+
+    /**
+     * Checks if the output has been canceled.
+     * @return <code>true</code> if the output has been canceled
+     */
+    boolean isCanceled() {
+        return canceled;
+    }
+
+    /**
+     * Waits for the next chunk of audio.
+     * @return next chunk, <code>null</code> at the end of the audio
+     * @throws IOException
+     *          the synthesis failed
+     * @throws InterruptedException
+     *          interrupted while waiting
+     */
+    byte[] nextChunk() throws IOException, InterruptedException {
+        final byte[] chunk = chunks.take();
+        if (chunk == END) {
+            chunks.add(END);
+            if (error != null && !canceled) {
+                throw error;
+            }
+            return null;
+        }
+        return chunk;
+    }
+
+    /**
+     * Retrieves the recorded audio.
+     * @return recorded audio, <code>null</code> if nothing was recorded or
+     *          the output has been canceled
+     */
+    byte[] getRecording() {
+        if (recording == null || format == null || canceled
+                || error != null) {
+            return null;
+        }
+        return recording.toByteArray();
+    }
+}
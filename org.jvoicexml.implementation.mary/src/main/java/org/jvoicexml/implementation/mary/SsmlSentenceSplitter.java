@@ -0,0 +1,280 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.mary;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.jvoicexml.xml.ssml.Audio;
+import org.jvoicexml.xml.ssml.P;
+import org.jvoicexml.xml.ssml.S;
+import org.jvoicexml.xml.ssml.Speak;
+import org.jvoicexml.xml.ssml.SsmlDocument;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Splits an SSML document into sentences that can be synthesized one after
+ * the other.
+ * <p>
+ * Each <code>&lt;p&gt;</code> and <code>&lt;s&gt;</code> child of the
+ * <code>&lt;speak&gt;</code> element becomes a sentence of its own. Text is
+ * split after the punctuation that ends a sentence. All other elements stay
+ * in the sentence where they appear and are never split. Each sentence is a
+ * complete SSML document with the attributes of the original
+ * <code>&lt;speak&gt;</code> element.
+ * </p>
+ * <p>
+ * Each <code>&lt;audio&gt;</code> child of the <code>&lt;speak&gt;</code>
+ * element with a valid source becomes a sentence of its own that is played
+ * instead of being synthesized. Its content is kept as the SSML to
+ * synthesize if the audio cannot be played.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class SsmlSentenceSplitter {
+    /** White space after the punctuation that ends a sentence. */
+    private static final Pattern SENTENCE_END =
+            Pattern.compile("(?<=[.!?])\\s+");
+
+    /**
+     * Do not create from outside.
+     */
+    private SsmlSentenceSplitter() {
+    }
+
+    /**
+     * Splits the given document into sentences.
+     * @param document the document to split
+     * @return the sentences, a single sentence with the SSML of the given
+     *          document if it contains at most one sentence and no audio
+     * @throws ParserConfigurationException
+     *          error creating the document of a sentence
+     * @throws IOException
+     *          error serializing the SSML
+     */
+    static List<Sentence> split(final SsmlDocument document)
+            throws ParserConfigurationException, IOException {
+        final Speak speak = document.getSpeak();
+        final List<List<Object>> sentences =
+                new java.util.ArrayList<List<Object>>();
+        List<Object> current = new java.util.ArrayList<Object>();
+        final NodeList children = speak.getNode().getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            final Node child = children.item(i);
+            final short type = child.getNodeType();
+            if (type == Node.TEXT_NODE) {
+                final String[] parts =
+                        SENTENCE_END.split(child.getNodeValue(), -1);
+                for (int k = 0; k < parts.length; k++) {
+                    if (k > 0) {
+                        current = addSentence(sentences, current);
+                    }
+                    current.add(parts[k]);
+                }
+            } else if (type == Node.ELEMENT_NODE) {
+                final String name = child.getNodeName();
+                if (name.equals(P.TAG_NAME) || name.equals(S.TAG_NAME)
+                        || getAudio(child) != null) {
+                    current = addSentence(sentences, current);
+                    current.add(child);
+                    current = addSentence(sentences, current);
+                } else {
+                    current.add(child);
+                }
+            }
+        }
+        addSentence(sentences, current);
+
+        final List<Sentence> result = new java.util.ArrayList<Sentence>();
+        boolean containsAudio = false;
+        for (List<Object> sentence : sentences) {
+            final Object first = sentence.get(0);
+            final URI audio;
+            if (first instanceof Node) {
+                audio = getAudio((Node) first);
+            } else {
+                audio = null;
+            }
+            if (audio == null) {
+                result.add(new Sentence(toSsml(speak, sentence), null));
+            } else {
+                final List<Object> fallback = new java.util.ArrayList<Object>();
+                final NodeList nodes = ((Node) first).getChildNodes();
+                for (int i = 0; i < nodes.getLength(); i++) {
+                    final Node node = nodes.item(i);
+                    if (node.getNodeType() == Node.TEXT_NODE) {
+                        fallback.add(node.getNodeValue());
+                    } else {
+                        fallback.add(node);
+                    }
+                }
+                final List<List<Object>> content =
+                        new java.util.ArrayList<List<Object>>();
+                addSentence(content, fallback);
+                String fallbackSsml = null;
+                if (!content.isEmpty()) {
+                    fallbackSsml = toSsml(speak, fallback);
+                }
+                result.add(new Sentence(fallbackSsml, audio));
+                containsAudio = true;
+            }
+        }
+        if (result.size() <= 1 && !containsAudio) {
+            result.clear();
+            result.add(new Sentence(document.toXml(), null));
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the source of the given node if it is an audio element.
+     * @param node the node to check
+     * @return source of the audio, <code>null</code> if the node is no
+     *          audio element or has no valid source
+     */
+    private static URI getAudio(final Node node) {
+        if (node.getNodeType() != Node.ELEMENT_NODE
+                || !node.getNodeName().equals(Audio.TAG_NAME)) {
+            return null;
+        }
+        final String src = ((Element) node).getAttribute(Audio.ATTRIBUTE_SRC);
+        if (src == null || src.isEmpty()) {
+            return null;
+        }
+        try {
+            final URI uri = new URI(src);
+            if (!uri.isAbsolute()) {
+                return null;
+            }
+            return uri;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds the given sentence if it contains anything to speak.
+     * @param sentences the sentences found so far
+     * @param sentence the sentence to add
+     * @return a new empty sentence
+     */
+    private static List<Object> addSentence(
+            final List<List<Object>> sentences, final List<Object> sentence) {
+        for (Object part : sentence) {
+            if (!(part instanceof String)
+                    || !((String) part).trim().isEmpty()) {
+                sentences.add(sentence);
+                return new java.util.ArrayList<Object>();
+            }
+        }
+        sentence.clear();
+        return sentence;
+    }
+
+    /**
+     * Creates the SSML of the given sentence.
+     * @param speak the speak element of the original document
+     * @param sentence text and nodes of the sentence
+     * @return SSML of the sentence
+     * @throws ParserConfigurationException
+     *          error creating the document
+     * @throws IOException
+     *          error serializing the SSML
+     */
+    private static String toSsml(final Speak speak,
+            final List<Object> sentence)
+            throws ParserConfigurationException, IOException {
+        final SsmlDocument document = new SsmlDocument();
+        final Speak sentenceSpeak = document.getSpeak();
+        final NamedNodeMap attributes = speak.getNode().getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            final Node attribute = attributes.item(i);
+            final String name = attribute.getNodeName();
+            if (!name.startsWith("xmlns")) {
+                sentenceSpeak.setAttribute(name, attribute.getNodeValue());
+            }
+        }
+        for (Object part : sentence) {
+            if (part instanceof String) {
+                sentenceSpeak.addText((String) part);
+            } else {
+                final Node node = document.importNode((Node) part, true);
+                sentenceSpeak.appendChild(node);
+            }
+        }
+        return document.toXml();
+    }
+
+    /**
+     * A part of a prompt that is either synthesized or played from audio.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    static final class Sentence {
+        /** The SSML to synthesize. */
+        private final String ssml;
+
+        /** The audio to play. */
+        private final URI audio;
+
+        /**
+         * Constructs a new object.
+         * @param text the SSML to synthesize, the fallback for audio
+         * @param src the audio to play, <code>null</code> to synthesize
+         */
+        Sentence(final String text, final URI src) {
+            ssml = text;
+            audio = src;
+        }
+
+        /**
+         * Retrieves the SSML to synthesize. For audio, this is the SSML to
+         * synthesize if the audio cannot be played.
+         * @return the SSML, <code>null</code> if there is no fallback for
+         *          audio
+         */
+        String getSsml() {
+            return ssml;
+        }
+
+        /**
+         * Retrieves the audio to play.
+         * @return URI of the audio, <code>null</code> if the SSML should be
+         *          synthesized
+         */
+        URI getAudio() {
+            return audio;
+        }
+    }
+}
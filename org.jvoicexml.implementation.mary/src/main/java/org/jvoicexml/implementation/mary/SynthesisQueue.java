@@ -25,12 +25,21 @@
 package org.jvoicexml.implementation.mary;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import javax.sound.sampled.AudioInputStream;
+
+import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.log4j.Logger;
+import org.jvoicexml.AudioClip;
+import org.jvoicexml.DocumentServer;
+import org.jvoicexml.SessionIdentifier;
 import org.jvoicexml.SpeakableSsmlText;
 import org.jvoicexml.SpeakableText;
 import org.jvoicexml.event.error.BadFetchError;
@@ -39,6 +48,10 @@ import org.jvoicexml.event.plain.implementation.OutputStartedEvent;
 import org.jvoicexml.event.plain.implementation.QueueEmptyEvent;
 import org.jvoicexml.event.plain.implementation.SynthesizedOutputEvent;
 import org.jvoicexml.implementation.SynthesizedOutputListener;
+import org.jvoicexml.implementation.synthesis.SynthesizedAudio;
+import org.jvoicexml.implementation.synthesis.SynthesizedAudioCache;
+import org.jvoicexml.implementation.synthesis.SynthesizedAudioKey;
+import org.jvoicexml.xml.ssml.Audio;
 import org.jvoicexml.xml.ssml.Speak;
 import org.jvoicexml.xml.ssml.SsmlDocument;
 import org.jvoicexml.xml.vxml.BargeInType;
@@ -51,6 +64,17 @@ import marytts.client.MaryClient;
  * them to Mary server and to TextOutput if text output is enabled After getting
  * the processed data from the server it calls queueAudio method of
  * MaryAudioFileOutput to play the sound
+ * <p>
+ * In pipelined mode, SSML is split into sentences. Sentences are synthesized
+ * in a separate thread, one sentence ahead of the sentence that is currently
+ * played. Playback of a sentence starts with the first chunk of audio that
+ * Mary delivers.
+ * </p>
+ * <p>
+ * Audio of <code>&lt;audio&gt;</code> elements is retrieved as an
+ * {@link AudioClip} from the document server and played from the shared
+ * buffer of the clip.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @author Giannis Assiouras
@@ -90,12 +114,32 @@ final class SynthesisQueue extends Thread {
     /** The line output stream. */
     private LineAudioFormatOutputStream out;
 
+    /** Cache of synthesized prompts, <code>null</code> if not cached. */
+    private SynthesizedAudioCache cache;
+
+    /** <code>true</code> if sentences are synthesized while others play. */
+    private boolean pipelined;
+
+    /** Synthesizes sentences in pipelined mode. */
+    private ExecutorService synthesizer;
+
+    /** Sentences of the current speakable that have not been played. */
+    private final Queue<SentenceAudio> sentences;
+
+    /** The document server to retrieve audio clips. */
+    private DocumentServer documentServer;
+
+    /** The session to retrieve audio clips. */
+    private SessionIdentifier sessionId;
+
     /**
      * Constructs a new SynthesisQueue object. .
      * @param synthesizedOutput reference to the parent
      */
     SynthesisQueue(final MarySynthesizedOutput synthesizedOutput) {
         queuedSpeakables = new java.util.LinkedList<SpeakableText>();
+        sentences =
+            new java.util.concurrent.ConcurrentLinkedQueue<SentenceAudio>();
         output = synthesizedOutput;
         setDaemon(true);
         setName("SynthesisQueueThread");
@@ -108,6 +152,34 @@ final class SynthesisQueue extends Thread {
      */
     @Override
     public void run() {
+        if (pipelined) {
+            synthesizer = Executors.newSingleThreadExecutor(
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(final Runnable runnable) {
+                            final Thread thread = new Thread(runnable,
+                                    "SynthesisQueueSynthesizerThread");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        try {
+            processQueue();
+        } finally {
+            if (synthesizer != null) {
+                synthesizer.shutdownNow();
+            }
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("synthesis queue terminated");
+        }
+    }
+
+    /**
+     * Passes the queued speakables to Mary until this thread is interrupted.
+     */
+    private void processQueue() {
         while (processor != null && !isInterrupted()) {
             synchronized (queuedSpeakables) {
                 if (queuedSpeakables.isEmpty()) {
@@ -135,9 +207,6 @@ final class SynthesisQueue extends Thread {
                 }
             }
         }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("synthesis queue terminated");
-        }
     }
 
     /**
@@ -165,7 +234,11 @@ final class SynthesisQueue extends Thread {
         try {
             if (speakable instanceof SpeakableSsmlText) {
                 final SpeakableSsmlText ssml = (SpeakableSsmlText) speakable;
-                speakSsml(ssml, out);
+                if (synthesizer == null && !containsAudio(ssml)) {
+                    speakSsml(ssml, out);
+                } else {
+                    speakSentences(ssml, out);
+                }
                 fireOutputEnded(speakable);
             } else {
                 throw new BadFetchError("Unsupported Speakable type: '"
@@ -178,7 +251,9 @@ final class SynthesisQueue extends Thread {
     }
 
     /**
-     * Speaks the given SSML document.
+     * Speaks the given SSML document. If a cache is set, the audio is played
+     * from the cache if the document has been synthesized before. Otherwise,
+     * the synthesized audio is added to the cache.
      * 
      * @param ssml
      *            the SSML document to be synthesized by Mary
@@ -188,20 +263,264 @@ final class SynthesisQueue extends Thread {
      *                error communicating with Mary
      */
     private void speakSsml(final SpeakableSsmlText ssml,
-            final OutputStream responseStream)
+            final LineAudioFormatOutputStream responseStream)
             throws IOException {
         final SsmlDocument document = ssml.getDocument();
         final Speak speak = document.getSpeak();
         final String lang = speak.getXmlLang();
         final String text = document.toXml();
+        final String audioType = maryRequestParameters.get("audioType");
+        final String voiceName = maryRequestParameters.get("voiceName");
+        SynthesizedAudioKey key = null;
+        if (cache != null) {
+            key = new SynthesizedAudioKey(text, voiceName, lang, audioType);
+            final SynthesizedAudio audio = cache.get(key);
+            if (audio != null) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("playing cached '" + text + "'");
+                }
+                responseStream.play(audio);
+                return;
+            }
+            responseStream.record();
+        }
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("synthesizing '" + text + "'");
         }
         processor.process(text, "SSML", "AUDIO",
-                lang,
-                maryRequestParameters.get("audioType"),
-                maryRequestParameters.get("voiceName"), responseStream,
+                lang, audioType, voiceName, responseStream,
                 SERVER_TIMEOUT);
+        if (key != null) {
+            final byte[] recording = responseStream.getRecording();
+            if (recording != null) {
+                cache.put(key, responseStream.getLineFormat(), recording);
+            }
+        }
+    }
+
+    /**
+     * Checks if the given SSML document contains audio to play.
+     * 
+     * @param ssml
+     *            the SSML document
+     * @return <code>true</code> if the document contains audio
+     * @since 0.7.9
+     */
+    private boolean containsAudio(final SpeakableSsmlText ssml) {
+        if (documentServer == null) {
+            return false;
+        }
+        final SsmlDocument document = ssml.getDocument();
+        return document.getElementsByTagName(Audio.TAG_NAME)
+                .getLength() > 0;
+    }
+
+    /**
+     * Speaks the given SSML document sentence by sentence. In pipelined mode,
+     * the next sentence is synthesized while the current sentence is played.
+     * If a cache is set, each sentence is looked up in and added to the
+     * cache. Audio is played from the clips of the document server.
+     * 
+     * @param ssml
+     *            the SSML document to be synthesized by Mary
+     * @param responseStream
+     *            the stream to play the sentences
+     * @exception IOException
+     *                error communicating with Mary or playing the audio
+     * @since 0.7.9
+     */
+    private void speakSentences(final SpeakableSsmlText ssml,
+            final LineAudioFormatOutputStream responseStream)
+            throws IOException {
+        final SsmlDocument document = ssml.getDocument();
+        final String lang = document.getSpeak().getXmlLang();
+        final List<SsmlSentenceSplitter.Sentence> parts;
+        try {
+            parts = SsmlSentenceSplitter.split(document);
+        } catch (ParserConfigurationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        try {
+            SentenceAudio next = null;
+            if (synthesizer != null) {
+                next = startSynthesis(parts.get(0), lang);
+            }
+            for (int i = 0; i < parts.size()
+                    && !responseStream.isCanceled(); i++) {
+                final SsmlSentenceSplitter.Sentence part = parts.get(i);
+                SentenceAudio current = next;
+                next = null;
+                if (synthesizer != null && i + 1 < parts.size()) {
+                    next = startSynthesis(parts.get(i + 1), lang);
+                }
+                if (part.getAudio() != null) {
+                    playAudio(part, lang, responseStream);
+                } else {
+                    if (current == null) {
+                        current = synthesize(part.getSsml(), lang);
+                    }
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("playing sentence '" + current.getSsml()
+                                + "'");
+                    }
+                    responseStream.play(current);
+                    sentences.remove(current);
+                }
+            }
+        } catch (InterruptedException e) {
+            interrupt();
+        } finally {
+            cancelSentences();
+        }
+    }
+
+    /**
+     * Starts the synthesis of the given part of a prompt if it has to be
+     * synthesized.
+     * 
+     * @param part
+     *            the part of the prompt
+     * @param lang
+     *            the language of the prompt
+     * @return the audio of the sentence, <code>null</code> if the part is
+     *         played from audio
+     * @exception IOException
+     *                error reading the cached audio
+     * @since 0.7.9
+     */
+    private SentenceAudio startSynthesis(
+            final SsmlSentenceSplitter.Sentence part, final String lang)
+            throws IOException {
+        if (part.getAudio() != null) {
+            return null;
+        }
+        return synthesize(part.getSsml(), lang);
+    }
+
+    /**
+     * Plays the audio of the given part of a prompt. Audio that is not kept
+     * as a decoded clip by the document server is streamed. If the audio
+     * cannot be retrieved, the fallback content is synthesized instead.
+     * 
+     * @param part
+     *            the part of the prompt
+     * @param lang
+     *            the language of the prompt
+     * @param responseStream
+     *            the stream to play the audio
+     * @exception IOException
+     *                error playing the audio
+     * @exception InterruptedException
+     *                interrupted while waiting for the synthesized fallback
+     * @since 0.7.9
+     */
+    private void playAudio(final SsmlSentenceSplitter.Sentence part,
+            final String lang,
+            final LineAudioFormatOutputStream responseStream)
+            throws IOException, InterruptedException {
+        final AudioClip clip;
+        final AudioInputStream stream;
+        try {
+            clip = documentServer.getAudioClip(sessionId, part.getAudio());
+            if (clip == null) {
+                stream = documentServer.getAudioInputStream(sessionId,
+                        part.getAudio());
+            } else {
+                stream = null;
+            }
+        } catch (BadFetchError e) {
+            LOGGER.warn("unable to play '" + part.getAudio() + "': "
+                    + e.getMessage());
+            final String fallback = part.getSsml();
+            if (fallback != null) {
+                final SentenceAudio sentence = synthesize(fallback, lang);
+                responseStream.play(sentence);
+                sentences.remove(sentence);
+            }
+            return;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("playing audio '" + part.getAudio() + "'");
+        }
+        if (clip == null) {
+            responseStream.play(stream);
+        } else {
+            responseStream.play(clip);
+        }
+    }
+
+    /**
+     * Starts the synthesis of the given sentence. If a cache is set and the
+     * sentence has been synthesized before, the cached audio is used.
+     * 
+     * @param text
+     *            the SSML of the sentence
+     * @param lang
+     *            the language of the sentence
+     * @return the audio of the sentence
+     * @exception IOException
+     *                error reading the cached audio
+     * @since 0.7.9
+     */
+    private SentenceAudio synthesize(final String text, final String lang)
+            throws IOException {
+        final String audioType = maryRequestParameters.get("audioType");
+        final String voiceName = maryRequestParameters.get("voiceName");
+        SynthesizedAudioKey key = null;
+        if (cache != null) {
+            key = new SynthesizedAudioKey(text, voiceName, lang, audioType);
+            final SynthesizedAudio audio = cache.get(key);
+            if (audio != null) {
+                return SentenceAudio.fromCache(text, audio);
+            }
+        }
+        final SentenceAudio sentence = new SentenceAudio(text, key != null);
+        sentences.add(sentence);
+        final SynthesizedAudioKey cacheKey = key;
+        final Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                if (sentence.isCanceled()) {
+                    return;
+                }
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("synthesizing sentence '" + text + "'");
+                }
+                try {
+                    processor.process(text, "SSML", "AUDIO", lang, audioType,
+                            voiceName, sentence, SERVER_TIMEOUT);
+                    sentence.finish();
+                } catch (IOException e) {
+                    sentence.fail(e);
+                    return;
+                }
+                if (cacheKey != null) {
+                    final byte[] recording = sentence.getRecording();
+                    if (recording != null) {
+                        cache.put(cacheKey, sentence.getAudioFormat(),
+                                recording);
+                    }
+                }
+            }
+        };
+        if (synthesizer == null) {
+            task.run();
+        } else {
+            synthesizer.execute(task);
+        }
+        return sentence;
+    }
+
+    /**
+     * Cancels all sentences of the current speakable that have not been
+     * played.
+     */
+    private void cancelSentences() {
+        SentenceAudio sentence = sentences.poll();
+        while (sentence != null) {
+            sentence.cancel();
+            sentence = sentences.poll();
+        }
     }
 
     /**
@@ -280,6 +599,46 @@ final class SynthesisQueue extends Thread {
         processor = maryClient;
     }
 
+    /**
+     * Sets the cache of synthesized prompts.
+     * 
+     * @param audioCache
+     *            the cache, <code>null</code> to synthesize all prompts
+     * @since 0.7.9
+     */
+    public void setCache(final SynthesizedAudioCache audioCache) {
+        cache = audioCache;
+    }
+
+    /**
+     * Sets the document server to retrieve the audio of
+     * <code>&lt;audio&gt;</code> elements.
+     * 
+     * @param server
+     *            the document server
+     * @param session
+     *            the current session
+     * @since 0.7.9
+     */
+    public void setDocumentServer(final DocumentServer server,
+            final SessionIdentifier session) {
+        documentServer = server;
+        sessionId = session;
+    }
+
+    /**
+     * Enables or disables the pipelined mode. This must be called before
+     * the thread is started.
+     * 
+     * @param value
+     *            <code>true</code> to synthesize the next sentence while the
+     *            current sentence is played
+     * @since 0.7.9
+     */
+    public void setPipelined(final boolean value) {
+        pipelined = value;
+    }
+
     /**
      * The queueSpeakable method simply offers a speakable to the queue. it
      * notifies the synthesisQueue Thread and then it returns
@@ -316,6 +675,7 @@ final class SynthesisQueue extends Thread {
         if (out != null) {
             out.cancel();
         }
+        cancelSentences();
         synchronized (queuedSpeakables) {
             final Collection<SpeakableText> skipped =
                     new java.util.ArrayList<SpeakableText>();
@@ -343,6 +703,7 @@ final class SynthesisQueue extends Thread {
         if (out != null) {
             out.cancel();
         }
+        cancelSentences();
     }
 
     /**
@@ -0,0 +1,126 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.mary;
+
+import java.net.URI;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.xml.ssml.Audio;
+import org.jvoicexml.xml.ssml.Break;
+import org.jvoicexml.xml.ssml.P;
+import org.jvoicexml.xml.ssml.Speak;
+import org.jvoicexml.xml.ssml.SsmlDocument;
+
+/**
+ * Test cases for {@link SsmlSentenceSplitter}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestSsmlSentenceSplitter {
+    /**
+     * Test method for {@link SsmlSentenceSplitter#split(SsmlDocument)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testSplitText() throws Exception {
+        final SsmlDocument document = new SsmlDocument();
+        final Speak speak = document.getSpeak();
+        speak.setXmlLang("en-US");
+        speak.addText("Hello world. How are you?  Fine!");
+        final List<SsmlSentenceSplitter.Sentence> sentences = SsmlSentenceSplitter.split(document);
+        Assert.assertEquals(3, sentences.size());
+        Assert.assertTrue(sentences.get(0).getSsml().contains(">Hello world.</speak>"));
+        Assert.assertTrue(sentences.get(0).getSsml().contains("xml:lang=\"en-US\""));
+        Assert.assertTrue(sentences.get(1).getSsml().contains(">How are you?</speak>"));
+        Assert.assertTrue(sentences.get(2).getSsml().contains(">Fine!</speak>"));
+    }
+
+    /**
+     * Test method for {@link SsmlSentenceSplitter#split(SsmlDocument)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testSplitParagraphs() throws Exception {
+        final SsmlDocument document = new SsmlDocument();
+        final Speak speak = document.getSpeak();
+        final P first = speak.appendChild(P.class);
+        first.addText("first paragraph");
+        final P second = speak.appendChild(P.class);
+        second.addText("second paragraph. Still second");
+        final List<SsmlSentenceSplitter.Sentence> sentences = SsmlSentenceSplitter.split(document);
+        Assert.assertEquals(2, sentences.size());
+        Assert.assertTrue(sentences.get(0).getSsml().contains(
+                "<p>first paragraph</p>"));
+        Assert.assertTrue(sentences.get(1).getSsml().contains(
+                "<p>second paragraph. Still second</p>"));
+    }
+
+    /**
+     * Test method for {@link SsmlSentenceSplitter#split(SsmlDocument)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testSingleSentence() throws Exception {
+        final SsmlDocument document = new SsmlDocument();
+        final Speak speak = document.getSpeak();
+        speak.addText("No sentence end");
+        speak.appendChild(Break.class);
+        speak.addText("here.");
+        final List<SsmlSentenceSplitter.Sentence> sentences = SsmlSentenceSplitter.split(document);
+        Assert.assertEquals(1, sentences.size());
+        Assert.assertEquals(document.toXml(), sentences.get(0).getSsml());
+        Assert.assertNull(sentences.get(0).getAudio());
+    }
+
+    /**
+     * Test method for {@link SsmlSentenceSplitter#split(SsmlDocument)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testSplitAudio() throws Exception {
+        final SsmlDocument document = new SsmlDocument();
+        final Speak speak = document.getSpeak();
+        speak.addText("Welcome");
+        final Audio audio = speak.appendChild(Audio.class);
+        audio.setSrc("http://localhost/welcome.wav");
+        audio.addText("to the show");
+        final Audio silent = speak.appendChild(Audio.class);
+        silent.setSrc("http://localhost/beep.wav");
+        final List<SsmlSentenceSplitter.Sentence> sentences =
+                SsmlSentenceSplitter.split(document);
+        Assert.assertEquals(3, sentences.size());
+        Assert.assertNull(sentences.get(0).getAudio());
+        Assert.assertTrue(sentences.get(0).getSsml().contains(
+                ">Welcome</speak>"));
+        Assert.assertEquals(new URI("http://localhost/welcome.wav"),
+                sentences.get(1).getAudio());
+        Assert.assertTrue(sentences.get(1).getSsml().contains(
+                ">to the show</speak>"));
+        Assert.assertEquals(new URI("http://localhost/beep.wav"),
+                sentences.get(2).getAudio());
+        Assert.assertNull(sentences.get(2).getSsml());
+    }
+}
@@ -0,0 +1,431 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.implementation.text;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.jvoicexml.SpeakableText;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage.TextMessageType;
+
+/**
+ * A session of a {@link TextTelephony} on a connection that is shared with
+ * other sessions.
+ *
+ * <p>
+ * This replaces the {@link TextSenderThread} and the
+ * {@link TextReceiverThread} for multiplexed connections. Messages are sent
+ * without waiting for the acknowledgement of previous messages as long as
+ * no more than a window of messages is unacknowledged. Further messages are
+ * held back until the client acknowledges. Acknowledgements are cumulative,
+ * i.e. an acknowledgement covers all messages up to its sequence number.
+ * </p>
+ *
+ * <p>
+ * User input and hangups are not handled on the I/O thread of the shared
+ * connection since evaluating the grammars may take a while, e.g. for a
+ * remote recognizer. They are handled one after the other by a worker
+ * thread so that other sessions on the same connection are not stalled.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class MultiplexedTextSession {
+    /** Logger for this class. */
+    private static final Logger LOGGER = Logger
+            .getLogger(MultiplexedTextSession.class);
+
+    /** Maximal number of unacknowledged messages. */
+    static final int WINDOW_SIZE = 32;
+
+    /** Worker threads that handle the input of all multiplexed sessions. */
+    private static final ExecutorService WORKERS =
+            Executors.newCachedThreadPool(new ThreadFactory() {
+                /** Number of the next thread. */
+                private final AtomicInteger number = new AtomicInteger();
+
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread thread = new Thread(runnable,
+                            "MultiplexedTextSession worker "
+                            + number.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    /** The shared connection. */
+    private final TextMultiplexer multiplexer;
+
+    /** Identifier of this session. */
+    private final String sessionId;
+
+    /** Reference to the telephony device. */
+    private final TextTelephony telephony;
+
+    /** Sent messages that are not acknowledged, yet. */
+    private final Deque<PendingMessage> unacknowledged;
+
+    /** Messages that are held back until the window has space. */
+    private final Deque<PendingMessage> backlog;
+
+    /** Received messages that are not handled, yet. */
+    private final Queue<TextMessage> inbox;
+
+    /** Handles the received messages of this session in a worker. */
+    private final Runnable handler;
+
+    /** <code>true</code> if a worker is handling the received messages. */
+    private boolean handling;
+
+    /** Last used sequence number. */
+    private int sequenceNumber;
+
+    /** <code>true</code> if there are messages that are held back. */
+    private volatile boolean holdingBack;
+
+    /** Reference to the spoken input device. */
+    private volatile TextSpokenInput input;
+
+    /** <code>true</code> if this session has been closed. */
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new object.
+     * @param mux the shared connection
+     * @param id identifier of this session
+     * @param textTelephony telephony device
+     */
+    MultiplexedTextSession(final TextMultiplexer mux, final String id,
+            final TextTelephony textTelephony) {
+        multiplexer = mux;
+        sessionId = id;
+        telephony = textTelephony;
+        unacknowledged = new java.util.ArrayDeque<PendingMessage>();
+        backlog = new java.util.ArrayDeque<PendingMessage>();
+        inbox = new java.util.ArrayDeque<TextMessage>();
+        handler = new Runnable() {
+            @Override
+            public void run() {
+                handleReceived();
+            }
+        };
+    }
+
+    /**
+     * Retrieves the identifier of this session.
+     * @return the session identifier
+     */
+    String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Sets the spoken input device.
+     * @param spokenInput
+     *        the spoken input device.
+     */
+    void setSpokenInput(final TextSpokenInput spokenInput) {
+        input = spokenInput;
+    }
+
+    /**
+     * Checks if the the session is in recording mode.
+     * @return <code>true</code> if received user input is
+     *         propagated to the user input.
+     */
+    boolean isRecording() {
+        return input != null;
+    }
+
+    /**
+     * Checks if there are messages that are held back.
+     * @return <code>true</code> if there are messages to send.
+     */
+    boolean isSending() {
+        return holdingBack;
+    }
+
+    /**
+     * Checks if this session is still open.
+     * @return <code>true</code> if the session is open
+     */
+    boolean isOpen() {
+        return !closed && multiplexer.isOpen();
+    }
+
+    /**
+     * Sends the speakable to the client.
+     * @param speakable the speakable to send.
+     */
+    void sendData(final SpeakableText speakable) {
+        final String ssml = speakable.getSpeakableText();
+        enqueue(TextMessageType.SSML, ssml, speakable);
+    }
+
+    /**
+     * Sends a message that JVoiceXML is ready to receive input.
+     */
+    void sendExpectingInput() {
+        enqueue(TextMessageType.EXPECTING_INPUT, null, null);
+    }
+
+    /**
+     * Sends a message that JVoiceXML is no longer ready to receive input.
+     */
+    void sendClosedInput() {
+        enqueue(TextMessageType.INPUT_CLOSED, null, null);
+    }
+
+    /**
+     * Sends a bye message.
+     */
+    void sendBye() {
+        enqueue(TextMessageType.BYE, null, null);
+    }
+
+    /**
+     * Acknowledges the given message.
+     * @param message the message to acknowledge
+     */
+    void sendAck(final TextMessage message) {
+        final TextMessage ack = TextMessage.newBuilder()
+                .setType(TextMessageType.ACK)
+                .setSequenceNumber(message.getSequenceNumber())
+                .setSessionId(sessionId).build();
+        try {
+            multiplexer.send(ack);
+        } catch (IOException e) {
+            LOGGER.warn("error sending text message: " + ack, e);
+        }
+    }
+
+    /**
+     * Creates a message and sends it as soon as the window permits.
+     * <p>
+     * The message is registered as pending at the telephony before it is
+     * sent so that an early acknowledgement cannot get lost. Hence, callers
+     * must not hold the lock of the pending messages of the telephony.
+     * </p>
+     * @param type the message type
+     * @param data the data, maybe <code>null</code>
+     * @param speakable the related speakable, maybe <code>null</code>
+     */
+    private void enqueue(final TextMessageType type,
+            final String data, final SpeakableText speakable) {
+        final boolean sent;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            final TextMessage.Builder builder = TextMessage.newBuilder()
+                    .setType(type).setSequenceNumber(sequenceNumber++)
+                    .setSessionId(sessionId);
+            if (data != null) {
+                builder.setData(data);
+            }
+            final PendingMessage pending =
+                    new PendingMessage(builder.build(), speakable);
+            telephony.addPendingMessage(pending);
+            backlog.add(pending);
+            sent = transmit();
+        }
+        if (!sent) {
+            sendFailed();
+        }
+    }
+
+    /**
+     * Sends held back messages as long as the window has space. Must be
+     * called with the lock of this session held.
+     * @return <code>false</code> if sending failed
+     */
+    private boolean transmit() {
+        while (!backlog.isEmpty() && unacknowledged.size() < WINDOW_SIZE) {
+            final PendingMessage pending = backlog.poll();
+            unacknowledged.add(pending);
+            try {
+                multiplexer.send(pending.getMessage());
+            } catch (IOException e) {
+                LOGGER.warn("error sending text message: " + pending, e);
+                holdingBack = !backlog.isEmpty();
+                return false;
+            }
+        }
+        holdingBack = !backlog.isEmpty();
+        return true;
+    }
+
+    /**
+     * Closes this session after a message could not be sent and notifies
+     * the telephony about the hangup. Must not be called with the lock of
+     * this session held.
+     */
+    private void sendFailed() {
+        close();
+        telephony.fireHungup();
+        telephony.recordStopped();
+    }
+
+    /**
+     * Handles a message received for this session. Called from the I/O
+     * thread of the shared connection. Acknowledgements are handled
+     * immediately, user input and hangups are passed to a worker.
+     * @param message the received message
+     */
+    void received(final TextMessage message) {
+        final TextMessageType type = message.getType();
+        if (type == TextMessageType.ACK) {
+            acknowledge(message.getSequenceNumber());
+            return;
+        }
+        if (type != TextMessageType.USER && type != TextMessageType.BYE) {
+            return;
+        }
+        synchronized (inbox) {
+            inbox.add(message);
+            if (handling) {
+                return;
+            }
+            handling = true;
+        }
+        WORKERS.execute(handler);
+    }
+
+    /**
+     * Handles the received messages in the order of their arrival until
+     * there are no more messages. Called from a worker thread.
+     */
+    private void handleReceived() {
+        while (true) {
+            final TextMessage message;
+            synchronized (inbox) {
+                message = inbox.poll();
+                if (message == null) {
+                    handling = false;
+                    return;
+                }
+            }
+            try {
+                handle(message);
+            } catch (RuntimeException e) {
+                LOGGER.warn("error handling text message: " + message, e);
+            }
+        }
+    }
+
+    /**
+     * Handles user input or a hangup of the client.
+     * @param message the received message
+     */
+    private void handle(final TextMessage message) {
+        final TextMessageType type = message.getType();
+        if (type == TextMessageType.USER) {
+            final TextSpokenInput spokenInput = input;
+            if (spokenInput != null) {
+                input = null;
+                spokenInput.notifyRecognitionResult(message.getData());
+            }
+        } else if (type == TextMessageType.BYE) {
+            close();
+            telephony.fireHungup();
+            telephony.recordStopped();
+            sendAck(message);
+        }
+    }
+
+    /**
+     * Removes all messages up to the given sequence number from the
+     * unacknowledged messages and sends held back messages.
+     * @param number the acknowledged sequence number
+     */
+    private void acknowledge(final int number) {
+        final List<PendingMessage> acknowledged =
+                new java.util.ArrayList<PendingMessage>();
+        boolean byeAcknowledged = false;
+        final boolean sent;
+        synchronized (this) {
+            while (!unacknowledged.isEmpty()
+                    && unacknowledged.peek().getSequenceNumber() <= number) {
+                final PendingMessage pending = unacknowledged.poll();
+                acknowledged.add(pending);
+                byeAcknowledged |=
+                        pending.getMessageCode() == TextMessageType.BYE;
+            }
+            sent = transmit();
+        }
+        for (PendingMessage pending : acknowledged) {
+            telephony.removePendingMessage(pending.getSequenceNumber());
+        }
+        if (!sent) {
+            sendFailed();
+        } else if (byeAcknowledged) {
+            close();
+        }
+    }
+
+    /**
+     * Notification that the shared connection has been lost.
+     */
+    void connectionLost() {
+        discard();
+        telephony.fireHungup();
+        telephony.recordStopped();
+    }
+
+    /**
+     * Closes this session. The shared connection remains open.
+     */
+    void close() {
+        discard();
+        multiplexer.removeSession(this);
+    }
+
+    /**
+     * Marks this session as closed and removes all messages that have not
+     * been acknowledged, yet, from the pending messages of the telephony.
+     */
+    private void discard() {
+        final List<PendingMessage> discarded =
+                new java.util.ArrayList<PendingMessage>();
+        synchronized (this) {
+            closed = true;
+            discarded.addAll(unacknowledged);
+            discarded.addAll(backlog);
+            unacknowledged.clear();
+            backlog.clear();
+            holdingBack = false;
+        }
+        for (PendingMessage pending : discarded) {
+            telephony.removePendingMessage(pending.getSequenceNumber());
+        }
+    }
+}
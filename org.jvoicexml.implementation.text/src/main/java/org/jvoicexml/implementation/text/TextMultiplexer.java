@@ -0,0 +1,198 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.implementation.text;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.client.text.TextMessageConnection;
+import org.jvoicexml.client.text.TextMessageHandler;
+import org.jvoicexml.client.text.protobuf.TextMessageOuterClass.TextMessage;
+
+/**
+ * A single connection to a text client that is shared by all sessions of
+ * that client.
+ *
+ * <p>
+ * There is at most one multiplexer per client address. It is created with
+ * the first session to that client and kept open until the client closes
+ * the connection, so that subsequent sessions do not have to connect
+ * again. Received messages are routed to the {@link MultiplexedTextSession}
+ * by their session identifier. Only decoding and routing is done on the
+ * I/O thread of the connection, see
+ * {@link MultiplexedTextSession#received(TextMessage)}.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class TextMultiplexer implements TextMessageHandler {
+    /** Logger for this class. */
+    private static final Logger LOGGER = LogManager
+            .getLogger(TextMultiplexer.class);
+
+    /** Maximal number of milliseconds to wait for a connect. */
+    private static final int MAX_TIMEOUT_CONNECT = 1000;
+
+    /** Known multiplexers by the address of the client. */
+    private static final Map<InetSocketAddress, TextMultiplexer>
+        MULTIPLEXERS = new java.util.HashMap<InetSocketAddress,
+            TextMultiplexer>();
+
+    /** The address of the client. */
+    private final InetSocketAddress address;
+
+    /** Sessions on this connection by their identifier. */
+    private final Map<String, MultiplexedTextSession> sessions;
+
+    /** The connection to the client. */
+    private TextMessageConnection connection;
+
+    /**
+     * Constructs a new object.
+     * @param clientAddress the address of the client
+     */
+    private TextMultiplexer(final InetSocketAddress clientAddress) {
+        address = clientAddress;
+        sessions = new ConcurrentHashMap<String, MultiplexedTextSession>();
+    }
+
+    /**
+     * Opens a new session to the given client. A new connection is only
+     * established if there is no open connection to that client. The
+     * connection is established without holding the lock of the known
+     * multiplexers, so that connecting to one client does not block
+     * sessions to other clients.
+     * @param address the address of the client
+     * @param sessionId identifier of the session
+     * @param telephony the telephony device of the session
+     * @return created session
+     * @throws IOException
+     *          error connecting to the client
+     */
+    static MultiplexedTextSession openSession(
+            final InetSocketAddress address, final String sessionId,
+            final TextTelephony telephony) throws IOException {
+        TextMultiplexer multiplexer;
+        synchronized (MULTIPLEXERS) {
+            multiplexer = MULTIPLEXERS.get(address);
+        }
+        TextMultiplexer unused = null;
+        if (multiplexer == null || !multiplexer.isOpen()) {
+            final TextMultiplexer created = new TextMultiplexer(address);
+            created.connection = TextMessageConnection.connect(address,
+                    MAX_TIMEOUT_CONNECT, created);
+            synchronized (MULTIPLEXERS) {
+                multiplexer = MULTIPLEXERS.get(address);
+                if (multiplexer == null || !multiplexer.isOpen()) {
+                    multiplexer = created;
+                    MULTIPLEXERS.put(address, multiplexer);
+                    LOGGER.info("opened multiplexed connection to "
+                            + address);
+                } else {
+                    // Another session connected to that client meanwhile
+                    unused = created;
+                }
+            }
+        }
+        if (unused != null) {
+            unused.connection.close();
+        }
+        final MultiplexedTextSession session =
+                new MultiplexedTextSession(multiplexer, sessionId, telephony);
+        multiplexer.sessions.put(sessionId, session);
+        if (!multiplexer.isOpen()) {
+            multiplexer.removeSession(session);
+            throw new IOException("connection to " + address + " closed");
+        }
+        return session;
+    }
+
+    /**
+     * Checks if the connection is open.
+     * @return <code>true</code> if the connection is open
+     */
+    boolean isOpen() {
+        return connection != null && connection.isOpen();
+    }
+
+    /**
+     * Queues the given message to be sent.
+     * @param message the message to send
+     * @throws IOException
+     *          if the connection is closed
+     */
+    void send(final TextMessage message) throws IOException {
+        connection.send(message);
+        LOGGER.debug("sending {}", message);
+    }
+
+    /**
+     * Removes the given session from this connection. The connection
+     * remains open for subsequent sessions.
+     * @param session the session to remove
+     */
+    void removeSession(final MultiplexedTextSession session) {
+        sessions.remove(session.getSessionId(), session);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void messagesReceived(final TextMessageConnection conn,
+            final List<TextMessage> messages) {
+        for (TextMessage message : messages) {
+            LOGGER.debug("read: {}", message);
+            final String sessionId = message.getSessionId();
+            final MultiplexedTextSession session = sessions.get(sessionId);
+            if (session == null) {
+                LOGGER.debug("ignoring message for unknown session '{}'",
+                        sessionId);
+                continue;
+            }
+            session.received(message);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void connectionClosed(final TextMessageConnection conn) {
+        synchronized (MULTIPLEXERS) {
+            if (MULTIPLEXERS.get(address) == this) {
+                MULTIPLEXERS.remove(address);
+            }
+        }
+        LOGGER.info("multiplexed connection to " + address + " closed");
+        for (MultiplexedTextSession session : sessions.values()) {
+            session.connectionLost();
+        }
+        sessions.clear();
+    }
+}
@@ -27,7 +27,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.jvoicexml.ConnectionInformation;
 import org.jvoicexml.DtmfRecognizerProperties;
 import org.jvoicexml.RecognitionResult;
@@ -46,8 +47,8 @@ import org.jvoicexml.event.plain.implementation.SpokenInputEvent;
 import org.jvoicexml.implementation.GrammarImplementation;
 import org.jvoicexml.implementation.SpokenInput;
 import org.jvoicexml.implementation.SpokenInputListener;
-import org.jvoicexml.implementation.grammar.GrammarEvaluator;
 import org.jvoicexml.implementation.grammar.GrammarParser;
+import org.jvoicexml.implementation.grammar.UnionGrammarMatcher;
 import org.jvoicexml.interpreter.datamodel.DataModel;
 import org.jvoicexml.xml.srgs.GrammarType;
 import org.jvoicexml.xml.srgs.ModeType;
@@ -60,13 +61,18 @@ import org.jvoicexml.xml.vxml.BargeInType;
  * This implementation is more or less a bridge that receives its input from
  * {@link TextTelephony} and forwards them to the voice browser.
  * </p>
+ * <p>
+ * Grammars that are activated later take precedence over those that are
+ * already active. All active grammars are matched in a single pass by a
+ * {@link UnionGrammarMatcher}.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @since 0.6
  */
 final class TextSpokenInput implements SpokenInput {
     /** Logger for this class. */
-    private static final Logger LOGGER = Logger
+    private static final Logger LOGGER = LogManager
             .getLogger(TextSpokenInput.class);
 
     /** Supported barge-in types. */
@@ -75,8 +81,11 @@ final class TextSpokenInput implements SpokenInput {
     /** The grammar parser to use. */
     private final Map<String, GrammarParser<?>> parsers;
 
-    /** Active grammars. */
-    private final Collection<GrammarImplementation<?>> activeGrammars;
+    /** Active grammars in the order of their precedence. */
+    private final List<GrammarImplementation<?>> activeGrammars;
+
+    /** Matcher of the active grammars, created on demand. */
+    private UnionGrammarMatcher grammarMatcher;
 
     /** The data model in use. */
     private DataModel model;
@@ -144,11 +153,12 @@ final class TextSpokenInput implements SpokenInput {
     public void activateGrammars(
             final Collection<GrammarImplementation<?>> grammars)
             throws BadFetchError, UnsupportedLanguageError, NoresourceError {
-        activeGrammars.addAll(grammars);
+        activeGrammars.removeAll(grammars);
+        activeGrammars.addAll(0, grammars);
         if (LOGGER.isDebugEnabled()) {
             for (GrammarImplementation<?> grammar : grammars) {
-                LOGGER.debug("activated grammar "
-                        + grammar.getGrammarDocument());
+                LOGGER.debug("activated grammar {}",
+                        grammar.getGrammarDocument());
             }
         }
     }
@@ -167,8 +177,8 @@ final class TextSpokenInput implements SpokenInput {
         if (LOGGER.isDebugEnabled()) {
             for (GrammarImplementation<?> grammar : grammars) {
                 if (grammar != null) {
-                    LOGGER.debug("deactivated grammar "
-                            + grammar.getGrammarDocument());
+                    LOGGER.debug("deactivated grammar {}",
+                            grammar.getGrammarDocument());
                 }
             }
         }
@@ -216,6 +226,7 @@ final class TextSpokenInput implements SpokenInput {
     public void passivate() {
         listener.clear();
         activeGrammars.clear();
+        grammarMatcher = null;
         recognizing = false;
     }
 
@@ -312,23 +323,18 @@ final class TextSpokenInput implements SpokenInput {
         if (!recognizing || (listener == null)) {
             return;
         }
-        LOGGER.info("received utterance '" + text + "'");
+        LOGGER.info("received utterance '{}'", text);
 
         final SpokenInputEvent inputStartedEvent = new InputStartedEvent(this,
                 null, ModeType.VOICE);
         fireInputEvent(inputStartedEvent);
 
-        Object interpretation = null;
-        for (GrammarImplementation<?> grammar : activeGrammars) {
-            if (grammar instanceof GrammarEvaluator) {
-                final GrammarEvaluator evaluator = (GrammarEvaluator) grammar;
-                interpretation =
-                        evaluator.getSemanticInterpretation(model, text);
-                if (interpretation != null) {
-                    break;
-                }
-            }
+        if (grammarMatcher == null
+                || !grammarMatcher.getGrammars().equals(activeGrammars)) {
+            grammarMatcher = new UnionGrammarMatcher(activeGrammars);
         }
+        final Object interpretation =
+                grammarMatcher.getSemanticInterpretation(model, text);
         final RecognitionResult result = new TextRecognitionResult(text,
                 interpretation);
         if (result.isAccepted()) {
@@ -56,6 +56,12 @@ import org.jvoicexml.implementation.TelephonyListener;
  * {@link TextSpokenInput}.
  * </p>
  *
+ * <p>
+ * If the client shares a single connection among multiple sessions, i.e.
+ * the {@link TextConnectionInformation} is multiplexed, both threads are
+ * replaced by a {@link MultiplexedTextSession}.
+ * </p>
+ *
  * @author Dirk Schnelle-Walka
  * @since 0.6
  */
@@ -78,6 +84,9 @@ public final class TextTelephony implements Telephony {
     /** Sender for messages to the client. */
     private TextSenderThread sender;
 
+    /** The session on a multiplexed connection to the client. */
+    private MultiplexedTextSession session;
+
     /** The current text synthesizer. */
     private TextSynthesizedOutput textOutput;
 
@@ -121,7 +130,10 @@ public final class TextTelephony implements Telephony {
                 SpeakableText speakable;
                 do {
                     speakable = textOutput.getNextText();
-                    if (speakable != null) {
+                    if (speakable != null && session != null) {
+                        firePlayStarted();
+                        session.sendData(speakable);
+                    } else if (speakable != null) {
                         synchronized (pendingMessages) {
                             firePlayStarted();
                             if (sender != null) {
@@ -190,7 +202,7 @@ public final class TextTelephony implements Telephony {
                     textOutput.checkEmptyQueue(speakable);
                 }
                 if (pendingMessages.isEmpty()) {
-                    if (sentHungup) {
+                    if (sentHungup && receiver != null) {
                         receiver.terminateReceiver();
                     }
                     pendingMessages.notifyAll();
@@ -242,6 +254,11 @@ public final class TextTelephony implements Telephony {
         }
         fireRecordStarted();
         final TextSpokenInput textInput = (TextSpokenInput) input;
+        if (session != null) {
+            session.setSpokenInput(textInput);
+            session.sendExpectingInput();
+            return;
+        }
         receiver.setSpokenInput(textInput);
         sender.sendExpectingInput();
     }
@@ -253,6 +270,9 @@ public final class TextTelephony implements Telephony {
         if (receiver != null) {
             receiver.setSpokenInput(null);
         }
+        if (session != null) {
+            session.setSpokenInput(null);
+        }
         fireRecordStopped();
     }
 
@@ -286,6 +306,9 @@ public final class TextTelephony implements Telephony {
         if (sender != null) {
             sender.sendClosedInput();
         }
+        if (session != null) {
+            session.sendClosedInput();
+        }
     }
 
     /**
@@ -340,6 +363,9 @@ public final class TextTelephony implements Telephony {
         if (sender != null) {
             sender.sendBye();
         }
+        if (session != null) {
+            session.sendBye();
+        }
     }
 
     /**
@@ -376,7 +402,9 @@ public final class TextTelephony implements Telephony {
         synchronized (pendingMessages) {
             return (sender != null && sender.isSending())
                     || !pendingMessages.isEmpty()
-                    || (receiver != null && receiver.isRecording());
+                    || (receiver != null && receiver.isRecording())
+                    || (session != null
+                        && (session.isSending() || session.isRecording()));
         }
     }
 
@@ -385,6 +413,9 @@ public final class TextTelephony implements Telephony {
      */
     @Override
     public boolean isActive() {
+        if (session != null) {
+            return session.isOpen() && !sentHungup;
+        }
         if (!socket.isConnected()) {
             return false;
         }
@@ -412,6 +443,10 @@ public final class TextTelephony implements Telephony {
             sender.interrupt();
             sender = null;
         }
+        if (session != null) {
+            session.close();
+            session = null;
+        }
         if (socket != null) {
             try {
                 socket.close();
@@ -461,6 +496,17 @@ public final class TextTelephony implements Telephony {
     public void connect(final ConnectionInformation info) throws IOException {
         if (info instanceof TextConnectionInformation) {
             final TextConnectionInformation textClient = (TextConnectionInformation) info;
+            if (textClient.isMultiplexed()) {
+                final InetSocketAddress address = new InetSocketAddress(
+                        textClient.getAddress(), textClient.getPort());
+                session = TextMultiplexer.openSession(address,
+                        textClient.getSessionId(), this);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("...connected session '"
+                            + textClient.getSessionId() + "'");
+                }
+                return;
+            }
             socket = openConnection(textClient);
             // } else if (info instanceof ConnectedTextConnectionInformation) {
             // final ConnectedTextConnectionInformation textClient =
@@ -494,6 +540,18 @@ public final class TextTelephony implements Telephony {
                     + "'...");
         }
 
+        if (session != null) {
+            if (!sentHungup) {
+                session.sendBye();
+            }
+            session.close();
+            session = null;
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("disconnected");
+            }
+            return;
+        }
+
         // delay to acknowledge pending messages
         while (((receiver != null) && receiver.isRecording())
                 && !pendingMessages.isEmpty()) {
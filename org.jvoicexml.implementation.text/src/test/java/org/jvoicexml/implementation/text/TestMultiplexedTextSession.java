@@ -0,0 +1,230 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.implementation.text;
+
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvoicexml.ConnectionInformation;
+import org.jvoicexml.SessionIdentifier;
+import org.jvoicexml.SpeakableSsmlText;
+import org.jvoicexml.UuidSessionIdentifier;
+import org.jvoicexml.client.text.MultiplexedTextServer;
+import org.jvoicexml.client.text.TextListener;
+import org.jvoicexml.client.text.TextMessageEvent;
+import org.jvoicexml.event.JVoiceXMLEvent;
+import org.jvoicexml.xml.ssml.SsmlDocument;
+
+/**
+ * Test cases for {@link MultiplexedTextSession}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestMultiplexedTextSession {
+    /** Port number to use. */
+    private static final int PORT = 4245;
+
+    /** Number of sessions to use. */
+    private static final int SESSIONS = 3;
+
+    /** Text server to receive the data. */
+    private MultiplexedTextServer server;
+
+    /** The telephony objects to test. */
+    private TextTelephony[] telephonies;
+
+    /** The connection information of each session. */
+    private ConnectionInformation[] infos;
+
+    /** The listeners of each session. */
+    private QueueingTextListener[] listeners;
+
+    /**
+     * Set up the test environment.
+     * @throws Exception
+     *          set up failed
+     */
+    @Before
+    public void setUp() throws Exception {
+        server = new MultiplexedTextServer(PORT);
+        server.start();
+        server.waitStarted();
+        telephonies = new TextTelephony[SESSIONS];
+        infos = new ConnectionInformation[SESSIONS];
+        listeners = new QueueingTextListener[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            listeners[i] = new QueueingTextListener();
+            infos[i] = server.createConnectionInformation(listeners[i]);
+            telephonies[i] = new TextTelephony();
+            telephonies[i].connect(infos[i]);
+        }
+    }
+
+    /**
+     * Tear down the test environment.
+     */
+    @After
+    public void tearDown() {
+        for (int i = 0; i < SESSIONS; i++) {
+            telephonies[i].disconnect(infos[i]);
+        }
+        server.stopServer();
+    }
+
+    /**
+     * Test method for pipelined prompts of multiple sessions over a single
+     * connection.
+     * @throws Exception
+     *          test failed
+     * @throws JVoiceXMLEvent
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testPlay() throws Exception, JVoiceXMLEvent {
+        final SessionIdentifier sessionId = new UuidSessionIdentifier();
+        final int prompts = MultiplexedTextSession.WINDOW_SIZE * 2;
+        for (int i = 0; i < SESSIONS; i++) {
+            final TextSynthesizedOutput output = new TextSynthesizedOutput();
+            for (int k = 0; k < prompts; k++) {
+                final SpeakableSsmlText speakable = new SpeakableSsmlText(
+                        "session " + i + " prompt " + k, Locale.US);
+                output.queueSpeakable(speakable, sessionId, null);
+            }
+            telephonies[i].play(output, null);
+        }
+        for (int i = 0; i < SESSIONS; i++) {
+            for (int k = 0; k < prompts; k++) {
+                final SsmlDocument document =
+                        listeners[i].documents.poll(5, TimeUnit.SECONDS);
+                Assert.assertNotNull(document);
+                Assert.assertEquals("session " + i + " prompt " + k,
+                        document.getSpeak().getTextContent().trim());
+            }
+        }
+        for (int i = 0; i < SESSIONS; i++) {
+            while (telephonies[i].isBusy()) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(telephonies[i].isActive());
+        }
+    }
+
+    /**
+     * Test method for a hangup of the client.
+     * @throws Exception
+     *          test failed
+     * @throws JVoiceXMLEvent
+     *          test failed
+     */
+    @Test(timeout = 10000)
+    public void testHangup() throws Exception, JVoiceXMLEvent {
+        final TextSpokenInput input = new TextSpokenInput();
+        telephonies[0].record(input, null);
+        Assert.assertTrue(listeners[0].expectingInput.poll(5,
+                TimeUnit.SECONDS));
+        final String id = listeners[0].event.getMessage().getSessionId();
+        server.hangup(id);
+        Assert.assertTrue(listeners[0].disconnected.poll(5,
+                TimeUnit.SECONDS));
+        Assert.assertEquals(SESSIONS - 1, server.getSessionCount());
+        Assert.assertFalse(telephonies[0].isActive());
+        Assert.assertTrue(telephonies[1].isActive());
+    }
+
+    /**
+     * Listener that queues all notifications.
+     */
+    private static final class QueueingTextListener implements TextListener {
+        /** Received documents. */
+        private final BlockingQueue<SsmlDocument> documents =
+                new LinkedBlockingQueue<SsmlDocument>();
+
+        /** Received expecting input notifications. */
+        private final BlockingQueue<Boolean> expectingInput =
+                new LinkedBlockingQueue<Boolean>();
+
+        /** Received disconnect notifications. */
+        private final BlockingQueue<Boolean> disconnected =
+                new LinkedBlockingQueue<Boolean>();
+
+        /** The last event. */
+        private volatile TextMessageEvent event;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void started() {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void connected(final InetSocketAddress remote) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void outputSsml(final TextMessageEvent evt,
+                final SsmlDocument document) {
+            event = evt;
+            documents.add(document);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void expectingInput(final TextMessageEvent evt) {
+            event = evt;
+            expectingInput.add(Boolean.TRUE);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void inputClosed(final TextMessageEvent evt) {
+            event = evt;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void disconnected(final TextMessageEvent evt) {
+            event = evt;
+            disconnected.add(Boolean.TRUE);
+        }
+    }
+}
@@ -34,6 +34,9 @@ import org.jvoicexml.interpreter.datamodel.DataModel;
 import org.jvoicexml.interpreter.datamodel.DataModelObjectDeserializer;
 import org.jvoicexml.interpreter.datamodel.DataModelObjectSerializer;
 import org.jvoicexml.interpreter.scope.Scope;
+import org.jvoicexml.metrics.Counter;
+import org.jvoicexml.metrics.Metrics;
+import org.jvoicexml.metrics.Timer;
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
@@ -58,6 +61,14 @@ public class EcmaScriptDataModel implements DataModel {
     private static final Logger LOGGER = Logger
             .getLogger(EcmaScriptDataModel.class);
 
+    /** Time to evaluate expressions. */
+    private static final Timer EVALUATION_TIMER =
+            Metrics.timer("jvoicexml_script_evaluation_seconds");
+
+    /** Number of expressions that could not be evaluated. */
+    private static final Counter EVALUATION_ERRORS =
+            Metrics.counter("jvoicexml_script_evaluation_errors_total");
+
     /** The root scope. */
     private Scriptable rootScope;
 
@@ -1000,6 +1011,7 @@ public class EcmaScriptDataModel implements DataModel {
             }
             return null;
         }
+        final long evaluationStart = EVALUATION_TIMER.start();
         try {
             final Context context = getContext();
             final Object value = context.evaluateString(start,
@@ -1019,12 +1031,15 @@ public class EcmaScriptDataModel implements DataModel {
             final T t = (T) Context.jsToJava(value, type);
             return t;
         } catch (EcmaError | EvaluatorException e) {
+            EVALUATION_ERRORS.increment();
             final String message = "error evaluating '" + preparedExpression
                     + "'";
             LOGGER.warn(message, e);
             final String concatenatedMessage = getConcatenadedErrorMessage(
                     message, e);
             throw new SemanticError(concatenatedMessage, e);
+        } finally {
+            EVALUATION_TIMER.stop(evaluationStart);
         }
     }
 
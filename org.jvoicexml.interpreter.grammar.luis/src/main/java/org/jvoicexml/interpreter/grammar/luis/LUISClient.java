@@ -0,0 +1,457 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.grammar.luis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.apache.log4j.Logger;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * A client for the LUIS prediction API that is shared by all LUIS grammars.
+ * <p>
+ * Requests are sent asynchronously by a bounded number of worker threads
+ * over a pool of persistent HTTP connections. Each request is limited by a
+ * timeout. Predictions are kept in a cache per application for a limited
+ * time. Concurrent requests for the same utterance of the same application
+ * share a single call to LUIS.
+ * </p>
+ * <p>
+ * Configuration changes must be made before the first request. This class
+ * is thread safe otherwise.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class LUISClient {
+    /** Logger for this class. */
+    private static final Logger LOGGER = Logger.getLogger(LUISClient.class);
+
+    /** The default proxy port. */
+    private static final int DEFAULT_PROXY_PORT = 80;
+
+    /** Default maximal number of concurrent requests. */
+    private static final int DEFAULT_MAX_CONNECTIONS = 20;
+
+    /** Default timeout of a request in msec. */
+    private static final long DEFAULT_TIMEOUT = 5000;
+
+    /** Default maximal number of cached predictions. */
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    /** Default time to live of a cached prediction in msec. */
+    private static final long DEFAULT_CACHE_TTL = 300000;
+
+    /** The shared default client. */
+    private static LUISClient defaultClient;
+
+    /** Maximal number of concurrent requests. */
+    private int maxConnections;
+
+    /** Timeout of a request in msec. */
+    private long timeout;
+
+    /** Maximal number of cached predictions. */
+    private int cacheSize;
+
+    /** Time to live of a cached prediction in msec. */
+    private long cacheTtl;
+
+    /** Cached predictions in the order of their last use. */
+    private final Map<String, CachedPrediction> cache;
+
+    /** Predictions that are currently requested. */
+    private final Map<String, CompletableFuture<JSONObject>> pending;
+
+    /** The HTTP client, lazily created. */
+    private CloseableHttpClient client;
+
+    /** Executor of the requests, lazily created. */
+    private ExecutorService executor;
+
+    /** Number of requests that were answered from the cache. */
+    private long hits;
+
+    /** Number of requests that were sent to LUIS. */
+    private long misses;
+
+    /** Number of requests that shared a pending request. */
+    private long coalesced;
+
+    /**
+     * Constructs a new object.
+     */
+    public LUISClient() {
+        maxConnections = DEFAULT_MAX_CONNECTIONS;
+        timeout = DEFAULT_TIMEOUT;
+        cacheSize = DEFAULT_CACHE_SIZE;
+        cacheTtl = DEFAULT_CACHE_TTL;
+        cache = new java.util.LinkedHashMap<String, CachedPrediction>(16,
+                0.75f, true);
+        pending = new java.util.concurrent.ConcurrentHashMap<String,
+                CompletableFuture<JSONObject>>();
+    }
+
+    /**
+     * Retrieves the client that is shared by all LUIS grammars that are not
+     * configured with an own client.
+     * @return the default client
+     */
+    public static synchronized LUISClient getDefault() {
+        if (defaultClient == null) {
+            defaultClient = new LUISClient();
+        }
+        return defaultClient;
+    }
+
+    /**
+     * Sets the maximal number of concurrent requests.
+     * @param number maximal number of concurrent requests
+     */
+    public void setMaxConnections(final int number) {
+        maxConnections = number;
+    }
+
+    /**
+     * Sets the timeout of a request.
+     * @param msec timeout in msec
+     */
+    public void setTimeout(final long msec) {
+        timeout = msec;
+    }
+
+    /**
+     * Retrieves the timeout of a request.
+     * @return timeout in msec
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the maximal number of cached predictions.
+     * @param size maximal number of cached predictions, <code>0</code> to
+     *          disable the cache
+     */
+    public void setCacheSize(final int size) {
+        cacheSize = size;
+    }
+
+    /**
+     * Sets the time to live of a cached prediction.
+     * @param msec time to live in msec
+     */
+    public void setCacheTtl(final long msec) {
+        cacheTtl = msec;
+    }
+
+    /**
+     * Requests the prediction of LUIS for the given utterance.
+     * @param application URI of the prediction endpoint of the application
+     * @param subscription the subscription key
+     * @param utterance the utterance
+     * @return the future prediction. The JSON object is shared and must not
+     *          be modified.
+     */
+    public CompletableFuture<JSONObject> predict(final URI application,
+            final String subscription, final String utterance) {
+        final String key = application + "\n" + utterance.trim();
+        final JSONObject cached = getCached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        final CompletableFuture<JSONObject> future =
+                new CompletableFuture<JSONObject>();
+        final CompletableFuture<JSONObject> previous =
+                pending.putIfAbsent(key, future);
+        if (previous != null) {
+            synchronized (this) {
+                ++coalesced;
+            }
+            return previous;
+        }
+        synchronized (this) {
+            ++misses;
+        }
+        final Runnable request = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final JSONObject prediction = request(application,
+                            subscription, utterance);
+                    putCached(key, prediction);
+                    future.complete(prediction);
+                } catch (IOException | URISyntaxException | ParseException
+                        | RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    pending.remove(key, future);
+                }
+            }
+        };
+        try {
+            getExecutor().execute(request);
+        } catch (RuntimeException e) {
+            pending.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Sends the request to LUIS.
+     * @param application URI of the prediction endpoint of the application
+     * @param subscription the subscription key
+     * @param utterance the utterance
+     * @return the prediction
+     * @throws IOException error accessing LUIS
+     * @throws URISyntaxException error creating the request URI
+     * @throws ParseException error parsing the response
+     */
+    private JSONObject request(final URI application,
+            final String subscription, final String utterance)
+            throws IOException, URISyntaxException, ParseException {
+        final URIBuilder uribuilder = new URIBuilder(application);
+        uribuilder.addParameter("subscription-key", subscription);
+        uribuilder.addParameter("query", utterance);
+        final URI uri = uribuilder.build();
+        final HttpGet request = new HttpGet(uri);
+        try (CloseableHttpResponse response = getClient().execute(request)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("sent input '" + utterance + "'");
+            }
+            final HttpEntity entity = response.getEntity();
+            final StatusLine statusLine = response.getStatusLine();
+            final int status = statusLine.getStatusCode();
+            if (status != HttpStatus.SC_OK) {
+                EntityUtils.consume(entity);
+                throw new IOException("error accessing '" + application
+                        + "': " + statusLine.getReasonPhrase()
+                        + " (HTTP error code " + status + ")");
+            }
+            final InputStream input = entity.getContent();
+            final InputStreamReader reader =
+                    new InputStreamReader(input, StandardCharsets.UTF_8);
+            final JSONParser parser = new JSONParser();
+            final JSONObject object = (JSONObject) parser.parse(reader);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("reveived json: " + object);
+            }
+            return object;
+        }
+    }
+
+    /**
+     * Looks up a cached prediction.
+     * @param key key of the prediction
+     * @return the prediction, <code>null</code> if there is no valid
+     *          prediction
+     */
+    private synchronized JSONObject getCached(final String key) {
+        final CachedPrediction cached = cache.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expires < System.currentTimeMillis()) {
+            cache.remove(key);
+            return null;
+        }
+        ++hits;
+        return cached.prediction;
+    }
+
+    /**
+     * Adds a prediction to the cache and evicts the least recently used
+     * predictions if the cache is full.
+     * @param key key of the prediction
+     * @param prediction the prediction
+     */
+    private synchronized void putCached(final String key,
+            final JSONObject prediction) {
+        if (cacheSize <= 0) {
+            return;
+        }
+        final long expires = System.currentTimeMillis() + cacheTtl;
+        cache.put(key, new CachedPrediction(prediction, expires));
+        final java.util.Iterator<String> iterator = cache.keySet().iterator();
+        while (cache.size() > cacheSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Retrieves the HTTP client and creates it if needed.
+     * @return the HTTP client
+     */
+    private synchronized CloseableHttpClient getClient() {
+        if (client != null) {
+            return client;
+        }
+        final PoolingHttpClientConnectionManager manager =
+                new PoolingHttpClientConnectionManager();
+        manager.setMaxTotal(maxConnections);
+        manager.setDefaultMaxPerRoute(maxConnections);
+        final RequestConfig config = RequestConfig.custom()
+                .setConnectTimeout((int) timeout)
+                .setConnectionRequestTimeout((int) timeout)
+                .setSocketTimeout((int) timeout)
+                .build();
+        final HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(manager)
+                .setDefaultRequestConfig(config);
+        final String proxyHost = System.getProperty("http.proxyHost");
+        if (proxyHost != null) {
+            final String port = System.getProperty("http.proxyPort");
+            final int proxyPort;
+            if (port == null) {
+                proxyPort = DEFAULT_PROXY_PORT;
+            } else {
+                proxyPort = Integer.parseInt(port);
+            }
+            builder.setProxy(new HttpHost(proxyHost, proxyPort));
+        }
+        client = builder.build();
+        return client;
+    }
+
+    /**
+     * Retrieves the executor of the requests and creates it if needed.
+     * @return the executor
+     */
+    private synchronized ExecutorService getExecutor() {
+        if (executor != null) {
+            return executor;
+        }
+        final AtomicInteger number = new AtomicInteger();
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                maxConnections, maxConnections, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        final Thread thread = new Thread(runnable,
+                                "LUISClient " + number.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        pool.allowCoreThreadTimeOut(true);
+        executor = pool;
+        return executor;
+    }
+
+    /**
+     * Retrieves the number of requests that were answered from the cache.
+     * @return number of cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of requests that were sent to LUIS.
+     * @return number of cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retrieves the number of requests that shared a pending request.
+     * @return number of coalesced requests
+     */
+    public synchronized long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Stops the worker threads, closes all connections and clears the
+     * cache.
+     */
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        if (client != null) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                LOGGER.warn("error closing the HTTP client", e);
+            }
+            client = null;
+        }
+        cache.clear();
+    }
+
+    /**
+     * A cached prediction.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class CachedPrediction {
+        /** The prediction. */
+        private final JSONObject prediction;
+
+        /** Time when the prediction expires in msec since the epoch. */
+        private final long expires;
+
+        /**
+         * Constructs a new object.
+         * @param object the prediction
+         * @param time time when the prediction expires
+         */
+        CachedPrediction(final JSONObject object, final long time) {
+            prediction = object;
+            expires = time;
+        }
+    }
+}
@@ -21,32 +21,24 @@
 
 package org.jvoicexml.interpreter.grammar.luis;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.HttpHost;
-import org.apache.http.HttpResponse;
-import org.apache.http.HttpStatus;
-import org.apache.http.StatusLine;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.log4j.Logger;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.json.simple.parser.ParseException;
 import org.jvoicexml.event.error.SemanticError;
 import org.jvoicexml.implementation.grammar.GrammarEvaluator;
 import org.jvoicexml.interpreter.datamodel.DataModel;
 
 /**
  * An evaluator for LUIS grammars.
+ * <p>
+ * Predictions are obtained from a {@link LUISClient} that may be shared by
+ * all evaluators.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @since 0.7.8
@@ -56,29 +48,26 @@ public class LUISGrammarEvaluator implements GrammarEvaluator {
     private static final Logger LOGGER = Logger
             .getLogger(LUISGrammarEvaluator.class);
 
-    /** The default proxy port. */
-    private static final int DEFAULT_PROXY_PORT = 80;
-
-    /** The name of the proxy to use. */
-    private static final String PROXY_HOST;
-
-    /** The port of the proxy server. */
-    private static final int PROXY_PORT;
-
     /** The LUIS subscription key. */
     private final String subscriptionKey;
 
     /** URI of the grammar. */
     private final URI grammarUri;
-    
-    static {
-        PROXY_HOST = System.getProperty("http.proxyHost");
-        final String port = System.getProperty("http.proxyPort");
-        if (PROXY_HOST != null && port != null) {
-            PROXY_PORT = Integer.parseInt(port);
-        } else {
-            PROXY_PORT = DEFAULT_PROXY_PORT;
-        }
+
+    /** The client to access LUIS. */
+    private final LUISClient client;
+
+    /**
+     * Constructs a new object that uses the default client.
+     * 
+     * @param subscription
+     *            the subscription key
+     * @param documentURI
+     *            the URI of the associated grammar
+     */
+    public LUISGrammarEvaluator(final String subscription,
+            final URI documentURI) {
+        this(subscription, documentURI, LUISClient.getDefault());
     }
 
     /**
@@ -88,11 +77,15 @@ public class LUISGrammarEvaluator implements GrammarEvaluator {
      *            the subscription key
      * @param documentURI
      *            the URI of the associated grammar
+     * @param luisClient
+     *            the client to access LUIS
+     * @since 0.7.9
      */
     public LUISGrammarEvaluator(final String subscription,
-            final URI documentURI) {
+            final URI documentURI, final LUISClient luisClient) {
         grammarUri = documentURI;
         subscriptionKey = subscription;
+        client = luisClient;
     }
 
     /**
@@ -109,35 +102,23 @@ public class LUISGrammarEvaluator implements GrammarEvaluator {
     @Override
     public Object getSemanticInterpretation(final DataModel model,
             String utterance) {
-        final HttpClientBuilder builder = HttpClientBuilder.create();
-        if (PROXY_HOST != null) {
-            HttpHost proxy = new HttpHost(PROXY_HOST, PROXY_PORT);
-            builder.setProxy(proxy);
-        }
-        try (CloseableHttpClient client = builder.build()) {
-            final URIBuilder uribuilder = new URIBuilder(grammarUri);
-            uribuilder.addParameter("subscription-key", subscriptionKey);
-            uribuilder.addParameter("query", utterance);
-            final URI uri = uribuilder.build();
-            final HttpGet request = new HttpGet(uri);
-            final HttpResponse response = client.execute(request);
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("sent input '" + utterance + "'");
-            }
-            final StatusLine statusLine = response.getStatusLine();
-            final int status = statusLine.getStatusCode();
-            if (status != HttpStatus.SC_OK) {
-                final String reasonPhrase = statusLine.getReasonPhrase();
-                LOGGER.error("error accessing '" + uri +"': " +
-                        reasonPhrase + " (HTTP error code "
-                        + status + ")");
-                return null;
-            }
-            final HttpEntity entity = response.getEntity();
-            final InputStream input = entity.getContent();
-            final Object interpretation = parseLUISResponse(model, input);
-            return interpretation;
-        } catch (IOException | URISyntaxException | ParseException | SemanticError e) {
+        try {
+            final JSONObject object = client.predict(grammarUri,
+                    subscriptionKey, utterance).get(client.getTimeout(),
+                            TimeUnit.MILLISECONDS);
+            return parseLUISResponse(model, object);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            LOGGER.error(cause.getMessage(), cause);
+            return null;
+        } catch (TimeoutException e) {
+            LOGGER.error("no response from LUIS for '" + utterance
+                    + "' within " + client.getTimeout() + " msec");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (SemanticError e) {
             LOGGER.error(e.getMessage(), e);
             return null;
         }
@@ -146,21 +127,12 @@ public class LUISGrammarEvaluator implements GrammarEvaluator {
     /**
      * Parse the response from LUIS.
      * @param model the current datamodel
-     * @param input the input stream to the response entity
+     * @param object the response
      * @return parsed semantic interpretation
-     * @throws IOException parsing error
-     * @throws ParseException parsing error
      * @throws SemanticError error evaluating the result in the datamodel
      */
     private Object parseLUISResponse(final DataModel model,
-            final InputStream input)
-            throws IOException, ParseException, SemanticError {
-        final InputStreamReader reader = new InputStreamReader(input);
-        final JSONParser parser = new JSONParser();
-        final JSONObject object = (JSONObject) parser.parse(reader);
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("reveived json: " + object);
-        }
+            final JSONObject object) throws SemanticError {
         final JSONObject prediction = 
                 (JSONObject) object.get("prediction");
         final DataModel interpretationModel = model.newInstance();
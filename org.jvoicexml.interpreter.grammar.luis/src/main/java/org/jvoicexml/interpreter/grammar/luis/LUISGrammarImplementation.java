@@ -44,8 +44,11 @@ public final class LUISGrammarImplementation
     /** The LUIS subscription key. */
     private final String subscriptionKey;
 
+    /** The client to access LUIS. */
+    private final LUISClient client;
+
     /**
-     * Constructs a new object.
+     * Constructs a new object that uses the default client.
      * 
      * @param doc
      *            the grammar document.
@@ -54,8 +57,25 @@ public final class LUISGrammarImplementation
      */
     public LUISGrammarImplementation(final GrammarDocument doc,
             final String subscription) {
+        this(doc, subscription, LUISClient.getDefault());
+    }
+
+    /**
+     * Constructs a new object.
+     * 
+     * @param doc
+     *            the grammar document.
+     * @param subscription
+     *            the subscription key
+     * @param luisClient
+     *            the client to access LUIS
+     * @since 0.7.9
+     */
+    public LUISGrammarImplementation(final GrammarDocument doc,
+            final String subscription, final LUISClient luisClient) {
         document = doc;
         subscriptionKey = subscription;
+        client = luisClient;
     }
 
     /**
@@ -121,7 +141,7 @@ public final class LUISGrammarImplementation
             final String utterance) {
         final URI uri = document.getURI();
         final LUISGrammarEvaluator evaluator = new LUISGrammarEvaluator(
-                subscriptionKey, uri);
+                subscriptionKey, uri, client);
         return evaluator.getSemanticInterpretation(model, utterance);
     }
 }
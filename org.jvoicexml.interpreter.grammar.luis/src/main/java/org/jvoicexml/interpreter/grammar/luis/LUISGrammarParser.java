@@ -42,10 +42,25 @@ public class LUISGrammarParser implements GrammarParser<GrammarDocument> {
     /** The LUIS subscription key. */
     private String subscriptionKey;
 
+    /** The client to access LUIS. */
+    private LUISClient client;
+
     /**
      * Constructs a new object.
      */
     public LUISGrammarParser() {
+        client = LUISClient.getDefault();
+    }
+
+    /**
+     * Sets the client to access LUIS.
+     * 
+     * @param luisClient
+     *            the client
+     * @since 0.7.9
+     */
+    public void setClient(final LUISClient luisClient) {
+        client = luisClient;
     }
 
     /**
@@ -74,7 +89,8 @@ public class LUISGrammarParser implements GrammarParser<GrammarDocument> {
             throws IOException {
         final UriGrammarDocument document = new UriGrammarDocument(
                 uri, LUISGrammarType.LUIS, ModeType.VOICE);
-        return new LUISGrammarImplementation(document, subscriptionKey);
+        return new LUISGrammarImplementation(document, subscriptionKey,
+                client);
     }
 
     /**
@@ -84,6 +100,6 @@ public class LUISGrammarParser implements GrammarParser<GrammarDocument> {
     public GrammarEvaluator parse(final GrammarDocument document)
             throws IOException, UnsupportedFormatError {
         final URI uri = document.getURI();
-        return new LUISGrammarEvaluator(subscriptionKey, uri);
+        return new LUISGrammarEvaluator(subscriptionKey, uri, client);
     }
 }
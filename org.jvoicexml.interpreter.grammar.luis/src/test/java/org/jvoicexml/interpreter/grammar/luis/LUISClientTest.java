@@ -0,0 +1,199 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.grammar.luis;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Test cases for {@link LUISClient} against a local stub of LUIS.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class LUISClientTest {
+    /** Response of the stub. */
+    static final String RESPONSE = "{\"query\":\"yes please\","
+            + "\"prediction\":{\"topIntent\":\"Confirm\","
+            + "\"intents\":{\"Confirm\":{\"score\":0.98}},"
+            + "\"entities\":{}}}";
+
+    /** The stub server. */
+    private HttpServer server;
+
+    /** Number of requests received by the stub. */
+    private AtomicInteger requests;
+
+    /** Latch that must be released before the stub answers. */
+    private CountDownLatch release;
+
+    /** URI of the stubbed application. */
+    private URI application;
+
+    /** The test object. */
+    private LUISClient client;
+
+    /**
+     * Starts the stub server.
+     * @throws Exception
+     *          set up failed
+     */
+    @Before
+    public void setUp() throws Exception {
+        requests = new AtomicInteger();
+        release = new CountDownLatch(0);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/apps/test/predict", new HttpHandler() {
+            @Override
+            public void handle(final HttpExchange exchange)
+                    throws IOException {
+                requests.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                final byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type",
+                        "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                final OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.setExecutor(java.util.concurrent.Executors.newCachedThreadPool());
+        server.start();
+        application = new URI("http://localhost:"
+                + server.getAddress().getPort() + "/apps/test/predict");
+        client = new LUISClient();
+    }
+
+    /**
+     * Stops the stub server.
+     */
+    @After
+    public void tearDown() {
+        release.countDown();
+        client.close();
+        server.stop(0);
+    }
+
+    /**
+     * Test method for
+     * {@link LUISClient#predict(URI, String, String)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testPredict() throws Exception {
+        final JSONObject prediction = client.predict(application, "key",
+                "yes please").get();
+        final JSONObject inner = (JSONObject) prediction.get("prediction");
+        Assert.assertEquals("Confirm", inner.get("topIntent"));
+        Assert.assertSame(prediction, client.predict(application, "key",
+                "yes please ").get());
+        Assert.assertEquals(1, requests.get());
+        Assert.assertEquals(1, client.getMisses());
+        Assert.assertEquals(1, client.getHits());
+        client.predict(new URI(application + "?app=other"), "key",
+                "yes please").get();
+        Assert.assertEquals(2, requests.get());
+    }
+
+    /**
+     * Test method for
+     * {@link LUISClient#predict(URI, String, String)} with concurrent
+     * identical requests.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testPredictCoalesced() throws Exception {
+        release = new CountDownLatch(1);
+        final CompletableFuture<JSONObject> first = client.predict(
+                application, "key", "yes please");
+        final CompletableFuture<JSONObject> second = client.predict(
+                application, "key", "yes please");
+        Assert.assertSame(first, second);
+        release.countDown();
+        Assert.assertNotNull(first.get());
+        Assert.assertEquals(1, requests.get());
+        Assert.assertEquals(1, client.getCoalesced());
+    }
+
+    /**
+     * Test method for
+     * {@link LUISClient#predict(URI, String, String)} with expired cache
+     * entries.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testPredictExpired() throws Exception {
+        client.setCacheTtl(0);
+        client.predict(application, "key", "yes please").get();
+        Thread.sleep(10);
+        client.predict(application, "key", "yes please").get();
+        Assert.assertEquals(2, requests.get());
+    }
+
+    /**
+     * Test method for
+     * {@link LUISClient#predict(URI, String, String)} if LUIS does not
+     * answer in time.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testPredictTimeout() throws Exception {
+        release = new CountDownLatch(1);
+        client.setTimeout(200);
+        final CompletableFuture<JSONObject> future = client.predict(
+                application, "key", "yes please");
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("expected a timeout");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+}
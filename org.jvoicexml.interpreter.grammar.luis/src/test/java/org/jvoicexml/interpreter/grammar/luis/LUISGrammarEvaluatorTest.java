@@ -1,8 +1,11 @@
 package org.jvoicexml.interpreter.grammar.luis;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -10,6 +13,10 @@ import org.jvoicexml.interpreter.datamodel.DataModel;
 import org.jvoicexml.interpreter.datamodel.ecmascript.EcmaScriptDataModel;
 import org.jvoicexml.mock.TestProperties;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
 public class LUISGrammarEvaluatorTest {
 
     @Test
@@ -33,4 +40,46 @@ public class LUISGrammarEvaluatorTest {
                 "yes please");
         Assert.assertNotNull("interpretation must no be null", result);
     }
+
+    /**
+     * Test method for
+     * {@link LUISGrammarEvaluator#getSemanticInterpretation(DataModel, String)}
+     * against a local stub of LUIS.
+     * @throws Exception
+     *          test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testGetSemanticInterpretationStub() throws Exception {
+        final HttpServer server = HttpServer.create(
+                new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/predict", new HttpHandler() {
+            @Override
+            public void handle(final HttpExchange exchange)
+                    throws IOException {
+                final byte[] body = LUISClientTest.RESPONSE.getBytes(
+                        StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                final OutputStream out = exchange.getResponseBody();
+                out.write(body);
+                out.close();
+            }
+        });
+        server.start();
+        final LUISClient client = new LUISClient();
+        try {
+            final URI uri = new URI("http://localhost:"
+                    + server.getAddress().getPort() + "/predict");
+            final LUISGrammarEvaluator evaluator = new LUISGrammarEvaluator(
+                    "key", uri, client);
+            final DataModel model = new EcmaScriptDataModel();
+            model.createScope();
+            final Object result = evaluator.getSemanticInterpretation(model,
+                    "yes please");
+            Assert.assertEquals("Confirm", result);
+        } finally {
+            client.close();
+            server.stop(0);
+        }
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.grammar.regex;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.jvoicexml.documentserver.ExternalGrammarDocument;
+import org.jvoicexml.implementation.GrammarImplementation;
+import org.jvoicexml.implementation.grammar.UnionGrammarMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Classification of a text turn against many active regex grammars, one
+ * grammar after the other compared to a single scan of the combined
+ * pattern. Also compares compiling the grammars per session with the
+ * shared pattern cache.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegexGrammarBenchmark {
+    /** Number of active grammars. */
+    @Param({ "10", "100", "500" })
+    public int grammars;
+
+    /** Position of the accepting grammar. */
+    @Param({ "first", "last", "none" })
+    public String position;
+
+    /** The active grammars in the order of their precedence. */
+    private List<GrammarImplementation<?>> active;
+
+    /** Regular expressions of the active grammars. */
+    private List<String> regexes;
+
+    /** Matcher that combines the active grammars. */
+    private UnionGrammarMatcher matcher;
+
+    /** The utterance to classify. */
+    private String utterance;
+
+    /**
+     * Creates the active grammars.
+     */
+    @Setup
+    public void setUp() {
+        active = new java.util.ArrayList<GrammarImplementation<?>>();
+        regexes = new java.util.ArrayList<String>();
+        for (int i = 0; i < grammars; i++) {
+            final String regex = "(please )?(order|cancel) item " + i
+                    + "( now| later)?";
+            regexes.add(regex);
+            final ExternalGrammarDocument document =
+                    new ExternalGrammarDocument(null,
+                            regex.getBytes(StandardCharsets.US_ASCII),
+                            "US-ASCII", true);
+            active.add(new RegexGrammarImplementation(document));
+        }
+        // Measure the combined scan for any number of grammars
+        RegexPatternCache.setUnionThreshold(1);
+        matcher = new UnionGrammarMatcher(active);
+        if ("first".equals(position)) {
+            utterance = "please order item 0 now";
+        } else if ("last".equals(position)) {
+            utterance = "please order item " + (grammars - 1) + " now";
+        } else {
+            utterance = "please order the menu";
+        }
+    }
+
+    /**
+     * Evaluates the grammars one after the other.
+     *
+     * @return the semantic interpretation
+     */
+    @Benchmark
+    public Object sequential() {
+        for (GrammarImplementation<?> grammar : active) {
+            final RegexGrammarImplementation regex =
+                    (RegexGrammarImplementation) grammar;
+            final Object interpretation =
+                    regex.getSemanticInterpretation(null, utterance);
+            if (interpretation != null) {
+                return interpretation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates the grammars in a single scan of the combined pattern.
+     *
+     * @return the semantic interpretation
+     */
+    @Benchmark
+    public Object combined() {
+        return matcher.getSemanticInterpretation(null, utterance);
+    }
+
+    /**
+     * Compiles all grammars as each session did before.
+     *
+     * @return the last compiled pattern
+     */
+    @Benchmark
+    public Pattern compilePerSession() {
+        Pattern pattern = null;
+        for (String regex : regexes) {
+            pattern = Pattern.compile(regex);
+        }
+        return pattern;
+    }
+
+    /**
+     * Retrieves all grammars from the shared cache.
+     *
+     * @return the last pattern
+     */
+    @Benchmark
+    public Pattern compileCached() {
+        Pattern pattern = null;
+        for (String regex : regexes) {
+            pattern = RegexPatternCache.getPattern(regex);
+        }
+        return pattern;
+    }
+}
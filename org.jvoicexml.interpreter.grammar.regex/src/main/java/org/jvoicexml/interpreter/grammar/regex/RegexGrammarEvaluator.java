@@ -22,18 +22,24 @@
 package org.jvoicexml.interpreter.grammar.regex;
 
 import java.net.URI;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.jvoicexml.implementation.grammar.GrammarEvaluator;
+import org.jvoicexml.implementation.grammar.CombinableGrammarEvaluator;
+import org.jvoicexml.implementation.grammar.CombinedGrammarMatcher;
 import org.jvoicexml.interpreter.datamodel.DataModel;
 
 /**
  * An evaluator for regex grammars.
+ * <p>
+ * The compiled pattern is shared by all evaluators of the same regular
+ * expression.
+ * </p>
  * @author DWalka
  * @since 0.7.8
  */
-public class RegexGrammarEvaluator implements GrammarEvaluator {
+public class RegexGrammarEvaluator implements CombinableGrammarEvaluator {
     /** The regular expression to evaluate in this grammar. */
     private final Pattern pattern;
     /** The URI of the associated grammar. */
@@ -45,9 +51,18 @@ public class RegexGrammarEvaluator implements GrammarEvaluator {
      * @param documentURI the URI of the associated grammar
      */
     public RegexGrammarEvaluator(final String regex, final URI documentURI) {
-        pattern = Pattern.compile(regex);
+        pattern = RegexPatternCache.getPattern(regex);
         uri = documentURI;
     }
+
+    /**
+     * Retrieves the compiled regular expression.
+     * @return the pattern
+     * @since 0.7.9
+     */
+    Pattern getPattern() {
+        return pattern;
+    }
     
     /**
      * {@inheritDoc}
@@ -69,4 +84,19 @@ public class RegexGrammarEvaluator implements GrammarEvaluator {
         }
         return utterance;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CombinedGrammarMatcher combine(
+            final List<? extends CombinableGrammarEvaluator> evaluators) {
+        final List<Pattern> patterns = new java.util.ArrayList<Pattern>();
+        for (CombinableGrammarEvaluator evaluator : evaluators) {
+            final RegexGrammarEvaluator regex =
+                    (RegexGrammarEvaluator) evaluator;
+            patterns.add(regex.getPattern());
+        }
+        return RegexPatternCache.getUnion(patterns);
+    }
 }
@@ -46,7 +46,8 @@ public class RegexGrammarIdentifier implements GrammarIdentifier {
             return null;
         }
         try {
-            Pattern.compile(content);
+            // Keep the pattern for the grammar implementations
+            RegexPatternCache.getPattern(content);
         } catch (PatternSyntaxException e) {
             // Compilation was not successful, so non of this kind
             return null;
@@ -22,23 +22,39 @@
 package org.jvoicexml.interpreter.grammar.regex;
 
 import java.net.URI;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.jvoicexml.GrammarDocument;
 import org.jvoicexml.implementation.GrammarImplementation;
+import org.jvoicexml.implementation.grammar.CombinableGrammarEvaluator;
+import org.jvoicexml.implementation.grammar.CombinedGrammarMatcher;
+import org.jvoicexml.interpreter.datamodel.DataModel;
 import org.jvoicexml.xml.srgs.GrammarType;
 import org.jvoicexml.xml.srgs.ModeType;
 
 /**
  * A {@link GrammarImplementation} for regex grammars.
+ * <p>
+ * The grammar is also its own evaluator. The compiled pattern is shared by
+ * all grammars with the same content. Active regex grammars are matched in
+ * a single scan if they are combined by a
+ * {@link org.jvoicexml.implementation.grammar.UnionGrammarMatcher}.
+ * </p>
  *
  * @author Dirk Schnelle-Walka
  * @since 0.7.8
  */
 public final class RegexGrammarImplementation
-    implements GrammarImplementation<GrammarDocument> {
+    implements GrammarImplementation<GrammarDocument>,
+        CombinableGrammarEvaluator {
     /** The document. */
     private final GrammarDocument document;
 
+    /** The compiled regular expression, lazily retrieved. */
+    private Pattern pattern;
+
     /**
      * Constructs a new object.
      * @param doc the grammar document.
@@ -104,4 +120,45 @@ public final class RegexGrammarImplementation
     public ModeType getModeType() {
         return ModeType.VOICE;
     }
+
+    /**
+     * Retrieves the compiled regular expression.
+     * @return the pattern
+     * @since 0.7.9
+     */
+    synchronized Pattern getPattern() {
+        if (pattern == null) {
+            final String regex = document.getTextContent();
+            pattern = RegexPatternCache.getPattern(regex);
+        }
+        return pattern;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getSemanticInterpretation(final DataModel model,
+            final String utterance) {
+        final Matcher matcher = getPattern().matcher(utterance);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return utterance;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CombinedGrammarMatcher combine(
+            final List<? extends CombinableGrammarEvaluator> evaluators) {
+        final List<Pattern> patterns = new java.util.ArrayList<Pattern>();
+        for (CombinableGrammarEvaluator evaluator : evaluators) {
+            final RegexGrammarImplementation regex =
+                    (RegexGrammarImplementation) evaluator;
+            patterns.add(regex.getPattern());
+        }
+        return RegexPatternCache.getUnion(patterns);
+    }
 }
@@ -59,14 +59,15 @@ public class RegexGrammarParser implements GrammarParser<GrammarDocument> {
     public GrammarImplementation<GrammarDocument> load(final URI uri)
             throws IOException {
         final URL url = uri.toURL();
-        final InputStream input = url.openStream();
         final ByteArrayOutputStream out = new ByteArrayOutputStream();
-        byte[] buffer = new byte[BUFFER_SIZE];
-        int read = 0;
-        do {
-            read = input.read(buffer);
-            out.write(buffer, 0, read);
-        } while (read != 0);
+        try (InputStream input = url.openStream()) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read = input.read(buffer);
+            while (read >= 0) {
+                out.write(buffer, 0, read);
+                read = input.read(buffer);
+            }
+        }
         byte[] documentBuffer = out.toByteArray();
         final String charset = Charset.defaultCharset().toString();
         final ExternalGrammarDocument document =
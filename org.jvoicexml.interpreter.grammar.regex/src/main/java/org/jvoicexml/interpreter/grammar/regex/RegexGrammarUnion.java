@@ -0,0 +1,139 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.grammar.regex;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.jvoicexml.implementation.grammar.CombinedGrammarMatcher;
+
+/**
+ * Matches an input against several regex grammars in a single scan.
+ * <p>
+ * All patterns are merged into one alternation where each alternative is a
+ * named group <code>g&lt;index&gt;</code>. Alternatives are tried in the
+ * order of precedence, so the group that took part in the match denotes
+ * the grammar with the highest precedence that accepts the input. Since
+ * regex grammars return the utterance as their interpretation, grammars of
+ * lower precedence need not be reported.
+ * </p>
+ * <p>
+ * Patterns with back references are not merged since the merge shifts the
+ * numbers of their groups. They are always reported as candidates.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class RegexGrammarUnion implements CombinedGrammarMatcher {
+    /** Pattern to detect back references. */
+    private static final Pattern BACK_REFERENCE =
+            Pattern.compile("\\\\(?:[1-9]|k<)");
+
+    /** Number of combined patterns. */
+    private final int size;
+
+    /** The merged pattern, <code>null</code> if no pattern was merged. */
+    private final Pattern merged;
+
+    /**
+     * Indices of the groups of the alternatives in the merged pattern,
+     * <code>-1</code> if the pattern was not merged.
+     */
+    private final int[] groups;
+
+    /** Patterns that were not merged. */
+    private final BitSet unmerged;
+
+    /**
+     * Constructs a new object.
+     * @param patterns the patterns in the order of their precedence
+     * @exception PatternSyntaxException
+     *            if the patterns cannot be merged
+     */
+    RegexGrammarUnion(final List<Pattern> patterns) {
+        size = patterns.size();
+        groups = new int[size];
+        unmerged = new BitSet();
+        final StringBuilder str = new StringBuilder();
+        int group = 1;
+        for (int i = 0; i < size; i++) {
+            final Pattern pattern = patterns.get(i);
+            final String regex = pattern.pattern();
+            if (BACK_REFERENCE.matcher(regex).find()) {
+                groups[i] = -1;
+                unmerged.set(i);
+                continue;
+            }
+            if (str.length() > 0) {
+                str.append('|');
+            }
+            str.append("(?<g");
+            str.append(i);
+            str.append('>');
+            str.append(regex);
+            str.append(')');
+            groups[i] = group;
+            group += pattern.matcher("").groupCount() + 1;
+        }
+        if (str.length() == 0) {
+            merged = null;
+        } else {
+            merged = Pattern.compile(str.toString());
+        }
+    }
+
+    /**
+     * Retrieves the number of combined patterns.
+     * @return number of patterns
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet match(final String utterance) {
+        final BitSet matches = (BitSet) unmerged.clone();
+        if (merged == null) {
+            return matches;
+        }
+        final Matcher matcher = merged.matcher(utterance);
+        if (!matcher.matches()) {
+            return matches;
+        }
+        for (int i = 0; i < size; i++) {
+            final int group = groups[i];
+            if (group > 0 && matcher.start(group) >= 0) {
+                matches.set(i);
+                return matches;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.grammar.regex;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Process wide cache of compiled regex grammars.
+ * <p>
+ * Patterns are cached by the content of their grammar so that all sessions
+ * share a single compiled instance. Combinations of patterns, as they are
+ * active at the same time, are cached by the contents of all of their
+ * grammars. Both caches are limited in size. Further patterns are compiled
+ * but not cached.
+ * </p>
+ * <p>
+ * A combined scan only pays off for many active grammars. For a few
+ * grammars, evaluating them one after the other is as fast and much faster
+ * if one of the first grammars matches. Therefore, patterns are only
+ * combined if there are at least as many as given by the system property
+ * <code>jvoicexml.grammar.regex.union.threshold</code>, by default
+ * {@value #DEFAULT_UNION_THRESHOLD}.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class RegexPatternCache {
+    /** Maximal number of cached patterns. */
+    private static final int MAX_PATTERNS = 1024;
+
+    /** Maximal number of cached combinations. */
+    private static final int MAX_UNIONS = 128;
+
+    /** Name of the property with the minimal number of combined patterns. */
+    private static final String UNION_THRESHOLD_PROPERTY =
+            "jvoicexml.grammar.regex.union.threshold";
+
+    /** Default minimal number of combined patterns. */
+    static final int DEFAULT_UNION_THRESHOLD = 100;
+
+    /** Minimal number of patterns to combine them. */
+    private static volatile int unionThreshold = Integer.getInteger(
+            UNION_THRESHOLD_PROPERTY, DEFAULT_UNION_THRESHOLD);
+
+    /** Cached patterns by their regular expression. */
+    private static final Map<String, Pattern> PATTERNS =
+            new java.util.concurrent.ConcurrentHashMap<String, Pattern>();
+
+    /** Cached combinations by their regular expressions. */
+    private static final Map<List<String>, RegexGrammarUnion> UNIONS =
+            new java.util.concurrent.ConcurrentHashMap<List<String>,
+                RegexGrammarUnion>();
+
+    /**
+     * Do not create from outside.
+     */
+    private RegexPatternCache() {
+    }
+
+    /**
+     * Retrieves the compiled pattern of the given regular expression.
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @exception PatternSyntaxException
+     *            if the regular expression is invalid
+     */
+    static Pattern getPattern(final String regex) {
+        final Pattern cached = PATTERNS.get(regex);
+        if (cached != null) {
+            return cached;
+        }
+        final Pattern pattern = Pattern.compile(regex);
+        if (PATTERNS.size() < MAX_PATTERNS) {
+            PATTERNS.putIfAbsent(regex, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Sets the minimal number of patterns to combine them.
+     * @param threshold minimal number of patterns
+     */
+    static void setUnionThreshold(final int threshold) {
+        unionThreshold = threshold;
+    }
+
+    /**
+     * Retrieves the combination of the given patterns.
+     * @param patterns the patterns in the order of their precedence
+     * @return the combination, <code>null</code> if the patterns cannot be
+     *         combined or there are less patterns than the threshold
+     */
+    static RegexGrammarUnion getUnion(final List<Pattern> patterns) {
+        if (patterns.size() < unionThreshold) {
+            return null;
+        }
+        final List<String> key = new java.util.ArrayList<String>();
+        for (Pattern pattern : patterns) {
+            key.add(pattern.pattern());
+        }
+        final RegexGrammarUnion cached = UNIONS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final RegexGrammarUnion union;
+        try {
+            union = new RegexGrammarUnion(patterns);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+        if (UNIONS.size() < MAX_UNIONS) {
+            UNIONS.putIfAbsent(key, union);
+        }
+        return union;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.grammar.regex;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.documentserver.ExternalGrammarDocument;
+import org.jvoicexml.implementation.GrammarImplementation;
+import org.jvoicexml.implementation.grammar.UnionGrammarMatcher;
+
+/**
+ * Test cases for {@link RegexGrammarUnion}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public class RegexGrammarUnionTest {
+    /**
+     * Compiles the given regular expressions.
+     * @param regexes the regular expressions
+     * @return compiled patterns
+     */
+    private static List<Pattern> compile(final String... regexes) {
+        final List<Pattern> patterns = new java.util.ArrayList<Pattern>();
+        for (String regex : regexes) {
+            patterns.add(RegexPatternCache.getPattern(regex));
+        }
+        return patterns;
+    }
+
+    /**
+     * Creates a regex grammar with the given content.
+     * @param regex the regular expression
+     * @return created grammar
+     */
+    private static RegexGrammarImplementation createGrammar(
+            final String regex) {
+        final ExternalGrammarDocument document = new ExternalGrammarDocument(
+                null, regex.getBytes(StandardCharsets.US_ASCII), "US-ASCII",
+                true);
+        return new RegexGrammarImplementation(document);
+    }
+
+    /**
+     * Test method for {@link RegexGrammarUnion#match(String)}.
+     */
+    @Test
+    public void testMatch() {
+        final RegexGrammarUnion union = new RegexGrammarUnion(
+                compile("yes|no", "(\\d+) (dollars?|euros?)", "y.*"));
+        Assert.assertEquals(3, union.size());
+        final BitSet yes = union.match("yes");
+        Assert.assertEquals(1, yes.cardinality());
+        Assert.assertTrue(yes.get(0));
+        final BitSet amount = union.match("12 euros");
+        Assert.assertEquals(1, amount.cardinality());
+        Assert.assertTrue(amount.get(1));
+        Assert.assertTrue(union.match("yeah").get(2));
+        Assert.assertTrue(union.match("maybe").isEmpty());
+    }
+
+    /**
+     * Test method for {@link RegexGrammarUnion#match(String)} with a back
+     * reference.
+     */
+    @Test
+    public void testMatchBackReference() {
+        final RegexGrammarUnion union = new RegexGrammarUnion(
+                compile("(a+)b\\1", "no"));
+        final BitSet no = union.match("no");
+        Assert.assertTrue(no.get(0));
+        Assert.assertTrue(no.get(1));
+        final BitSet other = union.match("x");
+        Assert.assertEquals(1, other.cardinality());
+        Assert.assertTrue(other.get(0));
+    }
+
+    /**
+     * Test method for
+     * {@link RegexPatternCache#getPattern(String)}.
+     */
+    @Test
+    public void testGetPatternShared() {
+        final RegexGrammarImplementation first = createGrammar("yes|no");
+        final RegexGrammarImplementation second = createGrammar("yes|no");
+        Assert.assertSame(first.getPattern(), second.getPattern());
+        final RegexGrammarEvaluator evaluator =
+                new RegexGrammarEvaluator("yes|no", null);
+        Assert.assertSame(first.getPattern(), evaluator.getPattern());
+    }
+
+    /**
+     * Test method for
+     * {@link UnionGrammarMatcher#getSemanticInterpretation(org.jvoicexml.interpreter.datamodel.DataModel, String)}
+     * with regex grammars.
+     */
+    @Test
+    public void testGetSemanticInterpretation() {
+        final List<GrammarImplementation<?>> grammars =
+                new java.util.ArrayList<GrammarImplementation<?>>();
+        final RegexGrammarImplementation digits = createGrammar("\\d+");
+        final RegexGrammarImplementation any = createGrammar(".*");
+        grammars.add(digits);
+        grammars.add(any);
+        final UnionGrammarMatcher sequential =
+                new UnionGrammarMatcher(grammars);
+        Assert.assertEquals(2, sequential.match("42").size());
+        Assert.assertEquals("hello",
+                sequential.getSemanticInterpretation(null, "hello"));
+        RegexPatternCache.setUnionThreshold(2);
+        try {
+            final UnionGrammarMatcher matcher =
+                    new UnionGrammarMatcher(grammars);
+            Assert.assertSame(digits, matcher.match("42").get(0));
+            Assert.assertEquals(1, matcher.match("42").size());
+            Assert.assertSame(any, matcher.match("hello").get(0));
+            Assert.assertEquals("hello",
+                    matcher.getSemanticInterpretation(null, "hello"));
+        } finally {
+            RegexPatternCache.setUnionThreshold(
+                    RegexPatternCache.DEFAULT_UNION_THRESHOLD);
+        }
+    }
+
+    /**
+     * Test method for {@link RegexPatternCache#getUnion(List)}.
+     */
+    @Test
+    public void testGetUnionThreshold() {
+        final List<Pattern> patterns = new java.util.ArrayList<Pattern>();
+        patterns.add(Pattern.compile("yes"));
+        patterns.add(Pattern.compile("no"));
+        Assert.assertNull(RegexPatternCache.getUnion(patterns));
+        RegexPatternCache.setUnionThreshold(2);
+        try {
+            final RegexGrammarUnion union =
+                    RegexPatternCache.getUnion(patterns);
+            Assert.assertNotNull(union);
+            Assert.assertTrue(union.match("no").get(1));
+        } finally {
+            RegexPatternCache.setUnionThreshold(
+                    RegexPatternCache.DEFAULT_UNION_THRESHOLD);
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.jvoicexml.JndiSupport;
 import org.jvoicexml.client.TcpUriFactory;
 import org.jvoicexml.client.jndi.RemoteJVoiceXml;
 import org.jvoicexml.client.jndi.RemoteMappedDocumentRepository;
+import org.jvoicexml.client.jndi.RemoteSessionMonitor;
 import org.jvoicexml.client.jndi.Stub;
 import org.jvoicexml.documentserver.schemestrategy.DocumentMap;
 import org.jvoicexml.jndi.classserver.ClassServer;
@@ -84,6 +85,9 @@ public final class JVoiceXmlJndiSupport implements JndiSupport, Runnable {
 
     /** The port of the class server. */
     private int classServerPort;
+
+    /** The monitor of all sessions created via JNDI. */
+    private SessionMonitorSkeleton monitor;
     
     /**
      * Constructs a new object.
@@ -237,12 +241,29 @@ public final class JVoiceXmlJndiSupport implements JndiSupport, Runnable {
             return false;
         }
 
+        monitor = new SessionMonitorSkeleton();
+        try {
+            final RemoteSessionMonitor stub = (RemoteSessionMonitor)
+                    UnicastRemoteObject.exportObject(monitor, 0);
+            final String name = monitor.getSkeletonName();
+            context.rebind(name, stub);
+            monitor.start();
+            LOGGER.info("bound '" + name + "' to '" 
+                    + stub.getClass().getCanonicalName() + "("
+                    + SessionMonitorSkeleton.class.getCanonicalName()
+                    + ")'");
+        } catch (java.rmi.RemoteException | NamingException re) {
+            LOGGER.error("error creating the skeleton", re);
+            monitor = null;
+            return false;
+        }
+
         try {
             final InetAddress localhost = InetAddress.getLocalHost();
             final int port = registry.getPort();
             final URI uri = TcpUriFactory.createUri(localhost, port);
             final RemoteJVoiceXml skeleton =
-                    new JVoiceXmlSkeleton(context, jvxml, uri);
+                    new JVoiceXmlSkeleton(context, jvxml, uri, monitor);
             final RemoteJVoiceXml stub = 
                     (RemoteJVoiceXml) 
                         UnicastRemoteObject.exportObject(skeleton, 0);
@@ -267,6 +288,9 @@ public final class JVoiceXmlJndiSupport implements JndiSupport, Runnable {
     @Override
     public void shutdown() {
         LOGGER.info("stopping JNDI support...");
+        if (monitor != null) {
+            monitor.stop();
+        }
         if (registry != null) {
             registry.shutdown();
         }
@@ -65,6 +65,9 @@ class JVoiceXmlSkeleton implements RemoteJVoiceXml {
     /** The URI of the called device. */
     private URI calledDevice;
 
+    /** The monitor of all created sessions. */
+    private final SessionMonitorSkeleton monitor;
+
     /**
      * Constructs a new object.
      * @throws RemoteException
@@ -73,6 +76,7 @@ class JVoiceXmlSkeleton implements RemoteJVoiceXml {
     JVoiceXmlSkeleton()
             throws RemoteException {
         context = null;
+        monitor = null;
     }
 
     /**
@@ -80,15 +84,18 @@ class JVoiceXmlSkeleton implements RemoteJVoiceXml {
      * @param ctx the current JNDI context.
      * @param jvoicexml Main entry point for all clients.
      * @param uri the URI of the JVoiceXML called device, i.e. the JNDI registry
+     * @param sessionMonitor the monitor of all created sessions, maybe
+     *          <code>null</code>
      * @throws RemoteException
      *         Error creating the remote object.
      */
     JVoiceXmlSkeleton(final Context ctx, final JVoiceXml jvoicexml,
-            final URI uri)
+            final URI uri, final SessionMonitorSkeleton sessionMonitor)
             throws RemoteException {
         context = ctx;
         jvxml = jvoicexml;
         calledDevice = uri;
+        monitor = sessionMonitor;
     }
 
     /**
@@ -143,6 +150,9 @@ class JVoiceXmlSkeleton implements RemoteJVoiceXml {
             LOGGER.error("unable to create session", e);
             throw new RemoteException("unable to create session", e);
         }
+        if (monitor != null) {
+            monitor.addSession(session);
+        }
 
         final RemoteSession sessionSkeleton =
                 new SessionSkeleton(context, session);
@@ -0,0 +1,338 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.jndi;
+
+import java.rmi.RemoteException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.Session;
+import org.jvoicexml.SessionListener;
+import org.jvoicexml.client.jndi.RemoteSessionMonitor;
+import org.jvoicexml.client.jndi.RemoteSessionStatusListener;
+import org.jvoicexml.client.jndi.SessionStatus;
+import org.jvoicexml.event.ErrorEvent;
+
+/**
+ * Skeleton for the {@link RemoteSessionMonitor}.
+ *
+ * <p>
+ * All sessions that are created via JNDI are registered here. Each client
+ * has its own queue of status changes and its own delivery thread, so that
+ * a slow client does not delay the others. All changes that happen while a
+ * client is notified are sent with the next remote call to this client.
+ * Clients that cannot be reached any more or whose queue overflows are
+ * removed. They notice this via
+ * {@link #isSessionStatusListener(RemoteSessionStatusListener)} and
+ * register again.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class SessionMonitorSkeleton
+        implements RemoteSessionMonitor, SessionListener {
+    /** Logger for this class. */
+    private static final Logger LOGGER = LogManager
+            .getLogger(SessionMonitorSkeleton.class);
+
+    /** Maximal number of status changes in a single notification. */
+    private static final int MAX_BATCH = 512;
+
+    /** Maximal number of status changes queued for a single client. */
+    private static final int MAX_PENDING = 8192;
+
+    /** Active sessions by their id. */
+    private final Map<String, Session> sessions;
+
+    /** Deliveries to the registered clients. */
+    private final Map<RemoteSessionStatusListener, Delivery> deliveries;
+
+    /** <code>true</code> if status changes are delivered. */
+    private boolean running;
+
+    /**
+     * Constructs a new object.
+     */
+    SessionMonitorSkeleton() {
+        sessions = new java.util.concurrent.ConcurrentHashMap<String,
+                Session>();
+        deliveries = new java.util.concurrent.ConcurrentHashMap<
+                RemoteSessionStatusListener, Delivery>();
+    }
+
+    /**
+     * Retrieves the name of this skeleton.
+     * @return name of the skeleton
+     */
+    public String getSkeletonName() {
+        return RemoteSessionMonitor.class.getSimpleName();
+    }
+
+    /**
+     * Starts delivering status changes.
+     */
+    synchronized void start() {
+        running = true;
+    }
+
+    /**
+     * Stops delivering status changes and removes all clients.
+     */
+    synchronized void stop() {
+        running = false;
+        for (Delivery delivery : deliveries.values()) {
+            delivery.stop();
+        }
+        deliveries.clear();
+    }
+
+    /**
+     * Registers the given session to monitor its status.
+     * @param session the session
+     */
+    void addSession(final Session session) {
+        final String id = session.getSessionId().getId();
+        sessions.put(id, session);
+        session.addSessionListener(this);
+        publish(new SessionStatus(id, SessionStatus.State.CREATED, null));
+    }
+
+    /**
+     * Queues the given status change for delivery, if there is a client.
+     * @param status the changed status
+     */
+    private void publish(final SessionStatus status) {
+        for (Delivery delivery : deliveries.values()) {
+            if (!delivery.add(status)) {
+                LOGGER.warn("removing session status listener "
+                        + delivery.listener + " that does not keep up");
+                remove(delivery);
+            }
+        }
+    }
+
+    /**
+     * Removes the given delivery and stops it.
+     * @param delivery the delivery to remove
+     */
+    private void remove(final Delivery delivery) {
+        deliveries.remove(delivery.listener, delivery);
+        delivery.stop();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sessionStarted(final Session session) {
+        final String id = session.getSessionId().getId();
+        publish(new SessionStatus(id, SessionStatus.State.RUNNING, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void sessionEnded(final Session session) {
+        final String id = session.getSessionId().getId();
+        sessions.remove(id);
+        publish(getStatus(id, session));
+    }
+
+    /**
+     * Determines the current status of the given session.
+     * @param id the id of the session
+     * @param session the session, maybe <code>null</code>
+     * @return status of the session
+     */
+    private SessionStatus getStatus(final String id, final Session session) {
+        if (session == null) {
+            return new SessionStatus(id, SessionStatus.State.ENDED, null);
+        }
+        ErrorEvent error;
+        try {
+            error = session.getLastError();
+        } catch (ErrorEvent e) {
+            error = e;
+        }
+        if (session.hasEnded()) {
+            return new SessionStatus(id, SessionStatus.State.ENDED, error);
+        }
+        if (session.getApplication() == null) {
+            return new SessionStatus(id, SessionStatus.State.CREATED, error);
+        }
+        return new SessionStatus(id, SessionStatus.State.RUNNING, error);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void addSessionStatusListener(
+            final RemoteSessionStatusListener listener)
+            throws RemoteException {
+        if (!running) {
+            throw new RemoteException("session monitor is not running");
+        }
+        if (deliveries.containsKey(listener)) {
+            return;
+        }
+        final Delivery delivery = new Delivery(listener);
+        deliveries.put(listener, delivery);
+        delivery.start();
+        LOGGER.info("added session status listener " + listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeSessionStatusListener(
+            final RemoteSessionStatusListener listener) {
+        final Delivery delivery = deliveries.remove(listener);
+        if (delivery != null) {
+            delivery.stop();
+            LOGGER.info("removed session status listener " + listener);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSessionStatusListener(
+            final RemoteSessionStatusListener listener) {
+        return deliveries.containsKey(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SessionStatus[] getStatus(final String[] sessionIds) {
+        final SessionStatus[] status = new SessionStatus[sessionIds.length];
+        for (int i = 0; i < sessionIds.length; i++) {
+            final String id = sessionIds[i];
+            final Session session = sessions.get(id);
+            status[i] = getStatus(id, session);
+        }
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void hangup(final String[] sessionIds) {
+        for (String id : sessionIds) {
+            final Session session = sessions.get(id);
+            if (session != null) {
+                session.hangup();
+            }
+        }
+    }
+
+    /**
+     * Status changes for a single client and the thread that delivers them.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private final class Delivery implements Runnable {
+        /** The client. */
+        private final RemoteSessionStatusListener listener;
+
+        /** Status changes that have not been delivered yet. */
+        private final BlockingQueue<SessionStatus> changes;
+
+        /** The thread delivering the status changes. */
+        private final Thread thread;
+
+        /**
+         * Constructs a new object.
+         * @param client the client
+         */
+        Delivery(final RemoteSessionStatusListener client) {
+            listener = client;
+            changes = new java.util.concurrent.LinkedBlockingQueue<
+                    SessionStatus>(MAX_PENDING);
+            thread = new Thread(this, "JNDI session monitor delivery");
+            thread.setDaemon(true);
+        }
+
+        /**
+         * Starts delivering.
+         */
+        void start() {
+            thread.start();
+        }
+
+        /**
+         * Stops delivering.
+         */
+        void stop() {
+            thread.interrupt();
+        }
+
+        /**
+         * Queues the given status change.
+         * @param status the status change
+         * @return <code>false</code> if the queue is full
+         */
+        boolean add(final SessionStatus status) {
+            return changes.offer(status);
+        }
+
+        /**
+         * Delivers the queued status changes.
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            final List<SessionStatus> batch =
+                    new java.util.ArrayList<SessionStatus>(MAX_BATCH);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(changes.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                changes.drainTo(batch, MAX_BATCH - 1);
+                final SessionStatus[] status =
+                        batch.toArray(new SessionStatus[batch.size()]);
+                batch.clear();
+                try {
+                    listener.statusChanged(status);
+                } catch (RemoteException e) {
+                    LOGGER.warn("removing unreachable session status listener "
+                            + listener + ": " + e.getMessage());
+                    remove(this);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A scripted dialog that is replayed by each virtual caller.
+ * <p>
+ * A script is a plain text file with one step per line:
+ * </p>
+ * <ul>
+ * <li><code>&lt; text</code> - the next prompt must contain the given
+ * text,</li>
+ * <li><code>&gt; text</code> - the given text is sent as input once
+ * JVoiceXML is ready to receive input.</li>
+ * </ul>
+ * <p>
+ * Empty lines and lines starting with <code>#</code> are ignored.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class DialogScript {
+    /** Prefix of an expected prompt. */
+    private static final char PROMPT = '<';
+
+    /** Prefix of an input. */
+    private static final char INPUT = '>';
+
+    /** Prefix of a comment. */
+    private static final char COMMENT = '#';
+
+    /** The steps of this script. */
+    private final List<Step> steps;
+
+    /**
+     * Constructs a new object.
+     * @param dialogSteps the steps of this script
+     */
+    public DialogScript(final List<Step> dialogSteps) {
+        steps = Collections.unmodifiableList(
+                new java.util.ArrayList<Step>(dialogSteps));
+    }
+
+    /**
+     * Reads a script from the given stream.
+     * @param in the stream to read from
+     * @return parsed script
+     * @throws IOException
+     *          error reading the script or malformed script
+     */
+    public static DialogScript read(final InputStream in)
+            throws IOException {
+        final Reader reader = new InputStreamReader(in,
+                StandardCharsets.UTF_8);
+        return read(reader);
+    }
+
+    /**
+     * Reads a script from the given reader.
+     * @param reader the reader to read from
+     * @return parsed script
+     * @throws IOException
+     *          error reading the script or malformed script
+     */
+    public static DialogScript read(final Reader reader) throws IOException {
+        final BufferedReader in = new BufferedReader(reader);
+        final List<Step> steps = new java.util.ArrayList<Step>();
+        int number = 0;
+        String line = in.readLine();
+        while (line != null) {
+            ++number;
+            final String trimmed = line.trim();
+            if (!trimmed.isEmpty() && trimmed.charAt(0) != COMMENT) {
+                final String text = trimmed.substring(1).trim();
+                if (text.isEmpty()) {
+                    throw new IOException("line " + number
+                            + ": missing text");
+                }
+                final char type = trimmed.charAt(0);
+                if (type == PROMPT) {
+                    steps.add(new Step(StepType.PROMPT, text));
+                } else if (type == INPUT) {
+                    steps.add(new Step(StepType.INPUT, text));
+                } else {
+                    throw new IOException("line " + number
+                            + ": expected '" + PROMPT + "' or '" + INPUT
+                            + "' but found '" + type + "'");
+                }
+            }
+            line = in.readLine();
+        }
+        if (steps.isEmpty()) {
+            throw new IOException("script does not contain any steps");
+        }
+        return new DialogScript(steps);
+    }
+
+    /**
+     * Retrieves the steps of this script.
+     * @return the steps
+     */
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Retrieves the number of inputs in this script, i.e. the number of
+     * turns of the caller.
+     * @return number of inputs
+     */
+    public int getInputCount() {
+        int count = 0;
+        for (Step step : steps) {
+            if (step.getType() == StepType.INPUT) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Type of a step.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    public enum StepType {
+        /** An expected prompt. */
+        PROMPT,
+        /** An input to send. */
+        INPUT
+    }
+
+    /**
+     * A single step of the script.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    public static final class Step {
+        /** The type of this step. */
+        private final StepType type;
+
+        /** The expected prompt text or the input to send. */
+        private final String text;
+
+        /**
+         * Constructs a new object.
+         * @param stepType the type of this step
+         * @param stepText the expected prompt text or the input to send
+         */
+        public Step(final StepType stepType, final String stepText) {
+            type = stepType;
+            text = stepText;
+        }
+
+        /**
+         * Retrieves the type of this step.
+         * @return the type
+         */
+        public StepType getType() {
+            return type;
+        }
+
+        /**
+         * Retrieves the expected prompt text or the input to send.
+         * @return the text
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            if (type == StepType.PROMPT) {
+                return PROMPT + " " + text;
+            }
+            return INPUT + " " + text;
+        }
+    }
+}
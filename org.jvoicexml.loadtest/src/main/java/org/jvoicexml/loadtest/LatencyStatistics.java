@@ -0,0 +1,141 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects latency samples and computes percentiles over them.
+ * <p>
+ * Samples are kept in a growing array and sorted lazily when a percentile
+ * is requested. This is sufficient for the number of samples of a local
+ * load test and gives exact percentiles.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class LatencyStatistics {
+    /** Initial number of samples. */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Recorded samples in msec. */
+    private long[] samples;
+
+    /** Number of recorded samples. */
+    private int count;
+
+    /** <code>true</code> if the samples are sorted. */
+    private boolean sorted;
+
+    /**
+     * Constructs a new object.
+     */
+    public LatencyStatistics() {
+        samples = new long[INITIAL_CAPACITY];
+        sorted = true;
+    }
+
+    /**
+     * Adds the given sample.
+     * @param msec latency in msec
+     */
+    public synchronized void add(final long msec) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = msec;
+        sorted = false;
+    }
+
+    /**
+     * Retrieves the number of recorded samples.
+     * @return number of samples
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the mean of all samples.
+     * @return mean in msec, <code>0</code> if there are no samples
+     */
+    public synchronized double getMean() {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += samples[i];
+        }
+        return (double) sum / count;
+    }
+
+    /**
+     * Retrieves the largest sample.
+     * @return largest sample in msec, <code>0</code> if there are no
+     *          samples
+     */
+    public synchronized long getMax() {
+        return getPercentile(100);
+    }
+
+    /**
+     * Retrieves the given percentile using the nearest rank method.
+     * @param percentile the percentile, between <code>0</code> and
+     *          <code>100</code>
+     * @return value of the percentile in msec, <code>0</code> if there are
+     *          no samples
+     */
+    public synchronized long getPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException(
+                    "percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * count);
+        if (rank == 0) {
+            return samples[0];
+        }
+        return samples[rank - 1];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "n=" + count + " mean=" + Math.round(getMean())
+                + "ms p50=" + getPercentile(50) + "ms p95="
+                + getPercentile(95) + "ms p99=" + getPercentile(99)
+                + "ms max=" + getMax() + "ms";
+    }
+}
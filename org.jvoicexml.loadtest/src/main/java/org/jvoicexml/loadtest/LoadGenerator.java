@@ -0,0 +1,254 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.ImplementationPlatformFactory;
+import org.jvoicexml.JVoiceXmlCore;
+import org.jvoicexml.client.text.MultiplexedTextServer;
+import org.jvoicexml.implementation.jvxml.JVoiceXmlImplementationPlatformFactory;
+
+/**
+ * Drives a number of concurrent virtual callers against a JVoiceXML
+ * instance. Each virtual caller makes a number of calls one after the other
+ * and replays the same {@link DialogScript} in each call.
+ * <p>
+ * Virtual callers are started evenly distributed over the ramp up time.
+ * While the test is running, the resource pools of the interpreter are
+ * sampled to report their saturation.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class LoadGenerator {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(LoadGenerator.class);
+
+    /** Default maximal number of msecs to wait for the next event. */
+    private static final long DEFAULT_TIMEOUT = 10000;
+
+    /** Number of msecs between two samples of the resource pools. */
+    private static final long SAMPLE_INTERVAL = 100;
+
+    /** The interpreter under test. */
+    private final JVoiceXmlCore jvxml;
+
+    /** The server to receive the output of all sessions. */
+    private final MultiplexedTextServer server;
+
+    /** The application to call. */
+    private final URI uri;
+
+    /** The script to replay. */
+    private final DialogScript script;
+
+    /** Number of concurrent virtual callers. */
+    private int callers;
+
+    /** Number of calls of each virtual caller. */
+    private int calls;
+
+    /** Number of msecs until all virtual callers are started. */
+    private long rampUp;
+
+    /** Maximal number of msecs to wait for the next event. */
+    private long timeout;
+
+    /**
+     * Constructs a new object with a single virtual caller that makes a
+     * single call.
+     * @param interpreter the interpreter under test
+     * @param textServer the started server to receive the output
+     * @param application the application to call
+     * @param dialog the script to replay
+     */
+    public LoadGenerator(final JVoiceXmlCore interpreter,
+            final MultiplexedTextServer textServer, final URI application,
+            final DialogScript dialog) {
+        jvxml = interpreter;
+        server = textServer;
+        uri = application;
+        script = dialog;
+        callers = 1;
+        calls = 1;
+        timeout = DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Sets the number of concurrent virtual callers.
+     * @param number number of virtual callers
+     */
+    public void setCallers(final int number) {
+        callers = number;
+    }
+
+    /**
+     * Sets the number of calls of each virtual caller.
+     * @param number number of calls
+     */
+    public void setCalls(final int number) {
+        calls = number;
+    }
+
+    /**
+     * Sets the time until all virtual callers are started.
+     * @param msec ramp up time in msec
+     */
+    public void setRampUp(final long msec) {
+        rampUp = msec;
+    }
+
+    /**
+     * Sets the maximal time to wait for the next prompt or the end of a
+     * session.
+     * @param msec timeout in msec
+     */
+    public void setTimeout(final long msec) {
+        timeout = msec;
+    }
+
+    /**
+     * Runs the load test.
+     * @return results of the run
+     * @throws InterruptedException
+     *          interrupted while waiting for the virtual callers
+     */
+    public LoadReport run() throws InterruptedException {
+        final LoadReport report = new LoadReport();
+        final ScheduledExecutorService sampler =
+                Executors.newSingleThreadScheduledExecutor(
+                        new NamedThreadFactory("LoadTest pool monitor"));
+        final ImplementationPlatformFactory factory =
+                jvxml.getImplementationPlatformFactory();
+        if (factory instanceof JVoiceXmlImplementationPlatformFactory) {
+            final JVoiceXmlImplementationPlatformFactory platforms =
+                    (JVoiceXmlImplementationPlatformFactory) factory;
+            addPoolMonitor(report, sampler,
+                    new PoolMonitor("telephony",
+                            platforms.getTelephonyPool()));
+            addPoolMonitor(report, sampler,
+                    new PoolMonitor("synthesizer",
+                            platforms.getSynthesizerPool()));
+            addPoolMonitor(report, sampler,
+                    new PoolMonitor("recognizer",
+                            platforms.getSpokenInputPool()));
+        } else {
+            LOGGER.warn("unable to monitor the resource pools of "
+                    + factory);
+        }
+
+        final ScheduledExecutorService executor =
+                Executors.newScheduledThreadPool(callers,
+                        new NamedThreadFactory("LoadTest caller"));
+        final CountDownLatch done = new CountDownLatch(callers);
+        LOGGER.info("starting " + callers + " virtual caller(s) with "
+                + calls + " call(s) each within " + rampUp + " msec");
+        final long start = System.currentTimeMillis();
+        for (int i = 0; i < callers; i++) {
+            final long delay = rampUp * i / callers;
+            executor.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int call = 0; call < calls; call++) {
+                            final VirtualCall virtualCall = new VirtualCall(
+                                    jvxml, server, uri, script, report,
+                                    timeout);
+                            virtualCall.run();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+        try {
+            done.await();
+        } finally {
+            report.setDuration(System.currentTimeMillis() - start);
+            executor.shutdownNow();
+            sampler.shutdownNow();
+        }
+        LOGGER.info("load test finished");
+        return report;
+    }
+
+    /**
+     * Adds the given monitor to the report and schedules its sampling.
+     * @param report the report
+     * @param sampler the executor for sampling
+     * @param monitor the monitor
+     */
+    private void addPoolMonitor(final LoadReport report,
+            final ScheduledExecutorService sampler,
+            final PoolMonitor monitor) {
+        report.addPoolMonitor(monitor);
+        sampler.scheduleAtFixedRate(monitor, 0, SAMPLE_INTERVAL,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Factory for numbered daemon threads.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class NamedThreadFactory implements ThreadFactory {
+        /** Prefix of the thread names. */
+        private final String prefix;
+
+        /** Number of the next thread. */
+        private final AtomicInteger number;
+
+        /**
+         * Constructs a new object.
+         * @param name prefix of the thread names
+         */
+        NamedThreadFactory(final String name) {
+            prefix = name;
+            number = new AtomicInteger();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable,
+                    prefix + " " + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
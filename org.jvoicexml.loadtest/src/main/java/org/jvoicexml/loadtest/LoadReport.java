@@ -0,0 +1,239 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Results of a load test run.
+ * <p>
+ * This class is thread safe. Virtual callers record their results
+ * concurrently.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class LoadReport {
+    /** Time needed to create a session and start the call. */
+    private final LatencyStatistics setupTimes;
+
+    /** Time between sending an input and receiving the next prompt. */
+    private final LatencyStatistics turnTimes;
+
+    /** Number of errors by their kind. */
+    private final Map<String, Integer> errors;
+
+    /** Monitors of the resource pools of the interpreter. */
+    private final Collection<PoolMonitor> pools;
+
+    /** Number of started calls. */
+    private int started;
+
+    /** Number of calls that replayed the script without errors. */
+    private int completed;
+
+    /** Duration of the run in msec. */
+    private long duration;
+
+    /**
+     * Constructs a new object.
+     */
+    public LoadReport() {
+        setupTimes = new LatencyStatistics();
+        turnTimes = new LatencyStatistics();
+        errors = new java.util.TreeMap<String, Integer>();
+        pools = new java.util.ArrayList<PoolMonitor>();
+    }
+
+    /**
+     * Notification that a call has been started.
+     */
+    synchronized void callStarted() {
+        ++started;
+    }
+
+    /**
+     * Notification that a call replayed the script without errors.
+     */
+    synchronized void callCompleted() {
+        ++completed;
+    }
+
+    /**
+     * Notification that a call failed.
+     * @param kind the kind of the error
+     */
+    synchronized void callFailed(final String kind) {
+        final Integer count = errors.get(kind);
+        if (count == null) {
+            errors.put(kind, 1);
+        } else {
+            errors.put(kind, count + 1);
+        }
+    }
+
+    /**
+     * Adds the time to set up a session.
+     * @param msec setup time in msec
+     */
+    void addSetupTime(final long msec) {
+        setupTimes.add(msec);
+    }
+
+    /**
+     * Adds the latency of a single turn.
+     * @param msec latency in msec
+     */
+    void addTurnTime(final long msec) {
+        turnTimes.add(msec);
+    }
+
+    /**
+     * Adds a monitor of a resource pool.
+     * @param monitor the monitor
+     */
+    synchronized void addPoolMonitor(final PoolMonitor monitor) {
+        pools.add(monitor);
+    }
+
+    /**
+     * Sets the duration of the run.
+     * @param msec duration in msec
+     */
+    synchronized void setDuration(final long msec) {
+        duration = msec;
+    }
+
+    /**
+     * Retrieves the statistics of the session setup times.
+     * @return setup time statistics
+     */
+    public LatencyStatistics getSetupTimes() {
+        return setupTimes;
+    }
+
+    /**
+     * Retrieves the statistics of the turn latencies.
+     * @return turn latency statistics
+     */
+    public LatencyStatistics getTurnTimes() {
+        return turnTimes;
+    }
+
+    /**
+     * Retrieves the number of started calls.
+     * @return number of started calls
+     */
+    public synchronized int getStartedCalls() {
+        return started;
+    }
+
+    /**
+     * Retrieves the number of calls that replayed the script without
+     * errors.
+     * @return number of completed calls
+     */
+    public synchronized int getCompletedCalls() {
+        return completed;
+    }
+
+    /**
+     * Retrieves the number of failed calls.
+     * @return number of failed calls
+     */
+    public synchronized int getFailedCalls() {
+        int failed = 0;
+        for (Integer count : errors.values()) {
+            failed += count;
+        }
+        return failed;
+    }
+
+    /**
+     * Retrieves the number of failed calls by the kind of the error.
+     * @return errors by their kind
+     */
+    public synchronized Map<String, Integer> getErrors() {
+        return Collections.unmodifiableMap(
+                new java.util.TreeMap<String, Integer>(errors));
+    }
+
+    /**
+     * Retrieves the error rate.
+     * @return fraction of failed calls between <code>0</code> and
+     *          <code>1</code>
+     */
+    public synchronized double getErrorRate() {
+        if (started == 0) {
+            return 0;
+        }
+        return (double) getFailedCalls() / started;
+    }
+
+    /**
+     * Retrieves the number of completed turns per second.
+     * @return turns per second
+     */
+    public synchronized double getTurnsPerSecond() {
+        if (duration == 0) {
+            return 0;
+        }
+        return turnTimes.getCount() * 1000.0 / duration;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        final StringBuilder str = new StringBuilder();
+        final String newline = System.lineSeparator();
+        str.append(String.format("duration:      %d ms%n", duration));
+        str.append(String.format("calls:         %d started, %d completed, "
+                + "%d failed (%.2f%% errors)%n", started, completed,
+                getFailedCalls(), getErrorRate() * 100));
+        str.append(String.format("throughput:    %.2f turns/s%n",
+                getTurnsPerSecond()));
+        str.append("session setup: ");
+        str.append(setupTimes);
+        str.append(newline);
+        str.append("turn latency:  ");
+        str.append(turnTimes);
+        str.append(newline);
+        for (Map.Entry<String, Integer> entry : errors.entrySet()) {
+            str.append("error:         ");
+            str.append(entry.getValue());
+            str.append(" x ");
+            str.append(entry.getKey());
+            str.append(newline);
+        }
+        for (PoolMonitor monitor : pools) {
+            str.append("pool:          ");
+            str.append(monitor);
+            str.append(newline);
+        }
+        return str.toString();
+    }
+}
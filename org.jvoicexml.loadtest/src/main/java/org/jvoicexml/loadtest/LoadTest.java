@@ -0,0 +1,253 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.JVoiceXmlMain;
+import org.jvoicexml.JVoiceXmlMainListener;
+import org.jvoicexml.client.text.MultiplexedTextServer;
+import org.jvoicexml.demo.embedded.EmbeddedTextConfiguration;
+
+/**
+ * Runs a load test against an embedded JVoiceXML with the configuration of
+ * the embedded demo.
+ * <p>
+ * Usage:
+ * <code>LoadTest [-callers n] [-calls n] [-rampup msec] [-timeout msec]
+ * [-port port] [script application]</code>
+ * </p>
+ * <p>
+ * Without a script and an application, the bundled
+ * <code>question.dialog</code> is replayed against the bundled
+ * <code>question.vxml</code>. The embedded JVoiceXML is configured with
+ * one instance of the text platform per virtual caller.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class LoadTest implements JVoiceXmlMainListener {
+    /** Logger for this class. */
+    private static final Logger LOGGER = LogManager.getLogger(LoadTest.class);
+
+    /** Default port of the text server. */
+    private static final int DEFAULT_PORT = 4250;
+
+    /** Reference to JVoiceXML. */
+    private JVoiceXmlMain jvxml;
+
+    /** <code>true</code> if JVoiceXML has been started. */
+    private boolean started;
+
+    /** <code>true</code> if JVoiceXML failed to start. */
+    private boolean startupFailed;
+
+    /** Number of concurrent virtual callers. */
+    private int callers;
+
+    /** Number of calls of each virtual caller. */
+    private int calls;
+
+    /** Ramp up time in msec. */
+    private long rampUp;
+
+    /** Timeout in msec, a non-positive value for the default. */
+    private long timeout;
+
+    /** Port of the text server. */
+    private int port;
+
+    /**
+     * Do not create from outside.
+     */
+    private LoadTest() {
+        callers = 1;
+        calls = 1;
+        port = DEFAULT_PORT;
+    }
+
+    /**
+     * Starts JVoiceXML, runs the load test, prints the report and shuts
+     * JVoiceXML down. The report is printed before the shutdown since
+     * JVoiceXML may terminate the JVM if the shutdown takes too long.
+     * @param script the script to replay
+     * @param uri the application to call
+     * @throws InterruptedException
+     *          interrupted while waiting
+     */
+    private void run(final DialogScript script, final URI uri)
+            throws InterruptedException {
+        final EmbeddedTextConfiguration config =
+                new EmbeddedTextConfiguration(callers);
+        jvxml = new JVoiceXmlMain(config);
+        jvxml.addListener(this);
+        jvxml.start();
+        synchronized (this) {
+            while (!started) {
+                wait();
+            }
+        }
+        if (startupFailed) {
+            return;
+        }
+
+        final MultiplexedTextServer server = new MultiplexedTextServer(port);
+        server.start();
+        server.waitStarted();
+        try {
+            final LoadGenerator generator = new LoadGenerator(jvxml, server,
+                    uri, script);
+            generator.setCallers(callers);
+            generator.setCalls(calls);
+            generator.setRampUp(rampUp);
+            if (timeout > 0) {
+                generator.setTimeout(timeout);
+            }
+            final LoadReport report = generator.run();
+            System.out.println(report);
+        } finally {
+            server.stopServer();
+            jvxml.shutdown();
+            jvxml.waitShutdownComplete();
+        }
+    }
+
+    /**
+     * Parses the command line arguments.
+     * @param args the command line arguments
+     * @return remaining arguments that are no options
+     */
+    private String[] parseOptions(final String[] args) {
+        int i = 0;
+        while (i < args.length && args[i].startsWith("-")) {
+            final String option = args[i];
+            if (i + 1 == args.length) {
+                throw new IllegalArgumentException("missing value for "
+                        + option);
+            }
+            final String value = args[i + 1];
+            if (option.equals("-callers")) {
+                callers = Integer.parseInt(value);
+            } else if (option.equals("-calls")) {
+                calls = Integer.parseInt(value);
+            } else if (option.equals("-rampup")) {
+                rampUp = Long.parseLong(value);
+            } else if (option.equals("-timeout")) {
+                timeout = Long.parseLong(value);
+            } else if (option.equals("-port")) {
+                port = Integer.parseInt(value);
+            } else {
+                throw new IllegalArgumentException("unknown option "
+                        + option);
+            }
+            i += 2;
+        }
+        final String[] remaining = new String[args.length - i];
+        System.arraycopy(args, i, remaining, 0, remaining.length);
+        return remaining;
+    }
+
+    /**
+     * The main method.
+     *
+     * @param args
+     *            command line arguments
+     */
+    public static void main(final String[] args) {
+        final LoadTest test = new LoadTest();
+        try {
+            final String[] files = test.parseOptions(args);
+            final DialogScript script;
+            final URI uri;
+            if (files.length == 0) {
+                final InputStream in = LoadTest.class
+                        .getResourceAsStream("/question.dialog");
+                try {
+                    script = DialogScript.read(in);
+                } finally {
+                    in.close();
+                }
+                uri = LoadTest.class.getResource("/question.vxml").toURI();
+            } else if (files.length == 2) {
+                final InputStream in = new FileInputStream(files[0]);
+                try {
+                    script = DialogScript.read(in);
+                } finally {
+                    in.close();
+                }
+                final File file = new File(files[1]);
+                if (file.exists()) {
+                    uri = file.toURI();
+                } else {
+                    uri = new URI(files[1]);
+                }
+            } else {
+                throw new IllegalArgumentException(
+                        "expected a script and an application");
+            }
+            test.run(script, uri);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error(e.getMessage());
+            System.err.println("usage: LoadTest [-callers n] [-calls n] "
+                    + "[-rampup msec] [-timeout msec] [-port port] "
+                    + "[script application]");
+        } catch (IOException | URISyntaxException | InterruptedException e) {
+            LOGGER.error("error running the load test", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void jvxmlStarted() {
+        started = true;
+        notifyAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jvxmlTerminated() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jvxmlStartupError(final Throwable exception) {
+        LOGGER.error("error starting JVoiceML", exception);
+        synchronized (this) {
+            startupFailed = true;
+        }
+        jvxmlStarted(); // cancel
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import org.jvoicexml.implementation.pool.KeyedResourcePool;
+
+/**
+ * Periodically samples the utilization of a {@link KeyedResourcePool} of
+ * the interpreter under test.
+ * <p>
+ * {@link #run()} is called from a single sampling thread. The results may
+ * be read from any thread.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class PoolMonitor implements Runnable {
+    /** The name of the monitored pool. */
+    private final String name;
+
+    /** The monitored pool. */
+    private final KeyedResourcePool<?> pool;
+
+    /** Number of exhausted borrow requests before the test started. */
+    private final int initialExhausted;
+
+    /** Number of borrow requests that waited before the test started. */
+    private final int initialWaits;
+
+    /** Number of samples. */
+    private long samples;
+
+    /** Sum of the active resources of all samples. */
+    private long activeSum;
+
+    /** Largest number of active resources. */
+    private int peakActive;
+
+    /** Number of active and idle resources. */
+    private int capacity;
+
+    /** Number of samples without any idle resources. */
+    private long saturatedSamples;
+
+    /**
+     * Constructs a new object.
+     * @param poolName the name of the monitored pool
+     * @param resourcePool the monitored pool
+     */
+    PoolMonitor(final String poolName, final KeyedResourcePool<?> resourcePool) {
+        name = poolName;
+        pool = resourcePool;
+        initialExhausted = pool.getNumExhausted();
+        initialWaits = pool.getNumWaits();
+    }
+
+    /**
+     * Takes a sample.
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        final int active;
+        final int idle;
+        synchronized (pool) {
+            active = pool.getNumActive();
+            idle = pool.getNumIdle();
+        }
+        synchronized (this) {
+            ++samples;
+            activeSum += active;
+            if (active > peakActive) {
+                peakActive = active;
+            }
+            if (active + idle > capacity) {
+                capacity = active + idle;
+            }
+            if (active > 0 && idle == 0) {
+                ++saturatedSamples;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the name of the monitored pool.
+     * @return name of the pool
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Retrieves the largest number of active resources.
+     * @return number of active resources
+     */
+    synchronized int getPeakActive() {
+        return peakActive;
+    }
+
+    /**
+     * Retrieves the number of resources in the pool.
+     * @return number of resources
+     */
+    synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the mean utilization of the pool.
+     * @return utilization between <code>0</code> and <code>1</code>
+     */
+    synchronized double getMeanUtilization() {
+        if (samples == 0 || capacity == 0) {
+            return 0;
+        }
+        return (double) activeSum / samples / capacity;
+    }
+
+    /**
+     * Retrieves the fraction of samples where no idle resource was left.
+     * @return fraction between <code>0</code> and <code>1</code>
+     */
+    synchronized double getSaturation() {
+        if (samples == 0) {
+            return 0;
+        }
+        return (double) saturatedSamples / samples;
+    }
+
+    /**
+     * Retrieves the number of borrow requests that failed since the pool
+     * was exhausted while monitoring.
+     * @return number of failed borrow requests
+     */
+    int getExhausted() {
+        return pool.getNumExhausted() - initialExhausted;
+    }
+
+    /**
+     * Retrieves the number of borrow requests that had to wait for a new
+     * resource while monitoring.
+     * @return number of waiting borrow requests
+     */
+    int getWaits() {
+        return pool.getNumWaits() - initialWaits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return String.format("%-12s peak %d/%d, mean utilization %.1f%%, "
+                + "saturated %.1f%% of time, %d exhausted borrow(s), "
+                + "%d waiting borrow(s)", name,
+                getPeakActive(), getCapacity(),
+                getMeanUtilization() * 100, getSaturation() * 100,
+                getExhausted(), getWaits());
+    }
+}
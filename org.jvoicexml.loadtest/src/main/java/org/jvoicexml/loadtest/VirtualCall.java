@@ -0,0 +1,381 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.JVoiceXml;
+import org.jvoicexml.Session;
+import org.jvoicexml.UuidSessionIdentifier;
+import org.jvoicexml.client.text.MultiplexedTextServer;
+import org.jvoicexml.client.text.TextConnectionInformation;
+import org.jvoicexml.client.text.TextListener;
+import org.jvoicexml.client.text.TextMessageEvent;
+import org.jvoicexml.event.ErrorEvent;
+import org.jvoicexml.xml.ssml.Speak;
+import org.jvoicexml.xml.ssml.SsmlDocument;
+
+/**
+ * A single call of a virtual caller that replays a {@link DialogScript}.
+ * <p>
+ * Notifications of the {@link MultiplexedTextServer} arrive on its I/O
+ * thread. They are only time stamped and queued there. The script is
+ * replayed in the thread that calls {@link #run()}.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class VirtualCall implements TextListener {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(VirtualCall.class);
+
+    /** The interpreter to call. */
+    private final JVoiceXml jvxml;
+
+    /** The server to receive the output. */
+    private final MultiplexedTextServer server;
+
+    /** The application to call. */
+    private final URI uri;
+
+    /** The script to replay. */
+    private final DialogScript script;
+
+    /** The report to record the results. */
+    private final LoadReport report;
+
+    /** Maximal number of msecs to wait for the next event. */
+    private final long timeout;
+
+    /** Received events. */
+    private final BlockingQueue<CallEvent> events;
+
+    /**
+     * Constructs a new object.
+     * @param interpreter the interpreter to call
+     * @param textServer the server to receive the output
+     * @param application the application to call
+     * @param dialog the script to replay
+     * @param loadReport the report to record the results
+     * @param msec maximal number of msecs to wait for the next event
+     */
+    VirtualCall(final JVoiceXml interpreter,
+            final MultiplexedTextServer textServer, final URI application,
+            final DialogScript dialog, final LoadReport loadReport,
+            final long msec) {
+        jvxml = interpreter;
+        server = textServer;
+        uri = application;
+        script = dialog;
+        report = loadReport;
+        timeout = msec;
+        events = new LinkedBlockingQueue<CallEvent>();
+    }
+
+    /**
+     * Makes the call and replays the script. All results are recorded in
+     * the report.
+     * @throws InterruptedException
+     *          interrupted while waiting for events
+     */
+    void run() throws InterruptedException {
+        report.callStarted();
+        final TextConnectionInformation info;
+        final Session session;
+        final long setupStart = System.nanoTime();
+        try {
+            info = (TextConnectionInformation) server
+                    .createConnectionInformation(this);
+            session = jvxml.createSession(info, new UuidSessionIdentifier());
+            session.call(uri);
+        } catch (ErrorEvent e) {
+            report.callFailed("setup: " + e.getEventType());
+            return;
+        } catch (IOException e) {
+            report.callFailed("setup: " + e.getClass().getSimpleName());
+            return;
+        }
+        report.addSetupTime(toMillis(System.nanoTime() - setupStart));
+        final String sessionId = info.getSessionId();
+        try {
+            final String error = replay(sessionId);
+            if (error == null) {
+                final String sessionError = awaitEnd(sessionId, session);
+                if (sessionError == null) {
+                    report.callCompleted();
+                } else {
+                    report.callFailed(sessionError);
+                }
+            } else {
+                LOGGER.debug("session '" + sessionId + "' failed: " + error);
+                report.callFailed(error);
+                hangup(sessionId);
+            }
+        } finally {
+            session.hangup();
+        }
+    }
+
+    /**
+     * Replays the script.
+     * @param sessionId the identifier of the session on the text server
+     * @return <code>null</code> if the script was replayed successfully,
+     *          otherwise the kind of the error
+     * @throws InterruptedException
+     *          interrupted while waiting for events
+     */
+    private String replay(final String sessionId)
+            throws InterruptedException {
+        boolean inputReady = false;
+        long inputSent = -1;
+        String output = null;
+        for (DialogScript.Step step : script.getSteps()) {
+            final String text = step.getText();
+            if (step.getType() == DialogScript.StepType.PROMPT) {
+                // One output may contain several consecutive prompts
+                int pos = -1;
+                if (output != null) {
+                    pos = output.indexOf(text);
+                }
+                while (pos < 0) {
+                    final CallEvent event = events.poll(timeout,
+                            TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        return "timeout";
+                    }
+                    if (event.kind == CallEvent.Kind.DISCONNECTED) {
+                        return "disconnected";
+                    } else if (event.kind == CallEvent.Kind.EXPECTING_INPUT) {
+                        inputReady = true;
+                    } else if (event.kind == CallEvent.Kind.INPUT_CLOSED) {
+                        inputReady = false;
+                    } else {
+                        output = event.text;
+                        pos = output.indexOf(text);
+                        if (pos < 0) {
+                            LOGGER.debug("expected '" + text + "' but got '"
+                                    + output + "'");
+                            return "unexpected prompt";
+                        }
+                        if (inputSent >= 0) {
+                            report.addTurnTime(
+                                    toMillis(event.received - inputSent));
+                            inputSent = -1;
+                        }
+                    }
+                }
+                output = output.substring(pos + text.length());
+            } else {
+                while (!inputReady) {
+                    final CallEvent event = events.poll(timeout,
+                            TimeUnit.MILLISECONDS);
+                    if (event == null) {
+                        return "timeout";
+                    }
+                    if (event.kind == CallEvent.Kind.DISCONNECTED) {
+                        return "disconnected";
+                    } else if (event.kind == CallEvent.Kind.OUTPUT) {
+                        LOGGER.debug("unexpected prompt '" + event.text
+                                + "' before input '" + text + "'");
+                        return "unexpected prompt";
+                    }
+                    inputReady = event.kind == CallEvent.Kind.EXPECTING_INPUT;
+                }
+                try {
+                    inputSent = System.nanoTime();
+                    server.sendInput(sessionId, text);
+                } catch (IOException e) {
+                    return "input: " + e.getClass().getSimpleName();
+                }
+                inputReady = false;
+                output = null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Waits until JVoiceXML ends the session after the script has been
+     * replayed. If the application does not end by itself, the virtual
+     * caller hangs up.
+     * @param sessionId the identifier of the session on the text server
+     * @param session the session
+     * @return <code>null</code> if the session ended without errors,
+     *          otherwise the kind of the error
+     * @throws InterruptedException
+     *          interrupted while waiting for events
+     */
+    private String awaitEnd(final String sessionId, final Session session)
+            throws InterruptedException {
+        final long end = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (remaining > 0) {
+            final CallEvent event = events.poll(remaining,
+                    TimeUnit.MILLISECONDS);
+            if (event == null) {
+                break;
+            } else if (event.kind == CallEvent.Kind.DISCONNECTED) {
+                break;
+            } else if (event.kind == CallEvent.Kind.OUTPUT) {
+                return "unexpected prompt";
+            }
+            remaining = end - System.currentTimeMillis();
+        }
+        if (!session.hasEnded()) {
+            hangup(sessionId);
+        }
+        try {
+            session.waitSessionEnd();
+            final ErrorEvent error = session.getLastError();
+            if (error == null) {
+                return null;
+            }
+            return "session: " + error.getEventType();
+        } catch (ErrorEvent e) {
+            return "session: " + e.getEventType();
+        }
+    }
+
+    /**
+     * Hangs up the session on the text server.
+     * @param sessionId the identifier of the session on the text server
+     */
+    private void hangup(final String sessionId) {
+        try {
+            server.hangup(sessionId);
+        } catch (IOException e) {
+            LOGGER.debug("error hanging up session '" + sessionId + "': "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Converts the given nano seconds to milli seconds.
+     * @param nanos nano seconds
+     * @return milli seconds
+     */
+    private static long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void started() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void connected(final InetSocketAddress remote) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void outputSsml(final TextMessageEvent event,
+            final SsmlDocument document) {
+        final Speak speak = document.getSpeak();
+        final String text;
+        if (speak == null) {
+            text = "";
+        } else {
+            text = speak.getTextContent();
+        }
+        events.add(new CallEvent(CallEvent.Kind.OUTPUT, text));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void expectingInput(final TextMessageEvent event) {
+        events.add(new CallEvent(CallEvent.Kind.EXPECTING_INPUT, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void inputClosed(final TextMessageEvent event) {
+        events.add(new CallEvent(CallEvent.Kind.INPUT_CLOSED, null));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disconnected(final TextMessageEvent event) {
+        events.add(new CallEvent(CallEvent.Kind.DISCONNECTED, null));
+    }
+
+    /**
+     * A time stamped notification of the text server.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class CallEvent {
+        /** Kinds of events. */
+        enum Kind {
+            /** A prompt has been received. */
+            OUTPUT,
+            /** JVoiceXML is ready to receive input. */
+            EXPECTING_INPUT,
+            /** JVoiceXML stopped listening for input. */
+            INPUT_CLOSED,
+            /** The session has been disconnected. */
+            DISCONNECTED
+        }
+
+        /** The kind of this event. */
+        private final Kind kind;
+
+        /** The text of a prompt. */
+        private final String text;
+
+        /** Time stamp of the arrival in nano seconds. */
+        private final long received;
+
+        /**
+         * Constructs a new object.
+         * @param eventKind the kind of this event
+         * @param prompt the text of a prompt, maybe <code>null</code>
+         */
+        CallEvent(final Kind eventKind, final String prompt) {
+            kind = eventKind;
+            text = prompt;
+            received = System.nanoTime();
+        }
+    }
+}
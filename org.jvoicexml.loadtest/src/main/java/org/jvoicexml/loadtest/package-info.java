@@ -0,0 +1,50 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+/**
+ * Load generator for the text protocol.
+ *
+ * <p>
+ * The {@link org.jvoicexml.loadtest.LoadGenerator} ramps up a number of
+ * concurrent virtual callers. Each caller replays a
+ * {@link org.jvoicexml.loadtest.DialogScript}, i.e. it waits for the
+ * expected prompts and sends the scripted inputs. All sessions share a
+ * single {@link org.jvoicexml.client.text.MultiplexedTextServer}.
+ * </p>
+ *
+ * <p>
+ * The resulting {@link org.jvoicexml.loadtest.LoadReport} contains the
+ * percentiles of the session setup time and of the turn latency, i.e. the
+ * time between sending an input and receiving the next prompt, the error
+ * rate and the saturation of the resource pools of the interpreter.
+ * </p>
+ *
+ * <p>
+ * {@link org.jvoicexml.loadtest.LoadTest} runs the load test against an
+ * embedded JVoiceXML with the configuration of the embedded demo:
+ * <code>gradle :org.jvoicexml.loadtest:run
+ * -PloadtestArgs="-callers 20 -calls 10 -rampup 2000"</code>
+ * </p>
+ *
+ * @since 0.7.9
+ */
+
+package org.jvoicexml.loadtest;
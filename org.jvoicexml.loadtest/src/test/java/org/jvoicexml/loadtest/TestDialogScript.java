@@ -0,0 +1,103 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link DialogScript}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestDialogScript {
+    /**
+     * Test method for {@link DialogScript#read(java.io.Reader)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testRead() throws Exception {
+        final String text = "# a comment\n"
+                + "< Do you want to continue?\n"
+                + "\n"
+                + ">yes\n"
+                + "  < You said yes.  \n";
+        final DialogScript script =
+                DialogScript.read(new StringReader(text));
+        final List<DialogScript.Step> steps = script.getSteps();
+        Assert.assertEquals(3, steps.size());
+        Assert.assertEquals(DialogScript.StepType.PROMPT,
+                steps.get(0).getType());
+        Assert.assertEquals("Do you want to continue?",
+                steps.get(0).getText());
+        Assert.assertEquals(DialogScript.StepType.INPUT,
+                steps.get(1).getType());
+        Assert.assertEquals("yes", steps.get(1).getText());
+        Assert.assertEquals(DialogScript.StepType.PROMPT,
+                steps.get(2).getType());
+        Assert.assertEquals("You said yes.", steps.get(2).getText());
+        Assert.assertEquals(1, script.getInputCount());
+    }
+
+    /**
+     * Test method for {@link DialogScript#read(java.io.Reader)} with an
+     * unknown step type.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(expected = IOException.class)
+    public void testReadUnknownStep() throws Exception {
+        DialogScript.read(new StringReader("< hello\n? what\n"));
+    }
+
+    /**
+     * Test method for {@link DialogScript#read(java.io.Reader)} with a step
+     * without text.
+     * @throws Exception
+     *          test failed
+     */
+    @Test(expected = IOException.class)
+    public void testReadMissingText() throws Exception {
+        DialogScript.read(new StringReader("<\n"));
+    }
+
+    /**
+     * Test method for {@link DialogScript#read(java.io.InputStream)} with
+     * the bundled script.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testReadBundled() throws Exception {
+        final DialogScript script = DialogScript.read(
+                TestDialogScript.class.getResourceAsStream(
+                        "/question.dialog"));
+        Assert.assertEquals(4, script.getSteps().size());
+        Assert.assertEquals(1, script.getInputCount());
+    }
+}
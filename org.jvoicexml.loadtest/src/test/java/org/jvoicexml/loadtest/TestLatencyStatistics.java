@@ -0,0 +1,94 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.loadtest;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link LatencyStatistics}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestLatencyStatistics {
+    /**
+     * Test method for {@link LatencyStatistics#getPercentile(double)}.
+     */
+    @Test
+    public void testGetPercentile() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        // Add in reverse order to check the sorting
+        for (int i = 100; i > 0; i--) {
+            statistics.add(i);
+        }
+        Assert.assertEquals(100, statistics.getCount());
+        Assert.assertEquals(1, statistics.getPercentile(0));
+        Assert.assertEquals(50, statistics.getPercentile(50));
+        Assert.assertEquals(95, statistics.getPercentile(95));
+        Assert.assertEquals(99, statistics.getPercentile(99));
+        Assert.assertEquals(100, statistics.getMax());
+        Assert.assertEquals(50.5, statistics.getMean(), 0.001);
+    }
+
+    /**
+     * Test method for {@link LatencyStatistics#getPercentile(double)} after
+     * samples have been added to sorted samples.
+     */
+    @Test
+    public void testGetPercentileAfterAdd() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        statistics.add(10);
+        statistics.add(20);
+        Assert.assertEquals(20, statistics.getMax());
+        statistics.add(5);
+        Assert.assertEquals(5, statistics.getPercentile(1));
+        Assert.assertEquals(10, statistics.getPercentile(50));
+    }
+
+    /**
+     * Test method for {@link LatencyStatistics#add(long)} beyond the
+     * initial capacity.
+     */
+    @Test
+    public void testAddMany() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        final int count = 10000;
+        for (int i = 0; i < count; i++) {
+            statistics.add(i % 100);
+        }
+        Assert.assertEquals(count, statistics.getCount());
+        Assert.assertEquals(99, statistics.getMax());
+        Assert.assertEquals(49, statistics.getPercentile(50));
+    }
+
+    /**
+     * Test method for {@link LatencyStatistics#getPercentile(double)}
+     * without samples.
+     */
+    @Test
+    public void testGetPercentileEmpty() {
+        final LatencyStatistics statistics = new LatencyStatistics();
+        Assert.assertEquals(0, statistics.getPercentile(99));
+        Assert.assertEquals(0, statistics.getMean(), 0.001);
+    }
+}
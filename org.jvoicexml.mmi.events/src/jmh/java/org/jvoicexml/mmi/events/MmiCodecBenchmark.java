@@ -0,0 +1,192 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.mmi.events;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encode and decode throughput of MMI events with the shared
+ * {@link MmiCodec} compared to creating a new {@link JAXBContext} per
+ * message.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MmiCodecBenchmark {
+    /** The type of the event under test. */
+    @Param({ "StartRequest", "ExtensionNotification", "StatusResponse" })
+    public String type;
+
+    /** The event to encode. */
+    private Mmi mmi;
+
+    /** The encoded event to decode. */
+    private byte[] xml;
+
+    /** JSON representation of the event to decode. */
+    private String json;
+
+    /**
+     * Creates the event under test.
+     *
+     * @throws JAXBException
+     *             error encoding the event
+     */
+    @Setup
+    public void setUp() throws JAXBException {
+        mmi = new Mmi();
+        if ("StartRequest".equals(type)) {
+            final StartRequest request = new StartRequest();
+            request.setRequestId("request1");
+            request.setSource("source1");
+            request.setTarget("target1");
+            request.setContext("context1");
+            final ContentURLType url = new ContentURLType();
+            url.setHref("http://localhost:9595/hello.vxml");
+            request.setContentURL(url);
+            mmi.setStartRequest(request);
+        } else if ("ExtensionNotification".equals(type)) {
+            final ExtensionNotification notification =
+                    new ExtensionNotification();
+            notification.setRequestId("request1");
+            notification.setSource("source1");
+            notification.setTarget("target1");
+            notification.setContext("context1");
+            notification.setName("vxml.output");
+            mmi.setExtensionNotification(notification);
+        } else {
+            final StatusResponse response = new StatusResponse();
+            response.setRequestId("request1");
+            response.setSource("source1");
+            response.setTarget("target1");
+            response.setContext("context1");
+            response.setStatus(StatusResponseType.ALIVE);
+            response.setAutomaticUpdate(true);
+            mmi.setStatusResponse(response);
+        }
+        xml = MmiCodec.toBytes(mmi);
+        json = MmiCodec.toJson(mmi.getLifeCycleEvent());
+    }
+
+    /**
+     * Encodes the event with the shared codec.
+     *
+     * @return encoded event
+     * @throws JAXBException
+     *             error encoding
+     */
+    @Benchmark
+    public byte[] encode() throws JAXBException {
+        return MmiCodec.toBytes(mmi);
+    }
+
+    /**
+     * Decodes the event with the shared codec.
+     *
+     * @return decoded event
+     * @throws JAXBException
+     *             error decoding
+     */
+    @Benchmark
+    public Object decode() throws JAXBException {
+        return MmiCodec.unmarshal(new ByteArrayInputStream(xml));
+    }
+
+    /**
+     * Encodes the event as JSON with the shared codec.
+     *
+     * @return encoded event
+     */
+    @Benchmark
+    public String encodeJson() {
+        return MmiCodec.toJson(mmi.getLifeCycleEvent());
+    }
+
+    /**
+     * Decodes the event from JSON with the shared codec.
+     *
+     * @return decoded event
+     */
+    @Benchmark
+    public LifeCycleEvent decodeJson() {
+        return MmiCodec.fromJson(json);
+    }
+
+    /**
+     * Encodes the event with a new context per message as it was done
+     * before the codec existed.
+     *
+     * @return encoded event
+     * @throws JAXBException
+     *             error encoding
+     */
+    @Benchmark
+    public byte[] encodeNewContext() throws JAXBException {
+        final JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
+        final Marshaller marshaller = ctx.createMarshaller();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshaller.marshal(mmi, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes the event with a new context per message as it was done
+     * before the codec existed.
+     *
+     * @return decoded event
+     * @throws JAXBException
+     *             error decoding
+     */
+    @Benchmark
+    public Object decodeNewContext() throws JAXBException {
+        final JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
+        final Unmarshaller unmarshaller = ctx.createUnmarshaller();
+        return unmarshaller.unmarshal(new ByteArrayInputStream(xml));
+    }
+}
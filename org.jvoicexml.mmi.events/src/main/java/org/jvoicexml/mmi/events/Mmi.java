@@ -21,14 +21,11 @@
 
 package org.jvoicexml.mmi.events;
 
-import java.io.ByteArrayOutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.Objects;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
@@ -665,11 +662,7 @@ public final class Mmi implements Serializable {
     @Override
     public String toString() {
         try {
-            JAXBContext ctx = JAXBContext.newInstance(Mmi.class);
-            final Marshaller marshaller = ctx.createMarshaller();
-            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-            marshaller.marshal(this, out);
-            return out.toString();
+            return MmiCodec.toXml(this);
         } catch (JAXBException e) {
             return super.toString();
         }
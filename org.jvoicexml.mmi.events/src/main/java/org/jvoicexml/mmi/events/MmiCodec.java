@@ -0,0 +1,312 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.mmi.events;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+
+import org.jvoicexml.mmi.events.json.JsonMmi;
+import org.xml.sax.ContentHandler;
+
+/**
+ * Shared encoder and decoder for MMI events.
+ * <p>
+ * Creating a {@link JAXBContext} is expensive. This codec creates the context
+ * for {@link Mmi} only once. {@link Marshaller}s and {@link Unmarshaller}s
+ * are not thread-safe. Hence, they are kept in pools and handed out to a
+ * single thread at a time. The JSON part delegates to the preconfigured
+ * <code>Gson</code> instances of {@link JsonMmi}.
+ * </p>
+ * <p>
+ * All methods of this class are thread-safe.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class MmiCodec {
+    /** Maximal number of idle marshallers and unmarshallers to keep. */
+    private static final int MAX_IDLE = 16;
+
+    /** Encoding that is used for string conversions. */
+    private static final String ENCODING = "UTF-8";
+
+    /** Lazily created shared JAXB context. */
+    private static volatile JAXBContext context;
+
+    /** Pooled marshallers. */
+    private static final Queue<Marshaller> MARSHALLERS =
+            new ConcurrentLinkedQueue<Marshaller>();
+
+    /** Number of idle marshallers in {@link #MARSHALLERS}. */
+    private static final AtomicInteger IDLE_MARSHALLERS = new AtomicInteger();
+
+    /** Pooled unmarshallers. */
+    private static final Queue<Unmarshaller> UNMARSHALLERS =
+            new ConcurrentLinkedQueue<Unmarshaller>();
+
+    /** Number of idle unmarshallers in {@link #UNMARSHALLERS}. */
+    private static final AtomicInteger IDLE_UNMARSHALLERS =
+            new AtomicInteger();
+
+    /**
+     * Do not create from outside.
+     */
+    private MmiCodec() {
+    }
+
+    /**
+     * Retrieves the shared JAXB context for MMI events.
+     *
+     * @return the JAXB context
+     * @exception JAXBException
+     *                error creating the context
+     */
+    public static JAXBContext getContext() throws JAXBException {
+        JAXBContext ctx = context;
+        if (ctx == null) {
+            synchronized (MmiCodec.class) {
+                ctx = context;
+                if (ctx == null) {
+                    ctx = JAXBContext.newInstance(Mmi.class);
+                    context = ctx;
+                }
+            }
+        }
+        return ctx;
+    }
+
+    /**
+     * Marshals the given MMI object to the given stream.
+     *
+     * @param object
+     *            the {@link Mmi} or a {@link LifeCycleEvent} to marshal
+     * @param out
+     *            the stream to write to
+     * @exception JAXBException
+     *                error marshalling
+     */
+    public static void marshal(final Object object, final OutputStream out)
+            throws JAXBException {
+        final Marshaller marshaller = borrowMarshaller();
+        try {
+            marshaller.marshal(object, out);
+        } finally {
+            returnMarshaller(marshaller);
+        }
+    }
+
+    /**
+     * Marshals the given MMI object as SAX events to the given handler.
+     *
+     * @param object
+     *            the {@link Mmi} or a {@link LifeCycleEvent} to marshal
+     * @param handler
+     *            the handler to receive the SAX events
+     * @exception JAXBException
+     *                error marshalling
+     */
+    public static void marshal(final Object object,
+            final ContentHandler handler) throws JAXBException {
+        final Marshaller marshaller = borrowMarshaller();
+        try {
+            marshaller.marshal(object, handler);
+        } finally {
+            returnMarshaller(marshaller);
+        }
+    }
+
+    /**
+     * Marshals the given MMI object into a byte array.
+     *
+     * @param object
+     *            the {@link Mmi} or a {@link LifeCycleEvent} to marshal
+     * @return XML representation of the object, UTF-8 encoded
+     * @exception JAXBException
+     *                error marshalling
+     */
+    public static byte[] toBytes(final Object object) throws JAXBException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshal(object, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Marshals the given MMI object into a string.
+     *
+     * @param object
+     *            the {@link Mmi} or a {@link LifeCycleEvent} to marshal
+     * @return XML representation of the object
+     * @exception JAXBException
+     *                error marshalling
+     */
+    public static String toXml(final Object object) throws JAXBException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshal(object, out);
+        try {
+            return out.toString(ENCODING);
+        } catch (UnsupportedEncodingException e) {
+            throw new JAXBException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Unmarshals an MMI object from the given stream.
+     *
+     * @param in
+     *            the stream to read from
+     * @return the read object, usually an {@link Mmi}
+     * @exception JAXBException
+     *                error unmarshalling
+     */
+    public static Object unmarshal(final InputStream in)
+            throws JAXBException {
+        final Unmarshaller unmarshaller = borrowUnmarshaller();
+        try {
+            return unmarshaller.unmarshal(in);
+        } finally {
+            returnUnmarshaller(unmarshaller);
+        }
+    }
+
+    /**
+     * Unmarshals an MMI object from the given reader.
+     *
+     * @param reader
+     *            the reader to read from
+     * @return the read object, usually an {@link Mmi}
+     * @exception JAXBException
+     *                error unmarshalling
+     */
+    public static Object unmarshal(final Reader reader)
+            throws JAXBException {
+        final Unmarshaller unmarshaller = borrowUnmarshaller();
+        try {
+            return unmarshaller.unmarshal(reader);
+        } finally {
+            returnUnmarshaller(unmarshaller);
+        }
+    }
+
+    /**
+     * Converts the given lifecycle event to JSON.
+     *
+     * @param event
+     *            the event to convert
+     * @return JSON representation of the event
+     */
+    public static String toJson(final LifeCycleEvent event) {
+        final JsonMmi mmi = new JsonMmi(event);
+        return mmi.toJson();
+    }
+
+    /**
+     * Converts the given JSON into a lifecycle event.
+     *
+     * @param json
+     *            the JSON to parse
+     * @return parsed lifecycle event, <code>null</code> if the JSON did not
+     *         contain an event
+     */
+    public static LifeCycleEvent fromJson(final String json) {
+        final JsonMmi mmi = JsonMmi.fromJson(json);
+        if (mmi == null) {
+            return null;
+        }
+        return mmi.getLifeCycleEvent();
+    }
+
+    /**
+     * Obtains a marshaller from the pool or creates a new one if the pool is
+     * empty.
+     *
+     * @return marshaller for exclusive use by the caller
+     * @exception JAXBException
+     *                error creating the marshaller
+     */
+    private static Marshaller borrowMarshaller() throws JAXBException {
+        final Marshaller marshaller = MARSHALLERS.poll();
+        if (marshaller == null) {
+            final JAXBContext ctx = getContext();
+            return ctx.createMarshaller();
+        }
+        IDLE_MARSHALLERS.decrementAndGet();
+        return marshaller;
+    }
+
+    /**
+     * Returns the given marshaller to the pool.
+     *
+     * @param marshaller
+     *            the marshaller that is no longer used
+     */
+    private static void returnMarshaller(final Marshaller marshaller) {
+        if (IDLE_MARSHALLERS.incrementAndGet() > MAX_IDLE) {
+            IDLE_MARSHALLERS.decrementAndGet();
+            return;
+        }
+        MARSHALLERS.offer(marshaller);
+    }
+
+    /**
+     * Obtains an unmarshaller from the pool or creates a new one if the pool
+     * is empty.
+     *
+     * @return unmarshaller for exclusive use by the caller
+     * @exception JAXBException
+     *                error creating the unmarshaller
+     */
+    private static Unmarshaller borrowUnmarshaller() throws JAXBException {
+        final Unmarshaller unmarshaller = UNMARSHALLERS.poll();
+        if (unmarshaller == null) {
+            final JAXBContext ctx = getContext();
+            return ctx.createUnmarshaller();
+        }
+        IDLE_UNMARSHALLERS.decrementAndGet();
+        return unmarshaller;
+    }
+
+    /**
+     * Returns the given unmarshaller to the pool.
+     *
+     * @param unmarshaller
+     *            the unmarshaller that is no longer used
+     */
+    private static void returnUnmarshaller(final Unmarshaller unmarshaller) {
+        if (IDLE_UNMARSHALLERS.incrementAndGet() > MAX_IDLE) {
+            IDLE_UNMARSHALLERS.decrementAndGet();
+            return;
+        }
+        UNMARSHALLERS.offer(unmarshaller);
+    }
+}
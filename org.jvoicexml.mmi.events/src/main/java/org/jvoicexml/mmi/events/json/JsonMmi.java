@@ -22,6 +22,8 @@ package org.jvoicexml.mmi.events.json;
 
 import java.lang.reflect.Type;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jvoicexml.mmi.events.AnyComplexType;
 import org.jvoicexml.mmi.events.CancelRequest;
@@ -55,6 +57,59 @@ import com.google.gson.JsonDeserializer;
  * @since 0.7.9
  */
 public class JsonMmi {
+    /** Shared serializer. {@link Gson} instances are thread-safe. */
+    private static final Gson SERIALIZER = new GsonBuilder()
+            .setPrettyPrinting()
+            .registerTypeAdapter(JsonMmi.class, new JsonMmiSerializer())
+            .registerTypeAdapter(AnyComplexType.class,
+                    new AnyComplexTypeSerializer())
+            .create();
+
+    /** Shared deserializer for untyped data and status info sections. */
+    private static final Gson DESERIALIZER = new GsonBuilder()
+            .registerTypeAdapter(JsonMmi.class, new JsonMmiDeserializer())
+            .registerTypeAdapter(CancelRequest.class,
+                    new CancelRequestDeserializer())
+            .registerTypeAdapter(CancelResponse.class,
+                    new CancelResponseDeserializer())
+            .registerTypeAdapter(ClearContextRequest.class,
+                    new ClearContextRequestDeserializer())
+            .registerTypeAdapter(ClearContextResponse.class,
+                    new ClearContextResponseDeserializer())
+            .registerTypeAdapter(DoneNotification.class,
+                    new DoneNotificationDeserializer())
+            .registerTypeAdapter(ExtensionNotification.class,
+                    new ExtensionNotificationDeserializer())
+            .registerTypeAdapter(NewContextRequest.class,
+                    new NewContextRequestDeserializer())
+            .registerTypeAdapter(NewContextResponse.class,
+                    new NewContextResponseDeserializer())
+            .registerTypeAdapter(PauseRequest.class,
+                    new PauseRequestDeserializer())
+            .registerTypeAdapter(PauseResponse.class,
+                    new PauseResponseDeserializer())
+            .registerTypeAdapter(PrepareRequest.class,
+                    new PrepareRequestDeserializer())
+            .registerTypeAdapter(PrepareResponse.class,
+                    new PrepareResponseDeserializer())
+            .registerTypeAdapter(ResumeRequest.class,
+                    new ResumeRequestDeserializer())
+            .registerTypeAdapter(ResumeResponse.class,
+                    new ResumeResponseDeserializer())
+            .registerTypeAdapter(StartRequest.class,
+                    new StartRequestDeserializer())
+            .registerTypeAdapter(StartResponse.class,
+                    new StartResponseDeserializer())
+            .registerTypeAdapter(StatusRequest.class,
+                    new StatusRequestDeserializer())
+            .registerTypeAdapter(StatusResponse.class,
+                    new StatusResponseDeserializer())
+            .create();
+
+    /** Cached deserializers for typed data and status info sections. */
+    private static final ConcurrentMap<TypeKey, Gson> TYPED_DESERIALIZERS =
+            new ConcurrentHashMap<TypeKey, Gson>();
+
     /** The event to serialize. */
     private LifeCycleEvent event;
 
@@ -99,12 +154,7 @@ public class JsonMmi {
      * @return JSON representation of this object.
      */
     public String toJson() {
-        final GsonBuilder builder = new GsonBuilder().setPrettyPrinting()
-                .registerTypeAdapter(JsonMmi.class, new JsonMmiSerializer())
-                .registerTypeAdapter(AnyComplexType.class,
-                        new AnyComplexTypeSerializer());
-        final Gson gson = builder.create();
-        return gson.toJson(this);
+        return SERIALIZER.toJson(this);
     }
 
     /**
@@ -115,61 +165,69 @@ public class JsonMmi {
      * @return parsed object
      */
     public static JsonMmi fromJson(final String json) {
-        final GsonBuilder builder = new GsonBuilder()
-                .registerTypeAdapter(JsonMmi.class, new JsonMmiDeserializer())
-                .registerTypeAdapter(CancelRequest.class,
-                        new CancelRequestDeserializer())
-                .registerTypeAdapter(CancelResponse.class,
-                        new CancelResponseDeserializer())
-                .registerTypeAdapter(ClearContextRequest.class,
-                        new ClearContextRequestDeserializer())
-                .registerTypeAdapter(ClearContextResponse.class,
-                        new ClearContextResponseDeserializer())
-                .registerTypeAdapter(DoneNotification.class,
-                        new DoneNotificationDeserializer())
-                .registerTypeAdapter(ExtensionNotification.class,
-                        new ExtensionNotificationDeserializer())
-                .registerTypeAdapter(NewContextRequest.class,
-                        new NewContextRequestDeserializer())
-                .registerTypeAdapter(NewContextResponse.class,
-                        new NewContextResponseDeserializer())
-                .registerTypeAdapter(PauseRequest.class,
-                        new PauseRequestDeserializer())
-                .registerTypeAdapter(PauseResponse.class,
-                        new PauseResponseDeserializer())
-                .registerTypeAdapter(PrepareRequest.class,
-                        new PrepareRequestDeserializer())
-                .registerTypeAdapter(PrepareResponse.class,
-                        new PrepareResponseDeserializer())
-                .registerTypeAdapter(ResumeRequest.class,
-                        new ResumeRequestDeserializer())
-                .registerTypeAdapter(ResumeResponse.class,
-                        new ResumeResponseDeserializer())
-                .registerTypeAdapter(StartRequest.class,
-                        new StartRequestDeserializer())
-                .registerTypeAdapter(StartResponse.class,
-                        new StartResponseDeserializer())
-                .registerTypeAdapter(StatusRequest.class,
-                        new StatusRequestDeserializer())
-                .registerTypeAdapter(StatusResponse.class,
-                        new StatusResponseDeserializer());
-        final Gson gson = builder.create();
-        return gson.fromJson(json, JsonMmi.class);
+        return DESERIALIZER.fromJson(json, JsonMmi.class);
     }
 
     /**
      * Converts JSON into a {@link JsonMmi} object.
+     * <p>
+     * If no additional deserializers are given, the configured {@link Gson}
+     * instance is cached for the given combination of types.
+     * </p>
      * 
      * @param json
      *            the JSON to parse
      * @param data
      *            type of the object in the data section
+     * @param statusInfo
+     *            type of the object in the status info section
+     * @param deserializers
+     *            additional deserializers
      * @return parsed object
      */
     public static JsonMmi fromJson(final String json, final Type data,
             final Type statusInfo,
             final JsonDeserializerConfiguration... deserializers) {
-        final GsonBuilder builder = new GsonBuilder()
+        final Gson gson;
+        if (deserializers.length == 0) {
+            final TypeKey key = new TypeKey(data, statusInfo);
+            Gson cached = TYPED_DESERIALIZERS.get(key);
+            if (cached == null) {
+                cached = createDeserializerBuilder(data, statusInfo).create();
+                final Gson other = TYPED_DESERIALIZERS.putIfAbsent(key,
+                        cached);
+                if (other != null) {
+                    cached = other;
+                }
+            }
+            gson = cached;
+        } else {
+            final GsonBuilder builder =
+                    createDeserializerBuilder(data, statusInfo);
+            for (JsonDeserializerConfiguration current : deserializers) {
+                final Type type = current.getType();
+                final JsonDeserializer<?> deserializer =
+                        current.getDeserializer();
+                builder.registerTypeAdapter(type, deserializer);
+            }
+            gson = builder.create();
+        }
+        return gson.fromJson(json, JsonMmi.class);
+    }
+
+    /**
+     * Creates a builder with deserializers for all lifecycle events that
+     * assume the given types in the data and status info sections.
+     * 
+     * @param data
+     *            type of the object in the data section
+     * @param statusInfo
+     *            type of the object in the status info section
+     * @return configured builder
+     */
+    private static GsonBuilder createDeserializerBuilder(final Type data,
+            final Type statusInfo) {
+        return new GsonBuilder()
                 .registerTypeAdapter(JsonMmi.class, new JsonMmiDeserializer())
                 .registerTypeAdapter(CancelRequest.class,
                         new CancelRequestDeserializer(data))
@@ -207,13 +265,57 @@ public class JsonMmi {
                         new StatusRequestDeserializer(data))
                 .registerTypeAdapter(StatusResponse.class,
                         new StatusResponseDeserializer(data, statusInfo));
-        for (JsonDeserializerConfiguration current : deserializers) {
-            final Type type = current.getType();
-            final JsonDeserializer<?> deserializer = current.getDeserializer();
-            builder.registerTypeAdapter(type, deserializer);
+    }
+
+    /**
+     * Key for the cache of typed deserializers.
+     * 
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class TypeKey {
+        /** Type of the object in the data section. */
+        private final Type data;
+
+        /** Type of the object in the status info section. */
+        private final Type statusInfo;
+
+        /**
+         * Constructs a new object.
+         * 
+         * @param dataType
+         *            type of the object in the data section
+         * @param statusInfoType
+         *            type of the object in the status info section
+         */
+        TypeKey(final Type dataType, final Type statusInfoType) {
+            data = dataType;
+            statusInfo = statusInfoType;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(data, statusInfo);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypeKey)) {
+                return false;
+            }
+            final TypeKey other = (TypeKey) obj;
+            return Objects.equals(data, other.data)
+                    && Objects.equals(statusInfo, other.statusInfo);
         }
-        final Gson gson = builder.create();
-        return gson.fromJson(json, JsonMmi.class);
     }
 
     /**
@@ -0,0 +1,174 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.mmi.events;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link MmiCodec}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestMmiCodec {
+    /**
+     * Creates a start request for the tests.
+     *
+     * @param requestId
+     *            the request id
+     * @return created MMI event
+     */
+    private Mmi createStartRequest(final String requestId) {
+        final Mmi mmi = new Mmi();
+        final StartRequest request = new StartRequest();
+        request.setRequestId(requestId);
+        request.setSource("source1");
+        request.setTarget("target1");
+        request.setContext("context1");
+        final ContentURLType url = new ContentURLType();
+        url.setHref("http://nowhere");
+        request.setContentURL(url);
+        mmi.setStartRequest(request);
+        return mmi;
+    }
+
+    /**
+     * Test method for {@link MmiCodec#getContext()}.
+     *
+     * @throws Exception
+     *             test failed
+     */
+    @Test
+    public void testGetContext() throws Exception {
+        Assert.assertSame(MmiCodec.getContext(), MmiCodec.getContext());
+    }
+
+    /**
+     * Test method for {@link MmiCodec#toBytes(Object)} and
+     * {@link MmiCodec#unmarshal(java.io.InputStream)}.
+     *
+     * @throws Exception
+     *             test failed
+     */
+    @Test
+    public void testRoundTripStream() throws Exception {
+        final Mmi mmi = createStartRequest("request1");
+        final byte[] bytes = MmiCodec.toBytes(mmi);
+        final Object o = MmiCodec.unmarshal(new ByteArrayInputStream(bytes));
+        Assert.assertTrue(o instanceof Mmi);
+        final Mmi read = (Mmi) o;
+        final StartRequest request = read.getStartRequest();
+        Assert.assertEquals("request1", request.getRequestId());
+        Assert.assertEquals("context1", request.getContext());
+        Assert.assertEquals("http://nowhere",
+                request.getContentURL().getHref());
+    }
+
+    /**
+     * Test method for {@link MmiCodec#toXml(Object)} and
+     * {@link MmiCodec#unmarshal(java.io.Reader)}.
+     *
+     * @throws Exception
+     *             test failed
+     */
+    @Test
+    public void testRoundTripReader() throws Exception {
+        final Mmi mmi = new Mmi();
+        final StatusResponse response = new StatusResponse();
+        response.setRequestId("request2");
+        response.setSource("source1");
+        response.setTarget("target1");
+        response.setContext("context1");
+        response.setStatus(StatusResponseType.ALIVE);
+        mmi.setStatusResponse(response);
+        final String xml = MmiCodec.toXml(mmi);
+        final Object o = MmiCodec.unmarshal(new StringReader(xml));
+        Assert.assertTrue(o instanceof Mmi);
+        final Mmi read = (Mmi) o;
+        Assert.assertEquals(StatusResponseType.ALIVE,
+                read.getStatusResponse().getStatus());
+    }
+
+    /**
+     * Test method for {@link MmiCodec#toJson(LifeCycleEvent)} and
+     * {@link MmiCodec#fromJson(String)}.
+     */
+    @Test
+    public void testJson() {
+        final ExtensionNotification notification = new ExtensionNotification();
+        notification.setRequestId("request3");
+        notification.setSource("source1");
+        notification.setTarget("target1");
+        notification.setContext("context1");
+        notification.setName("vxml.input");
+        final String json = MmiCodec.toJson(notification);
+        final LifeCycleEvent event = MmiCodec.fromJson(json);
+        Assert.assertTrue(event instanceof ExtensionNotification);
+        final ExtensionNotification read = (ExtensionNotification) event;
+        Assert.assertEquals("request3", read.getRequestId());
+        Assert.assertEquals("vxml.input", read.getName());
+    }
+
+    /**
+     * Tests concurrent use of the pooled marshallers.
+     *
+     * @throws Exception
+     *             test failed
+     */
+    @Test(timeout = 20000)
+    public void testConcurrentRoundTrip() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final Collection<Callable<String>> tasks =
+                    new java.util.ArrayList<Callable<String>>();
+            for (int i = 0; i < 200; i++) {
+                final String id = Integer.toString(i);
+                tasks.add(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        final Mmi mmi = createStartRequest(id);
+                        final byte[] bytes = MmiCodec.toBytes(mmi);
+                        final Mmi read = (Mmi) MmiCodec.unmarshal(
+                                new ByteArrayInputStream(bytes));
+                        return read.getStartRequest().getRequestId();
+                    }
+                });
+            }
+            int i = 0;
+            for (Future<String> future : executor.invokeAll(tasks)) {
+                Assert.assertEquals(Integer.toString(i), future.get());
+                i++;
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
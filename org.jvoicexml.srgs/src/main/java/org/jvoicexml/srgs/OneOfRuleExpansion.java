@@ -49,6 +49,15 @@ public class OneOfRuleExpansion implements RuleExpansion {
         subRules.add(rule);
     }
 
+    /**
+     * Retrieves the alternatives.
+     * @return the alternatives
+     * @since 0.7.9
+     */
+    List<RuleExpansion> getSubRules() {
+        return subRules;
+    }
+
     public void addInitialSI(String si) {
         if (initialSI == null) {
             initialSI = new SemanticInterpretationBlock();
@@ -44,6 +44,15 @@ public class RuleRefExpansion implements RuleExpansion {
         this.externalGrammar = externalGrammar;
     }
 
+    /**
+     * Retrieves the referenced rule.
+     * @return the referenced rule
+     * @since 0.7.9
+     */
+    SrgsRule getReferencedRule() {
+        return referencedRule;
+    }
+
     /**
      * Add executable SI (tag) to item to return if matched. Note, per spec only
      * the last tag associated with the element is kept.
@@ -0,0 +1,201 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.srgs;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.jvoicexml.implementation.grammar.GrammarAutomaton;
+
+/**
+ * Compiles the rules of an SRGS grammar into a {@link GrammarAutomaton}.
+ * <p>
+ * Each token is followed by the token terminator of the automaton. The
+ * automaton accepts the language of the grammar. Semantic interpretation is
+ * not part of the automaton. Recursive rules are not supported.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class SrgsAutomatonCompiler {
+    /** Logger instance. */
+    private static final Logger LOGGER = Logger
+            .getLogger(SrgsAutomatonCompiler.class);
+
+    /** The automaton to build. */
+    private final GrammarAutomaton automaton;
+
+    /** The rules that are currently compiled. */
+    private final Collection<SrgsRule> stack;
+
+    /**
+     * Constructs a new object.
+     * @param terminator characters that are appended to each token
+     */
+    private SrgsAutomatonCompiler(final String terminator) {
+        automaton = new GrammarAutomaton(terminator);
+        stack = new java.util.ArrayList<SrgsRule>();
+    }
+
+    /**
+     * Compiles the given rule.
+     * @param rule the root rule of the grammar
+     * @param terminator characters that are appended to each token
+     * @return the compiled automaton, <code>null</code> if the rule cannot
+     *         be compiled
+     */
+    static GrammarAutomaton compile(final SrgsRule rule,
+            final String terminator) {
+        if (rule == null) {
+            return null;
+        }
+        final SrgsAutomatonCompiler compiler =
+                new SrgsAutomatonCompiler(terminator);
+        final GrammarAutomaton automaton = compiler.automaton;
+        try {
+            final int accept = compiler.compile(rule, automaton.getStart());
+            automaton.setAccepting(accept);
+        } catch (IllegalStateException e) {
+            LOGGER.info("unable to compile rule '" + rule.getId()
+                    + "' into an automaton: " + e.getMessage());
+            return null;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("compiled rule '" + rule.getId() + "' into "
+                    + automaton.getNumStates() + " states");
+        }
+        return automaton;
+    }
+
+    /**
+     * Compiles the given expansion.
+     * @param expansion the expansion
+     * @param from the state to start from
+     * @return the state after the expansion has been matched
+     */
+    private int compile(final RuleExpansion expansion, final int from) {
+        if (expansion instanceof TokenRuleExpansion) {
+            final TokenRuleExpansion token = (TokenRuleExpansion) expansion;
+            int current = from;
+            for (String text : token.getTokens()) {
+                current = automaton.addToken(current, text);
+            }
+            return current;
+        } else if (expansion instanceof OneOfRuleExpansion) {
+            final OneOfRuleExpansion oneOf = (OneOfRuleExpansion) expansion;
+            final int end = automaton.newState();
+            final List<RuleExpansion> alternatives = oneOf.getSubRules();
+            if (alternatives.isEmpty()) {
+                automaton.addEpsilon(from, end);
+            }
+            for (RuleExpansion alternative : alternatives) {
+                final int alternativeStart = automaton.newState();
+                automaton.addEpsilon(from, alternativeStart);
+                final int alternativeEnd =
+                        compile(alternative, alternativeStart);
+                automaton.addEpsilon(alternativeEnd, end);
+            }
+            return end;
+        } else if (expansion instanceof ItemRuleExpansion) {
+            return compileItem((ItemRuleExpansion) expansion, from);
+        } else if (expansion instanceof RuleRefExpansion) {
+            final RuleRefExpansion ref = (RuleRefExpansion) expansion;
+            return compile(ref.getReferencedRule(), from);
+        } else if (expansion instanceof GarbageRule) {
+            final int any = automaton.newState();
+            automaton.addEpsilon(from, any);
+            automaton.addWildcard(any, any);
+            return any;
+        } else if (expansion instanceof NullRule) {
+            return from;
+        } else if (expansion instanceof VoidRule) {
+            // Unreachable state
+            return automaton.newState();
+        } else if (expansion instanceof SrgsRule) {
+            final SrgsRule rule = (SrgsRule) expansion;
+            if (stack.contains(rule)) {
+                throw new IllegalStateException("recursive rule '"
+                        + rule.getId() + "'");
+            }
+            final RuleExpansion inner = rule.getInnerRule();
+            if (inner == null) {
+                return automaton.newState();
+            }
+            stack.add(rule);
+            final int end = compile(inner, from);
+            stack.remove(rule);
+            return end;
+        }
+        throw new IllegalStateException("unsupported expansion '"
+                + expansion + "'");
+    }
+
+    /**
+     * Compiles the given item including its repeats.
+     * @param item the item
+     * @param from the state to start from
+     * @return the state after the item has been matched
+     */
+    private int compileItem(final ItemRuleExpansion item, final int from) {
+        final List<RuleExpansion> sequence = item.getSubItems();
+        if (sequence.isEmpty()) {
+            return from;
+        }
+        final int min = item.getMinRepeat();
+        final int max = item.getMaxRepeat();
+        int current = from;
+        for (int i = 0; i < min; i++) {
+            current = compileSequence(sequence, current);
+        }
+        if (max < 0) {
+            final int loop = automaton.newState();
+            automaton.addEpsilon(current, loop);
+            final int end = compileSequence(sequence, loop);
+            automaton.addEpsilon(end, loop);
+            return loop;
+        }
+        final int end = automaton.newState();
+        automaton.addEpsilon(current, end);
+        for (int i = min; i < max; i++) {
+            current = compileSequence(sequence, current);
+            automaton.addEpsilon(current, end);
+        }
+        return end;
+    }
+
+    /**
+     * Compiles the given sequence of expansions.
+     * @param sequence the expansions
+     * @param from the state to start from
+     * @return the state after the sequence has been matched
+     */
+    private int compileSequence(final List<RuleExpansion> sequence,
+            final int from) {
+        int current = from;
+        for (RuleExpansion expansion : sequence) {
+            current = compile(expansion, current);
+        }
+        return current;
+    }
+}
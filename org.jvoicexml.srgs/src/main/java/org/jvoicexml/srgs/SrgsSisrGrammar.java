@@ -31,9 +31,11 @@ import java.util.Map;
 
 import javax.xml.parsers.ParserConfigurationException;
 
-import org.apache.log4j.Logger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.jvoicexml.implementation.GrammarImplementation;
-import org.jvoicexml.implementation.grammar.GrammarEvaluator;
+import org.jvoicexml.implementation.grammar.GrammarAutomaton;
+import org.jvoicexml.implementation.grammar.IncrementalGrammarEvaluator;
 import org.jvoicexml.interpreter.datamodel.DataModel;
 import org.jvoicexml.srgs.sisr.SemanticInterpretationBlock;
 import org.jvoicexml.xml.srgs.Grammar;
@@ -50,9 +52,10 @@ import org.xml.sax.SAXException;
  * @since 0.7.8
  */
 public class SrgsSisrGrammar
-    implements GrammarEvaluator, GrammarImplementation<SrgsXmlDocument> {
+    implements IncrementalGrammarEvaluator,
+        GrammarImplementation<SrgsXmlDocument> {
     /** Logger instance. */
-    private static final Logger LOGGER = Logger
+    private static final Logger LOGGER = LogManager
             .getLogger(SrgsSisrGrammar.class);
     private Grammar grammarNode;
     private String rootRule;
@@ -67,6 +70,12 @@ public class SrgsSisrGrammar
     /** A pool of grammars shared by all that were parsed together. */
     private Map<URI, SrgsSisrGrammar> grammarPool;
 
+    /** Automaton of the root rule, created on demand. */
+    private GrammarAutomaton automaton;
+
+    /** <code>true</code> if the automaton has been compiled. */
+    private boolean automatonCompiled;
+
     public SrgsSisrGrammar(Grammar grammar, URI uri,
             Map<URI, SrgsSisrGrammar> grammarPool) {
         grammarNode = grammar;
@@ -131,7 +140,7 @@ public class SrgsSisrGrammar
     }
 
     public void dump() {
-        LOGGER.debug("grammar(uri=" + uri + ", root=" + rootRule + ")");
+        LOGGER.debug("grammar(uri={}, root={})", uri, rootRule);
         globalTags.dump(" ");
         for (SrgsRule rule : rules.values()) {
             rule.dump(" ");
@@ -144,13 +153,13 @@ public class SrgsSisrGrammar
     @Override
     public Object getSemanticInterpretation(final DataModel model,
             String utterance) {
-        LOGGER.info("processing '" + utterance + "'");
+        LOGGER.debug("processing '{}'", utterance);
         if (utterance == null || utterance.length() == 0) {
             return null;
         }
         final MatchConsumption mc = match(utterance);
         if (mc == null) {
-            LOGGER.info("no match for '" + utterance + "'");
+            LOGGER.debug("no match for '{}'", utterance);
             return null;
         }
         if (LOGGER.isTraceEnabled()) {
@@ -159,6 +168,28 @@ public class SrgsSisrGrammar
         return mc.executeSisr();
     }
 
+    /**
+     * {@inheritDoc}
+     * The automaton of the root rule is compiled on first use. Tokens of
+     * voice grammars are separated by a space, tokens of DTMF grammars are
+     * not separated.
+     */
+    @Override
+    public synchronized GrammarAutomaton getAutomaton() {
+        if (!automatonCompiled) {
+            final String terminator;
+            if (getModeType() == ModeType.DTMF) {
+                terminator = "";
+            } else {
+                terminator = " ";
+            }
+            automaton = SrgsAutomatonCompiler.compile(rules.get(rootRule),
+                    terminator);
+            automatonCompiled = true;
+        }
+        return automaton;
+    }
+
     MatchConsumption match(final List<String> tokens) {
         final SrgsRule rule = rules.get(rootRule);
         if (rule == null) {
@@ -59,6 +59,15 @@ public class TokenRuleExpansion implements RuleExpansion {
         }
     }
 
+    /**
+     * Retrieves the tokens to match.
+     * @return the tokens
+     * @since 0.7.9
+     */
+    List<String> getTokens() {
+        return tokens;
+    }
+
     /**
      * Add executable SI (tag) to item to return if matched. Note, per spec only
      * the last tag associated with the element is kept.
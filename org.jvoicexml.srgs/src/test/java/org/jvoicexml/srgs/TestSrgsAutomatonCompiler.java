@@ -0,0 +1,108 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.srgs;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.implementation.grammar.GrammarAutomaton;
+import org.jvoicexml.implementation.grammar.PrefixMatcher;
+import org.jvoicexml.implementation.grammar.PrefixState;
+
+/**
+ * Test cases for {@link SrgsAutomatonCompiler}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestSrgsAutomatonCompiler {
+    /**
+     * Test method for {@link SrgsSisrGrammar#getAutomaton()}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testRepeat() throws Exception {
+        final SrgsSisrGrammar grammar = Utils.loadDocument("/pin.srgs");
+        final PrefixMatcher matcher =
+                grammar.getAutomaton().createPrefixMatcher();
+        Assert.assertEquals(PrefixState.PREFIX, matcher.getState());
+        Assert.assertEquals(PrefixState.PREFIX, matcher.append("1"));
+        Assert.assertEquals(PrefixState.PREFIX, matcher.append("2"));
+        Assert.assertEquals(PrefixState.PREFIX, matcher.append("3"));
+        Assert.assertEquals(PrefixState.COMPLETE, matcher.append("4"));
+        Assert.assertEquals(PrefixState.COMPLETE, matcher.append("5"));
+        Assert.assertEquals(PrefixState.COMPLETE, matcher.append("6"));
+        Assert.assertEquals(PrefixState.FINAL, matcher.append("#"));
+        Assert.assertEquals(PrefixState.DEAD, matcher.append("7"));
+        Assert.assertEquals(PrefixState.DEAD, matcher.getState());
+    }
+
+    /**
+     * Test method for {@link SrgsSisrGrammar#getAutomaton()}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testOneOf() throws Exception {
+        final SrgsSisrGrammar grammar = Utils.loadDocument("/pin.srgs");
+        final PrefixMatcher star =
+                grammar.getAutomaton().createPrefixMatcher();
+        Assert.assertEquals(PrefixState.FINAL, star.append("*"));
+        final PrefixMatcher digits =
+                grammar.getAutomaton().createPrefixMatcher();
+        Assert.assertEquals(PrefixState.COMPLETE, digits.append("1234"));
+        Assert.assertEquals(PrefixState.FINAL, digits.append("56#"));
+    }
+
+    /**
+     * Test method for {@link SrgsSisrGrammar#getAutomaton()}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testDead() throws Exception {
+        final SrgsSisrGrammar grammar = Utils.loadDocument("/pin.srgs");
+        final PrefixMatcher matcher =
+                grammar.getAutomaton().createPrefixMatcher();
+        Assert.assertEquals(PrefixState.PREFIX, matcher.append("1"));
+        Assert.assertEquals(PrefixState.DEAD, matcher.append("*"));
+        final PrefixMatcher early =
+                grammar.getAutomaton().createPrefixMatcher();
+        Assert.assertEquals(PrefixState.DEAD, early.append("12#"));
+        final PrefixMatcher tooLong =
+                grammar.getAutomaton().createPrefixMatcher();
+        Assert.assertEquals(PrefixState.DEAD, tooLong.append("1234567"));
+    }
+
+    /**
+     * Test method for {@link SrgsSisrGrammar#getAutomaton()}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testVoice() throws Exception {
+        final SrgsSisrGrammar grammar =
+                Utils.loadDocument("/defaultAssignment4.srgs");
+        final GrammarAutomaton automaton = grammar.getAutomaton();
+        Assert.assertFalse(automaton.match("nope").isEmpty());
+        Assert.assertFalse(automaton.match("yeah").isEmpty());
+        Assert.assertTrue(automaton.match("maybe").isEmpty());
+        Assert.assertTrue(automaton.match("noyes").isEmpty());
+        Assert.assertTrue(automaton.match("yes yes").isEmpty());
+    }
+}
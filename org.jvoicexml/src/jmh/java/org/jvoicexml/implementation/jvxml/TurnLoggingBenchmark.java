@@ -0,0 +1,250 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.jvxml;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.builder.api.AppenderComponentBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilder;
+import org.apache.logging.log4j.core.config.builder.api.ConfigurationBuilderFactory;
+import org.apache.logging.log4j.core.config.builder.api.LoggerComponentBuilder;
+import org.apache.logging.log4j.core.config.builder.api.RootLoggerComponentBuilder;
+import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Logging overhead of a single turn of a text based call on the calling
+ * thread.
+ * <p>
+ * A turn borrows a recognizer from the pool, retrieves a grammar, receives
+ * an utterance that is matched against three grammars, accepts the result
+ * and returns the recognizer. {@link #turnConcatenated()} issues the log
+ * statements of these hot paths as they were written before with string
+ * concatenation at <code>INFO</code>. {@link #turnParameterized()} issues
+ * them as they are written now. Both are measured with synchronous and
+ * with asynchronous loggers at the usual production levels. The appender
+ * writes to a temporary file with the layout of the default
+ * configuration. Asynchronous loggers flush the file at the end of each
+ * batch instead of after each event.
+ * </p>
+ * <p>
+ * The benchmark does not call {@link
+ * org.jvoicexml.implementation.pool.KeyedResourcePool},
+ * {@link org.jvoicexml.documentserver.JVoiceXmlDocumentServer},
+ * {@link JVoiceXmlImplementationPlatform} or the SRGS grammars. It replays
+ * copies of their log statements on loggers with the same names in a
+ * logger context of its own. Only the cost of logging is measured, not
+ * the work of the turn. The copies have to be kept in sync with the
+ * originals if these are changed.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TurnLoggingBenchmark {
+    /** Level of the <code>org.jvoicexml</code> loggers. */
+    @Param({ "info", "warn" })
+    public String level;
+
+    /** <code>true</code> to use asynchronous loggers. */
+    @Param({ "false", "true" })
+    public boolean async;
+
+    /** Layout of the log file of the default configuration. */
+    private static final String PATTERN =
+            "%d{ISO8601} [%-20.20t] %-5p %X{sessionId} %40.40c - %m%n";
+
+    /** Number of grammars that are active in a turn. */
+    private static final int GRAMMARS = 3;
+
+    /** The logger context for the benchmark. */
+    private LoggerContext context;
+
+    /** The log file. */
+    private File file;
+
+    /** Logger of the resource pool. */
+    private Logger poolLogger;
+
+    /** Logger of the document server. */
+    private Logger documentServerLogger;
+
+    /** Logger of the text spoken input. */
+    private Logger inputLogger;
+
+    /** Logger of the grammars. */
+    private Logger grammarLogger;
+
+    /** Logger of the implementation platform. */
+    private Logger platformLogger;
+
+    /** Key of the pooled recognizer. */
+    private String key;
+
+    /** The pooled recognizer. */
+    private Object resource;
+
+    /** Mime type of the retrieved grammar. */
+    private String type;
+
+    /** URI of the retrieved grammar. */
+    private URI uri;
+
+    /** The utterance of the turn. */
+    private String utterance;
+
+    /**
+     * Creates the logger context.
+     * @exception IOException
+     *          error creating the log file
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = File.createTempFile("jvoicexml-benchmark", ".log");
+        final ConfigurationBuilder<BuiltConfiguration> builder =
+                ConfigurationBuilderFactory.newConfigurationBuilder();
+        builder.setStatusLevel(Level.ERROR);
+        final AppenderComponentBuilder appender =
+                builder.newAppender("file", "File")
+                    .addAttribute("fileName", file.getAbsolutePath())
+                    .addAttribute("immediateFlush", !async)
+                    .add(builder.newLayout("PatternLayout")
+                            .addAttribute("pattern", PATTERN));
+        builder.add(appender);
+        final Level loggerLevel = Level.toLevel(level);
+        final LoggerComponentBuilder logger;
+        final RootLoggerComponentBuilder root;
+        if (async) {
+            logger = builder.newAsyncLogger("org.jvoicexml", loggerLevel,
+                    false);
+            root = builder.newAsyncRootLogger(Level.ERROR, false);
+        } else {
+            logger = builder.newLogger("org.jvoicexml", loggerLevel, false);
+            root = builder.newRootLogger(Level.ERROR, false);
+        }
+        builder.add(logger);
+        builder.add(root.add(builder.newAppenderRef("file")));
+        context = new LoggerContext("TurnLoggingBenchmark");
+        context.start(builder.build());
+
+        poolLogger = context.getLogger(
+                "org.jvoicexml.implementation.pool.KeyedResourcePool");
+        documentServerLogger = context.getLogger(
+                "org.jvoicexml.documentserver.JVoiceXmlDocumentServer");
+        inputLogger = context.getLogger(
+                "org.jvoicexml.implementation.text.TextSpokenInput");
+        grammarLogger = context.getLogger(
+                "org.jvoicexml.srgs.SrgsSisrGrammar");
+        platformLogger = context.getLogger(
+                "org.jvoicexml.implementation.jvxml."
+                + "JVoiceXmlImplementationPlatform");
+
+        key = "text";
+        resource = new StringBuilder();
+        type = "application/srgs+xml";
+        uri = URI.create("http://localhost:9595/grammar?id=4711");
+        utterance = "yes please";
+    }
+
+    /**
+     * Stops the logger context and removes the log file.
+     */
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        file.delete();
+    }
+
+    /**
+     * The log statements of a turn with string concatenation.
+     */
+    @Benchmark
+    public void turnConcatenated() {
+        poolLogger.info("borrowed object of type '" + key + "' ("
+                + resource.getClass().getCanonicalName() + ")");
+        documentServerLogger.info("retrieving object with type '" + type
+                + "' from '" + uri + "'");
+        inputLogger.info("received utterance '" + utterance + "'");
+        for (int i = 0; i < GRAMMARS; i++) {
+            grammarLogger.info("processing '" + utterance + "'");
+            if (i < GRAMMARS - 1) {
+                grammarLogger.info("no match for '" + utterance + "'");
+            }
+        }
+        platformLogger.info("accepted recognition '" + utterance + "'");
+        poolLogger.info("returned object of type '" + key + "' ("
+                + resource.getClass().getCanonicalName() + ")");
+    }
+
+    /**
+     * The log statements of a turn with parameterized and guarded logging.
+     */
+    @Benchmark
+    public void turnParameterized() {
+        if (poolLogger.isDebugEnabled()) {
+            final String resourceType = resource.getClass().getCanonicalName();
+            poolLogger.debug("borrowed object of type '{}' ({})", key,
+                    resourceType);
+        }
+        documentServerLogger.debug("retrieving object with type '{}' from '{}'",
+                type, uri);
+        inputLogger.info("received utterance '{}'", utterance);
+        for (int i = 0; i < GRAMMARS; i++) {
+            grammarLogger.debug("processing '{}'", utterance);
+            if (i < GRAMMARS - 1) {
+                grammarLogger.debug("no match for '{}'", utterance);
+            }
+        }
+        if (platformLogger.isInfoEnabled()) {
+            platformLogger.info("accepted recognition '{}'", utterance);
+        }
+        if (poolLogger.isDebugEnabled()) {
+            final String resourceType = resource.getClass().getCanonicalName();
+            poolLogger.debug("returned object of type '{}' ({})", key,
+                    resourceType);
+        }
+    }
+}
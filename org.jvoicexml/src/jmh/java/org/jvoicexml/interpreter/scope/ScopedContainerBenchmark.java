@@ -0,0 +1,158 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.interpreter.scope;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of a scope transition of the scoped containers depending on the
+ * number of elements that were defined in outer scopes.
+ * <p>
+ * Each benchmark enters a dialog scope, defines a few elements and exits
+ * the scope again, like a form that is visited. The time should not depend
+ * on the number of elements of the enclosing document.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class ScopedContainerBenchmark {
+    /** Number of elements that are defined in the enclosing scope. */
+    @Param({ "10", "100", "1000", "10000" })
+    public int size;
+
+    /** Number of elements that are defined in the visited scope. */
+    private static final int CHANGED = 5;
+
+    /** The scope observer driving all containers. */
+    private ScopeObserver observer;
+
+    /** The scoped map under test. */
+    private ScopedMap<String, String> map;
+
+    /** The scoped set under test. */
+    private ScopedSet<String> set;
+
+    /** The scoped collection under test. */
+    private ScopedCollection<String> collection;
+
+    /** Keys that are defined in the visited scope. */
+    private String[] changed;
+
+    /**
+     * Creates the containers and fills the document scope.
+     */
+    @Setup
+    public void setUp() {
+        observer = new ScopeObserver();
+        observer.enterScope(Scope.SESSION);
+        observer.enterScope(Scope.DOCUMENT);
+        map = new ScopedMap<String, String>(observer);
+        set = new ScopedSet<String>(observer);
+        collection = new ScopedCollection<String>(observer);
+        for (int i = 0; i < size; i++) {
+            final String key = "document" + i;
+            map.put(key, key);
+            set.add(key);
+            collection.add(key);
+        }
+        changed = new String[CHANGED];
+        for (int i = 0; i < CHANGED; i++) {
+            // Overwrite some keys and add some new ones
+            if (i % 2 == 0) {
+                changed[i] = "document" + i;
+            } else {
+                changed[i] = "dialog" + i;
+            }
+        }
+    }
+
+    /**
+     * Unsubscribes the containers.
+     */
+    @TearDown
+    public void tearDown() {
+        map.close();
+        set.close();
+        collection.close();
+    }
+
+    /**
+     * Visits a dialog that defines some entries of the scoped map.
+     * @return value of the first entry after the transition
+     */
+    @Benchmark
+    public String mapTransition() {
+        map.enterScope(Scope.DOCUMENT, Scope.DIALOG);
+        for (String key : changed) {
+            map.put(key, "dialog");
+        }
+        map.exitScope(Scope.DIALOG, Scope.DOCUMENT);
+        return map.get(changed[0]);
+    }
+
+    /**
+     * Visits a dialog that adds some elements to the scoped set.
+     * @return size of the set after the transition
+     */
+    @Benchmark
+    public int setTransition() {
+        set.enterScope(Scope.DOCUMENT, Scope.DIALOG);
+        for (String key : changed) {
+            set.add(key);
+        }
+        set.exitScope(Scope.DIALOG, Scope.DOCUMENT);
+        return set.size();
+    }
+
+    /**
+     * Visits a dialog that adds some elements to the scoped collection.
+     * @return size of the collection after the transition
+     */
+    @Benchmark
+    public int collectionTransition() {
+        collection.enterScope(Scope.DOCUMENT, Scope.DIALOG);
+        for (String key : changed) {
+            collection.add(key);
+        }
+        collection.exitScope(Scope.DIALOG, Scope.DOCUMENT);
+        return collection.size();
+    }
+}
@@ -3,7 +3,7 @@
     version="2.0">
     <xsl:preserve-space elements="*" />
     <xsl:output method="xml" indent="yes"/>
-    <xsl:template match="Root">
+    <xsl:template match="Root|AsyncRoot">
         <xsl:copy>
             <!-- Keep current settings -->
             <xsl:apply-templates />
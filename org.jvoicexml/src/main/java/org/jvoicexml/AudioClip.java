@@ -0,0 +1,119 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Decoded PCM audio that can be shared by all calls.
+ * <p>
+ * The audio is held in a read-only buffer that is not copied when a clip is
+ * played. Each call to {@link #getBuffer()} returns an independent view, so
+ * that any number of outputs may play the same clip at the same time.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class AudioClip {
+    /** Size of the chunks when writing a direct buffer. */
+    private static final int CHUNK_SIZE = 8192;
+
+    /** The format of the audio. */
+    private final AudioFormat format;
+
+    /** The audio data. */
+    private final ByteBuffer audio;
+
+    /**
+     * Constructs a new object.
+     * @param audioFormat the PCM format of the audio
+     * @param data the audio data, the clip keeps a read-only view from
+     *          the position to the limit of the buffer
+     */
+    public AudioClip(final AudioFormat audioFormat, final ByteBuffer data) {
+        format = audioFormat;
+        audio = data.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Retrieves the format of the audio.
+     * @return format of the audio
+     */
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Retrieves a read-only view of the audio data.
+     * @return view of the audio data with its own position and limit
+     */
+    public ByteBuffer getBuffer() {
+        return audio.duplicate();
+    }
+
+    /**
+     * Retrieves the size of the audio data.
+     * @return size in bytes
+     */
+    public int size() {
+        return audio.capacity();
+    }
+
+    /**
+     * Retrieves the length of the audio.
+     * @return number of frames
+     */
+    public long getFrameLength() {
+        return audio.capacity() / format.getFrameSize();
+    }
+
+    /**
+     * Writes the audio to the given stream.
+     * @param out the stream to write to
+     * @throws IOException
+     *          error writing
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        final ByteBuffer buffer = getBuffer();
+        final byte[] chunk = new byte[Math.min(CHUNK_SIZE, buffer.remaining())];
+        while (buffer.hasRemaining()) {
+            final int len = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, len);
+            out.write(chunk, 0, len);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return AudioClip.class.getSimpleName() + "[" + format + ", "
+                + size() + " bytes]";
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+
+/**
+ * A recording that is stored while it is still in progress.
+ * <p>
+ * Audio written to the output stream of the recording is stored
+ * immediately. Once the recording is completed, it can be retrieved from the
+ * returned URI. Audio that is written after the completion is ignored.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface AudioRecording {
+    /**
+     * Retrieves the stream to write the recorded audio to.
+     * @return the output stream
+     */
+    OutputStream getOutputStream();
+
+    /**
+     * Completes the recording.
+     * @return URI of the stored recording
+     * @throws IOException
+     *          error storing the recording
+     */
+    URI complete() throws IOException;
+}
@@ -25,6 +25,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 
 import javax.activation.MimeType;
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 
 import org.jvoicexml.event.error.BadFetchError;
@@ -137,6 +138,26 @@ public interface DocumentServer {
     AudioInputStream getAudioInputStream(final SessionIdentifier sessionId,
             final URI uri) throws BadFetchError;
 
+    /**
+     * Retrieves the decoded audio of the audio file with the given
+     * <code>URI</code>. Frequently played audio may be shared by all
+     * sessions. Audio that is not kept decoded, e.g. because it is too
+     * large, has to be streamed via
+     * {@link #getAudioInputStream(SessionIdentifier, URI)}.
+     *
+     * @param sessionId
+     *            the Id of the current JVoiceXML session
+     * @param uri
+     *            URI of the audio file.
+     * @return decoded audio of the audio file, <code>null</code> if the
+     *         audio has to be streamed
+     * @exception BadFetchError
+     *                Error retrieving or decoding the audio file.
+     * @since 0.7.9
+     */
+    AudioClip getAudioClip(final SessionIdentifier sessionId, final URI uri)
+            throws BadFetchError;
+
     /**
      * Retrieves an object of the given type from the given URI.
      * 
@@ -164,6 +185,21 @@ public interface DocumentServer {
      */
     URI storeAudio(final AudioInputStream in) throws BadFetchError;
 
+    /**
+     * Creates a recording that is stored while it is still in progress.
+     * 
+     * @param format
+     *            format of the audio to record
+     * @return the recording, <code>null</code> if audio in the given format
+     *         cannot be recorded this way. In this case, the audio must be
+     *         stored via {@link #storeAudio(AudioInputStream)}.
+     * @throws org.jvoicexml.event.error.BadFetchError
+     *             Error creating the recording.
+     * @since 0.7.9
+     */
+    AudioRecording createRecording(final AudioFormat format)
+            throws BadFetchError;
+
     /**
      * Notification that the given session is closed. Now the document server
      * may free any resources related to the given session.
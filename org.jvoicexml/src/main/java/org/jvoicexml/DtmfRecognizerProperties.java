@@ -107,8 +107,13 @@ public class DtmfRecognizerProperties {
             setTermtimeout(propTermtimeout);
         }
         final String propTermchar = props.get(PROPERTY_TERM_CHAR);
-        if ((propTermchar != null) && !propTermchar.isEmpty()) {
-            termchar = propTermchar.charAt(0);
+        if (propTermchar != null) {
+            if (propTermchar.isEmpty()) {
+                // An empty termchar disables the terminating character
+                termchar = 0;
+            } else {
+                termchar = propTermchar.charAt(0);
+            }
         }
         setEnhancedProperties(props);
     }
@@ -36,6 +36,7 @@ import java.util.ServiceLoader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jvoicexml.event.ErrorEvent;
+import org.jvoicexml.event.JVoiceXMLEvent;
 import org.jvoicexml.event.error.NoresourceError;
 import org.jvoicexml.interpreter.GrammarProcessor;
 import org.jvoicexml.profile.Profile;
@@ -66,6 +67,12 @@ public final class JVoiceXmlMain extends Thread implements JVoiceXmlCore {
     private static final Logger LOGGER = LogManager
             .getLogger(JVoiceXmlMain.class);
 
+    /**
+     * Default number of startup phases to run in parallel. This is the
+     * number of phases without any dependencies.
+     */
+    private static final int DEFAULT_STARTUP_THREADS = 4;
+
     /** Semaphore to handle the shutdown notification. */
     private final Object shutdownSemaphore;
 
@@ -102,6 +109,9 @@ public final class JVoiceXmlMain extends Thread implements JVoiceXmlCore {
     /** The state of the interpreter. */
     private InterpreterState state;
 
+    /** Maximal number of startup phases to run in parallel. */
+    private int startupThreads;
+
     /**
      * Construct a new object.
      */
@@ -126,6 +136,7 @@ public final class JVoiceXmlMain extends Thread implements JVoiceXmlCore {
         listeners = new java.util.ArrayList<JVoiceXmlMainListener>();
         profiles = new java.util.HashMap<String, Profile>();
         state = InterpreterState.STARTED;
+        startupThreads = DEFAULT_STARTUP_THREADS;
         LOGGER.info("interpreter state " + state);
     }
 
@@ -345,6 +356,21 @@ public final class JVoiceXmlMain extends Thread implements JVoiceXmlCore {
         grammarProcessor = processor;
     }
 
+    /**
+     * Sets the maximal number of independent startup phases, e.g. the
+     * document server and the implementation platform, that are
+     * initialized in parallel. Defaults to
+     * {@value #DEFAULT_STARTUP_THREADS}.
+     * 
+     * @param threads
+     *            maximal number of parallel phases, <code>1</code> to
+     *            initialize one after the other
+     * @since 0.7.9
+     */
+    public void setStartupThreads(final int threads) {
+        startupThreads = threads;
+    }
+
     /**
      * Set the call managers to use.
      * 
@@ -393,28 +419,55 @@ public final class JVoiceXmlMain extends Thread implements JVoiceXmlCore {
         shutdownWaiter = new ShutdownWaiter(this);
         addShutdownHook();
 
-        try {
-            // Load configuration
-            initDocumentServer(config);
-            implementationPlatformFactory = configuration
-                    .loadObject(ImplementationPlatformFactory.class);
-            if (implementationPlatformFactory == null) {
-                final Exception exception = new ConfigurationException(
-                        "no implementation factory available");
-                abortStartup(exception);
+        // Load configuration. Call managers and JNDI accept calls, so they
+        // are started once everything else is available.
+        final StartupOrchestrator orchestrator =
+                new StartupOrchestrator(startupThreads);
+        orchestrator.addPhase("document server",
+                new StartupOrchestrator.Phase() {
+                    @Override
+                    public void execute() throws Exception, NoresourceError {
+                        initDocumentServer(config);
+                    }
+                });
+        orchestrator.addPhase("implementation platform",
+                new StartupOrchestrator.Phase() {
+                    @Override
+                    public void execute() throws Exception {
+                        initImplementationPlatformFactory(config);
+                    }
+                });
+        orchestrator.addPhase("grammar processor",
+                new StartupOrchestrator.Phase() {
+                    @Override
+                    public void execute() throws Exception {
+                        initGrammarProcessor(config);
+                    }
+                });
+        orchestrator.addPhase("profiles", new StartupOrchestrator.Phase() {
+            @Override
+            public void execute() throws Exception, NoresourceError {
+                initProfiles(config);
             }
-            implementationPlatformFactory.init(config);
-            grammarProcessor = config.loadObject(GrammarProcessor.class);
-            if (grammarProcessor == null) {
-                final Exception exception = new ConfigurationException(
-                        "no grammar processor available");
-                abortStartup(exception);
+        });
+        orchestrator.addPhase("call managers",
+                new StartupOrchestrator.Phase() {
+                    @Override
+                    public void execute() throws Exception, NoresourceError {
+                        initCallManager(config);
+                    }
+                }, "document server", "implementation platform",
+                "grammar processor", "profiles");
+        orchestrator.addPhase("jndi", new StartupOrchestrator.Phase() {
+            @Override
+            public void execute() throws Exception {
+                initJndi(config);
             }
-            grammarProcessor.init(config);
-            initCallManager(config);
-            initProfiles(config);
-            initJndi(config);
-        } catch (Exception | NoresourceError e) {
+        }, "document server", "implementation platform",
+                "grammar processor", "profiles");
+        try {
+            orchestrator.run();
+        } catch (Exception | JVoiceXMLEvent e) {
             abortStartup(e);
             return;
         }
@@ -455,9 +508,7 @@ public final class JVoiceXmlMain extends Thread implements JVoiceXmlCore {
             throws NoresourceError, Exception {
         documentServer = config.loadObject(DocumentServer.class);
         if (documentServer == null) {
-            final Exception exception = new ConfigurationException(
-                    "no document server available");
-            abortStartup(exception);
+            throw new ConfigurationException("no document server available");
         }
         if (documentServer instanceof Configurable) {
             final Configurable configurable = (Configurable) documentServer;
@@ -466,6 +517,45 @@ public final class JVoiceXmlMain extends Thread implements JVoiceXmlCore {
         documentServer.start();
     }
     
+    /**
+     * Initializes the implementation platform factory.
+     * 
+     * @param config
+     *            current configuration.
+     * @exception ConfigurationException
+     *                error loading the configuration
+     * @since 0.7.9
+     */
+    private void initImplementationPlatformFactory(final Configuration config)
+            throws ConfigurationException {
+        implementationPlatformFactory = config
+                .loadObject(ImplementationPlatformFactory.class);
+        if (implementationPlatformFactory == null) {
+            throw new ConfigurationException(
+                    "no implementation factory available");
+        }
+        implementationPlatformFactory.init(config);
+    }
+
+    /**
+     * Initializes the grammar processor.
+     * 
+     * @param config
+     *            current configuration.
+     * @exception ConfigurationException
+     *                error loading the configuration
+     * @since 0.7.9
+     */
+    private void initGrammarProcessor(final Configuration config)
+            throws ConfigurationException {
+        grammarProcessor = config.loadObject(GrammarProcessor.class);
+        if (grammarProcessor == null) {
+            throw new ConfigurationException(
+                    "no grammar processor available");
+        }
+        grammarProcessor.init(config);
+    }
+
     /**
      * Initialization of the JNDI hook.
      * 
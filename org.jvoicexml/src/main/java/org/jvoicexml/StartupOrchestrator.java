@@ -0,0 +1,322 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.event.JVoiceXMLEvent;
+
+/**
+ * Runs the phases of the startup of JVoiceXML.
+ * <p>
+ * Each phase names the phases it depends on. A phase is started as soon as
+ * all of its dependencies have been completed, so that independent phases
+ * run in parallel. Dependencies must be added before the phases that depend
+ * on them, which keeps the dependency graph free of cycles.
+ * </p>
+ * <p>
+ * The duration of each phase is recorded and logged once all phases are
+ * completed.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class StartupOrchestrator {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(StartupOrchestrator.class);
+
+    /**
+     * A single phase of the startup.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    interface Phase {
+        /**
+         * Executes this phase.
+         * @throws Exception
+         *          error executing this phase
+         * @throws JVoiceXMLEvent
+         *          error executing this phase
+         */
+        void execute() throws Exception, JVoiceXMLEvent;
+    }
+
+    /** Known phases by their name in the order they were added. */
+    private final Map<String, PhaseState> phases;
+
+    /** Maximal number of phases to run in parallel. */
+    private final int threads;
+
+    /** Executor for the phases. */
+    private ExecutorService executor;
+
+    /** Number of phases that are not completed. */
+    private int pending;
+
+    /** The first error of a phase. */
+    private Throwable error;
+
+    /** Time stamp of the start in nano seconds. */
+    private long start;
+
+    /** Duration of the startup in nano seconds. */
+    private long duration;
+
+    /**
+     * Constructs a new object.
+     * @param parallelism maximal number of phases to run in parallel
+     */
+    StartupOrchestrator(final int parallelism) {
+        phases = new java.util.LinkedHashMap<String, PhaseState>();
+        threads = Math.max(parallelism, 1);
+    }
+
+    /**
+     * Adds a phase.
+     * @param name name of the phase
+     * @param phase the phase
+     * @param dependencies names of phases that must be completed before
+     *          the phase is started
+     */
+    void addPhase(final String name, final Phase phase,
+            final String... dependencies) {
+        if (phases.containsKey(name)) {
+            throw new IllegalArgumentException("duplicate phase '" + name
+                    + "'");
+        }
+        final PhaseState state = new PhaseState(name, phase);
+        for (String dependency : dependencies) {
+            final PhaseState required = phases.get(dependency);
+            if (required == null) {
+                throw new IllegalArgumentException("phase '" + name
+                        + "' depends on unknown phase '" + dependency + "'");
+            }
+            required.dependents.add(state);
+            ++state.missing;
+        }
+        phases.put(name, state);
+    }
+
+    /**
+     * Runs all phases and waits until they are completed. If a phase fails,
+     * no further phases are started.
+     * @throws Exception
+     *          error executing a phase
+     * @throws JVoiceXMLEvent
+     *          error executing a phase
+     * @throws InterruptedException
+     *          interrupted while waiting for the phases
+     */
+    void run() throws Exception, JVoiceXMLEvent, InterruptedException {
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private int number;
+
+            @Override
+            public synchronized Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable,
+                        "JVoiceXmlStartupThread-" + ++number);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            synchronized (this) {
+                start = System.nanoTime();
+                pending = phases.size();
+                for (PhaseState state : phases.values()) {
+                    if (state.missing == 0) {
+                        submit(state);
+                    }
+                }
+                while (pending > 0 && error == null) {
+                    wait();
+                }
+                duration = System.nanoTime() - start;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (error == null) {
+            LOGGER.info(getReport());
+            return;
+        }
+        if (error instanceof Exception) {
+            throw (Exception) error;
+        } else if (error instanceof JVoiceXMLEvent) {
+            throw (JVoiceXMLEvent) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        }
+        throw new IllegalStateException(error);
+    }
+
+    /**
+     * Submits the given phase to the executor.
+     * @param state the phase
+     */
+    private void submit(final PhaseState state) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                execute(state);
+            }
+        });
+    }
+
+    /**
+     * Executes the given phase and starts the phases that depend on it.
+     * @param state the phase
+     */
+    private void execute(final PhaseState state) {
+        final long begin = System.nanoTime();
+        LOGGER.info("starting phase '" + state.name + "'");
+        try {
+            state.phase.execute();
+        } catch (Throwable e) {
+            LOGGER.error("phase '" + state.name + "' failed: "
+                    + e.getMessage());
+            synchronized (this) {
+                if (error == null) {
+                    error = e;
+                }
+                notifyAll();
+            }
+            return;
+        }
+        final long end = System.nanoTime();
+        synchronized (this) {
+            state.started = begin - start;
+            state.duration = end - begin;
+            state.completed = true;
+            LOGGER.info("completed phase '" + state.name + "' after "
+                    + toMillis(state.duration) + " msec");
+            --pending;
+            if (error == null) {
+                for (PhaseState dependent : state.dependents) {
+                    --dependent.missing;
+                    if (dependent.missing == 0) {
+                        submit(dependent);
+                    }
+                }
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Retrieves the duration of the given phase.
+     * @param name name of the phase
+     * @return duration in msec, <code>-1</code> if the phase has not been
+     *          completed
+     */
+    synchronized long getDuration(final String name) {
+        final PhaseState state = phases.get(name);
+        if (state == null || !state.completed) {
+            return -1;
+        }
+        return toMillis(state.duration);
+    }
+
+    /**
+     * Retrieves a breakdown of the durations of all phases.
+     * @return the breakdown
+     */
+    synchronized String getReport() {
+        final StringBuilder str = new StringBuilder();
+        str.append("startup completed after ");
+        str.append(toMillis(duration));
+        str.append(" msec:");
+        long total = 0;
+        final Collection<PhaseState> states = phases.values();
+        for (PhaseState state : states) {
+            str.append(System.lineSeparator());
+            str.append(String.format("- %-25s +%6d msec %6d msec", state.name,
+                    toMillis(state.started), toMillis(state.duration)));
+            total += state.duration;
+        }
+        str.append(System.lineSeparator());
+        str.append("sequential startup would have taken ");
+        str.append(toMillis(total));
+        str.append(" msec");
+        return str.toString();
+    }
+
+    /**
+     * Converts the given nano seconds into milli seconds.
+     * @param nanos nano seconds
+     * @return milli seconds
+     */
+    private static long toMillis(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * State of a single phase.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class PhaseState {
+        /** Name of the phase. */
+        private final String name;
+
+        /** The phase. */
+        private final Phase phase;
+
+        /** Phases that depend on this phase. */
+        private final Collection<PhaseState> dependents;
+
+        /** Number of dependencies that are not completed. */
+        private int missing;
+
+        /** <code>true</code> if the phase has been completed. */
+        private boolean completed;
+
+        /** Start relative to the startup in nano seconds. */
+        private long started;
+
+        /** Duration in nano seconds. */
+        private long duration;
+
+        /**
+         * Constructs a new object.
+         * @param phaseName name of the phase
+         * @param startupPhase the phase
+         */
+        PhaseState(final String phaseName, final Phase startupPhase) {
+            name = phaseName;
+            phase = startupPhase;
+            dependents = new java.util.ArrayList<PhaseState>();
+        }
+    }
+}
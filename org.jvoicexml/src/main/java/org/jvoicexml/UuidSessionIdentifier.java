@@ -68,7 +68,7 @@ public class UuidSessionIdentifier implements SessionIdentifier {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(uuid);
+        return uuid.hashCode();
     }
 
     /**
@@ -0,0 +1,324 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Creates {@link AudioInputStream}s for fetched audio without copying the
+ * audio data to the heap.
+ * <p>
+ * Local files are memory-mapped. The mapping is shared by all streams for
+ * the same file as long as the file does not change, so playing a large file
+ * in many calls does not multiply its memory footprint. Other streams are
+ * read as they arrive.
+ * </p>
+ * <p>
+ * Decoded WAV headers are cached so that the {@link AudioSystem} does not
+ * need to probe all of its file readers for each fetch. A cached header of a
+ * stream is only used if the stream starts with the same bytes.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class AudioCache {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(AudioCache.class);
+
+    /** Default maximal number of mapped files. */
+    private static final int DEFAULT_MAX_FILES = 64;
+
+    /** Default maximal number of cached headers of streams. */
+    private static final int DEFAULT_MAX_HEADERS = 256;
+
+    /** Mapped files by their URI. */
+    private final Map<URI, MappedAudio> files;
+
+    /** Decoded headers of streams by their URI. */
+    private final Map<URI, AudioHeader> headers;
+
+    /**
+     * Constructs a new object with default sizes.
+     */
+    public AudioCache() {
+        this(DEFAULT_MAX_FILES, DEFAULT_MAX_HEADERS);
+    }
+
+    /**
+     * Constructs a new object.
+     * @param maxFiles maximal number of mapped files
+     * @param maxHeaders maximal number of cached headers of streams
+     */
+    public AudioCache(final int maxFiles, final int maxHeaders) {
+        files = new LruMap<URI, MappedAudio>(maxFiles);
+        headers = new LruMap<URI, AudioHeader>(maxHeaders);
+    }
+
+    /**
+     * Creates an audio stream for the given file that has been opened for
+     * the given URI. The file is memory-mapped and closed.
+     * @param uri the URI of the file
+     * @param input the opened file
+     * @return the audio stream
+     * @throws IOException
+     *          error mapping the file
+     * @throws UnsupportedAudioFileException
+     *          the file does not contain audio in a known format
+     */
+    public AudioInputStream getAudioInputStream(final URI uri,
+            final FileInputStream input)
+            throws IOException, UnsupportedAudioFileException {
+        final MappedAudio audio;
+        try {
+            audio = getMappedAudio(uri, input.getChannel());
+        } finally {
+            input.close();
+        }
+        final ByteBuffer buffer = audio.buffer.duplicate();
+        final AudioHeader header = audio.header;
+        if (header == null) {
+            return AudioSystem.getAudioInputStream(
+                    new ByteBufferInputStream(buffer));
+        }
+        buffer.position(header.getSize());
+        final long dataSize = header.getDataSize();
+        if (dataSize >= 0 && dataSize < buffer.remaining()) {
+            buffer.limit(header.getSize() + (int) dataSize);
+        }
+        return new AudioInputStream(new ByteBufferInputStream(buffer),
+                header.getFormat(), header.getFrameLength());
+    }
+
+    /**
+     * Retrieves the mapped audio for the given file. The file is mapped if
+     * it is not mapped yet or if it has changed.
+     * @param uri the URI of the file
+     * @param channel the channel of the opened file
+     * @return the mapped audio
+     * @throws IOException
+     *          error mapping the file
+     */
+    private MappedAudio getMappedAudio(final URI uri,
+            final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final long lastModified = getLastModified(uri);
+        synchronized (files) {
+            final MappedAudio audio = files.get(uri);
+            if (audio != null && audio.size == size
+                    && audio.lastModified == lastModified) {
+                return audio;
+            }
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("'" + uri + "' is too large to be mapped");
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("mapping '" + uri + "' (" + size + " bytes)");
+        }
+        final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                0, size);
+        final AudioHeader header = AudioHeader.read(
+                new ByteBufferInputStream(buffer.duplicate()),
+                new ByteArrayOutputStream());
+        final MappedAudio audio = new MappedAudio(buffer, header, size,
+                lastModified);
+        synchronized (files) {
+            files.put(uri, audio);
+        }
+        return audio;
+    }
+
+    /**
+     * Retrieves the time of the last modification of a local file.
+     * @param uri the URI of the file
+     * @return time of the last modification, <code>0</code> if not known
+     */
+    private static long getLastModified(final URI uri) {
+        final String path = uri.getPath();
+        if (path == null) {
+            return 0;
+        }
+        return new File(path).lastModified();
+    }
+
+    /**
+     * Creates an audio stream for the given stream that has been opened for
+     * the given URI. The audio data is read from the stream as it arrives.
+     * @param uri the URI of the stream
+     * @param input the opened stream
+     * @return the audio stream
+     * @throws IOException
+     *          error reading the stream
+     * @throws UnsupportedAudioFileException
+     *          the stream does not contain audio in a known format
+     */
+    public AudioInputStream getAudioInputStream(final URI uri,
+            final InputStream input)
+            throws IOException, UnsupportedAudioFileException {
+        final AudioHeader cached;
+        synchronized (headers) {
+            cached = headers.get(uri);
+        }
+        final ByteArrayOutputStream consumed = new ByteArrayOutputStream();
+        final InputStream source;
+        if (cached == null) {
+            source = input;
+        } else {
+            final byte[] bytes = new byte[cached.getSize()];
+            int offset = 0;
+            int num = 0;
+            while (offset < bytes.length && num >= 0) {
+                num = input.read(bytes, offset, bytes.length - offset);
+                if (num > 0) {
+                    offset += num;
+                }
+            }
+            if (offset == bytes.length && cached.matches(bytes)) {
+                return new AudioInputStream(input, cached.getFormat(),
+                        cached.getFrameLength());
+            }
+            source = new SequenceInputStream(
+                    new ByteArrayInputStream(bytes, 0, offset), input);
+        }
+        final AudioHeader header = AudioHeader.read(source, consumed);
+        if (header == null) {
+            // Some InputStreams do not support mark/reset which is required
+            // by the AudioSystem. So we use a BufferedInputStream that
+            // guarantees these features.
+            final InputStream replay = new SequenceInputStream(
+                    new ByteArrayInputStream(consumed.toByteArray()), source);
+            final BufferedInputStream buf = new BufferedInputStream(replay);
+            return AudioSystem.getAudioInputStream(buf);
+        }
+        synchronized (headers) {
+            headers.put(uri, header);
+        }
+        return new AudioInputStream(source, header.getFormat(),
+                header.getFrameLength());
+    }
+
+    /**
+     * Removes all mapped files and cached headers.
+     */
+    public void clear() {
+        synchronized (files) {
+            files.clear();
+        }
+        synchronized (headers) {
+            headers.clear();
+        }
+    }
+
+    /**
+     * A memory-mapped file.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class MappedAudio {
+        /** The mapped contents of the file. */
+        private final ByteBuffer buffer;
+
+        /** The decoded header, <code>null</code> if not decoded. */
+        private final AudioHeader header;
+
+        /** Size of the file when it was mapped. */
+        private final long size;
+
+        /** Time of the last modification when the file was mapped. */
+        private final long lastModified;
+
+        /**
+         * Constructs a new object.
+         * @param mapped the mapped contents of the file
+         * @param decoded the decoded header, maybe <code>null</code>
+         * @param fileSize size of the file
+         * @param modified time of the last modification
+         */
+        MappedAudio(final ByteBuffer mapped, final AudioHeader decoded,
+                final long fileSize, final long modified) {
+            buffer = mapped;
+            header = decoded;
+            size = fileSize;
+            lastModified = modified;
+        }
+    }
+
+    /**
+     * A map that evicts its least recently used entry when it grows beyond
+     * its capacity.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class LruMap<K, V>
+            extends java.util.LinkedHashMap<K, V> {
+        /** The serial version UID. */
+        private static final long serialVersionUID = 1L;
+
+        /** Maximal number of entries. */
+        private final int capacity;
+
+        /**
+         * Constructs a new object.
+         * @param max maximal number of entries
+         */
+        LruMap(final int max) {
+            super(16, 0.75f, true);
+            capacity = max;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
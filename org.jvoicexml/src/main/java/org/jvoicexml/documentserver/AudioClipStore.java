@@ -0,0 +1,413 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.AudioClip;
+
+/**
+ * A store of decoded {@link AudioClip}s for frequently played audio.
+ * <p>
+ * Clips are decoded to PCM once and kept in direct buffers outside of the
+ * heap. The total size of all clips is bounded. If a new clip does not fit,
+ * the least recently played clips are evicted.
+ * </p>
+ * <p>
+ * Each clip is stored with a validator of the version of the audio it has
+ * been decoded from, e.g. the time of the last modification or the entity
+ * tag. A clip is only returned for the same validator. Otherwise the audio
+ * has changed and the clip is dropped. Validating may be expensive, e.g. a
+ * <code>HEAD</code> request for HTTP resources. Therefore, a clip that has
+ * been validated within the freshness period is returned by
+ * {@link #getFresh(URI)} without validating it again.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class AudioClipStore {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(AudioClipStore.class);
+
+    /** Size of the read buffer when decoding. */
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /** Sample size of decoded A-law and &mu;-law audio. */
+    private static final int DECODED_SAMPLE_SIZE = 16;
+
+    /** Default number of msecs a clip is used without revalidation. */
+    public static final long DEFAULT_FRESHNESS = 60000;
+
+    /** Maximal size of all clips in bytes. */
+    private final long maxSize;
+
+    /** The clips by their URI in access order. */
+    private final Map<URI, StoredClip> clips;
+
+    /** Number of msecs a clip is used without revalidation. */
+    private long freshness;
+
+    /** Size of all clips in bytes. */
+    private long size;
+
+    /** Number of lookups that found a clip. */
+    private long hits;
+
+    /** Number of lookups that did not find a clip. */
+    private long misses;
+
+    /**
+     * Constructs a new object.
+     * @param bytes maximal size of all clips in bytes
+     */
+    public AudioClipStore(final long bytes) {
+        maxSize = bytes;
+        clips = new java.util.LinkedHashMap<URI, StoredClip>(16, 0.75f,
+                true);
+        freshness = DEFAULT_FRESHNESS;
+    }
+
+    /**
+     * Sets the number of msecs a clip is used without revalidation.
+     * @param msec freshness period in msec, <code>0</code> to validate
+     *          each time a clip is requested
+     */
+    public synchronized void setFreshness(final long msec) {
+        freshness = msec;
+    }
+
+    /**
+     * Retrieves the number of msecs a clip is used without revalidation.
+     * @return freshness period in msec
+     */
+    public synchronized long getFreshness() {
+        return freshness;
+    }
+
+    /**
+     * Retrieves the clip for the given URI if it has been validated within
+     * the freshness period.
+     * @param uri the URI of the audio
+     * @return the clip, <code>null</code> if it is not in the store or has
+     *          to be validated
+     */
+    public synchronized AudioClip getFresh(final URI uri) {
+        final StoredClip stored = clips.get(uri);
+        if (stored == null) {
+            return null;
+        }
+        final long age = System.nanoTime() - stored.validated;
+        if (age >= TimeUnit.MILLISECONDS.toNanos(freshness)) {
+            return null;
+        }
+        ++hits;
+        return stored.clip;
+    }
+
+    /**
+     * Retrieves the clip for the given URI. A clip that has been stored with
+     * a different validator is outdated and removed. Otherwise the clip is
+     * fresh for another freshness period.
+     * @param uri the URI of the audio
+     * @param validator validator of the current version of the audio,
+     *          maybe <code>null</code>
+     * @return the clip, <code>null</code> if it is not in the store
+     */
+    public synchronized AudioClip get(final URI uri, final String validator) {
+        final StoredClip stored = clips.get(uri);
+        if (stored == null) {
+            ++misses;
+            return null;
+        }
+        if (!Objects.equals(stored.validator, validator)) {
+            LOGGER.debug("'{}' has changed", uri);
+            clips.remove(uri);
+            size -= stored.clip.size();
+            ++misses;
+            return null;
+        }
+        stored.validated = System.nanoTime();
+        ++hits;
+        return stored.clip;
+    }
+
+    /**
+     * Checks if the given audio fits into the store once it is decoded.
+     * Audio of unknown length is considered not to fit.
+     * @param input the audio to check
+     * @return <code>true</code> if the decoded audio fits into the store
+     */
+    public boolean fits(final AudioInputStream input) {
+        final long frames = input.getFrameLength();
+        if (frames == AudioSystem.NOT_SPECIFIED) {
+            return false;
+        }
+        final AudioFormat format = input.getFormat();
+        final long frameSize;
+        if (isPcm(format.getEncoding())) {
+            frameSize = format.getFrameSize();
+        } else {
+            frameSize = format.getChannels() * DECODED_SAMPLE_SIZE / 8;
+        }
+        return frameSize > 0 && frames * frameSize <= maxSize;
+    }
+
+    /**
+     * Decodes the given audio and adds it to the store. The clip is not
+     * stored if it is larger than the store.
+     * @param uri the URI of the audio
+     * @param validator validator of the version of the audio, maybe
+     *          <code>null</code>
+     * @param input the audio to decode, the stream is closed
+     * @return the decoded clip
+     * @throws IOException
+     *          error reading the audio
+     */
+    public AudioClip put(final URI uri, final String validator,
+            final AudioInputStream input) throws IOException {
+        final AudioClip clip = decode(input);
+        final int clipSize = clip.size();
+        if (clipSize > maxSize) {
+            LOGGER.warn("'" + uri + "' with " + clipSize
+                    + " bytes exceeds the clip store");
+            return clip;
+        }
+        synchronized (this) {
+            final StoredClip previous = clips.remove(uri);
+            if (previous != null) {
+                size -= previous.clip.size();
+            }
+            final Iterator<StoredClip> iterator = clips.values().iterator();
+            while (size + clipSize > maxSize && iterator.hasNext()) {
+                final StoredClip evicted = iterator.next();
+                size -= evicted.clip.size();
+                iterator.remove();
+            }
+            clips.put(uri, new StoredClip(clip, validator));
+            size += clipSize;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("stored '" + uri + "' as " + clip);
+        }
+        return clip;
+    }
+
+    /**
+     * Checks if the given encoding is a PCM encoding.
+     * @param encoding the encoding to check
+     * @return <code>true</code> if the encoding is PCM
+     */
+    private static boolean isPcm(final AudioFormat.Encoding encoding) {
+        return AudioFormat.Encoding.PCM_SIGNED.equals(encoding)
+                || AudioFormat.Encoding.PCM_UNSIGNED.equals(encoding)
+                || AudioFormat.Encoding.PCM_FLOAT.equals(encoding);
+    }
+
+    /**
+     * Converts the given audio to PCM while it is read. A-law and &mu;-law
+     * are converted to 16 bit signed PCM. PCM audio is returned as is.
+     * @param input the audio to convert
+     * @return the audio as PCM
+     * @throws IOException
+     *          the audio cannot be converted, the stream is closed
+     */
+    public static AudioInputStream toPcm(final AudioInputStream input)
+            throws IOException {
+        final AudioFormat format = input.getFormat();
+        if (isPcm(format.getEncoding())) {
+            return input;
+        }
+        final int channels = format.getChannels();
+        final AudioFormat target = new AudioFormat(
+                AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(),
+                DECODED_SAMPLE_SIZE, channels,
+                channels * DECODED_SAMPLE_SIZE / 8,
+                format.getSampleRate(), false);
+        try {
+            return AudioSystem.getAudioInputStream(target, input);
+        } catch (IllegalArgumentException e) {
+            input.close();
+            throw new IOException("unable to decode " + format, e);
+        }
+    }
+
+    /**
+     * Decodes the given audio to PCM. A-law and &mu;-law are converted to
+     * 16 bit signed PCM.
+     * @param input the audio to decode, the stream is closed
+     * @return the decoded clip
+     * @throws IOException
+     *          error reading the audio
+     */
+    public static AudioClip decode(final AudioInputStream input)
+            throws IOException {
+        final AudioInputStream pcm = toPcm(input);
+        try {
+            final ByteBuffer buffer = readAll(pcm);
+            return new AudioClip(pcm.getFormat(), buffer);
+        } finally {
+            pcm.close();
+        }
+    }
+
+    /**
+     * Reads the given audio into a direct buffer.
+     * @param input the audio to read
+     * @return buffer with the audio data
+     * @throws IOException
+     *          error reading the audio
+     */
+    private static ByteBuffer readAll(final AudioInputStream input)
+            throws IOException {
+        final byte[] chunk = new byte[READ_BUFFER_SIZE];
+        final long frames = input.getFrameLength();
+        final int frameSize = input.getFormat().getFrameSize();
+        if (frames != AudioSystem.NOT_SPECIFIED && frameSize > 0
+                && frames * frameSize <= Integer.MAX_VALUE) {
+            final ByteBuffer buffer =
+                    ByteBuffer.allocateDirect((int) (frames * frameSize));
+            int num = input.read(chunk);
+            while (num >= 0 && buffer.hasRemaining()) {
+                buffer.put(chunk, 0, Math.min(num, buffer.remaining()));
+                num = input.read(chunk);
+            }
+            buffer.flip();
+            return buffer;
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int num = input.read(chunk);
+        while (num >= 0) {
+            out.write(chunk, 0, num);
+            num = input.read(chunk);
+        }
+        final byte[] bytes = out.toByteArray();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Removes all clips.
+     */
+    public synchronized void clear() {
+        clips.clear();
+        size = 0;
+    }
+
+    /**
+     * Retrieves the maximal size of all clips.
+     * @return maximal size in bytes
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Retrieves the number of stored clips.
+     * @return number of clips
+     */
+    public synchronized int getCount() {
+        return clips.size();
+    }
+
+    /**
+     * Retrieves the size of all stored clips.
+     * @return size in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Retrieves the number of lookups that found a clip.
+     * @return number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of lookups that did not find a clip.
+     * @return number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return AudioClipStore.class.getSimpleName() + "[" + clips.size()
+                + " clips, " + size + "/" + maxSize + " bytes, " + hits
+                + " hits, " + misses + " misses]";
+    }
+
+    /**
+     * A clip with the validator of the audio it has been decoded from.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class StoredClip {
+        /** The decoded clip. */
+        private final AudioClip clip;
+
+        /** Validator of the audio, maybe <code>null</code>. */
+        private final String validator;
+
+        /** Time of the last validation in nsec. */
+        private long validated;
+
+        /**
+         * Constructs a new object.
+         * @param decoded the decoded clip
+         * @param version validator of the audio
+         */
+        StoredClip(final AudioClip decoded, final String version) {
+            clip = decoded;
+            validator = version;
+            validated = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+
+/**
+ * The decoded header of a WAV file.
+ * <p>
+ * Only the encodings that can be played without a conversion are decoded,
+ * i.e. PCM, IEEE float, A-law and &mu;-law. Other files are left to the
+ * {@link AudioSystem}.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class AudioHeader {
+    /** Maximal size of a chunk that is skipped before the audio data. */
+    private static final int MAX_SKIPPED_CHUNK = 65536;
+
+    /** Size of the RIFF header. */
+    private static final int RIFF_HEADER_SIZE = 12;
+
+    /** Size of a chunk header. */
+    private static final int CHUNK_HEADER_SIZE = 8;
+
+    /** Minimal size of the format chunk. */
+    private static final int MIN_FORMAT_SIZE = 16;
+
+    /** Format tag of PCM. */
+    private static final int WAVE_FORMAT_PCM = 1;
+
+    /** Format tag of IEEE float. */
+    private static final int WAVE_FORMAT_IEEE_FLOAT = 3;
+
+    /** Format tag of A-law. */
+    private static final int WAVE_FORMAT_ALAW = 6;
+
+    /** Format tag of &mu;-law. */
+    private static final int WAVE_FORMAT_MULAW = 7;
+
+    /** Size of the data chunk if it is not known while writing. */
+    private static final long UNKNOWN_SIZE = 0xffffffffL;
+
+    /** The raw bytes of the header. */
+    private final byte[] raw;
+
+    /** The format of the audio data. */
+    private final AudioFormat format;
+
+    /** Size of the audio data in bytes, <code>-1</code> if not known. */
+    private final long dataSize;
+
+    /**
+     * Constructs a new object.
+     * @param bytes the raw bytes of the header
+     * @param audioFormat the format of the audio data
+     * @param size size of the audio data in bytes, <code>-1</code> if not
+     *          known
+     */
+    private AudioHeader(final byte[] bytes, final AudioFormat audioFormat,
+            final long size) {
+        raw = bytes;
+        format = audioFormat;
+        dataSize = size;
+    }
+
+    /**
+     * Reads the header of a WAV file up to the start of the audio data.
+     * @param input the stream to read from
+     * @param consumed all bytes that have been read from the stream
+     * @return the decoded header, <code>null</code> if the stream is no WAV
+     *          file or uses an encoding that is not supported
+     * @throws IOException
+     *          error reading
+     */
+    static AudioHeader read(final InputStream input,
+            final ByteArrayOutputStream consumed) throws IOException {
+        final byte[] riff = readFully(input, RIFF_HEADER_SIZE, consumed);
+        if (riff == null || !isId(riff, 0, "RIFF") || !isId(riff, 8, "WAVE")) {
+            return null;
+        }
+        AudioFormat format = null;
+        while (true) {
+            final byte[] chunk = readFully(input, CHUNK_HEADER_SIZE, consumed);
+            if (chunk == null) {
+                return null;
+            }
+            final long size = getInt(chunk, 4) & UNKNOWN_SIZE;
+            if (isId(chunk, 0, "data")) {
+                if (format == null) {
+                    return null;
+                }
+                final long dataSize;
+                if (size == UNKNOWN_SIZE || size == 0) {
+                    dataSize = -1;
+                } else {
+                    dataSize = size;
+                }
+                return new AudioHeader(consumed.toByteArray(), format,
+                        dataSize);
+            }
+            if (size > MAX_SKIPPED_CHUNK) {
+                return null;
+            }
+            // Chunks are padded to an even size
+            final int padded = (int) (size + (size & 1));
+            final byte[] body = readFully(input, padded, consumed);
+            if (body == null) {
+                return null;
+            }
+            if (isId(chunk, 0, "fmt ")) {
+                if (size < MIN_FORMAT_SIZE) {
+                    return null;
+                }
+                format = toFormat(body);
+                if (format == null) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes the format chunk.
+     * @param body the body of the format chunk
+     * @return the format, <code>null</code> if the encoding is not
+     *          supported
+     */
+    private static AudioFormat toFormat(final byte[] body) {
+        final int tag = getShort(body, 0);
+        final int channels = getShort(body, 2);
+        final float sampleRate = getInt(body, 4);
+        final int blockAlign = getShort(body, 12);
+        final int bits = getShort(body, 14);
+        final AudioFormat.Encoding encoding;
+        if (tag == WAVE_FORMAT_PCM) {
+            if (bits == 8) {
+                encoding = AudioFormat.Encoding.PCM_UNSIGNED;
+            } else {
+                encoding = AudioFormat.Encoding.PCM_SIGNED;
+            }
+        } else if (tag == WAVE_FORMAT_IEEE_FLOAT) {
+            encoding = AudioFormat.Encoding.PCM_FLOAT;
+        } else if (tag == WAVE_FORMAT_ALAW) {
+            encoding = AudioFormat.Encoding.ALAW;
+        } else if (tag == WAVE_FORMAT_MULAW) {
+            encoding = AudioFormat.Encoding.ULAW;
+        } else {
+            return null;
+        }
+        if (channels <= 0 || blockAlign <= 0) {
+            return null;
+        }
+        return new AudioFormat(encoding, sampleRate, bits, channels,
+                blockAlign, sampleRate, false);
+    }
+
+    /**
+     * Reads the given number of bytes.
+     * @param input the stream to read from
+     * @param len number of bytes to read
+     * @param consumed all bytes that have been read from the stream
+     * @return read bytes, <code>null</code> if the stream ended before
+     * @throws IOException
+     *          error reading
+     */
+    private static byte[] readFully(final InputStream input, final int len,
+            final ByteArrayOutputStream consumed) throws IOException {
+        final byte[] bytes = new byte[len];
+        int offset = 0;
+        while (offset < len) {
+            final int num = input.read(bytes, offset, len - offset);
+            if (num < 0) {
+                consumed.write(bytes, 0, offset);
+                return null;
+            }
+            offset += num;
+        }
+        consumed.write(bytes, 0, len);
+        return bytes;
+    }
+
+    /**
+     * Checks if the given bytes contain the given chunk identifier.
+     * @param bytes the bytes to check
+     * @param offset offset of the identifier
+     * @param id the identifier
+     * @return <code>true</code> if the identifier matches
+     */
+    private static boolean isId(final byte[] bytes, final int offset,
+            final String id) {
+        for (int i = 0; i < id.length(); i++) {
+            if (bytes[offset + i] != id.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes a little endian 16 bit value.
+     * @param bytes the bytes to decode
+     * @param offset the offset of the value
+     * @return decoded value
+     */
+    private static int getShort(final byte[] bytes, final int offset) {
+        return (bytes[offset] & 0xff) | ((bytes[offset + 1] & 0xff) << 8);
+    }
+
+    /**
+     * Decodes a little endian 32 bit value.
+     * @param bytes the bytes to decode
+     * @param offset the offset of the value
+     * @return decoded value
+     */
+    private static int getInt(final byte[] bytes, final int offset) {
+        return getShort(bytes, offset) | (getShort(bytes, offset + 2) << 16);
+    }
+
+    /**
+     * Retrieves the size of the header, i.e. the offset of the audio data.
+     * @return size of the header in bytes
+     */
+    int getSize() {
+        return raw.length;
+    }
+
+    /**
+     * Checks if the given bytes are the raw bytes of this header.
+     * @param bytes the bytes to compare
+     * @return <code>true</code> if the bytes match
+     */
+    boolean matches(final byte[] bytes) {
+        return java.util.Arrays.equals(raw, bytes);
+    }
+
+    /**
+     * Retrieves the format of the audio data.
+     * @return format of the audio data
+     */
+    AudioFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Retrieves the size of the audio data.
+     * @return size in bytes, <code>-1</code> if not known
+     */
+    long getDataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Retrieves the length of the audio data in frames.
+     * @return number of frames, {@link AudioSystem#NOT_SPECIFIED} if not
+     *          known
+     */
+    long getFrameLength() {
+        if (dataSize < 0) {
+            return AudioSystem.NOT_SPECIFIED;
+        }
+        return dataSize / format.getFrameSize();
+    }
+}
@@ -21,18 +21,25 @@
 
 package org.jvoicexml.documentserver;
 
-import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import javax.activation.MimeType;
 import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.xml.parsers.DocumentBuilder;
@@ -41,6 +48,8 @@ import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jvoicexml.AudioClip;
+import org.jvoicexml.AudioRecording;
 import org.jvoicexml.Configurable;
 import org.jvoicexml.Configuration;
 import org.jvoicexml.ConfigurationException;
@@ -49,9 +58,16 @@ import org.jvoicexml.DocumentServer;
 import org.jvoicexml.FetchAttributes;
 import org.jvoicexml.GrammarDocument;
 import org.jvoicexml.SessionIdentifier;
+import org.jvoicexml.UuidSessionIdentifier;
 import org.jvoicexml.event.error.BadFetchError;
 import org.jvoicexml.event.error.UnsupportedElementError;
 import org.jvoicexml.interpreter.datamodel.KeyValuePair;
+import org.jvoicexml.metrics.Counter;
+import org.jvoicexml.metrics.Metrics;
+import org.jvoicexml.metrics.Timeline;
+import org.jvoicexml.metrics.TimelineEvent;
+import org.jvoicexml.metrics.Timelines;
+import org.jvoicexml.metrics.Timer;
 import org.jvoicexml.xml.vxml.RequestMethod;
 import org.jvoicexml.xml.vxml.VoiceXmlDocument;
 import org.jvoicexml.xml.vxml.Vxml;
@@ -75,6 +91,22 @@ public final class JVoiceXmlDocumentServer
     private static final Logger LOGGER = LogManager
             .getLogger(JVoiceXmlDocumentServer.class);
 
+    /** Time to open a document. */
+    private static final Timer FETCH_TIMER =
+            Metrics.timer("jvoicexml_document_fetch_seconds");
+
+    /** Time to parse a VoiceXML document. */
+    private static final Timer PARSE_TIMER =
+            Metrics.timer("jvoicexml_document_parse_seconds");
+
+    /** Time to retrieve an object. */
+    private static final Timer OBJECT_TIMER =
+            Metrics.timer("jvoicexml_object_fetch_seconds");
+
+    /** Number of failed fetches. */
+    private static final Counter FETCH_ERRORS =
+            Metrics.counter("jvoicexml_document_fetch_errors_total");
+
     /** Known strategy handler. */
     private final Map<String, SchemeStrategy> strategies;
 
@@ -90,6 +122,34 @@ public final class JVoiceXmlDocumentServer
     /** Maximal length of a logged document before truncating. */
     private int maxDocumentLogLength;
 
+    /** Mapped audio files and decoded audio headers. */
+    private final AudioCache audioCache;
+
+    /** Decoded audio clips, <code>null</code> if clips are not stored. */
+    private AudioClipStore clipStore;
+
+    /** Location of the manifest of clips to load at startup. */
+    private String clipManifest;
+
+    /** Number of msecs a clip is used without revalidation. */
+    private long clipFreshness;
+
+    /** Default directory to store recordings. */
+    private static final String DEFAULT_RECORDINGS_DIRECTORY =
+            "work/recordings/";
+
+    /** Size of the buffer to copy audio to be stored. */
+    private static final int STORE_BUFFER_SIZE = 8192;
+
+    /** Directory to store recordings. */
+    private File recordingsDirectory;
+
+    /** Encoding of copies of recordings, <code>null</code> if none. */
+    private AudioFormat.Encoding recordingEncoding;
+
+    /** Executor to create encoded copies of recordings. */
+    private ExecutorService recordingEncoder;
+
     /**
      * Creates a new object.
      *
@@ -102,6 +162,9 @@ public final class JVoiceXmlDocumentServer
     public JVoiceXmlDocumentServer() {
         strategies = new java.util.HashMap<String, SchemeStrategy>();
         maxDocumentLogLength = MAX_DOCUMENT_LOG_LENGTH;
+        audioCache = new AudioCache();
+        recordingsDirectory = new File(DEFAULT_RECORDINGS_DIRECTORY);
+        clipFreshness = AudioClipStore.DEFAULT_FRESHNESS;
     }
 
     /**
@@ -113,6 +176,81 @@ public final class JVoiceXmlDocumentServer
         maxDocumentLogLength = length;
     }
 
+    /**
+     * Sets the maximal size of the store of decoded audio clips. Clips are
+     * not stored if no size is set.
+     * @param bytes maximal size in bytes
+     * @since 0.7.9
+     */
+    public void setAudioClipStoreSize(final long bytes) {
+        if (bytes > 0) {
+            clipStore = new AudioClipStore(bytes);
+            clipStore.setFreshness(clipFreshness);
+        } else {
+            clipStore = null;
+        }
+    }
+
+    /**
+     * Sets the number of msecs a stored audio clip is used without checking
+     * if the audio has changed.
+     * @param msec freshness period in msec, <code>0</code> to check each
+     *          time a clip is requested
+     * @since 0.7.9
+     */
+    public void setAudioClipFreshness(final long msec) {
+        clipFreshness = msec;
+        if (clipStore != null) {
+            clipStore.setFreshness(msec);
+        }
+    }
+
+    /**
+     * Sets the manifest of audio clips that are loaded into the store at
+     * startup. The manifest is a text file with one URI per line. Relative
+     * URIs are resolved against the location of the manifest. Empty lines
+     * and lines starting with <code>#</code> are ignored.
+     * @param manifest file name or URI of the manifest
+     * @since 0.7.9
+     */
+    public void setAudioClipManifest(final String manifest) {
+        clipManifest = manifest;
+    }
+
+    /**
+     * Sets the directory to store recordings.
+     * @param directory name of the directory
+     * @since 0.7.9
+     */
+    public void setRecordingsDirectory(final String directory) {
+        recordingsDirectory = new File(directory);
+    }
+
+    /**
+     * Sets the encoding of copies of the recordings, e.g. <code>ULAW</code>
+     * or <code>ALAW</code>. The copies are created in the background after a
+     * recording has been completed. No copies are created if no encoding is
+     * set.
+     * @param encoding name of the encoding
+     * @since 0.7.9
+     */
+    public void setRecordingEncoding(final String encoding) {
+        if (encoding == null || encoding.isEmpty()) {
+            recordingEncoding = null;
+        } else {
+            recordingEncoding = new AudioFormat.Encoding(encoding);
+        }
+    }
+
+    /**
+     * Retrieves the store of decoded audio clips.
+     * @return the store, <code>null</code> if clips are not stored
+     * @since 0.7.9
+     */
+    public AudioClipStore getAudioClipStore() {
+        return clipStore;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -146,6 +284,55 @@ public final class JVoiceXmlDocumentServer
                     + repository.getClass().getCanonicalName() + "'");
             repository.start();
         }
+        if (clipStore != null && clipManifest != null) {
+            loadAudioClips();
+        }
+    }
+
+    /**
+     * Loads the audio clips of the manifest into the clip store. Clips that
+     * cannot be loaded are skipped.
+     * @throws IOException
+     *          error reading the manifest
+     * @since 0.7.9
+     */
+    private void loadAudioClips() throws IOException {
+        final File file = new File(clipManifest);
+        final URI manifest;
+        if (file.exists()) {
+            manifest = file.toURI();
+        } else {
+            manifest = URI.create(clipManifest);
+        }
+        LOGGER.info("loading audio clips from '" + manifest + "'");
+        final SessionIdentifier sessionId = new UuidSessionIdentifier();
+        int loaded = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(manifest.toURL().openStream(),
+                        "UTF-8"))) {
+            String line = reader.readLine();
+            while (line != null) {
+                final String entry = line.trim();
+                if (!entry.isEmpty() && !entry.startsWith("#")) {
+                    final URI uri = manifest.resolve(entry);
+                    try {
+                        final String validator = getValidator(sessionId,
+                                uri);
+                        final AudioInputStream input =
+                                getAudioInputStream(sessionId, uri);
+                        clipStore.put(uri, validator, input);
+                        ++loaded;
+                    } catch (BadFetchError | IOException e) {
+                        LOGGER.warn("unable to load audio clip '" + uri
+                                + "': " + e.getMessage());
+                    }
+                }
+                line = reader.readLine();
+            }
+        } finally {
+            sessionClosed(sessionId);
+        }
+        LOGGER.info("loaded " + loaded + " audio clip(s): " + clipStore);
     }
 
     /**
@@ -258,18 +445,36 @@ public final class JVoiceXmlDocumentServer
         final FetchAttributes attrs = descriptor.getAttributes();
         final FetchAttributes mergedAttrs = mergeFetchAttributes(attrs);
         final long timeout = mergedAttrs.getFetchTimeout();
-        LOGGER.info("loading document with URI '" + uri + "...");
+        LOGGER.info("loading document with URI '{}'...", uri);
         InputStream input = null;
         final VoiceXmlDocument document;
+        final Timeline timeline = Timelines.get(sessionId);
+        final long begin = timeline.begin(TimelineEvent.DOCUMENT_FETCH, uri);
         try {
-            input = strategy.getInputStream(sessionId, uri, method, timeout,
-                    parameters);
-            document = readDocument(input);
+            final long fetchStart = FETCH_TIMER.start();
+            try {
+                input = strategy.getInputStream(sessionId, uri, method,
+                        timeout, parameters);
+            } finally {
+                FETCH_TIMER.stop(fetchStart);
+            }
+            final long parseStart = PARSE_TIMER.start();
+            try {
+                document = readDocument(input);
+            } finally {
+                PARSE_TIMER.stop(parseStart);
+            }
         } catch (UnsupportedElementError e) {
+            FETCH_ERRORS.increment();
             throw new BadFetchError(e.getMessage(), e);
         } catch (IOException e) {
+            FETCH_ERRORS.increment();
             throw new BadFetchError(e.getMessage(), e);
+        } catch (BadFetchError e) {
+            FETCH_ERRORS.increment();
+            throw e;
         } finally {
+            timeline.end(TimelineEvent.DOCUMENT_FETCH, uri, begin);
             if (input != null) {
                 try {
                     input.close();
@@ -388,9 +593,7 @@ public final class JVoiceXmlDocumentServer
             return new LazyLoadingGrammarDocument(sessionId, this, type, uri,
                     attrs);
         }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("retrieving grammar '" + uri + "'");
-        }
+        LOGGER.debug("retrieving grammar '{}'", uri);
 
         // Ignoring the mime type for now as we want to have it binary
         final DocumentDescriptor descriptor = new DocumentDescriptor(uri, null);
@@ -404,14 +607,15 @@ public final class JVoiceXmlDocumentServer
 
     /**
      * {@inheritDoc}
+     *
+     * Local files are memory-mapped and shared between all calls. Other
+     * audio is streamed as it arrives.
      */
     @Override
     public AudioInputStream getAudioInputStream(
             final SessionIdentifier sessionId, final URI uri)
             throws BadFetchError {
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("retrieving audio input stream '" + uri + "'");
-        }
+        LOGGER.debug("retrieving audio input stream '{}'", uri);
 
         final SchemeStrategy strategy = getSchemeStrategy(uri);
         final FetchAttributes attrs = mergeFetchAttributes(null);
@@ -420,11 +624,15 @@ public final class JVoiceXmlDocumentServer
         try {
             final InputStream input = strategy.getInputStream(sessionId, uri,
                     RequestMethod.GET, timeout, null);
-            // Some InputStreams do not support mark/reset which is required
-            // by the AudioSystem. So we use a BufferedInputStream that
-            // guarantees these features.
-            final BufferedInputStream buf = new BufferedInputStream(input);
-            return AudioSystem.getAudioInputStream(buf);
+            if (input == null) {
+                throw new BadFetchError("unable to retrieve audio from '"
+                        + uri + "'");
+            }
+            if (input instanceof FileInputStream) {
+                final FileInputStream file = (FileInputStream) input;
+                return audioCache.getAudioInputStream(uri, file);
+            }
+            return audioCache.getAudioInputStream(uri, input);
         } catch (javax.sound.sampled.UnsupportedAudioFileException e) {
             throw new BadFetchError(e.getMessage(), e);
         } catch (java.io.IOException e) {
@@ -434,6 +642,75 @@ public final class JVoiceXmlDocumentServer
         }
     }
 
+    /**
+     * Retrieves a validator of the current version of the resource with the
+     * given URI.
+     * @param sessionId
+     *            the Id of the current JVoiceXML session
+     * @param uri
+     *            URI of the resource
+     * @return validator of the resource, <code>null</code> if the scheme
+     *         strategy is not able to validate resources
+     * @exception BadFetchError
+     *                error accessing the resource
+     * @since 0.7.9
+     */
+    private String getValidator(final SessionIdentifier sessionId,
+            final URI uri) throws BadFetchError {
+        final SchemeStrategy strategy = getSchemeStrategy(uri);
+        if (!(strategy instanceof ValidatingSchemeStrategy)) {
+            return null;
+        }
+        final ValidatingSchemeStrategy validating =
+                (ValidatingSchemeStrategy) strategy;
+        final FetchAttributes attrs = mergeFetchAttributes(null);
+        try {
+            return validating.getValidator(sessionId, uri,
+                    attrs.getFetchTimeout());
+        } catch (IOException e) {
+            throw new BadFetchError(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Clips are only returned if a clip store is configured. A clip is taken
+     * from the store without further checks if it has been validated within
+     * the freshness period. Otherwise, it is taken from the store if the
+     * audio has not changed since it has been stored, or it is decoded and
+     * added to the store. Audio that does not
+     * fit into the store is not decoded but has to be streamed.
+     */
+    @Override
+    public AudioClip getAudioClip(final SessionIdentifier sessionId,
+            final URI uri) throws BadFetchError {
+        final AudioClipStore store = clipStore;
+        if (store == null) {
+            return null;
+        }
+        final AudioClip fresh = store.getFresh(uri);
+        if (fresh != null) {
+            return fresh;
+        }
+        final String validator = getValidator(sessionId, uri);
+        final AudioClip clip = store.get(uri, validator);
+        if (clip != null) {
+            return clip;
+        }
+        final AudioInputStream input = getAudioInputStream(sessionId, uri);
+        try {
+            if (!store.fits(input)) {
+                LOGGER.debug("'{}' does not fit into the clip store", uri);
+                input.close();
+                return null;
+            }
+            return store.put(uri, validator, input);
+        } catch (IOException e) {
+            throw new BadFetchError(e.getMessage(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -449,8 +726,7 @@ public final class JVoiceXmlDocumentServer
             final DocumentDescriptor descriptor) throws BadFetchError {
         final URI uri = descriptor.getUri();
         final MimeType type = descriptor.getType();
-        LOGGER.info("retrieving object with type '" + type + "' from '" + uri
-                + "'");
+        LOGGER.debug("retrieving object with type '{}' from '{}'", type, uri);
 
         // Determine the relevant strategy
         final RequestMethod method = descriptor.getMethod();
@@ -462,6 +738,9 @@ public final class JVoiceXmlDocumentServer
         InputStream input = null;
 
         final Object object;
+        final long objectStart = OBJECT_TIMER.start();
+        final Timeline timeline = Timelines.get(sessionId);
+        final long begin = timeline.begin(TimelineEvent.OBJECT_FETCH, uri);
         try {
             input = strategy.getInputStream(sessionId, uri, method, timeout,
                     parameters);
@@ -478,10 +757,17 @@ public final class JVoiceXmlDocumentServer
                 object = buffer;
             }
         } catch (IOException e) {
+            FETCH_ERRORS.increment();
             throw new BadFetchError(e.getMessage(), e);
         } catch (UnsupportedElementError e) {
+            FETCH_ERRORS.increment();
             throw new BadFetchError(e.getMessage(), e);
+        } catch (BadFetchError e) {
+            FETCH_ERRORS.increment();
+            throw e;
         } finally {
+            timeline.end(TimelineEvent.OBJECT_FETCH, uri, begin);
+            OBJECT_TIMER.stop(objectStart);
             if (input != null) {
                 try {
                     input.close();
@@ -527,7 +813,22 @@ public final class JVoiceXmlDocumentServer
      */
     @Override
     public URI storeAudio(final AudioInputStream in) throws BadFetchError {
+        final AudioRecording recording = createRecording(in.getFormat());
         try {
+            if (recording != null) {
+                final OutputStream out = recording.getOutputStream();
+                final byte[] buffer = new byte[STORE_BUFFER_SIZE];
+                int num;
+                try {
+                    while ((num = in.read(buffer)) >= 0) {
+                        out.write(buffer, 0, num);
+                    }
+                } catch (IOException e) {
+                    recording.complete();
+                    throw e;
+                }
+                return recording.complete();
+            }
             final File directory = getRecordingsDirectory();
             final File file = File.createTempFile("rec-", ".wav", directory);
             AudioSystem.write(in, AudioFileFormat.Type.WAVE, file);
@@ -538,13 +839,57 @@ public final class JVoiceXmlDocumentServer
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AudioRecording createRecording(final AudioFormat format)
+            throws BadFetchError {
+        if (!WaveRecording.isSupported(format)) {
+            return null;
+        }
+        try {
+            final File directory = getRecordingsDirectory();
+            final File file = File.createTempFile("rec-", ".wav", directory);
+            LOGGER.info("recording to file '" + file.toURI() + "'");
+            return new WaveRecording(file, format, getRecordingEncoder(),
+                    recordingEncoding);
+        } catch (IOException ex) {
+            throw new BadFetchError(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Retrieves the executor to create encoded copies of recordings.
+     * 
+     * @return the executor, <code>null</code> if no copies are created
+     */
+    private synchronized ExecutorService getRecordingEncoder() {
+        if (recordingEncoding == null) {
+            return null;
+        }
+        if (recordingEncoder == null) {
+            recordingEncoder = Executors.newSingleThreadExecutor(
+                    new ThreadFactory() {
+                        @Override
+                        public Thread newThread(final Runnable runnable) {
+                            final Thread thread = new Thread(runnable,
+                                    "RecordingEncoderThread");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return recordingEncoder;
+    }
+
     /**
      * Retrieves the recording directory. If it does not exist, create it.
      * 
      * @return recording directory.
      */
     private File getRecordingsDirectory() {
-        final File directory = new File("work/recordings/");
+        final File directory = recordingsDirectory;
         if (!directory.exists()) {
             LOGGER.info(
                     "created recordings directory '" + directory.toURI() + "'");
@@ -578,5 +923,12 @@ public final class JVoiceXmlDocumentServer
                 LOGGER.warn("error stopping the document repository", e);
             }
         }
+        synchronized (this) {
+            if (recordingEncoder != null) {
+                // Pending copies are still completed
+                recordingEncoder.shutdown();
+                recordingEncoder = null;
+            }
+        }
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.documentserver;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.jvoicexml.SessionIdentifier;
+import org.jvoicexml.event.error.BadFetchError;
+
+/**
+ * A {@link SchemeStrategy} that is able to tell if the resource behind a
+ * URI has changed without retrieving it, e.g. by its time of the last
+ * modification or its entity tag.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface ValidatingSchemeStrategy extends SchemeStrategy {
+    /**
+     * Retrieves a validator of the current version of the resource with the
+     * given URI. The validator changes whenever the resource changes.
+     * 
+     * @param sessionId
+     *            the Id of the current JVoiceXML session.
+     * @param uri
+     *            the URI of the resource.
+     * @param timeout
+     *            fetch timeout in msec.
+     * @return validator of the resource, <code>null</code> if the resource
+     *         does not provide one
+     * @exception BadFetchError
+     *                error accessing the resource
+     * @exception IOException
+     *                error accessing the resource
+     */
+    String getValidator(final SessionIdentifier sessionId, final URI uri,
+            final long timeout) throws BadFetchError, IOException;
+}
@@ -0,0 +1,367 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executor;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.AudioRecording;
+
+/**
+ * A recording that is written to a WAV file while it is in progress.
+ * <p>
+ * The audio is written through a {@link FileChannel} as it arrives. The
+ * header is written with empty sizes first and patched when the recording
+ * is completed. Optionally, a copy in another encoding is created
+ * afterwards by an {@link Executor}, so that the encoding does not delay the
+ * caller.
+ * </p>
+ * <p>
+ * Only audio that can be written to a WAV file without a conversion is
+ * supported, see {@link #isSupported(AudioFormat)}.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class WaveRecording extends OutputStream
+        implements AudioRecording {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(WaveRecording.class);
+
+    /** Size of the WAV header. */
+    private static final int HEADER_SIZE = 44;
+
+    /** Offset of the RIFF chunk size. */
+    private static final int RIFF_SIZE_OFFSET = 4;
+
+    /** Offset of the data chunk size. */
+    private static final int DATA_SIZE_OFFSET = 40;
+
+    /** Format tag of PCM. */
+    private static final short WAVE_FORMAT_PCM = 1;
+
+    /** Format tag of A-law. */
+    private static final short WAVE_FORMAT_ALAW = 6;
+
+    /** Format tag of &mu;-law. */
+    private static final short WAVE_FORMAT_MULAW = 7;
+
+    /** Size of the format chunk. */
+    private static final int FORMAT_CHUNK_SIZE = 16;
+
+    /** Sample size of PCM that is converted into another encoding. */
+    private static final int ENCODED_SOURCE_SAMPLE_SIZE = 16;
+
+    /** The file to write to. */
+    private final File file;
+
+    /** The format of the recorded audio. */
+    private final AudioFormat format;
+
+    /** The channel to the file. */
+    private final FileChannel channel;
+
+    /** Executor to create the encoded copy. */
+    private final Executor executor;
+
+    /** Encoding of the copy, <code>null</code> if no copy is created. */
+    private final AudioFormat.Encoding encoding;
+
+    /** Number of written bytes of audio data. */
+    private long dataSize;
+
+    /** <code>true</code> if the recording has been completed. */
+    private boolean completed;
+
+    /**
+     * Constructs a new object without an encoded copy.
+     * @param output the file to write to
+     * @param audioFormat the format of the recorded audio
+     * @throws IOException
+     *          error opening the file
+     */
+    public WaveRecording(final File output, final AudioFormat audioFormat)
+            throws IOException {
+        this(output, audioFormat, null, null);
+    }
+
+    /**
+     * Constructs a new object.
+     * @param output the file to write to
+     * @param audioFormat the format of the recorded audio
+     * @param encoder executor to create the encoded copy, maybe
+     *          <code>null</code>
+     * @param copyEncoding encoding of the copy, <code>null</code> if no
+     *          copy should be created
+     * @throws IOException
+     *          error opening the file
+     */
+    public WaveRecording(final File output, final AudioFormat audioFormat,
+            final Executor encoder, final AudioFormat.Encoding copyEncoding)
+            throws IOException {
+        if (!isSupported(audioFormat)) {
+            throw new IOException("unsupported recording format "
+                    + audioFormat);
+        }
+        file = output;
+        format = audioFormat;
+        executor = encoder;
+        encoding = copyEncoding;
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        writeFully(createHeader(), 0);
+    }
+
+    /**
+     * Checks if audio in the given format can be recorded.
+     * @param audioFormat the format to check
+     * @return <code>true</code> if the format is supported
+     */
+    public static boolean isSupported(final AudioFormat audioFormat) {
+        if (audioFormat == null) {
+            return false;
+        }
+        final AudioFormat.Encoding audioEncoding = audioFormat.getEncoding();
+        final int size = audioFormat.getSampleSizeInBits();
+        if (AudioFormat.Encoding.PCM_SIGNED.equals(audioEncoding)) {
+            return size > 8 && !audioFormat.isBigEndian();
+        } else if (AudioFormat.Encoding.PCM_UNSIGNED.equals(audioEncoding)) {
+            return size == 8;
+        }
+        return AudioFormat.Encoding.ALAW.equals(audioEncoding)
+                || AudioFormat.Encoding.ULAW.equals(audioEncoding);
+    }
+
+    /**
+     * Creates the header with empty sizes.
+     * @return the header
+     */
+    private ByteBuffer createHeader() {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        final AudioFormat.Encoding audioEncoding = format.getEncoding();
+        final short tag;
+        if (AudioFormat.Encoding.ALAW.equals(audioEncoding)) {
+            tag = WAVE_FORMAT_ALAW;
+        } else if (AudioFormat.Encoding.ULAW.equals(audioEncoding)) {
+            tag = WAVE_FORMAT_MULAW;
+        } else {
+            tag = WAVE_FORMAT_PCM;
+        }
+        final int channels = format.getChannels();
+        final int sampleRate = (int) format.getSampleRate();
+        final int frameSize = format.getFrameSize();
+        header.put(new byte[] {'R', 'I', 'F', 'F'});
+        header.putInt(HEADER_SIZE - 8);
+        header.put(new byte[] {'W', 'A', 'V', 'E', 'f', 'm', 't', ' '});
+        header.putInt(FORMAT_CHUNK_SIZE);
+        header.putShort(tag);
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * frameSize);
+        header.putShort((short) frameSize);
+        header.putShort((short) format.getSampleSizeInBits());
+        header.put(new byte[] {'d', 'a', 't', 'a'});
+        header.putInt(0);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * Writes the given buffer at the given position of the file.
+     * @param buffer the buffer to write
+     * @param position the position in the file
+     * @throws IOException
+     *          error writing
+     */
+    private void writeFully(final ByteBuffer buffer, final long position)
+            throws IOException {
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputStream getOutputStream() {
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Audio that is written after the recording has been completed is
+     * ignored.
+     */
+    @Override
+    public synchronized void write(final byte[] b, final int off,
+            final int len) throws IOException {
+        if (completed) {
+            return;
+        }
+        writeFully(ByteBuffer.wrap(b, off, len), HEADER_SIZE + dataSize);
+        dataSize += len;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Patches the sizes in the header and closes the file. If requested, the
+     * creation of the encoded copy is started.
+     */
+    @Override
+    public URI complete() throws IOException {
+        synchronized (this) {
+            if (completed) {
+                return file.toURI();
+            }
+            completed = true;
+            // An odd sized data chunk is followed by a pad byte
+            final long padding = dataSize & 1;
+            try {
+                if (padding != 0) {
+                    writeFully(ByteBuffer.wrap(new byte[1]),
+                            HEADER_SIZE + dataSize);
+                }
+                final ByteBuffer size = ByteBuffer.allocate(4);
+                size.order(ByteOrder.LITTLE_ENDIAN);
+                size.putInt(0, (int) (HEADER_SIZE - 8 + dataSize + padding));
+                writeFully(size, RIFF_SIZE_OFFSET);
+                size.clear();
+                size.putInt(0, (int) dataSize);
+                writeFully(size, DATA_SIZE_OFFSET);
+            } finally {
+                channel.close();
+            }
+        }
+        LOGGER.info("recorded " + dataSize + " bytes to file '"
+                + file.toURI() + "'");
+        if (encoding != null && executor != null) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    encode();
+                }
+            });
+        }
+        return file.toURI();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Same as {@link #complete()}.
+     */
+    @Override
+    public void close() throws IOException {
+        complete();
+    }
+
+    /**
+     * Retrieves the number of bytes of recorded audio.
+     * @return number of bytes
+     */
+    public synchronized long getDataSize() {
+        return dataSize;
+    }
+
+    /**
+     * Retrieves the file of the encoded copy.
+     * @return the file of the copy, <code>null</code> if no copy is created
+     */
+    public File getEncodedFile() {
+        if (encoding == null) {
+            return null;
+        }
+        final String name = file.getName();
+        final int dot = name.lastIndexOf('.');
+        final String base;
+        if (dot < 0) {
+            base = name;
+        } else {
+            base = name.substring(0, dot);
+        }
+        final String suffix = encoding.toString().toLowerCase();
+        return new File(file.getParentFile(), base + "-" + suffix + ".wav");
+    }
+
+    /**
+     * Creates the encoded copy of the completed recording.
+     */
+    private void encode() {
+        final File encoded = getEncodedFile();
+        try (AudioInputStream in = AudioSystem.getAudioInputStream(file)) {
+            AudioInputStream source = in;
+            final AudioFormat sourceFormat = in.getFormat();
+            if (!AudioFormat.Encoding.PCM_SIGNED.equals(
+                    sourceFormat.getEncoding())
+                    || sourceFormat.getSampleSizeInBits()
+                        != ENCODED_SOURCE_SAMPLE_SIZE) {
+                final int channels = sourceFormat.getChannels();
+                final AudioFormat pcm = new AudioFormat(
+                        AudioFormat.Encoding.PCM_SIGNED,
+                        sourceFormat.getSampleRate(),
+                        ENCODED_SOURCE_SAMPLE_SIZE, channels,
+                        channels * ENCODED_SOURCE_SAMPLE_SIZE / 8,
+                        sourceFormat.getSampleRate(), false);
+                source = AudioSystem.getAudioInputStream(pcm, in);
+            }
+            final AudioInputStream converted =
+                    AudioSystem.getAudioInputStream(encoding, source);
+            AudioSystem.write(converted, AudioFileFormat.Type.WAVE, encoded);
+            LOGGER.info("encoded '" + file.toURI() + "' as " + encoding
+                    + " to '" + encoded.toURI() + "'");
+        } catch (Exception e) {
+            LOGGER.warn("unable to encode '" + file.toURI() + "' as "
+                    + encoding + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver.schemestrategy.builtin;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.event.error.BadFetchError;
+import org.jvoicexml.event.error.UnsupportedBuiltinError;
+
+/**
+ * Repository of builtin grammars.
+ * <p>
+ * Builtin grammars are created by the {@link GrammarCreator} for their type
+ * on first request and shared afterwards. Requests are identified by a
+ * normalized form of their URI, i.e. a lower case mode and type, the modes
+ * <code>voice</code> and <code>grammar</code> as the same mode and the
+ * parameters sorted by their name. Commonly used grammars can be created
+ * up front by {@link #setPreloadedGrammars(Collection)}.
+ * </p>
+ * <p>
+ * The returned byte arrays are shared by all callers and must not be
+ * modified. This class is thread safe.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class BuiltinGrammarRepository {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(BuiltinGrammarRepository.class);
+
+    /** Maximal number of stored grammars. */
+    private static final int MAX_GRAMMARS = 256;
+
+    /** Known grammar creators. */
+    private final Map<String, GrammarCreator> creators;
+
+    /** Created grammars by their normalized URI. */
+    private final Map<String, byte[]> grammars;
+
+    /**
+     * Constructs a new object.
+     */
+    public BuiltinGrammarRepository() {
+        creators = new java.util.concurrent.ConcurrentHashMap<String,
+                GrammarCreator>();
+        grammars = new java.util.concurrent.ConcurrentHashMap<String,
+                byte[]>();
+    }
+
+    /**
+     * Adds the specified grammar creators to the list of known grammar
+     * creators.
+     * @param col the creators to add
+     */
+    public void setGrammarCreators(final Collection<GrammarCreator> col) {
+        for (GrammarCreator creator : col) {
+            addGrammarCreator(creator);
+        }
+    }
+
+    /**
+     * Adds the specified grammar creator to the list of known grammar
+     * creators. Stored grammars of the same type are discarded.
+     * @param creator the creator to add
+     */
+    public void addGrammarCreator(final GrammarCreator creator) {
+        final String type = creator.getTypeName();
+        creators.put(type, creator);
+        final String infix = "/" + type;
+        for (String key : grammars.keySet()) {
+            if (key.endsWith(infix) || key.contains(infix + "?")) {
+                grammars.remove(key);
+            }
+        }
+        LOGGER.info("added builtin grammar creator '" + creator.getClass()
+                + "' for type '" + type + "'");
+    }
+
+    /**
+     * Creates the given grammars up front.
+     * @param uris URIs of the grammars to create
+     */
+    public void setPreloadedGrammars(final Collection<String> uris) {
+        for (String uri : uris) {
+            try {
+                getGrammar(new URI(uri));
+            } catch (URISyntaxException | BadFetchError
+                    | UnsupportedBuiltinError | IOException e) {
+                LOGGER.warn("unable to preload builtin grammar '" + uri
+                        + "': " + e.getMessage());
+            }
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("preloaded " + grammars.size()
+                    + " builtin grammar(s)");
+        }
+    }
+
+    /**
+     * Retrieves the builtin grammar with the given URI.
+     * @param uri URI of the builtin grammar
+     * @return the grammar, shared by all callers
+     * @exception UnsupportedBuiltinError
+     *            if there is no creator for the type of the grammar
+     * @exception BadFetchError
+     *            error creating the grammar
+     * @exception IOException
+     *            error creating the grammar
+     */
+    public byte[] getGrammar(final URI uri)
+            throws BadFetchError, UnsupportedBuiltinError, IOException {
+        final String key = normalize(uri);
+        final byte[] grammar = grammars.get(key);
+        if (grammar != null) {
+            return grammar;
+        }
+        final String type = extractBuiltinType(uri);
+        final GrammarCreator creator = creators.get(type);
+        if (creator == null) {
+            throw new UnsupportedBuiltinError("builtin type '" + type
+                    + "' is not supported!");
+        }
+        final byte[] created = creator.createGrammar(uri);
+        if (grammars.size() >= MAX_GRAMMARS) {
+            return created;
+        }
+        final byte[] previous = grammars.putIfAbsent(key, created);
+        if (previous != null) {
+            return previous;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("created builtin grammar '" + key + "'");
+        }
+        return created;
+    }
+
+    /**
+     * Retrieves the number of stored grammars.
+     * @return number of stored grammars
+     */
+    public int size() {
+        return grammars.size();
+    }
+
+    /**
+     * Extracts the builtin type from the URI.
+     * @param uri the given URI.
+     * @return extracted builtin type
+     * @exception BadFetchError
+     *            if the URI does not contain a type
+     */
+    static String extractBuiltinType(final URI uri) throws BadFetchError {
+        final String schemeSpecificPart = uri.getSchemeSpecificPart();
+        final String[] path = schemeSpecificPart.split("/");
+        if (path.length < 2) {
+            throw new BadFetchError("no builtin type in '" + uri + "'");
+        }
+        String type = path[1];
+        final int pos = type.indexOf('?');
+        if (pos >= 0) {
+            type = type.substring(0, pos);
+        }
+        return type.toLowerCase();
+    }
+
+    /**
+     * Determines the normalized form of the given builtin URI.
+     * @param uri the URI
+     * @return normalized form of the URI
+     * @exception BadFetchError
+     *            if the URI does not contain a type
+     */
+    static String normalize(final URI uri) throws BadFetchError {
+        final String schemeSpecificPart = uri.getSchemeSpecificPart();
+        final int pos = schemeSpecificPart.indexOf('?');
+        final String path;
+        final String query;
+        if (pos < 0) {
+            path = schemeSpecificPart;
+            query = null;
+        } else {
+            path = schemeSpecificPart.substring(0, pos);
+            query = schemeSpecificPart.substring(pos + 1);
+        }
+        String mode = path.split("/")[0].toLowerCase();
+        if (mode.equals("voice")) {
+            mode = "grammar";
+        }
+        final StringBuilder str = new StringBuilder();
+        str.append(mode);
+        str.append('/');
+        str.append(extractBuiltinType(uri));
+        if (query != null && !query.isEmpty()) {
+            final String[] pairs = query.split(";");
+            Arrays.sort(pairs);
+            str.append('?');
+            for (int i = 0; i < pairs.length; i++) {
+                if (i > 0) {
+                    str.append(';');
+                }
+                str.append(pairs[i].trim());
+            }
+        }
+        return str.toString();
+    }
+}
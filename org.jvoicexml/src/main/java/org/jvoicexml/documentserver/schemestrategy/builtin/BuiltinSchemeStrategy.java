@@ -26,14 +26,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Collection;
-import java.util.Map;
 
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 import org.jvoicexml.SessionIdentifier;
 import org.jvoicexml.documentserver.SchemeStrategy;
 import org.jvoicexml.event.error.BadFetchError;
-import org.jvoicexml.event.error.UnsupportedBuiltinError;
 import org.jvoicexml.event.error.UnsupportedElementError;
 import org.jvoicexml.interpreter.datamodel.KeyValuePair;
 import org.jvoicexml.xml.vxml.RequestMethod;
@@ -56,28 +52,45 @@ import org.jvoicexml.xml.vxml.RequestMethod;
  * <p>
  * Custom grammar types can be added by
  * {@link #addGrammarCreator(GrammarCreator)} or
- * {@link #setGrammarCreators(Collection)}.
+ * {@link #setGrammarCreators(Collection)}. Created grammars are kept in a
+ * {@link BuiltinGrammarRepository} and shared by all sessions.
  * </p>
  *
  * @author Dirk Schnelle-Walka
  * @since 0.7.1
  */
 public final class BuiltinSchemeStrategy implements SchemeStrategy {
-    /** Logger for this class. */
-    private static final Logger LOGGER =
-            LogManager.getLogger(BuiltinSchemeStrategy.class);
-
     /** Scheme for which this scheme strategy is responsible. */
     public static final String SCHEME_NAME = "builtin";
 
-    /** Known grammar creators. */
-    private final Map<String, GrammarCreator> creators;
+    /** The repository of the builtin grammars. */
+    private BuiltinGrammarRepository repository;
 
     /**
      * Constructs a new object.
      */
     public BuiltinSchemeStrategy() {
-        creators = new java.util.HashMap<String, GrammarCreator>();
+        repository = new BuiltinGrammarRepository();
+    }
+
+    /**
+     * Sets the repository of the builtin grammars, e.g. to share it with
+     * other components.
+     * @param grammarRepository the repository
+     * @since 0.7.9
+     */
+    public void setRepository(
+            final BuiltinGrammarRepository grammarRepository) {
+        repository = grammarRepository;
+    }
+
+    /**
+     * Retrieves the repository of the builtin grammars.
+     * @return the repository
+     * @since 0.7.9
+     */
+    public BuiltinGrammarRepository getRepository() {
+        return repository;
     }
 
     /**
@@ -87,9 +100,7 @@ public final class BuiltinSchemeStrategy implements SchemeStrategy {
      * @since 0.7.5
      */
     public void setGrammarCreators(final Collection<GrammarCreator> col) {
-        for (GrammarCreator creator : col) {
-            addGrammarCreator(creator);
-        }
+        repository.setGrammarCreators(col);
     }
 
     /**
@@ -98,10 +109,16 @@ public final class BuiltinSchemeStrategy implements SchemeStrategy {
      * @since 0.7.5
      */
     public void addGrammarCreator(final GrammarCreator creator) {
-        final String type = creator.getTypeName();
-        creators.put(type, creator);
-        LOGGER.info("added builtin grammar creator '" + creator.getClass()
-                + "' for type '" + type + "'");
+        repository.addGrammarCreator(creator);
+    }
+
+    /**
+     * Creates the given builtin grammars up front.
+     * @param uris URIs of the builtin grammars
+     * @since 0.7.9
+     */
+    public void setPreloadedGrammars(final Collection<String> uris) {
+        repository.setPreloadedGrammars(uris);
     }
 
     /**
@@ -112,32 +129,10 @@ public final class BuiltinSchemeStrategy implements SchemeStrategy {
             final URI uri, final RequestMethod method, final long timeout,
             final Collection<KeyValuePair> parameters)
             throws BadFetchError, UnsupportedElementError, IOException {
-        final String type = extractBuiltinType(uri);
-        final GrammarCreator creator = creators.get(type);
-        if (creator == null) {
-            throw new UnsupportedBuiltinError("builtin type '" + type
-                    + "' is not supported!");
-        }
-        final byte[] bytes = creator.createGrammar(uri);
+        final byte[] bytes = repository.getGrammar(uri);
         return new ByteArrayInputStream(bytes);
     }
 
-    /**
-     * Extracts the builtin type from the URI.
-     * @param uri the given URI.
-     * @return extracted builtin type
-     */
-    private String extractBuiltinType(final URI uri) {
-        final String schemeSpecificPart = uri.getSchemeSpecificPart();
-        final String[] path = schemeSpecificPart.split("/");
-        String type = path[1];
-        final int pos = type.indexOf('?');
-        if (pos >= 0) {
-            type = type.substring(0, pos);
-        }
-        return type.toLowerCase();
-    }
-
     /**
      * {@inheritDoc}
      */
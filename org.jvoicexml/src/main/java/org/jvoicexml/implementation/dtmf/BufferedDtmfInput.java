@@ -42,14 +42,29 @@ import org.jvoicexml.event.plain.implementation.SpokenInputEvent;
 import org.jvoicexml.implementation.GrammarImplementation;
 import org.jvoicexml.implementation.SpokenInput;
 import org.jvoicexml.implementation.SpokenInputListener;
-import org.jvoicexml.implementation.grammar.GrammarEvaluator;
 import org.jvoicexml.implementation.grammar.GrammarParser;
+import org.jvoicexml.implementation.grammar.IncrementalGrammarEvaluator;
+import org.jvoicexml.implementation.grammar.PrefixMatcher;
+import org.jvoicexml.implementation.grammar.UnionGrammarMatcher;
 import org.jvoicexml.interpreter.datamodel.DataModel;
 import org.jvoicexml.xml.srgs.GrammarType;
 import org.jvoicexml.xml.vxml.BargeInType;
 
 /**
  * Buffered DTMF input.
+ * <p>
+ * If all active grammars are {@link IncrementalGrammarEvaluator}s, each DTMF
+ * is matched as it arrives. The recognition ends as soon as the input is
+ * complete and the grammars do not allow more input, or as soon as no
+ * grammar can accept the input any more. Otherwise, the recognition ends
+ * with the <code>termchar</code> or after the
+ * <code>interdigittimeout</code>.
+ * </p>
+ * <p>
+ * Grammars that are activated later take precedence over those that are
+ * already active. All active grammars are matched in a single pass by a
+ * {@link UnionGrammarMatcher}.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @since 0.5
@@ -68,15 +83,15 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
     /** Listener for user input events. */
     private final Collection<SpokenInputListener> listener;
 
-    /** Active grammars. */
-    private volatile Collection<GrammarImplementation<?>> activeGrammars;
+    /** Active grammars in the order of their precedence. */
+    private final List<GrammarImplementation<?>> activeGrammars;
+
+    /** Matcher of the active grammars, created on demand. */
+    private UnionGrammarMatcher grammarMatcher;
 
     /** The thread reading the dtmf sequences. */
     private Thread inputThread;
 
-    /** Thread to monitor the inter digit timeout. */
-    private InterdigitTimeoutThread interDigitTimeout;
-
     /** Reference to the current DTMF recognition properties. */
     private DtmfRecognizerProperties props;
 
@@ -143,7 +158,10 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
     public void activateGrammars(
             final Collection<GrammarImplementation<?>> grammars)
             throws BadFetchError, UnsupportedLanguageError, NoresourceError {
-        activeGrammars.addAll(grammars);
+        synchronized (activeGrammars) {
+            activeGrammars.removeAll(grammars);
+            activeGrammars.addAll(0, grammars);
+        }
         if (LOGGER.isDebugEnabled()) {
             for (GrammarImplementation<?> grammar : grammars) {
                 LOGGER.debug("activated DTMF grammar "
@@ -169,7 +187,9 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
     public void deactivateGrammars(
             final Collection<GrammarImplementation<?>> grammars)
             throws NoresourceError, BadFetchError {
-        activeGrammars.removeAll(grammars);
+        synchronized (activeGrammars) {
+            activeGrammars.removeAll(grammars);
+        }
         if (LOGGER.isDebugEnabled()) {
             for (GrammarImplementation<?> grammar : grammars) {
                 LOGGER.debug("deactivated DTMF grammar "
@@ -196,18 +216,6 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
             }
             buffer.notifyAll();
         }
-        final char termchar = props.getTermchar();
-        if (dtmf == termchar) {
-            return;
-        }
-        if (interDigitTimeout == null) {
-            final long interdigittimeout = props.getInterdigittimeoutAsMsec();
-            interDigitTimeout = new InterdigitTimeoutThread(this,
-                    interdigittimeout, termchar);
-            interDigitTimeout.start();
-        } else {
-            interDigitTimeout.enteredDigit();
-        }
     }
 
     /**
@@ -221,13 +229,71 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
      */
     char getNextCharacter() throws InterruptedException {
         synchronized (buffer) {
-            if (buffer.isEmpty()) {
+            while (buffer.isEmpty()) {
                 buffer.wait();
             }
             return buffer.remove(0);
         }
     }
 
+    /**
+     * Reads the next character. If no character is available this methods
+     * waits at most the given time for the next character.
+     * 
+     * @param msec
+     *            maximum number of msecs to wait, a non-positive value to
+     *            not wait at all
+     * @return next character, <code>null</code> if there was no character
+     *         within the given time
+     * @throws InterruptedException
+     *             waiting interrupted.
+     * @since 0.7.9
+     */
+    Character getNextCharacter(final long msec) throws InterruptedException {
+        final long end = System.currentTimeMillis() + msec;
+        synchronized (buffer) {
+            long remaining = msec;
+            while (buffer.isEmpty()) {
+                if (remaining <= 0) {
+                    return null;
+                }
+                buffer.wait(remaining);
+                remaining = end - System.currentTimeMillis();
+            }
+            return buffer.remove(0);
+        }
+    }
+
+    /**
+     * Creates a matcher to match the input incrementally against all active
+     * grammars.
+     * 
+     * @return created matcher, <code>null</code> if there are no active
+     *         grammars or at least one of them cannot be matched
+     *         incrementally
+     * @since 0.7.9
+     */
+    PrefixMatcher createPrefixMatcher() {
+        return getGrammarMatcher().createPrefixMatcher();
+    }
+
+    /**
+     * Retrieves the matcher of the active grammars. The matcher is reused
+     * as long as the active grammars do not change.
+     * 
+     * @return matcher of the active grammars
+     * @since 0.7.9
+     */
+    private UnionGrammarMatcher getGrammarMatcher() {
+        synchronized (activeGrammars) {
+            if (grammarMatcher == null
+                    || !grammarMatcher.getGrammars().equals(activeGrammars)) {
+                grammarMatcher = new UnionGrammarMatcher(activeGrammars);
+            }
+            return grammarMatcher;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -246,7 +312,9 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
 
     /**
      * Checks if one of the active grammars accepts the current recognition
-     * result.
+     * result. The semantic interpretation of an accepted
+     * {@link DtmfInputResult} is set from the grammar with the highest
+     * precedence that accepts it.
      * 
      * @param result
      *            the recognized DTMF result
@@ -254,24 +322,18 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
      * @since 0.7
      */
     public boolean isAccepted(final RecognitionResult result) {
-        for (GrammarImplementation<?> grammar : activeGrammars) {
-            if (result instanceof DtmfInputResult) {
-                if (grammar instanceof GrammarEvaluator) {
-                    final GrammarEvaluator evaluator =
-                            (GrammarEvaluator) grammar;
-                    final String utterance = result.getUtterance();
-                    final Object interpretation = evaluator
-                            .getSemanticInterpretation(model, utterance);
-                    if (interpretation != null) {
-                        final DtmfInputResult dtmfResult =
-                                (DtmfInputResult) result;
-                        dtmfResult.setSemanticInterpretation(interpretation);
-                    }
-                }
-            }
-            return true;
+        final UnionGrammarMatcher matcher = getGrammarMatcher();
+        final String utterance = result.getUtterance();
+        final Object interpretation =
+                matcher.getSemanticInterpretation(model, utterance);
+        if (interpretation == null) {
+            return false;
         }
-        return false;
+        if (result instanceof DtmfInputResult) {
+            final DtmfInputResult dtmfResult = (DtmfInputResult) result;
+            dtmfResult.setSemanticInterpretation(interpretation);
+        }
+        return true;
     }
 
     /**
@@ -283,10 +345,6 @@ public class BufferedDtmfInput implements DtmfInput, SpokenInput {
             inputThread.interrupt();
             inputThread = null;
         }
-        if (interDigitTimeout != null) {
-            interDigitTimeout.interrupt();
-            interDigitTimeout = null;
-        }
         props = null;
         timeout = -1;
         LOGGER.info("stopped DTMF recognition");
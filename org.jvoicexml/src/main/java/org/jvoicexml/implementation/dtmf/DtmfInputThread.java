@@ -28,10 +28,33 @@ import org.jvoicexml.event.plain.implementation.InputStartedEvent;
 import org.jvoicexml.event.plain.implementation.NomatchEvent;
 import org.jvoicexml.event.plain.implementation.RecognitionEvent;
 import org.jvoicexml.event.plain.implementation.SpokenInputEvent;
+import org.jvoicexml.implementation.grammar.PrefixMatcher;
+import org.jvoicexml.implementation.grammar.PrefixState;
 import org.jvoicexml.xml.srgs.ModeType;
 
 /**
  * Thread waiting for DTMF input.
+ * <p>
+ * The timing follows the DTMF timing properties of VoiceXML:
+ * </p>
+ * <ul>
+ * <li>Entering the <code>termchar</code> ends the input.</li>
+ * <li>If the grammars do not allow more input after a DTMF, the input ends
+ * immediately if there is no <code>termchar</code> or the
+ * <code>termtimeout</code> is <code>0s</code>. Otherwise, the input ends
+ * after waiting <code>termtimeout</code> for the optional
+ * <code>termchar</code>.</li>
+ * <li>Otherwise, the input ends if there is no further DTMF within the
+ * <code>interdigittimeout</code>.</li>
+ * <li>Input that is not complete when it ends or that cannot be continued
+ * to a valid input is a nomatch. The latter is detected as soon as the DTMF
+ * is entered.</li>
+ * </ul>
+ * <p>
+ * The state of the input is only known if all active grammars can be
+ * matched incrementally. Otherwise, the input only ends with the
+ * <code>termchar</code> or the <code>interdigittimeout</code>.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @since 0.7
@@ -73,29 +96,69 @@ class DtmfInputThread extends Thread {
         }
         boolean sentStartedEvent = false;
         final StringBuilder utterance = new StringBuilder();
-        char dtmf = 1;
         final char termchar = props.getTermchar();
-        while (!isInterrupted() && dtmf != termchar) {
-            try {
-                dtmf = input.getNextCharacter();
+        final long interdigittimeout = props.getInterdigittimeoutAsMsec();
+        final long termtimeout = props.getTermtimeoutAsMsec();
+        final PrefixMatcher matcher = input.createPrefixMatcher();
+        PrefixState state;
+        if (matcher == null) {
+            state = PrefixState.PREFIX;
+        } else {
+            state = matcher.getState();
+        }
+        try {
+            while (!isInterrupted()) {
+                final Character dtmf;
+                if (utterance.length() == 0) {
+                    dtmf = input.getNextCharacter();
+                } else if (state == PrefixState.FINAL) {
+                    dtmf = input.getNextCharacter(termtimeout);
+                } else {
+                    dtmf = input.getNextCharacter(interdigittimeout);
+                }
+                if (dtmf == null) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("DTMF input timed out");
+                    }
+                    break;
+                }
                 if (!sentStartedEvent) {
                     notifyStartEvent();
                     sentStartedEvent = true;
                 }
-                if (dtmf != termchar) {
-                    utterance.append(dtmf);
+                if (dtmf == termchar) {
+                    break;
                 }
-            } catch (InterruptedException e) {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug("reading DTMF interrupted");
+                utterance.append(dtmf);
+                if (matcher != null) {
+                    state = matcher.append(dtmf.toString());
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("DTMF input '" + utterance + "' is "
+                                + state);
+                    }
+                    if (state == PrefixState.DEAD) {
+                        break;
+                    }
+                    if (state == PrefixState.FINAL
+                            && (termchar == 0 || termtimeout <= 0)) {
+                        break;
+                    }
                 }
-                return;
             }
+        } catch (InterruptedException e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("reading DTMF interrupted");
+            }
+            return;
         }
 
         if (!isInterrupted()) {
             final String utteranceString = utterance.toString();
-            notifyInput(utteranceString);
+            if (matcher == null || state.isComplete()) {
+                notifyInput(utteranceString);
+            } else {
+                notifyNomatch(utteranceString);
+            }
         }
 
         if (LOGGER.isDebugEnabled()) {
@@ -134,4 +197,19 @@ class DtmfInputThread extends Thread {
         }
         input.fireInputEvent(event);
     }
+
+    /**
+     * Notifies all listeners that the received input does not match any of
+     * the active grammars.
+     * 
+     * @param utterance
+     *            the received input
+     * @since 0.7.9
+     */
+    private void notifyNomatch(final String utterance) {
+        final DtmfInputResult result = new DtmfInputResult(utterance);
+        result.setAccepted(false);
+        final SpokenInputEvent event = new NomatchEvent(input, null, result);
+        input.fireInputEvent(event);
+    }
 }
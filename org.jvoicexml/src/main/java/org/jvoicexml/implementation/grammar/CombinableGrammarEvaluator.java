@@ -0,0 +1,49 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+import java.util.List;
+
+/**
+ * A {@link GrammarEvaluator} that can be combined with other evaluators of
+ * the same class to match an input against all of them in a single pass.
+ * <p>
+ * The {@link UnionGrammarMatcher} groups the active combinable evaluators
+ * by their class and lets the first evaluator of each group combine the
+ * whole group.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface CombinableGrammarEvaluator extends GrammarEvaluator {
+    /**
+     * Combines the given evaluators. All evaluators are of the same class
+     * as this one.
+     * @param evaluators the evaluators to combine in the order of their
+     *          precedence
+     * @return combined matcher, <code>null</code> if the evaluators cannot
+     *          be combined
+     */
+    CombinedGrammarMatcher combine(
+            List<? extends CombinableGrammarEvaluator> evaluators);
+}
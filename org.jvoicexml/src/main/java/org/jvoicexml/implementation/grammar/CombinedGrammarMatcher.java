@@ -0,0 +1,47 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+import java.util.BitSet;
+
+/**
+ * Matches an input against several {@link CombinableGrammarEvaluator}s in
+ * a single pass.
+ * <p>
+ * Matchers are immutable and may be used concurrently.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface CombinedGrammarMatcher {
+    /**
+     * Determines the evaluators that may accept the given input. If the
+     * evaluator with the highest precedence that accepts the input is
+     * known to return a semantic interpretation, evaluators of lower
+     * precedence may be omitted.
+     * @param utterance the input
+     * @return indices of the evaluators in the order that was given to
+     *          {@link CombinableGrammarEvaluator#combine(java.util.List)}
+     */
+    BitSet match(String utterance);
+}
@@ -0,0 +1,504 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Nondeterministic automaton over the characters of an input that accepts
+ * the language of one or more grammars.
+ * <p>
+ * Grammar evaluators build the automaton of their grammar with
+ * {@link #newState()}, {@link #addEpsilon(int, int)},
+ * {@link #addTransition(int, char, int)}, {@link #addWildcard(int, int)}
+ * and {@link #setAccepting(int)}, starting from {@link #getStart()}.
+ * Several automata can be combined by {@link #union(List)} so that a single
+ * pass over the input tells which of the grammars accept it. Each grammar
+ * is identified by its accept tag, i.e. its index in the united list.
+ * </p>
+ * <p>
+ * Deterministic states are created on demand while matching and shared by
+ * all matches. The automaton must not be modified once matching started.
+ * Matching is thread safe.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class GrammarAutomaton {
+    /** Maximal number of states. */
+    private static final int MAX_STATES = 65536;
+
+    /** Characters that are appended to each token of the grammar. */
+    private final String terminator;
+
+    /** Epsilon transitions by their source state. */
+    private final List<Collection<Integer>> epsilons;
+
+    /** Character transitions by their source state. */
+    private final List<Map<Character, Collection<Integer>>> transitions;
+
+    /** Targets of transitions for any character by their source state. */
+    private final List<Collection<Integer>> wildcards;
+
+    /** Accept tags by the accepting states. */
+    private final Map<Integer, Integer> accepting;
+
+    /** Number of accept tags. */
+    private int tags;
+
+    /** States that can reach an accepting state. */
+    private BitSet live;
+
+    /** Deterministic states by their set of nondeterministic states. */
+    private Map<BitSet, DeterministicState> deterministicStates;
+
+    /** The deterministic start state. */
+    private DeterministicState start;
+
+    /**
+     * Constructs a new automaton with a start state for a single grammar.
+     * @param tokenTerminator characters that are appended to each token of
+     *          the grammar and to the input, e.g. a space for spoken input
+     *          that separates tokens by spaces or an empty string for DTMF
+     */
+    public GrammarAutomaton(final String tokenTerminator) {
+        terminator = tokenTerminator;
+        epsilons = new java.util.ArrayList<Collection<Integer>>();
+        transitions =
+                new java.util.ArrayList<Map<Character, Collection<Integer>>>();
+        wildcards = new java.util.ArrayList<Collection<Integer>>();
+        accepting = new java.util.HashMap<Integer, Integer>();
+        tags = 1;
+        newState();
+    }
+
+    /**
+     * Combines the given automata into a single automaton that accepts the
+     * union of their languages. The accept tag of each automaton is its
+     * index in the given list.
+     * @param automata the automata to combine
+     * @return combined automaton
+     * @exception IllegalArgumentException
+     *          if the automata do not share the same token terminator
+     * @exception IllegalStateException
+     *          if the combined automaton exceeds the maximal number of
+     *          states
+     */
+    public static GrammarAutomaton union(
+            final List<GrammarAutomaton> automata) {
+        String tokenTerminator = "";
+        if (!automata.isEmpty()) {
+            tokenTerminator = automata.get(0).getTerminator();
+        }
+        final GrammarAutomaton union = new GrammarAutomaton(tokenTerminator);
+        union.tags = automata.size();
+        for (int tag = 0; tag < automata.size(); tag++) {
+            final GrammarAutomaton automaton = automata.get(tag);
+            if (!tokenTerminator.equals(automaton.getTerminator())) {
+                throw new IllegalArgumentException(
+                        "automata with different token terminators");
+            }
+            final int offset = union.epsilons.size();
+            for (int i = 0; i < automaton.epsilons.size(); i++) {
+                union.newState();
+            }
+            union.addEpsilon(union.getStart(), offset + automaton.getStart());
+            for (int i = 0; i < automaton.epsilons.size(); i++) {
+                for (int target : automaton.epsilons.get(i)) {
+                    union.addEpsilon(offset + i, offset + target);
+                }
+                for (Map.Entry<Character, Collection<Integer>> entry
+                        : automaton.transitions.get(i).entrySet()) {
+                    for (int target : entry.getValue()) {
+                        union.addTransition(offset + i, entry.getKey(),
+                                offset + target);
+                    }
+                }
+                for (int target : automaton.wildcards.get(i)) {
+                    union.addWildcard(offset + i, offset + target);
+                }
+            }
+            for (int state : automaton.accepting.keySet()) {
+                union.accepting.put(offset + state, tag);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Retrieves the characters that are appended to each token.
+     * @return the token terminator
+     */
+    public String getTerminator() {
+        return terminator;
+    }
+
+    /**
+     * Retrieves the start state.
+     * @return number of the start state
+     */
+    public int getStart() {
+        return 0;
+    }
+
+    /**
+     * Creates a new state.
+     * @return number of the new state
+     * @exception IllegalStateException
+     *          if the automaton exceeds the maximal number of states
+     */
+    public int newState() {
+        if (epsilons.size() >= MAX_STATES) {
+            throw new IllegalStateException("too many states");
+        }
+        epsilons.add(new java.util.ArrayList<Integer>());
+        transitions.add(new java.util.HashMap<Character,
+                Collection<Integer>>());
+        wildcards.add(new java.util.ArrayList<Integer>());
+        return epsilons.size() - 1;
+    }
+
+    /**
+     * Retrieves the number of states.
+     * @return number of states
+     */
+    public int getNumStates() {
+        return epsilons.size();
+    }
+
+    /**
+     * Adds a transition that does not consume any input.
+     * @param from source state
+     * @param to target state
+     */
+    public void addEpsilon(final int from, final int to) {
+        epsilons.get(from).add(to);
+    }
+
+    /**
+     * Adds a transition for the given character.
+     * @param from source state
+     * @param ch the character
+     * @param to target state
+     */
+    public void addTransition(final int from, final char ch, final int to) {
+        final Map<Character, Collection<Integer>> current =
+                transitions.get(from);
+        Collection<Integer> targets = current.get(ch);
+        if (targets == null) {
+            targets = new java.util.ArrayList<Integer>();
+            current.put(ch, targets);
+        }
+        targets.add(to);
+    }
+
+    /**
+     * Adds a transition for any character.
+     * @param from source state
+     * @param to target state
+     */
+    public void addWildcard(final int from, final int to) {
+        wildcards.get(from).add(to);
+    }
+
+    /**
+     * Adds transitions for the given token followed by the token
+     * terminator.
+     * @param from source state
+     * @param token the token
+     * @return the state after the token
+     */
+    public int addToken(final int from, final String token) {
+        int current = from;
+        final String text = token + terminator;
+        for (int i = 0; i < text.length(); i++) {
+            final int next = newState();
+            addTransition(current, text.charAt(i), next);
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Marks the given state as accepting.
+     * @param state the state
+     */
+    public void setAccepting(final int state) {
+        accepting.put(state, 0);
+    }
+
+    /**
+     * Matches the given input in a single pass.
+     * @param input the input without a trailing token terminator, tokens
+     *          are separated by the token terminator
+     * @return accept tags of all automata that accept the input, empty if
+     *          there are none
+     */
+    public BitSet match(final String input) {
+        DeterministicState current = getStartState();
+        final String text = input + terminator;
+        for (int i = 0; i < text.length()
+                && current.prefixState != PrefixState.DEAD; i++) {
+            current = next(current, text.charAt(i));
+        }
+        return (BitSet) current.tags.clone();
+    }
+
+    /**
+     * Creates a new matcher for an empty input. Each appended token is
+     * followed by the token terminator.
+     * @return created matcher
+     */
+    public PrefixMatcher createPrefixMatcher() {
+        return new AutomatonPrefixMatcher(getStartState());
+    }
+
+    /**
+     * Retrieves the deterministic start state and prepares the automaton
+     * for matching if this is the first match.
+     * @return the start state
+     */
+    private synchronized DeterministicState getStartState() {
+        if (start == null) {
+            live = computeLiveStates();
+            deterministicStates =
+                    new java.util.HashMap<BitSet, DeterministicState>();
+            final BitSet states = new BitSet();
+            states.set(getStart());
+            start = getDeterministicState(states);
+        }
+        return start;
+    }
+
+    /**
+     * Determines all states that can reach an accepting state.
+     * @return the live states
+     */
+    private BitSet computeLiveStates() {
+        final int size = epsilons.size();
+        final List<Collection<Integer>> predecessors =
+                new java.util.ArrayList<Collection<Integer>>(size);
+        for (int i = 0; i < size; i++) {
+            predecessors.add(new java.util.ArrayList<Integer>());
+        }
+        for (int i = 0; i < size; i++) {
+            for (int target : epsilons.get(i)) {
+                predecessors.get(target).add(i);
+            }
+            for (Collection<Integer> targets : transitions.get(i).values()) {
+                for (int target : targets) {
+                    predecessors.get(target).add(i);
+                }
+            }
+            for (int target : wildcards.get(i)) {
+                predecessors.get(target).add(i);
+            }
+        }
+        final BitSet reached = new BitSet(size);
+        final java.util.Deque<Integer> pending =
+                new java.util.ArrayDeque<Integer>();
+        for (int state : accepting.keySet()) {
+            reached.set(state);
+            pending.add(state);
+        }
+        while (!pending.isEmpty()) {
+            final int state = pending.poll();
+            for (int predecessor : predecessors.get(state)) {
+                if (!reached.get(predecessor)) {
+                    reached.set(predecessor);
+                    pending.add(predecessor);
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Retrieves the deterministic state for the epsilon closure of the
+     * given states.
+     * @param states nondeterministic states
+     * @return the deterministic state
+     */
+    private DeterministicState getDeterministicState(final BitSet states) {
+        final BitSet closure = new BitSet();
+        final java.util.Deque<Integer> pending =
+                new java.util.ArrayDeque<Integer>();
+        for (int i = states.nextSetBit(0); i >= 0;
+                i = states.nextSetBit(i + 1)) {
+            if (live.get(i)) {
+                closure.set(i);
+                pending.add(i);
+            }
+        }
+        while (!pending.isEmpty()) {
+            final int state = pending.poll();
+            for (int target : epsilons.get(state)) {
+                if (live.get(target) && !closure.get(target)) {
+                    closure.set(target);
+                    pending.add(target);
+                }
+            }
+        }
+        DeterministicState state = deterministicStates.get(closure);
+        if (state == null) {
+            state = new DeterministicState(closure);
+            deterministicStates.put(closure, state);
+        }
+        return state;
+    }
+
+    /**
+     * Determines the successor of the given state.
+     * @param state the current state
+     * @param ch the next character
+     * @return the successor
+     */
+    private synchronized DeterministicState next(
+            final DeterministicState state, final char ch) {
+        DeterministicState successor = state.successors.get(ch);
+        if (successor != null) {
+            return successor;
+        }
+        final BitSet targets = new BitSet();
+        final BitSet states = state.states;
+        for (int i = states.nextSetBit(0); i >= 0;
+                i = states.nextSetBit(i + 1)) {
+            final Collection<Integer> characterTargets =
+                    transitions.get(i).get(ch);
+            if (characterTargets != null) {
+                for (int target : characterTargets) {
+                    targets.set(target);
+                }
+            }
+            for (int target : wildcards.get(i)) {
+                targets.set(target);
+            }
+        }
+        successor = getDeterministicState(targets);
+        state.successors.put(ch, successor);
+        return successor;
+    }
+
+    /**
+     * A state of the deterministic automaton.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private final class DeterministicState {
+        /** The live nondeterministic states. */
+        private final BitSet states;
+
+        /** Accept tags of the automata that accept in this state. */
+        private final BitSet tags;
+
+        /** State of the input when reaching this state. */
+        private final PrefixState prefixState;
+
+        /** Already known successors by their character. */
+        private final Map<Character, DeterministicState> successors;
+
+        /**
+         * Constructs a new object.
+         * @param nondeterministicStates the live nondeterministic states
+         */
+        DeterministicState(final BitSet nondeterministicStates) {
+            states = nondeterministicStates;
+            successors = new java.util.HashMap<Character, DeterministicState>();
+            tags = new BitSet(GrammarAutomaton.this.tags);
+            boolean extensible = false;
+            for (int i = states.nextSetBit(0); i >= 0;
+                    i = states.nextSetBit(i + 1)) {
+                final Integer tag = accepting.get(i);
+                if (tag != null) {
+                    tags.set(tag);
+                }
+                extensible |= hasLiveTarget(i);
+            }
+            prefixState = PrefixState.valueOf(!tags.isEmpty(), extensible);
+        }
+
+        /**
+         * Checks if the given nondeterministic state has a transition to a
+         * live state.
+         * @param state the nondeterministic state
+         * @return <code>true</code> if there is such a transition
+         */
+        private boolean hasLiveTarget(final int state) {
+            for (int target : wildcards.get(state)) {
+                if (live.get(target)) {
+                    return true;
+                }
+            }
+            for (Collection<Integer> targets
+                    : transitions.get(state).values()) {
+                for (int target : targets) {
+                    if (live.get(target)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Matcher that walks through the deterministic states.
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private final class AutomatonPrefixMatcher implements PrefixMatcher {
+        /** The current state. */
+        private DeterministicState current;
+
+        /**
+         * Constructs a new object.
+         * @param state the start state
+         */
+        AutomatonPrefixMatcher(final DeterministicState state) {
+            current = state;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PrefixState append(final String token) {
+            final String text = token + terminator;
+            for (int i = 0; i < text.length(); i++) {
+                current = next(current, text.charAt(i));
+            }
+            return current.prefixState;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public PrefixState getState() {
+            return current.prefixState;
+        }
+    }
+}
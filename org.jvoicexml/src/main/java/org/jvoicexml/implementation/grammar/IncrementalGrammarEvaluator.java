@@ -0,0 +1,44 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+/**
+ * A {@link GrammarEvaluator} that is also able to provide an automaton of
+ * its grammar. The automaton is used to match an input incrementally while
+ * it is being entered and to match an input against several grammars in a
+ * single pass.
+ * <p>
+ * The automaton must accept at least all inputs that are accepted by
+ * {@link #getSemanticInterpretation(org.jvoicexml.interpreter.datamodel.DataModel, String)}.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface IncrementalGrammarEvaluator extends GrammarEvaluator {
+    /**
+     * Retrieves the automaton of the associated grammar.
+     * @return the automaton, <code>null</code> if the associated grammar
+     *         cannot be converted into an automaton
+     */
+    GrammarAutomaton getAutomaton();
+}
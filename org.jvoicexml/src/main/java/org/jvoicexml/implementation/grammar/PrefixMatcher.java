@@ -0,0 +1,49 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+/**
+ * Incremental matcher of an input against a grammar. The input is appended
+ * token by token, e.g. DTMF by DTMF, and the matcher tells after each token
+ * if the input so far is complete, may be continued or can never be
+ * accepted.
+ * <p>
+ * Matchers are created per recognition and are not thread safe.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface PrefixMatcher {
+    /**
+     * Appends the given token to the input.
+     * @param token the next token
+     * @return state of the input after appending the token
+     */
+    PrefixState append(final String token);
+
+    /**
+     * Retrieves the state of the current input.
+     * @return state of the current input
+     */
+    PrefixState getState();
+}
@@ -0,0 +1,92 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+/**
+ * State of an input prefix with respect to a grammar as determined by a
+ * {@link PrefixMatcher}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public enum PrefixState {
+    /** The input is a prefix of a valid input but not complete yet. */
+    PREFIX(false, true),
+    /** The input is complete but the grammar allows more input. */
+    COMPLETE(true, true),
+    /** The input is complete and the grammar does not allow more input. */
+    FINAL(true, false),
+    /** No continuation of the input will be accepted by the grammar. */
+    DEAD(false, false);
+
+    /** <code>true</code> if the input is accepted as is. */
+    private final boolean complete;
+
+    /** <code>true</code> if the grammar allows more input. */
+    private final boolean extensible;
+
+    /**
+     * Constructs a new object.
+     * @param isComplete <code>true</code> if the input is accepted as is
+     * @param isExtensible <code>true</code> if the grammar allows more input
+     */
+    PrefixState(final boolean isComplete, final boolean isExtensible) {
+        complete = isComplete;
+        extensible = isExtensible;
+    }
+
+    /**
+     * Checks if the input is accepted as is.
+     * @return <code>true</code> if the input is accepted
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Checks if the grammar allows more input.
+     * @return <code>true</code> if more input is allowed
+     */
+    public boolean isExtensible() {
+        return extensible;
+    }
+
+    /**
+     * Retrieves the state with the given properties.
+     * @param isComplete <code>true</code> if the input is accepted as is
+     * @param isExtensible <code>true</code> if the grammar allows more input
+     * @return the state
+     */
+    public static PrefixState valueOf(final boolean isComplete,
+            final boolean isExtensible) {
+        if (isComplete) {
+            if (isExtensible) {
+                return COMPLETE;
+            }
+            return FINAL;
+        }
+        if (isExtensible) {
+            return PREFIX;
+        }
+        return DEAD;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.implementation.GrammarImplementation;
+import org.jvoicexml.interpreter.datamodel.DataModel;
+
+/**
+ * Matches an input against all active grammars in a single pass.
+ * <p>
+ * The automata of all {@link IncrementalGrammarEvaluator}s are combined
+ * into a single automaton where each grammar is identified by its accept
+ * tag. A single pass over the input yields all grammars that may accept
+ * it. Only these are asked for the semantic interpretation. Likewise,
+ * {@link CombinableGrammarEvaluator}s of the same class are combined into
+ * a single {@link CombinedGrammarMatcher}. Grammars that can neither be
+ * combined nor provide an automaton are always asked.
+ * </p>
+ * <p>
+ * The grammars are expected in the order of their precedence. As demanded
+ * by VoiceXML, grammars of the innermost scope take precedence over those
+ * of outer scopes. Within a scope, grammars take precedence in document
+ * order. If several grammars match, the interpretation of the first one in
+ * this order is taken.
+ * </p>
+ * <p>
+ * Matchers are immutable and may be reused as long as the active grammars
+ * do not change.
+ * </p>
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class UnionGrammarMatcher {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(UnionGrammarMatcher.class);
+
+    /** The active grammars in the order of their precedence. */
+    private final List<GrammarImplementation<?>> grammars;
+
+    /** The evaluators of the active grammars by their precedence. */
+    private final List<GrammarEvaluator> evaluators;
+
+    /** Accept tags of the evaluators, <code>-1</code> if there is none. */
+    private final List<Integer> tags;
+
+    /** Number of evaluators with an accept tag. */
+    private final int tagged;
+
+    /** Combined automaton, <code>null</code> if there is none. */
+    private final GrammarAutomaton automaton;
+
+    /** Matchers of the combined evaluators. */
+    private final List<CombinedGrammarMatcher> combined;
+
+    /**
+     * Indices of the combined matchers of the evaluators, <code>-1</code> if
+     * there is none.
+     */
+    private final int[] groups;
+
+    /** Positions of the evaluators within their combined matchers. */
+    private final int[] positions;
+
+    /**
+     * Constructs a new object.
+     * @param activeGrammars the active grammars in the order of their
+     *          precedence
+     */
+    public UnionGrammarMatcher(
+            final List<GrammarImplementation<?>> activeGrammars) {
+        grammars = new java.util.ArrayList<GrammarImplementation<?>>(
+                activeGrammars);
+        evaluators = new java.util.ArrayList<GrammarEvaluator>();
+        tags = new java.util.ArrayList<Integer>();
+        final List<GrammarAutomaton> automata =
+                new java.util.ArrayList<GrammarAutomaton>();
+        for (GrammarImplementation<?> grammar : grammars) {
+            if (!(grammar instanceof GrammarEvaluator)) {
+                continue;
+            }
+            final GrammarEvaluator evaluator = (GrammarEvaluator) grammar;
+            evaluators.add(evaluator);
+            int tag = -1;
+            if (evaluator instanceof IncrementalGrammarEvaluator) {
+                final IncrementalGrammarEvaluator incremental =
+                        (IncrementalGrammarEvaluator) evaluator;
+                final GrammarAutomaton current = incremental.getAutomaton();
+                if (current != null && (automata.isEmpty()
+                        || automata.get(0).getTerminator().equals(
+                                current.getTerminator()))) {
+                    tag = automata.size();
+                    automata.add(current);
+                }
+            }
+            tags.add(tag);
+        }
+        automaton = unite(automata);
+        if (automaton == null) {
+            automata.clear();
+            for (int i = 0; i < tags.size(); i++) {
+                tags.set(i, -1);
+            }
+        }
+        tagged = automata.size();
+        combined = new java.util.ArrayList<CombinedGrammarMatcher>();
+        groups = new int[evaluators.size()];
+        positions = new int[evaluators.size()];
+        java.util.Arrays.fill(groups, -1);
+        combine();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("combined " + tagged + " of "
+                    + evaluators.size() + " grammar(s) into a single "
+                    + "automaton and others into " + combined.size()
+                    + " matcher(s)");
+        }
+    }
+
+    /**
+     * Combines all {@link CombinableGrammarEvaluator}s that are not part of
+     * the automaton by their class.
+     */
+    private void combine() {
+        final Map<Class<?>, List<Integer>> classes =
+                new java.util.LinkedHashMap<Class<?>, List<Integer>>();
+        for (int i = 0; i < evaluators.size(); i++) {
+            final GrammarEvaluator evaluator = evaluators.get(i);
+            if (tags.get(i) >= 0
+                    || !(evaluator instanceof CombinableGrammarEvaluator)) {
+                continue;
+            }
+            final Class<?> clazz = evaluator.getClass();
+            List<Integer> indices = classes.get(clazz);
+            if (indices == null) {
+                indices = new java.util.ArrayList<Integer>();
+                classes.put(clazz, indices);
+            }
+            indices.add(i);
+        }
+        for (List<Integer> indices : classes.values()) {
+            final List<CombinableGrammarEvaluator> members =
+                    new java.util.ArrayList<CombinableGrammarEvaluator>();
+            for (int index : indices) {
+                members.add((CombinableGrammarEvaluator)
+                        evaluators.get(index));
+            }
+            final CombinedGrammarMatcher matcher =
+                    members.get(0).combine(members);
+            if (matcher == null) {
+                continue;
+            }
+            for (int i = 0; i < indices.size(); i++) {
+                final int index = indices.get(i);
+                groups[index] = combined.size();
+                positions[index] = i;
+            }
+            combined.add(matcher);
+        }
+    }
+
+    /**
+     * Combines the given automata.
+     * @param automata the automata to combine
+     * @return the combined automaton, <code>null</code> if there are no
+     *         automata or they cannot be combined
+     */
+    private static GrammarAutomaton unite(
+            final List<GrammarAutomaton> automata) {
+        if (automata.isEmpty()) {
+            return null;
+        }
+        try {
+            return GrammarAutomaton.union(automata);
+        } catch (IllegalStateException e) {
+            LOGGER.warn("unable to combine the grammars: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the grammars of this matcher.
+     * @return the grammars in the order of their precedence
+     */
+    public List<GrammarImplementation<?>> getGrammars() {
+        return grammars;
+    }
+
+    /**
+     * Determines all grammars that may accept the given input.
+     * @param utterance the input
+     * @return evaluators of the grammars in the order of their precedence
+     */
+    public List<GrammarEvaluator> match(final String utterance) {
+        final BitSet accepting;
+        if (automaton == null) {
+            accepting = new BitSet();
+        } else {
+            accepting = automaton.match(utterance);
+        }
+        final BitSet[] combinedMatches = new BitSet[combined.size()];
+        final List<GrammarEvaluator> matches =
+                new java.util.ArrayList<GrammarEvaluator>();
+        for (int i = 0; i < evaluators.size(); i++) {
+            final int tag = tags.get(i);
+            final int group = groups[i];
+            final boolean candidate;
+            if (tag >= 0) {
+                candidate = accepting.get(tag);
+            } else if (group >= 0) {
+                if (combinedMatches[group] == null) {
+                    combinedMatches[group] =
+                            combined.get(group).match(utterance);
+                }
+                candidate = combinedMatches[group].get(positions[i]);
+            } else {
+                candidate = true;
+            }
+            if (candidate) {
+                matches.add(evaluators.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Retrieves the semantic interpretation of the given input from the
+     * grammar with the highest precedence that accepts it.
+     * @param model the current data model
+     * @param utterance the input
+     * @return the semantic interpretation, <code>null</code> if no grammar
+     *         accepts the input
+     */
+    public Object getSemanticInterpretation(final DataModel model,
+            final String utterance) {
+        for (GrammarEvaluator evaluator : match(utterance)) {
+            final Object interpretation =
+                    evaluator.getSemanticInterpretation(model, utterance);
+            if (interpretation != null) {
+                return interpretation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a matcher to match an input incrementally against all
+     * grammars.
+     * @return created matcher, <code>null</code> if there are no grammars
+     *         or at least one of them cannot be matched incrementally
+     */
+    public PrefixMatcher createPrefixMatcher() {
+        if (automaton == null || tagged != evaluators.size()
+                || evaluators.size() != grammars.size()) {
+            return null;
+        }
+        return automaton.createPrefixMatcher();
+    }
+}
@@ -70,6 +70,9 @@ import org.jvoicexml.implementation.TelephonyEvent;
 import org.jvoicexml.implementation.TelephonyListener;
 import org.jvoicexml.implementation.dtmf.BufferedDtmfInput;
 import org.jvoicexml.implementation.pool.KeyedResourcePool;
+import org.jvoicexml.metrics.Timeline;
+import org.jvoicexml.metrics.TimelineEvent;
+import org.jvoicexml.metrics.Timelines;
 import org.jvoicexml.xml.srgs.ModeType;
 import org.jvoicexml.xml.vxml.BargeInType;
 
@@ -672,7 +675,9 @@ public final class JVoiceXmlImplementationPlatform
      *            the accepted recognition result.
      */
     public void resultAccepted(final RecognitionResult result) {
-        LOGGER.info("accepted recognition '" + result.getUtterance() + "'");
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("accepted recognition '{}'", result.getUtterance());
+        }
 
         if (eventbus != null) {
             result.setMark(markname);
@@ -697,7 +702,9 @@ public final class JVoiceXmlImplementationPlatform
      *            the rejected recognition result.
      */
     public void resultRejected(final RecognitionResult result) {
-        LOGGER.info("rejected recognition '" + result.getUtterance() + "'");
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("rejected recognition '{}'", result.getUtterance());
+        }
 
         if (eventbus != null) {
             result.setMark(markname);
@@ -775,7 +782,10 @@ public final class JVoiceXmlImplementationPlatform
             LOGGER.debug("disconnecting external resource");
         }
         resource.disconnect(info);
-        LOGGER.debug(resource.getClass().getCanonicalName() + " disconnected");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} disconnected",
+                    resource.getClass().getCanonicalName());
+        }
 
         try {
             pool.returnObject(type, resource);
@@ -783,8 +793,10 @@ public final class JVoiceXmlImplementationPlatform
             LOGGER.error("error returning external resource to pool", e);
         }
 
-        LOGGER.info("returned external resource '" + type + "' ("
-                + resource.getClass().getCanonicalName() + ") to pool");
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("returned external resource '{}' ({}) to pool", type,
+                    resource.getClass().getCanonicalName());
+        }
     }
 
     /**
@@ -792,23 +804,32 @@ public final class JVoiceXmlImplementationPlatform
      */
     @Override
     public void inputStatusChanged(final SpokenInputEvent event) {
+        final Timeline timeline = Timelines.get(session);
         if (event.isType(RecognitionStartedEvent.EVENT_TYPE)) {
+            timeline.instant(TimelineEvent.RECOGNITION_STARTED, null);
             startTimer();
         } else if (event.isType(InputStartedEvent.EVENT_TYPE)) {
             final InputStartedEvent started =
                     (InputStartedEvent) event;
             final ModeType modeType = started.getMode();
+            timeline.instant(TimelineEvent.INPUT_STARTED, modeType);
             inputStarted(modeType);
         } else if (event.isType(RecognitionEvent.EVENT_TYPE)) {
             final RecognitionEvent recognitionEvent = (RecognitionEvent) event;
             final RecognitionResult result = recognitionEvent
                     .getRecognitionResult();
+            if (timeline.isEnabled() && result != null) {
+                timeline.instant(TimelineEvent.RECOGNITION_ACCEPTED,
+                        result.getUtterance());
+            }
             resultAccepted(result);
         } else if (event.isType(NomatchEvent.EVENT_TYPE)) {
             final NomatchEvent nomatch = (NomatchEvent) event;
             final RecognitionResult result = nomatch.getRecognitionResult();
+            timeline.instant(TimelineEvent.RECOGNITION_REJECTED, null);
             resultRejected(result);
         } else if (event.isType(RecognitionStoppedEvent.EVENT_TYPE)) {
+            timeline.instant(TimelineEvent.RECOGNITION_STOPPED, null);
             recognitionStopped();
         } else {
             LOGGER.warn("unknown spoken input event " + event);
@@ -823,7 +844,8 @@ public final class JVoiceXmlImplementationPlatform
      */
     @Override
     public void timeout(final long timeout) {
-        LOGGER.info("timeout: no input detected for " + timeout + " msecs");
+        LOGGER.info("timeout: no input detected for {} msecs", timeout);
+        Timelines.get(session).instant(TimelineEvent.NOINPUT, null);
         final NoinputEvent event = new NoinputEvent(timeout);
         eventbus.publish(event);
     }
@@ -977,7 +999,7 @@ public final class JVoiceXmlImplementationPlatform
             final MarkerReachedEvent markReachedEvent =
                     (MarkerReachedEvent) event;
             markname = markReachedEvent.getMark();
-            LOGGER.info("reached mark '" + markname + "'");
+            LOGGER.info("reached mark '{}'", markname);
         } else {
             LOGGER.warn("unknown synthesized output event " + event);
         }
@@ -995,17 +1017,13 @@ public final class JVoiceXmlImplementationPlatform
         }
 
         if (call != null) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.info("will stop call playing");
-            }
+            LOGGER.debug("will stop call playing");
             try {
                 call.stopPlay();
             } catch (NoresourceError ex) {
                 LOGGER.warn("error stopping play", ex);
             }
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.info("done stop play request");
-            }
+            LOGGER.debug("done stop play request");
         }
 
         if (hungup) {
@@ -22,6 +22,9 @@
 package org.jvoicexml.implementation.jvxml;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,6 +42,7 @@ import org.jvoicexml.implementation.SynthesizedOutput;
 import org.jvoicexml.implementation.Telephony;
 import org.jvoicexml.implementation.dtmf.BufferedDtmfInput;
 import org.jvoicexml.implementation.pool.KeyedResourcePool;
+import org.jvoicexml.implementation.pool.PoolWarmup;
 
 /**
  * Basic implementation of an {@link ImplementationPlatformFactory}.
@@ -61,6 +65,13 @@ public final class JVoiceXmlImplementationPlatformFactory
     private static final Logger LOGGER = LogManager
             .getLogger(JVoiceXmlImplementationPlatformFactory.class);
 
+    /**
+     * Minimal default number of threads to create the resources. Creating
+     * resources usually waits for I/O, so this is independent of the
+     * available processors.
+     */
+    private static final int MIN_WARMUP_THREADS = 4;
+
     /** Pool of synthesizer output resource factories. */
     private final KeyedResourcePool<SynthesizedOutput> synthesizerPool;
 
@@ -73,6 +84,18 @@ public final class JVoiceXmlImplementationPlatformFactory
     /** The JVoiceXML configuration. */
     private Configuration configuration;
 
+    /** Number of threads to create the resources. */
+    private int warmupThreads;
+
+    /** Number of instances per type that must be available at startup. */
+    private int readyInstances;
+
+    /** Executor to create the resources in the background. */
+    private ExecutorService warmupExecutor;
+
+    /** Progress of the creation of the resources of all types. */
+    private final Collection<PoolWarmup> warmups;
+
     /**
      * Constructs a new object.
      * 
@@ -87,6 +110,79 @@ public final class JVoiceXmlImplementationPlatformFactory
         synthesizerPool = new KeyedResourcePool<SynthesizedOutput>();
         spokenInputPool = new KeyedResourcePool<SpokenInput>();
         telephonyPool = new KeyedResourcePool<Telephony>();
+        warmupThreads = Math.max(MIN_WARMUP_THREADS,
+                Runtime.getRuntime().availableProcessors());
+        warmups = new java.util.ArrayList<PoolWarmup>();
+    }
+
+    /**
+     * Sets the number of threads to create the resources in
+     * {@link #init(Configuration)}. The resources are created one after the
+     * other if the number is less than <code>2</code>. Defaults to the
+     * number of available processors but at least
+     * {@value #MIN_WARMUP_THREADS}.
+     * 
+     * @param threads number of threads
+     * @since 0.7.9
+     */
+    public void setWarmupThreads(final int threads) {
+        warmupThreads = threads;
+    }
+
+    /**
+     * Sets the number of instances of each type that must be available
+     * before {@link #init(Configuration)} returns. The remaining instances
+     * are created in the background. If the number is not positive, all
+     * instances must be available.
+     * 
+     * @param instances number of instances per type
+     * @since 0.7.9
+     */
+    public void setReadyInstances(final int instances) {
+        readyInstances = instances;
+    }
+
+    /**
+     * Switches the resource pools to the elastic mode. Only the given number
+     * of instances of each type is created in {@link #init(Configuration)}.
+     * Further instances are created with increasing load, up to the number
+     * of instances of the {@link ResourceFactory}.
+     * 
+     * @param instances number of warm instances per type, <code>0</code> to
+     *            create all instances up front
+     * @since 0.7.9
+     * @see KeyedResourcePool#setCoreInstances(int)
+     */
+    public void setCoreInstances(final int instances) {
+        synthesizerPool.setCoreInstances(instances);
+        spokenInputPool.setCoreInstances(instances);
+        telephonyPool.setCoreInstances(instances);
+    }
+
+    /**
+     * Sets the utilization that lets elastic resource pools grow.
+     * 
+     * @param threshold ratio of active instances to all instances of a type
+     * @since 0.7.9
+     * @see KeyedResourcePool#setGrowThreshold(float)
+     */
+    public void setGrowThreshold(final float threshold) {
+        synthesizerPool.setGrowThreshold(threshold);
+        spokenInputPool.setGrowThreshold(threshold);
+        telephonyPool.setGrowThreshold(threshold);
+    }
+
+    /**
+     * Sets the time until idle instances of elastic resource pools end.
+     * 
+     * @param msec idle timeout in msec
+     * @since 0.7.9
+     * @see KeyedResourcePool#setIdleTimeout(long)
+     */
+    public void setIdleTimeout(final long msec) {
+        synthesizerPool.setIdleTimeout(msec);
+        spokenInputPool.setIdleTimeout(msec);
+        telephonyPool.setIdleTimeout(msec);
     }
 
     /**
@@ -115,6 +211,24 @@ public final class JVoiceXmlImplementationPlatformFactory
         }
         final Collection<ResourceFactory> resourceFactories = config
                 .loadObjects(ResourceFactory.class, "implementation");
+        if (warmupThreads > 1) {
+            warmupExecutor = Executors.newFixedThreadPool(warmupThreads,
+                    new ThreadFactory() {
+                        private int number;
+
+                        @Override
+                        public synchronized Thread newThread(
+                                final Runnable runnable) {
+                            final Thread thread = new Thread(runnable,
+                                    "ResourceWarmupThread-" + ++number);
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            synthesizerPool.setWarmupExecutor(warmupExecutor);
+            spokenInputPool.setWarmupExecutor(warmupExecutor);
+            telephonyPool.setWarmupExecutor(warmupExecutor);
+        }
         try {
             for (ResourceFactory resourceFactory : resourceFactories) {
                 final Class<ExternalResource> clazz = resourceFactory
@@ -129,7 +243,16 @@ public final class JVoiceXmlImplementationPlatformFactory
             }
         } catch (Exception | UnsatisfiedLinkError e) {
             throw new ConfigurationException(e.getMessage(), e);
+        } finally {
+            synthesizerPool.setWarmupExecutor(null);
+            spokenInputPool.setWarmupExecutor(null);
+            telephonyPool.setWarmupExecutor(null);
+            if (warmupExecutor != null) {
+                // Already submitted resources are still created
+                warmupExecutor.shutdown();
+            }
         }
+        awaitWarmups();
 
         // Give a short summary of what is available
         reportPlatforms();
@@ -138,6 +261,40 @@ public final class JVoiceXmlImplementationPlatformFactory
         configuration = config;
     }
 
+    /**
+     * Waits until the required number of instances of each type is
+     * available.
+     * 
+     * @throws ConfigurationException
+     *             the required instances could not be created
+     * @since 0.7.9
+     */
+    private void awaitWarmups() throws ConfigurationException {
+        final Collection<PoolWarmup> current;
+        synchronized (warmups) {
+            current = new java.util.ArrayList<PoolWarmup>(warmups);
+        }
+        for (PoolWarmup warmup : current) {
+            final int required;
+            if (readyInstances > 0) {
+                required = readyInstances;
+            } else {
+                required = warmup.getInstances();
+            }
+            try {
+                warmup.awaitMinimum(required);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConfigurationException(e.getMessage(), e);
+            } catch (Exception e) {
+                throw new ConfigurationException("error creating resources "
+                        + "of type '" + warmup.getType() + "': "
+                        + e.getMessage(), e);
+            }
+            LOGGER.info("ready with " + warmup);
+        }
+    }
+
     /**
      * Log a report of currently available platforms.
      * 
@@ -219,7 +376,7 @@ public final class JVoiceXmlImplementationPlatformFactory
     private void addSynthesizedOutputFactory(
             final ResourceFactory<SynthesizedOutput> factory) throws Exception {
         final String type = factory.getType();
-        synthesizerPool.addResourceFactory(factory);
+        addWarmup(synthesizerPool.addResourceFactory(factory));
 
         LOGGER.info("added synthesized output factory " + factory.getClass()
                 + " for type '" + type + "'");
@@ -239,7 +396,7 @@ public final class JVoiceXmlImplementationPlatformFactory
             final ResourceFactory<SpokenInput> factory)
             throws Exception {
         final String type = factory.getType();
-        spokenInputPool.addResourceFactory(factory);
+        addWarmup(spokenInputPool.addResourceFactory(factory));
 
         LOGGER.info("added user input factory " + factory.getClass()
                 + " for type '" + type + "'");
@@ -258,11 +415,52 @@ public final class JVoiceXmlImplementationPlatformFactory
     public void addTelephonyFactory(final ResourceFactory<Telephony> factory)
             throws Exception {
         final String type = factory.getType();
-        telephonyPool.addResourceFactory(factory);
+        addWarmup(telephonyPool.addResourceFactory(factory));
         LOGGER.info("added telephony factory " + factory.getClass()
                 + " for type '" + type + "'");
     }
 
+    /**
+     * Keeps track of the progress of the creation of resources.
+     * 
+     * @param warmup the progress of a single type
+     */
+    private void addWarmup(final PoolWarmup warmup) {
+        synchronized (warmups) {
+            warmups.add(warmup);
+        }
+    }
+
+    /**
+     * Retrieves the pool of synthesized output resources.
+     * 
+     * @return the synthesizer pool
+     * @since 0.7.9
+     */
+    public KeyedResourcePool<SynthesizedOutput> getSynthesizerPool() {
+        return synthesizerPool;
+    }
+
+    /**
+     * Retrieves the pool of spoken input resources.
+     * 
+     * @return the spoken input pool
+     * @since 0.7.9
+     */
+    public KeyedResourcePool<SpokenInput> getSpokenInputPool() {
+        return spokenInputPool;
+    }
+
+    /**
+     * Retrieves the pool of telephony resources.
+     * 
+     * @return the telephony pool
+     * @since 0.7.9
+     */
+    public KeyedResourcePool<Telephony> getTelephonyPool() {
+        return telephonyPool;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -299,6 +497,11 @@ public final class JVoiceXmlImplementationPlatformFactory
         final TerminationThread termination = new TerminationThread();
         termination.start();
 
+        // Stop the creation of resources that are not needed anymore
+        if (warmupExecutor != null) {
+            warmupExecutor.shutdownNow();
+        }
+
         /** @todo Wait until all objects are returned to the pool. */
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("synthesizer pool has "
@@ -35,6 +35,11 @@ import org.jvoicexml.event.plain.ConnectionDisconnectHangupEvent;
 import org.jvoicexml.implementation.SynthesizedOutput;
 import org.jvoicexml.implementation.SynthesizedOutputListener;
 import org.jvoicexml.implementation.SynthesizedOutputProvider;
+import org.jvoicexml.metrics.Metrics;
+import org.jvoicexml.metrics.Timeline;
+import org.jvoicexml.metrics.TimelineEvent;
+import org.jvoicexml.metrics.Timelines;
+import org.jvoicexml.metrics.Timer;
 import org.jvoicexml.xml.vxml.BargeInType;
 
 /**
@@ -55,6 +60,14 @@ final class JVoiceXmlSystemOutput
     private static final Logger LOGGER =
         LogManager.getLogger(JVoiceXmlSystemOutput.class);
 
+    /** Time to queue a speakable. */
+    private static final Timer QUEUE_TIMER =
+            Metrics.timer("jvoicexml_prompt_queue_seconds");
+
+    /** Time to play the queued prompts. */
+    private static final Timer PLAY_TIMER =
+            Metrics.timer("jvoicexml_prompt_play_seconds");
+
     /** The synthesizer output device. */
     private final SynthesizedOutput synthesizedOutput;
 
@@ -83,7 +96,16 @@ final class JVoiceXmlSystemOutput
     public void queueSpeakable(final SpeakableText speakable,
             final SessionIdentifier sessionId,
             final DocumentServer documentServer) throws NoresourceError, BadFetchError, ConnectionDisconnectHangupEvent {
-        synthesizedOutput.queueSpeakable(speakable, sessionId, documentServer);
+        final long start = QUEUE_TIMER.start();
+        final Timeline timeline = Timelines.get(sessionId);
+        final long begin = timeline.begin(TimelineEvent.PROMPT_QUEUE, null);
+        try {
+            synthesizedOutput.queueSpeakable(speakable, sessionId,
+                    documentServer);
+        } finally {
+            timeline.end(TimelineEvent.PROMPT_QUEUE, null, begin);
+            QUEUE_TIMER.stop(start);
+        }
     }
 
     /**
@@ -93,7 +115,15 @@ final class JVoiceXmlSystemOutput
     public void playPrompts(SessionIdentifier sessionId, DocumentServer server,
             CallControlProperties callProps) throws BadFetchError,
             NoresourceError, ConnectionDisconnectHangupEvent {
-        synthesizedOutput.playPrompts(sessionId, server, callProps);
+        final long start = PLAY_TIMER.start();
+        final Timeline timeline = Timelines.get(sessionId);
+        final long begin = timeline.begin(TimelineEvent.PROMPT_PLAY, null);
+        try {
+            synthesizedOutput.playPrompts(sessionId, server, callProps);
+        } finally {
+            timeline.end(TimelineEvent.PROMPT_PLAY, null, begin);
+            PLAY_TIMER.stop(start);
+        }
     }
     
     /**
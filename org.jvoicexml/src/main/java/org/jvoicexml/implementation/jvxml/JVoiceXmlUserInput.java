@@ -46,6 +46,8 @@ import org.jvoicexml.implementation.dtmf.BufferedDtmfInput;
 import org.jvoicexml.implementation.grammar.GrammarCache;
 import org.jvoicexml.implementation.grammar.LoadedGrammar;
 import org.jvoicexml.interpreter.datamodel.DataModel;
+import org.jvoicexml.metrics.Metrics;
+import org.jvoicexml.metrics.Timer;
 import org.jvoicexml.xml.srgs.GrammarType;
 import org.jvoicexml.xml.srgs.ModeType;
 import org.jvoicexml.xml.vxml.BargeInType;
@@ -69,6 +71,10 @@ final class JVoiceXmlUserInput implements UserInput, SpokenInputProvider {
     private static final Logger LOGGER = LogManager
             .getLogger(JVoiceXmlUserInput.class);
 
+    /** Time to load and activate grammars. */
+    private static final Timer ACTIVATION_TIMER =
+            Metrics.timer("jvoicexml_grammar_activation_seconds");
+
     /** The character input device. */
     private final BufferedDtmfInput dtmfInput;
 
@@ -122,31 +128,36 @@ final class JVoiceXmlUserInput implements UserInput, SpokenInputProvider {
     public int activateGrammars(final Collection<GrammarDocument> grammars)
             throws BadFetchError, UnsupportedLanguageError, NoresourceError,
             UnsupportedFormatError, SemanticError, NoauthorizationError {
-        // Separate grammars for the DTMF and voice recognizer
-        final Collection<GrammarImplementation<?>> voiceGrammars =
-                new java.util.ArrayList<GrammarImplementation<?>>();
-        final Collection<GrammarImplementation<?>> dtmfGrammars =
-                new java.util.ArrayList<GrammarImplementation<?>>();
-        for (GrammarDocument grammar : grammars) {
-            final GrammarImplementation<?> grammarImplementation = loadGrammar(
-                    grammar);
-            final ModeType type = grammarImplementation.getModeType();
-            // A grammar is voice by default.
-            if (type == ModeType.DTMF) {
-                dtmfGrammars.add(grammarImplementation);
-            } else {
-                voiceGrammars.add(grammarImplementation);
+        final long start = ACTIVATION_TIMER.start();
+        try {
+            // Separate grammars for the DTMF and voice recognizer
+            final Collection<GrammarImplementation<?>> voiceGrammars =
+                    new java.util.ArrayList<GrammarImplementation<?>>();
+            final Collection<GrammarImplementation<?>> dtmfGrammars =
+                    new java.util.ArrayList<GrammarImplementation<?>>();
+            for (GrammarDocument grammar : grammars) {
+                final GrammarImplementation<?> grammarImplementation =
+                        loadGrammar(grammar);
+                final ModeType type = grammarImplementation.getModeType();
+                // A grammar is voice by default.
+                if (type == ModeType.DTMF) {
+                    dtmfGrammars.add(grammarImplementation);
+                } else {
+                    voiceGrammars.add(grammarImplementation);
+                }
             }
-        }
 
-        // Activate the specific grammars per mode type
-        if (!voiceGrammars.isEmpty()) {
-            spokenInput.activateGrammars(voiceGrammars);
-        }
-        if ((dtmfInput != null) && !dtmfGrammars.isEmpty()) {
-            dtmfInput.activateGrammars(dtmfGrammars);
+            // Activate the specific grammars per mode type
+            if (!voiceGrammars.isEmpty()) {
+                spokenInput.activateGrammars(voiceGrammars);
+            }
+            if ((dtmfInput != null) && !dtmfGrammars.isEmpty()) {
+                dtmfInput.activateGrammars(dtmfGrammars);
+            }
+            return voiceGrammars.size() + dtmfGrammars.size();
+        } finally {
+            ACTIVATION_TIMER.stop(start);
         }
-        return voiceGrammars.size() + dtmfGrammars.size();
     }
 
     /**
@@ -45,8 +45,11 @@ final class RecordingThread extends Thread {
     private static final Logger LOGGER = LogManager
             .getLogger(RecordingThread.class);
 
-    /** Read buffer size when reading from the microphone. */
-    private static final int BUFFER_SIZE = 512;
+    /** Minimal read buffer size when reading from the microphone. */
+    private static final int MIN_BUFFER_SIZE = 512;
+
+    /** Duration of the audio in the read buffer in msec. */
+    private static final int BUFFER_DURATION = 100;
 
     /** The output stream where to write the recording. */
     private final OutputStream out;
@@ -87,7 +90,7 @@ final class RecordingThread extends Thread {
         }
         try {
             line.start();
-            final byte[] buffer = new byte[BUFFER_SIZE];
+            final byte[] buffer = new byte[getBufferSize()];
             while (!shouldStop) {
                 final int count = line.read(buffer, 0, buffer.length);
                 if (count > 0) {
@@ -102,6 +105,27 @@ final class RecordingThread extends Thread {
         }
     }
 
+    /**
+     * Determines the size of the read buffer. The buffer holds
+     * {@link #BUFFER_DURATION} msecs of audio but at most half of the line
+     * buffer so that the line does not overrun while the buffer is
+     * written.
+     * @return size of the buffer in bytes, a multiple of the frame size
+     */
+    private int getBufferSize() {
+        final int frameSize = Math.max(format.getFrameSize(), 1);
+        int size = (int) (format.getFrameRate() * BUFFER_DURATION / 1000)
+                * frameSize;
+        final int lineSize = line.getBufferSize() / 2;
+        if (lineSize > 0 && size > lineSize) {
+            size = lineSize;
+        }
+        if (size < MIN_BUFFER_SIZE) {
+            size = MIN_BUFFER_SIZE;
+        }
+        return size - size % frameSize;
+    }
+
     /**
      * Stops the recording.
      */
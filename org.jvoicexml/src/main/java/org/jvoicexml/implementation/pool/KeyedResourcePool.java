@@ -24,8 +24,13 @@ package org.jvoicexml.implementation.pool;
 import java.util.Collection;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.commons.pool.ObjectPool;
 import org.apache.commons.pool.PoolableObjectFactory;
 import org.apache.commons.pool.impl.GenericObjectPool;
 import org.apache.logging.log4j.LogManager;
@@ -33,6 +38,9 @@ import org.apache.logging.log4j.Logger;
 import org.jvoicexml.event.error.NoresourceError;
 import org.jvoicexml.implementation.ExternalResource;
 import org.jvoicexml.implementation.ResourceFactory;
+import org.jvoicexml.metrics.Counter;
+import org.jvoicexml.metrics.Metrics;
+import org.jvoicexml.metrics.Timer;
 
 /**
  * Pool to hold all instantiated resources of type <code>T</code>.
@@ -43,6 +51,12 @@ import org.jvoicexml.implementation.ResourceFactory;
  * set by the factory.
  * </p>
  *
+ * <p>
+ * By default, all instances are created when the factory is added. In
+ * elastic mode, see {@link #setCoreInstances(int)}, only a warm core is
+ * created up front and the pool grows and shrinks with the load.
+ * </p>
+ *
  * @param <T> Type of {@link ExternalResource} to produce in this factory.
  *
  * @author Dirk Schnelle-Walka
@@ -54,81 +68,321 @@ public final class KeyedResourcePool<T extends ExternalResource> {
     private static final Logger LOGGER =
         LogManager.getLogger(KeyedResourcePool.class);
 
+    /** Time to borrow a resource from any pool. */
+    private static final Timer BORROW_TIMER =
+            Metrics.timer("jvoicexml_pool_borrow_seconds");
+
+    /** Number of requests to any pool that failed since it was exhausted. */
+    private static final Counter EXHAUSTED_COUNTER =
+            Metrics.counter("jvoicexml_pool_exhausted_total");
+
+    /** Default utilization that lets an elastic pool grow. */
+    private static final float DEFAULT_GROW_THRESHOLD = 0.75f;
+
+    /** Default time in msec until idle resources of an elastic pool end. */
+    private static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
     /** Known pools. */
-    private final Map<String, ObjectPool<T>> pools;
+    private final Map<String, GenericObjectPool<T>> pools;
+
+    /** Number of requests that failed because a pool was exhausted. */
+    private int exhausted;
+
+    /** Executor to create resources in the background. */
+    private Executor warmupExecutor;
+
+    /** Number of warm resources of an elastic pool, not elastic if 0. */
+    private int coreInstances;
+
+    /** Utilization that lets an elastic pool grow. */
+    private float growThreshold;
+
+    /** Time in msec until idle resources of an elastic pool end. */
+    private long idleTimeout;
+
+    /** Types that are currently growing. */
+    private final Set<String> growing;
+
+    /** Types that need to be checked again after their growth. */
+    private final Set<String> growRequests;
+
+    /** Executor to grow elastic pools. */
+    private ExecutorService growthExecutor;
+
+    /** Number of requests that had to wait for a new resource. */
+    private int waits;
+
+    /** Time that requests waited for new resources in nano seconds. */
+    private long waitTime;
+
+    /** Number of resources that were added in the background. */
+    private int grown;
 
     /**
      * Constructs a new object.
      */
     public KeyedResourcePool() {
         super();
-        pools = new java.util.HashMap<String, ObjectPool<T>>();
+        pools = new java.util.HashMap<String, GenericObjectPool<T>>();
+        growing = new java.util.HashSet<String>();
+        growRequests = new java.util.HashSet<String>();
+        growThreshold = DEFAULT_GROW_THRESHOLD;
+        idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    }
+
+    /**
+     * Switches subsequently added factories to the elastic mode.
+     * <p>
+     * In elastic mode only the given number of resources is created when a
+     * factory is added. The pool keeps at least this number of idle
+     * resources. Further resources are created on demand or in the
+     * background when the utilization crosses the growth threshold, up to
+     * the number of instances of the factory. Resources beyond the warm
+     * core end after they have been idle for the idle timeout.
+     * </p>
+     * @param instances number of warm resources per type, <code>0</code> to
+     *          create all resources when the factory is added
+     * @since 0.7.9
+     */
+    public synchronized void setCoreInstances(final int instances) {
+        coreInstances = instances;
+    }
+
+    /**
+     * Sets the utilization that lets an elastic pool grow.
+     * @param threshold ratio of active resources to all resources of a type
+     *          between <code>0</code> and <code>1</code>
+     * @since 0.7.9
+     */
+    public synchronized void setGrowThreshold(final float threshold) {
+        growThreshold = threshold;
+    }
+
+    /**
+     * Sets the time until idle resources of an elastic pool end.
+     * @param msec idle timeout in msec
+     * @since 0.7.9
+     */
+    public synchronized void setIdleTimeout(final long msec) {
+        idleTimeout = msec;
+    }
+
+    /**
+     * Checks if subsequently added factories are elastic.
+     * @return <code>true</code> if the pool is elastic
+     */
+    private boolean isElastic() {
+        return coreInstances > 0;
+    }
+
+    /**
+     * Sets the executor to create the resources of subsequently added
+     * factories in the background. If no executor is set, the resources are
+     * created before {@link #addResourceFactory(ResourceFactory)} returns.
+     * @param executor the executor, <code>null</code> to create resources
+     *          in the calling thread
+     * @since 0.7.9
+     */
+    public synchronized void setWarmupExecutor(final Executor executor) {
+        warmupExecutor = executor;
     }
 
     /**
      * Adds the given resource factory.
+     * <p>
+     * If a warmup executor is set, each resource is created in a separate
+     * task of the executor and the returned warmup can be used to wait for
+     * the resources.
+     * </p>
      * @param resourceFactory The {@link ResourceFactory} to add.
+     * @return progress of the creation of the resources
      * @exception Exception error populating the pool
      */
-    public void addResourceFactory(
+    public PoolWarmup addResourceFactory(
             final ResourceFactory<T> resourceFactory) throws Exception {
         final PoolableObjectFactory<T> factory =
             new PoolableResourceFactory<T>(resourceFactory);
         final GenericObjectPool<T> pool = new GenericObjectPool<T>(factory);
-        final int instances = resourceFactory.getInstances();
-        pool.setMinIdle(instances);
-        pool.setMaxActive(instances);
-        pool.setMaxIdle(instances);
+        final int maxInstances = resourceFactory.getInstances();
+        pool.setMaxActive(maxInstances);
+        pool.setMaxIdle(maxInstances);
         pool.setWhenExhaustedAction(GenericObjectPool.WHEN_EXHAUSTED_FAIL);
         final String type = resourceFactory.getType();
-        pools.put(type, pool);
-        LOGGER.info("loading " + instances + " instance(s) of type '" + type
-                + "'");
-        for (int i = 0; i < instances; i++) {
-            pool.addObject();
+        final Executor executor;
+        final int instances;
+        synchronized (this) {
+            if (isElastic()) {
+                instances = Math.min(coreInstances, maxInstances);
+                pool.setMinIdle(instances);
+                // Only end resources beyond the warm core
+                pool.setMinEvictableIdleTimeMillis(-1);
+                pool.setSoftMinEvictableIdleTimeMillis(idleTimeout);
+                pool.setNumTestsPerEvictionRun(-1);
+                pool.setTimeBetweenEvictionRunsMillis(
+                        Math.max(idleTimeout / 2, 1));
+            } else {
+                instances = maxInstances;
+                pool.setMinIdle(instances);
+            }
+            pools.put(type, pool);
+            executor = warmupExecutor;
         }
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("...resources loaded.");
+        LOGGER.info("loading " + instances + " of " + maxInstances
+                + " instance(s) of type '" + type + "'");
+        final PoolWarmup warmup = new PoolWarmup(type, instances);
+        if (executor == null) {
+            for (int i = 0; i < instances; i++) {
+                pool.addObject();
+                warmup.created();
+            }
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("...resources loaded.");
+            }
+            return warmup;
         }
+        for (int i = 0; i < instances; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        pool.addObject();
+                        warmup.created();
+                    } catch (Exception e) {
+                        warmup.failed(e);
+                    }
+                }
+            });
+        }
+        return warmup;
     }
 
     /**
      * Type safe return of the object to borrow from the pool.
+     * <p>
+     * In elastic mode, a new resource is created if there is no idle
+     * resource and the pool is not exhausted. The caller has to wait for
+     * the creation. If the utilization of the pool crosses the growth
+     * threshold, another resource is created in the background.
+     * </p>
      * @param key the type of the object to borrow from the pool
      * @return borrowed object
      * @exception NoresourceError
      *            the object could not be borrowed
      */
-    public synchronized T borrowObject(final Object key)
+    public T borrowObject(final Object key)
         throws NoresourceError {
-        final ObjectPool<T> pool = pools.get(key);
+        final GenericObjectPool<T> pool;
+        final boolean elastic;
+        synchronized (this) {
+            pool = pools.get(key);
+            elastic = isElastic();
+        }
         if (pool == null) {
             throw new NoresourceError("Pool of type '" + key + "' is unknown!");
         }
+        final boolean cold = elastic && pool.getNumIdle() == 0
+                && pool.getNumActive() < pool.getMaxActive();
+        final long start = System.nanoTime();
         T resource;
         try {
             resource = pool.borrowObject();
         } catch (NoSuchElementException e) {
+            synchronized (this) {
+                ++exhausted;
+            }
+            EXHAUSTED_COUNTER.increment();
             throw new NoresourceError(e.getMessage(), e);
         } catch (IllegalStateException e) {
             throw new NoresourceError(e.getMessage(), e);
         } catch (Exception e) {
             throw new NoresourceError(e.getMessage(), e);
         }
-        LOGGER.info("borrowed object of type '" + key + "' ("
-                + resource.getClass().getCanonicalName() + ")");
+        final long waited = System.nanoTime() - start;
+        BORROW_TIMER.record(waited);
+        if (cold) {
+            synchronized (this) {
+                ++waits;
+                waitTime += waited;
+            }
+            LOGGER.info("waited {} msec for a new instance of type '{}'",
+                    TimeUnit.NANOSECONDS.toMillis(waited), key);
+        }
+        if (elastic) {
+            grow(key.toString(), pool);
+        }
         if (LOGGER.isDebugEnabled()) {
-            final int active = pool.getNumActive();
-            final int idle = pool.getNumIdle();
-            LOGGER.debug("pool has now " + active
-                         + " active/" + idle + " idle for key '" + key
-                         + "' (" + resource.getClass().getCanonicalName()
-                         + ") after borrow");
+            final String type = resource.getClass().getCanonicalName();
+            LOGGER.debug("borrowed object of type '{}' ({})", key, type);
+            LOGGER.debug("pool has now {} active/{} idle for key '{}' ({})"
+                    + " after borrow", pool.getNumActive(),
+                    pool.getNumIdle(), key, type);
         }
 
         return resource;
     }
 
+    /**
+     * Creates another resource in the background if the utilization of the
+     * given pool crosses the growth threshold. At most one resource per
+     * type is created at a time.
+     * @param key the type of the resources
+     * @param pool the pool
+     */
+    private void grow(final String key, final GenericObjectPool<T> pool) {
+        final int active = pool.getNumActive();
+        final int total = active + pool.getNumIdle();
+        if (total >= pool.getMaxActive()
+                || active < growThreshold * total) {
+            return;
+        }
+        final Executor executor;
+        synchronized (this) {
+            if (!growing.add(key)) {
+                // Check again once the current growth is done
+                growRequests.add(key);
+                return;
+            }
+            if (growthExecutor == null) {
+                growthExecutor = Executors.newSingleThreadExecutor(
+                        new ThreadFactory() {
+                            @Override
+                            public Thread newThread(final Runnable runnable) {
+                                final Thread thread = new Thread(runnable,
+                                        "ResourcePoolGrowthThread");
+                                thread.setDaemon(true);
+                                return thread;
+                            }
+                        });
+            }
+            executor = growthExecutor;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    pool.addObject();
+                    synchronized (KeyedResourcePool.this) {
+                        ++grown;
+                    }
+                    LOGGER.info("added an instance of type '" + key
+                            + "' in the background");
+                } catch (Exception e) {
+                    LOGGER.warn("error adding an instance of type '" + key
+                            + "': " + e.getMessage(), e);
+                } finally {
+                    final boolean requested;
+                    synchronized (KeyedResourcePool.this) {
+                        growing.remove(key);
+                        requested = growRequests.remove(key);
+                    }
+                    if (requested) {
+                        grow(key, pool);
+                    }
+                }
+            }
+        });
+    }
+
     /**
      * Returns a previously borrowed resource to the pool.
      * @param key resource type.
@@ -139,7 +393,7 @@ public final class KeyedResourcePool<T extends ExternalResource> {
      */
     public synchronized void returnObject(final String key,
             final T resource) throws NoresourceError {
-        final ObjectPool<T> pool = pools.get(key);
+        final GenericObjectPool<T> pool = pools.get(key);
         if (pool == null) {
             throw new NoresourceError("Pool of type '" + key + "' is unknown!");
         }
@@ -148,16 +402,12 @@ public final class KeyedResourcePool<T extends ExternalResource> {
         } catch (Exception e) {
             throw new NoresourceError(e.getMessage(), e);
         }
-        LOGGER.info("returned object of type '" + key + "' ("
-                + resource.getClass().getCanonicalName() + ")");
-
         if (LOGGER.isDebugEnabled()) {
-            final int active = pool.getNumActive();
-            final int idle = pool.getNumIdle();
-            LOGGER.debug("pool has now " + active
-                         + " active/" + idle + " idle for key '" + key
-                         + "' (" + resource.getClass().getCanonicalName()
-                         + ") after return");
+            final String type = resource.getClass().getCanonicalName();
+            LOGGER.debug("returned object of type '{}' ({})", key, type);
+            LOGGER.debug("pool has now {} active/{} idle for key '{}' ({})"
+                    + " after return", pool.getNumActive(),
+                    pool.getNumIdle(), key, type);
         }
     }
 
@@ -168,8 +418,8 @@ public final class KeyedResourcePool<T extends ExternalResource> {
      */
     public synchronized int getNumActive() {
         int active = 0;
-        final Collection<ObjectPool<T>> col = pools.values();
-        for (ObjectPool<T> pool : col) {
+        final Collection<GenericObjectPool<T>> col = pools.values();
+        for (GenericObjectPool<T> pool : col) {
             active += pool.getNumActive();
         }
         return active;
@@ -182,7 +432,7 @@ public final class KeyedResourcePool<T extends ExternalResource> {
      * @since 0.7.3
      */
     public synchronized int getNumActive(final String key) {
-        final ObjectPool<T> pool = pools.get(key);
+        final GenericObjectPool<T> pool = pools.get(key);
         return pool.getNumActive();
     }
 
@@ -193,8 +443,8 @@ public final class KeyedResourcePool<T extends ExternalResource> {
      */
     public synchronized int getNumIdle() {
         int idle = 0;
-        final Collection<ObjectPool<T>> col = pools.values();
-        for (ObjectPool<T> pool : col) {
+        final Collection<GenericObjectPool<T>> col = pools.values();
+        for (GenericObjectPool<T> pool : col) {
             idle += pool.getNumIdle();
         }
         return idle;
@@ -208,20 +458,60 @@ public final class KeyedResourcePool<T extends ExternalResource> {
      * @since 0.7.3
      */
     public synchronized int getNumIdle(final String key) {
-        final ObjectPool<T> pool = pools.get(key);
+        final GenericObjectPool<T> pool = pools.get(key);
         if (pool == null) {
             return -1;
         }
         return pool.getNumIdle();
     }
 
+    /**
+     * Retrieves the number of borrow requests that failed since a pool did
+     * not have any idle resources left.
+     * @return number of failed borrow requests
+     * @since 0.7.9
+     */
+    public synchronized int getNumExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Retrieves the number of borrow requests of elastic pools that had to
+     * wait until a new resource was created.
+     * @return number of waiting borrow requests
+     * @since 0.7.9
+     */
+    public synchronized int getNumWaits() {
+        return waits;
+    }
+
+    /**
+     * Retrieves the total time that borrow requests of elastic pools waited
+     * for new resources.
+     * @return wait time in msec
+     * @since 0.7.9
+     */
+    public synchronized long getWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(waitTime);
+    }
+
+    /**
+     * Retrieves the number of resources that were added to elastic pools in
+     * the background.
+     * @return number of added resources
+     * @since 0.7.9
+     */
+    public synchronized int getNumGrown() {
+        return grown;
+    }
+
     /**
      * Retrieves the available keys of this pool.
      * @return available keys.
      * @since 0.7.4
      */
-    public Collection<String> getKeys() {
-        return pools.keySet();
+    public synchronized Collection<String> getKeys() {
+        return new java.util.ArrayList<String>(pools.keySet());
     }
 
     /**
@@ -231,8 +521,12 @@ public final class KeyedResourcePool<T extends ExternalResource> {
      * @since 0.7.3
      */
     public synchronized void close() throws Exception {
-        final Collection<ObjectPool<T>> col = pools.values();
-        for (ObjectPool<T> pool : col) {
+        if (growthExecutor != null) {
+            growthExecutor.shutdownNow();
+            growthExecutor = null;
+        }
+        final Collection<GenericObjectPool<T>> col = pools.values();
+        for (GenericObjectPool<T> pool : col) {
             pool.close();
         }
     }
@@ -0,0 +1,178 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.pool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Progress of the creation of the resources of a single type in a
+ * {@link KeyedResourcePool}.
+ * <p>
+ * Resources may be created in the background. This allows to wait until a
+ * minimum number of resources is available before the remaining resources
+ * are created.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class PoolWarmup {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(PoolWarmup.class);
+
+    /** The type of the resources. */
+    private final String type;
+
+    /** Number of resources to create. */
+    private final int instances;
+
+    /** Time stamp when the creation started in nano seconds. */
+    private final long start;
+
+    /** Number of created resources. */
+    private int created;
+
+    /** Number of resources that could not be created. */
+    private int failed;
+
+    /** The first error creating a resource. */
+    private Exception error;
+
+    /**
+     * Constructs a new object.
+     * @param resourceType the type of the resources
+     * @param number number of resources to create
+     */
+    PoolWarmup(final String resourceType, final int number) {
+        type = resourceType;
+        instances = number;
+        start = System.nanoTime();
+    }
+
+    /**
+     * Notification that a resource has been created.
+     */
+    synchronized void created() {
+        ++created;
+        if (created == instances) {
+            final long msec = (System.nanoTime() - start) / 1000000;
+            LOGGER.info("pool of type '" + type + "' warmed up with "
+                    + instances + " instance(s) after " + msec + " msec");
+        }
+        notifyAll();
+    }
+
+    /**
+     * Notification that a resource could not be created.
+     * @param e the cause
+     */
+    synchronized void failed(final Exception e) {
+        ++failed;
+        if (error == null) {
+            error = e;
+        }
+        LOGGER.warn("error creating an instance of type '" + type + "': "
+                + e.getMessage(), e);
+        notifyAll();
+    }
+
+    /**
+     * Retrieves the type of the resources.
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the number of resources to create.
+     * @return number of resources
+     */
+    public int getInstances() {
+        return instances;
+    }
+
+    /**
+     * Retrieves the number of created resources.
+     * @return number of created resources
+     */
+    public synchronized int getCreated() {
+        return created;
+    }
+
+    /**
+     * Checks if all resources have been processed.
+     * @return <code>true</code> if no further resources will be created
+     */
+    public synchronized boolean isComplete() {
+        return created + failed >= instances;
+    }
+
+    /**
+     * Waits until the given number of resources has been created.
+     * @param minimum the number of resources to wait for, at most the
+     *          number of resources to create
+     * @throws Exception
+     *          the minimum cannot be reached since resources could not be
+     *          created
+     * @throws InterruptedException
+     *          interrupted while waiting
+     */
+    public synchronized void awaitMinimum(final int minimum)
+            throws Exception, InterruptedException {
+        final int required = Math.min(minimum, instances);
+        while (created < required) {
+            if (instances - failed < required) {
+                throw error;
+            }
+            wait();
+        }
+    }
+
+    /**
+     * Waits until all resources have been processed.
+     * @throws Exception
+     *          a resource could not be created
+     * @throws InterruptedException
+     *          interrupted while waiting
+     */
+    public synchronized void awaitCompletion()
+            throws Exception, InterruptedException {
+        while (!isComplete()) {
+            wait();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return type + ": " + created + "/" + instances + " instance(s)";
+    }
+}
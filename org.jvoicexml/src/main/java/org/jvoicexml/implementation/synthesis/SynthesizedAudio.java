@@ -0,0 +1,118 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.synthesis;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Synthesized audio of a prompt that is served from the
+ * {@link SynthesizedAudioCache}.
+ * <p>
+ * The audio is either kept on the heap or in a memory mapped file. Objects
+ * of this class are immutable and may be played by several threads at the
+ * same time.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class SynthesizedAudio {
+    /** Size of the chunks when copying from a memory mapped file. */
+    private static final int CHUNK_SIZE = 8192;
+
+    /** The format of the audio. */
+    private final AudioFormat format;
+
+    /** The audio data. */
+    private final ByteBuffer audio;
+
+    /**
+     * Constructs a new object.
+     * @param audioFormat the format of the audio
+     * @param data the audio data
+     */
+    SynthesizedAudio(final AudioFormat audioFormat, final ByteBuffer data) {
+        format = audioFormat;
+        audio = data;
+    }
+
+    /**
+     * Retrieves the format of the audio.
+     * @return the audio format
+     */
+    public AudioFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Retrieves the size of the audio.
+     * @return size in bytes
+     */
+    public int size() {
+        return audio.remaining();
+    }
+
+    /**
+     * Retrieves a read-only view of the audio data. The position of the
+     * returned buffer is independent of other views.
+     * @return audio data
+     */
+    public ByteBuffer getBuffer() {
+        return audio.asReadOnlyBuffer();
+    }
+
+    /**
+     * Retrieves a copy of the audio data.
+     * @return audio data
+     */
+    byte[] toByteArray() {
+        final byte[] bytes = new byte[audio.remaining()];
+        audio.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes the audio to the given stream.
+     * @param out the stream to write to
+     * @throws IOException
+     *          error writing
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        if (audio.hasArray()) {
+            out.write(audio.array(), audio.arrayOffset() + audio.position(),
+                    audio.remaining());
+            return;
+        }
+        final ByteBuffer buffer = audio.duplicate();
+        final byte[] chunk = new byte[Math.min(CHUNK_SIZE, buffer.remaining())];
+        while (buffer.hasRemaining()) {
+            final int length = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, length);
+            out.write(chunk, 0, length);
+        }
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.synthesis;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.sound.sampled.AudioFormat;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Cache of synthesized prompts.
+ * <p>
+ * Most prompts of a voice application, like menus or legal notices, are the
+ * same in all calls. A {@link org.jvoicexml.implementation.SynthesizedOutput}
+ * may look up the audio of a prompt in this cache before it sends the prompt
+ * to the TTS engine and add the synthesized audio after a miss.
+ * </p>
+ * <p>
+ * The cache has two tiers. The memory tier keeps the most recently used
+ * prompts on the heap. The optional disk tier keeps prompts in files of a
+ * cache directory that are memory mapped when they are read. Prompts that
+ * are read from the disk tier are promoted to the memory tier. Both tiers
+ * are limited in size and evict the least recently used prompts first. The
+ * disk tier survives restarts of JVoiceXML.
+ * </p>
+ * <p>
+ * This class is thread safe. A single cache is usually shared by all
+ * outputs of a resource factory.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class SynthesizedAudioCache {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(SynthesizedAudioCache.class);
+
+    /** Magic number at the start of a cache file. */
+    private static final int MAGIC = 0x4a565841;
+
+    /** Suffix of cache files. */
+    private static final String SUFFIX = ".audio";
+
+    /** Maximal size of the memory tier in bytes. */
+    private final long maxMemorySize;
+
+    /** Directory of the disk tier, <code>null</code> if there is none. */
+    private final File directory;
+
+    /** Maximal size of the disk tier in bytes. */
+    private final long maxDiskSize;
+
+    /** Prompts in the memory tier in the order of their last use. */
+    private final Map<SynthesizedAudioKey, SynthesizedAudio> memory;
+
+    /** Sizes of the prompts in the disk tier in the order of their last use. */
+    private final Map<String, Long> disk;
+
+    /** Current size of the memory tier in bytes. */
+    private long memorySize;
+
+    /** Current size of the disk tier in bytes. */
+    private long diskSize;
+
+    /** Number of lookups that found the prompt. */
+    private long hits;
+
+    /** Number of lookups that did not find the prompt. */
+    private long misses;
+
+    /** Number of bytes served from the cache. */
+    private long bytesServed;
+
+    /**
+     * Constructs a new cache without a disk tier.
+     * @param memoryBytes maximal size of the memory tier in bytes
+     */
+    public SynthesizedAudioCache(final long memoryBytes) {
+        this(memoryBytes, null, 0);
+    }
+
+    /**
+     * Constructs a new cache. Prompts that are already stored in the given
+     * directory are reused. There is no disk tier if the maximal size of the
+     * disk tier is not positive. Files in the directory are left untouched
+     * in this case.
+     * @param memoryBytes maximal size of the memory tier in bytes
+     * @param dir directory of the disk tier, <code>null</code> for no disk
+     *          tier
+     * @param diskBytes maximal size of the disk tier in bytes
+     */
+    public SynthesizedAudioCache(final long memoryBytes, final File dir,
+            final long diskBytes) {
+        maxMemorySize = memoryBytes;
+        maxDiskSize = diskBytes;
+        memory = new java.util.LinkedHashMap<SynthesizedAudioKey,
+                SynthesizedAudio>(16, 0.75f, true);
+        disk = new java.util.LinkedHashMap<String, Long>(16, 0.75f, true);
+        if (dir != null && diskBytes <= 0) {
+            LOGGER.warn("no size for the disk tier in '" + dir
+                    + "'. disk tier disabled");
+            directory = null;
+        } else if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            LOGGER.warn("unable to create cache directory '" + dir
+                    + "'. disk tier disabled");
+            directory = null;
+        } else {
+            directory = dir;
+        }
+        if (directory != null) {
+            loadDiskIndex();
+        }
+    }
+
+    /**
+     * Adds the prompts that are already stored in the cache directory to the
+     * disk tier.
+     */
+    private void loadDiskIndex() {
+        final File[] files = directory.listFiles(new FileFilter() {
+            @Override
+            public boolean accept(final File file) {
+                return file.isFile() && file.getName().endsWith(SUFFIX);
+            }
+        });
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(final File f1, final File f2) {
+                return Long.compare(f1.lastModified(), f2.lastModified());
+            }
+        });
+        for (File file : files) {
+            final String name = file.getName();
+            final String digest = name.substring(0,
+                    name.length() - SUFFIX.length());
+            addToDisk(digest, file.length());
+        }
+        LOGGER.info("found " + disk.size() + " cached prompt(s) with "
+                + diskSize + " bytes in '" + directory + "'");
+    }
+
+    /**
+     * Looks up the audio of the given prompt.
+     * @param key key of the prompt
+     * @return the audio, <code>null</code> if the prompt is not cached
+     */
+    public SynthesizedAudio get(final SynthesizedAudioKey key) {
+        final String digest = key.getDigest();
+        synchronized (this) {
+            final SynthesizedAudio audio = memory.get(key);
+            if (audio != null) {
+                ++hits;
+                bytesServed += audio.size();
+                return audio;
+            }
+            if (disk.get(digest) == null) {
+                ++misses;
+                return null;
+            }
+        }
+
+        final SynthesizedAudio audio;
+        try {
+            audio = read(digest);
+        } catch (IOException e) {
+            LOGGER.warn("unable to read cached prompt '" + digest + "'", e);
+            synchronized (this) {
+                removeFromDisk(digest);
+                ++misses;
+            }
+            return null;
+        }
+        synchronized (this) {
+            ++hits;
+            bytesServed += audio.size();
+            final ByteBuffer copy = ByteBuffer.wrap(audio.toByteArray());
+            addToMemory(key, new SynthesizedAudio(audio.getFormat(), copy));
+        }
+        return audio;
+    }
+
+    /**
+     * Adds the audio of the given prompt. The audio must not be modified
+     * afterwards.
+     * @param key key of the prompt
+     * @param format format of the audio
+     * @param audio the synthesized audio
+     */
+    public void put(final SynthesizedAudioKey key, final AudioFormat format,
+            final byte[] audio) {
+        final SynthesizedAudio synthesized =
+                new SynthesizedAudio(format, ByteBuffer.wrap(audio));
+        synchronized (this) {
+            addToMemory(key, synthesized);
+        }
+        if (directory == null || audio.length > maxDiskSize) {
+            return;
+        }
+        final String digest = key.getDigest();
+        try {
+            final long size = write(digest, synthesized);
+            synchronized (this) {
+                addToDisk(digest, size);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("unable to store prompt '" + digest + "'", e);
+        }
+    }
+
+    /**
+     * Adds the given audio to the memory tier and evicts the least recently
+     * used prompts if the tier is full.
+     * @param key key of the prompt
+     * @param audio the audio
+     */
+    private void addToMemory(final SynthesizedAudioKey key,
+            final SynthesizedAudio audio) {
+        final int size = audio.size();
+        if (size > maxMemorySize) {
+            return;
+        }
+        final SynthesizedAudio previous = memory.put(key, audio);
+        if (previous != null) {
+            memorySize -= previous.size();
+        }
+        memorySize += size;
+        final Iterator<SynthesizedAudio> iterator =
+                memory.values().iterator();
+        while (memorySize > maxMemorySize) {
+            final SynthesizedAudio eldest = iterator.next();
+            memorySize -= eldest.size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Adds the given file to the disk tier and deletes the least recently
+     * used files if the tier is full.
+     * @param digest digest of the prompt
+     * @param size size of the file
+     */
+    private void addToDisk(final String digest, final long size) {
+        final Long previous = disk.put(digest, size);
+        if (previous != null) {
+            diskSize -= previous;
+        }
+        diskSize += size;
+        final Iterator<Map.Entry<String, Long>> iterator =
+                disk.entrySet().iterator();
+        while (diskSize > maxDiskSize) {
+            final Map.Entry<String, Long> eldest = iterator.next();
+            diskSize -= eldest.getValue();
+            iterator.remove();
+            final File file = getFile(eldest.getKey());
+            if (!file.delete()) {
+                LOGGER.warn("unable to delete evicted prompt '" + file + "'");
+            }
+        }
+    }
+
+    /**
+     * Removes the given prompt from the disk tier.
+     * @param digest digest of the prompt
+     */
+    private void removeFromDisk(final String digest) {
+        final Long size = disk.remove(digest);
+        if (size != null) {
+            diskSize -= size;
+        }
+    }
+
+    /**
+     * Retrieves the file of the given prompt.
+     * @param digest digest of the prompt
+     * @return the file
+     */
+    private File getFile(final String digest) {
+        return new File(directory, digest + SUFFIX);
+    }
+
+    /**
+     * Writes the given audio to the cache directory.
+     * @param digest digest of the prompt
+     * @param audio the audio
+     * @return size of the file
+     * @throws IOException
+     *          error writing the file
+     */
+    private long write(final String digest, final SynthesizedAudio audio)
+            throws IOException {
+        final Path target = getFile(digest).toPath();
+        final Path temp = Files.createTempFile(directory.toPath(), digest,
+                ".tmp");
+        try {
+            final OutputStream file = Files.newOutputStream(temp);
+            try {
+                final DataOutputStream out = new DataOutputStream(
+                        new java.io.BufferedOutputStream(file));
+                final AudioFormat format = audio.getFormat();
+                out.writeInt(MAGIC);
+                out.writeUTF(format.getEncoding().toString());
+                out.writeFloat(format.getSampleRate());
+                out.writeInt(format.getSampleSizeInBits());
+                out.writeInt(format.getChannels());
+                out.writeInt(format.getFrameSize());
+                out.writeFloat(format.getFrameRate());
+                out.writeBoolean(format.isBigEndian());
+                out.writeInt(audio.size());
+                audio.writeTo(out);
+                out.flush();
+            } finally {
+                file.close();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return Files.size(target);
+    }
+
+    /**
+     * Reads the audio of the given prompt from the cache directory.
+     * @param digest digest of the prompt
+     * @return the audio in a memory mapped buffer
+     * @throws IOException
+     *          error reading the file
+     */
+    private SynthesizedAudio read(final String digest) throws IOException {
+        final Path path = getFile(digest).toPath();
+        final MappedByteBuffer buffer;
+        final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        } finally {
+            channel.close();
+        }
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("'" + path + "' is no cached prompt");
+            }
+            final byte[] name = new byte[buffer.getShort() & 0xffff];
+            buffer.get(name);
+            final AudioFormat.Encoding encoding =
+                    getEncoding(new String(name, StandardCharsets.UTF_8));
+            final float sampleRate = buffer.getFloat();
+            final int sampleSize = buffer.getInt();
+            final int channels = buffer.getInt();
+            final int frameSize = buffer.getInt();
+            final float frameRate = buffer.getFloat();
+            final boolean bigEndian = buffer.get() != 0;
+            final int length = buffer.getInt();
+            if (length != buffer.remaining()) {
+                throw new IOException("'" + path + "' is truncated");
+            }
+            final AudioFormat format = new AudioFormat(encoding, sampleRate,
+                    sampleSize, channels, frameSize, frameRate, bigEndian);
+            return new SynthesizedAudio(format, buffer.slice());
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IOException("'" + path + "' is truncated", e);
+        }
+    }
+
+    /**
+     * Retrieves the encoding with the given name.
+     * @param name name of the encoding
+     * @return the encoding
+     */
+    private static AudioFormat.Encoding getEncoding(final String name) {
+        final AudioFormat.Encoding[] known = {
+            AudioFormat.Encoding.PCM_SIGNED,
+            AudioFormat.Encoding.PCM_UNSIGNED,
+            AudioFormat.Encoding.ULAW,
+            AudioFormat.Encoding.ALAW
+        };
+        for (AudioFormat.Encoding encoding : known) {
+            if (encoding.toString().equals(name)) {
+                return encoding;
+            }
+        }
+        return new AudioFormat.Encoding(name);
+    }
+
+    /**
+     * Retrieves the number of lookups that found the prompt.
+     * @return number of hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Retrieves the number of lookups that did not find the prompt.
+     * @return number of misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Retrieves the fraction of lookups that found the prompt.
+     * @return hit ratio between <code>0</code> and <code>1</code>
+     */
+    public synchronized double getHitRatio() {
+        final long lookups = hits + misses;
+        if (lookups == 0) {
+            return 0;
+        }
+        return (double) hits / lookups;
+    }
+
+    /**
+     * Retrieves the number of bytes that were served from the cache instead
+     * of being synthesized.
+     * @return number of bytes
+     */
+    public synchronized long getBytesServed() {
+        return bytesServed;
+    }
+
+    /**
+     * Retrieves the current size of the memory tier.
+     * @return size in bytes
+     */
+    public synchronized long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Retrieves the current size of the disk tier.
+     * @return size in bytes
+     */
+    public synchronized long getDiskSize() {
+        return diskSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("%d hit(s), %d miss(es) (%.1f%% hits), "
+                + "%d bytes served, memory %d/%d bytes, disk %d/%d bytes",
+                hits, misses, getHitRatio() * 100, bytesServed, memorySize,
+                maxMemorySize, diskSize, maxDiskSize);
+    }
+}
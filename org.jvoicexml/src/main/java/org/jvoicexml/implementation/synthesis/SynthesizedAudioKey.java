@@ -0,0 +1,154 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.synthesis;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Key of a prompt in the {@link SynthesizedAudioCache}.
+ * <p>
+ * The key is a digest of the SSML and all parameters of the TTS engine that
+ * change the synthesized audio, i.e. the voice, the locale and the requested
+ * audio format. The SSML is normalized before, so that prompts that only
+ * differ in white space share the same key.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class SynthesizedAudioKey {
+    /** Hexadecimal digits. */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** Digest of the prompt as a hexadecimal string. */
+    private final String digest;
+
+    /**
+     * Constructs a new object.
+     * @param ssml the SSML to synthesize
+     * @param voice name of the voice, maybe <code>null</code>
+     * @param locale the locale, maybe <code>null</code>
+     * @param format name of the requested audio format, maybe
+     *          <code>null</code>
+     */
+    public SynthesizedAudioKey(final String ssml, final String voice,
+            final String locale, final String format) {
+        final StringBuilder str = new StringBuilder();
+        str.append(normalize(ssml));
+        str.append('\n');
+        str.append(voice);
+        str.append('\n');
+        str.append(locale);
+        str.append('\n');
+        str.append(format);
+        digest = digest(str.toString());
+    }
+
+    /**
+     * Normalizes the given SSML by collapsing all white space to a single
+     * blank.
+     * @param ssml the SSML
+     * @return normalized SSML
+     */
+    static String normalize(final String ssml) {
+        final StringBuilder str = new StringBuilder(ssml.length());
+        boolean whitespace = false;
+        for (int i = 0; i < ssml.length(); i++) {
+            final char ch = ssml.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                whitespace = true;
+            } else {
+                if (whitespace && str.length() > 0) {
+                    str.append(' ');
+                }
+                whitespace = false;
+                str.append(ch);
+            }
+        }
+        return str.toString();
+    }
+
+    /**
+     * Calculates the SHA-256 digest of the given text.
+     * @param text the text
+     * @return digest as a hexadecimal string
+     */
+    private static String digest(final String text) {
+        final MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform must support SHA-256
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        final byte[] bytes = sha.digest(text.getBytes(StandardCharsets.UTF_8));
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Retrieves the digest of this key. The digest is also used as the file
+     * name in the on-disk tier of the cache.
+     * @return digest as a hexadecimal string
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return digest.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SynthesizedAudioKey)) {
+            return false;
+        }
+        final SynthesizedAudioKey other = (SynthesizedAudioKey) obj;
+        return digest.equals(other.digest);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return digest;
+    }
+}
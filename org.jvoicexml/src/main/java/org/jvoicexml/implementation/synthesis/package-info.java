@@ -0,0 +1,11 @@
+/**
+ * Support for {@link org.jvoicexml.implementation.SynthesizedOutput}s that
+ * synthesize the audio themselves.
+ * <p>
+ * The {@link org.jvoicexml.implementation.synthesis.SynthesizedAudioCache}
+ * keeps synthesized prompts so that identical prompts need not be sent to
+ * the TTS engine again.
+ * </p>
+ */
+
+package org.jvoicexml.implementation.synthesis;
@@ -156,12 +156,14 @@ public class ActiveGrammarSet implements ScopedSetObserver<GrammarDocument> {
 
     /**
      * Retrieves the grammars that are currently contained in the set.
+     * Grammars of the innermost scope come first, grammars of the same
+     * scope are in the order they were added.
      * 
      * @return the grammars in the set
      * @since 0.7.5
      */
     public Collection<GrammarDocument> getGrammars() {
-        return grammars;
+        return grammars.getElementsByScope();
     }
 
     /**
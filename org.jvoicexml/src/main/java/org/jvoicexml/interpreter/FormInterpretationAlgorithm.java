@@ -33,6 +33,7 @@ import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jvoicexml.Application;
+import org.jvoicexml.AudioRecording;
 import org.jvoicexml.CallControl;
 import org.jvoicexml.CallControlProperties;
 import org.jvoicexml.Configuration;
@@ -75,6 +76,11 @@ import org.jvoicexml.interpreter.formitem.SubdialogFormItem;
 import org.jvoicexml.interpreter.formitem.TransferFormItem;
 import org.jvoicexml.interpreter.scope.Scope;
 import org.jvoicexml.interpreter.scope.ScopeObserver;
+import org.jvoicexml.metrics.Metrics;
+import org.jvoicexml.metrics.Timeline;
+import org.jvoicexml.metrics.TimelineEvent;
+import org.jvoicexml.metrics.Timelines;
+import org.jvoicexml.metrics.Timer;
 import org.jvoicexml.profile.Profile;
 import org.jvoicexml.profile.TagStrategy;
 import org.jvoicexml.profile.TagStrategyExecutor;
@@ -125,6 +131,18 @@ public final class FormInterpretationAlgorithm implements FormItemVisitor {
     private static final Logger LOGGER = LogManager
             .getLogger(FormInterpretationAlgorithm.class);
 
+    /** Time of the select phase. */
+    private static final Timer SELECT_TIMER =
+            Metrics.timer("jvoicexml_fia_select_seconds");
+
+    /** Time of the collect phase. */
+    private static final Timer COLLECT_TIMER =
+            Metrics.timer("jvoicexml_fia_collect_seconds");
+
+    /** Time of the process phase. */
+    private static final Timer PROCESS_TIMER =
+            Metrics.timer("jvoicexml_fia_process_seconds");
+
     /** The default recording maxtime. */
     private static final int DEFAULT_RECORDING_MAXTIME = 30000;
 
@@ -216,7 +234,7 @@ public final class FormInterpretationAlgorithm implements FormItemVisitor {
         id = dialog.getId();
 
         justFilled = new java.util.LinkedHashSet<InputItem>();
-        localGrammars = new java.util.HashSet<GrammarDocument>();
+        localGrammars = new java.util.LinkedHashSet<GrammarDocument>();
         localProperties = new java.util.HashMap<String, String>();
     }
 
@@ -470,10 +488,19 @@ public final class FormInterpretationAlgorithm implements FormItemVisitor {
 
         String lastFormItem = null;
         String gotoFormItemName = null;
+        final Timeline timeline = Timelines.get(context.getSession());
 
         do {
             interpreter.setState(InterpreterState.TRANSITIONING);
-            item = select(gotoFormItemName);
+            final long selectStart = SELECT_TIMER.start();
+            final long selectBegin =
+                    timeline.begin(TimelineEvent.FIA_SELECT, null);
+            try {
+                item = select(gotoFormItemName);
+            } finally {
+                timeline.end(TimelineEvent.FIA_SELECT, null, selectBegin);
+                SELECT_TIMER.stop(selectStart);
+            }
             gotoFormItemName = null;
 
             if (item != null) {
@@ -485,10 +512,28 @@ public final class FormInterpretationAlgorithm implements FormItemVisitor {
                 lastFormItem = name;
                 try {
                     // Execute the form item
-                    collect(item);
+                    final long collectStart = COLLECT_TIMER.start();
+                    final long collectBegin =
+                            timeline.begin(TimelineEvent.FIA_COLLECT, name);
+                    try {
+                        collect(item);
+                    } finally {
+                        timeline.end(TimelineEvent.FIA_COLLECT, name,
+                                collectBegin);
+                        COLLECT_TIMER.stop(collectStart);
+                    }
 
                     // Process the input or event.
-                    process(item);
+                    final long processStart = PROCESS_TIMER.start();
+                    final long processBegin =
+                            timeline.begin(TimelineEvent.FIA_PROCESS, name);
+                    try {
+                        process(item);
+                    } finally {
+                        timeline.end(TimelineEvent.FIA_PROCESS, name,
+                                processBegin);
+                        PROCESS_TIMER.stop(processStart);
+                    }
                 } catch (InternalExitEvent e) {
                     LOGGER.info("exiting...");
                     break;
@@ -1221,8 +1266,14 @@ public final class FormInterpretationAlgorithm implements FormItemVisitor {
                     "No grammars defined for the input of form item '"
                             + formItem.getName() + "'!");
         }
-        final Collection<GrammarDocument> documents = activeGrammars
-                .getGrammars();
+        // Grammars of the form item take precedence
+        final Collection<GrammarDocument> documents =
+                new java.util.ArrayList<GrammarDocument>(localGrammars);
+        for (GrammarDocument document : activeGrammars.getGrammars()) {
+            if (!localGrammars.contains(document)) {
+                documents.add(document);
+            }
+        }
         activateGrammars(documents);
     }
 
@@ -1489,8 +1540,10 @@ public final class FormInterpretationAlgorithm implements FormItemVisitor {
         platform.waitNonBargeInPlayed();
         
         // Notify that the recording has started
+        final AudioRecording audio =
+                server.createRecording(call.getRecordingAudioFormat());
         final RecordingReceiverThread recording = new RecordingReceiverThread(
-                eventbus, maxTime);
+                eventbus, maxTime, audio);
         final Session session = context.getSession();
         final SessionIdentifier sessionId = session.getSessionId();
         final RecordingStartedEvent started =
@@ -52,6 +52,7 @@ import org.jvoicexml.interpreter.datamodel.DataModel;
 import org.jvoicexml.interpreter.scope.Scope;
 import org.jvoicexml.interpreter.scope.ScopeObserver;
 import org.jvoicexml.interpreter.scope.ScopedCollection;
+import org.jvoicexml.metrics.Timelines;
 import org.jvoicexml.profile.Profile;
 import org.jvoicexml.xml.vxml.VoiceXmlDocument;
 import org.slf4j.MDC;
@@ -347,6 +348,7 @@ public class JVoiceXmlSession extends Thread
     @Override
     public void run() {
         LOGGER.info("starting session " + identifier.getId());
+        Timelines.start(identifier);
         if (LOGGER.isDebugEnabled()) {
             final Thread thread = Thread.currentThread();
             final ClassLoader loader = thread.getContextClassLoader();
@@ -464,6 +466,7 @@ public class JVoiceXmlSession extends Thread
         documentServer.sessionClosed(sessionId);
         scopeObserver.exitScope(Scope.SESSION);
         context.close();
+        Timelines.finish(sessionId);
 
         LOGGER.info("...session closed");
         notifySessionEnded();
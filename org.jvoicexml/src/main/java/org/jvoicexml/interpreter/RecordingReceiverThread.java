@@ -22,10 +22,13 @@
 package org.jvoicexml.interpreter;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.net.URI;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.jvoicexml.AudioRecording;
 import org.jvoicexml.event.EventBus;
 import org.jvoicexml.event.JVoiceXMLEvent;
 import org.jvoicexml.event.error.NoresourceError;
@@ -39,6 +42,13 @@ import org.jvoicexml.event.plain.jvxml.RecordingEvent;
  * creates an appropriate event, once the time has passed.
  * </p>
  *
+ * <p>
+ * If an {@link AudioRecording} is given, the audio is stored while it is
+ * recorded and the recording is completed in this thread. Otherwise, the
+ * audio is buffered in memory and has to be stored by the handler of the
+ * {@link RecordingEvent}.
+ * </p>
+ *
  * @author Dirk Schnelle-Walka
  * @since 0.6
  */
@@ -53,6 +63,9 @@ final class RecordingReceiverThread extends Thread {
     /** Maximal recording time. */
     private final long maxTime;
 
+    /** The recording that is stored while in progress. */
+    private final AudioRecording recording;
+
     /** The output stream buffer for the recording. */
     private final ByteArrayOutputStream out;
 
@@ -63,11 +76,29 @@ final class RecordingReceiverThread extends Thread {
      */
     RecordingReceiverThread(final EventBus bus,
             final long recordingTime) {
+        this(bus, recordingTime, null);
+    }
+
+    /**
+     * Creates a new object.
+     * @param bus the event bus to propagate the end of the recording.
+     * @param recordingTime maximal recording time.
+     * @param audio the recording that is stored while in progress,
+     *          <code>null</code> if the audio should be buffered in memory.
+     * @since 0.7.9
+     */
+    RecordingReceiverThread(final EventBus bus,
+            final long recordingTime, final AudioRecording audio) {
         eventbus = bus;
         maxTime = recordingTime;
+        recording = audio;
         setDaemon(true);
         setName("RecordingReceiverThread");
-        out = new ByteArrayOutputStream();
+        if (recording == null) {
+            out = new ByteArrayOutputStream();
+        } else {
+            out = null;
+        }
     }
 
     /**
@@ -85,8 +116,21 @@ final class RecordingReceiverThread extends Thread {
         }
 
         // Take what was recorded so far and ignore the rest.
-        final byte[] buffer = out.toByteArray();
-        final JVoiceXMLEvent event = new RecordingEvent(buffer);
+        final JVoiceXMLEvent event;
+        if (recording == null) {
+            final byte[] buffer = out.toByteArray();
+            event = new RecordingEvent(buffer);
+        } else {
+            try {
+                final URI uri = recording.complete();
+                event = new RecordingEvent(uri);
+            } catch (IOException e) {
+                final JVoiceXMLEvent error =
+                        new NoresourceError(e.getMessage(), e);
+                eventbus.publish(error);
+                return;
+            }
+        }
         eventbus.publish(event);
     }
 
@@ -95,6 +139,9 @@ final class RecordingReceiverThread extends Thread {
      * @return output stream.
      */
     public OutputStream getOutputStream() {
+        if (recording != null) {
+            return recording.getOutputStream();
+        }
         return out;
     }
 }
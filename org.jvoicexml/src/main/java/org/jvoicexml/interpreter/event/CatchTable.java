@@ -0,0 +1,315 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.event;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.jvoicexml.event.error.SemanticError;
+import org.jvoicexml.interpreter.CatchContainer;
+import org.jvoicexml.interpreter.EventCountable;
+import org.jvoicexml.interpreter.EventStrategy;
+
+/**
+ * Index of the registered {@link EventStrategy}s to resolve the strategy
+ * that handles an event.
+ * <p>
+ * Strategies are indexed by their event type. Resolving an event probes the
+ * event type and each of its prefixes, e.g. <code>error</code>,
+ * <code>error.badfetch</code> and <code>error.badfetch.http</code> for an
+ * event of type <code>error.badfetch.http</code>, instead of scanning all
+ * registered strategies. A trailing dot of a strategy's event type is
+ * ignored. Strategies without an event type handle all events.
+ * </p>
+ * <p>
+ * Among the matching strategies, strategies with a higher count are
+ * preferred. Strategies with the same count are ordered by the scope level
+ * at which they were added, inner scopes first, and then in the order they
+ * were added. This is the same order in which the
+ * {@link org.jvoicexml.interpreter.scope.ScopedCollection} of the
+ * {@link JVoiceXmlEventHandler} presents them. The ordered candidates are
+ * computed once per event type and cached until strategies are added or
+ * removed, so that selecting a strategy only filters the cached list.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+final class CatchTable {
+    /** Orders entries by their scope level and the order they were added. */
+    private static final Comparator<CatchTableEntry> SCOPE_ORDER =
+            new Comparator<CatchTableEntry>() {
+                @Override
+                public int compare(final CatchTableEntry e1,
+                        final CatchTableEntry e2) {
+                    if (e1.level != e2.level) {
+                        return e2.level - e1.level;
+                    }
+                    return Long.compare(e1.sequence, e2.sequence);
+                }
+            };
+
+    /**
+     * Orders entries by their count, the scope level and the order they were
+     * added.
+     */
+    private static final Comparator<CatchTableEntry> COUNT_ORDER =
+            new Comparator<CatchTableEntry>() {
+                @Override
+                public int compare(final CatchTableEntry e1,
+                        final CatchTableEntry e2) {
+                    if (e1.count != e2.count) {
+                        return e2.count - e1.count;
+                    }
+                    return SCOPE_ORDER.compare(e1, e2);
+                }
+            };
+
+    /** Registered strategies by their event type. */
+    private final Map<String, List<CatchTableEntry>> entries;
+
+    /** Candidates ordered by {@link #COUNT_ORDER} by their event type. */
+    private final Map<String, List<CatchTableEntry>> selections;
+
+    /** Sequence number of the next added strategy. */
+    private long sequence;
+
+    /**
+     * Constructs a new object.
+     */
+    CatchTable() {
+        entries = new java.util.HashMap<String, List<CatchTableEntry>>();
+        selections =
+                new java.util.HashMap<String, List<CatchTableEntry>>();
+    }
+
+    /**
+     * Adds the given strategy.
+     * @param strategy the strategy to add
+     * @param level the scope level at which the strategy is added
+     */
+    void add(final EventStrategy strategy, final int level) {
+        final String key = getKey(strategy.getEventType());
+        List<CatchTableEntry> list = entries.get(key);
+        if (list == null) {
+            list = new java.util.ArrayList<CatchTableEntry>();
+            entries.put(key, list);
+        }
+        list.add(new CatchTableEntry(strategy, level, sequence++));
+        selections.clear();
+    }
+
+    /**
+     * Removes the given strategy.
+     * @param strategy the strategy to remove
+     * @return <code>true</code> if the strategy was removed
+     */
+    boolean remove(final EventStrategy strategy) {
+        final String key = getKey(strategy.getEventType());
+        final List<CatchTableEntry> list = entries.get(key);
+        if (list == null) {
+            return false;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            final CatchTableEntry entry = list.get(i);
+            if (entry.strategy.equals(strategy)) {
+                list.remove(i);
+                if (list.isEmpty()) {
+                    entries.remove(key);
+                }
+                selections.clear();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given strategy has been added.
+     * @param strategy the strategy to look for
+     * @return <code>true</code> if an equal strategy has been added
+     */
+    boolean contains(final EventStrategy strategy) {
+        final String key = getKey(strategy.getEventType());
+        final List<CatchTableEntry> list = entries.get(key);
+        if (list == null) {
+            return false;
+        }
+        for (CatchTableEntry entry : list) {
+            if (entry.strategy.equals(strategy)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if there is a strategy for exactly the given event type.
+     * @param type the event type
+     * @return <code>true</code> if there is such a strategy
+     */
+    boolean containsType(final String type) {
+        return entries.containsKey(getKey(type));
+    }
+
+    /**
+     * Removes all strategies.
+     */
+    void clear() {
+        entries.clear();
+        selections.clear();
+    }
+
+    /**
+     * Retrieves all strategies that match the given event type, ordered by
+     * their scope.
+     * @param type the event type
+     * @return matching strategies
+     */
+    List<EventStrategy> resolve(final String type) {
+        final List<CatchTableEntry> candidates = getCandidates(type);
+        Collections.sort(candidates, SCOPE_ORDER);
+        final List<EventStrategy> resolved =
+                new java.util.ArrayList<EventStrategy>(candidates.size());
+        for (CatchTableEntry entry : candidates) {
+            resolved.add(entry.strategy);
+        }
+        return resolved;
+    }
+
+    /**
+     * Selects the strategy to handle an event of the given type in the given
+     * item. This is the active strategy with the highest count that does not
+     * exceed the event count of the item for the strategy's event type.
+     * Conditions are only evaluated until a strategy is found.
+     * @param type the event type
+     * @param item the item that caught the event
+     * @return selected strategy, <code>null</code> if there is none
+     * @throws SemanticError
+     *          error evaluating the condition of a strategy
+     */
+    EventStrategy select(final String type, final CatchContainer item)
+            throws SemanticError {
+        if (!(item instanceof EventCountable)) {
+            return null;
+        }
+        final EventCountable countable = (EventCountable) item;
+        List<CatchTableEntry> candidates = selections.get(type);
+        if (candidates == null) {
+            candidates = getCandidates(type);
+            Collections.sort(candidates, COUNT_ORDER);
+            selections.put(type, candidates);
+        }
+        for (CatchTableEntry entry : candidates) {
+            final EventStrategy strategy = entry.strategy;
+            final int count = countable.getEventCount(
+                    strategy.getEventType());
+            if (count >= entry.count && strategy.isActive()) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collects the entries for the given event type and all of its prefixes.
+     * @param type the event type
+     * @return matching entries in no particular order
+     */
+    private List<CatchTableEntry> getCandidates(final String type) {
+        final List<CatchTableEntry> candidates =
+                new java.util.ArrayList<CatchTableEntry>();
+        addCandidates(candidates, null);
+        int pos = type.indexOf('.');
+        while (pos > 0) {
+            addCandidates(candidates, type.substring(0, pos));
+            pos = type.indexOf('.', pos + 1);
+        }
+        addCandidates(candidates, type);
+        return candidates;
+    }
+
+    /**
+     * Adds all entries for exactly the given key.
+     * @param candidates the entries found so far
+     * @param key the key to look up
+     */
+    private void addCandidates(final List<CatchTableEntry> candidates,
+            final String key) {
+        final List<CatchTableEntry> list = entries.get(key);
+        if (list != null) {
+            candidates.addAll(list);
+        }
+    }
+
+    /**
+     * Determines the key of the given event type.
+     * @param type the event type, maybe <code>null</code>
+     * @return key in the index
+     */
+    private static String getKey(final String type) {
+        if (type == null || !type.endsWith(".")) {
+            return type;
+        }
+        return type.substring(0, type.length() - 1);
+    }
+
+    /**
+     * A strategy in the table.
+     *
+     * @author Dirk Schnelle-Walka
+     * @since 0.7.9
+     */
+    private static final class CatchTableEntry {
+        /** The strategy. */
+        private final EventStrategy strategy;
+
+        /** The scope level at which the strategy was added. */
+        private final int level;
+
+        /** Sequence number of the strategy. */
+        private final long sequence;
+
+        /** The count of the strategy. */
+        private final int count;
+
+        /**
+         * Constructs a new object.
+         * @param eventStrategy the strategy
+         * @param scopeLevel the scope level at which the strategy was added
+         * @param number sequence number of the strategy
+         */
+        CatchTableEntry(final EventStrategy eventStrategy,
+                final int scopeLevel, final long number) {
+            strategy = eventStrategy;
+            level = scopeLevel;
+            sequence = number;
+            count = eventStrategy.getCount();
+        }
+    }
+}
@@ -1,53 +0,0 @@
-/*
- * File:    $HeadURL$
- * Version: $LastChangedRevision$
- * Date:    $Date$
- * Author:  $LastChangedBy$
- *
- * JVoiceXML - A free VoiceXML implementation.
- *
- * Copyright (C) 2009 JVoiceXML group - http://jvoicexml.sourceforge.net
- *
- * This library is free software; you can redistribute it and/or
- * modify it under the terms of the GNU Library General Public
- * License as published by the Free Software Foundation; either
- * version 2 of the License, or (at your option) any later version.
- *
- * This library is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
- * Library General Public License for more details.
- *
- * You should have received a copy of the GNU Library General Public
- * License along with this library; if not, write to the Free Software
- * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
- *
- */
-package org.jvoicexml.interpreter.event;
-
-import java.util.Collection;
-
-import org.jvoicexml.event.JVoiceXMLEvent;
-import org.jvoicexml.event.error.SemanticError;
-import org.jvoicexml.interpreter.CatchContainer;
-import org.jvoicexml.interpreter.EventStrategy;
-
-/**
- * Filter for events that have to be processed.
- * @author Dirk Schnelle-Walka
- * @version $Revision$
- * @since 0.7.1
- */
-interface EventFilter {
-    /**
-     * Filters the given event strategies.
-     * @param strategies event strategies to filter
-     * @param event the current event type
-     * @param item the current form item
-     * @exception SemanticError
-     *            error evaluating a script
-     */
-    void filter(final Collection<EventStrategy> strategies,
-            final JVoiceXMLEvent event, final CatchContainer item)
-        throws SemanticError;
-}
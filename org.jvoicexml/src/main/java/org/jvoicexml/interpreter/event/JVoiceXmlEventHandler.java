@@ -22,7 +22,7 @@
 package org.jvoicexml.interpreter.event;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Map;
 import java.util.Queue;
 
 import org.apache.logging.log4j.LogManager;
@@ -67,6 +67,12 @@ import org.w3c.dom.NodeList;
  * {@link org.jvoicexml.event.EventBus}. This event handler can catch only one
  * event at a time. The first event is propagated to the the FIA while
  * subsequent events will be ignored.
+ * <p>
+ * The registered strategies are indexed in a {@link CatchTable} to resolve
+ * the strategy for an event without scanning all strategies. The strategies
+ * for the catch elements of a form item and its default strategies are
+ * created once per item and reused when the item is visited again.
+ * </p>
  * 
  * @author Dirk Schnelle-Walka
  * @see org.jvoicexml.ImplementationPlatform
@@ -80,20 +86,23 @@ public final class JVoiceXmlEventHandler
     /** Input item strategy factory. */
     private final EventStrategyDecoratorFactory inputItemFactory;
 
-    /** Event filter chain to determine the relevant event strategy. */
-    private final Collection<EventFilter> filters;
-
-    /**
-     * Event filter chain to determine the relevant event strategy if no input
-     * item is given.
-     */
-    private final Collection<EventFilter> filtersNoinput;
-
     /**
      * The strategies to execute, if the corresponding event type occurred.
      */
     private final ScopedCollection<EventStrategy> strategies;
 
+    /** Index of the strategies by their event type. */
+    private final CatchTable table;
+
+    /** The scope observer, maybe <code>null</code>. */
+    private final ScopeObserver scopeObserver;
+
+    /** Strategies for the catch elements of the visited form items. */
+    private final Map<CatchContainer, Collection<EventStrategy>> itemCatches;
+
+    /** Default strategies of the visited form items by their event type. */
+    private final Map<CatchContainer, Map<String, EventStrategy>> itemDefaults;
+
     /** Semaphore to handle the wait/notify mechanism. */
     private final Object semaphore;
 
@@ -120,15 +129,14 @@ public final class JVoiceXmlEventHandler
             final ScopeObserver observer, final EventBus bus) {
         strategies = new ScopedCollection<EventStrategy>(observer);
         strategies.addScopedCollectionListener(this);
+        table = new CatchTable();
+        scopeObserver = observer;
+        itemCatches = new java.util.IdentityHashMap<CatchContainer,
+                Collection<EventStrategy>>();
+        itemDefaults = new java.util.IdentityHashMap<CatchContainer,
+                Map<String, EventStrategy>>();
         inputItemFactory = new EventStrategyDecoratorFactory();
         semaphore = new Object();
-        filters = new java.util.ArrayList<EventFilter>();
-        filters.add(new EventTypeFilter());
-        filters.add(new ConditionEventTypeFilter());
-        filters.add(new EventCountTypeFilter());
-        filters.add(new HighestCountEventTypeFilter());
-        filtersNoinput = new java.util.ArrayList<EventFilter>();
-        filtersNoinput.add(new EventTypeFilter());
         model = dataModel;
         eventbus = bus;
         events = new java.util.LinkedList<JVoiceXMLEvent>();
@@ -170,6 +178,9 @@ public final class JVoiceXmlEventHandler
                     + " catch element(s) in document");
         }
 
+        // Form items of the previous document will not be visited again
+        clearItemStrategies();
+
         // Transform them into event handlers.
         final FormInterpretationAlgorithm fia;
         if (interpreter == null) {
@@ -177,7 +188,9 @@ public final class JVoiceXmlEventHandler
         } else {
             fia = interpreter.getFormInterpretationAlgorithm();
         }
-        addStrategiesForCatches(context, interpreter, fia, null, catches);
+        final Collection<EventStrategy> created = createStrategiesForCatches(
+                context, interpreter, fia, null, catches);
+        addStrategies(created);
     }
 
     /**
@@ -194,10 +207,15 @@ public final class JVoiceXmlEventHandler
                     + " catch element(s) in dialog '" + dialog.getId() + "'");
         }
 
+        // The dialog is processed by a new FIA with new form items
+        clearItemStrategies();
+
         // Transform them into event handlers.
         final FormInterpretationAlgorithm fia = interpreter
                 .getFormInterpretationAlgorithm();
-        addStrategiesForCatches(context, interpreter, fia, null, catches);
+        final Collection<EventStrategy> created = createStrategiesForCatches(
+                context, interpreter, fia, null, catches);
+        addStrategies(created);
     }
 
     /**
@@ -210,20 +228,23 @@ public final class JVoiceXmlEventHandler
             final FormInterpretationAlgorithm fia, final CatchContainer item) {
         final Collection<EventStrategy> added =
                 new java.util.ArrayList<EventStrategy>();
-        // Retrieve the specified catch elements.
-        final Collection<AbstractCatchElement> catches = item
-                .getCatchElements();
-
-        final Collection<AbstractCatchElement> filteredCatches =
-                filterItemCatches(item, catches);
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("found " + filteredCatches.size()
-                    + " catch element(s) in item '" + item.getName() + "'");
+        // Transform the catch elements into event handlers once per item.
+        Collection<EventStrategy> catchStrategies = itemCatches.get(item);
+        if (catchStrategies == null) {
+            final Collection<AbstractCatchElement> catches = item
+                    .getCatchElements();
+            final Collection<AbstractCatchElement> filteredCatches =
+                    filterItemCatches(item, catches);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("found " + filteredCatches.size()
+                        + " catch element(s) in item '" + item.getName()
+                        + "'");
+            }
+            catchStrategies = createStrategiesForCatches(context, interpreter,
+                    fia, item, filteredCatches);
+            itemCatches.put(item, catchStrategies);
         }
-        
-        // Transform them into event handlers.
-        addStrategiesForCatches(context, interpreter, fia, item,
-                filteredCatches);
+        addStrategies(catchStrategies);
 
         // Add the default strategies for input items.
         final Collection<EventStrategy> defaultStrategies =
@@ -270,35 +291,60 @@ public final class JVoiceXmlEventHandler
     }
     
     /**
-     * Adds {@link EventStrategy}s for the provided list of catches.
+     * Creates {@link EventStrategy}s for the provided list of catches.
      * @param context the current VoiceXMLInterpreterContext
      * @param interpreter the current VoiceXMLInterpreter
      * @param fia the current FIA
      * @param item the current item
      * @param catches catches from which to create {@link EventStrategy}s
+     * @return created strategies
      * @since 0.7.9
      */
-    private void addStrategiesForCatches(
+    private Collection<EventStrategy> createStrategiesForCatches(
             final VoiceXmlInterpreterContext context,
             final VoiceXmlInterpreter interpreter,
             final FormInterpretationAlgorithm fia,
             final FormItem item,
             final Collection<AbstractCatchElement> catches) {
+        final Collection<EventStrategy> created =
+                new java.util.ArrayList<EventStrategy>();
         for (AbstractCatchElement catchElement : catches) {
             final TokenList events = catchElement.getEventList();
             if (events.isEmpty()) {
                 final EventStrategy strategy = new CatchEventStrategy(context,
                         interpreter, fia, item, catchElement,
                         "org.jvoicexml.event");
-                addStrategy(strategy);
+                created.add(strategy);
             } else {
                 for (String eventType : events) {
                     final EventStrategy strategy = new CatchEventStrategy(context,
                             interpreter, fia, item, catchElement, eventType);
-                    addStrategy(strategy);
+                    created.add(strategy);
                 }
             }
         }
+        return created;
+    }
+
+    /**
+     * Adds all given strategies.
+     * @param strats the strategies to add
+     * @since 0.7.9
+     */
+    private void addStrategies(final Collection<EventStrategy> strats) {
+        for (EventStrategy strategy : strats) {
+            addStrategy(strategy);
+        }
+    }
+
+    /**
+     * Forgets about the strategies that have been created for visited form
+     * items.
+     * @since 0.7.9
+     */
+    private void clearItemStrategies() {
+        itemCatches.clear();
+        itemDefaults.clear();
     }
 
     
@@ -327,39 +373,60 @@ public final class JVoiceXmlEventHandler
             final FormInterpretationAlgorithm fia, final CatchContainer item) {
         final Collection<EventStrategy> added =
                 new java.util.ArrayList<EventStrategy>();
-        if (!containsStrategy(Noinput.TAG_NAME)) {
-            final EventStrategy strategy = new DefaultRepromptEventStrategy(
-                    context, interpreter, fia, item, Noinput.TAG_NAME);
-            final boolean add = addStrategy(strategy);
-            if (add) {
-                added.add(strategy);
-            }
-        }
-        if (!containsStrategy(Nomatch.TAG_NAME)) {
-            final EventStrategy strategy = new DefaultRepromptEventStrategy(
-                    context, interpreter, fia, item, Nomatch.TAG_NAME);
-            final boolean add = addStrategy(strategy);
-            if (add) {
-                added.add(strategy);
-            }
-        }
-        if (!containsStrategy(Help.TAG_NAME)) {
-            final EventStrategy strategy = new DefaultRepromptEventStrategy(
-                    context, interpreter, fia, item, Help.TAG_NAME);
-            final boolean add = addStrategy(strategy);
-            if (add) {
-                added.add(strategy);
+        final String[] types = {Noinput.TAG_NAME, Nomatch.TAG_NAME,
+                Help.TAG_NAME, "cancel"};
+        for (String type : types) {
+            if (!containsStrategy(type)) {
+                final EventStrategy strategy = getDefaultStrategy(context,
+                        interpreter, fia, item, type);
+                final boolean add = addStrategy(strategy);
+                if (add) {
+                    added.add(strategy);
+                }
             }
         }
-        if (!containsStrategy("cancel")) {
-            final EventStrategy strategy = new DefaultCancelEventStrategy(
-                    context, interpreter, fia, item, "cancel");
-            final boolean add = addStrategy(strategy);
-            if (add) {
-                added.add(strategy);
+        return added;
+    }
+
+    /**
+     * Retrieves the default strategy for the given event type of the given
+     * item. The strategy is created if the item did not need it before.
+     * 
+     * @param context
+     *            The current <code>VoiceXmlInterpreterContext</code>
+     * @param interpreter
+     *            The current <code>VoiceXmlInterpreter</code>
+     * @param fia
+     *            The <code>FormInterpretationAlgorithm</code>
+     * @param item
+     *            The visited input item.
+     * @param type
+     *            the event type
+     * @return default strategy
+     * @since 0.7.9
+     */
+    private EventStrategy getDefaultStrategy(
+            final VoiceXmlInterpreterContext context,
+            final VoiceXmlInterpreter interpreter,
+            final FormInterpretationAlgorithm fia, final CatchContainer item,
+            final String type) {
+        Map<String, EventStrategy> defaults = itemDefaults.get(item);
+        if (defaults == null) {
+            defaults = new java.util.HashMap<String, EventStrategy>();
+            itemDefaults.put(item, defaults);
+        }
+        EventStrategy strategy = defaults.get(type);
+        if (strategy == null) {
+            if (type.equals("cancel")) {
+                strategy = new DefaultCancelEventStrategy(context, interpreter,
+                        fia, item, type);
+            } else {
+                strategy = new DefaultRepromptEventStrategy(context,
+                        interpreter, fia, item, type);
             }
+            defaults.put(type, strategy);
         }
-        return added;
+        return strategy;
     }
 
     /**
@@ -374,7 +441,7 @@ public final class JVoiceXmlEventHandler
         
         final String type = strategy.getEventType();
 
-        if (strategies.contains(strategy)) {
+        if (table.contains(strategy)) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("strategy: '" + strategy.getClass()
                         + "' for event type '" + type + "'"
@@ -389,8 +456,12 @@ public final class JVoiceXmlEventHandler
         }
 
         eventbus.subscribe(type, this);
-        
-        return strategies.add(strategy);
+
+        final boolean added = strategies.add(strategy);
+        if (added) {
+            table.add(strategy, getScopeDepth());
+        }
+        return added;
     }
 
     /**
@@ -411,6 +482,9 @@ public final class JVoiceXmlEventHandler
             }
         }
         strategies.removeAll(toremove);
+        for (EventStrategy strategy : toremove) {
+            table.remove(strategy);
+        }
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("removed " + toremove.size()
                     + " event strategies for form item '" + item.getName()
@@ -419,20 +493,17 @@ public final class JVoiceXmlEventHandler
     }
 
     /**
-     * Retrieves the first {@link EventStrategy} with the given type.
+     * Retrieves the current scope level.
      * 
-     * @param type
-     *            event type to look for.
-     * @return found strategy, <code>null</code> if no strategy was found.
+     * @return current scope level, <code>0</code> if scope changes are not
+     *         monitored
+     * @since 0.7.9
      */
-    private EventStrategy getStrategy(final String type) {
-        for (EventStrategy strategy : strategies) {
-            final String currentType = strategy.getEventType();
-            if (currentType.equals(type)) {
-                return strategy;
-            }
+    private int getScopeDepth() {
+        if (scopeObserver == null) {
+            return 0;
         }
-        return null;
+        return scopeObserver.getScopeDepth();
     }
 
     /**
@@ -444,8 +515,7 @@ public final class JVoiceXmlEventHandler
      * @since 0.7
      */
     private boolean containsStrategy(final String type) {
-        final EventStrategy strategy = getStrategy(type);
-        return strategy != null;
+        return table.containsType(type);
     }
 
     /**
@@ -517,8 +587,8 @@ public final class JVoiceXmlEventHandler
         return event;
     }    
     /**
-     * {@inheritDoc} The relevant {@link EventStrategy} is determined via a
-     * chaining of {@link EventFilter}s.
+     * {@inheritDoc} The relevant {@link EventStrategy} is resolved by the
+     * {@link CatchTable}.
      */
     @Override
     public void processEvent(final CatchContainer item, JVoiceXMLEvent event)
@@ -540,32 +610,22 @@ public final class JVoiceXmlEventHandler
             LOGGER.debug("processing event of type '" + type + "'...");
         }
 
-        final Collection<EventFilter> eventFilters;
-        final Collection<EventStrategy> matchingStrategies =
-                new java.util.ArrayList<EventStrategy>(
-                strategies);
+        final EventStrategy strategy;
         if (item == null) {
-            eventFilters = filtersNoinput;
-        } else {
-            eventFilters = filters;
-        }
-
-        // Filter the matching strategies.
-        for (EventFilter filter : eventFilters) {
-            filter.filter(matchingStrategies, event, item);
+            final Collection<EventStrategy> matchingStrategies =
+                    table.resolve(type);
             if (matchingStrategies.isEmpty()) {
-                LOGGER.info("no matching strategy for type '" + type + "'");
-
-                final JVoiceXMLEvent copy = event;
-                event = null;
-
-                throw copy;
+                strategy = null;
+            } else {
+                strategy = matchingStrategies.iterator().next();
             }
+        } else {
+            strategy = table.select(type, item);
+        }
+        if (strategy == null) {
+            LOGGER.info("no matching strategy for type '" + type + "'");
+            throw event;
         }
-
-        // Select the first remaining matching strategy.
-        final Iterator<EventStrategy> iterator = matchingStrategies.iterator();
-        final EventStrategy strategy = iterator.next();
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("processing event '" + type + "' with " + strategy);
         }
@@ -661,6 +721,9 @@ public final class JVoiceXmlEventHandler
             return false;
         }
         boolean removed = strategies.removeAll(strats);
+        for (EventStrategy strategy : strats) {
+            table.remove(strategy);
+        }
         if (removed) {
             maybeUnsubscribeFromEventBus(strats);
         }
@@ -674,6 +737,9 @@ public final class JVoiceXmlEventHandler
     @Override
     public void removedForScopeChange(Scope previous, Scope next,
             Collection<EventStrategy> items) {
+        for (EventStrategy strategy : items) {
+            table.remove(strategy);
+        }
         maybeUnsubscribeFromEventBus(items);
     }
     
@@ -687,8 +753,7 @@ public final class JVoiceXmlEventHandler
             final Collection<EventStrategy> items) {
         for (EventStrategy strategy : items) {
             final String type = strategy.getEventType();
-            final EventStrategy otherStratey = getStrategy(type);
-            if (otherStratey == null) {
+            if (!containsStrategy(type)) {
                 eventbus.unsubscribe(type, this);
             }
         }
@@ -99,16 +99,20 @@ final class RecordingEventStrategy
     protected boolean handleEvent(final RecordFormItem record,
             final JVoiceXMLEvent event) throws JVoiceXMLEvent {
         final RecordingEvent recordingEvent = (RecordingEvent) event;
-        final byte[] buffer = recordingEvent.getRecordingBuffer();
-        final ByteArrayInputStream in = new ByteArrayInputStream(buffer);
         final VoiceXmlInterpreterContext context =
                 getVoiceXmlInterpreterContext();
-        final DocumentServer server = context.getDocumentServer();
 
-        // Store the recording.
-        final long length = buffer.length / format.getFrameSize();
-        final AudioInputStream ain = new AudioInputStream(in, format, length);
-        final URI result = server.storeAudio(ain);
+        // Store the recording if it has not been stored while recording.
+        URI result = recordingEvent.getRecordingUri();
+        if (result == null) {
+            final byte[] buffer = recordingEvent.getRecordingBuffer();
+            final ByteArrayInputStream in = new ByteArrayInputStream(buffer);
+            final DocumentServer server = context.getDocumentServer();
+            final long length = buffer.length / format.getFrameSize();
+            final AudioInputStream ain =
+                    new AudioInputStream(in, format, length);
+            result = server.storeAudio(ain);
+        }
 
         // Save the URI in the event for later retrieval.
         recordingEvent.setInputResult(result);
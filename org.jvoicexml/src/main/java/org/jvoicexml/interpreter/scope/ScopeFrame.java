@@ -0,0 +1,92 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.interpreter.scope;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Bookkeeping of a scoped container for a single entered scope.
+ *
+ * <p>
+ * A frame records the keys that were modified while its scope was active.
+ * Upon exit of the scope, only these keys have to be visited to restore the
+ * state before the scope was entered.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ * @param <K> type of the recorded keys
+ */
+final class ScopeFrame<K> {
+    /** The scope of this frame. */
+    private final Scope scope;
+
+    /** Keys modified in this frame, created on demand. */
+    private Collection<K> keys;
+
+    /**
+     * Constructs a new object.
+     * @param s the scope of this frame
+     */
+    ScopeFrame(final Scope s) {
+        scope = s;
+    }
+
+    /**
+     * Retrieves the scope of this frame.
+     * @return the scope
+     */
+    Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * Records a modification of the given key. Keys are recorded once for
+     * each modification.
+     * @param key the modified key
+     */
+    void record(final K key) {
+        if (keys == null) {
+            keys = new java.util.ArrayList<K>();
+        }
+        keys.add(key);
+    }
+
+    /**
+     * Retrieves the keys that were modified in this frame.
+     * @return modified keys, one entry per modification
+     */
+    Collection<K> getKeys() {
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+        return keys;
+    }
+
+    /**
+     * Forgets all recorded keys.
+     */
+    void clear() {
+        keys = null;
+    }
+}
@@ -134,6 +134,17 @@ public final class ScopeObserver
         return scopes.peek();
     }
 
+    /**
+     * Retrieves the number of scopes that have been entered and not yet
+     * exited.
+     * @return nesting level of the current scope, <code>0</code> if there
+     *          is no current scope
+     * @since 0.7.9
+     */
+    public int getScopeDepth() {
+        return scopes.size();
+    }
+
     /**
      * {@inheritDoc}
      */
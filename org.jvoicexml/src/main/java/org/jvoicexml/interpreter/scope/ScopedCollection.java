@@ -21,8 +21,9 @@
 package org.jvoicexml.interpreter.scope;
 
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
-import java.util.Stack;
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -40,7 +41,11 @@ import org.apache.logging.log4j.Logger;
  * return those elements from the topmost scope prior to elements from lower
  * scopes.
  * </p>
- *
+ * <p>
+ * Exiting a scope only visits the elements that were added in that scope.
+ * This class is not thread safe. It is meant to be used by a single
+ * session.
+ * </p>
  *
  * @author Dirk Schnelle-Walka
  * @since 0.6
@@ -53,10 +58,13 @@ public final class ScopedCollection<E>
             .getLogger(ScopedCollection.class);
 
     /** The scope stack. All changes are made to the topmost item. */
-    private final Stack<ScopedCollectionItem<E>> stack;
+    private final Deque<ScopedCollectionItem<E>> stack;
 
-    /** A view onto all items of all elements. */
-    private final Collection<E> view;
+    /**
+     * A view onto all items of all elements. Elements of the topmost item
+     * come first.
+     */
+    private final List<E> view;
 
     /** Known listeners to scope changes. */
     private final Collection<ScopedCollectionListener<E>> listeners;
@@ -75,7 +83,7 @@ public final class ScopedCollection<E>
      * @param scopeObserver The current scope observer.
      */
     public ScopedCollection(final ScopeObserver scopeObserver) {
-        stack = new Stack<ScopedCollectionItem<E>>();
+        stack = new java.util.ArrayDeque<ScopedCollectionItem<E>>();
         view = new java.util.ArrayList<E>();
         listeners = new java.util.ArrayList<ScopedCollectionListener<E>>();
         if (scopeObserver != null) {
@@ -133,7 +141,10 @@ public final class ScopedCollection<E>
             final ScopedCollectionItem<E> item = stack.peek();
             if (item.getScope() == previous) {
                 stack.pop();
-                view.removeAll(item);
+                if (!needRecreatedView) {
+                    // The elements of the topmost item lead the view
+                    view.subList(0, item.size()).clear();
+                }
                 
                 // Notify the listeners about this change
                 for (ScopedCollectionListener<E> listener : listeners) {
@@ -153,10 +164,7 @@ public final class ScopedCollection<E>
      * @return current collection.
      */
     private ScopedCollectionItem<E> getTopmostCollection() {
-        ScopedCollectionItem<E> item = null;
-        if (!stack.empty()) {
-            item = stack.peek();
-        }
+        ScopedCollectionItem<E> item = stack.peek();
 
         // Create a new  entry in the scope stack if there are no items
         // on the stack or if the topmost scope differs from the current scope.
@@ -179,8 +187,7 @@ public final class ScopedCollection<E>
     private Collection<E> getView() {
         if (needRecreatedView) {
             view.clear();
-            for (int i = stack.size() - 1; i >= 0; i--) {
-                final ScopedCollectionItem<E> item = stack.get(i);
+            for (ScopedCollectionItem<E> item : stack) {
                 view.addAll(item);
             }
             needRecreatedView = false;
@@ -191,18 +198,27 @@ public final class ScopedCollection<E>
      * {@inheritDoc}
      */
     public boolean add(final E e) {
-        needRecreatedView = true;
         final ScopedCollectionItem<E> collection = getTopmostCollection();
-        return collection.add(e);
+        final boolean added = collection.add(e);
+        if (added && !needRecreatedView) {
+            // Keep the view up to date: elements of the topmost item come
+            // first
+            view.add(collection.size() - 1, e);
+        }
+        return added;
     }
 
     /**
      * {@inheritDoc}
      */
     public boolean addAll(final Collection<? extends E> c) {
-        needRecreatedView = true;
         final ScopedCollectionItem<E> collection = getTopmostCollection();
-        return collection.addAll(c);
+        final int index = collection.size();
+        final boolean added = collection.addAll(c);
+        if (added && !needRecreatedView) {
+            view.addAll(index, c);
+        }
+        return added;
     }
 
     /**
@@ -241,7 +257,8 @@ public final class ScopedCollection<E>
      * {@inheritDoc}
      */
     public Iterator<E> iterator() {
-        return view.iterator();
+        final Collection<E> currentView = getView();
+        return currentView.iterator();
     }
 
     /**
@@ -249,8 +266,11 @@ public final class ScopedCollection<E>
      */
     public boolean remove(final Object o) {
         // Iterate over the stack and try to find the collection where
-        // the item has been added
-        for (ScopedCollectionItem<E> item : stack) {
+        // the item has been added, starting with the lowest scope
+        final Iterator<ScopedCollectionItem<E>> iterator =
+                stack.descendingIterator();
+        while (iterator.hasNext()) {
+            final ScopedCollectionItem<E> item = iterator.next();
             if (item.remove(o)) {
                 needRecreatedView = true;
                 return true;
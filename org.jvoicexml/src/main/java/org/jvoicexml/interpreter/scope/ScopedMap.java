@@ -21,9 +21,9 @@
 package org.jvoicexml.interpreter.scope;
 
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,6 +42,18 @@ import org.apache.logging.log4j.Logger;
  * is the current value.
  * </p>
  *
+ * <p>
+ * The keys that are modified in a scope are recorded per entered scope.
+ * Exiting a scope only visits the keys that were modified in that scope and
+ * in the scopes that are implicitly exited with it. Hence, scope
+ * transitions do not depend on the size of the map.
+ * </p>
+ *
+ * <p>
+ * This class is not thread safe. It is meant to be used by a single
+ * session.
+ * </p>
+ *
  * @author Dirk Schnelle-Walka
  *
  * @since 0.3
@@ -55,7 +67,10 @@ public final class ScopedMap<K, V>
             LogManager.getLogger(ScopedMap.class);
 
     /** The encapsulated map. */
-    private final Map<K, Stack<ScopedMapItem<V>>> map;
+    private final Map<K, Deque<ScopedMapItem<V>>> map;
+
+    /** Keys modified per entered scope, the current scope first. */
+    private final Deque<ScopeFrame<K>> frames;
 
     /** The scope observer. */
     private final ScopeObserver observer;
@@ -68,12 +83,16 @@ public final class ScopedMap<K, V>
      * @param scopeObserver The current scope observer.
      */
     public ScopedMap(final ScopeObserver scopeObserver) {
-        map = new java.util.HashMap<K, Stack<ScopedMapItem<V>>>();
+        map = new java.util.HashMap<K, Deque<ScopedMapItem<V>>>();
+        frames = new java.util.ArrayDeque<ScopeFrame<K>>();
 
         if (scopeObserver != null) {
             observer = scopeObserver;
             observer.addScopeSubscriber(this);
             scope = observer.currentScope();
+            if (scope != null) {
+                frames.push(new ScopeFrame<K>(scope));
+            }
         } else {
             LOGGER.warn("no monitoring of scope transitions possible");
             observer = null;
@@ -96,36 +115,76 @@ public final class ScopedMap<K, V>
      */
     public void enterScope(final Scope previous, final Scope next) {
         scope = next;
+        frames.push(new ScopeFrame<K>(next));
     }
 
     /**
      *{@inheritDoc}
+     *
+     * <p>
+     * Restores all keys that were modified in the exited scope. Scopes that
+     * were entered after the exited scope are exited, too.
+     * </p>
      */
     public void exitScope(final Scope previous, final Scope next) {
-        // Pop the scope relevant item from the stack
-        final Collection<Stack<ScopedMapItem<V>>> stacks = map.values();
-        for (Stack<ScopedMapItem<V>> stack : stacks) {
-            if (!stack.empty()) {
-                final ScopedMapItem<V> item = stack.peek();
-                if (item.getScope() == previous) {
-                    stack.pop();
-                }
+        if (containsFrame(previous)) {
+            ScopeFrame<K> frame;
+            do {
+                frame = frames.pop();
+                restore(frame);
+            } while (frame.getScope() != previous);
+        }
+
+        scope = next;
+    }
+
+    /**
+     * Checks if there is a frame for the given scope.
+     * @param s the scope to look for
+     * @return <code>true</code> if there is a frame for the scope
+     */
+    private boolean containsFrame(final Scope s) {
+        for (ScopeFrame<K> frame : frames) {
+            if (frame.getScope() == s) {
+                return true;
             }
         }
+        return false;
+    }
 
-        // Remove all empty stacks.
-        final Collection<K> keysToRemove = new java.util.ArrayList<K>();
-        for (K key : map.keySet()) {
-            final Stack<ScopedMapItem<V>> stack = map.get(key);
+    /**
+     * Pops all values that were put in the given frame.
+     * @param frame the exited frame
+     */
+    private void restore(final ScopeFrame<K> frame) {
+        final Scope exited = frame.getScope();
+        for (K key : frame.getKeys()) {
+            final Deque<ScopedMapItem<V>> stack = map.get(key);
+            if (stack == null) {
+                // The key has been removed in the meantime
+                continue;
+            }
+            final ScopedMapItem<V> item = stack.peek();
+            if (item != null && item.getScope() == exited) {
+                stack.pop();
+            }
             if (stack.isEmpty()) {
-                keysToRemove.add(key);
+                map.remove(key);
             }
         }
-        for (K key : keysToRemove) {
-            map.remove(key);
-        }
+    }
 
-        scope = next;
+    /**
+     * Retrieves the frame of the current scope.
+     * @return the current frame
+     */
+    private ScopeFrame<K> getCurrentFrame() {
+        ScopeFrame<K> frame = frames.peek();
+        if (frame == null || frame.getScope() != scope) {
+            frame = new ScopeFrame<K>(scope);
+            frames.push(frame);
+        }
+        return frame;
     }
 
     /**
@@ -178,17 +237,16 @@ public final class ScopedMap<K, V>
      *   <tt>null</tt> if the map contains no mapping for this key.
      */
     public V get(final Object key) {
-        final Stack<ScopedMapItem<V>> stack = map.get(key);
+        final Deque<ScopedMapItem<V>> stack = map.get(key);
 
         if (stack == null) {
             return null;
         }
 
-        if (stack.empty()) {
+        final ScopedMapItem<V> item = stack.peek();
+        if (item == null) {
             return null;
         }
-
-        final ScopedMapItem<V> item = stack.peek();
         return item.getValue();
     }
 
@@ -205,25 +263,23 @@ public final class ScopedMap<K, V>
      *   supports <tt>null</tt> values.
      */
     public V put(final K key, final V value) {
-        Stack<ScopedMapItem<V>> stack = map.get(key);
+        Deque<ScopedMapItem<V>> stack = map.get(key);
         ScopedMapItem<V> previousItem;
 
         if (stack == null) {
-            stack = new Stack<ScopedMapItem<V>>();
+            stack = new java.util.ArrayDeque<ScopedMapItem<V>>();
 
             map.put(key, stack);
 
             previousItem = null;
         } else {
-            if (stack.empty()) {
-                previousItem = null;
-            } else {
-                previousItem = stack.peek();
-            }
+            previousItem = stack.peek();
         }
 
         final ScopedMapItem<V> item = new ScopedMapItem<V>(scope, value);
         stack.push(item);
+        final ScopeFrame<K> frame = getCurrentFrame();
+        frame.record(key);
 
         if (previousItem == null) {
             return null;
@@ -241,17 +297,16 @@ public final class ScopedMap<K, V>
      *   <tt>null</tt> if there was no mapping for key.
      */
     public V remove(final Object key) {
-        final Stack<ScopedMapItem<V>> stack = map.remove(key);
+        final Deque<ScopedMapItem<V>> stack = map.remove(key);
 
         if (stack == null) {
             return null;
         }
 
-        if (stack.empty()) {
+        final ScopedMapItem<V> item = stack.peek();
+        if (item == null) {
             return null;
         }
-
-        final ScopedMapItem<V> item = stack.peek();
         return item.getValue();
     }
 
@@ -269,6 +324,9 @@ public final class ScopedMap<K, V>
      */
     public void clear() {
         map.clear();
+        for (ScopeFrame<K> frame : frames) {
+            frame.clear();
+        }
     }
 
     /**
@@ -286,12 +344,12 @@ public final class ScopedMap<K, V>
      * @return a collection view of the values contained in this map.
      */
     public Collection<V> values() {
-        final Collection<Stack<ScopedMapItem<V>>> stacks = map.values();
+        final Collection<Deque<ScopedMapItem<V>>> stacks = map.values();
         final Collection<V> values = new java.util.ArrayList<V>();
 
-        for (Stack<ScopedMapItem<V>> stack : stacks) {
-            if (!stack.empty()) {
-                final ScopedMapItem<V> item = stack.peek();
+        for (Deque<ScopedMapItem<V>> stack : stacks) {
+            final ScopedMapItem<V> item = stack.peek();
+            if (item != null) {
                 final V value = item.getValue();
                 values.add(value);
             }
@@ -306,11 +364,11 @@ public final class ScopedMap<K, V>
      * @return a set view of the mappings contained in this map.
      */
     public Set<Map.Entry<K, V>> entrySet() {
-        final Set<Map.Entry<K, Stack<ScopedMapItem<V>>>> entries =
+        final Set<Map.Entry<K, Deque<ScopedMapItem<V>>>> entries =
             map.entrySet();
         final Set<Map.Entry<K, V>> set =
             new java.util.HashSet<Map.Entry<K, V>>();
-        for (Map.Entry<K, Stack<ScopedMapItem<V>>> entry : entries) {
+        for (Map.Entry<K, Deque<ScopedMapItem<V>>> entry : entries) {
             final K key = entry.getKey();
             final ScopedMapEntry<K, V> current =
                 new ScopedMapEntry<K, V>(key, this);
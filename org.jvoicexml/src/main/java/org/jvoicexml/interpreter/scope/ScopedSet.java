@@ -21,9 +21,10 @@
 package org.jvoicexml.interpreter.scope;
 
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
-import java.util.Stack;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,6 +38,11 @@ import org.apache.logging.log4j.Logger;
  * aware.
  * </p>
  *
+ * <p>
+ * Exiting a scope only visits the elements that were added in that scope.
+ * This class is not thread safe. It is meant to be used by a single
+ * session.
+ * </p>
  *
  * @author Dirk Schnelle-Walka
  * @since 0.7.2
@@ -48,7 +54,7 @@ public final class ScopedSet<E>
     private static final Logger LOGGER = LogManager.getLogger(ScopedSet.class);
 
     /** Scope stack. */
-    private final Stack<ScopedCollectionItem<E>> stack;
+    private final Deque<ScopedCollectionItem<E>> stack;
 
     /** A view onto all items of all elements. */
     private final Set<E> view;
@@ -67,7 +73,7 @@ public final class ScopedSet<E>
      * @param scopeObserver The current scope observer.
      */
     public ScopedSet(final ScopeObserver scopeObserver) {
-        stack = new Stack<ScopedCollectionItem<E>>();
+        stack = new java.util.ArrayDeque<ScopedCollectionItem<E>>();
         view = new java.util.HashSet<E>();
         observers = new java.util.ArrayList<ScopedSetObserver<E>>();
 
@@ -131,7 +137,9 @@ public final class ScopedSet<E>
                 final Collection<E> removed = new java.util.ArrayList<E>();
                 removed.addAll(item);
                 stack.pop();
-                view.removeAll(removed);
+                for (E element : removed) {
+                    view.remove(element);
+                }
                 // Notify all registered scoped set observers
                 synchronized (observers) {
                     for (ScopedSetObserver<E> obs : observers) {
@@ -152,10 +160,7 @@ public final class ScopedSet<E>
      * @return current collection.
      */
     private ScopedCollectionItem<E> getCurrentCollection() {
-        ScopedCollectionItem<E> item = null;
-        if (!stack.empty()) {
-            item = stack.peek();
-        }
+        ScopedCollectionItem<E> item = stack.peek();
         if (item == null) {
             // There is no item on the stack
             item = new ScopedCollectionItem<E>(scope);
@@ -169,6 +174,21 @@ public final class ScopedSet<E>
         return item;
     }
 
+    /**
+     * Retrieves all elements ordered by their scope, starting with the
+     * innermost scope. Elements of the same scope are in the order they
+     * were added.
+     * @return elements ordered by their scope
+     * @since 0.7.9
+     */
+    public List<E> getElementsByScope() {
+        final List<E> elements = new java.util.ArrayList<E>(view.size());
+        for (ScopedCollectionItem<E> item : stack) {
+            elements.addAll(item);
+        }
+        return elements;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -219,7 +239,7 @@ public final class ScopedSet<E>
      * {@inheritDoc}
      */
     public boolean isEmpty() {
-        return stack.empty();
+        return stack.isEmpty();
     }
 
     /**
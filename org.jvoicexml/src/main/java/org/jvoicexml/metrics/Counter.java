@@ -0,0 +1,92 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count of events.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class Counter implements Metric, CounterMXBean {
+    /** The name of this metric. */
+    private final String name;
+
+    /** The current count. */
+    private final LongAdder count;
+
+    /**
+     * Constructs a new object.
+     * @param metricName the name of this metric
+     */
+    Counter(final String metricName) {
+        name = metricName;
+        count = new LongAdder();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Counts a single event if metrics are enabled.
+     */
+    public void increment() {
+        if (Metrics.isEnabled()) {
+            count.increment();
+        }
+    }
+
+    /**
+     * Counts the given number of events if metrics are enabled.
+     * @param events number of events
+     */
+    public void add(final long events) {
+        if (Metrics.isEnabled()) {
+            count.add(events);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeText(final StringBuilder out) {
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(getCount()).append('\n');
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values with a bounded relative error.
+ *
+ * <p>
+ * Values below 32 are counted exactly. Larger values are counted in
+ * buckets of 16 per power of two, i.e. with a relative error of at most
+ * 1/16. The buckets cover the full range of <code>long</code> values and
+ * are allocated once, so that recording never allocates.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class Histogram implements Metric, HistogramMXBean {
+    /** Number of bits to distinguish buckets within a power of two. */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Number of buckets per power of two. */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Number of values that are counted exactly. */
+    private static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS;
+
+    /** Total number of buckets. */
+    private static final int BUCKETS = LINEAR_BUCKETS
+            + (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /** Percentiles that are written in the text format. */
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    /** The name of this metric. */
+    private final String name;
+
+    /** Number of recorded values per bucket. */
+    private final AtomicLongArray buckets;
+
+    /** Number of recorded values. */
+    private final LongAdder count;
+
+    /** Sum of the recorded values. */
+    private final LongAdder sum;
+
+    /** Largest recorded value. */
+    private final AtomicLong max;
+
+    /**
+     * Constructs a new object.
+     * @param metricName the name of this metric
+     */
+    Histogram(final String metricName) {
+        name = metricName;
+        buckets = new AtomicLongArray(BUCKETS);
+        count = new LongAdder();
+        sum = new LongAdder();
+        max = new AtomicLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records the given value if metrics are enabled.
+     * @param value the value, negative values are recorded as
+     *          <code>0</code>
+     */
+    public void record(final long value) {
+        if (Metrics.isEnabled()) {
+            recordValue(value);
+        }
+    }
+
+    /**
+     * Records the given value.
+     * @param value the value, negative values are recorded as
+     *          <code>0</code>
+     */
+    void recordValue(final long value) {
+        final long current;
+        if (value < 0) {
+            current = 0;
+        } else {
+            current = value;
+        }
+        buckets.incrementAndGet(getBucket(current));
+        count.increment();
+        sum.add(current);
+        long largest = max.get();
+        while (current > largest && !max.compareAndSet(largest, current)) {
+            largest = max.get();
+        }
+    }
+
+    /**
+     * Determines the bucket of the given value.
+     * @param value a non-negative value
+     * @return index of the bucket
+     */
+    static int getBucket(final long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int mantissa = (int) (value >>> shift);
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS
+                + mantissa - SUB_BUCKETS;
+    }
+
+    /**
+     * Determines the largest value of the given bucket.
+     * @param bucket index of the bucket
+     * @return largest value that is counted in this bucket
+     */
+    static long getUpperBound(final int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        final int offset = bucket - LINEAR_BUCKETS;
+        final int shift = offset / SUB_BUCKETS + 1;
+        final long mantissa = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Retrieves the sum of the recorded values.
+     * @return sum of the values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMean() {
+        final long values = count.sum();
+        if (values == 0) {
+            return 0;
+        }
+        return (double) sum.sum() / values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Retrieves the value below or at which the given percentage of the
+     * recorded values lie.
+     * @param percentile the percentage between <code>0</code> and
+     *          <code>100</code>
+     * @return the percentile, <code>0</code> if no values were recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += buckets.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long target = Math.max(1,
+                (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(getUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long get50thPercentile() {
+        return getValueAtPercentile(50);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long get90thPercentile() {
+        return getValueAtPercentile(90);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long get99thPercentile() {
+        return getValueAtPercentile(99);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeText(final StringBuilder out) {
+        writeText(out, name, 1);
+    }
+
+    /**
+     * Appends the current values as a summary in the Prometheus text
+     * exposition format.
+     * @param out the buffer to write to
+     * @param metricName the name of the summary
+     * @param scale factor to convert the recorded values into the unit of
+     *          the summary
+     */
+    void writeText(final StringBuilder out, final String metricName,
+            final double scale) {
+        out.append("# TYPE ").append(metricName).append(" summary\n");
+        for (double quantile : QUANTILES) {
+            out.append(metricName).append("{quantile=\"").append(quantile)
+                .append("\"} ")
+                .append(getValueAtPercentile(quantile * 100) * scale)
+                .append('\n');
+        }
+        out.append(metricName).append("_sum ").append(getSum() * scale)
+            .append('\n');
+        out.append(metricName).append("_count ").append(getCount())
+            .append('\n');
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+/**
+ * JMX view of a {@link Histogram}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface HistogramMXBean {
+    /**
+     * Retrieves the number of recorded values.
+     * @return number of values
+     */
+    long getCount();
+
+    /**
+     * Retrieves the mean of the recorded values.
+     * @return the mean
+     */
+    double getMean();
+
+    /**
+     * Retrieves the largest recorded value.
+     * @return the largest value
+     */
+    long getMax();
+
+    /**
+     * Retrieves the median of the recorded values.
+     * @return the median
+     */
+    long get50thPercentile();
+
+    /**
+     * Retrieves the 90th percentile of the recorded values.
+     * @return the 90th percentile
+     */
+    long get90thPercentile();
+
+    /**
+     * Retrieves the 99th percentile of the recorded values.
+     * @return the 99th percentile
+     */
+    long get99thPercentile();
+}
@@ -0,0 +1,44 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+/**
+ * A metric that is held by the {@link MetricsRegistry}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface Metric {
+    /**
+     * Retrieves the name of this metric.
+     * @return the name
+     */
+    String getName();
+
+    /**
+     * Appends the current values of this metric in the Prometheus text
+     * exposition format.
+     * @param out the buffer to write to
+     */
+    void writeText(StringBuilder out);
+}
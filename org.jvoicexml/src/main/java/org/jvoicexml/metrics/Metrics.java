@@ -0,0 +1,116 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Access to the metrics of the interpreter.
+ *
+ * <p>
+ * Metrics are disabled by default. They are enabled by
+ * {@link #setEnabled(boolean)} or at startup by setting the system property
+ * {@value #ENABLED_PROPERTY} to <code>true</code>. Enabling the metrics
+ * exports them via the platform MBean server.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class Metrics {
+    /** System property to enable the metrics at startup. */
+    public static final String ENABLED_PROPERTY = "jvoicexml.metrics.enabled";
+
+    /** The registry of all metrics. */
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    /** <code>true</code> if metrics are recorded. */
+    private static volatile boolean enabled;
+
+    static {
+        if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+            setEnabled(true);
+        }
+    }
+
+    /**
+     * Do not create from outside.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * Checks if metrics are recorded.
+     * @return <code>true</code> if metrics are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables recording of metrics.
+     * @param on <code>true</code> to record metrics
+     */
+    public static void setEnabled(final boolean on) {
+        if (on) {
+            REGISTRY.registerMBeans(
+                    ManagementFactory.getPlatformMBeanServer());
+        }
+        enabled = on;
+    }
+
+    /**
+     * Retrieves the registry of all metrics.
+     * @return the registry
+     */
+    public static MetricsRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * Retrieves the counter with the given name.
+     * @param name name of the counter
+     * @return the counter
+     */
+    public static Counter counter(final String name) {
+        return REGISTRY.getCounter(name);
+    }
+
+    /**
+     * Retrieves the timer with the given name.
+     * @param name name of the timer
+     * @return the timer
+     */
+    public static Timer timer(final String name) {
+        return REGISTRY.getTimer(name);
+    }
+
+    /**
+     * Retrieves the histogram with the given name.
+     * @param name name of the histogram
+     * @return the histogram
+     */
+    public static Histogram histogram(final String name) {
+        return REGISTRY.getHistogram(name);
+    }
+}
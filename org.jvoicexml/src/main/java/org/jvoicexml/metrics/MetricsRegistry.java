@@ -0,0 +1,236 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Registry of all known metrics.
+ *
+ * <p>
+ * Metrics are created on their first lookup and live as long as the
+ * registry. Lookups are meant to happen once, e.g. in a static
+ * initializer of the instrumented class, and not on the hot path.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class MetricsRegistry {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(MetricsRegistry.class);
+
+    /** The JMX domain of all metrics. */
+    public static final String JMX_DOMAIN = "org.jvoicexml";
+
+    /** Known metrics by their name. */
+    private final ConcurrentMap<String, Metric> metrics;
+
+    /** The MBean server to register all metrics, maybe <code>null</code>. */
+    private MBeanServer server;
+
+    /**
+     * Constructs a new object.
+     */
+    public MetricsRegistry() {
+        metrics = new java.util.concurrent.ConcurrentHashMap<String,
+                Metric>();
+    }
+
+    /**
+     * Retrieves the counter with the given name.
+     * @param name name of the counter
+     * @return the counter
+     */
+    public Counter getCounter(final String name) {
+        final Metric metric = metrics.get(name);
+        if (metric == null) {
+            return add(new Counter(name), Counter.class);
+        }
+        return cast(metric, Counter.class);
+    }
+
+    /**
+     * Retrieves the timer with the given name.
+     * @param name name of the timer
+     * @return the timer
+     */
+    public Timer getTimer(final String name) {
+        final Metric metric = metrics.get(name);
+        if (metric == null) {
+            return add(new Timer(name), Timer.class);
+        }
+        return cast(metric, Timer.class);
+    }
+
+    /**
+     * Retrieves the histogram with the given name.
+     * @param name name of the histogram
+     * @return the histogram
+     */
+    public Histogram getHistogram(final String name) {
+        final Metric metric = metrics.get(name);
+        if (metric == null) {
+            return add(new Histogram(name), Histogram.class);
+        }
+        return cast(metric, Histogram.class);
+    }
+
+    /**
+     * Adds the given metric unless there is already a metric with the same
+     * name.
+     * @param <T> type of the metric
+     * @param metric the new metric
+     * @param type type of the metric
+     * @return the known metric with this name
+     */
+    private synchronized <T extends Metric> T add(final T metric,
+            final Class<T> type) {
+        final Metric known = metrics.putIfAbsent(metric.getName(), metric);
+        if (known != null) {
+            return cast(known, type);
+        }
+        if (server != null) {
+            register(server, metric);
+        }
+        return metric;
+    }
+
+    /**
+     * Casts the given metric to the requested type.
+     * @param <T> type of the metric
+     * @param metric the metric
+     * @param type the requested type
+     * @return the metric
+     */
+    private static <T extends Metric> T cast(final Metric metric,
+            final Class<T> type) {
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("metric '" + metric.getName()
+                    + "' is a " + metric.getClass().getSimpleName()
+                    + " and no " + type.getSimpleName());
+        }
+        return type.cast(metric);
+    }
+
+    /**
+     * Retrieves all known metrics.
+     * @return metrics sorted by their name
+     */
+    public Collection<Metric> getMetrics() {
+        final Map<String, Metric> sorted =
+                new java.util.TreeMap<String, Metric>(metrics);
+        return sorted.values();
+    }
+
+    /**
+     * Retrieves the current values of all metrics in the Prometheus text
+     * exposition format.
+     * @return current values
+     */
+    public String toText() {
+        final StringBuilder out = new StringBuilder();
+        for (Metric metric : getMetrics()) {
+            metric.writeText(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Registers all current and future metrics at the given MBean server.
+     * Calling this method more than once has no effect.
+     * @param mbeanServer the MBean server
+     */
+    public synchronized void registerMBeans(final MBeanServer mbeanServer) {
+        if (server != null) {
+            return;
+        }
+        server = mbeanServer;
+        for (Metric metric : metrics.values()) {
+            register(server, metric);
+        }
+    }
+
+    /**
+     * Unregisters all metrics from the MBean server.
+     */
+    public synchronized void unregisterMBeans() {
+        if (server == null) {
+            return;
+        }
+        for (Metric metric : metrics.values()) {
+            try {
+                final ObjectName name = getObjectName(metric);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                LOGGER.warn("unable to unregister metric '"
+                        + metric.getName() + "'", e);
+            }
+        }
+        server = null;
+    }
+
+    /**
+     * Registers the given metric.
+     * @param mbeanServer the MBean server
+     * @param metric the metric
+     */
+    private static void register(final MBeanServer mbeanServer,
+            final Metric metric) {
+        try {
+            final ObjectName name = getObjectName(metric);
+            if (!mbeanServer.isRegistered(name)) {
+                mbeanServer.registerMBean(metric, name);
+            }
+        } catch (JMException e) {
+            LOGGER.warn("unable to register metric '" + metric.getName()
+                    + "'", e);
+        }
+    }
+
+    /**
+     * Determines the JMX object name of the given metric.
+     * @param metric the metric
+     * @return object name of the metric
+     * @exception JMException
+     *          the name of the metric is not a valid object name
+     */
+    private static ObjectName getObjectName(final Metric metric)
+            throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=Metrics,kind="
+                + metric.getClass().getSimpleName() + ",name="
+                + ObjectName.quote(metric.getName()));
+    }
+}
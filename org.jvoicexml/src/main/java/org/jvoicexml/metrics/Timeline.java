@@ -0,0 +1,294 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Events of a single session in a ring buffer.
+ *
+ * <p>
+ * Events are recorded with their kind, a nano second time stamp, the
+ * recording thread and an optional label. Labels are kept as references
+ * and only converted into strings when the timeline is exported, so that
+ * recording does not allocate. If the buffer is full, the oldest events are
+ * overwritten.
+ * </p>
+ *
+ * <p>
+ * Spans are recorded by a pair of {@link #begin(TimelineEvent, Object)} and
+ * {@link #end(TimelineEvent, Object, long)} in the same thread. The longest
+ * span that counts for the latency budget is remembered.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ * @see Timelines
+ */
+public final class Timeline {
+    /** A timeline that does not record anything. */
+    public static final Timeline DISABLED = new Timeline(null, 0);
+
+    /** Phase of the beginning of a span. */
+    private static final byte BEGIN = 'B';
+
+    /** Phase of the end of a span. */
+    private static final byte END = 'E';
+
+    /** Phase of a single event. */
+    private static final byte INSTANT = 'i';
+
+    /** Number of nano seconds per micro second. */
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    /** The id of the session. */
+    private final String sessionId;
+
+    /** Maximal number of events. */
+    private final int capacity;
+
+    /** Time stamp of the creation of this timeline. */
+    private final long created;
+
+    /** Kinds of the events. */
+    private final TimelineEvent[] kinds;
+
+    /** Phases of the events. */
+    private final byte[] phases;
+
+    /** Time stamps of the events in nano seconds. */
+    private final long[] timestamps;
+
+    /** Ids of the recording threads. */
+    private final long[] threads;
+
+    /** Labels of the events. */
+    private final Object[] labels;
+
+    /** Number of recorded events. */
+    private long recorded;
+
+    /** Duration of the longest budgeted span in nano seconds. */
+    private long slowest;
+
+    /** Kind of the longest budgeted span. */
+    private TimelineEvent slowestKind;
+
+    /**
+     * Constructs a new object.
+     * @param id the id of the session
+     * @param size maximal number of events, <code>0</code> to not record
+     *          anything
+     */
+    public Timeline(final String id, final int size) {
+        sessionId = id;
+        capacity = size;
+        created = System.nanoTime();
+        kinds = new TimelineEvent[size];
+        phases = new byte[size];
+        timestamps = new long[size];
+        threads = new long[size];
+        labels = new Object[size];
+    }
+
+    /**
+     * Retrieves the id of the session.
+     * @return the id of the session
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Checks if this timeline records events.
+     * @return <code>true</code> if events are recorded
+     */
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * Records the beginning of a span.
+     * @param kind the kind of the span
+     * @param label a label, maybe <code>null</code>
+     * @return time stamp to pass to {@link #end(TimelineEvent, Object, long)},
+     *          <code>0</code> if this timeline is disabled
+     */
+    public long begin(final TimelineEvent kind, final Object label) {
+        if (capacity == 0) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        record(BEGIN, kind, label, now);
+        return now;
+    }
+
+    /**
+     * Records the end of a span.
+     * @param kind the kind of the span
+     * @param label a label, maybe <code>null</code>
+     * @param begin the value of the corresponding call to
+     *          {@link #begin(TimelineEvent, Object)}
+     */
+    public void end(final TimelineEvent kind, final Object label,
+            final long begin) {
+        if (begin == 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        synchronized (this) {
+            record(END, kind, label, now);
+            final long duration = now - begin;
+            if (kind.isBudgeted() && duration > slowest) {
+                slowest = duration;
+                slowestKind = kind;
+            }
+        }
+    }
+
+    /**
+     * Records a single event.
+     * @param kind the kind of the event
+     * @param label a label, maybe <code>null</code>
+     */
+    public void instant(final TimelineEvent kind, final Object label) {
+        if (capacity == 0) {
+            return;
+        }
+        record(INSTANT, kind, label, System.nanoTime());
+    }
+
+    /**
+     * Stores the given event.
+     * @param phase the phase of the event
+     * @param kind the kind of the event
+     * @param label a label, maybe <code>null</code>
+     * @param timestamp the time stamp in nano seconds
+     */
+    private synchronized void record(final byte phase,
+            final TimelineEvent kind, final Object label,
+            final long timestamp) {
+        final int index = (int) (recorded % capacity);
+        kinds[index] = kind;
+        phases[index] = phase;
+        timestamps[index] = timestamp;
+        threads[index] = Thread.currentThread().getId();
+        labels[index] = label;
+        ++recorded;
+    }
+
+    /**
+     * Retrieves the number of events that are currently stored.
+     * @return number of events
+     */
+    public synchronized int size() {
+        return (int) Math.min(recorded, capacity);
+    }
+
+    /**
+     * Retrieves the duration of the longest span that counts for the
+     * latency budget.
+     * @return duration in nano seconds
+     */
+    public synchronized long getSlowest() {
+        return slowest;
+    }
+
+    /**
+     * Retrieves the kind of the longest span that counts for the latency
+     * budget.
+     * @return kind of the span, <code>null</code> if there was none
+     */
+    public synchronized TimelineEvent getSlowestKind() {
+        return slowestKind;
+    }
+
+    /**
+     * Writes the stored events in the Trace Event Format that can be viewed
+     * e.g. in <code>chrome://tracing</code> or Perfetto.
+     * @param out the writer to write to
+     * @exception IOException
+     *          error writing
+     */
+    public synchronized void writeTrace(final Writer out)
+            throws IOException {
+        out.write("{\"traceEvents\":[");
+        final long first = Math.max(0, recorded - capacity);
+        for (long i = first; i < recorded; i++) {
+            final int index = (int) (i % capacity);
+            if (i > first) {
+                out.write(',');
+            }
+            final TimelineEvent kind = kinds[index];
+            out.write("\n{\"name\":\"");
+            out.write(kind.getTraceName());
+            out.write("\",\"cat\":\"");
+            out.write(kind.getCategory());
+            out.write("\",\"ph\":\"");
+            out.write((char) phases[index]);
+            out.write("\",\"ts\":");
+            out.write(Double.toString(
+                    (timestamps[index] - created) / NANOS_PER_MICRO));
+            out.write(",\"pid\":1,\"tid\":");
+            out.write(Long.toString(threads[index]));
+            if (phases[index] == INSTANT) {
+                out.write(",\"s\":\"t\"");
+            }
+            final Object label = labels[index];
+            if (label != null) {
+                out.write(",\"args\":{\"label\":");
+                writeString(out, label.toString());
+                out.write('}');
+            }
+            out.write('}');
+        }
+        out.write("\n],\"displayTimeUnit\":\"ms\",\"otherData\":{\"session\":");
+        writeString(out, String.valueOf(sessionId));
+        out.write("}}\n");
+    }
+
+    /**
+     * Writes the given string as a JSON string.
+     * @param out the writer to write to
+     * @param str the string to write
+     * @exception IOException
+     *          error writing
+     */
+    private static void writeString(final Writer out, final String str)
+            throws IOException {
+        out.write('"');
+        for (int i = 0; i < str.length(); i++) {
+            final char ch = str.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                out.write('\\');
+                out.write(ch);
+            } else if (ch < ' ') {
+                out.write(String.format("\\u%04x", (int) ch));
+            } else {
+                out.write(ch);
+            }
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.util.Locale;
+
+/**
+ * Kinds of events that are recorded in a {@link Timeline}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public enum TimelineEvent {
+    /** The session started processing. */
+    SESSION_STARTED("session", false),
+    /** The session ended. */
+    SESSION_ENDED("session", false),
+    /** The select phase of the FIA. */
+    FIA_SELECT("fia", true),
+    /** The collect phase of the FIA, including waiting for the user. */
+    FIA_COLLECT("fia", false),
+    /** The process phase of the FIA. */
+    FIA_PROCESS("fia", true),
+    /** Execution of a tag strategy. */
+    TAG("tag", true),
+    /** Fetch and parse of a VoiceXML document. */
+    DOCUMENT_FETCH("document", true),
+    /** Fetch of another object, e.g. a grammar or a script. */
+    OBJECT_FETCH("document", true),
+    /** Queueing a prompt. */
+    PROMPT_QUEUE("output", true),
+    /** Playing the queued prompts. */
+    PROMPT_PLAY("output", false),
+    /** The recognizer started. */
+    RECOGNITION_STARTED("input", false),
+    /** The user started to speak or to enter DTMF. */
+    INPUT_STARTED("input", false),
+    /** An utterance matched an active grammar. */
+    RECOGNITION_ACCEPTED("input", false),
+    /** An utterance did not match an active grammar. */
+    RECOGNITION_REJECTED("input", false),
+    /** The recognizer stopped. */
+    RECOGNITION_STOPPED("input", false),
+    /** The user did not provide any input. */
+    NOINPUT("input", false);
+
+    /** The category in exported traces. */
+    private final String category;
+
+    /** The name in exported traces. */
+    private final String traceName;
+
+    /** <code>true</code> if spans of this kind count for the budget. */
+    private final boolean budgeted;
+
+    /**
+     * Constructs a new object.
+     * @param cat the category in exported traces
+     * @param checkBudget <code>true</code> if spans of this kind count for
+     *          the latency budget
+     */
+    TimelineEvent(final String cat, final boolean checkBudget) {
+        category = cat;
+        traceName = name().toLowerCase(Locale.ENGLISH);
+        budgeted = checkBudget;
+    }
+
+    /**
+     * Retrieves the category in exported traces.
+     * @return the category
+     */
+    public String getCategory() {
+        return category;
+    }
+
+    /**
+     * Retrieves the name in exported traces.
+     * @return the name
+     */
+    public String getTraceName() {
+        return traceName;
+    }
+
+    /**
+     * Checks if spans of this kind count for the latency budget. Spans that
+     * include waiting for the user do not.
+     * @return <code>true</code> if spans of this kind count for the budget
+     */
+    public boolean isBudgeted() {
+        return budgeted;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jvoicexml.Session;
+import org.jvoicexml.SessionIdentifier;
+
+/**
+ * Access to the {@link Timeline}s of all running sessions.
+ *
+ * <p>
+ * Timelines are disabled by default. They are enabled by
+ * {@link #setEnabled(boolean)} or at startup by setting the system property
+ * {@value #ENABLED_PROPERTY} to <code>true</code>. The timelines of the
+ * last finished sessions are kept to be dumped on demand. If a latency
+ * budget is set, e.g. by the system property {@value #BUDGET_PROPERTY} in
+ * msec, the timeline of each session with a span that exceeds this budget
+ * is written to the directory {@value #DIRECTORY_PROPERTY} when the session
+ * ends.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class Timelines {
+    /** Logger for this class. */
+    private static final Logger LOGGER =
+            LogManager.getLogger(Timelines.class);
+
+    /** System property to enable the timelines at startup. */
+    public static final String ENABLED_PROPERTY =
+            "jvoicexml.timeline.enabled";
+
+    /** System property with the latency budget in msec. */
+    public static final String BUDGET_PROPERTY = "jvoicexml.timeline.budget";
+
+    /** System property with the directory for slow calls. */
+    public static final String DIRECTORY_PROPERTY =
+            "jvoicexml.timeline.directory";
+
+    /** Default maximal number of events per session. */
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    /** Number of timelines of finished sessions that are kept. */
+    private static final int MAX_FINISHED = 32;
+
+    /** Timelines of the running sessions. */
+    private static final ConcurrentMap<SessionIdentifier, Timeline> RUNNING =
+            new java.util.concurrent.ConcurrentHashMap<SessionIdentifier,
+                Timeline>();
+
+    /** Timelines of the last finished sessions by their id. */
+    private static final Map<String, Timeline> FINISHED =
+            new java.util.LinkedHashMap<String, Timeline>() {
+                /** The serial version UID. */
+                private static final long serialVersionUID =
+                        -6123987384409227365L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        final Map.Entry<String, Timeline> eldest) {
+                    return size() > MAX_FINISHED;
+                }
+            };
+
+    /** <code>true</code> if timelines are recorded. */
+    private static volatile boolean enabled =
+            Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /** Maximal number of events per session. */
+    private static volatile int capacity = DEFAULT_CAPACITY;
+
+    /** Latency budget in nano seconds, <code>0</code> if there is none. */
+    private static volatile long budget = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong(BUDGET_PROPERTY, 0));
+
+    /** Directory to write the timelines of slow sessions. */
+    private static volatile File directory = new File(System.getProperty(
+            DIRECTORY_PROPERTY, System.getProperty("java.io.tmpdir")));
+
+    /**
+     * Do not create from outside.
+     */
+    private Timelines() {
+    }
+
+    /**
+     * Checks if timelines are recorded.
+     * @return <code>true</code> if timelines are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables recording of timelines for new sessions.
+     * @param on <code>true</code> to record timelines
+     */
+    public static void setEnabled(final boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Sets the maximal number of events per session.
+     * @param size maximal number of events
+     */
+    public static void setCapacity(final int size) {
+        capacity = size;
+    }
+
+    /**
+     * Sets the latency budget.
+     * @param msec the budget in msec, <code>0</code> to not write timelines
+     *          of slow sessions
+     */
+    public static void setBudget(final long msec) {
+        budget = TimeUnit.MILLISECONDS.toNanos(msec);
+    }
+
+    /**
+     * Sets the directory to write the timelines of slow sessions.
+     * @param dir the directory
+     */
+    public static void setDirectory(final File dir) {
+        directory = dir;
+    }
+
+    /**
+     * Starts recording the timeline of the given session.
+     * @param id the id of the session
+     * @return the timeline of the session
+     */
+    public static Timeline start(final SessionIdentifier id) {
+        if (!enabled) {
+            return Timeline.DISABLED;
+        }
+        final Timeline timeline = new Timeline(id.getId(), capacity);
+        RUNNING.put(id, timeline);
+        timeline.instant(TimelineEvent.SESSION_STARTED, null);
+        return timeline;
+    }
+
+    /**
+     * Retrieves the timeline of the given session.
+     * @param id the id of the session, maybe <code>null</code>
+     * @return the timeline, {@link Timeline#DISABLED} if the timeline of
+     *          this session is not recorded
+     */
+    public static Timeline get(final SessionIdentifier id) {
+        if (!enabled || id == null) {
+            return Timeline.DISABLED;
+        }
+        final Timeline timeline = RUNNING.get(id);
+        if (timeline == null) {
+            return Timeline.DISABLED;
+        }
+        return timeline;
+    }
+
+    /**
+     * Retrieves the timeline of the given session.
+     * @param session the session, maybe <code>null</code>
+     * @return the timeline, {@link Timeline#DISABLED} if the timeline of
+     *          this session is not recorded
+     */
+    public static Timeline get(final Session session) {
+        if (!enabled || session == null) {
+            return Timeline.DISABLED;
+        }
+        return get(session.getSessionId());
+    }
+
+    /**
+     * Stops recording the timeline of the given session. If the session
+     * exceeded the latency budget, its timeline is written to a file.
+     * @param id the id of the session
+     */
+    public static void finish(final SessionIdentifier id) {
+        final Timeline timeline = RUNNING.remove(id);
+        if (timeline == null) {
+            return;
+        }
+        timeline.instant(TimelineEvent.SESSION_ENDED, null);
+        synchronized (FINISHED) {
+            FINISHED.put(timeline.getSessionId(), timeline);
+        }
+        final long slowest = timeline.getSlowest();
+        if (budget <= 0 || slowest <= budget) {
+            return;
+        }
+        final File file = new File(directory,
+                "timeline-" + timeline.getSessionId() + ".json");
+        try {
+            write(timeline, file);
+            LOGGER.warn("session '" + timeline.getSessionId()
+                    + "' exceeded the latency budget with "
+                    + TimeUnit.NANOSECONDS.toMillis(slowest) + " msec in "
+                    + timeline.getSlowestKind().getTraceName()
+                    + ", timeline written to '" + file + "'");
+        } catch (IOException e) {
+            LOGGER.warn("unable to write timeline to '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Writes the given timeline to the given file.
+     * @param timeline the timeline
+     * @param file the file
+     * @exception IOException
+     *          error writing
+     */
+    private static void write(final Timeline timeline, final File file)
+            throws IOException {
+        final Writer out = new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8);
+        try {
+            timeline.writeTrace(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Retrieves the timeline of a running or a recently finished session.
+     * @param sessionId the id of the session
+     * @return the timeline, <code>null</code> if there is none
+     */
+    public static Timeline getTimeline(final String sessionId) {
+        for (Timeline timeline : RUNNING.values()) {
+            if (timeline.getSessionId().equals(sessionId)) {
+                return timeline;
+            }
+        }
+        synchronized (FINISHED) {
+            return FINISHED.get(sessionId);
+        }
+    }
+
+    /**
+     * Retrieves the ids of all sessions with a timeline.
+     * @return ids of running and recently finished sessions
+     */
+    public static Collection<String> getSessionIds() {
+        final Collection<String> ids = new java.util.ArrayList<String>();
+        for (Timeline timeline : RUNNING.values()) {
+            ids.add(timeline.getSessionId());
+        }
+        synchronized (FINISHED) {
+            ids.addAll(FINISHED.keySet());
+        }
+        return ids;
+    }
+}
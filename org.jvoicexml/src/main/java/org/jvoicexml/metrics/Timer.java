@@ -0,0 +1,173 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+/**
+ * Measures durations of an operation.
+ *
+ * <p>
+ * Typical usage is
+ * </p>
+ * <pre>
+ * final long start = TIMER.start();
+ * try {
+ *     ...
+ * } finally {
+ *     TIMER.stop(start);
+ * }
+ * </pre>
+ * <p>
+ * If metrics are disabled, {@link #start()} does not read the clock and
+ * {@link #stop(long)} does nothing.
+ * </p>
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class Timer implements Metric, TimerMXBean {
+    /** Number of nano seconds per milli second. */
+    private static final double NANOS_PER_MILLI = 1000000.0;
+
+    /** Number of seconds per nano second. */
+    private static final double SECONDS_PER_NANO = 1.0 / 1000000000.0;
+
+    /** The name of this metric. */
+    private final String name;
+
+    /** Recorded durations in nano seconds. */
+    private final Histogram histogram;
+
+    /**
+     * Constructs a new object.
+     * @param metricName the name of this metric
+     */
+    Timer(final String metricName) {
+        name = metricName;
+        histogram = new Histogram(metricName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Starts measuring a duration.
+     * @return start time to pass to {@link #stop(long)}, <code>0</code> if
+     *          metrics are disabled
+     */
+    public long start() {
+        if (Metrics.isEnabled()) {
+            return System.nanoTime();
+        }
+        return 0;
+    }
+
+    /**
+     * Stops measuring a duration.
+     * @param start the value of the corresponding call to {@link #start()}
+     */
+    public void stop(final long start) {
+        if (start != 0) {
+            histogram.recordValue(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the given duration if metrics are enabled.
+     * @param nanos duration in nano seconds
+     */
+    public void record(final long nanos) {
+        if (Metrics.isEnabled()) {
+            histogram.recordValue(nanos);
+        }
+    }
+
+    /**
+     * Retrieves the recorded durations.
+     * @return durations in nano seconds
+     */
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return histogram.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMeanMillis() {
+        return histogram.getMean() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getMaxMillis() {
+        return histogram.getMax() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double get50thPercentileMillis() {
+        return histogram.get50thPercentile() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double get90thPercentileMillis() {
+        return histogram.get90thPercentile() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double get99thPercentileMillis() {
+        return histogram.get99thPercentile() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Appends the current values as a summary in seconds.
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeText(final StringBuilder out) {
+        histogram.writeText(out, name, SECONDS_PER_NANO);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+/**
+ * JMX view of a {@link Timer}. All durations are in milliseconds.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public interface TimerMXBean {
+    /**
+     * Retrieves the number of recorded durations.
+     * @return number of durations
+     */
+    long getCount();
+
+    /**
+     * Retrieves the mean duration.
+     * @return the mean in msec
+     */
+    double getMeanMillis();
+
+    /**
+     * Retrieves the longest duration.
+     * @return the longest duration in msec
+     */
+    double getMaxMillis();
+
+    /**
+     * Retrieves the median duration.
+     * @return the median in msec
+     */
+    double get50thPercentileMillis();
+
+    /**
+     * Retrieves the 90th percentile of the durations.
+     * @return the 90th percentile in msec
+     */
+    double get90thPercentileMillis();
+
+    /**
+     * Retrieves the 99th percentile of the durations.
+     * @return the 99th percentile in msec
+     */
+    double get99thPercentileMillis();
+}
@@ -0,0 +1,13 @@
+/**
+ * Lightweight metrics of the interpreter hot paths.
+ * <p>
+ * Instrumented classes obtain their {@link org.jvoicexml.metrics.Counter}s
+ * and {@link org.jvoicexml.metrics.Timer}s once from
+ * {@link org.jvoicexml.metrics.Metrics}. Recording is skipped unless
+ * metrics are enabled and does not allocate if they are. All metrics are
+ * exported via JMX and in a text format that can be scraped by monitoring
+ * tools.
+ * </p>
+ */
+
+package org.jvoicexml.metrics;
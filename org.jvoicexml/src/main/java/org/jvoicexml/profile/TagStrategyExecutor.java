@@ -33,6 +33,9 @@ import org.jvoicexml.interpreter.FormItemLocalExecutableTagContainer;
 import org.jvoicexml.interpreter.VoiceXmlInterpreter;
 import org.jvoicexml.interpreter.VoiceXmlInterpreterContext;
 import org.jvoicexml.interpreter.datamodel.DataModel;
+import org.jvoicexml.metrics.Timeline;
+import org.jvoicexml.metrics.TimelineEvent;
+import org.jvoicexml.metrics.Timelines;
 import org.jvoicexml.xml.VoiceXmlNode;
 import org.w3c.dom.NodeList;
 
@@ -166,10 +169,18 @@ public final class TagStrategyExecutor {
             final VoiceXmlInterpreter interpreter,
             final FormInterpretationAlgorithm fia, final FormItem formItem,
             final VoiceXmlNode node) throws JVoiceXMLEvent {
-        final TagStrategy strategy = prepareTagStrategyExecution(context, fia,
-                node);
-        if (strategy != null) {
-            strategy.executeLocal(context, interpreter, fia, formItem, node);
+        final Timeline timeline = getTimeline(context);
+        final String tag = node.getTagName();
+        final long begin = timeline.begin(TimelineEvent.TAG, tag);
+        try {
+            final TagStrategy strategy = prepareTagStrategyExecution(context,
+                    fia, node);
+            if (strategy != null) {
+                strategy.executeLocal(context, interpreter, fia, formItem,
+                        node);
+            }
+        } finally {
+            timeline.end(TimelineEvent.TAG, tag, begin);
         }
     }
 
@@ -228,13 +239,35 @@ public final class TagStrategyExecutor {
             final VoiceXmlInterpreter interpreter,
             final FormInterpretationAlgorithm fia, final FormItem formItem,
             final VoiceXmlNode node) throws JVoiceXMLEvent {
-        final TagStrategy strategy = prepareTagStrategyExecution(context, fia,
-                node);
-        if (strategy != null) {
-            strategy.execute(context, interpreter, fia, formItem, node);
+        final Timeline timeline = getTimeline(context);
+        final String tag = node.getTagName();
+        final long begin = timeline.begin(TimelineEvent.TAG, tag);
+        try {
+            final TagStrategy strategy = prepareTagStrategyExecution(context,
+                    fia, node);
+            if (strategy != null) {
+                strategy.execute(context, interpreter, fia, formItem, node);
+            }
+        } finally {
+            timeline.end(TimelineEvent.TAG, tag, begin);
         }
     }
 
+    /**
+     * Retrieves the timeline of the session of the given context.
+     * @param context
+     *            the current VoiceXML interpreter context
+     * @return the timeline
+     * @since 0.7.9
+     */
+    private static Timeline getTimeline(
+            final VoiceXmlInterpreterContext context) {
+        if (!Timelines.isEnabled() || context == null) {
+            return Timeline.DISABLED;
+        }
+        return Timelines.get(context.getSession());
+    }
+
     
     /**
      * Prepares the execution of the {@link TagStrategy}.
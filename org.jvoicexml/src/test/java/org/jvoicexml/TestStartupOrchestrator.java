@@ -0,0 +1,138 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.event.JVoiceXMLEvent;
+import org.jvoicexml.event.error.NoresourceError;
+
+/**
+ * Test cases for {@link StartupOrchestrator}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestStartupOrchestrator {
+    /**
+     * Creates a phase that records its name.
+     * @param name name of the phase
+     * @param executed list of executed phases
+     * @return created phase
+     */
+    private StartupOrchestrator.Phase createPhase(final String name,
+            final List<String> executed) {
+        return new StartupOrchestrator.Phase() {
+            @Override
+            public void execute() {
+                synchronized (executed) {
+                    executed.add(name);
+                }
+            }
+        };
+    }
+
+    /**
+     * Test method for {@link StartupOrchestrator#run()}.
+     * @throws Exception test failed
+     * @throws JVoiceXMLEvent test failed
+     */
+    @Test
+    public void testRunDependencies() throws Exception, JVoiceXMLEvent {
+        final List<String> executed = new java.util.ArrayList<String>();
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(4);
+        orchestrator.addPhase("a", createPhase("a", executed));
+        orchestrator.addPhase("b", createPhase("b", executed));
+        orchestrator.addPhase("c", createPhase("c", executed), "a", "b");
+        orchestrator.addPhase("d", createPhase("d", executed), "c");
+        orchestrator.run();
+        Assert.assertEquals(4, executed.size());
+        Assert.assertEquals("c", executed.get(2));
+        Assert.assertEquals("d", executed.get(3));
+        Assert.assertTrue(orchestrator.getDuration("d") >= 0);
+        Assert.assertEquals(-1, orchestrator.getDuration("e"));
+    }
+
+    /**
+     * Test method for {@link StartupOrchestrator#run()}.
+     * @throws Exception test failed
+     * @throws JVoiceXMLEvent test failed
+     */
+    @Test(timeout = 5000)
+    public void testRunParallel() throws Exception, JVoiceXMLEvent {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final StartupOrchestrator.Phase phase =
+                new StartupOrchestrator.Phase() {
+            @Override
+            public void execute() throws Exception {
+                latch.countDown();
+                // Only completes if the other phase runs at the same time
+                Assert.assertTrue(latch.await(2, TimeUnit.SECONDS));
+            }
+        };
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(2);
+        orchestrator.addPhase("a", phase);
+        orchestrator.addPhase("b", phase);
+        orchestrator.run();
+        Assert.assertEquals(0, latch.getCount());
+    }
+
+    /**
+     * Test method for {@link StartupOrchestrator#run()}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testRunError() throws Exception {
+        final List<String> executed = new java.util.ArrayList<String>();
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(2);
+        orchestrator.addPhase("a", new StartupOrchestrator.Phase() {
+            @Override
+            public void execute() throws NoresourceError {
+                throw new NoresourceError("test");
+            }
+        });
+        orchestrator.addPhase("b", createPhase("b", executed), "a");
+        JVoiceXMLEvent error = null;
+        try {
+            orchestrator.run();
+        } catch (JVoiceXMLEvent e) {
+            error = e;
+        }
+        Assert.assertTrue(error instanceof NoresourceError);
+        Assert.assertTrue(executed.isEmpty());
+    }
+
+    /**
+     * Test method for
+     * {@link StartupOrchestrator#addPhase(String, StartupOrchestrator.Phase, String...)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddPhaseUnknownDependency() {
+        final StartupOrchestrator orchestrator = new StartupOrchestrator(1);
+        orchestrator.addPhase("a", createPhase("a", null), "b");
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link AudioCache}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestAudioCache {
+    /** Number of frames of the test audio. */
+    private static final int FRAMES = 8000;
+
+    /** Temporary folder for the test audio. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Creates WAV audio with a ramp as contents.
+     * @param format format of the audio
+     * @return audio as a WAV file
+     * @throws IOException
+     *          error creating the audio
+     */
+    private byte[] createWav(final AudioFormat format) throws IOException {
+        final byte[] data = new byte[FRAMES * format.getFrameSize()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        final AudioInputStream in = new AudioInputStream(
+                new ByteArrayInputStream(data), format, FRAMES);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AudioSystem.write(in, AudioFileFormat.Type.WAVE, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the contents of the given stream.
+     * @param in the stream to read
+     * @return read bytes
+     * @throws IOException
+     *          error reading
+     */
+    private byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int num = in.read(buffer);
+        while (num >= 0) {
+            out.write(buffer, 0, num);
+            num = in.read(buffer);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+
+    /**
+     * Checks that the given stream delivers the same audio as the
+     * {@link AudioSystem}.
+     * @param wav the WAV file
+     * @param actual the stream to check
+     * @throws Exception
+     *          test failed
+     */
+    private void assertSameAudio(final byte[] wav,
+            final AudioInputStream actual) throws Exception {
+        final AudioInputStream expected = AudioSystem.getAudioInputStream(
+                new ByteArrayInputStream(wav));
+        Assert.assertTrue(expected.getFormat().matches(actual.getFormat()));
+        Assert.assertEquals(expected.getFrameLength(),
+                actual.getFrameLength());
+        Assert.assertArrayEquals(readAll(expected), readAll(actual));
+    }
+
+    /**
+     * Test method for
+     * {@link AudioCache#getAudioInputStream(java.net.URI, FileInputStream)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testMappedFile() throws Exception {
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        final byte[] wav = createWav(format);
+        final File file = folder.newFile("test.wav");
+        final java.io.FileOutputStream out =
+                new java.io.FileOutputStream(file);
+        out.write(wav);
+        out.close();
+        final AudioCache cache = new AudioCache();
+        assertSameAudio(wav, cache.getAudioInputStream(file.toURI(),
+                new FileInputStream(file)));
+        // Second fetch uses the same mapping
+        assertSameAudio(wav, cache.getAudioInputStream(file.toURI(),
+                new FileInputStream(file)));
+    }
+
+    /**
+     * Test method for
+     * {@link AudioCache#getAudioInputStream(java.net.URI, InputStream)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testStream() throws Exception {
+        final AudioFormat format = new AudioFormat(
+                AudioFormat.Encoding.ULAW, 8000, 8, 1, 1, 8000, false);
+        final byte[] wav = createWav(format);
+        final java.net.URI uri = new java.net.URI("http://localhost/a.wav");
+        final AudioCache cache = new AudioCache();
+        assertSameAudio(wav, cache.getAudioInputStream(uri,
+                new ByteArrayInputStream(wav)));
+        // Cached header
+        assertSameAudio(wav, cache.getAudioInputStream(uri,
+                new ByteArrayInputStream(wav)));
+        // Changed contents for the same URI
+        final AudioFormat other = new AudioFormat(16000, 16, 2, true, false);
+        final byte[] changed = createWav(other);
+        assertSameAudio(changed, cache.getAudioInputStream(uri,
+                new ByteArrayInputStream(changed)));
+    }
+
+    /**
+     * Test method for
+     * {@link AudioCache#getAudioInputStream(java.net.URI, InputStream)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testOtherFormat() throws Exception {
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, true);
+        final byte[] data = new byte[FRAMES * 2];
+        final AudioInputStream in = new AudioInputStream(
+                new ByteArrayInputStream(data), format, FRAMES);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AudioSystem.write(in, AudioFileFormat.Type.AU, out);
+        final byte[] au = out.toByteArray();
+        final java.net.URI uri = new java.net.URI("http://localhost/a.au");
+        final AudioCache cache = new AudioCache();
+        assertSameAudio(au, cache.getAudioInputStream(uri,
+                new ByteArrayInputStream(au)));
+    }
+}
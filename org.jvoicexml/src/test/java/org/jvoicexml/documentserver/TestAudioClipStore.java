@@ -0,0 +1,182 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.AudioClip;
+
+/**
+ * Test cases for {@link AudioClipStore}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestAudioClipStore {
+    /**
+     * Creates audio with the given number of frames.
+     * @param format format of the audio
+     * @param frames number of frames
+     * @return created audio
+     */
+    private AudioInputStream createAudio(final AudioFormat format,
+            final int frames) {
+        final byte[] data = new byte[frames * format.getFrameSize()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        return new AudioInputStream(new ByteArrayInputStream(data), format,
+                frames);
+    }
+
+    /**
+     * Test method for
+     * {@link AudioClipStore#put(URI, String, AudioInputStream)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testPutGet() throws Exception {
+        final AudioClipStore store = new AudioClipStore(1000);
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        final URI uri = new URI("http://localhost/a.wav");
+        Assert.assertNull(store.get(uri, "1"));
+        final AudioClip clip = store.put(uri, "1", createAudio(format, 100));
+        Assert.assertEquals(200, clip.size());
+        Assert.assertEquals(100, clip.getFrameLength());
+        Assert.assertSame(clip, store.get(uri, "1"));
+        Assert.assertEquals(1, store.getHits());
+        Assert.assertEquals(1, store.getMisses());
+        final ByteBuffer first = clip.getBuffer();
+        final ByteBuffer second = clip.getBuffer();
+        Assert.assertTrue(first.isReadOnly());
+        Assert.assertTrue(first.isDirect());
+        first.get();
+        Assert.assertEquals(0, second.position());
+        Assert.assertEquals(1, second.get(1));
+    }
+
+    /**
+     * Test method for {@link AudioClipStore#get(URI, String)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testGetChanged() throws Exception {
+        final AudioClipStore store = new AudioClipStore(1000);
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        final URI uri = new URI("http://localhost/a.wav");
+        store.put(uri, "\"v1\"", createAudio(format, 100));
+        Assert.assertNull(store.get(uri, "\"v2\""));
+        Assert.assertEquals(0, store.getCount());
+        Assert.assertEquals(0, store.getSize());
+        Assert.assertNull(store.get(uri, "\"v1\""));
+        Assert.assertEquals(2, store.getMisses());
+    }
+
+    /**
+     * Test method for {@link AudioClipStore#getFresh(URI)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testGetFresh() throws Exception {
+        final AudioClipStore store = new AudioClipStore(1000);
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        final URI uri = new URI("http://localhost/a.wav");
+        Assert.assertNull(store.getFresh(uri));
+        final AudioClip clip = store.put(uri, "1", createAudio(format, 100));
+        Assert.assertSame(clip, store.getFresh(uri));
+        Assert.assertEquals(1, store.getHits());
+        store.setFreshness(0);
+        Assert.assertNull(store.getFresh(uri));
+        Assert.assertSame(clip, store.get(uri, "1"));
+        Assert.assertEquals(2, store.getHits());
+        Assert.assertEquals(0, store.getMisses());
+    }
+
+    /**
+     * Test method for {@link AudioClipStore#fits(AudioInputStream)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testFits() throws Exception {
+        final AudioClipStore store = new AudioClipStore(200);
+        final AudioFormat pcm = new AudioFormat(8000, 16, 1, true, false);
+        Assert.assertTrue(store.fits(createAudio(pcm, 100)));
+        Assert.assertFalse(store.fits(createAudio(pcm, 101)));
+        final AudioFormat ulaw = new AudioFormat(
+                AudioFormat.Encoding.ULAW, 8000, 8, 1, 1, 8000, false);
+        Assert.assertTrue(store.fits(createAudio(ulaw, 100)));
+        Assert.assertFalse(store.fits(createAudio(ulaw, 150)));
+        final AudioInputStream unknown = new AudioInputStream(
+                new ByteArrayInputStream(new byte[10]), pcm,
+                AudioSystem.NOT_SPECIFIED);
+        Assert.assertFalse(store.fits(unknown));
+    }
+
+    /**
+     * Test method for
+     * {@link AudioClipStore#put(URI, String, AudioInputStream)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testEviction() throws Exception {
+        final AudioClipStore store = new AudioClipStore(500);
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        final URI first = new URI("http://localhost/1.wav");
+        final URI second = new URI("http://localhost/2.wav");
+        final URI third = new URI("http://localhost/3.wav");
+        store.put(first, null, createAudio(format, 100));
+        store.put(second, null, createAudio(format, 100));
+        Assert.assertNotNull(store.get(first, null));
+        store.put(third, null, createAudio(format, 100));
+        Assert.assertNotNull(store.get(first, null));
+        Assert.assertNull(store.get(second, null));
+        Assert.assertNotNull(store.get(third, null));
+        Assert.assertEquals(400, store.getSize());
+        store.put(new URI("http://localhost/large.wav"), null,
+                createAudio(format, 1000));
+        Assert.assertEquals(2, store.getCount());
+    }
+
+    /**
+     * Test method for {@link AudioClipStore#decode(AudioInputStream)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testDecodeUlaw() throws Exception {
+        final AudioFormat format = new AudioFormat(
+                AudioFormat.Encoding.ULAW, 8000, 8, 1, 1, 8000, false);
+        final AudioClip clip = AudioClipStore.decode(createAudio(format, 80));
+        Assert.assertEquals(AudioFormat.Encoding.PCM_SIGNED,
+                clip.getFormat().getEncoding());
+        Assert.assertEquals(16, clip.getFormat().getSampleSizeInBits());
+        Assert.assertEquals(80, clip.getFrameLength());
+    }
+}
@@ -19,9 +19,11 @@
 package org.jvoicexml.documentserver;
 
 import java.io.File;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.net.URI;
 import java.net.URL;
+import java.util.Collection;
 
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
@@ -29,6 +31,7 @@ import javax.sound.sampled.AudioSystem;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.jvoicexml.AudioClip;
 import org.jvoicexml.DocumentDescriptor;
 import org.jvoicexml.Session;
 import org.jvoicexml.SessionIdentifier;
@@ -38,10 +41,14 @@ import org.jvoicexml.documentserver.schemestrategy.MappedDocumentStrategy;
 import org.jvoicexml.documentserver.schemestrategy.ResourceDocumentStrategy;
 import org.jvoicexml.event.JVoiceXMLEvent;
 import org.jvoicexml.event.error.BadFetchError;
+import org.jvoicexml.interpreter.datamodel.KeyValuePair;
 import org.jvoicexml.xml.vxml.Form;
+import org.jvoicexml.xml.vxml.RequestMethod;
 import org.jvoicexml.xml.vxml.VoiceXmlDocument;
 import org.jvoicexml.xml.vxml.Vxml;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.xml.sax.InputSource;
@@ -191,6 +198,112 @@ public final class TestJVoiceXmlDocumentServer {
         Assert.assertNotNull(in);
     }
 
+    /**
+     * Test case for
+     * {@link JVoiceXmlDocumentServer#getAudioClip(SessionIdentifier, URI)}.
+     * 
+     * @throws Exception
+     *             test failed
+     * @throws JVoiceXMLEvent
+     *             test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testGetAudioClip() throws Exception, JVoiceXMLEvent {
+        final URI uri = new URI("res:/test.wav");
+        final SessionIdentifier sessionId = new UuidSessionIdentifier();
+        Assert.assertNull(server.getAudioClip(sessionId, uri));
+        server.setAudioClipStoreSize(10000000);
+        final AudioClip clip = server.getAudioClip(sessionId, uri);
+        Assert.assertNotNull(clip);
+        Assert.assertSame(clip, server.getAudioClip(sessionId, uri));
+        server.setAudioClipStoreSize(10);
+        Assert.assertNull(server.getAudioClip(sessionId, uri));
+    }
+
+    /**
+     * Test case for
+     * {@link JVoiceXmlDocumentServer#getAudioClip(SessionIdentifier, URI)}.
+     * 
+     * @throws Exception
+     *             test failed
+     * @throws JVoiceXMLEvent
+     *             test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testGetAudioClipChanged() throws Exception, JVoiceXMLEvent {
+        final ValidatingSchemeStrategy strategy =
+                Mockito.mock(ValidatingSchemeStrategy.class);
+        Mockito.when(strategy.getScheme()).thenReturn("test");
+        Mockito.when(strategy.getInputStream(Mockito.any(
+                SessionIdentifier.class), Mockito.any(URI.class),
+                Mockito.any(RequestMethod.class), Mockito.anyLong(),
+                Mockito.<Collection<KeyValuePair>>any())).thenAnswer(
+                        new Answer<InputStream>() {
+                    @Override
+                    public InputStream answer(
+                            final InvocationOnMock invocation) {
+                        return TestJVoiceXmlDocumentServer.class
+                                .getResourceAsStream("/test.wav");
+                    }
+                });
+        final URI uri = new URI("test:/test.wav");
+        final SessionIdentifier sessionId = new UuidSessionIdentifier();
+        Mockito.when(strategy.getValidator(Mockito.eq(sessionId),
+                Mockito.eq(uri), Mockito.anyLong()))
+                .thenReturn("1", "1", "2");
+        server.addSchemeStrategy(strategy);
+        server.setAudioClipStoreSize(10000000);
+        server.setAudioClipFreshness(0);
+        final AudioClip clip = server.getAudioClip(sessionId, uri);
+        Assert.assertSame(clip, server.getAudioClip(sessionId, uri));
+        final AudioClip changed = server.getAudioClip(sessionId, uri);
+        Assert.assertNotNull(changed);
+        Assert.assertNotSame(clip, changed);
+    }
+
+    /**
+     * Test case for
+     * {@link JVoiceXmlDocumentServer#getAudioClip(SessionIdentifier, URI)}
+     * within the freshness period.
+     * 
+     * @throws Exception
+     *             test failed
+     * @throws JVoiceXMLEvent
+     *             test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testGetAudioClipFresh() throws Exception, JVoiceXMLEvent {
+        final ValidatingSchemeStrategy strategy =
+                Mockito.mock(ValidatingSchemeStrategy.class);
+        Mockito.when(strategy.getScheme()).thenReturn("test");
+        Mockito.when(strategy.getInputStream(Mockito.any(
+                SessionIdentifier.class), Mockito.any(URI.class),
+                Mockito.any(RequestMethod.class), Mockito.anyLong(),
+                Mockito.<Collection<KeyValuePair>>any())).thenAnswer(
+                        new Answer<InputStream>() {
+                    @Override
+                    public InputStream answer(
+                            final InvocationOnMock invocation) {
+                        return TestJVoiceXmlDocumentServer.class
+                                .getResourceAsStream("/test.wav");
+                    }
+                });
+        final URI uri = new URI("test:/test.wav");
+        final SessionIdentifier sessionId = new UuidSessionIdentifier();
+        Mockito.when(strategy.getValidator(Mockito.eq(sessionId),
+                Mockito.eq(uri), Mockito.anyLong())).thenReturn("1");
+        server.addSchemeStrategy(strategy);
+        server.setAudioClipStoreSize(10000000);
+        final AudioClip clip = server.getAudioClip(sessionId, uri);
+        Assert.assertSame(clip, server.getAudioClip(sessionId, uri));
+        Assert.assertSame(clip, server.getAudioClip(sessionId, uri));
+        Mockito.verify(strategy, Mockito.times(1)).getValidator(
+                Mockito.eq(sessionId), Mockito.eq(uri), Mockito.anyLong());
+    }
+
     /**
      * Test case for
      * {@link JVoiceXmlDocumentServer#getDocument(String, DocumentDescriptor)}.
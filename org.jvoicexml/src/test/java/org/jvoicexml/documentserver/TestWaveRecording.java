@@ -0,0 +1,143 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+
+package org.jvoicexml.documentserver;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link WaveRecording}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestWaveRecording {
+    /**
+     * Reads all bytes from the given stream.
+     * @param in the stream to read
+     * @return read bytes
+     * @throws Exception test failed
+     */
+    private byte[] readAll(final AudioInputStream in) throws Exception {
+        final java.io.ByteArrayOutputStream out =
+                new java.io.ByteArrayOutputStream();
+        final byte[] buffer = new byte[256];
+        int num;
+        while ((num = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, num);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Test method for {@link WaveRecording#complete()}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testComplete() throws Exception {
+        final File file = File.createTempFile("rec-", ".wav");
+        file.deleteOnExit();
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        final WaveRecording recording = new WaveRecording(file, format);
+        final OutputStream out = recording.getOutputStream();
+        final byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        out.write(data, 0, 300);
+        out.write(data, 300, data.length - 300);
+        Assert.assertEquals(data.length, recording.getDataSize());
+        final URI uri = recording.complete();
+        Assert.assertEquals(file.toURI(), uri);
+        out.write(data, 0, 100);
+        Assert.assertEquals(data.length, recording.getDataSize());
+        Assert.assertEquals(44 + data.length, file.length());
+
+        final AudioInputStream in = AudioSystem.getAudioInputStream(file);
+        try {
+            Assert.assertTrue(format.matches(in.getFormat()));
+            Assert.assertEquals(data.length / 2, in.getFrameLength());
+            Assert.assertArrayEquals(data, readAll(in));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Test method for {@link WaveRecording#complete()} with an encoded copy.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testCompleteEncoded() throws Exception {
+        final File file = File.createTempFile("rec-", ".wav");
+        file.deleteOnExit();
+        final AudioFormat format = new AudioFormat(8000, 16, 1, true, false);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final WaveRecording recording = new WaveRecording(file, format,
+                executor, AudioFormat.Encoding.ULAW);
+        final File encoded = recording.getEncodedFile();
+        encoded.deleteOnExit();
+        recording.write(new byte[2000], 0, 2000);
+        recording.complete();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        final AudioInputStream in = AudioSystem.getAudioInputStream(encoded);
+        try {
+            Assert.assertEquals(AudioFormat.Encoding.ULAW,
+                    in.getFormat().getEncoding());
+            Assert.assertEquals(1000, in.getFrameLength());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Test method for {@link WaveRecording#isSupported(AudioFormat)}.
+     */
+    @Test
+    public void testIsSupported() {
+        Assert.assertTrue(WaveRecording.isSupported(
+                new AudioFormat(8000, 16, 1, true, false)));
+        Assert.assertTrue(WaveRecording.isSupported(
+                new AudioFormat(8000, 8, 1, false, false)));
+        Assert.assertTrue(WaveRecording.isSupported(
+                new AudioFormat(AudioFormat.Encoding.ULAW, 8000, 8, 1, 1,
+                        8000, false)));
+        Assert.assertFalse(WaveRecording.isSupported(
+                new AudioFormat(8000, 16, 1, true, true)));
+        Assert.assertFalse(WaveRecording.isSupported(null));
+    }
+}
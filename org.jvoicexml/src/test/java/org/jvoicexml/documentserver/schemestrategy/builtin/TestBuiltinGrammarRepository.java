@@ -0,0 +1,135 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.documentserver.schemestrategy.builtin;
+
+import java.net.URI;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvoicexml.event.JVoiceXMLEvent;
+import org.jvoicexml.event.error.UnsupportedBuiltinError;
+
+/**
+ * Test cases for {@link BuiltinGrammarRepository}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestBuiltinGrammarRepository {
+    /** The test object. */
+    private BuiltinGrammarRepository repository;
+
+    /**
+     * Set up the test environment.
+     */
+    @Before
+    public void setUp() {
+        repository = new BuiltinGrammarRepository();
+        repository.addGrammarCreator(new BooleanGrammarCreator());
+        repository.addGrammarCreator(new DigitsGrammarCreator());
+    }
+
+    /**
+     * Test method for
+     * {@link BuiltinGrammarRepository#getGrammar(URI)}.
+     * @exception Exception
+     *            test failed
+     * @exception JVoiceXMLEvent
+     *            test failed
+     */
+    @Test
+    public void testGetGrammar() throws Exception, JVoiceXMLEvent {
+        final byte[] grammar = repository.getGrammar(
+                new URI("builtin:dtmf/digits?minlength=2;maxlength=4"));
+        Assert.assertSame(grammar, repository.getGrammar(
+                new URI("builtin:DTMF/Digits?maxlength=4;minlength=2")));
+        Assert.assertEquals(1, repository.size());
+        final byte[] other = repository.getGrammar(
+                new URI("builtin:dtmf/digits?minlength=2"));
+        Assert.assertNotSame(grammar, other);
+        Assert.assertEquals(2, repository.size());
+    }
+
+    /**
+     * Test method for
+     * {@link BuiltinGrammarRepository#getGrammar(URI)}.
+     * @exception Exception
+     *            test failed
+     * @exception JVoiceXMLEvent
+     *            test failed
+     */
+    @Test
+    public void testGetGrammarVoice() throws Exception, JVoiceXMLEvent {
+        final byte[] grammar = repository.getGrammar(
+                new URI("builtin:voice/boolean"));
+        Assert.assertSame(grammar,
+                repository.getGrammar(new URI("builtin:grammar/boolean")));
+        Assert.assertNotSame(grammar,
+                repository.getGrammar(new URI("builtin:dtmf/boolean")));
+    }
+
+    /**
+     * Test method for
+     * {@link BuiltinGrammarRepository#getGrammar(URI)}.
+     * @exception Exception
+     *            test failed
+     * @exception JVoiceXMLEvent
+     *            test failed
+     */
+    @Test(expected = UnsupportedBuiltinError.class)
+    public void testGetGrammarUnsupported() throws Exception, JVoiceXMLEvent {
+        repository.getGrammar(new URI("builtin:dtmf/currency"));
+    }
+
+    /**
+     * Test method for
+     * {@link BuiltinGrammarRepository#setPreloadedGrammars(java.util.Collection)}.
+     * @exception Exception
+     *            test failed
+     * @exception JVoiceXMLEvent
+     *            test failed
+     */
+    @Test
+    public void testSetPreloadedGrammars() throws Exception, JVoiceXMLEvent {
+        repository.setPreloadedGrammars(Arrays.asList("builtin:dtmf/boolean",
+                "builtin:dtmf/currency", "builtin:grammar/digits"));
+        Assert.assertEquals(2, repository.size());
+    }
+
+    /**
+     * Test method for
+     * {@link BuiltinGrammarRepository#addGrammarCreator(GrammarCreator)}.
+     * @exception Exception
+     *            test failed
+     * @exception JVoiceXMLEvent
+     *            test failed
+     */
+    @Test
+    public void testAddGrammarCreator() throws Exception, JVoiceXMLEvent {
+        repository.getGrammar(new URI("builtin:dtmf/boolean"));
+        repository.getGrammar(new URI("builtin:dtmf/digits?length=3"));
+        repository.addGrammarCreator(new DigitsGrammarCreator());
+        Assert.assertEquals(1, repository.size());
+    }
+}
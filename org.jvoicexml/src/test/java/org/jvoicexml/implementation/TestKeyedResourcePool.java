@@ -109,6 +109,34 @@ public final class TestKeyedResourcePool {
         pool.borrowObject(key);
     }
 
+    /**
+     * Test method for {@link org.jvoicexml.implementation.pool.KeyedResourcePool#getNumExhausted()}.
+     * @throws Exception
+     *         Test failed.
+     * @throws NoresourceError
+     *         Test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testGetNumExhausted() throws Exception, NoresourceError {
+        final int instances = 2;
+        Mockito.when(factory.getInstances()).thenReturn(instances);
+        pool.addResourceFactory(factory);
+        final String key = factory.getType();
+        for (int i = 0; i < instances; i++) {
+            pool.borrowObject(key);
+        }
+        Assert.assertEquals(0, pool.getNumExhausted());
+        for (int i = 0; i < 3; i++) {
+            try {
+                pool.borrowObject(key);
+                Assert.fail("pool should be exhausted");
+            } catch (NoresourceError e) {
+                Assert.assertEquals(i + 1, pool.getNumExhausted());
+            }
+        }
+    }
+
     /**
      * Test method for {@link org.jvoicexml.implementation.pool.KeyedResourcePool#borrowObject(java.lang.Object)}.
      * @throws Exception
@@ -160,4 +188,110 @@ public final class TestKeyedResourcePool {
         Assert.assertEquals(0, pool.getNumActive(key1));
         Assert.assertEquals(0, pool.getNumActive(key2));
     }
+
+    /**
+     * Waits until the given number of idle resources is reached.
+     * @param key the key
+     * @param idle the expected number of idle resources
+     * @throws InterruptedException
+     *         Test interrupted.
+     */
+    private void awaitIdle(final String key, final int idle)
+            throws InterruptedException {
+        final long end = System.currentTimeMillis() + 5000;
+        while (pool.getNumIdle(key) != idle
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(idle, pool.getNumIdle(key));
+    }
+
+    /**
+     * Waits until the pool has grown by the given number of resources.
+     * @param resources the number of resources
+     * @throws InterruptedException
+     *         interrupted while waiting
+     */
+    private void awaitGrown(final int resources)
+            throws InterruptedException {
+        final long end = System.currentTimeMillis() + 5000;
+        while (pool.getNumGrown() != resources
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(resources, pool.getNumGrown());
+    }
+
+    /**
+     * Test method for {@link org.jvoicexml.implementation.pool.KeyedResourcePool#borrowObject(java.lang.Object)}
+     * in elastic mode.
+     * @throws Exception
+     *         Test failed.
+     * @throws NoresourceError
+     *         Test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testBorrowObjectElastic() throws Exception, NoresourceError {
+        final int instances = 4;
+        Mockito.when(factory.getInstances()).thenReturn(instances);
+        pool.setCoreInstances(1);
+        pool.setGrowThreshold(2);
+        pool.setIdleTimeout(100);
+        pool.addResourceFactory(factory);
+        final String key = factory.getType();
+        Assert.assertEquals(1, pool.getNumIdle(key));
+        Mockito.verify(factory, Mockito.times(1)).createResource();
+        final SynthesizedOutput[] outputs = new SynthesizedOutput[instances];
+        for (int i = 0; i < instances; i++) {
+            outputs[i] = pool.borrowObject(key);
+        }
+        Assert.assertEquals(instances - 1, pool.getNumWaits());
+        Assert.assertEquals(0, pool.getNumGrown());
+        Assert.assertEquals(instances, pool.getNumActive(key));
+        try {
+            pool.borrowObject(key);
+            Assert.fail("pool should be exhausted");
+        } catch (NoresourceError e) {
+            Assert.assertEquals(1, pool.getNumExhausted());
+        }
+        for (int i = 0; i < instances; i++) {
+            pool.returnObject(key, outputs[i]);
+        }
+
+        // Idle resources beyond the core end after the idle timeout
+        awaitIdle(key, 1);
+        pool.close();
+    }
+
+    /**
+     * Test method for {@link org.jvoicexml.implementation.pool.KeyedResourcePool#borrowObject(java.lang.Object)}
+     * in elastic mode.
+     * @throws Exception
+     *         Test failed.
+     * @throws NoresourceError
+     *         Test failed
+     * @since 0.7.9
+     */
+    @Test
+    public void testBorrowObjectElasticGrow()
+            throws Exception, NoresourceError {
+        final int instances = 3;
+        Mockito.when(factory.getInstances()).thenReturn(instances);
+        pool.setCoreInstances(1);
+        pool.setGrowThreshold(0.5f);
+        pool.addResourceFactory(factory);
+        final String key = factory.getType();
+        for (int i = 0; i < instances; i++) {
+            pool.borrowObject(key);
+            if (i < instances - 1) {
+                awaitIdle(key, 1);
+                awaitGrown(i + 1);
+            }
+        }
+        Assert.assertEquals(0, pool.getNumWaits());
+        Assert.assertEquals(instances - 1, pool.getNumGrown());
+        Assert.assertEquals(0, pool.getNumIdle(key));
+        pool.close();
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.jvoicexml.implementation.dtmf;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.event.JVoiceXMLEvent;
+import org.jvoicexml.implementation.GrammarImplementation;
+import org.jvoicexml.implementation.grammar.GrammarAutomaton;
+import org.jvoicexml.implementation.grammar.IncrementalGrammarEvaluator;
+import org.jvoicexml.interpreter.datamodel.DataModel;
+import org.mockito.Mockito;
+
+/**
+ * Test cases for {@link BufferedDtmfInput}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestBufferedDtmfInput {
+    /**
+     * Creates a DTMF grammar that accepts the given inputs.
+     * @param interpretation the semantic interpretation of the grammar
+     * @param inputs the accepted inputs
+     * @return created grammar
+     */
+    private GrammarImplementation<?> createGrammar(
+            final String interpretation, final String... inputs) {
+        final GrammarAutomaton automaton = new GrammarAutomaton("");
+        for (String input : inputs) {
+            int state = automaton.getStart();
+            for (char c : input.toCharArray()) {
+                state = automaton.addToken(state, Character.toString(c));
+            }
+            automaton.setAccepting(state);
+        }
+        final GrammarImplementation<?> grammar =
+                Mockito.mock(GrammarImplementation.class, Mockito
+                        .withSettings().extraInterfaces(
+                                IncrementalGrammarEvaluator.class));
+        final IncrementalGrammarEvaluator evaluator =
+                (IncrementalGrammarEvaluator) grammar;
+        Mockito.when(evaluator.getAutomaton()).thenReturn(automaton);
+        for (String input : inputs) {
+            Mockito.when(evaluator.getSemanticInterpretation(
+                    Mockito.any(DataModel.class), Mockito.eq(input)))
+                    .thenReturn(interpretation);
+        }
+        return grammar;
+    }
+
+    /**
+     * Test method for
+     * {@link BufferedDtmfInput#isAccepted(org.jvoicexml.RecognitionResult)}.
+     * @exception Exception
+     *            test failed
+     * @exception JVoiceXMLEvent
+     *            test failed
+     */
+    @Test
+    public void testIsAccepted() throws Exception, JVoiceXMLEvent {
+        final BufferedDtmfInput input = new BufferedDtmfInput();
+        final List<GrammarImplementation<?>> grammars =
+                new java.util.ArrayList<GrammarImplementation<?>>();
+        grammars.add(createGrammar("pin", "1234"));
+        grammars.add(createGrammar("help", "0"));
+        input.activateGrammars(grammars);
+        final DtmfInputResult pin = new DtmfInputResult("1234");
+        Assert.assertTrue(input.isAccepted(pin));
+        Assert.assertEquals("pin", pin.getSemanticInterpretation(null));
+        final DtmfInputResult help = new DtmfInputResult("0");
+        Assert.assertTrue(input.isAccepted(help));
+        Assert.assertEquals("help", help.getSemanticInterpretation(null));
+        final DtmfInputResult other = new DtmfInputResult("99");
+        Assert.assertFalse(input.isAccepted(other));
+        Assert.assertNull(other.getSemanticInterpretation(null));
+    }
+
+    /**
+     * Test method for
+     * {@link BufferedDtmfInput#isAccepted(org.jvoicexml.RecognitionResult)}
+     * without active grammars.
+     */
+    @Test
+    public void testIsAcceptedNoGrammars() {
+        final BufferedDtmfInput input = new BufferedDtmfInput();
+        Assert.assertFalse(input.isAccepted(new DtmfInputResult("1")));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.grammar;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.jvoicexml.implementation.GrammarImplementation;
+import org.jvoicexml.interpreter.datamodel.DataModel;
+import org.mockito.Mockito;
+
+/**
+ * Test cases for {@link UnionGrammarMatcher}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestUnionGrammarMatcher {
+    /**
+     * Creates a grammar that accepts the given sequences of tokens.
+     * @param interpretation the semantic interpretation of the grammar
+     * @param sequences the accepted inputs, tokens are separated by spaces
+     * @return created grammar
+     */
+    private GrammarImplementation<?> createGrammar(
+            final String interpretation, final String... sequences) {
+        final GrammarAutomaton automaton = new GrammarAutomaton(" ");
+        for (String sequence : sequences) {
+            int state = automaton.getStart();
+            for (String token : sequence.split(" ")) {
+                state = automaton.addToken(state, token);
+            }
+            automaton.setAccepting(state);
+        }
+        final GrammarImplementation<?> grammar =
+                Mockito.mock(GrammarImplementation.class, Mockito
+                        .withSettings().extraInterfaces(
+                                IncrementalGrammarEvaluator.class));
+        final IncrementalGrammarEvaluator evaluator =
+                (IncrementalGrammarEvaluator) grammar;
+        Mockito.when(evaluator.getAutomaton()).thenReturn(automaton);
+        for (String sequence : sequences) {
+            Mockito.when(evaluator.getSemanticInterpretation(
+                    Mockito.any(DataModel.class), Mockito.eq(sequence)))
+                    .thenReturn(interpretation);
+        }
+        return grammar;
+    }
+
+    /**
+     * Test method for {@link UnionGrammarMatcher#match(String)}.
+     */
+    @Test
+    public void testMatch() {
+        final GrammarImplementation<?> field =
+                createGrammar("field", "yes", "no");
+        final GrammarImplementation<?> document =
+                createGrammar("document", "help", "yes please");
+        final List<GrammarImplementation<?>> grammars =
+                new java.util.ArrayList<GrammarImplementation<?>>();
+        grammars.add(field);
+        grammars.add(document);
+        final UnionGrammarMatcher matcher = new UnionGrammarMatcher(grammars);
+        final List<GrammarEvaluator> yes = matcher.match("yes");
+        Assert.assertEquals(1, yes.size());
+        Assert.assertSame(field, yes.get(0));
+        final List<GrammarEvaluator> please = matcher.match("yes please");
+        Assert.assertEquals(1, please.size());
+        Assert.assertSame(document, please.get(0));
+        Assert.assertTrue(matcher.match("yes no").isEmpty());
+        Assert.assertTrue(matcher.match("yesno").isEmpty());
+    }
+
+    /**
+     * Test method for
+     * {@link UnionGrammarMatcher#getSemanticInterpretation(DataModel, String)}.
+     */
+    @Test
+    public void testGetSemanticInterpretationPrecedence() {
+        final GrammarImplementation<?> field = createGrammar("field", "yes");
+        final GrammarImplementation<?> document =
+                createGrammar("document", "yes", "help");
+        final List<GrammarImplementation<?>> grammars =
+                new java.util.ArrayList<GrammarImplementation<?>>();
+        grammars.add(field);
+        grammars.add(document);
+        final UnionGrammarMatcher matcher = new UnionGrammarMatcher(grammars);
+        Assert.assertEquals(2, matcher.match("yes").size());
+        Assert.assertEquals("field",
+                matcher.getSemanticInterpretation(null, "yes"));
+        Assert.assertEquals("document",
+                matcher.getSemanticInterpretation(null, "help"));
+        Assert.assertNull(matcher.getSemanticInterpretation(null, "no"));
+        final IncrementalGrammarEvaluator evaluator =
+                (IncrementalGrammarEvaluator) field;
+        Mockito.verify(evaluator, Mockito.never()).getSemanticInterpretation(
+                null, "help");
+    }
+
+    /**
+     * Test method for {@link UnionGrammarMatcher#match(String)} with a
+     * grammar that does not provide an automaton.
+     */
+    @Test
+    public void testMatchWithoutAutomaton() {
+        final GrammarImplementation<?> field = createGrammar("field", "yes");
+        final GrammarImplementation<?> other =
+                Mockito.mock(GrammarImplementation.class, Mockito
+                        .withSettings().extraInterfaces(
+                                GrammarEvaluator.class));
+        final List<GrammarImplementation<?>> grammars =
+                new java.util.ArrayList<GrammarImplementation<?>>();
+        grammars.add(other);
+        grammars.add(field);
+        final UnionGrammarMatcher matcher = new UnionGrammarMatcher(grammars);
+        final List<GrammarEvaluator> matches = matcher.match("no");
+        Assert.assertEquals(1, matches.size());
+        Assert.assertSame(other, matches.get(0));
+        Assert.assertEquals(2, matcher.match("yes").size());
+        Assert.assertNull(matcher.createPrefixMatcher());
+    }
+
+    /**
+     * Test method for {@link UnionGrammarMatcher#createPrefixMatcher()}.
+     */
+    @Test
+    public void testCreatePrefixMatcher() {
+        final List<GrammarImplementation<?>> grammars =
+                new java.util.ArrayList<GrammarImplementation<?>>();
+        grammars.add(createGrammar("field", "yes"));
+        grammars.add(createGrammar("document", "yes please"));
+        final UnionGrammarMatcher matcher = new UnionGrammarMatcher(grammars);
+        final PrefixMatcher prefix = matcher.createPrefixMatcher();
+        Assert.assertEquals(PrefixState.PREFIX, prefix.getState());
+        Assert.assertEquals(PrefixState.COMPLETE, prefix.append("yes"));
+        Assert.assertEquals(PrefixState.FINAL, prefix.append("please"));
+        Assert.assertEquals(PrefixState.DEAD, prefix.append("now"));
+    }
+
+    /**
+     * Test method for {@link UnionGrammarMatcher#match(String)} with
+     * combinable grammars.
+     */
+    @Test
+    public void testMatchCombined() {
+        final GrammarImplementation<?> first =
+                Mockito.mock(GrammarImplementation.class, Mockito
+                        .withSettings().extraInterfaces(
+                                CombinableGrammarEvaluator.class));
+        final GrammarImplementation<?> second =
+                Mockito.mock(GrammarImplementation.class, Mockito
+                        .withSettings().extraInterfaces(
+                                CombinableGrammarEvaluator.class));
+        Assert.assertSame(first.getClass(), second.getClass());
+        final CombinedGrammarMatcher combined =
+                Mockito.mock(CombinedGrammarMatcher.class);
+        final BitSet bits = new BitSet();
+        bits.set(1);
+        Mockito.when(combined.match(Mockito.anyString())).thenReturn(
+                new BitSet());
+        Mockito.when(combined.match("b")).thenReturn(bits);
+        Mockito.when(((CombinableGrammarEvaluator) first).combine(
+                Mockito.anyListOf(CombinableGrammarEvaluator.class)))
+                .thenReturn(combined);
+        final List<GrammarImplementation<?>> grammars =
+                new java.util.ArrayList<GrammarImplementation<?>>();
+        grammars.add(createGrammar("field", "yes"));
+        grammars.add(first);
+        grammars.add(second);
+        final UnionGrammarMatcher matcher = new UnionGrammarMatcher(grammars);
+        final List<GrammarEvaluator> matches = matcher.match("b");
+        Assert.assertEquals(1, matches.size());
+        Assert.assertSame(second, matches.get(0));
+        Assert.assertTrue(matcher.match("c").isEmpty());
+        Mockito.verify(combined, Mockito.times(1)).match("b");
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.implementation.synthesis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
+import javax.sound.sampled.AudioFormat;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link SynthesizedAudioCache}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestSynthesizedAudioCache {
+    /** The audio format of the prompts. */
+    private static final AudioFormat FORMAT =
+            new AudioFormat(8000f, 16, 1, true, false);
+
+    /** Folder for the disk tier. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Creates a key for the given prompt.
+     * @param text the text of the prompt
+     * @return key of the prompt
+     */
+    private static SynthesizedAudioKey createKey(final String text) {
+        return new SynthesizedAudioKey("<speak>" + text + "</speak>",
+                "cmu-slt", "en-US", "WAVE");
+    }
+
+    /**
+     * Creates audio data of the given size.
+     * @param size size of the audio
+     * @param value the value of all bytes
+     * @return audio data
+     */
+    private static byte[] createAudio(final int size, final int value) {
+        final byte[] audio = new byte[size];
+        java.util.Arrays.fill(audio, (byte) value);
+        return audio;
+    }
+
+    /**
+     * Reads the given audio.
+     * @param audio the audio
+     * @return the audio data
+     * @throws Exception
+     *          test failed
+     */
+    private static byte[] read(final SynthesizedAudio audio)
+            throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        audio.writeTo(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Test method for {@link SynthesizedAudioKey}.
+     */
+    @Test
+    public void testKey() {
+        final SynthesizedAudioKey key = createKey("Hello world");
+        Assert.assertEquals(key, new SynthesizedAudioKey(
+                "  <speak>Hello \n\tworld</speak>\n", "cmu-slt", "en-US",
+                "WAVE"));
+        Assert.assertNotEquals(key, createKey("Hello World"));
+        Assert.assertNotEquals(key, new SynthesizedAudioKey(
+                "<speak>Hello world</speak>", "bits1-hsmm", "en-US",
+                "WAVE"));
+        Assert.assertNotEquals(key, new SynthesizedAudioKey(
+                "<speak>Hello world</speak>", "cmu-slt", "de-DE", "WAVE"));
+        Assert.assertNotEquals(key, new SynthesizedAudioKey(
+                "<speak>Hello world</speak>", "cmu-slt", "en-US", "AU"));
+    }
+
+    /**
+     * Test method for
+     * {@link SynthesizedAudioCache#get(SynthesizedAudioKey)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testGetMemory() throws Exception {
+        final SynthesizedAudioCache cache = new SynthesizedAudioCache(1000);
+        final SynthesizedAudioKey key = createKey("Hello");
+        Assert.assertNull(cache.get(key));
+        final byte[] audio = createAudio(100, 1);
+        cache.put(key, FORMAT, audio);
+        final SynthesizedAudio cached = cache.get(key);
+        Assert.assertTrue(FORMAT.matches(cached.getFormat()));
+        Assert.assertArrayEquals(audio, read(cached));
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(0.5, cache.getHitRatio(), 0.001);
+        Assert.assertEquals(100, cache.getBytesServed());
+    }
+
+    /**
+     * Test method for
+     * {@link SynthesizedAudioCache#put(SynthesizedAudioKey, AudioFormat, byte[])}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testPutEvictsLeastRecentlyUsed() throws Exception {
+        final SynthesizedAudioCache cache = new SynthesizedAudioCache(250);
+        final SynthesizedAudioKey key1 = createKey("one");
+        final SynthesizedAudioKey key2 = createKey("two");
+        final SynthesizedAudioKey key3 = createKey("three");
+        cache.put(key1, FORMAT, createAudio(100, 1));
+        cache.put(key2, FORMAT, createAudio(100, 2));
+        Assert.assertNotNull(cache.get(key1));
+        cache.put(key3, FORMAT, createAudio(100, 3));
+        Assert.assertEquals(200, cache.getMemorySize());
+        Assert.assertNotNull(cache.get(key1));
+        Assert.assertNull(cache.get(key2));
+        Assert.assertNotNull(cache.get(key3));
+        cache.put(createKey("large"), FORMAT, createAudio(300, 4));
+        Assert.assertEquals(200, cache.getMemorySize());
+    }
+
+    /**
+     * Test method for
+     * {@link SynthesizedAudioCache#get(SynthesizedAudioKey)}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testGetDisk() throws Exception {
+        final File dir = folder.newFolder();
+        final SynthesizedAudioCache cache =
+                new SynthesizedAudioCache(150, dir, 1000);
+        final SynthesizedAudioKey key1 = createKey("one");
+        final SynthesizedAudioKey key2 = createKey("two");
+        final byte[] audio1 = createAudio(100, 1);
+        cache.put(key1, FORMAT, audio1);
+        cache.put(key2, FORMAT, createAudio(100, 2));
+        Assert.assertEquals(100, cache.getMemorySize());
+
+        // Evicted from memory but still on disk
+        final SynthesizedAudio cached = cache.get(key1);
+        Assert.assertNotNull(cached);
+        Assert.assertTrue(FORMAT.matches(cached.getFormat()));
+        Assert.assertArrayEquals(audio1, read(cached));
+        Assert.assertEquals(100, cache.getBytesServed());
+
+        // A new cache reuses the prompts on disk
+        final SynthesizedAudioCache restarted =
+                new SynthesizedAudioCache(150, dir, 1000);
+        Assert.assertEquals(cache.getDiskSize(), restarted.getDiskSize());
+        Assert.assertArrayEquals(audio1, read(restarted.get(key1)));
+        Assert.assertNotNull(restarted.get(key2));
+        Assert.assertEquals(1.0, restarted.getHitRatio(), 0.001);
+    }
+
+    /**
+     * Test method for
+     * {@link SynthesizedAudioCache#SynthesizedAudioCache(long, File, long)}
+     * with a cache directory but without a size of the disk tier.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testNoDiskSize() throws Exception {
+        final File dir = folder.newFolder();
+        final SynthesizedAudioCache populated =
+                new SynthesizedAudioCache(0, dir, 1000);
+        final SynthesizedAudioKey key1 = createKey("one");
+        populated.put(key1, FORMAT, createAudio(100, 1));
+        Assert.assertEquals(1, dir.list().length);
+
+        final SynthesizedAudioCache cache =
+                new SynthesizedAudioCache(1000, dir, 0);
+        Assert.assertEquals(1, dir.list().length);
+        Assert.assertEquals(0, cache.getDiskSize());
+        cache.put(createKey("two"), FORMAT, createAudio(100, 2));
+        Assert.assertEquals(1, dir.list().length);
+        Assert.assertNull(cache.get(key1));
+
+        // The prompts are still there with a disk size
+        final SynthesizedAudioCache restarted =
+                new SynthesizedAudioCache(0, dir, 1000);
+        Assert.assertNotNull(restarted.get(key1));
+    }
+
+    /**
+     * Test method for
+     * {@link SynthesizedAudioCache#put(SynthesizedAudioKey, AudioFormat, byte[])}.
+     * @throws Exception
+     *          test failed
+     */
+    @Test
+    public void testPutEvictsFromDisk() throws Exception {
+        final File dir = folder.newFolder();
+        final SynthesizedAudioCache cache =
+                new SynthesizedAudioCache(0, dir, 250);
+        final SynthesizedAudioKey key1 = createKey("one");
+        final SynthesizedAudioKey key2 = createKey("two");
+        cache.put(key1, FORMAT, createAudio(100, 1));
+        cache.put(key2, FORMAT, createAudio(100, 2));
+        Assert.assertNotNull(cache.get(key2));
+        Assert.assertNull(cache.get(key1));
+        Assert.assertEquals(1, dir.list().length);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.interpreter.event;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.jvoicexml.event.JVoiceXMLEvent;
+import org.jvoicexml.interpreter.CatchContainer;
+import org.jvoicexml.interpreter.EventCountable;
+import org.jvoicexml.interpreter.EventStrategy;
+import org.mockito.Mockito;
+
+/**
+ * Test cases for {@link CatchTable}.
+ *
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestCatchTable {
+    /** The item that caught the events. */
+    private CatchContainer item;
+
+    /**
+     * Set up the test environment.
+     */
+    @Before
+    public void setUp() {
+        item = Mockito.mock(CatchContainer.class,
+                Mockito.withSettings().extraInterfaces(EventCountable.class));
+    }
+
+    /**
+     * Creates a strategy mock.
+     * @param type the event type
+     * @param count the count
+     * @param active value of the condition
+     * @return created strategy
+     * @throws Exception
+     *          error creating the mock
+     * @throws JVoiceXMLEvent
+     *          error creating the mock
+     */
+    private EventStrategy createStrategy(final String type, final int count,
+            final boolean active) throws Exception, JVoiceXMLEvent {
+        final EventStrategy strategy = Mockito.mock(EventStrategy.class);
+        Mockito.when(strategy.getEventType()).thenReturn(type);
+        Mockito.when(strategy.getCount()).thenReturn(count);
+        Mockito.when(strategy.isActive()).thenReturn(active);
+        return strategy;
+    }
+
+    /**
+     * Sets the event count of the item.
+     * @param type the event type
+     * @param count the event count
+     */
+    private void setEventCount(final String type, final int count) {
+        final EventCountable countable = (EventCountable) item;
+        Mockito.when(countable.getEventCount(type)).thenReturn(count);
+    }
+
+    /**
+     * Test method for {@link CatchTable#resolve(String)}.
+     * @throws Exception
+     *          test failed
+     * @throws JVoiceXMLEvent
+     *          test failed
+     */
+    @Test
+    public void testResolvePrefix()
+            throws Exception, JVoiceXMLEvent {
+        final CatchTable table = new CatchTable();
+        final EventStrategy error = createStrategy("error", 1, true);
+        final EventStrategy badfetch = createStrategy("error.badfetch.", 1,
+                true);
+        final EventStrategy bad = createStrategy("error.bad", 1, true);
+        final EventStrategy nomatch = createStrategy("nomatch", 1, true);
+        table.add(error, 1);
+        table.add(badfetch, 1);
+        table.add(bad, 1);
+        table.add(nomatch, 1);
+        final List<EventStrategy> resolved =
+                table.resolve("error.badfetch.http.404");
+        Assert.assertEquals(2, resolved.size());
+        Assert.assertSame(error, resolved.get(0));
+        Assert.assertSame(badfetch, resolved.get(1));
+        Assert.assertTrue(table.resolve("noinput").isEmpty());
+    }
+
+    /**
+     * Test method for {@link CatchTable#resolve(String)}.
+     * @throws Exception
+     *          test failed
+     * @throws JVoiceXMLEvent
+     *          test failed
+     */
+    @Test
+    public void testResolveScopeOrder()
+            throws Exception, JVoiceXMLEvent {
+        final CatchTable table = new CatchTable();
+        final EventStrategy document = createStrategy("error", 1, true);
+        final EventStrategy dialog = createStrategy("error.badfetch", 1,
+                true);
+        final EventStrategy any = createStrategy(null, 1, true);
+        final EventStrategy field = createStrategy("error", 1, true);
+        table.add(document, 1);
+        table.add(dialog, 2);
+        table.add(any, 2);
+        table.add(field, 3);
+        final List<EventStrategy> resolved = table.resolve("error.badfetch");
+        Assert.assertEquals(4, resolved.size());
+        Assert.assertSame(field, resolved.get(0));
+        Assert.assertSame(dialog, resolved.get(1));
+        Assert.assertSame(any, resolved.get(2));
+        Assert.assertSame(document, resolved.get(3));
+    }
+
+    /**
+     * Test method for {@link CatchTable#select(String, CatchContainer)}.
+     * @throws Exception
+     *          test failed
+     * @throws JVoiceXMLEvent
+     *          test failed
+     */
+    @Test
+    public void testSelect()
+            throws Exception, JVoiceXMLEvent {
+        final CatchTable table = new CatchTable();
+        final EventStrategy nomatch1 = createStrategy("nomatch", 1, true);
+        final EventStrategy nomatch2 = createStrategy("nomatch", 2, true);
+        final EventStrategy nomatch3 = createStrategy("nomatch", 3, false);
+        final EventStrategy document = createStrategy("nomatch", 2, true);
+        table.add(document, 1);
+        table.add(nomatch1, 2);
+        table.add(nomatch2, 2);
+        table.add(nomatch3, 2);
+        setEventCount("nomatch", 1);
+        Assert.assertSame(nomatch1, table.select("nomatch", item));
+        setEventCount("nomatch", 2);
+        Assert.assertSame(nomatch2, table.select("nomatch", item));
+        setEventCount("nomatch", 3);
+        Assert.assertSame(nomatch2, table.select("nomatch", item));
+        Assert.assertNull(table.select("noinput", item));
+        final CatchContainer uncountable =
+                Mockito.mock(CatchContainer.class);
+        Assert.assertNull(table.select("nomatch", uncountable));
+    }
+
+    /**
+     * Test method for {@link CatchTable#select(String, CatchContainer)} after
+     * the strategies changed.
+     * @throws Exception
+     *          test failed
+     * @throws JVoiceXMLEvent
+     *          test failed
+     */
+    @Test
+    public void testSelectModified()
+            throws Exception, JVoiceXMLEvent {
+        final CatchTable table = new CatchTable();
+        final EventStrategy nomatch1 = createStrategy("nomatch", 1, true);
+        final EventStrategy nomatch2 = createStrategy("nomatch", 2, true);
+        table.add(nomatch1, 1);
+        setEventCount("nomatch", 2);
+        Assert.assertSame(nomatch1, table.select("nomatch", item));
+        table.add(nomatch2, 1);
+        Assert.assertSame(nomatch2, table.select("nomatch", item));
+        table.remove(nomatch2);
+        Assert.assertSame(nomatch1, table.select("nomatch", item));
+        table.clear();
+        Assert.assertNull(table.select("nomatch", item));
+    }
+
+    /**
+     * Test method for {@link CatchTable#remove(EventStrategy)}.
+     * @throws Exception
+     *          test failed
+     * @throws JVoiceXMLEvent
+     *          test failed
+     */
+    @Test
+    public void testRemove()
+            throws Exception, JVoiceXMLEvent {
+        final CatchTable table = new CatchTable();
+        final EventStrategy noinput = createStrategy("noinput", 1, true);
+        table.add(noinput, 1);
+        Assert.assertTrue(table.contains(noinput));
+        Assert.assertTrue(table.containsType("noinput"));
+        Assert.assertTrue(table.remove(noinput));
+        Assert.assertFalse(table.remove(noinput));
+        Assert.assertFalse(table.contains(noinput));
+        Assert.assertFalse(table.containsType("noinput"));
+        Assert.assertTrue(table.resolve("noinput").isEmpty());
+    }
+}
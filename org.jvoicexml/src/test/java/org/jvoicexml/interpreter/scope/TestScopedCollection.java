@@ -83,4 +83,34 @@ public final class TestScopedCollection {
         Assert.assertFalse(collection.contains(test3));
         Assert.assertEquals(2, collection.size());
     }
+
+    /**
+     * Test method for {@link ScopedCollection#iterator()} after scope
+     * changes.
+     * @since 0.7.9
+     */
+    @Test
+    public void testIterator() {
+        final ScopedCollection<String> collection =
+            new ScopedCollection<String>(observer);
+        collection.add("test1");
+        collection.add("test2");
+        collection.enterScope(Scope.SESSION, Scope.DOCUMENT);
+        collection.add("test3");
+        Assert.assertEquals(3, collection.size());
+        collection.add("test4");
+        collection.add("test1");
+        final String[] expected = new String[] {"test3", "test4", "test1",
+            "test1", "test2"};
+        Assert.assertArrayEquals(expected, collection.toArray());
+        int i = 0;
+        for (String current : collection) {
+            Assert.assertEquals(expected[i++], current);
+        }
+        collection.exitScope(Scope.DOCUMENT, Scope.SESSION);
+        Assert.assertArrayEquals(new String[] {"test1", "test2"},
+                collection.toArray());
+        Assert.assertTrue(collection.contains("test1"));
+        Assert.assertFalse(collection.contains("test3"));
+    }
 }
@@ -215,4 +215,93 @@ public final class TestScopedMap {
         Assert.assertEquals(value4, entry1.getValue());
         Assert.assertEquals(value4, map.get(key1));
     }
+
+    /**
+     * Test method for {@link ScopedMap#exitScope(Scope, Scope)} with values
+     * that are put multiple times in the same scope.
+     * 
+     * @since 0.7.9
+     */
+    @Test
+    public void testExitScopeMultiplePuts() {
+        final ScopedMap<String, String> map =
+            new ScopedMap<String, String>(observer);
+        map.enterScope(null, Scope.DOCUMENT);
+        map.put("key1", "value1");
+        map.enterScope(Scope.DOCUMENT, Scope.DIALOG);
+        map.put("key1", "value2");
+        map.put("key1", "value3");
+        Assert.assertEquals("value3", map.get("key1"));
+        map.exitScope(Scope.DIALOG, Scope.DOCUMENT);
+        Assert.assertEquals("value1", map.get("key1"));
+        map.exitScope(Scope.DOCUMENT, null);
+        Assert.assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Test method for {@link ScopedMap#exitScope(Scope, Scope)} with nested
+     * anonymous scopes.
+     * 
+     * @since 0.7.9
+     */
+    @Test
+    public void testExitScopeNestedAnonymous() {
+        final ScopedMap<String, String> map =
+            new ScopedMap<String, String>(observer);
+        map.enterScope(null, Scope.ANONYMOUS);
+        map.put("key1", "value1");
+        map.enterScope(Scope.ANONYMOUS, Scope.ANONYMOUS);
+        map.put("key2", "value2");
+        map.exitScope(Scope.ANONYMOUS, Scope.ANONYMOUS);
+        Assert.assertEquals("value1", map.get("key1"));
+        Assert.assertNull(map.get("key2"));
+        map.exitScope(Scope.ANONYMOUS, null);
+        Assert.assertNull(map.get("key1"));
+    }
+
+    /**
+     * Test method for {@link ScopedMap#exitScope(Scope, Scope)} if scopes
+     * that were entered later are exited implicitly.
+     * 
+     * @since 0.7.9
+     */
+    @Test
+    public void testExitScopeImplicit() {
+        final ScopedMap<String, String> map =
+            new ScopedMap<String, String>(observer);
+        map.enterScope(null, Scope.DOCUMENT);
+        map.put("key1", "value1");
+        map.enterScope(Scope.DOCUMENT, Scope.DIALOG);
+        map.put("key2", "value2");
+        map.enterScope(Scope.DIALOG, Scope.ANONYMOUS);
+        map.put("key1", "value3");
+        // Exiting the dialog exits the anonymous scope, too
+        map.exitScope(Scope.DIALOG, Scope.DOCUMENT);
+        Assert.assertEquals("value1", map.get("key1"));
+        Assert.assertNull(map.get("key2"));
+        Assert.assertEquals(1, map.size());
+    }
+
+    /**
+     * Test method for {@link ScopedMap#exitScope(Scope, Scope)} with removed
+     * keys.
+     * 
+     * @since 0.7.9
+     */
+    @Test
+    public void testExitScopeRemoved() {
+        final ScopedMap<String, String> map =
+            new ScopedMap<String, String>(observer);
+        map.enterScope(null, Scope.DOCUMENT);
+        map.put("key1", "value1");
+        map.enterScope(Scope.DOCUMENT, Scope.DIALOG);
+        Assert.assertEquals("value1", map.remove("key1"));
+        map.put("key1", "value2");
+        map.exitScope(Scope.DIALOG, Scope.DOCUMENT);
+        Assert.assertNull(map.get("key1"));
+        map.put("key1", "value3");
+        map.exitScope(Scope.DOCUMENT, null);
+        Assert.assertNull(map.get("key1"));
+        Assert.assertTrue(map.isEmpty());
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link Histogram}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestHistogram {
+    /**
+     * Set up the test environment.
+     */
+    @Before
+    public void setUp() {
+        Metrics.setEnabled(true);
+    }
+
+    /**
+     * Tear down the test environment.
+     */
+    @After
+    public void tearDown() {
+        Metrics.setEnabled(false);
+    }
+
+    /**
+     * Test method for {@link Histogram#getBucket(long)}.
+     */
+    @Test
+    public void testGetBucket() {
+        long previous = -1;
+        for (int bucket = 0; bucket < 960; bucket++) {
+            final long upper = Histogram.getUpperBound(bucket);
+            Assert.assertTrue(upper > previous);
+            Assert.assertEquals(bucket, Histogram.getBucket(previous + 1));
+            Assert.assertEquals(bucket, Histogram.getBucket(upper));
+            if (previous >= 32) {
+                final double error = (double) (upper - previous) / upper;
+                Assert.assertTrue(error <= 1.0 / 16);
+            }
+            previous = upper;
+        }
+        Assert.assertEquals(Long.MAX_VALUE, previous);
+    }
+
+    /**
+     * Test method for {@link Histogram#getValueAtPercentile(double)}.
+     */
+    @Test
+    public void testGetValueAtPercentile() {
+        final Histogram histogram = new Histogram("test");
+        Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(500500, histogram.getSum());
+        Assert.assertEquals(500.5, histogram.getMean(), 0.001);
+        Assert.assertEquals(1000, histogram.getMax());
+        final long median = histogram.get50thPercentile();
+        Assert.assertTrue(median >= 500 && median <= 500 * 17 / 16);
+        final long p99 = histogram.get99thPercentile();
+        Assert.assertTrue(p99 >= 990 && p99 <= 1000);
+        Assert.assertEquals(1000, histogram.getValueAtPercentile(100));
+    }
+
+    /**
+     * Test method for {@link Histogram#record(long)}.
+     */
+    @Test
+    public void testRecordDisabled() {
+        final Histogram histogram = new Histogram("test");
+        Metrics.setEnabled(false);
+        histogram.record(42);
+        Assert.assertEquals(0, histogram.getCount());
+        Metrics.setEnabled(true);
+        histogram.record(-1);
+        Assert.assertEquals(1, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMax());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link MetricsRegistry}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestMetricsRegistry {
+    /** The test object. */
+    private MetricsRegistry registry;
+
+    /**
+     * Set up the test environment.
+     */
+    @Before
+    public void setUp() {
+        registry = new MetricsRegistry();
+        Metrics.setEnabled(true);
+    }
+
+    /**
+     * Tear down the test environment.
+     */
+    @After
+    public void tearDown() {
+        registry.unregisterMBeans();
+        Metrics.setEnabled(false);
+    }
+
+    /**
+     * Test method for {@link MetricsRegistry#getCounter(String)}.
+     */
+    @Test
+    public void testGetCounter() {
+        final Counter counter = registry.getCounter("test_total");
+        Assert.assertSame(counter, registry.getCounter("test_total"));
+        counter.increment();
+        counter.add(2);
+        Assert.assertEquals(3, counter.getCount());
+        Metrics.setEnabled(false);
+        counter.increment();
+        Assert.assertEquals(3, counter.getCount());
+    }
+
+    /**
+     * Test method for {@link MetricsRegistry#getTimer(String)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetTimerWrongType() {
+        registry.getCounter("test");
+        registry.getTimer("test");
+    }
+
+    /**
+     * Test method for {@link Timer#start()} and {@link Timer#stop(long)}.
+     */
+    @Test
+    public void testTimer() {
+        final Timer timer = registry.getTimer("test_seconds");
+        final long start = timer.start();
+        Assert.assertNotEquals(0, start);
+        timer.stop(start);
+        timer.record(2000000);
+        Assert.assertEquals(2, timer.getCount());
+        Assert.assertEquals(2.0, timer.getMaxMillis(), 0.2);
+        Metrics.setEnabled(false);
+        Assert.assertEquals(0, timer.start());
+        timer.stop(0);
+        Assert.assertEquals(2, timer.getCount());
+    }
+
+    /**
+     * Test method for {@link MetricsRegistry#toText()}.
+     */
+    @Test
+    public void testToText() {
+        registry.getCounter("b_total").increment();
+        registry.getTimer("a_seconds").record(1000000000);
+        final String text = registry.toText();
+        Assert.assertTrue(text.indexOf("a_seconds") < text.indexOf("b_total"));
+        Assert.assertTrue(text.contains("# TYPE b_total counter\nb_total 1\n"));
+        Assert.assertTrue(text.contains("# TYPE a_seconds summary\n"));
+        Assert.assertTrue(text.contains("a_seconds_count 1\n"));
+        Assert.assertTrue(text.contains("a_seconds_sum 1.0\n"));
+    }
+
+    /**
+     * Test method for {@link MetricsRegistry#registerMBeans(MBeanServer)}.
+     * @throws Exception test failed
+     */
+    @Test
+    public void testRegisterMBeans() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        registry.getCounter("jmx_test_total").increment();
+        registry.registerMBeans(server);
+        registry.getTimer("jmx_test_seconds");
+        final ObjectName counter = new ObjectName(
+                "org.jvoicexml:type=Metrics,kind=Counter,"
+                + "name=\"jmx_test_total\"");
+        Assert.assertEquals(1L, server.getAttribute(counter, "Count"));
+        final ObjectName timer = new ObjectName(
+                "org.jvoicexml:type=Metrics,kind=Timer,"
+                + "name=\"jmx_test_seconds\"");
+        Assert.assertTrue(server.isRegistered(timer));
+        registry.unregisterMBeans();
+        Assert.assertFalse(server.isRegistered(counter));
+    }
+}
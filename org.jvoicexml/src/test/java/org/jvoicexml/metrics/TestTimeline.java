@@ -0,0 +1,122 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link Timeline}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestTimeline {
+    /**
+     * Test method for {@link Timeline#begin(TimelineEvent, Object)}.
+     */
+    @Test
+    public void testDisabled() {
+        final Timeline timeline = Timeline.DISABLED;
+        Assert.assertFalse(timeline.isEnabled());
+        final long begin = timeline.begin(TimelineEvent.FIA_SELECT, null);
+        Assert.assertEquals(0, begin);
+        timeline.end(TimelineEvent.FIA_SELECT, null, begin);
+        timeline.instant(TimelineEvent.NOINPUT, null);
+        Assert.assertEquals(0, timeline.size());
+        Assert.assertNull(timeline.getSlowestKind());
+    }
+
+    /**
+     * Test method for {@link Timeline#size()}.
+     */
+    @Test
+    public void testRingBuffer() {
+        final Timeline timeline = new Timeline("test", 4);
+        for (int i = 0; i < 10; i++) {
+            timeline.instant(TimelineEvent.TAG, Integer.valueOf(i));
+        }
+        Assert.assertEquals(4, timeline.size());
+        final String trace = toTrace(timeline);
+        Assert.assertFalse(trace.contains("\"label\":\"5\""));
+        Assert.assertTrue(trace.contains("\"label\":\"6\""));
+        Assert.assertTrue(trace.contains("\"label\":\"9\""));
+    }
+
+    /**
+     * Test method for {@link Timeline#getSlowest()}.
+     * @exception Exception
+     *          test failed
+     */
+    @Test
+    public void testGetSlowest() throws Exception {
+        final Timeline timeline = new Timeline("test", 16);
+        final long collect = timeline.begin(TimelineEvent.FIA_COLLECT, null);
+        Thread.sleep(20);
+        timeline.end(TimelineEvent.FIA_COLLECT, null, collect);
+        Assert.assertNull(timeline.getSlowestKind());
+        Assert.assertEquals(0, timeline.getSlowest());
+        final long fetch = timeline.begin(TimelineEvent.DOCUMENT_FETCH, null);
+        Thread.sleep(5);
+        timeline.end(TimelineEvent.DOCUMENT_FETCH, null, fetch);
+        Assert.assertEquals(TimelineEvent.DOCUMENT_FETCH,
+                timeline.getSlowestKind());
+        Assert.assertTrue(timeline.getSlowest() >= 5000000);
+    }
+
+    /**
+     * Test method for {@link Timeline#writeTrace(java.io.Writer)}.
+     */
+    @Test
+    public void testWriteTrace() {
+        final Timeline timeline = new Timeline("4711", 16);
+        final long begin = timeline.begin(TimelineEvent.TAG, "say \"hi\"");
+        timeline.end(TimelineEvent.TAG, "say \"hi\"", begin);
+        timeline.instant(TimelineEvent.NOINPUT, null);
+        final String trace = toTrace(timeline);
+        Assert.assertTrue(trace.startsWith("{\"traceEvents\":["));
+        Assert.assertTrue(trace.contains("\"name\":\"tag\""));
+        Assert.assertTrue(trace.contains("\"ph\":\"B\""));
+        Assert.assertTrue(trace.contains("\"ph\":\"E\""));
+        Assert.assertTrue(trace.contains("\"ph\":\"i\""));
+        Assert.assertTrue(trace.contains("\"label\":\"say \\\"hi\\\"\""));
+        Assert.assertTrue(trace.contains("\"session\":\"4711\""));
+    }
+
+    /**
+     * Exports the given timeline.
+     * @param timeline the timeline
+     * @return the timeline in the trace event format
+     */
+    private static String toTrace(final Timeline timeline) {
+        final StringWriter out = new StringWriter();
+        try {
+            timeline.writeTrace(out);
+        } catch (IOException e) {
+            Assert.fail(e.getMessage());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * JVoiceXML - A free VoiceXML implementation.
+ *
+ * Copyright (C) 2026 JVoiceXML group - http://jvoicexml.sourceforge.net
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Library General Public
+ * License as published by the Free Software Foundation; either
+ * version 2 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Library General Public License for more details.
+ *
+ * You should have received a copy of the GNU Library General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+
+package org.jvoicexml.metrics;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.jvoicexml.SessionIdentifier;
+import org.jvoicexml.UuidSessionIdentifier;
+
+/**
+ * Test cases for {@link Timelines}.
+ * @author Dirk Schnelle-Walka
+ * @since 0.7.9
+ */
+public final class TestTimelines {
+    /** Directory for timelines of slow sessions. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Set up the test environment.
+     */
+    @Before
+    public void setUp() {
+        Timelines.setEnabled(true);
+        Timelines.setDirectory(folder.getRoot());
+    }
+
+    /**
+     * Tear down the test environment.
+     */
+    @After
+    public void tearDown() {
+        Timelines.setEnabled(false);
+        Timelines.setBudget(0);
+    }
+
+    /**
+     * Test method for {@link Timelines#get(SessionIdentifier)}.
+     */
+    @Test
+    public void testGet() {
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        Assert.assertSame(Timeline.DISABLED, Timelines.get(id));
+        final Timeline timeline = Timelines.start(id);
+        Assert.assertTrue(timeline.isEnabled());
+        Assert.assertSame(timeline, Timelines.get(id));
+        Assert.assertSame(timeline, Timelines.getTimeline(id.getId()));
+        Assert.assertTrue(Timelines.getSessionIds().contains(id.getId()));
+        Timelines.finish(id);
+        Assert.assertSame(Timeline.DISABLED, Timelines.get(id));
+        Assert.assertSame(timeline, Timelines.getTimeline(id.getId()));
+        Assert.assertEquals(2, timeline.size());
+    }
+
+    /**
+     * Test method for {@link Timelines#start(SessionIdentifier)}.
+     */
+    @Test
+    public void testStartDisabled() {
+        Timelines.setEnabled(false);
+        final SessionIdentifier id = new UuidSessionIdentifier();
+        Assert.assertSame(Timeline.DISABLED, Timelines.start(id));
+        Assert.assertSame(Timeline.DISABLED, Timelines.get(id));
+        Timelines.finish(id);
+        Assert.assertNull(Timelines.getTimeline(id.getId()));
+    }
+
+    /**
+     * Test method for {@link Timelines#finish(SessionIdentifier)}.
+     * @exception Exception
+     *          test failed
+     */
+    @Test
+    public void testFinishBudget() throws Exception {
+        Timelines.setBudget(1);
+        final SessionIdentifier fast = new UuidSessionIdentifier();
+        Timelines.start(fast);
+        Timelines.finish(fast);
+        final File fastFile = new File(folder.getRoot(),
+                "timeline-" + fast.getId() + ".json");
+        Assert.assertFalse(fastFile.exists());
+
+        final SessionIdentifier slow = new UuidSessionIdentifier();
+        final Timeline timeline = Timelines.start(slow);
+        final long begin = timeline.begin(TimelineEvent.OBJECT_FETCH, null);
+        Thread.sleep(10);
+        timeline.end(TimelineEvent.OBJECT_FETCH, null, begin);
+        Timelines.finish(slow);
+        final File slowFile = new File(folder.getRoot(),
+                "timeline-" + slow.getId() + ".json");
+        Assert.assertTrue(slowFile.exists());
+    }
+}